@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result file against a baseline recorded from a previous release and
+ * reports the benchmarks that got slower than the allowed tolerance.
+ */
+public class BaselineComparison {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final double tolerance;
+
+    /**
+     * @param tolerance allowed relative slowdown, e.g. 0.10 for 10%
+     */
+    public BaselineComparison(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * A benchmark whose score moved in the wrong direction by more than the tolerance.
+     *
+     * @param change relative slowdown, e.g. 0.25 when the benchmark got 25% worse
+     */
+    public record Regression(String benchmark, double baseline, double current, String unit, double change) {
+
+        @Override
+        public String toString() {
+            return String.format("%s: %.3f -> %.3f %s (%+.1f%%)", benchmark, baseline, current, unit, change * 100);
+        }
+    }
+
+    /**
+     * Compare two JMH JSON result files. Benchmarks present in only one of them are ignored.
+     *
+     * @param baselineFile the recorded baseline
+     * @param currentFile  the result of the current run
+     * @return the regressions, empty if none
+     */
+    public List<Regression> compare(Path baselineFile, Path currentFile) throws IOException {
+        Map<String, JsonNode> baseline = index(MAPPER.readTree(baselineFile.toFile()));
+        Map<String, JsonNode> current = index(MAPPER.readTree(currentFile.toFile()));
+
+        List<Regression> regressions = new ArrayList<>();
+        current.forEach((key, result) -> {
+            JsonNode previous = baseline.get(key);
+            if (previous == null) {
+                return;
+            }
+            double before = previous.path("primaryMetric").path("score").asDouble();
+            double after = result.path("primaryMetric").path("score").asDouble();
+            if (before <= 0) {
+                return;
+            }
+            // Throughput scores grow when faster, time based modes shrink
+            boolean higherIsBetter = "thrpt".equals(result.path("mode").asText());
+            double change = higherIsBetter ? (before - after) / before : (after - before) / before;
+            if (change > tolerance) {
+                regressions.add(new Regression(key, before, after,
+                        result.path("primaryMetric").path("scoreUnit").asText(), change));
+            }
+        });
+        return regressions;
+    }
+
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> byKey = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            Map<String, String> params = new TreeMap<>();
+            result.path("params").fields()
+                    .forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+            String key = result.path("benchmark").asText() + (params.isEmpty() ? "" : params.toString());
+            byKey.put(key, result);
+        }
+        return byKey;
+    }
+}
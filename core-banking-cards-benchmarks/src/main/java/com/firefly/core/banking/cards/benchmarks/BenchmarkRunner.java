@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Entry point of the benchmarks jar.
+ * <p>
+ * Accepts the regular JMH command line (benchmark filters, {@code -f}, {@code -wi}, ...) and always
+ * writes the results as JSON, together with allocation figures from the GC profiler. The output
+ * file defaults to {@code target/jmh-result.json} and can be changed with {@code -Dbenchmarks.result}.
+ * When {@code -Dbenchmarks.baseline} points to a previous result file, the run is compared against
+ * it and the process exits with status 1 if any benchmark regressed by more than
+ * {@code -Dbenchmarks.tolerance} (default 0.10).
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        Path result = Path.of(System.getProperty("benchmarks.result", "target/jmh-result.json"));
+        if (result.getParent() != null) {
+            Files.createDirectories(result.getParent());
+        }
+
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString())
+                .build();
+        new Runner(options).run();
+
+        String baseline = System.getProperty("benchmarks.baseline");
+        if (baseline == null) {
+            return;
+        }
+        double tolerance = Double.parseDouble(System.getProperty("benchmarks.tolerance", "0.10"));
+        List<BaselineComparison.Regression> regressions =
+                new BaselineComparison(tolerance).compare(Path.of(baseline), result);
+        if (regressions.isEmpty()) {
+            System.out.println("No regressions against " + baseline);
+            return;
+        }
+        System.out.println("Regressions against " + baseline + " (tolerance " + tolerance + "):");
+        regressions.forEach(regression -> System.out.println("  " + regression));
+        System.exit(1);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.benchmarks.mappers;
+
+import com.firefly.core.banking.cards.benchmarks.support.Fixtures;
+import com.firefly.core.banking.cards.core.mappers.card.v1.CardMapper;
+import com.firefly.core.banking.cards.core.mappers.transaction.v1.CardTransactionMapper;
+import com.firefly.core.banking.cards.interfaces.dtos.card.v1.CardDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.transaction.v1.CardTransactionDTO;
+import com.firefly.core.banking.cards.models.entities.card.v1.Card;
+import com.firefly.core.banking.cards.models.entities.transaction.v1.CardTransaction;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the MapStruct conversions on the widest entities: the card transaction, which is
+ * mapped on every ingestion and listing call, and the card itself.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private CardTransactionMapper transactionMapper;
+    private CardMapper cardMapper;
+
+    private CardTransaction transaction;
+    private CardTransactionDTO transactionDTO;
+    private Card card;
+    private CardDTO cardDTO;
+
+    @Setup
+    public void setUp() {
+        transactionMapper = Mappers.getMapper(CardTransactionMapper.class);
+        cardMapper = Mappers.getMapper(CardMapper.class);
+
+        transaction = Fixtures.populated(CardTransaction.class);
+        transactionDTO = Fixtures.populated(CardTransactionDTO.class);
+        card = Fixtures.populated(Card.class);
+        cardDTO = Fixtures.populated(CardDTO.class);
+    }
+
+    @Benchmark
+    public CardTransactionDTO cardTransactionToDTO() {
+        return transactionMapper.toDTO(transaction);
+    }
+
+    @Benchmark
+    public CardTransaction cardTransactionToEntity() {
+        return transactionMapper.toEntity(transactionDTO);
+    }
+
+    @Benchmark
+    public CardDTO cardToDTO() {
+        return cardMapper.toDTO(card);
+    }
+
+    @Benchmark
+    public Card cardToEntity() {
+        return cardMapper.toEntity(cardDTO);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.benchmarks.services;
+
+import com.firefly.core.banking.cards.benchmarks.support.ServiceFixture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Create and get paths of every service implementation against stub repositories, covering
+ * DTO mapping, the reactive pipeline and the card ownership checks without any I/O.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceBenchmark {
+
+    private static final String SERVICES_PACKAGE = "com.firefly.core.banking.cards.core.services.";
+
+    /**
+     * Service implementation, relative to the services package.
+     */
+    @Param({"acquirer.v1.CardAcquirerServiceImpl",
+            "activity.v1.CardActivityServiceImpl",
+            "balance.v1.CardBalanceServiceImpl",
+            "bin.v1.BINServiceImpl",
+            "card.v1.CardServiceImpl",
+            "configuration.v1.CardConfigurationServiceImpl",
+            "dispute.v1.CardDisputeServiceImpl",
+            "enrollment.v1.CardEnrollmentServiceImpl",
+            "gateway.v1.CardGatewayServiceImpl",
+            "interest.v1.CardInterestServiceImpl",
+            "issuer.v1.IssuerServiceImpl",
+            "limit.v1.CardLimitServiceImpl",
+            "merchant.v1.CardMerchantServiceImpl",
+            "network.v1.CardNetworkServiceImpl",
+            "payment.v1.CardPaymentServiceImpl",
+            "physical.v1.PhysicalCardServiceImpl",
+            "program.v1.CardProgramServiceImpl",
+            "promotion.v1.CardPromotionServiceImpl",
+            "provider.v1.CardProviderServiceImpl",
+            "security.v1.CardSecurityServiceImpl",
+            "terminal.v1.CardTerminalServiceImpl",
+            "transaction.v1.CardTransactionServiceImpl",
+            "virtual.v1.VirtualCardServiceImpl"})
+    public String service;
+
+    private ServiceFixture fixture;
+
+    @Setup
+    public void setUp() throws ClassNotFoundException {
+        fixture = ServiceFixture.of(Class.forName(SERVICES_PACKAGE + service));
+    }
+
+    @Benchmark
+    public Object create() {
+        return fixture.create();
+    }
+
+    @Benchmark
+    public Object get() {
+        return fixture.get();
+    }
+}
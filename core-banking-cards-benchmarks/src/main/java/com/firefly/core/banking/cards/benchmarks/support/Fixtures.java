@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.benchmarks.support;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Builds fully populated entities and DTOs so that benchmarks exercise every mapped field
+ * instead of short-circuiting on nulls.
+ */
+public final class Fixtures {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2025, 1, 15, 10, 30);
+
+    private Fixtures() {
+    }
+
+    /**
+     * Instantiate the given type through its no-argument constructor and populate it.
+     *
+     * @param type the entity or DTO class
+     * @return the populated instance
+     */
+    public static <T> T populated(Class<T> type) {
+        try {
+            var constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return populate(constructor.newInstance());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot instantiate " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Assign a representative value to every non-static field of the object, including inherited ones.
+     *
+     * @param target the object to populate
+     * @return the same object
+     */
+    public static <T> T populate(T target) {
+        for (Class<?> type = target.getClass(); type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                Object value = sampleValue(field.getType(), field.getName());
+                if (value != null) {
+                    set(target, field, value);
+                }
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Set a field by name if the object declares it, directly or through a superclass.
+     *
+     * @return true if the field exists
+     */
+    public static boolean setIfPresent(Object target, String fieldName, Object value) {
+        for (Class<?> type = target.getClass(); type != Object.class; type = type.getSuperclass()) {
+            try {
+                set(target, type.getDeclaredField(fieldName), value);
+                return true;
+            } catch (NoSuchFieldException e) {
+                // keep looking in the superclass
+            }
+        }
+        return false;
+    }
+
+    private static void set(Object target, Field field, Object value) {
+        try {
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot set " + field, e);
+        }
+    }
+
+    private static Object sampleValue(Class<?> type, String name) {
+        if (type == String.class) {
+            return name.toLowerCase().contains("currency") ? "EUR" : name + "-value";
+        }
+        if (type == UUID.class) {
+            return UUID.nameUUIDFromBytes(name.getBytes());
+        }
+        if (type == BigDecimal.class) {
+            return new BigDecimal("1234.56");
+        }
+        if (type == LocalDateTime.class) {
+            return TIMESTAMP;
+        }
+        if (type == LocalDate.class) {
+            return TIMESTAMP.toLocalDate();
+        }
+        if (type == Integer.class || type == int.class) {
+            return 12;
+        }
+        if (type == Long.class || type == long.class) {
+            return 1234L;
+        }
+        if (type == Double.class || type == double.class) {
+            return 12.5d;
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return Boolean.TRUE;
+        }
+        if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        return null;
+    }
+}
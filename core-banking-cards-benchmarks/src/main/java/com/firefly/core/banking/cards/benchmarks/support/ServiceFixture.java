@@ -0,0 +1,268 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.core.banking.cards.benchmarks.support;
+
+import com.firefly.core.banking.cards.core.config.BalanceProjectionProperties;
+import com.firefly.core.banking.cards.core.config.FraudScoringProperties;
+import com.firefly.core.banking.cards.core.config.OutboxProperties;
+import com.firefly.core.banking.cards.core.services.activity.v1.ActivityLog;
+import com.firefly.core.banking.cards.core.services.card.v1.CardCache;
+import com.firefly.core.banking.cards.core.services.limit.v1.LimitCounterEngine;
+import com.firefly.core.banking.cards.interfaces.dtos.card.v1.CardDTO;
+import com.firefly.core.banking.cards.models.entities.activity.v1.CardActivity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validator;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.TypeConverter;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * A service implementation wired with stub repositories and the generated MapStruct mappers,
+ * together with its create and get operations.
+ * <p>
+ * The service is created by a minimal Spring bean factory, so its {@code @Autowired} collaborators are
+ * injected the same way the application injects them. Collaborators are resolved on demand: repositories
+ * become {@link StubRepositories stubs}, mappers their generated implementations, and other concrete
+ * components of this service are created and wired in turn. Everything else is registered explicitly in
+ * {@link #beanFactory(UUID)}, and a dependency that is neither fails the fixture with its type named,
+ * rather than leaving a field null for the benchmark to trip over.
+ * <p>
+ * Every service follows the same shape, {@code createX([cardId,] dto)} and {@code getX([cardId,] id)},
+ * so the operations are discovered by reflection instead of being listed per service. The reflective
+ * call adds a few nanoseconds, which is negligible next to the reactive pipeline being measured.
+ */
+public final class ServiceFixture {
+
+    /**
+     * Card lookups are benchmarked uncached, so every call goes to the loader.
+     */
+    private static final CardCache UNCACHED = new CardCache() {
+        @Override
+        public Mono<CardDTO> get(UUID cardId, Function<UUID, Mono<CardDTO>> loader) {
+            return loader.apply(cardId);
+        }
+
+        @Override
+        public Mono<Void> invalidate(UUID cardId) {
+            return Mono.empty();
+        }
+    };
+
+    /**
+     * The audit trail of card mutations is not part of what is measured.
+     */
+    private static final ActivityLog UNRECORDED = new ActivityLog() {
+        @Override
+        public Mono<Void> record(CardActivity activity) {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<Void> recordAfterCommit(CardActivity activity) {
+            return Mono.empty();
+        }
+    };
+
+    /**
+     * Collaborators the create and get paths never reach: database access that the stub repositories
+     * replace, batch validation, and the in-memory limit counters, which are disabled by default.
+     * They are left unset.
+     */
+    private static final Set<Class<?>> UNREACHED = Set.of(
+            R2dbcEntityTemplate.class, TransactionalOperator.class, Validator.class, LimitCounterEngine.class);
+
+    private static final String APPLICATION_PACKAGE = "com.firefly.core.banking.cards.";
+
+    private final Object service;
+    private final Method create;
+    private final Method get;
+    private final Object[] createArgs;
+    private final Object[] getArgs;
+
+    private ServiceFixture(Object service, Method create, Method get, Object[] createArgs, Object[] getArgs) {
+        this.service = service;
+        this.create = create;
+        this.get = get;
+        this.createArgs = createArgs;
+        this.getArgs = getArgs;
+    }
+
+    /**
+     * Wire the given service implementation for benchmarking.
+     *
+     * @param serviceType the {@code *ServiceImpl} class
+     * @return the fixture
+     */
+    public static ServiceFixture of(Class<?> serviceType) {
+        UUID cardId = UUID.randomUUID();
+        UUID id = UUID.randomUUID();
+        Method create = findCreate(serviceType);
+        Method get = findGet(serviceType, create.getParameterCount());
+        Class<?> dtoType = create.getParameterTypes()[create.getParameterCount() - 1];
+
+        DefaultListableBeanFactory beanFactory = beanFactory(cardId);
+        beanFactory.registerBeanDefinition(serviceType.getName(), new RootBeanDefinition(serviceType));
+        Object service = beanFactory.getBean(serviceType);
+        Object dto = Fixtures.populated(dtoType);
+
+        Object[] createArgs = create.getParameterCount() == 2 ? new Object[]{cardId, dto} : new Object[]{dto};
+        Object[] getArgs = get.getParameterCount() == 2 ? new Object[]{cardId, id} : new Object[]{id};
+        return new ServiceFixture(service, create, get, createArgs, getArgs);
+    }
+
+    /**
+     * Run the create operation to completion.
+     */
+    public Object create() {
+        return invoke(create, createArgs);
+    }
+
+    /**
+     * Run the get operation to completion.
+     */
+    public Object get() {
+        return invoke(get, getArgs);
+    }
+
+    private Object invoke(Method method, Object[] args) {
+        try {
+            return ((Mono<?>) method.invoke(service, args)).block();
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Benchmarked call failed: " + method, e);
+        }
+    }
+
+    /**
+     * The balance projection, outbox, fraud scoring and activity log are disabled: the projection has
+     * no stub to aggregate against, and the benchmark measures the service rather than its side effects.
+     */
+    private static DefaultListableBeanFactory beanFactory(UUID cardId) {
+        BenchmarkBeanFactory beanFactory = new BenchmarkBeanFactory(cardId);
+        AutowiredAnnotationBeanPostProcessor autowiring = new AutowiredAnnotationBeanPostProcessor();
+        autowiring.setBeanFactory(beanFactory);
+        beanFactory.addBeanPostProcessor(autowiring);
+
+        BalanceProjectionProperties projection = new BalanceProjectionProperties();
+        projection.setEnabled(false);
+        OutboxProperties outbox = new OutboxProperties();
+        outbox.setEnabled(false);
+        FraudScoringProperties fraudScoring = new FraudScoringProperties();
+        fraudScoring.setEnabled(false);
+        beanFactory.registerSingleton("meterRegistry", new SimpleMeterRegistry());
+        beanFactory.registerSingleton("cardCache", UNCACHED);
+        beanFactory.registerSingleton("activityLog", UNRECORDED);
+        beanFactory.registerSingleton("balanceProjectionProperties", projection);
+        beanFactory.registerSingleton("outboxProperties", outbox);
+        beanFactory.registerSingleton("fraudScoringProperties", fraudScoring);
+        return beanFactory;
+    }
+
+    private static Method findCreate(Class<?> serviceType) {
+        return Arrays.stream(serviceType.getDeclaredMethods())
+                .filter(m -> Modifier.isPublic(m.getModifiers()))
+                .filter(m -> m.getName().startsWith("create") && m.getReturnType() == Mono.class)
+                .filter(m -> m.getParameterCount() == 1 || m.getParameterCount() == 2)
+                .filter(m -> m.getParameterTypes()[m.getParameterCount() - 1].getSimpleName().endsWith("DTO"))
+                .filter(m -> Arrays.stream(m.getParameterTypes()).noneMatch(Flux.class::equals))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(serviceType.getSimpleName() + " has no create method"));
+    }
+
+    private static Method findGet(Class<?> serviceType, int parameterCount) {
+        return Arrays.stream(serviceType.getDeclaredMethods())
+                .filter(m -> Modifier.isPublic(m.getModifiers()))
+                .filter(m -> m.getName().startsWith("get") && m.getReturnType() == Mono.class)
+                .filter(m -> m.getParameterCount() == parameterCount)
+                .filter(m -> Arrays.stream(m.getParameterTypes()).allMatch(UUID.class::equals))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(serviceType.getSimpleName() + " has no get method"));
+    }
+
+    /**
+     * A bean factory that registers a collaborator the first time one is asked for and none exists yet,
+     * and fails on one it does not know how to provide.
+     */
+    private static final class BenchmarkBeanFactory extends DefaultListableBeanFactory {
+
+        private final UUID cardId;
+
+        private BenchmarkBeanFactory(UUID cardId) {
+            this.cardId = cardId;
+        }
+
+        @Override
+        public Object resolveDependency(DependencyDescriptor descriptor, String requestingBeanName,
+                                        Set<String> autowiredBeanNames, TypeConverter typeConverter) {
+            Class<?> type = descriptor.getDependencyType();
+            if (UNREACHED.contains(type)) {
+                return null;
+            }
+            if (getBeanNamesForType(type).length == 0) {
+                register(type);
+            }
+            try {
+                return super.resolveDependency(descriptor, requestingBeanName, autowiredBeanNames, typeConverter);
+            } catch (NoSuchBeanDefinitionException e) {
+                throw new IllegalStateException("No benchmark collaborator for " + type.getName() + ", required by "
+                        + requestingBeanName + "; register one in ServiceFixture", e);
+            }
+        }
+
+        private void register(Class<?> type) {
+            String name = type.getName();
+            if (Repository.class.isAssignableFrom(type)) {
+                registerSingleton(name, StubRepositories.of(type, entity(type)));
+            } else if (type.getSimpleName().endsWith("Mapper") && type.isInterface()) {
+                registerSingleton(name, Mappers.getMapper(type));
+            } else if (type.getName().startsWith(APPLICATION_PACKAGE)
+                    && !type.isInterface() && !Modifier.isAbstract(type.getModifiers())) {
+                registerBeanDefinition(name, new RootBeanDefinition(type));
+            }
+        }
+
+        /**
+         * A populated instance of the repository's entity, belonging to the benchmarked card.
+         */
+        private Object entity(Class<?> repositoryType) {
+            Class<?> entityType = ResolvableType.forClass(repositoryType).as(Repository.class).resolveGeneric(0);
+            if (entityType == null) {
+                throw new IllegalStateException("Cannot resolve the entity of " + repositoryType.getName());
+            }
+            Object entity = Fixtures.populated(entityType);
+            Fixtures.setIfPresent(entity, "cardId", cardId);
+            return entity;
+        }
+    }
+}
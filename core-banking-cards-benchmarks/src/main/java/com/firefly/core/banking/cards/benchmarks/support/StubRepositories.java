@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.benchmarks.support;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * In-memory stand-ins for the R2DBC repositories, so service benchmarks measure the service and
+ * mapping code rather than a database round trip.
+ */
+public final class StubRepositories {
+
+    private StubRepositories() {
+    }
+
+    /**
+     * Create a repository whose save methods echo their argument back and whose finders always
+     * emit the given entity. Count methods emit 1.
+     *
+     * @param repositoryType the repository interface
+     * @param entity         the entity returned by every finder
+     * @return the stub repository
+     */
+    public static <R> R of(Class<R> repositoryType, Object entity) {
+        Mono<Object> found = Mono.just(entity);
+        Flux<Object> foundAll = Flux.just(entity);
+        Object stub = Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (method.getDeclaringClass() == Object.class) {
+                        return switch (name) {
+                            case "hashCode" -> System.identityHashCode(proxy);
+                            case "equals" -> proxy == args[0];
+                            default -> "Stub" + repositoryType.getSimpleName();
+                        };
+                    }
+                    if (name.startsWith("save") && args != null && args.length == 1) {
+                        return Mono.class.isAssignableFrom(method.getReturnType())
+                                ? Mono.just(args[0])
+                                : Flux.fromIterable((Iterable<?>) args[0]);
+                    }
+                    if (name.startsWith("count")) {
+                        return Mono.just(1L);
+                    }
+                    if (name.startsWith("delete")) {
+                        return Mono.empty();
+                    }
+                    if (Flux.class.isAssignableFrom(method.getReturnType())) {
+                        return foundAll;
+                    }
+                    return found;
+                });
+        return repositoryType.cast(stub);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.benchmarks.validation;
+
+import com.firefly.core.banking.cards.interfaces.validation.Pan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single pass {@link Pan#isValid(CharSequence)} against the previous regex based implementation.
+ * Run with the GC profiler (the default of the benchmarks jar) to compare allocation per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PanValidationBenchmark {
+
+    /**
+     * A plain valid PAN, the same PAN with separators, a 19 digit PAN and one failing the checksum.
+     */
+    @Param({"4111111111111111", "4111 1111-1111 1111", "6011000990139424009", "4111111111111112"})
+    public String pan;
+
+    @Setup
+    public void setUp() {
+        if (Pan.isValid(pan) != LegacyCardNumberCheck.isValid(pan)) {
+            throw new IllegalStateException("Implementations disagree on " + pan);
+        }
+    }
+
+    @Benchmark
+    public boolean legacy() {
+        return LegacyCardNumberCheck.isValid(pan);
+    }
+
+    @Benchmark
+    public boolean singlePass() {
+        return Pan.isValid(pan);
+    }
+}
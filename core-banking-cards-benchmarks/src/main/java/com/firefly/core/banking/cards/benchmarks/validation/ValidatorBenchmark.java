@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.benchmarks.validation;
+
+import com.firefly.core.banking.cards.interfaces.validation.BINValidator;
+import com.firefly.core.banking.cards.interfaces.validation.CardNumberValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the bean validation constraints that every card and BIN DTO passes through.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidatorBenchmark {
+
+    /**
+     * A plain valid PAN, the same PAN with separators, and one failing the checksum.
+     */
+    @Param({"4111111111111111", "4111 1111 1111 1111", "4111111111111112"})
+    public String cardNumber;
+
+    @Param({"411111"})
+    public String binNumber;
+
+    private CardNumberValidator cardNumberValidator;
+    private BINValidator binValidator;
+
+    @Setup
+    public void setUp() {
+        cardNumberValidator = new CardNumberValidator();
+        binValidator = new BINValidator();
+    }
+
+    @Benchmark
+    public boolean cardNumberValidator() {
+        return cardNumberValidator.isValid(cardNumber, null);
+    }
+
+    @Benchmark
+    public boolean binValidator() {
+        return binValidator.isValid(binNumber, null);
+    }
+}
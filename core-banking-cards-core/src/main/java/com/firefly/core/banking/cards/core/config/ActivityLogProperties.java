@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the asynchronous card activity log.
+ */
+@Data
+@ConfigurationProperties(prefix = "cards.activities.log")
+public class ActivityLogProperties {
+
+    /**
+     * Number of activities the in-memory buffer holds; rounded up to a power of two.
+     */
+    private int capacity = 65536;
+
+    /**
+     * Maximum number of activities written by one flush statement. A flush starts as soon as
+     * this many activities are queued, or every {@code flushInterval} otherwise.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * How often queued activities are written when fewer than {@code batchSize} are waiting.
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /**
+     * How long recording an activity waits for room in a full buffer before it is spilled to
+     * disk, or rejected when no spill directory is configured.
+     */
+    private Duration offerTimeout = Duration.ofMillis(100);
+
+    /**
+     * Directory where activities are written when the buffer stays full or a flush fails, and
+     * from which they are replayed once the database keeps up again. Activities the database
+     * refuses are kept in its {@code dead-letter} subdirectory. Spilling is disabled when unset.
+     */
+    private String spillDirectory;
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the in-memory BIN index used to resolve card numbers.
+ */
+@Data
+@ConfigurationProperties(prefix = "cards.bins.index")
+public class BINIndexProperties {
+
+    /**
+     * How often the index is reloaded from the bin table in the background. Writes made through
+     * this instance trigger a reload immediately; the interval bounds staleness for writes made elsewhere.
+     */
+    private Duration refreshInterval = Duration.ofMinutes(5);
+}
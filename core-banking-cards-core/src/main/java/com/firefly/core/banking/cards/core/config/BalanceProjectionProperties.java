@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+
+package com.firefly.core.banking.cards.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the card balance projection maintained from card transactions.
+ */
+@Data
+@ConfigurationProperties(prefix = "cards.balances.projection")
+public class BalanceProjectionProperties {
+
+    /**
+     * Whether transaction inserts update the CURRENT card balances in the same unit of work.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of cards whose balances are rebuilt concurrently by a full rebuild.
+     */
+    private int rebuildParallelism = 8;
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the read-through cache of cards looked up by ID.
+ */
+@Data
+@ConfigurationProperties(prefix = "cards.cards.cache")
+public class CardCacheProperties {
+
+    /**
+     * Maximum number of cards kept in memory.
+     */
+    private long maximumSize = 100_000;
+
+    /**
+     * Time after which a cached card is reloaded. Updates made through this instance invalidate
+     * the card immediately; the TTL bounds staleness for updates made elsewhere.
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for issuing the cards of a program in bulk.
+ */
+@Data
+@ConfigurationProperties(prefix = "cards.issuance")
+public class CardIssuanceProperties {
+
+    /**
+     * Cards written per transaction. Each chunk inserts its cards, physical cards, limits,
+     * security features and outbox events, and advances the job's progress.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Largest number of cards a single job may request.
+     */
+    private int maxCardsPerJob = 100000;
+
+    /**
+     * Number of digits of the generated card numbers, check digit included.
+     */
+    private int panLength = 16;
+
+    /**
+     * Card validity for programs that do not set a default one.
+     */
+    private int defaultValidityYears = 3;
+
+    /**
+     * Number of card numbers reserved from a BIN range at a time. A larger block means fewer
+     * reservations; the unused numbers of a block are lost when the node stops.
+     */
+    private long panBlockSize = 10000;
+
+    /**
+     * How long a running job may go without progress before it can be resumed, for instance
+     * after the node running it stopped.
+     */
+    private Duration staleAfter = Duration.ofMinutes(5);
+}
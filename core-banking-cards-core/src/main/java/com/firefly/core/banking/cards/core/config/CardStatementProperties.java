@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+/**
+ * Settings for generating the statements of a statement period.
+ */
+@Data
+@ConfigurationProperties(prefix = "cards.statements")
+public class CardStatementProperties {
+
+    /**
+     * Shards worked on at the same time by this instance. Each one holds a database connection
+     * while its cards are read, and another while its statements are written.
+     */
+    private int parallelism = 4;
+
+    /**
+     * Cards per shard, used to decide how many card_id ranges a run is split into. A shard's
+     * statements are held in memory until they are written in one transaction.
+     */
+    private int cardsPerShard = 2000;
+
+    /**
+     * Statements per multi-row insert.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Rows fetched from the database per round trip while reading a shard.
+     */
+    private int fetchSize = 1000;
+
+    /**
+     * Days from the statement date to the payment due date, when a run does not set a due date.
+     */
+    private int paymentDueDays = 25;
+
+    /**
+     * Share of the closing balance due as minimum payment.
+     */
+    private BigDecimal minimumPaymentRate = new BigDecimal("0.02");
+
+    /**
+     * Smallest minimum payment, unless the closing balance is lower.
+     */
+    private BigDecimal minimumPaymentAmount = new BigDecimal("25");
+
+    /**
+     * How long a running run or shard may go without progress before it can be taken over, for
+     * instance after the node running it stopped.
+     */
+    private Duration staleAfter = Duration.ofMinutes(10);
+}
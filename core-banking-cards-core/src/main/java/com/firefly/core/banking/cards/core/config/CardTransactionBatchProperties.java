@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the card transaction batch ingestion endpoint.
+ */
+@Data
+@ConfigurationProperties(prefix = "cards.transactions.batch")
+public class CardTransactionBatchProperties {
+
+    /**
+     * Number of transactions grouped into one multi-row insert.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Maximum number of transactions accepted per request; further items are rejected.
+     */
+    private long maxItems = 100_000;
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * Settings for the compiled query plans behind the filter endpoints.
+ */
+@Data
+@ConfigurationProperties(prefix = "cards.filters")
+public class FilterPlanProperties {
+
+    /**
+     * Maximum number of compiled filter plans kept; the least recently used are evicted first.
+     */
+    private long maxPlans = 500;
+
+    /**
+     * Whether a filter must constrain at least one indexed column. Filters that only touch
+     * unindexed columns are rejected instead of being run as a sequential scan.
+     */
+    private boolean requireIndexedPredicate = true;
+
+    /**
+     * Tables that may not be filtered without any predicate at all, because even a paged read
+     * of them has to count every row.
+     */
+    private List<String> largeTables = List.of("card_transaction", "card_activity");
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+/**
+ * Settings for the in-memory fraud scoring of incoming card transactions and the fraud cases it
+ * opens.
+ */
+@Data
+@ConfigurationProperties(prefix = "cards.fraud.scoring")
+public class FraudScoringProperties {
+
+    /**
+     * Whether new transactions are scored. Only meaningful when all traffic for a card reaches
+     * the same instance, since the aggregates are held in memory.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Score from which a transaction is flagged as suspected fraud.
+     */
+    private int suspectThreshold = 50;
+
+    /**
+     * Score from which a fraud case is opened for the transaction.
+     */
+    private int caseThreshold = 70;
+
+    /**
+     * Transactions per card tolerated in the last minute.
+     */
+    private int cardMaxPerMinute = 3;
+
+    /**
+     * Transactions per card tolerated in the last hour.
+     */
+    private int cardMaxPerHour = 10;
+
+    /**
+     * Transactions per card tolerated in the last day.
+     */
+    private int cardMaxPerDay = 30;
+
+    /**
+     * Amount per card tolerated in the last day, in the billing currency of each transaction.
+     */
+    private BigDecimal cardMaxDailyAmount = new BigDecimal("10000");
+
+    /**
+     * Distinct merchant countries per card tolerated in the last day.
+     */
+    private int cardMaxCountriesPerDay = 2;
+
+    /**
+     * Number of earlier transactions a card needs before a merchant category it never used
+     * counts as unusual.
+     */
+    private int mccNoveltyMinHistory = 10;
+
+    /**
+     * Transactions per device tolerated in the last hour, across all cards.
+     */
+    private int deviceMaxPerHour = 20;
+
+    /**
+     * Transactions per merchant tolerated in the last minute, across all cards.
+     */
+    private int merchantMaxPerMinute = 600;
+
+    /**
+     * Maximum number of cards, devices and merchants each whose aggregates are kept. New keys
+     * past the limit are scored without history until idle ones are evicted.
+     */
+    private int maxTrackedKeys = 1_000_000;
+
+    /**
+     * How long a card, device or merchant is kept after its last transaction. Aggregates cover
+     * one day, so shorter values lose history.
+     */
+    private Duration idleTimeout = Duration.ofHours(25);
+
+    /**
+     * How often idle aggregates are evicted.
+     */
+    private Duration sweepInterval = Duration.ofMinutes(10);
+
+    /**
+     * Number of fraud cases waiting to be written before new ones are dropped.
+     */
+    private int caseQueueCapacity = 8192;
+
+    /**
+     * Maximum number of fraud cases written by one statement.
+     */
+    private int caseBatchSize = 500;
+
+    /**
+     * How long a fraud case may wait for its batch to fill up before it is written.
+     */
+    private Duration caseFlushInterval = Duration.ofMillis(500);
+}
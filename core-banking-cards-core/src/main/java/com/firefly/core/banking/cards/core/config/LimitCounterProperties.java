@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the in-memory card limit counters.
+ */
+@Data
+@ConfigurationProperties(prefix = "cards.limits.counters")
+public class LimitCounterProperties {
+
+    /**
+     * Whether limit consumption is served from in-memory counters instead of one database
+     * round trip per spend. Only enable it when all traffic for a card reaches the same instance:
+     * instances do not see each other's unflushed usage.
+     */
+    private boolean enabled = false;
+
+    /**
+     * How often consumed amounts are written back to card_limit.
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * Maximum number of limits updated by one write-back statement.
+     */
+    private int flushBatchSize = 1000;
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the scheduled reset of card limit usage.
+ */
+@Data
+@ConfigurationProperties(prefix = "cards.limits.reset")
+public class LimitResetProperties {
+
+    /**
+     * Whether this instance runs the reset scheduler. Several instances may run it at once.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How often to look for limits whose reset date has passed.
+     */
+    private Duration interval = Duration.ofMinutes(1);
+
+    /**
+     * Maximum number of limits reset by one statement.
+     */
+    private int batchSize = 5000;
+
+    /**
+     * Number of batches processed concurrently by this instance.
+     */
+    private int parallelism = 4;
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Settings for the card event outbox, its relay and the per-card event stream.
+ */
+@Data
+@ConfigurationProperties(prefix = "cards.outbox")
+public class OutboxProperties {
+
+    /**
+     * Whether card, limit, transaction and dispute mutations write an outbox event in their
+     * transaction.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Whether this instance runs the relay publishing outbox events. Several instances may run it
+     * at once; each claims a disjoint batch.
+     */
+    private boolean relayEnabled = true;
+
+    /**
+     * How often the relay looks for unpublished events.
+     */
+    private Duration pollInterval = Duration.ofMillis(250);
+
+    /**
+     * Maximum number of events claimed and published in one relay transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * How long published events are kept, which is also how far back a reconnecting event-stream
+     * client can catch up.
+     */
+    private Duration retention = Duration.ofDays(7);
+
+    /**
+     * How often published events older than {@code retention} are deleted.
+     */
+    private Duration cleanupInterval = Duration.ofHours(1);
+
+    /**
+     * File that published events are appended to as newline-delimited JSON. The file sink is
+     * disabled when unset; it is meant for tests and local runs.
+     */
+    private String fileSinkPath;
+
+    /**
+     * Payload properties never written to the outbox.
+     */
+    private List<String> redactedFields = List.of("cardNumber", "cvv", "pin");
+
+    /**
+     * Number of live events an event-stream client may fall behind by while it catches up or
+     * reads slowly. The stream ends with an error past that, and the client resumes with
+     * Last-Event-ID.
+     */
+    private int streamBufferSize = 1024;
+
+    /**
+     * Number of events read per query when an event-stream client catches up.
+     */
+    private int streamCatchUpPageSize = 500;
+}
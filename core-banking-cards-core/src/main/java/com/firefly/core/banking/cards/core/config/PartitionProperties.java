@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+
+package com.firefly.core.banking.cards.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the maintenance of the monthly partitions of card_transaction and card_activity.
+ */
+@Data
+@ConfigurationProperties(prefix = "cards.partitions")
+public class PartitionProperties {
+
+    /**
+     * Whether this instance maintains the partitions. Several instances may do so at once.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How often to check the partitions; the first check runs at startup.
+     */
+    private Duration interval = Duration.ofHours(6);
+
+    /**
+     * Number of months after the current one for which partitions are created ahead of time.
+     */
+    private int premakeMonths = 3;
+
+    /**
+     * Number of complete months to keep attached before the current one. Zero keeps every partition.
+     */
+    private int retentionMonths = 0;
+
+    /**
+     * Schema that retired partitions are moved to, for archiving. When empty they are dropped.
+     */
+    private String archiveSchema = "card_archive";
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the guard on repository reads that return more rows than any caller should hold.
+ */
+@Data
+@ConfigurationProperties(prefix = "cards.repositories.unbounded-reads")
+public class UnboundedReadProperties {
+
+    /**
+     * What to do with a read that goes past {@code maxRows}.
+     */
+    public enum Action {
+        /**
+         * Count it in the cards.repositories.unbounded.reads metric and keep reading.
+         */
+        FLAG,
+        /**
+         * Count it and fail the read with an IllegalStateException.
+         */
+        FAIL
+    }
+
+    /**
+     * Whether repository reads are guarded.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of rows a single finder call may return before it counts as unbounded.
+     */
+    private long maxRows = 10000;
+
+    /**
+     * What to do once a read goes past {@code maxRows}.
+     */
+    private Action action = Action.FLAG;
+}
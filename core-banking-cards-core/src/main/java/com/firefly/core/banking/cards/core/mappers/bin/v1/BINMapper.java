@@ -43,4 +43,12 @@ public interface BINMapper {
      * @return the resulting BIN entity
      */
     BIN toEntity(BINDTO bindto);
-}
\ No newline at end of file
+
+    /**
+     * Copy a BINDTO, so that a cached instance can be handed out without being shared.
+     *
+     * @param binDTO the BINDTO to copy
+     * @return a new BINDTO with the same values
+     */
+    BINDTO copy(BINDTO binDTO);
+}
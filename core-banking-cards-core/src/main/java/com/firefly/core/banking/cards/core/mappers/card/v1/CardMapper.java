@@ -43,4 +43,12 @@ public interface CardMapper {
      * @return the resulting Card entity
      */
     Card toEntity(CardDTO cardDTO);
+
+    /**
+     * Copy a CardDTO, so that a cached instance can be handed out without being shared.
+     *
+     * @param cardDTO the CardDTO to copy
+     * @return a new CardDTO with the same values
+     */
+    CardDTO copy(CardDTO cardDTO);
 }
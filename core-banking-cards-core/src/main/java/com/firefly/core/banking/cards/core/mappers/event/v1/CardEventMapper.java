@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.mappers.event.v1;
+
+import com.firefly.core.banking.cards.interfaces.dtos.event.v1.CardEventDTO;
+import com.firefly.core.banking.cards.models.entities.event.v1.CardOutboxEvent;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Mapper for the CardOutboxEvent entity and the CardEventDTO it is published as.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface CardEventMapper {
+
+    /**
+     * Convert a CardOutboxEvent entity to a CardEventDTO.
+     *
+     * @param cardOutboxEvent the CardOutboxEvent entity to convert
+     * @return the resulting CardEventDTO
+     */
+    @Mapping(target = "occurredAt", source = "dateCreated")
+    CardEventDTO toDTO(CardOutboxEvent cardOutboxEvent);
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.mappers.fraud.v1;
+
+import com.firefly.core.banking.cards.interfaces.dtos.fraud.v1.FraudCaseDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.fraud.v1.FraudCaseQueueSummaryDTO;
+import com.firefly.core.banking.cards.models.entities.fraud.v1.FraudCase;
+import com.firefly.core.banking.cards.models.entities.fraud.v1.FraudCaseQueueSummary;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Mapper for the FraudCase entity, its queue summaries and their DTOs.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface FraudCaseMapper {
+
+    /**
+     * Convert a FraudCase entity to a FraudCaseDTO.
+     *
+     * @param fraudCase the FraudCase entity to convert
+     * @return the resulting FraudCaseDTO
+     */
+    FraudCaseDTO toDTO(FraudCase fraudCase);
+
+    /**
+     * Convert a FraudCaseDTO to a FraudCase entity.
+     *
+     * @param fraudCaseDTO the FraudCaseDTO to convert
+     * @return the resulting FraudCase entity
+     */
+    FraudCase toEntity(FraudCaseDTO fraudCaseDTO);
+
+    /**
+     * Convert a FraudCaseQueueSummary entity to a FraudCaseQueueSummaryDTO.
+     *
+     * @param summary the FraudCaseQueueSummary entity to convert
+     * @return the resulting FraudCaseQueueSummaryDTO
+     */
+    @Mapping(target = "averageFraudScore",
+            expression = "java(summary.getCaseCount() > 0 ? (double) summary.getTotalFraudScore() / summary.getCaseCount() : 0)")
+    FraudCaseQueueSummaryDTO toDTO(FraudCaseQueueSummary summary);
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.mappers.issuance.v1;
+
+import com.firefly.core.banking.cards.interfaces.dtos.issuance.v1.CardIssuanceJobDTO;
+import com.firefly.core.banking.cards.models.entities.issuance.v1.CardIssuanceJob;
+import com.firefly.core.banking.cards.models.entities.limit.v1.CardLimit;
+import com.firefly.core.banking.cards.models.entities.security.v1.CardSecurity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Mapper for the CardIssuanceJob entity and its DTO, and for copying a program's default limits
+ * and security features onto the cards it issues.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface CardIssuanceMapper {
+
+    /**
+     * Convert a CardIssuanceJob entity to a CardIssuanceJobDTO.
+     *
+     * @param job the CardIssuanceJob entity to convert
+     * @return the resulting CardIssuanceJobDTO
+     */
+    CardIssuanceJobDTO toDTO(CardIssuanceJob job);
+
+    /**
+     * Convert a CardIssuanceJobDTO to a CardIssuanceJob entity.
+     *
+     * @param jobDTO the CardIssuanceJobDTO to convert
+     * @return the resulting CardIssuanceJob entity
+     */
+    CardIssuanceJob toEntity(CardIssuanceJobDTO jobDTO);
+
+    /**
+     * Copy a program default limit, leaving out its identity, owner, usage and reset schedule.
+     *
+     * @param template the program default limit
+     * @return a new limit with the template's settings
+     */
+    @Mapping(target = "cardLimitId", ignore = true)
+    @Mapping(target = "cardId", ignore = true)
+    @Mapping(target = "isProgramDefault", ignore = true)
+    @Mapping(target = "currentUsage", ignore = true)
+    @Mapping(target = "availableAmount", ignore = true)
+    @Mapping(target = "lastResetDate", ignore = true)
+    @Mapping(target = "nextResetDate", ignore = true)
+    @Mapping(target = "dateCreated", ignore = true)
+    @Mapping(target = "dateUpdated", ignore = true)
+    CardLimit copy(CardLimit template);
+
+    /**
+     * Copy a program default security feature, leaving out its identity, owner and usage.
+     *
+     * @param template the program default security feature
+     * @return a new security feature with the template's settings
+     */
+    @Mapping(target = "cardSecurityId", ignore = true)
+    @Mapping(target = "cardId", ignore = true)
+    @Mapping(target = "isProgramDefault", ignore = true)
+    @Mapping(target = "activationDate", ignore = true)
+    @Mapping(target = "lastUpdatedDate", ignore = true)
+    @Mapping(target = "lastUsedDate", ignore = true)
+    @Mapping(target = "dateCreated", ignore = true)
+    @Mapping(target = "dateUpdated", ignore = true)
+    CardSecurity copy(CardSecurity template);
+}
@@ -18,7 +18,9 @@
 package com.firefly.core.banking.cards.core.mappers.limit.v1;
 
 import com.firefly.core.banking.cards.interfaces.dtos.limit.v1.CardLimitDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.limit.v1.LimitUsageDTO;
 import com.firefly.core.banking.cards.models.entities.limit.v1.CardLimit;
+import com.firefly.core.banking.cards.models.entities.limit.v1.CardLimitUsage;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
 
@@ -43,4 +45,12 @@ public interface CardLimitMapper {
      * @return the resulting CardLimit entity
      */
     CardLimit toEntity(CardLimitDTO LCardLLimitLDLTLO);
+
+    /**
+     * Convert the outcome of a limit consumption for one limit to a LimitUsageDTO.
+     *
+     * @param usage the consumption outcome to convert
+     * @return the resulting LimitUsageDTO
+     */
+    LimitUsageDTO toUsageDTO(CardLimitUsage usage);
 }
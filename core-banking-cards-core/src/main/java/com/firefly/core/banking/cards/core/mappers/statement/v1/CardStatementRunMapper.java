@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.mappers.statement.v1;
+
+import com.firefly.core.banking.cards.interfaces.dtos.statement.v1.CardStatementRunDTO;
+import com.firefly.core.banking.cards.models.entities.statement.v1.CardStatementRun;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Mapper for the CardStatementRun entity and its DTO.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface CardStatementRunMapper {
+
+    /**
+     * Convert a CardStatementRun entity to a CardStatementRunDTO.
+     *
+     * @param run the CardStatementRun entity to convert
+     * @return the resulting CardStatementRunDTO
+     */
+    CardStatementRunDTO toDTO(CardStatementRun run);
+
+    /**
+     * Convert a CardStatementRunDTO to a CardStatementRun entity.
+     *
+     * @param runDTO the CardStatementRunDTO to convert
+     * @return the resulting CardStatementRun entity
+     */
+    CardStatementRun toEntity(CardStatementRunDTO runDTO);
+}
@@ -19,11 +19,14 @@ package com.firefly.core.banking.cards.core.mappers.transaction.v1;
 
 import com.firefly.core.banking.cards.interfaces.dtos.transaction.v1.CardTransactionDTO;
 import com.firefly.core.banking.cards.models.entities.transaction.v1.CardTransaction;
+import org.mapstruct.InheritInverseConfiguration;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
 
 /**
- * Mapper for the CardTransaction entity and its DTO.
+ * Mapper for the CardTransaction entity and its DTO. The DTO names most card-network fields with
+ * a {@code card} prefix; they are mapped explicitly, since unmapped properties are ignored.
  */
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public interface CardTransactionMapper {
@@ -34,6 +37,7 @@ public interface CardTransactionMapper {
      * @param LCardLTransaction the CardTransaction entity to convert
      * @return the resulting CardTransactionDTO
      */
+    @InheritInverseConfiguration
     CardTransactionDTO toDTO(CardTransaction LCardLTransaction);
 
     /**
@@ -42,5 +46,18 @@ public interface CardTransactionMapper {
      * @param LCardLTransactionLDLTLO the CardTransactionDTO to convert
      * @return the resulting CardTransaction entity
      */
+    @Mapping(target = "authorizationCode", source = "cardAuthCode")
+    @Mapping(target = "merchantCategoryCode", source = "cardMerchantCategoryCode")
+    @Mapping(target = "merchantName", source = "cardMerchantName")
+    @Mapping(target = "entryMode", source = "cardPosEntryMode")
+    @Mapping(target = "transactionReference", source = "cardTransactionReference")
+    @Mapping(target = "terminalId", source = "cardTerminalId")
+    @Mapping(target = "isCardPresent", source = "cardPresentFlag")
+    @Mapping(target = "transactionTimestamp", source = "cardTransactionTimestamp")
+    @Mapping(target = "isFraudSuspected", source = "cardFraudFlag")
+    @Mapping(target = "exchangeRate", source = "cardCurrencyConversionRate")
+    @Mapping(target = "feeAmount", source = "cardFeeAmount")
+    @Mapping(target = "feeCurrency", source = "cardFeeCurrency")
+    @Mapping(target = "installmentPlan", source = "cardInstallmentPlan")
     CardTransaction toEntity(CardTransactionDTO LCardLTransactionLDLTLO);
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last case of a fraud queue page, expressed as the (score, detection timestamp,
+ * id) triple the queues are ordered by. Clients only ever see the opaque token produced by
+ * {@link #encode()}.
+ */
+@Getter
+@AllArgsConstructor
+public class FraudQueueCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final int score;
+
+    private final LocalDateTime timestamp;
+
+    private final UUID id;
+
+    /**
+     * Encode this cursor into an opaque, URL-safe token.
+     *
+     * @return the encoded token
+     */
+    public String encode() {
+        String raw = Integer.toString(score) + SEPARATOR + timestamp + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token previously produced by {@link #encode()}.
+     *
+     * @param token the opaque cursor token
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static FraudQueueCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int first = raw.indexOf(SEPARATOR);
+            int second = raw.indexOf(SEPARATOR, first + 1);
+            if (first < 0 || second < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            return new FraudQueueCursor(
+                    Integer.parseInt(raw.substring(0, first)),
+                    LocalDateTime.parse(raw.substring(first + 1, second)),
+                    UUID.fromString(raw.substring(second + 1))
+            );
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.core.persistence;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes lists of mapped entities with multi-row {@code INSERT ... VALUES (...), (...)} statements
+ * instead of one repository {@code save} per row.
+ * <p>
+ * A null property is written as {@code DEFAULT} rather than bound as NULL. A repository
+ * {@code save} leaves null properties out of its insert, so the column default applies in both
+ * cases and a batch-inserted row is identical to the same entity saved on its own.
+ */
+@Component
+public class BatchInsertTemplate {
+
+    /**
+     * PostgreSQL wire protocol limit on bind parameters per statement.
+     */
+    static final int MAX_BIND_PARAMETERS = 65535;
+
+    @Autowired
+    private R2dbcEntityTemplate template;
+
+    @Autowired
+    private EntityTableMetadataCache metadataCache;
+
+    /**
+     * Insert all entities using as few statements as the bind parameter limit allows.
+     * Identifiers and audit timestamps are assigned before the insert when missing.
+     * Each statement is atomic on its own; callers needing all-or-nothing semantics across
+     * statements must run this inside a transaction.
+     *
+     * @param entityType the mapped entity class
+     * @param entities the entities to insert
+     * @return a Mono emitting the number of inserted rows
+     */
+    public <T> Mono<Long> insertAll(Class<T> entityType, List<T> entities) {
+        if (entities.isEmpty()) {
+            return Mono.just(0L);
+        }
+        EntityTableMetadata<T> metadata = metadataCache.get(entityType);
+        LocalDateTime now = LocalDateTime.now();
+        entities.forEach(entity -> metadata.prepareForInsert(entity, now));
+
+        int rowsPerStatement = Math.max(1, MAX_BIND_PARAMETERS / metadata.columnCount());
+        return Flux.range(0, (entities.size() + rowsPerStatement - 1) / rowsPerStatement)
+                .map(i -> entities.subList(i * rowsPerStatement, Math.min(entities.size(), (i + 1) * rowsPerStatement)))
+                .concatMap(rows -> insertRows(metadata, rows))
+                .reduce(0L, Long::sum);
+    }
+
+    private <T> Mono<Long> insertRows(EntityTableMetadata<T> metadata, List<T> rows) {
+        int columnCount = metadata.columnCount();
+        List<Object[]> values = new ArrayList<>(rows.size());
+        StringBuilder sql = new StringBuilder("INSERT INTO ")
+                .append(metadata.getTableName())
+                .append(" (")
+                .append(String.join(", ", metadata.getColumns()))
+                .append(") VALUES ");
+        for (int row = 0; row < rows.size(); row++) {
+            Object[] rowValues = metadata.values(rows.get(row));
+            values.add(rowValues);
+            sql.append(row == 0 ? "(" : ", (");
+            for (int column = 0; column < columnCount; column++) {
+                sql.append(column == 0 ? "" : ", ");
+                if (rowValues[column] == null) {
+                    sql.append("DEFAULT");
+                } else {
+                    sql.append(':').append(parameterName(row, column));
+                }
+            }
+            sql.append(')');
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient().sql(sql.toString());
+        for (int row = 0; row < rows.size(); row++) {
+            Object[] rowValues = values.get(row);
+            for (int column = 0; column < columnCount; column++) {
+                if (rowValues[column] != null) {
+                    spec = spec.bind(parameterName(row, column), rowValues[column]);
+                }
+            }
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    private static String parameterName(int row, int column) {
+        return "r" + row + "c" + column;
+    }
+}
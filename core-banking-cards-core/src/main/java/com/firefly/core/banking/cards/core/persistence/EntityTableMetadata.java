@@ -0,0 +1,159 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.core.persistence;
+
+import com.firefly.core.banking.cards.models.entities.BaseEntity;
+import lombok.Getter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Column layout of a mapped entity, resolved once from the R2DBC mapping context and reused
+ * to build hand-written statements (multi-row inserts, column-targeted updates) without
+ * reflecting over the entity on every call.
+ *
+ * @param <T> the entity type
+ */
+public class EntityTableMetadata<T> {
+
+    private final RelationalPersistentEntity<T> persistentEntity;
+
+    @Getter
+    private final String tableName;
+
+    @Getter
+    private final String idColumn;
+
+    private final RelationalPersistentProperty idProperty;
+
+    private final List<RelationalPersistentProperty> properties;
+
+    @Getter
+    private final List<String> columns;
+
+    private final int partitionKey;
+
+    EntityTableMetadata(RelationalPersistentEntity<T> persistentEntity) {
+        this.persistentEntity = persistentEntity;
+        this.tableName = persistentEntity.getTableName().getReference();
+        this.idProperty = persistentEntity.getRequiredIdProperty();
+        this.idColumn = idProperty.getColumnName().getReference();
+
+        List<RelationalPersistentProperty> mapped = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (RelationalPersistentProperty property : persistentEntity) {
+            if (property.isWritable() && !property.isTransient()) {
+                mapped.add(property);
+                names.add(property.getColumnName().getReference());
+            }
+        }
+        this.properties = Collections.unmodifiableList(mapped);
+        this.columns = Collections.unmodifiableList(names);
+        this.partitionKey = names.indexOf(PartitionManager.PARTITION_KEYS.get(tableName));
+    }
+
+    public int columnCount() {
+        return columns.size();
+    }
+
+    /**
+     * Java type a column value is bound as; enums are bound by name and rely on the
+     * varchar-to-enum casts declared in the schema.
+     *
+     * @param column the column position
+     * @return the bind type of the column
+     */
+    public Class<?> bindType(int column) {
+        Class<?> type = properties.get(column).getType();
+        return type.isEnum() ? String.class : type;
+    }
+
+    /**
+     * Read the column values of an entity in {@link #getColumns()} order.
+     *
+     * @param entity the entity to read
+     * @return the bind values, with enums converted to their names
+     */
+    public Object[] values(T entity) {
+        PersistentPropertyAccessor<T> accessor = persistentEntity.getPropertyAccessor(entity);
+        Object[] values = new Object[properties.size()];
+        for (int i = 0; i < values.length; i++) {
+            Object value = accessor.getProperty(properties.get(i));
+            values[i] = value instanceof Enum<?> e ? e.name() : value;
+        }
+        return values;
+    }
+
+    /**
+     * Whether a column is maintained by auditing ({@code date_created}, {@code date_updated})
+     * rather than taken from client input.
+     *
+     * @param column the column position
+     * @return true for audit timestamp columns
+     */
+    public boolean isAuditColumn(int column) {
+        RelationalPersistentProperty property = properties.get(column);
+        return property.isAnnotationPresent(CreatedDate.class) || property.isAnnotationPresent(LastModifiedDate.class);
+    }
+
+    /**
+     * Whether a column is the range partition key of its table, such as
+     * {@code card_transaction.transaction_timestamp}.
+     *
+     * @param column the column position
+     * @return true for the partition key column
+     */
+    public boolean isPartitionKey(int column) {
+        return column == partitionKey;
+    }
+
+    public Object getId(T entity) {
+        return persistentEntity.getPropertyAccessor(entity).getProperty(idProperty);
+    }
+
+    /**
+     * Prepare an entity for a hand-written insert: assign a UUID identifier when missing and fill
+     * the audit timestamps that the repository auditing callbacks would otherwise set.
+     *
+     * @param entity the entity to prepare
+     * @param now the timestamp to use for the audit columns
+     * @return the same entity
+     */
+    public T prepareForInsert(T entity, LocalDateTime now) {
+        PersistentPropertyAccessor<T> accessor = persistentEntity.getPropertyAccessor(entity);
+        if (accessor.getProperty(idProperty) == null && UUID.class.equals(idProperty.getType())) {
+            accessor.setProperty(idProperty, UUID.randomUUID());
+        }
+        if (entity instanceof BaseEntity auditable) {
+            if (auditable.getDateCreated() == null) {
+                auditable.setDateCreated(now);
+            }
+            auditable.setDateUpdated(now);
+        }
+        return entity;
+    }
+}
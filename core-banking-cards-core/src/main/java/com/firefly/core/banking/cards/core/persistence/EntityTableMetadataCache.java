@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.persistence;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the {@link EntityTableMetadata} of each entity type once and shares it between the
+ * hand-written statement templates.
+ */
+@Component
+public class EntityTableMetadataCache {
+
+    @Autowired
+    private R2dbcEntityTemplate template;
+
+    private final Map<Class<?>, EntityTableMetadata<?>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Resolve (and cache) the column layout of an entity type.
+     *
+     * @param entityType the mapped entity class
+     * @return the cached metadata
+     */
+    @SuppressWarnings("unchecked")
+    public <T> EntityTableMetadata<T> get(Class<T> entityType) {
+        return (EntityTableMetadata<T>) cache.computeIfAbsent(entityType, type ->
+                new EntityTableMetadata<>(template.getConverter().getMappingContext().getRequiredPersistentEntity(type)));
+    }
+}
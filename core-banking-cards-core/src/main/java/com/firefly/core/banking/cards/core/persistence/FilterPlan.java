@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.persistence;
+
+import lombok.Getter;
+import lombok.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Statements compiled for one shape of filter: the table, the set of predicates with their
+ * operators and the sort order. Values are bound by position as {@code :p0}, {@code :p1}, ... so
+ * every request of the same shape sends the same SQL text, which lets the driver reuse the
+ * server-side prepared statement.
+ */
+public class FilterPlan {
+
+    static final String TOTAL_COLUMN = "total_count";
+
+    public enum Operator {
+        EQ("="),
+        GTE(">="),
+        LTE("<=");
+
+        private final String sql;
+
+        Operator(String sql) {
+            this.sql = sql;
+        }
+    }
+
+    @Value
+    public static class Predicate {
+        String column;
+        Operator operator;
+    }
+
+    @Getter
+    private final String tableName;
+
+    @Getter
+    private final List<Predicate> predicates;
+
+    @Getter
+    private final String pageSql;
+
+    @Getter
+    private final String countSql;
+
+    FilterPlan(String tableName, List<Predicate> predicates, List<String> orderBy) {
+        this.tableName = tableName;
+        this.predicates = List.copyOf(predicates);
+
+        StringBuilder where = new StringBuilder();
+        for (int i = 0; i < predicates.size(); i++) {
+            Predicate predicate = predicates.get(i);
+            where.append(i == 0 ? " WHERE " : " AND ")
+                    .append(predicate.getColumn()).append(' ').append(predicate.getOperator().sql)
+                    .append(" :p").append(i);
+        }
+        String order = orderBy.isEmpty() ? "" : " ORDER BY " + orderBy.stream().collect(Collectors.joining(", "));
+        this.pageSql = "SELECT *, COUNT(*) OVER () AS " + TOTAL_COLUMN + " FROM " + tableName + where
+                + order + " LIMIT :limit OFFSET :offset";
+        this.countSql = "SELECT COUNT(*) FROM " + tableName + where;
+    }
+
+    /**
+     * Bind the predicate values of a request to one of the plan's statements.
+     *
+     * @param spec   the statement, created from {@link #getPageSql()} or {@link #getCountSql()}
+     * @param values the values in predicate order
+     * @return the bound statement
+     */
+    public DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, List<Object> values) {
+        for (int i = 0; i < values.size(); i++) {
+            spec = spec.bind("p" + i, values.get(i));
+        }
+        return spec;
+    }
+}
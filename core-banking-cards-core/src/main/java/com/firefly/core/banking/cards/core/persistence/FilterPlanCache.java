@@ -0,0 +1,323 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.persistence;
+
+import com.firefly.core.banking.cards.core.config.FilterPlanProperties;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.Value;
+import org.fireflyframework.core.filters.FilterRequest;
+import org.fireflyframework.core.queries.PaginationRequest;
+import org.fireflyframework.core.queries.PaginationResponse;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Runs the filter endpoints from compiled {@link FilterPlan}s instead of assembling a generic
+ * filter query on every request.
+ * <p>
+ * A request is reduced to its shape: the entity, the filter fields that are set, the range bounds
+ * that are given and the sort order. Each shape is compiled once into a plan, kept in a bounded
+ * cache with least-recently-used eviction, and run with the request's values bound to it. The DTO
+ * getters are resolved once per DTO class, so a request only reads the values it filters on.
+ * <p>
+ * Compiling a plan also checks it against the indexes of the table: unless
+ * {@code cards.filters.require-indexed-predicate} is turned off, a filter must constrain at least
+ * one column that leads a non-partial index, and the tables listed in
+ * {@code cards.filters.large-tables} cannot be filtered without any predicate. Rejected filters
+ * fail with an IllegalArgumentException and are counted in {@code cards.filters.rejected}.
+ */
+@Component
+public class FilterPlanCache {
+
+    static final String CACHE_NAME = "filter-plans";
+
+    // Columns that lead a non-partial index, which is what lets the planner avoid a sequential scan.
+    // Indexes declared on a partitioned table are listed against the parent.
+    private static final String INDEXED_COLUMNS_SQL = """
+            SELECT DISTINCT a.attname
+            FROM pg_index i
+            JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = i.indkey[0]
+            WHERE i.indrelid = to_regclass(:table)
+              AND i.indpred IS NULL
+            """;
+
+    @Autowired
+    private R2dbcEntityTemplate template;
+
+    @Autowired
+    private FilterPlanProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<Class<?>, Map<String, Method>> getters = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> indexedColumns = new ConcurrentHashMap<>();
+
+    private AsyncCache<String, FilterPlan> plans;
+
+    @PostConstruct
+    void init() {
+        plans = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxPlans())
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, plans, CACHE_NAME);
+    }
+
+    /**
+     * Read a page of the entities matching a filter request.
+     *
+     * @param entityType the mapped entity class
+     * @param request    the filter, range and pagination criteria
+     * @param mapper     maps each entity to the DTO returned
+     * @return a Mono emitting the page, or an IllegalArgumentException for a filter that cannot be
+     * compiled or would scan the table
+     */
+    public <E, D> Mono<PaginationResponse<D>> filter(Class<E> entityType, FilterRequest<D> request,
+                                                     Function<E, D> mapper) {
+        return Mono.defer(() -> {
+            Shape shape = shape(entityType, request);
+            return Mono.fromFuture(() -> plans.get(shape.getSignature(),
+                            (signature, executor) -> compile(shape).toFuture()), true)
+                    .flatMap(plan -> execute(plan, entityType, shape, mapper));
+        });
+    }
+
+    long planCount() {
+        return plans.synchronous().estimatedSize();
+    }
+
+    private <E, D> Mono<PaginationResponse<D>> execute(FilterPlan plan, Class<E> entityType, Shape shape,
+                                                       Function<E, D> mapper) {
+        Pageable pageable = shape.getPageable();
+        return plan.bind(template.getDatabaseClient().sql(plan.getPageSql()), shape.getValues())
+                .bind("limit", pageable.getPageSize())
+                .bind("offset", pageable.getOffset())
+                .map((row, rowMetadata) -> Tuples.of(template.getConverter().read(entityType, row, rowMetadata),
+                        row.get(FilterPlan.TOTAL_COLUMN, Long.class)))
+                .all()
+                .collectList()
+                .flatMap(rows -> {
+                    List<D> content = rows.stream().map(Tuple2::getT1).map(mapper).toList();
+                    // A page past the end has no row to carry the total
+                    Mono<Long> total = !rows.isEmpty() ? Mono.just(rows.get(0).getT2())
+                            : pageable.getOffset() == 0 ? Mono.just(0L)
+                            : plan.bind(template.getDatabaseClient().sql(plan.getCountSql()), shape.getValues())
+                                    .map(row -> row.get(0, Long.class))
+                                    .one();
+                    return total.map(count -> {
+                        PaginationResponse<D> response = new PaginationResponse<>();
+                        response.setContent(content);
+                        response.setCurrentPage(pageable.getPageNumber());
+                        response.setTotalElements(count);
+                        response.setTotalPages((int) ((count + pageable.getPageSize() - 1) / pageable.getPageSize()));
+                        return response;
+                    });
+                });
+    }
+
+    private Mono<FilterPlan> compile(Shape shape) {
+        String table = shape.getTableName();
+        return indexedColumns(table).map(indexed -> {
+            if (properties.isRequireIndexedPredicate()) {
+                boolean rejected = shape.getPredicates().isEmpty()
+                        ? properties.getLargeTables().contains(table)
+                        : shape.getPredicates().stream().noneMatch(predicate -> indexed.contains(predicate.getColumn()));
+                if (rejected) {
+                    Counter.builder("cards.filters.rejected")
+                            .description("Filter requests rejected because they would scan the table")
+                            .tag("table", table)
+                            .register(meterRegistry)
+                            .increment();
+                    throw new IllegalArgumentException("Filter on " + table
+                            + " must constrain at least one indexed column: " + new TreeSet<>(indexed));
+                }
+            }
+            return new FilterPlan(table, shape.getPredicates(), shape.getOrderBy());
+        });
+    }
+
+    private Mono<Set<String>> indexedColumns(String table) {
+        Set<String> cached = indexedColumns.get(table);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return template.getDatabaseClient().sql(INDEXED_COLUMNS_SQL)
+                .bind("table", table)
+                .map(row -> row.get(0, String.class))
+                .all()
+                .collect(HashSet<String>::new, Set::add)
+                .map(columns -> {
+                    Set<String> indexed = Set.copyOf(columns);
+                    indexedColumns.put(table, indexed);
+                    return indexed;
+                });
+    }
+
+    /**
+     * Reduce a request to its shape and the values to bind. Filter fields come first, in property
+     * name order, then range bounds in property name order, so that requests of the same shape bind
+     * their values in the same positions. A filter field, range or sort on a property the entity
+     * does not map is rejected rather than ignored.
+     */
+    private <E> Shape shape(Class<E> entityType, FilterRequest<?> request) {
+        RelationalPersistentEntity<?> entity = template.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(entityType);
+        String table = entity.getTableName().getReference();
+
+        List<FilterPlan.Predicate> predicates = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        Object filters = request.getFilters();
+        if (filters != null) {
+            for (Map.Entry<String, Method> getter : getters(filters.getClass()).entrySet()) {
+                Object value = read(getter.getValue(), filters);
+                if (value != null) {
+                    RelationalPersistentProperty property = requiredProperty(entity, getter.getKey());
+                    predicates.add(new FilterPlan.Predicate(column(property), FilterPlan.Operator.EQ));
+                    values.add(bindValue(value, property));
+                }
+            }
+        }
+        if (request.getRangeFilters() != null && request.getRangeFilters().getRanges() != null) {
+            for (var range : new TreeMap<>(request.getRangeFilters().getRanges()).entrySet()) {
+                RelationalPersistentProperty property = requiredProperty(entity, range.getKey());
+                if (range.getValue().getFrom() != null) {
+                    predicates.add(new FilterPlan.Predicate(column(property), FilterPlan.Operator.GTE));
+                    values.add(bindValue(range.getValue().getFrom(), property));
+                }
+                if (range.getValue().getTo() != null) {
+                    predicates.add(new FilterPlan.Predicate(column(property), FilterPlan.Operator.LTE));
+                    values.add(bindValue(range.getValue().getTo(), property));
+                }
+            }
+        }
+
+        PaginationRequest pagination = request.getPagination() != null ? request.getPagination() : new PaginationRequest();
+        Pageable pageable = pagination.toPageable();
+        List<String> orderBy = new ArrayList<>();
+        for (Sort.Order order : pageable.getSort()) {
+            orderBy.add(column(requiredProperty(entity, order.getProperty())) + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        // Ties on the sort columns would otherwise leave the page boundaries to chance
+        if (entity.hasIdProperty()) {
+            String idColumn = column(entity.getRequiredIdProperty());
+            if (orderBy.stream().noneMatch(order -> order.startsWith(idColumn + " "))) {
+                orderBy.add(idColumn + " ASC");
+            }
+        }
+
+        StringBuilder signature = new StringBuilder(table);
+        predicates.forEach(predicate -> signature.append('|').append(predicate.getColumn())
+                .append(':').append(predicate.getOperator()));
+        signature.append("|order:").append(String.join(",", orderBy));
+        return new Shape(signature.toString(), table, List.copyOf(predicates), values, List.copyOf(orderBy), pageable);
+    }
+
+    private Map<String, Method> getters(Class<?> dtoType) {
+        return getters.computeIfAbsent(dtoType, type -> {
+            Map<String, Method> readers = new TreeMap<>();
+            for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(type)) {
+                if (descriptor.getReadMethod() != null && !"class".equals(descriptor.getName())) {
+                    readers.put(descriptor.getName(), descriptor.getReadMethod());
+                }
+            }
+            return readers;
+        });
+    }
+
+    private static Object read(Method getter, Object filters) {
+        try {
+            return getter.invoke(filters);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot read filter property " + getter.getName(), e);
+        }
+    }
+
+    private static RelationalPersistentProperty requiredProperty(RelationalPersistentEntity<?> entity, String name) {
+        RelationalPersistentProperty property = entity.getPersistentProperty(name);
+        if (property == null || property.isTransient()) {
+            throw new IllegalArgumentException("Unknown filter property: " + name);
+        }
+        return property;
+    }
+
+    private static String column(RelationalPersistentProperty property) {
+        return property.getColumnName().getReference();
+    }
+
+    /**
+     * Convert a value to the type of the column it is compared with. Range bounds arrive as
+     * whatever JSON produced (strings, numbers); enums are bound by name and rely on the
+     * varchar-to-enum casts declared in the schema.
+     */
+    private Object bindValue(Object value, RelationalPersistentProperty property) {
+        if (value instanceof Enum<?> e) {
+            return e.name();
+        }
+        Class<?> type = property.getType();
+        if (type.isEnum()) {
+            return value.toString();
+        }
+        if (type.isInstance(value)) {
+            return value;
+        }
+        try {
+            return template.getConverter().getConversionService().convert(value, type);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid value for filter property " + property.getName() + ": " + value, e);
+        }
+    }
+
+    @Value
+    static class Shape {
+        String signature;
+        String tableName;
+        List<FilterPlan.Predicate> predicates;
+        List<Object> values;
+        List<String> orderBy;
+        Pageable pageable;
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.persistence;
+
+import com.firefly.core.banking.cards.core.queries.CountingPaginationRequest;
+import com.firefly.core.banking.cards.core.queries.CountingPaginationResponse;
+import com.firefly.core.banking.cards.core.queries.PaginationCountMode;
+import org.fireflyframework.core.queries.PaginationRequest;
+import org.fireflyframework.core.queries.PaginationResponse;
+import org.fireflyframework.core.queries.PaginationUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
+import org.springframework.data.r2dbc.core.StatementMapper;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.sql.Expressions;
+import org.springframework.r2dbc.core.PreparedOperation;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs the list queries of the services in the count mode selected on the request.
+ * <p>
+ * A plain PaginationRequest, or a {@link CountingPaginationRequest} in
+ * {@link PaginationCountMode#EXACT} mode, goes through PaginationUtils with the repository's page
+ * and count queries, as before. The other modes build their own statement from the entity type and
+ * the list's criteria so that the total can be computed in the page query, estimated from the
+ * table statistics or skipped, and return a {@link CountingPaginationResponse}.
+ */
+@Component
+public class PaginationQueryTemplate {
+
+    static final String TOTAL_COLUMN = "total_count";
+
+    // reltuples is -1 until a table has been analyzed; a partitioned table only has statistics on its partitions
+    private static final String ESTIMATE_SQL = """
+            SELECT COALESCE(SUM(c.reltuples) FILTER (WHERE c.reltuples >= 0), -1)::bigint
+            FROM pg_class c
+            WHERE c.oid = to_regclass(:table)
+               OR c.oid IN (SELECT inhrelid FROM pg_inherits WHERE inhparent = to_regclass(:table))
+            """;
+
+    @Autowired
+    private R2dbcEntityTemplate template;
+
+    /**
+     * Read a page of a list in the count mode selected on the request, with every mode derived from
+     * the list's criteria: in EXACT mode the page and the count are selected with the same criteria
+     * the other modes build their statement from.
+     *
+     * @param request    the pagination request, possibly a CountingPaginationRequest
+     * @param entityType the mapped entity class
+     * @param criteria   the filter of the list, expressed on entity properties; empty for unfiltered lists
+     * @param mapper     maps each entity to the DTO returned
+     * @return a Mono emitting the page
+     */
+    public <E, D> Mono<PaginationResponse<D>> paginate(PaginationRequest request, Class<E> entityType,
+                                                       Criteria criteria, Function<E, D> mapper) {
+        return paginate(request, entityType, criteria, mapper,
+                pageable -> template.select(Query.query(criteria).with(pageable), entityType),
+                () -> template.count(Query.query(criteria), entityType));
+    }
+
+    /**
+     * Read a page of a list in the count mode selected on the request.
+     *
+     * @param request    the pagination request, possibly a CountingPaginationRequest
+     * @param entityType the mapped entity class
+     * @param criteria   the filter of the list, expressed on entity properties; empty for unfiltered lists
+     * @param mapper     maps each entity to the DTO returned
+     * @param pageQuery  the repository page query, used in EXACT mode
+     * @param countQuery the repository count query, used in EXACT mode and when no other total is available
+     * @return a Mono emitting the page
+     */
+    public <E, D> Mono<PaginationResponse<D>> paginate(PaginationRequest request, Class<E> entityType,
+                                                       Criteria criteria, Function<E, D> mapper,
+                                                       Function<Pageable, Flux<E>> pageQuery,
+                                                       Supplier<Mono<Long>> countQuery) {
+        PaginationCountMode mode = request instanceof CountingPaginationRequest counting && counting.getCountMode() != null
+                ? counting.getCountMode()
+                : PaginationCountMode.EXACT;
+        if (mode == PaginationCountMode.EXACT) {
+            return PaginationUtils.paginateQuery(request, mapper, pageQuery, countQuery);
+        }
+        Pageable pageable = request.toPageable();
+        return switch (mode) {
+            case WINDOW -> windowed(entityType, criteria, pageable, mapper, countQuery);
+            case ESTIMATED -> criteria.isEmpty()
+                    ? estimated(entityType, pageable, mapper, countQuery)
+                    : windowed(entityType, criteria, pageable, mapper, countQuery);
+            default -> uncounted(entityType, criteria, pageable, mapper);
+        };
+    }
+
+    private <E, D> Mono<PaginationResponse<D>> windowed(Class<E> entityType, Criteria criteria, Pageable pageable,
+                                                        Function<E, D> mapper, Supplier<Mono<Long>> countQuery) {
+        ReactiveDataAccessStrategy strategy = template.getDataAccessStrategy();
+        StatementMapper statementMapper = strategy.getStatementMapper().forType(entityType);
+        StatementMapper.SelectSpec select = statementMapper.createSelect(strategy.getTableName(entityType))
+                .withProjection(Expressions.asterisk(), Expressions.just("COUNT(*) OVER () AS " + TOTAL_COLUMN))
+                .withCriteria(criteria)
+                .withPage(pageable);
+        PreparedOperation<?> operation = statementMapper.getMappedObject(select);
+
+        return template.getDatabaseClient().sql(operation)
+                .map((row, rowMetadata) -> Tuples.of(template.getConverter().read(entityType, row, rowMetadata),
+                        row.get(TOTAL_COLUMN, Long.class)))
+                .all()
+                .collectList()
+                .flatMap(rows -> {
+                    List<D> content = rows.stream().map(Tuple2::getT1).map(mapper).toList();
+                    // A page past the end has no row to carry the total
+                    Mono<Long> total = !rows.isEmpty() ? Mono.just(rows.get(0).getT2())
+                            : pageable.getOffset() == 0 ? Mono.just(0L)
+                            : Mono.defer(countQuery);
+                    return total.map(count -> response(content, pageable, count, PaginationCountMode.WINDOW,
+                            pageable.getOffset() + content.size() < count));
+                });
+    }
+
+    private <E, D> Mono<PaginationResponse<D>> estimated(Class<E> entityType, Pageable pageable,
+                                                         Function<E, D> mapper, Supplier<Mono<Long>> countQuery) {
+        Mono<Long> estimate = template.getDatabaseClient().sql(ESTIMATE_SQL)
+                .bind("table", template.getDataAccessStrategy().getTableName(entityType).getReference())
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .filter(rows -> rows >= 0)
+                .switchIfEmpty(Mono.defer(countQuery));
+
+        return Mono.zip(readAhead(entityType, Criteria.empty(), pageable), estimate)
+                .map(tuple -> {
+                    List<E> rows = tuple.getT1();
+                    boolean hasNext = rows.size() > pageable.getPageSize();
+                    List<D> content = rows.stream().limit(pageable.getPageSize()).map(mapper).toList();
+                    // Statistics lag behind inserts; never report fewer elements than were seen
+                    long seen = pageable.getOffset() + content.size() + (hasNext ? 1 : 0);
+                    return response(content, pageable, Math.max(tuple.getT2(), seen), PaginationCountMode.ESTIMATED, hasNext);
+                });
+    }
+
+    private <E, D> Mono<PaginationResponse<D>> uncounted(Class<E> entityType, Criteria criteria, Pageable pageable,
+                                                         Function<E, D> mapper) {
+        return readAhead(entityType, criteria, pageable)
+                .map(rows -> {
+                    boolean hasNext = rows.size() > pageable.getPageSize();
+                    List<D> content = rows.stream().limit(pageable.getPageSize()).map(mapper).toList();
+                    return response(content, pageable, null, PaginationCountMode.NONE, hasNext);
+                });
+    }
+
+    /**
+     * Read the page plus one row, which tells whether a next page exists without counting.
+     */
+    private <E> Mono<List<E>> readAhead(Class<E> entityType, Criteria criteria, Pageable pageable) {
+        Query query = Query.query(criteria)
+                .sort(pageable.getSort())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1);
+        return template.select(query, entityType).collectList();
+    }
+
+    private static <D> PaginationResponse<D> response(List<D> content, Pageable pageable, Long total,
+                                                      PaginationCountMode mode, boolean hasNext) {
+        CountingPaginationResponse<D> response = new CountingPaginationResponse<>();
+        response.setContent(content);
+        response.setCurrentPage(pageable.getPageNumber());
+        response.setTotalElements(total != null ? total : -1);
+        response.setTotalPages(total != null ? (int) ((total + pageable.getPageSize() - 1) / pageable.getPageSize()) : -1);
+        response.setCountMode(mode);
+        response.setHasNext(hasNext);
+        return response;
+    }
+}
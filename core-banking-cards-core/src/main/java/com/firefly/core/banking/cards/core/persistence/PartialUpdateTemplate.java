@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.persistence;
+
+import com.firefly.core.banking.cards.models.entities.BaseEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds column-targeted {@code UPDATE ... SET ... WHERE ... RETURNING *} statements, so that an
+ * update is a single statement instead of reading the row and saving every column back.
+ * <p>
+ * PATCH-style updates write only the non-null properties of an entity, which keeps WAL volume and
+ * index maintenance proportional to what actually changed. The row is matched on arbitrary column
+ * values, typically its ID and owning card ID, so that ownership is enforced by the statement itself.
+ */
+@Component
+public class PartialUpdateTemplate {
+
+    @Autowired
+    private R2dbcEntityTemplate template;
+
+    @Autowired
+    private EntityTableMetadataCache metadataCache;
+
+    /**
+     * Write the non-null properties of {@code changes} to the row matching all of the given
+     * column values, and refresh {@code date_updated}. Identifier, audit and matched columns are
+     * never written. When no property is set the row is read back untouched, so an empty PATCH
+     * neither writes a row version nor moves {@code date_updated}.
+     *
+     * @param entityType the mapped entity class
+     * @param changes    an entity holding the new values; null properties are left unchanged
+     * @param match      column values identifying the row, typically its ID and owning card ID
+     * @return a Mono emitting the updated or unchanged row, or empty if no row matched
+     */
+    public <T> Mono<T> updateNonNull(Class<T> entityType, T changes, Map<String, Object> match) {
+        return update(entityType, changes, match, false);
+    }
+
+    /**
+     * Overwrite every property of the row matching all of the given column values with those of
+     * {@code replacement}, nulls included, and refresh {@code date_updated}. Identifier, audit and
+     * matched columns are never written, and a null partition key keeps its stored value since
+     * the column is part of the primary key of a partitioned table.
+     *
+     * @param entityType  the mapped entity class
+     * @param replacement an entity holding the new values
+     * @param match       column values identifying the row, typically its ID and owning card ID
+     * @return a Mono emitting the updated row, or empty if no row matched
+     */
+    public <T> Mono<T> replace(Class<T> entityType, T replacement, Map<String, Object> match) {
+        return update(entityType, replacement, match, true);
+    }
+
+    private <T> Mono<T> update(Class<T> entityType, T entity, Map<String, Object> match, boolean writeNulls) {
+        EntityTableMetadata<T> metadata = metadataCache.get(entityType);
+        if (match.isEmpty()) {
+            return Mono.error(new IllegalArgumentException("Refusing to update every row of " + metadata.getTableName()));
+        }
+        List<String> columns = metadata.getColumns();
+        Object[] values = metadata.values(entity);
+        boolean[] written = new boolean[values.length];
+
+        StringBuilder where = new StringBuilder(" WHERE ");
+        int condition = 0;
+        for (String name : match.keySet()) {
+            if (!columns.contains(name)) {
+                return Mono.error(new IllegalArgumentException("Unknown column " + name + " on " + metadata.getTableName()));
+            }
+            where.append(condition++ == 0 ? "" : " AND ").append(name).append(" = :m_").append(name);
+        }
+
+        StringBuilder sql = new StringBuilder("UPDATE ").append(metadata.getTableName()).append(" SET ");
+        int assignments = 0;
+        for (int column = 0; column < values.length; column++) {
+            String name = columns.get(column);
+            if ((values[column] == null && (!writeNulls || metadata.isPartitionKey(column))) || metadata.isAuditColumn(column)
+                    || name.equals(metadata.getIdColumn()) || match.containsKey(name)) {
+                continue;
+            }
+            written[column] = true;
+            sql.append(assignments++ == 0 ? "" : ", ").append(name).append(" = :c").append(column);
+        }
+        if (assignments == 0) {
+            String select = "SELECT * FROM " + metadata.getTableName() + where;
+            return read(entityType, template.getDatabaseClient().sql(select), match);
+        }
+        boolean audited = BaseEntity.class.isAssignableFrom(entityType);
+        if (audited) {
+            sql.append(", date_updated = :dateUpdated");
+        }
+        sql.append(where).append(" RETURNING *");
+
+        DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient().sql(sql.toString());
+        for (int column = 0; column < values.length; column++) {
+            if (!written[column]) {
+                continue;
+            }
+            spec = values[column] == null
+                    ? spec.bindNull("c" + column, metadata.bindType(column))
+                    : spec.bind("c" + column, values[column]);
+        }
+        if (audited) {
+            spec = spec.bind("dateUpdated", LocalDateTime.now());
+        }
+        return read(entityType, spec, match);
+    }
+
+    private <T> Mono<T> read(Class<T> entityType, DatabaseClient.GenericExecuteSpec spec, Map<String, Object> match) {
+        for (Map.Entry<String, Object> entry : match.entrySet()) {
+            spec = spec.bind("m_" + entry.getKey(), entry.getValue());
+        }
+        return spec.map((row, rowMetadata) -> template.getConverter().read(entityType, row, rowMetadata))
+                .one();
+    }
+}
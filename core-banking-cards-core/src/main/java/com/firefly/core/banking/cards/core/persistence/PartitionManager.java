@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.persistence;
+
+import com.firefly.core.banking.cards.core.config.PartitionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains the monthly range partitions of the tables partitioned by
+ * V9__Partition_Card_Transaction_And_Activity.sql.
+ * <p>
+ * Each run creates the partitions of the current month and of the next {@code premakeMonths}
+ * months, so rows never land in the DEFAULT partition in normal operation. When
+ * {@code retentionMonths} is set, partitions that ended more than that many months ago are
+ * detached and moved to the archive schema, or dropped if no archive schema is configured.
+ * Both steps are idempotent, so several instances can run them concurrently.
+ * <p>
+ * A step that fails is logged, counted in {@code cards.partitions.failures} and retried on the
+ * next run, without holding up the other steps and tables.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "cards.partitions", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PartitionManager {
+
+    static final List<String> PARTITIONED_TABLES = List.of("card_transaction", "card_activity");
+
+    /**
+     * Range partition key of each partitioned table. The key is part of the primary key and is
+     * NOT NULL, so updates must never clear it.
+     */
+    static final Map<String, String> PARTITION_KEYS = Map.of(
+            "card_transaction", "transaction_timestamp",
+            "card_activity", "activity_timestamp");
+
+    @Autowired
+    private R2dbcEntityTemplate template;
+
+    @Autowired
+    private PartitionProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Counter createdPartitions;
+    private Counter retiredPartitions;
+    private Counter failures;
+    private Disposable maintenanceTask;
+
+    @PostConstruct
+    void start() {
+        registerMeters();
+        maintenanceTask = Flux.interval(Duration.ZERO, properties.getInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> runOnce(LocalDate.now()))
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (maintenanceTask != null) {
+            maintenanceTask.dispose();
+        }
+    }
+
+    void registerMeters() {
+        createdPartitions = Counter.builder("cards.partitions.created")
+                .description("Monthly partitions created ahead of time")
+                .register(meterRegistry);
+        retiredPartitions = Counter.builder("cards.partitions.retired")
+                .description("Monthly partitions detached past the retention period")
+                .register(meterRegistry);
+        failures = Counter.builder("cards.partitions.failures")
+                .description("Partition maintenance steps that failed and are retried on the next run")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Create the upcoming partitions and retire the expired ones of every partitioned table.
+     * Each step of each table is attempted even when an earlier one fails.
+     *
+     * @param today the reference date
+     * @return a Mono completing once every table has been maintained
+     */
+    public Mono<Void> runOnce(LocalDate today) {
+        return Flux.fromIterable(PARTITIONED_TABLES)
+                .concatMap(table -> Mono.defer(() -> premake(table, today))
+                        .onErrorResume(e -> failed("create the partitions of", table, e))
+                        .then(Mono.defer(() -> retire(table, today).then())
+                                .onErrorResume(e -> failed("retire the partitions of", table, e))))
+                .then();
+    }
+
+    /**
+     * Create the missing partitions of a table from the current month up to {@code premakeMonths} ahead.
+     *
+     * @param table the partitioned table
+     * @param today the reference date
+     * @return a Mono emitting the number of partitions created
+     */
+    public Mono<Long> premake(String table, LocalDate today) {
+        LocalDate month = today.withDayOfMonth(1);
+        return Flux.range(0, Math.max(0, properties.getPremakeMonths()) + 1)
+                .concatMap(offset -> databaseClient()
+                        .sql("SELECT card_ensure_monthly_partition(:parent, :month)")
+                        .bind("parent", table)
+                        .bind("month", month.plusMonths(offset))
+                        .map(row -> Boolean.TRUE.equals(row.get(0, Boolean.class)))
+                        .one())
+                .filter(Boolean::booleanValue)
+                .count()
+                .doOnNext(createdPartitions::increment);
+    }
+
+    /**
+     * Retire the partitions of a table that ended before the retention period.
+     *
+     * @param table the partitioned table
+     * @param today the reference date
+     * @return a Flux emitting the names of the partitions retired
+     */
+    public Flux<String> retire(String table, LocalDate today) {
+        if (properties.getRetentionMonths() <= 0) {
+            return Flux.empty();
+        }
+        LocalDate cutoff = today.withDayOfMonth(1).minusMonths(properties.getRetentionMonths());
+        DatabaseClient.GenericExecuteSpec spec = databaseClient()
+                .sql("SELECT card_retire_monthly_partitions(:parent, :cutoff, :archiveSchema)")
+                .bind("parent", table)
+                .bind("cutoff", cutoff);
+        spec = StringUtils.hasText(properties.getArchiveSchema())
+                ? spec.bind("archiveSchema", properties.getArchiveSchema())
+                : spec.bindNull("archiveSchema", String.class);
+        return spec.map(row -> row.get(0, String.class))
+                .all()
+                .doOnNext(partition -> retiredPartitions.increment());
+    }
+
+    private <T> Mono<T> failed(String step, String table, Throwable error) {
+        failures.increment();
+        log.error("Could not {} {}; retrying on the next run", step, table, error);
+        return Mono.empty();
+    }
+
+    private DatabaseClient databaseClient() {
+        return template.getDatabaseClient();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.persistence;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
+import org.springframework.data.r2dbc.core.StatementMapper;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.r2dbc.core.PreparedOperation;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * Streams the rows matching a criteria through a database cursor.
+ * <p>
+ * The driver fetches {@code fetchSize} rows at a time and only asks for the next batch once the
+ * subscriber has requested more, so memory use stays flat however many rows match and a slow
+ * consumer (such as an HTTP client downloading an export) throttles the query instead of the
+ * rows piling up in the heap.
+ */
+@Component
+public class StreamingQueryTemplate {
+
+    @Autowired
+    private R2dbcEntityTemplate template;
+
+    /**
+     * Stream every row of an entity's table that matches the criteria, in the given order.
+     *
+     * @param entityType the mapped entity class
+     * @param criteria   the filter, expressed on entity properties
+     * @param sort       the order of the rows
+     * @param fetchSize  number of rows fetched from the database per round trip
+     * @return a Flux emitting the matching entities
+     */
+    public <T> Flux<T> stream(Class<T> entityType, Criteria criteria, Sort sort, int fetchSize) {
+        ReactiveDataAccessStrategy strategy = template.getDataAccessStrategy();
+        StatementMapper mapper = strategy.getStatementMapper().forType(entityType);
+        StatementMapper.SelectSpec select = mapper.createSelect(strategy.getTableName(entityType))
+                .withProjection(strategy.getAllColumns(entityType))
+                .withCriteria(criteria)
+                .withSort(sort);
+        PreparedOperation<?> operation = mapper.getMappedObject(select);
+
+        return template.getDatabaseClient().sql(operation)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map((row, rowMetadata) -> template.getConverter().read(entityType, row, rowMetadata))
+                .all();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.persistence;
+
+import com.firefly.core.banking.cards.core.config.UnboundedReadProperties;
+import com.firefly.core.banking.cards.models.repositories.BaseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Guards the Flux-returning repository methods against reads that pull a large part of a table
+ * into the caller.
+ * <p>
+ * Every repository bean is wrapped so that each Flux it returns counts its rows. A read that goes
+ * past {@code maxRows} is counted once in the {@code cards.repositories.unbounded.reads} metric,
+ * tagged with the repository and method, and either continues or fails depending on the configured
+ * action. Such callers should move to a Pageable overload or to {@link BaseRepository#streamAll},
+ * which is exempt because reading the whole table is its purpose.
+ */
+@Component
+@ConditionalOnProperty(prefix = "cards.repositories.unbounded-reads", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class UnboundedReadGuard implements BeanPostProcessor {
+
+    static final String METRIC = "cards.repositories.unbounded.reads";
+
+    @Autowired
+    private UnboundedReadProperties properties;
+
+    // Resolved lazily so that the registry is not created while post-processors are being set up
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof BaseRepository<?, ?>)) {
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory();
+        proxyFactory.setTarget(bean);
+        String repository = null;
+        for (Class<?> type : ClassUtils.getAllInterfacesAsSet(bean)) {
+            if (BaseRepository.class.isAssignableFrom(type)) {
+                proxyFactory.addInterface(type);
+                if (type != BaseRepository.class) {
+                    repository = type.getSimpleName();
+                }
+            }
+        }
+        String repositoryName = repository != null ? repository : beanName;
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            Object result = invocation.proceed();
+            String method = invocation.getMethod().getName();
+            return result instanceof Flux<?> rows && !method.startsWith("stream")
+                    ? guard(rows, repositoryName, method)
+                    : result;
+        });
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+
+    /**
+     * Count the rows emitted by each subscription to a repository read and act on the ones that go
+     * past {@code maxRows}.
+     */
+    <T> Flux<T> guard(Flux<T> rows, String repository, String method) {
+        long maxRows = properties.getMaxRows();
+        UnboundedReadProperties.Action action = properties.getAction();
+        return Flux.defer(() -> {
+            AtomicLong count = new AtomicLong();
+            return rows.<T>handle((row, sink) -> {
+                if (count.incrementAndGet() == maxRows + 1) {
+                    flag(repository, method);
+                    if (action == UnboundedReadProperties.Action.FAIL) {
+                        sink.error(new IllegalStateException(repository + "." + method + " returned more than "
+                                + maxRows + " rows; use a Pageable overload or streamAll instead"));
+                        return;
+                    }
+                }
+                sink.next(row);
+            });
+        });
+    }
+
+    private void flag(String repository, String method) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            Counter.builder(METRIC)
+                    .description("Repository reads that returned more rows than the configured maximum")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .register(registry)
+                    .increment();
+        }
+    }
+}
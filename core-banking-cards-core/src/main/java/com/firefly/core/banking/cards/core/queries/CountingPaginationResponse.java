@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.queries;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.fireflyframework.core.queries.PaginationResponse;
+
+/**
+ * Pagination response for the count modes other than {@link PaginationCountMode#EXACT}.
+ * With {@link PaginationCountMode#NONE} the total is unknown and totalElements and totalPages are
+ * -1; with {@link PaginationCountMode#ESTIMATED} they are approximate. {@code hasNext} is exact
+ * in every mode.
+ *
+ * @param <T> the type of the elements in the page
+ */
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class CountingPaginationResponse<T> extends PaginationResponse<T> {
+
+    /**
+     * How the total was computed.
+     */
+    private PaginationCountMode countMode;
+
+    /**
+     * Whether more elements are available after this page.
+     */
+    private boolean hasNext;
+}
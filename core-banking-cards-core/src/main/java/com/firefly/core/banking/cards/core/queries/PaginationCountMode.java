@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.queries;
+
+/**
+ * How a paginated list works out the total number of elements.
+ */
+public enum PaginationCountMode {
+
+    /**
+     * Run a separate COUNT query. Exact, but as expensive as reading every matching row.
+     */
+    EXACT,
+
+    /**
+     * Compute the total with COUNT(*) OVER () in the page query itself, so a single query is run.
+     */
+    WINDOW,
+
+    /**
+     * Report the planner's row estimate from pg_class for unfiltered lists; filtered lists fall back
+     * to {@link #WINDOW}. Cheap and approximate, suited to browsing large tables.
+     */
+    ESTIMATED,
+
+    /**
+     * Do not count at all; one row more than the page size is read to tell whether a next page exists.
+     */
+    NONE
+}
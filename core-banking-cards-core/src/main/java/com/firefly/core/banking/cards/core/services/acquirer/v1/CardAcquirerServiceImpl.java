@@ -19,12 +19,13 @@ package com.firefly.core.banking.cards.core.services.acquirer.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
-import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.acquirer.v1.CardAcquirerMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.acquirer.v1.CardAcquirerDTO;
 import com.firefly.core.banking.cards.models.entities.acquirer.v1.CardAcquirer;
 import com.firefly.core.banking.cards.models.repositories.acquirer.v1.CardAcquirerRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -41,13 +42,16 @@ public class CardAcquirerServiceImpl implements CardAcquirerService {
     @Autowired
     private CardAcquirerMapper mapper;
 
+    @Autowired
+    private PaginationQueryTemplate paginationQueryTemplate;
+
     @Override
     public Mono<PaginationResponse<CardAcquirerDTO>> listAcquirers(PaginationRequest paginationRequest) {
-        return PaginationUtils.paginateQuery(
+        return paginationQueryTemplate.paginate(
                 paginationRequest,
-                mapper::toDTO,
-                repository::findAllBy,
-                repository::count
+                CardAcquirer.class,
+                Criteria.empty(),
+                mapper::toDTO
         );
     }
 
@@ -0,0 +1,504 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.activity.v1;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.banking.cards.core.config.ActivityLogProperties;
+import com.firefly.core.banking.cards.core.persistence.BatchInsertTemplate;
+import com.firefly.core.banking.cards.models.entities.activity.v1.CardActivity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import io.r2dbc.spi.R2dbcNonTransientException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Value;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Records card activities asynchronously, so that the services mutating a card do not pay a
+ * database round trip for their audit trail.
+ * <p>
+ * {@link #record(CardActivity)} puts the activity in a bounded {@link ActivityRingBuffer} and
+ * returns. A background flusher writes the buffer out through {@link BatchInsertTemplate} as soon
+ * as {@code batch-size} activities are waiting, and every {@code flush-interval} otherwise.
+ * <p>
+ * When the database falls behind the buffer fills up, and recording waits up to
+ * {@code offer-timeout} for room; this is the backpressure seen by callers. An activity that still
+ * finds no room, and a batch whose insert fails, is appended to a file in {@code spill-directory}
+ * and replayed once the buffer has been drained. Without a spill directory the activity is
+ * rejected with an IllegalStateException, and a failed batch is retried on the next flush before
+ * anything else is taken from the buffer.
+ * <p>
+ * Only transient failures are spilled or retried. A batch the database refuses outright is split
+ * in halves until the offending rows are isolated; those are moved to the {@code dead-letter}
+ * subdirectory of the spill directory, or dropped without one, and counted either way. Spill files
+ * are replayed one at a time and deleted, or rewritten with what is left, as soon as their rows
+ * are written. Every activity gets its identifier when recorded, so a row that reaches the
+ * database twice is refused as a duplicate key and treated as already written.
+ * <p>
+ * Activities still in memory are lost if the process dies; they are flushed on shutdown.
+ */
+@Component
+public class ActivityLog {
+
+    private static final Duration OFFER_RETRY_DELAY = Duration.ofMillis(1);
+    private static final String DEAD_LETTER_DIRECTORY = "dead-letter";
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    @Autowired
+    private BatchInsertTemplate batchInsertTemplate;
+
+    @Autowired
+    private ActivityLogProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ActivityRingBuffer<CardActivity> buffer;
+
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    private final AtomicLong spillSequence = new AtomicLong();
+    private final Sinks.Many<Boolean> wakeups = Sinks.many().multicast().directBestEffort();
+
+    private volatile List<CardActivity> failedBatch;
+
+    private Timer flushTimer;
+    private Counter flushFailures;
+    private Counter spilled;
+    private Counter rejected;
+    private Counter deadLettered;
+    private Disposable flushTask;
+
+    @PostConstruct
+    void start() {
+        init();
+        flushTask = Flux.merge(Flux.interval(properties.getFlushInterval()).map(tick -> true), wakeups.asFlux())
+                .onBackpressureDrop()
+                .concatMap(signal -> flush().onErrorResume(e -> Mono.empty()), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (flushTask != null) {
+            flushTask.dispose();
+        }
+        flush().block(Duration.ofSeconds(30));
+    }
+
+    void init() {
+        buffer = new ActivityRingBuffer<>(properties.getCapacity());
+        flushTimer = Timer.builder("cards.activities.log.flush")
+                .description("Time taken to write a batch of card activities to the database")
+                .register(meterRegistry);
+        flushFailures = Counter.builder("cards.activities.log.flush.failures")
+                .description("Card activity batches that failed to be written")
+                .register(meterRegistry);
+        spilled = Counter.builder("cards.activities.log.spilled")
+                .description("Card activities written to the spill directory instead of the database")
+                .register(meterRegistry);
+        rejected = Counter.builder("cards.activities.log.rejected")
+                .description("Card activities rejected because the buffer was full and spilling is disabled")
+                .register(meterRegistry);
+        deadLettered = Counter.builder("cards.activities.log.dead.lettered")
+                .description("Card activities the database refused, set aside instead of being retried")
+                .register(meterRegistry);
+        Gauge.builder("cards.activities.log.queue.depth", this, log -> log.buffer.size())
+                .description("Number of card activities waiting to be written")
+                .register(meterRegistry);
+        Gauge.builder("cards.activities.log.queue.capacity", this, log -> log.buffer.capacity())
+                .description("Number of card activities the buffer can hold")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue an activity to be written. The activity identifier and timestamp, which together form
+     * the primary key of card_activity, are set when missing.
+     *
+     * @param activity the activity to record
+     * @return a Mono completing once the activity is queued or spilled
+     */
+    public Mono<Void> record(CardActivity activity) {
+        if (activity.getActivityId() == null) {
+            activity.setActivityId(UUID.randomUUID());
+        }
+        if (activity.getActivityTimestamp() == null) {
+            activity.setActivityTimestamp(LocalDateTime.now());
+        }
+        return Mono.defer(() -> offer(activity, System.nanoTime() + properties.getOfferTimeout().toNanos()))
+                .doOnNext(queued -> {
+                    if (queued && buffer.size() >= properties.getBatchSize()) {
+                        wakeups.tryEmitNext(true);
+                    }
+                })
+                .then();
+    }
+
+    /**
+     * Queue an activity once the current transaction commits, or right away outside of one, so
+     * that a mutation that is rolled back leaves no audit entry behind. An activity that cannot be
+     * queued at that point is counted as rejected rather than failing the committed mutation.
+     *
+     * @param activity the activity to record
+     * @return a Mono completing once the activity is queued, or scheduled to be
+     */
+    public Mono<Void> recordAfterCommit(CardActivity activity) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .flatMap(manager -> {
+                    if (!manager.isSynchronizationActive()) {
+                        return record(activity);
+                    }
+                    manager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public Mono<Void> afterCommit() {
+                            return record(activity).onErrorResume(IllegalStateException.class, e -> Mono.empty());
+                        }
+                    });
+                    return Mono.<Void>empty();
+                })
+                .onErrorResume(NoTransactionException.class, e -> record(activity));
+    }
+
+    private Mono<Boolean> offer(CardActivity activity, long deadline) {
+        if (buffer.offer(activity)) {
+            return Mono.just(true);
+        }
+        if (System.nanoTime() >= deadline) {
+            return overflow(activity);
+        }
+        return Mono.delay(OFFER_RETRY_DELAY).then(Mono.defer(() -> offer(activity, deadline)));
+    }
+
+    /**
+     * Write everything queued so far, then replay spilled activities if the buffer was drained.
+     * Returns immediately if a flush is already running.
+     *
+     * @return a Mono emitting the number of activities written
+     */
+    public Mono<Long> flush() {
+        return Mono.defer(() -> {
+            if (!flushing.compareAndSet(false, true)) {
+                return Mono.just(0L);
+            }
+            return drain(0L).doFinally(signal -> flushing.set(false));
+        });
+    }
+
+    int queued() {
+        return buffer.size();
+    }
+
+    private Mono<Long> drain(long written) {
+        List<CardActivity> batch = failedBatch != null ? failedBatch : buffer.drain(properties.getBatchSize());
+        failedBatch = null;
+        if (batch.isEmpty()) {
+            return replaySpilled().map(replayed -> written + replayed);
+        }
+        return write(batch).flatMap(outcome -> outcome.getRetry().isEmpty()
+                ? drain(written + outcome.getWritten())
+                : Mono.just(written + outcome.getWritten()));
+    }
+
+    private Mono<Outcome> write(List<CardActivity> batch) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return insert(batch).flatMap(outcome -> {
+            if (outcome.isClean()) {
+                sample.stop(flushTimer);
+                return Mono.just(outcome);
+            }
+            flushFailures.increment();
+            if (outcome.getRetry().isEmpty()) {
+                return Mono.just(outcome);
+            }
+            if (spillDirectory() == null) {
+                failedBatch = outcome.getRetry();
+                return Mono.just(outcome);
+            }
+            return spill(outcome.getRetry())
+                    .thenReturn(outcome)
+                    .onErrorResume(spillError -> {
+                        failedBatch = outcome.getRetry();
+                        return Mono.just(outcome);
+                    });
+        });
+    }
+
+    /**
+     * Insert activities, splitting them in halves when the database refuses them so that a row it
+     * will never accept is dead-lettered without holding back the others. A transient failure, or
+     * a dead letter that cannot be written, stops the split and leaves everything not yet written
+     * for a retry.
+     */
+    private Mono<Outcome> insert(List<CardActivity> activities) {
+        if (activities.isEmpty()) {
+            return Mono.just(new Outcome(0L, 0, List.of()));
+        }
+        return batchInsertTemplate.insertAll(CardActivity.class, activities)
+                .map(rows -> new Outcome(activities.size(), 0, List.<CardActivity>of()))
+                .onErrorResume(e -> {
+                    if (activities.size() == 1 && isDuplicateKey(e)) {
+                        return Mono.just(new Outcome(1L, 0, List.of()));
+                    }
+                    if (!isPermanent(e)) {
+                        return Mono.just(new Outcome(0L, 1, List.copyOf(activities)));
+                    }
+                    if (activities.size() == 1) {
+                        return deadLetter(activities)
+                                .thenReturn(new Outcome(0L, 1, List.<CardActivity>of()))
+                                .onErrorReturn(new Outcome(0L, 1, List.copyOf(activities)));
+                    }
+                    int half = activities.size() / 2;
+                    List<CardActivity> second = activities.subList(half, activities.size());
+                    return insert(activities.subList(0, half)).flatMap(first -> first.getRetry().isEmpty()
+                            ? insert(second).map(first::plus)
+                            : Mono.just(first.plus(new Outcome(0L, 0, List.copyOf(second)))));
+                });
+    }
+
+    private static boolean isPermanent(Throwable e) {
+        return e instanceof NonTransientDataAccessException || e instanceof R2dbcNonTransientException;
+    }
+
+    private static boolean isDuplicateKey(Throwable e) {
+        return e instanceof DuplicateKeyException
+                || (e instanceof R2dbcDataIntegrityViolationException violation
+                        && UNIQUE_VIOLATION.equals(violation.getSqlState()));
+    }
+
+    private Mono<Boolean> overflow(CardActivity activity) {
+        if (spillDirectory() == null) {
+            rejected.increment();
+            return Mono.error(new IllegalStateException("Card activity log is full"));
+        }
+        return spill(List.of(activity)).thenReturn(false);
+    }
+
+    /**
+     * Append activities to a new spill file, one JSON document per line.
+     */
+    private Mono<Void> spill(List<CardActivity> activities) {
+        return Mono.fromRunnable(() -> {
+                    writeNew(spillDirectory(), toLines(activities));
+                    spilled.increment(activities.size());
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    /**
+     * Set aside activities the database refused. They are written to the dead-letter directory
+     * when spilling is enabled, and dropped otherwise; both are counted.
+     */
+    private Mono<Void> deadLetter(List<CardActivity> activities) {
+        return deadLetterLines(Mono.fromCallable(() -> toLines(activities)), activities.size());
+    }
+
+    private Mono<Void> deadLetterLines(Mono<List<String>> lines, int count) {
+        Path directory = spillDirectory();
+        Mono<Void> keep = directory == null ? Mono.empty()
+                : lines.doOnNext(content -> writeNew(directory.resolve(DEAD_LETTER_DIRECTORY), content))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .then();
+        return keep.doOnSuccess(done -> deadLettered.increment(count));
+    }
+
+    /**
+     * Write the oldest spill files back to the database, up to about one batch of activities. Each
+     * file is replayed on its own and deleted once its rows are written or dead-lettered, so a
+     * failure never sends rows already written back to the database from a file that is kept.
+     * Bounding the replay keeps a large backlog from delaying newly recorded ones.
+     */
+    private Mono<Long> replaySpilled() {
+        Path directory = spillDirectory();
+        if (directory == null) {
+            return Mono.just(0L);
+        }
+        return Mono.fromCallable(() -> spillFiles(directory))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(files -> replay(files, 0, 0L, 0L))
+                .onErrorResume(e -> {
+                    flushFailures.increment();
+                    return Mono.just(0L);
+                });
+    }
+
+    private Mono<Long> replay(List<Path> files, int index, long read, long written) {
+        if (index >= files.size() || read >= properties.getBatchSize()) {
+            return Mono.just(written);
+        }
+        Path file = files.get(index);
+        return Mono.fromCallable(() -> readSpilled(file))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(spilledFile -> deadLetterUnreadable(spilledFile)
+                        .then(insert(spilledFile.getActivities()))
+                        .flatMap(outcome -> {
+                            if (!outcome.isClean()) {
+                                flushFailures.increment();
+                            }
+                            if (!outcome.getRetry().isEmpty()) {
+                                return Mono.fromRunnable(() -> rewrite(file, toLines(outcome.getRetry())))
+                                        .subscribeOn(Schedulers.boundedElastic())
+                                        .thenReturn(written + outcome.getWritten());
+                            }
+                            return Mono.fromCallable(() -> Files.deleteIfExists(file))
+                                    .subscribeOn(Schedulers.boundedElastic())
+                                    .then(Mono.defer(() -> replay(files, index + 1,
+                                            read + spilledFile.getActivities().size(),
+                                            written + outcome.getWritten())));
+                        }));
+    }
+
+    private Mono<Void> deadLetterUnreadable(SpilledFile spilledFile) {
+        List<String> unreadable = spilledFile.getUnreadable();
+        return unreadable.isEmpty() ? Mono.empty() : deadLetterLines(Mono.just(unreadable), unreadable.size());
+    }
+
+    private List<Path> spillFiles(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> listing = Files.list(directory)) {
+            return listing.filter(file -> file.getFileName().toString().endsWith(".ndjson"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private SpilledFile readSpilled(Path file) throws IOException {
+        List<CardActivity> activities = new ArrayList<>();
+        List<String> unreadable = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                activities.add(objectMapper.readValue(line, CardActivity.class));
+            } catch (IOException e) {
+                unreadable.add(line);
+            }
+        }
+        return new SpilledFile(activities, unreadable);
+    }
+
+    private List<String> toLines(List<CardActivity> activities) {
+        List<String> lines = new ArrayList<>(activities.size());
+        try {
+            for (CardActivity activity : activities) {
+                lines.add(objectMapper.writeValueAsString(activity));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return lines;
+    }
+
+    /**
+     * Write lines to a new file in a directory, one JSON document per line.
+     */
+    private void writeNew(Path directory, List<String> lines) {
+        Path file = directory.resolve("activities-" + System.currentTimeMillis() + "-"
+                + spillSequence.incrementAndGet() + ".ndjson");
+        try {
+            Files.createDirectories(directory);
+            Files.write(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE_NEW);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Replace the content of a spill file in one step, so that it never holds a mix of written
+     * and unwritten activities.
+     */
+    private void rewrite(Path file, List<String> lines) {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.write(temporary, lines, StandardCharsets.UTF_8);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path spillDirectory() {
+        String directory = properties.getSpillDirectory();
+        return directory == null || directory.isBlank() ? null : Paths.get(directory);
+    }
+
+    /**
+     * Result of writing a list of activities: how many reached the database, how many attempts
+     * failed, and which activities are left for a retry after a transient failure.
+     */
+    @Value
+    static class Outcome {
+        long written;
+        int failures;
+        List<CardActivity> retry;
+
+        boolean isClean() {
+            return failures == 0;
+        }
+
+        Outcome plus(Outcome other) {
+            List<CardActivity> remaining = new ArrayList<>(retry);
+            remaining.addAll(other.retry);
+            return new Outcome(written + other.written, failures + other.failures, remaining);
+        }
+    }
+
+    @Value
+    static class SpilledFile {
+        List<CardActivity> activities;
+        List<String> unreadable;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.activity.v1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free queue for many producers and a single consumer.
+ * <p>
+ * Producers claim a slot by advancing the tail with compare-and-set and then publish the element
+ * into it; the consumer takes elements from the head until it reaches a slot that is not yet
+ * published. Neither side blocks: a producer finding the buffer full gets {@code false} back.
+ *
+ * @param <T> the element type
+ */
+class ActivityRingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    ActivityRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Append an element. Safe to call from any number of threads.
+     *
+     * @param element the element, not null
+     * @return false when the buffer is full
+     */
+    boolean offer(T element) {
+        while (true) {
+            long claimed = tail.get();
+            if (claimed - head.get() >= slots.length()) {
+                return false;
+            }
+            if (tail.compareAndSet(claimed, claimed + 1)) {
+                slots.lazySet((int) claimed & mask, element);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Take up to {@code max} elements in insertion order. Must only be called by one thread at a
+     * time.
+     *
+     * @param max the maximum number of elements to take
+     * @return the elements taken, possibly none
+     */
+    List<T> drain(int max) {
+        List<T> drained = new ArrayList<>(Math.min(max, size()));
+        long position = head.get();
+        while (drained.size() < max) {
+            int slot = (int) position & mask;
+            T element = slots.get(slot);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(slot, null);
+            drained.add(element);
+            position++;
+            // Publish the freed slot only after it has been cleared
+            head.lazySet(position);
+        }
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+}
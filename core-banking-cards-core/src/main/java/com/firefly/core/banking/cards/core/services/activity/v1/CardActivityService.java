@@ -38,6 +38,12 @@ public interface CardActivityService {
      */
     Mono<CardActivityDTO> createActivity(UUID cardId, CardActivityDTO activityDTO);
 
+    /**
+     * Queue an activity for a specific card to be written in the background. For audit records
+     * produced by card mutations, which should not wait for the insert.
+     */
+    Mono<Void> recordActivity(UUID cardId, CardActivityDTO activityDTO);
+
     /**
      * Retrieve a specific activity by its unique ID, ensuring it belongs to the card.
      */
@@ -48,6 +54,11 @@ public interface CardActivityService {
      */
     Mono<CardActivityDTO> updateActivity(UUID cardId, UUID activityId, CardActivityDTO activityDTO);
 
+    /**
+     * Partially update an existing activity for a specific card; only the non-null fields of the DTO are written.
+     */
+    Mono<CardActivityDTO> patchActivity(UUID cardId, UUID activityId, CardActivityDTO activityDTO);
+
     /**
      * Delete an activity by its unique ID, ensuring it belongs to the card.
      */
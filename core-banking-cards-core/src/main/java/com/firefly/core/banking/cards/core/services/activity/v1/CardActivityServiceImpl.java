@@ -19,16 +19,19 @@ package com.firefly.core.banking.cards.core.services.activity.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
-import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.activity.v1.CardActivityMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.activity.v1.CardActivityDTO;
 import com.firefly.core.banking.cards.models.entities.activity.v1.CardActivity;
 import com.firefly.core.banking.cards.models.repositories.activity.v1.CardActivityRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -41,13 +44,22 @@ public class CardActivityServiceImpl implements CardActivityService {
     @Autowired
     private CardActivityMapper mapper;
 
+    @Autowired
+    private PaginationQueryTemplate paginationQueryTemplate;
+
+    @Autowired
+    private PartialUpdateTemplate partialUpdateTemplate;
+
+    @Autowired
+    private ActivityLog activityLog;
+
     @Override
     public Mono<PaginationResponse<CardActivityDTO>> listActivities(UUID cardId, PaginationRequest paginationRequest) {
-        return PaginationUtils.paginateQuery(
+        return paginationQueryTemplate.paginate(
                 paginationRequest,
-                mapper::toDTO,
-                pageable -> repository.findByCardId(cardId, pageable),
-                () -> repository.countByCardId(cardId)
+                CardActivity.class,
+                Criteria.where("cardId").is(cardId),
+                mapper::toDTO
         );
     }
 
@@ -59,42 +71,37 @@ public class CardActivityServiceImpl implements CardActivityService {
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<Void> recordActivity(UUID cardId, CardActivityDTO activityDTO) {
+        activityDTO.setCardId(cardId);
+        return activityLog.record(mapper.toEntity(activityDTO));
+    }
+
     @Override
     public Mono<CardActivityDTO> getActivity(UUID cardId, UUID activityId) {
-        return repository.findByActivityId(activityId)
-                .flatMap(entity -> {
-                    if (!entity.getCardId().equals(cardId)) {
-                        return Mono.error(new RuntimeException("CardActivity not found for the specified card."));
-                    }
-                    return Mono.just(mapper.toDTO(entity));
-                });
+        return repository.findByCardIdAndActivityId(cardId, activityId)
+                .map(mapper::toDTO);
     }
 
     @Override
     public Mono<CardActivityDTO> updateActivity(UUID cardId, UUID activityId, CardActivityDTO activityDTO) {
-        return repository.findByActivityId(activityId)
-                .flatMap(existingActivity -> {
-                    if (!existingActivity.getCardId().equals(cardId)) {
-                        return Mono.error(new RuntimeException("CardActivity not found for the specified card."));
-                    }
-                    
-                    CardActivity updatedActivity = mapper.toEntity(activityDTO);
-                    updatedActivity.setActivityId(existingActivity.getActivityId());
-                    updatedActivity.setCardId(cardId);
-                    
-                    return repository.save(updatedActivity);
-                })
+        return partialUpdateTemplate
+                .replace(CardActivity.class, mapper.toEntity(activityDTO),
+                        Map.of("activity_id", activityId, "card_id", cardId))
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Mono<CardActivityDTO> patchActivity(UUID cardId, UUID activityId, CardActivityDTO activityDTO) {
+        return partialUpdateTemplate
+                .updateNonNull(CardActivity.class, mapper.toEntity(activityDTO),
+                        Map.of("activity_id", activityId, "card_id", cardId))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> deleteActivity(UUID cardId, UUID activityId) {
-        return repository.findByActivityId(activityId)
-                .flatMap(activity -> {
-                    if (!activity.getCardId().equals(cardId)) {
-                        return Mono.error(new RuntimeException("CardActivity not found for the specified card."));
-                    }
-                    return repository.delete(activity);
-                });
+        return repository.deleteByCardIdAndActivityId(cardId, activityId)
+                .then();
     }
 }
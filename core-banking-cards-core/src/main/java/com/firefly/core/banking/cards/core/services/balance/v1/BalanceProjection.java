@@ -0,0 +1,242 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+
+package com.firefly.core.banking.cards.core.services.balance.v1;
+
+import com.firefly.core.banking.cards.core.config.BalanceProjectionProperties;
+import com.firefly.core.banking.cards.interfaces.enums.transaction.v1.TransactionStatusEnum;
+import com.firefly.core.banking.cards.interfaces.enums.transaction.v1.TransactionTypeEnum;
+import com.firefly.core.banking.cards.models.entities.transaction.v1.CardTransaction;
+import com.firefly.core.banking.cards.models.repositories.balance.v1.CardBalanceRepository;
+import lombok.Value;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Keeps the CURRENT card balances in step with card transactions.
+ * <p>
+ * Every inserted transaction is turned into a delta on the CURRENT balance of its card in the
+ * billing currency (the transaction currency when no billing amount is set) and written with one
+ * upsert, so reading a balance never has to aggregate the transaction history. Completed
+ * transactions move the posted balance and pending ones the pending amount; payments and refunds
+ * reduce the balance and every other type increases it. Failed and reversed transactions do not
+ * contribute.
+ * <p>
+ * An updated transaction reverts the delta of its previous values and applies that of its new
+ * ones, so a pending transaction that completes moves its amount from pending to posted; a
+ * deleted transaction reverts its delta. {@link #rebuild(UUID)} recomputes a card's balances from
+ * its history while holding a lock on them, for balances that drifted anyway.
+ */
+@Component
+public class BalanceProjection {
+
+    @Autowired
+    private CardBalanceRepository balanceRepository;
+
+    @Autowired
+    private BalanceProjectionProperties properties;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    /**
+     * Apply a newly inserted transaction to the balances of its card.
+     * Must run in the same transaction as the insert.
+     *
+     * @param transaction the inserted transaction
+     * @return a Mono completing once the balance has been written
+     */
+    public Mono<Void> apply(CardTransaction transaction) {
+        return applyAll(List.of(transaction));
+    }
+
+    /**
+     * Apply a set of newly inserted transactions, writing one delta per card and currency.
+     * Must run in the same transaction as the inserts.
+     *
+     * @param transactions the inserted transactions
+     * @return a Mono completing once the balances have been written
+     */
+    public Mono<Void> applyAll(List<CardTransaction> transactions) {
+        return write(aggregate(transactions));
+    }
+
+    /**
+     * Replace the contribution of a transaction's previous values with that of its new ones.
+     * Must run in the same transaction as the update, with the previous row locked.
+     *
+     * @param before the transaction as it was before the update
+     * @param after the updated transaction
+     * @return a Mono completing once the balances have been written
+     */
+    public Mono<Void> replace(CardTransaction before, CardTransaction after) {
+        BalanceDelta reverted = BalanceDelta.of(before);
+        BalanceDelta applied = BalanceDelta.of(after);
+        if (Objects.equals(reverted, applied)) {
+            return Mono.empty();
+        }
+        Map<String, BalanceDelta> deltas = new LinkedHashMap<>();
+        if (reverted != null) {
+            deltas.put(reverted.getKey(), reverted.negate());
+        }
+        if (applied != null) {
+            deltas.merge(applied.getKey(), applied, BalanceDelta::plus);
+        }
+        return write(deltas);
+    }
+
+    /**
+     * Remove the contribution of a deleted transaction from the balances of its card.
+     * Must run in the same transaction as the delete.
+     *
+     * @param deleted the transaction as it was before the delete
+     * @return a Mono completing once the balance has been written
+     */
+    public Mono<Void> revert(CardTransaction deleted) {
+        BalanceDelta delta = BalanceDelta.of(deleted);
+        return delta == null ? Mono.empty() : write(Map.of(delta.getKey(), delta.negate()));
+    }
+
+    private Mono<Void> write(Map<String, BalanceDelta> deltas) {
+        if (!properties.isEnabled()) {
+            return Mono.empty();
+        }
+        // Deltas are written in a stable order so concurrent batches lock balances consistently
+        return Flux.fromIterable(deltas.values())
+                .sort((a, b) -> a.getKey().compareTo(b.getKey()))
+                .concatMap(delta -> balanceRepository.applyTransactionDelta(
+                        delta.getCardId(), delta.getCurrencyCode(), delta.getPosted(), delta.getPending(),
+                        delta.getLastTransactionId(), delta.getLastTransactionTimestamp()))
+                .then();
+    }
+
+    /**
+     * Recompute the CURRENT balances of a card from its whole transaction history.
+     *
+     * @param cardId the card ID
+     * @return a Mono emitting the number of balances rebuilt
+     */
+    public Mono<Long> rebuild(UUID cardId) {
+        return balanceRepository.lockCurrentBalances(cardId)
+                .thenMany(balanceRepository.rebuildCurrentBalances(cardId))
+                .count()
+                .as(transactionalOperator::transactional);
+    }
+
+    /**
+     * Recompute the CURRENT balances of every card that has transactions or balances, one
+     * transaction per card.
+     *
+     * @return a Mono emitting the number of cards and of balances rebuilt
+     */
+    public Mono<RebuildTotals> rebuildAll() {
+        return balanceRepository.findCardIdsToRebuild()
+                .flatMap(this::rebuild, Math.max(1, properties.getRebuildParallelism()))
+                .reduce(new RebuildTotals(0, 0),
+                        (totals, balances) -> new RebuildTotals(totals.getCards() + 1, totals.getBalances() + balances));
+    }
+
+    static Map<String, BalanceDelta> aggregate(List<CardTransaction> transactions) {
+        Map<String, BalanceDelta> deltas = new LinkedHashMap<>();
+        for (CardTransaction transaction : transactions) {
+            BalanceDelta delta = BalanceDelta.of(transaction);
+            if (delta != null) {
+                deltas.merge(delta.getKey(), delta, BalanceDelta::plus);
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * Number of cards and balances touched by a full rebuild.
+     */
+    @Value
+    public static class RebuildTotals {
+        long cards;
+        long balances;
+    }
+
+    /**
+     * Change to the CURRENT balance of one card in one currency.
+     */
+    @Value
+    static class BalanceDelta {
+        UUID cardId;
+        String currencyCode;
+        BigDecimal posted;
+        BigDecimal pending;
+        UUID lastTransactionId;
+        LocalDateTime lastTransactionTimestamp;
+
+        static BalanceDelta of(CardTransaction transaction) {
+            TransactionStatusEnum status = transaction.getTransactionStatus();
+            if (transaction.getCardId() == null
+                    || (status != TransactionStatusEnum.COMPLETED && status != TransactionStatusEnum.PENDING)) {
+                return null;
+            }
+            boolean billed = transaction.getBillingAmount() != null;
+            BigDecimal amount = billed ? transaction.getBillingAmount() : transaction.getTransactionAmount();
+            String currency = billed ? transaction.getBillingCurrency() : transaction.getTransactionCurrency();
+            if (amount == null || currency == null) {
+                return null;
+            }
+            TransactionTypeEnum type = transaction.getTransactionType();
+            BigDecimal signed = type == TransactionTypeEnum.PAYMENT || type == TransactionTypeEnum.REFUND
+                    ? amount.negate()
+                    : amount;
+            boolean completed = status == TransactionStatusEnum.COMPLETED;
+            return new BalanceDelta(transaction.getCardId(), currency,
+                    completed ? signed : BigDecimal.ZERO,
+                    completed ? BigDecimal.ZERO : signed,
+                    transaction.getCardTransactionId(), transaction.getTransactionTimestamp());
+        }
+
+        String getKey() {
+            return cardId + ":" + currencyCode;
+        }
+
+        /**
+         * The delta undoing this one. It carries no transaction, so it never moves the last
+         * transaction of the balance.
+         */
+        BalanceDelta negate() {
+            return new BalanceDelta(cardId, currencyCode, posted.negate(), pending.negate(), null, null);
+        }
+
+        BalanceDelta plus(BalanceDelta other) {
+            boolean otherIsLater = lastTransactionTimestamp == null
+                    || (other.lastTransactionTimestamp != null
+                        && !other.lastTransactionTimestamp.isBefore(lastTransactionTimestamp));
+            return new BalanceDelta(cardId, currencyCode, posted.add(other.posted), pending.add(other.pending),
+                    otherIsLater ? other.lastTransactionId : lastTransactionId,
+                    otherIsLater ? other.lastTransactionTimestamp : lastTransactionTimestamp);
+        }
+    }
+}
@@ -19,6 +19,7 @@ package com.firefly.core.banking.cards.core.services.balance.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.banking.cards.interfaces.dtos.balance.v1.BalanceRebuildResultDTO;
 import com.firefly.core.banking.cards.interfaces.dtos.balance.v1.CardBalanceDTO;
 import reactor.core.publisher.Mono;
 
@@ -48,8 +49,23 @@ public interface CardBalanceService {
      */
     Mono<CardBalanceDTO> updateBalance(UUID cardId, UUID balanceId, CardBalanceDTO balanceDTO);
 
+    /**
+     * Partially update an existing balance for a specific card; only the non-null fields of the DTO are written.
+     */
+    Mono<CardBalanceDTO> patchBalance(UUID cardId, UUID balanceId, CardBalanceDTO balanceDTO);
+
     /**
      * Delete a balance by its unique ID, ensuring it belongs to the card.
      */
     Mono<Void> deleteBalance(UUID cardId, UUID balanceId);
+
+    /**
+     * Recompute the CURRENT balances of a card from its transaction history.
+     */
+    Mono<BalanceRebuildResultDTO> rebuildBalances(UUID cardId);
+
+    /**
+     * Recompute the CURRENT balances of every card from its transaction history.
+     */
+    Mono<BalanceRebuildResultDTO> rebuildAllBalances();
 }
@@ -19,16 +19,21 @@ package com.firefly.core.banking.cards.core.services.balance.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
-import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.balance.v1.CardBalanceMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
+import com.firefly.core.banking.cards.interfaces.dtos.balance.v1.BalanceRebuildResultDTO;
 import com.firefly.core.banking.cards.interfaces.dtos.balance.v1.CardBalanceDTO;
 import com.firefly.core.banking.cards.models.entities.balance.v1.CardBalance;
 import com.firefly.core.banking.cards.models.repositories.balance.v1.CardBalanceRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -41,13 +46,22 @@ public class CardBalanceServiceImpl implements CardBalanceService {
     @Autowired
     private CardBalanceMapper mapper;
 
+    @Autowired
+    private PaginationQueryTemplate paginationQueryTemplate;
+
+    @Autowired
+    private PartialUpdateTemplate partialUpdateTemplate;
+
+    @Autowired
+    private BalanceProjection balanceProjection;
+
     @Override
     public Mono<PaginationResponse<CardBalanceDTO>> listBalances(UUID cardId, PaginationRequest paginationRequest) {
-        return PaginationUtils.paginateQuery(
+        return paginationQueryTemplate.paginate(
                 paginationRequest,
-                mapper::toDTO,
-                pageable -> repository.findByCardId(cardId, pageable),
-                () -> repository.countByCardId(cardId)
+                CardBalance.class,
+                Criteria.where("cardId").is(cardId),
+                mapper::toDTO
         );
     }
 
@@ -61,40 +75,57 @@ public class CardBalanceServiceImpl implements CardBalanceService {
 
     @Override
     public Mono<CardBalanceDTO> getBalance(UUID cardId, UUID balanceId) {
-        return repository.findByBalanceId(balanceId)
-                .flatMap(entity -> {
-                    if (!entity.getCardId().equals(cardId)) {
-                        return Mono.error(new RuntimeException("CardBalance not found for the specified card."));
-                    }
-                    return Mono.just(mapper.toDTO(entity));
-                });
+        return repository.findByCardIdAndBalanceId(cardId, balanceId)
+                .map(mapper::toDTO);
     }
 
     @Override
     public Mono<CardBalanceDTO> updateBalance(UUID cardId, UUID balanceId, CardBalanceDTO balanceDTO) {
-        return repository.findByBalanceId(balanceId)
-                .flatMap(existingBalance -> {
-                    if (!existingBalance.getCardId().equals(cardId)) {
-                        return Mono.error(new RuntimeException("CardBalance not found for the specified card."));
-                    }
-                    
-                    CardBalance updatedBalance = mapper.toEntity(balanceDTO);
-                    updatedBalance.setBalanceId(existingBalance.getBalanceId());
-                    updatedBalance.setCardId(cardId);
-                    
-                    return repository.save(updatedBalance);
-                })
+        return partialUpdateTemplate
+                .replace(CardBalance.class, mapper.toEntity(balanceDTO),
+                        Map.of("balance_id", balanceId, "card_id", cardId))
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Mono<CardBalanceDTO> patchBalance(UUID cardId, UUID balanceId, CardBalanceDTO balanceDTO) {
+        return partialUpdateTemplate
+                .updateNonNull(CardBalance.class, mapper.toEntity(balanceDTO),
+                        Map.of("balance_id", balanceId, "card_id", cardId))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> deleteBalance(UUID cardId, UUID balanceId) {
-        return repository.findByBalanceId(balanceId)
-                .flatMap(balance -> {
-                    if (!balance.getCardId().equals(cardId)) {
-                        return Mono.error(new RuntimeException("CardBalance not found for the specified card."));
-                    }
-                    return repository.delete(balance);
-                });
+        return repository.deleteByCardIdAndBalanceId(cardId, balanceId)
+                .then();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<BalanceRebuildResultDTO> rebuildBalances(UUID cardId) {
+        return Mono.defer(() -> {
+            long started = System.nanoTime();
+            return balanceProjection.rebuild(cardId)
+                    .map(balances -> rebuildResult(balances > 0 ? 1 : 0, balances, started));
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<BalanceRebuildResultDTO> rebuildAllBalances() {
+        return Mono.defer(() -> {
+            long started = System.nanoTime();
+            return balanceProjection.rebuildAll()
+                    .map(totals -> rebuildResult(totals.getCards(), totals.getBalances(), started));
+        });
+    }
+
+    private static BalanceRebuildResultDTO rebuildResult(long cards, long balances, long started) {
+        return BalanceRebuildResultDTO.builder()
+                .cards(cards)
+                .balances(balances)
+                .elapsedMillis((System.nanoTime() - started) / 1_000_000)
+                .build();
     }
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.bin.v1;
+
+import com.firefly.core.banking.cards.interfaces.dtos.bin.v1.BINDTO;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable snapshot of the BIN table optimised for longest-prefix matching of PANs.
+ * <p>
+ * Every BIN is encoded as a single {@code long} key combining its digit count and its numeric
+ * value, and the keys are kept in one sorted primitive array. Resolving a PAN reads its first
+ * eight digits once and probes the array with a binary search for the 8, 7 and 6 digit prefixes,
+ * so a lookup allocates nothing and touches at most three small search paths.
+ */
+public final class BINIndex {
+
+    static final int MIN_BIN_LENGTH = 6;
+    static final int MAX_BIN_LENGTH = 8;
+
+    private static final long LENGTH_FACTOR = 100_000_000L;
+
+    private final long[] keys;
+    private final BINDTO[] bins;
+
+    private BINIndex(long[] keys, BINDTO[] bins) {
+        this.keys = keys;
+        this.bins = bins;
+    }
+
+    /**
+     * Build an index from the given BINs. Rows whose number is not 6 to 8 digits are skipped.
+     * When the same number appears more than once the last occurrence wins.
+     *
+     * @param source the BINs to index
+     * @return the index
+     */
+    public static BINIndex of(Collection<BINDTO> source) {
+        long[] keys = new long[source.size()];
+        BINDTO[] bins = new BINDTO[source.size()];
+        int count = 0;
+        for (BINDTO bin : source) {
+            long key = keyOf(bin.getBinNumber());
+            if (key >= 0) {
+                keys[count] = key;
+                bins[count] = bin;
+                count++;
+            }
+        }
+
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        // Stable sort keeps insertion order between duplicates so the last one can win below
+        Arrays.sort(order, (a, b) -> Long.compare(keys[a], keys[b]));
+
+        long[] sortedKeys = new long[count];
+        BINDTO[] sortedBins = new BINDTO[count];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            long key = keys[order[i]];
+            if (size > 0 && sortedKeys[size - 1] == key) {
+                size--;
+            }
+            sortedKeys[size] = key;
+            sortedBins[size] = bins[order[i]];
+            size++;
+        }
+        return new BINIndex(Arrays.copyOf(sortedKeys, size), Arrays.copyOf(sortedBins, size));
+    }
+
+    /**
+     * Find the active BIN with the longest number that prefixes the given PAN.
+     * Spaces and dashes in the PAN are ignored.
+     *
+     * @param pan the card number, or any prefix of it with at least six digits
+     * @return the matching BIN, or null if none matches
+     */
+    public BINDTO longestPrefixMatch(CharSequence pan) {
+        if (pan == null) {
+            return null;
+        }
+        long value = 0;
+        int digits = 0;
+        long prefix6 = -1;
+        long prefix7 = -1;
+        long prefix8 = -1;
+        for (int i = 0; i < pan.length() && digits < MAX_BIN_LENGTH; i++) {
+            char c = pan.charAt(i);
+            if (c == ' ' || c == '-') {
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                return null;
+            }
+            value = value * 10 + (c - '0');
+            digits++;
+            if (digits == 6) {
+                prefix6 = value;
+            } else if (digits == 7) {
+                prefix7 = value;
+            } else if (digits == 8) {
+                prefix8 = value;
+            }
+        }
+
+        BINDTO match = prefix8 >= 0 ? activeAt(8 * LENGTH_FACTOR + prefix8) : null;
+        if (match == null && prefix7 >= 0) {
+            match = activeAt(7 * LENGTH_FACTOR + prefix7);
+        }
+        if (match == null && prefix6 >= 0) {
+            match = activeAt(6 * LENGTH_FACTOR + prefix6);
+        }
+        return match;
+    }
+
+    /**
+     * Find the BIN with exactly the given number, regardless of its activation status.
+     *
+     * @param binNumber the 6 to 8 digit BIN number
+     * @return the matching BIN, or null if none matches
+     */
+    public BINDTO exactMatch(String binNumber) {
+        long key = keyOf(binNumber);
+        if (key < 0) {
+            return null;
+        }
+        int position = Arrays.binarySearch(keys, key);
+        return position >= 0 ? bins[position] : null;
+    }
+
+    /**
+     * Number of BINs held by the index.
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    private BINDTO activeAt(long key) {
+        int position = Arrays.binarySearch(keys, key);
+        if (position < 0) {
+            return null;
+        }
+        BINDTO bin = bins[position];
+        return Boolean.FALSE.equals(bin.getIsActive()) ? null : bin;
+    }
+
+    private static long keyOf(String binNumber) {
+        if (binNumber == null || binNumber.length() < MIN_BIN_LENGTH || binNumber.length() > MAX_BIN_LENGTH) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = 0; i < binNumber.length(); i++) {
+            char c = binNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return binNumber.length() * LENGTH_FACTOR + value;
+    }
+}
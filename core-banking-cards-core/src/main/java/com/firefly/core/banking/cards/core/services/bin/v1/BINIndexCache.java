@@ -0,0 +1,211 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.bin.v1;
+
+import com.firefly.core.banking.cards.core.config.BINIndexProperties;
+import com.firefly.core.banking.cards.core.mappers.bin.v1.BINMapper;
+import com.firefly.core.banking.cards.interfaces.dtos.bin.v1.BINDTO;
+import com.firefly.core.banking.cards.models.repositories.bin.v1.BINRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current {@link BINIndex} snapshot and reloads it from the bin table in the background
+ * every {@code refresh-interval} and whenever it is invalidated. Lookups are served from the
+ * snapshot in hand while a reload runs and only wait for the very first load, which concurrent
+ * callers share. Refresh requests arriving during a reload are folded into one more reload, and a
+ * failed reload is logged and counted while the previous snapshot stays in use. Lookups return
+ * copies of the indexed BINs.
+ */
+@Slf4j
+@Component
+public class BINIndexCache {
+
+    @Autowired
+    private BINRepository repository;
+
+    @Autowired
+    private BINMapper mapper;
+
+    @Autowired
+    private BINIndexProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final AtomicReference<BINIndex> snapshot = new AtomicReference<>();
+
+    private final Mono<BINIndex> firstLoad = Mono.defer(this::load)
+            .doOnNext(index -> snapshot.compareAndSet(null, index))
+            .cache(index -> Duration.ofMillis(Long.MAX_VALUE), error -> Duration.ZERO, () -> Duration.ZERO);
+
+    private final AtomicInteger refreshRequests = new AtomicInteger();
+
+    private volatile int indexedBins;
+
+    private Counter hits;
+    private Counter misses;
+    private Counter refreshFailures;
+    private Timer refreshTimer;
+    private Disposable refreshTask;
+
+    @PostConstruct
+    void start() {
+        registerMeters();
+        refreshTask = Flux.interval(properties.getRefreshInterval())
+                .subscribe(tick -> refresh());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (refreshTask != null) {
+            refreshTask.dispose();
+        }
+    }
+
+    void registerMeters() {
+        hits = Counter.builder("cards.bin.index.lookups")
+                .description("BIN index lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        misses = Counter.builder("cards.bin.index.lookups")
+                .description("BIN index lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        refreshTimer = Timer.builder("cards.bin.index.refresh")
+                .description("Time taken to reload the BIN index from the database")
+                .register(meterRegistry);
+        refreshFailures = Counter.builder("cards.bin.index.refresh.failures")
+                .description("BIN index reloads that failed, leaving the previous snapshot in use")
+                .register(meterRegistry);
+        Gauge.builder("cards.bin.index.size", this, cache -> cache.indexedBins)
+                .description("Number of BINs held by the BIN index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Resolve a card number to the active BIN with the longest matching prefix.
+     *
+     * @param pan the card number
+     * @return a Mono emitting the matching BIN, or empty if no BIN matches
+     */
+    public Mono<BINDTO> resolve(CharSequence pan) {
+        return snapshot().mapNotNull(index -> record(index.longestPrefixMatch(pan)))
+                .map(mapper::copy);
+    }
+
+    /**
+     * Find a BIN by its exact number.
+     *
+     * @param binNumber the BIN number
+     * @return a Mono emitting the BIN if indexed, or empty if not
+     */
+    public Mono<BINDTO> findByBinNumber(String binNumber) {
+        return snapshot().mapNotNull(index -> record(index.exactMatch(binNumber)))
+                .map(mapper::copy);
+    }
+
+    /**
+     * Request a reload of the snapshot, without waiting for it. Inside a transaction the reload is
+     * requested once the transaction commits, since a reload before that would read the bin table
+     * as it was before the commit.
+     *
+     * @return a Mono completing once the reload is requested or scheduled
+     */
+    public Mono<Void> invalidate() {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .flatMap(manager -> {
+                    if (!manager.isSynchronizationActive()) {
+                        return Mono.<Void>fromRunnable(this::refresh);
+                    }
+                    manager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public Mono<Void> afterCommit() {
+                            return Mono.fromRunnable(BINIndexCache.this::refresh);
+                        }
+                    });
+                    return Mono.<Void>empty();
+                })
+                .onErrorResume(NoTransactionException.class, e -> Mono.fromRunnable(this::refresh));
+    }
+
+    /**
+     * Reload the snapshot in the background, unless a reload is already running, in which case
+     * that reload is followed by one more.
+     */
+    void refresh() {
+        if (refreshRequests.getAndIncrement() == 0) {
+            reload().subscribe();
+        }
+    }
+
+    private Mono<Void> reload() {
+        return Mono.defer(() -> {
+            int requests = refreshRequests.get();
+            return load()
+                    .doOnNext(snapshot::set)
+                    .then()
+                    .onErrorResume(e -> {
+                        refreshFailures.increment();
+                        log.warn("Could not reload the BIN index; keeping the previous snapshot", e);
+                        return Mono.empty();
+                    })
+                    .then(Mono.defer(() -> refreshRequests.addAndGet(-requests) == 0 ? Mono.<Void>empty() : reload()));
+        });
+    }
+
+    private Mono<BINIndex> snapshot() {
+        BINIndex index = snapshot.get();
+        return index != null ? Mono.just(index) : firstLoad;
+    }
+
+    private BINDTO record(BINDTO match) {
+        (match != null ? hits : misses).increment();
+        return match;
+    }
+
+    private Mono<BINIndex> load() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return repository.findAll()
+                .map(mapper::toDTO)
+                .collectList()
+                .map(BINIndex::of)
+                .doOnNext(index -> {
+                    indexedBins = index.size();
+                    sample.stop(refreshTimer);
+                });
+    }
+}
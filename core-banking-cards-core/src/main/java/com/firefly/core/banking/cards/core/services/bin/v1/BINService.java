@@ -45,6 +45,11 @@ public interface BINService {
      */
     Mono<BINDTO> getBINByNumber(String binNumber);
 
+    /**
+     * Resolve a card number to the active BIN with the longest matching prefix.
+     */
+    Mono<BINDTO> resolvePan(String pan);
+
     /**
      * Update an existing BIN by ID.
      */
@@ -19,12 +19,13 @@ package com.firefly.core.banking.cards.core.services.bin.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
-import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.bin.v1.BINMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.bin.v1.BINDTO;
 import com.firefly.core.banking.cards.models.entities.bin.v1.BIN;
 import com.firefly.core.banking.cards.models.repositories.bin.v1.BINRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -41,13 +42,19 @@ public class BINServiceImpl implements BINService {
     @Autowired
     private BINMapper mapper;
 
+    @Autowired
+    private PaginationQueryTemplate paginationQueryTemplate;
+
+    @Autowired
+    private BINIndexCache binIndex;
+
     @Override
     public Mono<PaginationResponse<BINDTO>> listBINs(PaginationRequest paginationRequest) {
-        return PaginationUtils.paginateQuery(
+        return paginationQueryTemplate.paginate(
                 paginationRequest,
-                mapper::toDTO,
-                repository::findAllBy,
-                repository::count
+                BIN.class,
+                Criteria.empty(),
+                mapper::toDTO
         );
     }
 
@@ -55,7 +62,8 @@ public class BINServiceImpl implements BINService {
     public Mono<BINDTO> createBIN(BINDTO binDTO) {
         BIN entity = mapper.toEntity(binDTO);
         return repository.save(entity)
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(saved -> binIndex.invalidate().thenReturn(saved));
     }
 
     @Override
@@ -66,8 +74,14 @@ public class BINServiceImpl implements BINService {
 
     @Override
     public Mono<BINDTO> getBINByNumber(String binNumber) {
-        return repository.findByBinNumber(binNumber)
-                .map(mapper::toDTO);
+        return binIndex.findByBinNumber(binNumber)
+                .switchIfEmpty(Mono.defer(() -> repository.findByBinNumber(binNumber)
+                        .map(mapper::toDTO)));
+    }
+
+    @Override
+    public Mono<BINDTO> resolvePan(String pan) {
+        return binIndex.resolve(pan);
     }
 
     @Override
@@ -78,12 +92,14 @@ public class BINServiceImpl implements BINService {
                     updatedBIN.setBinId(existingBIN.getBinId());
                     return repository.save(updatedBIN);
                 })
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(updated -> binIndex.invalidate().thenReturn(updated));
     }
 
     @Override
     public Mono<Void> deleteBIN(UUID binId) {
         return repository.findByBinId(binId)
-                .flatMap(repository::delete);
+                .flatMap(repository::delete)
+                .then(Mono.defer(binIndex::invalidate));
     }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.card.v1;
+
+import com.firefly.core.banking.cards.core.config.CardCacheProperties;
+import com.firefly.core.banking.cards.core.mappers.card.v1.CardMapper;
+import com.firefly.core.banking.cards.interfaces.dtos.card.v1.CardDTO;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * {@link CardCache} backed by an asynchronous Caffeine cache with size and TTL eviction, in
+ * front of an optional {@link CardCacheTier}.
+ * <p>
+ * Besides the standard Caffeine meters ({@code cache.gets}, {@code cache.evictions},
+ * {@code cache.load.duration}, tagged {@code cache=cards}) it publishes the hit ratio as
+ * {@code cards.cards.cache.hit.ratio} and the latency of each load as the
+ * {@code cards.cards.cache.load} timer.
+ * <p>
+ * Every lookup returns its own copy of the cached card. An invalidation inside a transaction is
+ * repeated once the transaction commits, since a lookup racing with it may have cached the card
+ * as it was before the commit.
+ */
+@Component
+public class CaffeineCardCache implements CardCache {
+
+    static final String CACHE_NAME = "cards";
+
+    @Autowired
+    private CardCacheProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CardMapper mapper;
+
+    @Autowired(required = false)
+    private CardCacheTier tier;
+
+    private AsyncCache<UUID, CardDTO> cache;
+    private Timer loadTimer;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("cards.cards.cache.hit.ratio", cache, c -> c.synchronous().stats().hitRate())
+                .description("Fraction of card lookups served from the in-process cache")
+                .register(meterRegistry);
+        loadTimer = Timer.builder("cards.cards.cache.load")
+                .description("Time taken to load a card missing from the in-process cache")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<CardDTO> get(UUID cardId, Function<UUID, Mono<CardDTO>> loader) {
+        return Mono.fromFuture(() -> cache.get(cardId, (id, executor) -> load(id, loader).toFuture()), true)
+                .map(mapper::copy);
+    }
+
+    @Override
+    public Mono<Void> invalidate(UUID cardId) {
+        return evict(cardId).then(evictAfterCommit(cardId));
+    }
+
+    private Mono<Void> evict(UUID cardId) {
+        return Mono.fromRunnable(() -> cache.synchronous().invalidate(cardId))
+                .then(tier == null ? Mono.empty() : tier.evict(cardId).onErrorResume(e -> Mono.empty()));
+    }
+
+    private Mono<Void> evictAfterCommit(UUID cardId) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .flatMap(manager -> {
+                    if (manager.isSynchronizationActive()) {
+                        manager.registerSynchronization(new TransactionSynchronization() {
+                            @Override
+                            public Mono<Void> afterCommit() {
+                                return evict(cardId);
+                            }
+                        });
+                    }
+                    return Mono.<Void>empty();
+                })
+                .onErrorResume(NoTransactionException.class, e -> Mono.empty())
+                .then();
+    }
+
+    private Mono<CardDTO> load(UUID cardId, Function<UUID, Mono<CardDTO>> loader) {
+        Mono<CardDTO> load = Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return loader.apply(cardId).doFinally(signal -> sample.stop(loadTimer));
+        });
+        if (tier == null) {
+            return load;
+        }
+        return tier.get(cardId)
+                .onErrorResume(e -> Mono.empty())
+                .switchIfEmpty(load.flatMap(card -> tier.put(cardId, card)
+                        .onErrorResume(e -> Mono.empty())
+                        .thenReturn(card)));
+    }
+}
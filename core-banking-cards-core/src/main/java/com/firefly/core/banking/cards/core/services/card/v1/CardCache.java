@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.card.v1;
+
+import com.firefly.core.banking.cards.interfaces.dtos.card.v1.CardDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of cards looked up by ID. Each caller gets its own copy of a cached card.
+ */
+public interface CardCache {
+
+    /**
+     * Get a card from the cache, loading it with the given loader on a miss. Concurrent misses
+     * for the same card share a single load; empty and failed loads are not cached.
+     *
+     * @param cardId the card ID
+     * @param loader loads the card when it is not cached
+     * @return a Mono emitting the card, or empty if the loader found none
+     */
+    Mono<CardDTO> get(UUID cardId, Function<UUID, Mono<CardDTO>> loader);
+
+    /**
+     * Remove a card from the cache so that the next lookup reloads it. Inside a transaction the
+     * card is removed again once the transaction commits.
+     *
+     * @param cardId the card ID
+     * @return a Mono completing once the card is removed
+     */
+    Mono<Void> invalidate(UUID cardId);
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.card.v1;
+
+import com.firefly.core.banking.cards.interfaces.dtos.card.v1.CardDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Shared second-level store behind the in-process {@link CardCache}, such as Redis or
+ * Hazelcast. It is optional: when a bean of this type is present, local misses are looked up
+ * here before going to the database, loaded cards are written here, and invalidations are
+ * propagated here.
+ * <p>
+ * Implementations should fail fast; errors are treated as a miss and never fail a lookup.
+ */
+public interface CardCacheTier {
+
+    /**
+     * @param cardId the card ID
+     * @return a Mono emitting the stored card, or empty if none is stored
+     */
+    Mono<CardDTO> get(UUID cardId);
+
+    /**
+     * @param cardId the card ID
+     * @param card   the card to store
+     * @return a Mono completing once the card is stored
+     */
+    Mono<Void> put(UUID cardId, CardDTO card);
+
+    /**
+     * @param cardId the card ID
+     * @return a Mono completing once the card is removed
+     */
+    Mono<Void> evict(UUID cardId);
+}
@@ -48,6 +48,11 @@ public interface CardService {
      */
     Mono<CardDTO> updateCard(UUID cardId, CardDTO cardDTO);
 
+    /**
+     * Partially update an existing card; only the non-null fields of the DTO are written.
+     */
+    Mono<CardDTO> patchCard(UUID cardId, CardDTO cardDTO);
+
     /**
      * Delete a card by its unique ID.
      */
@@ -18,10 +18,16 @@
 package com.firefly.core.banking.cards.core.services.card.v1;
 
 import org.fireflyframework.core.filters.FilterRequest;
-import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.cards.core.mappers.card.v1.CardMapper;
+import com.firefly.core.banking.cards.core.persistence.FilterPlanCache;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
+import com.firefly.core.banking.cards.core.services.activity.v1.ActivityLog;
+import com.firefly.core.banking.cards.core.services.event.v1.CardEventOutbox;
 import com.firefly.core.banking.cards.interfaces.dtos.card.v1.CardDTO;
+import com.firefly.core.banking.cards.interfaces.enums.card.v1.CardStatusEnum;
+import com.firefly.core.banking.cards.interfaces.enums.event.v1.CardEventTypeEnum;
+import com.firefly.core.banking.cards.models.entities.activity.v1.CardActivity;
 import com.firefly.core.banking.cards.models.entities.card.v1.Card;
 import com.firefly.core.banking.cards.models.repositories.card.v1.CardRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,6 +35,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -41,42 +49,99 @@ public class CardServiceImpl implements CardService {
     @Autowired
     private CardMapper mapper;
 
+    @Autowired
+    private PartialUpdateTemplate partialUpdateTemplate;
+
+    @Autowired
+    private FilterPlanCache filterPlanCache;
+
+    @Autowired
+    private CardCache cardCache;
+
+    @Autowired
+    private CardEventOutbox outbox;
+
+    @Autowired
+    private ActivityLog activityLog;
+
     @Override
     public Mono<PaginationResponse<CardDTO>> filterCards(FilterRequest<CardDTO> filterRequest) {
-        return FilterUtils
-                .createFilter(
-                        Card.class,
-                        mapper::toDTO
-                )
-                .filter(filterRequest);
+        return filterPlanCache.filter(Card.class, filterRequest, mapper::toDTO);
     }
 
     @Override
     public Mono<CardDTO> createCard(CardDTO cardDTO) {
         return repository.save(mapper.toEntity(cardDTO))
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(created -> outbox.append(CardEventTypeEnum.CARD_CREATED, created.getCardId(),
+                        created.getCardId(), created)
+                        .then(activityLog.recordAfterCommit(activity(CardEventTypeEnum.CARD_CREATED,
+                                created.getCardId(), null, created.getCardStatus())))
+                        .thenReturn(created));
     }
 
     @Override
     public Mono<CardDTO> getCard(UUID cardId) {
-        return repository.findByCardId(cardId)
-                .map(mapper::toDTO);
+        return cardCache.get(cardId, id -> repository.findByCardId(id)
+                .map(mapper::toDTO));
     }
 
     @Override
     public Mono<CardDTO> updateCard(UUID cardId, CardDTO cardDTO) {
         return repository.findByCardId(cardId)
                 .flatMap(existingCard -> {
+                    CardStatusEnum previousStatus = existingCard.getCardStatus();
                     Card updatedCard = mapper.toEntity(cardDTO);
                     updatedCard.setCardId(existingCard.getCardId());
-                    return repository.save(updatedCard);
-                })
-                .map(mapper::toDTO);
+                    return repository.save(updatedCard)
+                            .map(mapper::toDTO)
+                            .flatMap(updated -> outbox.append(CardEventTypeEnum.CARD_UPDATED, cardId, cardId, updated)
+                                    .then(activityLog.recordAfterCommit(activity(CardEventTypeEnum.CARD_UPDATED,
+                                            cardId, previousStatus, updated.getCardStatus())))
+                                    .then(cardCache.invalidate(cardId))
+                                    .thenReturn(updated));
+                });
+    }
+
+    @Override
+    public Mono<CardDTO> patchCard(UUID cardId, CardDTO cardDTO) {
+        return partialUpdateTemplate
+                .updateNonNull(Card.class, mapper.toEntity(cardDTO), Map.of("card_id", cardId))
+                .map(mapper::toDTO)
+                .flatMap(patched -> outbox.append(CardEventTypeEnum.CARD_UPDATED, cardId, cardId, patched)
+                        .then(activityLog.recordAfterCommit(activity(CardEventTypeEnum.CARD_UPDATED,
+                                cardId, null, patched.getCardStatus())))
+                        .then(cardCache.invalidate(cardId))
+                        .thenReturn(patched));
     }
 
     @Override
     public Mono<Void> deleteCard(UUID cardId) {
         return repository.findByCardId(cardId)
-                .flatMap(repository::delete);
+                .flatMap(card -> repository.delete(card)
+                        .then(outbox.append(CardEventTypeEnum.CARD_DELETED, cardId, cardId, null))
+                        .then(activityLog.recordAfterCommit(activity(CardEventTypeEnum.CARD_DELETED,
+                                cardId, card.getCardStatus(), null))))
+                .then(Mono.defer(() -> cardCache.invalidate(cardId)));
+    }
+
+    /**
+     * The audit entry for a card mutation. Only the card status is kept as the previous and new
+     * value, since the card itself carries its PAN and security codes.
+     */
+    private static CardActivity activity(CardEventTypeEnum eventType, UUID cardId,
+                                         CardStatusEnum previousStatus, CardStatusEnum newStatus) {
+        CardActivity activity = new CardActivity();
+        activity.setCardId(cardId);
+        activity.setActivityType(eventType.name());
+        activity.setActivityCategory("CARD");
+        activity.setActivityTimestamp(LocalDateTime.now());
+        activity.setPreviousValue(previousStatus != null ? previousStatus.name() : null);
+        activity.setNewValue(newStatus != null ? newStatus.name() : null);
+        activity.setRelatedEntityType("CARD");
+        activity.setRelatedEntityId(cardId);
+        activity.setIsSystemInitiated(true);
+        activity.setIsSuccessful(true);
+        return activity;
     }
 }
\ No newline at end of file
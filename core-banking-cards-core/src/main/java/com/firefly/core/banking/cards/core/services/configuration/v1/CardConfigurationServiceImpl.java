@@ -19,16 +19,19 @@ package com.firefly.core.banking.cards.core.services.configuration.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
-import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.configuration.v1.CardConfigurationMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.configuration.v1.CardConfigurationDTO;
 import com.firefly.core.banking.cards.models.entities.configuration.v1.CardConfiguration;
 import com.firefly.core.banking.cards.models.repositories.configuration.v1.CardConfigurationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -41,13 +44,19 @@ public class CardConfigurationServiceImpl implements CardConfigurationService {
     @Autowired
     private CardConfigurationMapper mapper;
 
+    @Autowired
+    private PaginationQueryTemplate paginationQueryTemplate;
+
+    @Autowired
+    private PartialUpdateTemplate partialUpdateTemplate;
+
     @Override
     public Mono<PaginationResponse<CardConfigurationDTO>> listConfigurations(UUID cardId, PaginationRequest paginationRequest) {
-        return PaginationUtils.paginateQuery(
+        return paginationQueryTemplate.paginate(
                 paginationRequest,
-                mapper::toDTO,
-                pageable -> repository.findByCardId(cardId, pageable),
-                () -> repository.countByCardId(cardId)
+                CardConfiguration.class,
+                Criteria.where("cardId").is(cardId),
+                mapper::toDTO
         );
     }
 
@@ -61,27 +70,24 @@ public class CardConfigurationServiceImpl implements CardConfigurationService {
 
     @Override
     public Mono<CardConfigurationDTO> getConfiguration(UUID cardId, UUID configId) {
-        return repository.findByCardConfigurationId(configId)
-                .filter(config -> config.getCardId().equals(cardId))
+        return repository.findByCardIdAndCardConfigurationId(cardId, configId)
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<CardConfigurationDTO> updateConfiguration(UUID cardId, UUID configId, CardConfigurationDTO configDTO) {
-        return repository.findByCardConfigurationId(configId)
-                .filter(config -> config.getCardId().equals(cardId))
-                .flatMap(existingConfig -> {
-                    existingConfig.setConfigType(configDTO.getConfigType());
-                    existingConfig.setConfigValue(configDTO.getConfigValue());
-                    return repository.save(existingConfig);
-                })
+        CardConfiguration changes = new CardConfiguration();
+        changes.setConfigType(configDTO.getConfigType());
+        changes.setConfigValue(configDTO.getConfigValue());
+        return partialUpdateTemplate
+                .updateNonNull(CardConfiguration.class, changes,
+                        Map.of("card_configuration_id", configId, "card_id", cardId))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> deleteConfiguration(UUID cardId, UUID configId) {
-        return repository.findByCardConfigurationId(configId)
-                .filter(config -> config.getCardId().equals(cardId))
-                .flatMap(repository::delete);
+        return repository.deleteByCardIdAndCardConfigurationId(cardId, configId)
+                .then();
     }
 }
\ No newline at end of file
@@ -19,16 +19,21 @@ package com.firefly.core.banking.cards.core.services.dispute.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
-import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.dispute.v1.CardDisputeMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
+import com.firefly.core.banking.cards.core.services.event.v1.CardEventOutbox;
 import com.firefly.core.banking.cards.interfaces.dtos.dispute.v1.CardDisputeDTO;
+import com.firefly.core.banking.cards.interfaces.enums.event.v1.CardEventTypeEnum;
 import com.firefly.core.banking.cards.models.entities.dispute.v1.CardDispute;
 import com.firefly.core.banking.cards.models.repositories.dispute.v1.CardDisputeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -41,13 +46,22 @@ public class CardDisputeServiceImpl implements CardDisputeService {
     @Autowired
     private CardDisputeMapper mapper;
 
+    @Autowired
+    private PaginationQueryTemplate paginationQueryTemplate;
+
+    @Autowired
+    private PartialUpdateTemplate partialUpdateTemplate;
+
+    @Autowired
+    private CardEventOutbox outbox;
+
     @Override
     public Mono<PaginationResponse<CardDisputeDTO>> listDisputes(UUID cardId, PaginationRequest paginationRequest) {
-        return PaginationUtils.paginateQuery(
+        return paginationQueryTemplate.paginate(
                 paginationRequest,
-                mapper::toDTO,
-                pageable -> repository.findByCardId(cardId, pageable),
-                () -> repository.countByCardId(cardId)
+                CardDispute.class,
+                Criteria.where("cardId").is(cardId),
+                mapper::toDTO
         );
     }
 
@@ -56,45 +70,31 @@ public class CardDisputeServiceImpl implements CardDisputeService {
         disputeDTO.setCardId(cardId);
         CardDispute entity = mapper.toEntity(disputeDTO);
         return repository.save(entity)
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(created -> outbox.append(CardEventTypeEnum.DISPUTE_CREATED, cardId, created.getDisputeId(), created)
+                        .thenReturn(created));
     }
 
     @Override
     public Mono<CardDisputeDTO> getDispute(UUID cardId, UUID disputeId) {
-        return repository.findByDisputeId(disputeId)
-                .flatMap(entity -> {
-                    if (!entity.getCardId().equals(cardId)) {
-                        return Mono.error(new RuntimeException("CardDispute not found for the specified card."));
-                    }
-                    return Mono.just(mapper.toDTO(entity));
-                });
+        return repository.findByCardIdAndDisputeId(cardId, disputeId)
+                .map(mapper::toDTO);
     }
 
     @Override
     public Mono<CardDisputeDTO> updateDispute(UUID cardId, UUID disputeId, CardDisputeDTO disputeDTO) {
-        return repository.findByDisputeId(disputeId)
-                .flatMap(existingDispute -> {
-                    if (!existingDispute.getCardId().equals(cardId)) {
-                        return Mono.error(new RuntimeException("CardDispute not found for the specified card."));
-                    }
-                    
-                    CardDispute updatedDispute = mapper.toEntity(disputeDTO);
-                    updatedDispute.setDisputeId(existingDispute.getDisputeId());
-                    updatedDispute.setCardId(cardId);
-                    
-                    return repository.save(updatedDispute);
-                })
-                .map(mapper::toDTO);
+        return partialUpdateTemplate
+                .replace(CardDispute.class, mapper.toEntity(disputeDTO),
+                        Map.of("dispute_id", disputeId, "card_id", cardId))
+                .map(mapper::toDTO)
+                .flatMap(updated -> outbox.append(CardEventTypeEnum.DISPUTE_UPDATED, cardId, disputeId, updated)
+                        .thenReturn(updated));
     }
 
     @Override
     public Mono<Void> deleteDispute(UUID cardId, UUID disputeId) {
-        return repository.findByDisputeId(disputeId)
-                .flatMap(dispute -> {
-                    if (!dispute.getCardId().equals(cardId)) {
-                        return Mono.error(new RuntimeException("CardDispute not found for the specified card."));
-                    }
-                    return repository.delete(dispute);
-                });
+        return repository.deleteByCardIdAndDisputeId(cardId, disputeId)
+                .filter(deleted -> deleted > 0)
+                .flatMap(deleted -> outbox.append(CardEventTypeEnum.DISPUTE_DELETED, cardId, disputeId, null));
     }
 }
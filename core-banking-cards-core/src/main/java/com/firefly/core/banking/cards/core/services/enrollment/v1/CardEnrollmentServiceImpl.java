@@ -19,16 +19,19 @@ package com.firefly.core.banking.cards.core.services.enrollment.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
-import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.enrollment.v1.CardEnrollmentMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.enrollment.v1.CardEnrollmentDTO;
 import com.firefly.core.banking.cards.models.entities.enrollment.v1.CardEnrollment;
 import com.firefly.core.banking.cards.models.repositories.enrollment.v1.CardEnrollmentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -41,13 +44,19 @@ public class CardEnrollmentServiceImpl implements CardEnrollmentService {
     @Autowired
     private CardEnrollmentMapper mapper;
 
+    @Autowired
+    private PaginationQueryTemplate paginationQueryTemplate;
+
+    @Autowired
+    private PartialUpdateTemplate partialUpdateTemplate;
+
     @Override
     public Mono<PaginationResponse<CardEnrollmentDTO>> listEnrollments(UUID cardId, PaginationRequest paginationRequest) {
-        return PaginationUtils.paginateQuery(
+        return paginationQueryTemplate.paginate(
                 paginationRequest,
-                mapper::toDTO,
-                pageable -> repository.findByCardId(cardId, pageable),
-                () -> repository.countByCardId(cardId)
+                CardEnrollment.class,
+                Criteria.where("cardId").is(cardId),
+                mapper::toDTO
         );
     }
 
@@ -61,40 +70,21 @@ public class CardEnrollmentServiceImpl implements CardEnrollmentService {
 
     @Override
     public Mono<CardEnrollmentDTO> getEnrollment(UUID cardId, UUID enrollmentId) {
-        return repository.findByEnrollmentId(enrollmentId)
-                .flatMap(entity -> {
-                    if (!entity.getCardId().equals(cardId)) {
-                        return Mono.error(new RuntimeException("CardEnrollment not found for the specified card."));
-                    }
-                    return Mono.just(mapper.toDTO(entity));
-                });
+        return repository.findByCardIdAndEnrollmentId(cardId, enrollmentId)
+                .map(mapper::toDTO);
     }
 
     @Override
     public Mono<CardEnrollmentDTO> updateEnrollment(UUID cardId, UUID enrollmentId, CardEnrollmentDTO enrollmentDTO) {
-        return repository.findByEnrollmentId(enrollmentId)
-                .flatMap(existingEnrollment -> {
-                    if (!existingEnrollment.getCardId().equals(cardId)) {
-                        return Mono.error(new RuntimeException("CardEnrollment not found for the specified card."));
-                    }
-                    
-                    CardEnrollment updatedEnrollment = mapper.toEntity(enrollmentDTO);
-                    updatedEnrollment.setEnrollmentId(existingEnrollment.getEnrollmentId());
-                    updatedEnrollment.setCardId(cardId);
-                    
-                    return repository.save(updatedEnrollment);
-                })
+        return partialUpdateTemplate
+                .replace(CardEnrollment.class, mapper.toEntity(enrollmentDTO),
+                        Map.of("enrollment_id", enrollmentId, "card_id", cardId))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> deleteEnrollment(UUID cardId, UUID enrollmentId) {
-        return repository.findByEnrollmentId(enrollmentId)
-                .flatMap(enrollment -> {
-                    if (!enrollment.getCardId().equals(cardId)) {
-                        return Mono.error(new RuntimeException("CardEnrollment not found for the specified card."));
-                    }
-                    return repository.delete(enrollment);
-                });
+        return repository.deleteByCardIdAndEnrollmentId(cardId, enrollmentId)
+                .then();
     }
 }
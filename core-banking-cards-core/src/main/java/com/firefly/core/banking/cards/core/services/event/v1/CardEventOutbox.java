@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.event.v1;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.firefly.core.banking.cards.core.config.OutboxProperties;
+import com.firefly.core.banking.cards.core.persistence.BatchInsertTemplate;
+import com.firefly.core.banking.cards.interfaces.enums.event.v1.CardEventTypeEnum;
+import com.firefly.core.banking.cards.models.entities.event.v1.CardOutboxEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Writes card domain events to the card_outbox_event table.
+ * <p>
+ * Services call it inside the transaction of the mutation they describe, so an event is stored
+ * exactly when the change is committed; publishing is left to the {@link OutboxRelay}. Payloads
+ * are the DTO returned by the service, as JSON, without the {@code redacted-fields}.
+ */
+@Component
+public class CardEventOutbox {
+
+    @Autowired
+    private BatchInsertTemplate batchInsertTemplate;
+
+    @Autowired
+    private OutboxProperties properties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Record one event. Must run in the transaction of the change it describes.
+     *
+     * @param eventType the kind of change
+     * @param cardId the card the change belongs to
+     * @param aggregateId the ID of the changed entity
+     * @param payload the changed entity, or null for deletions
+     * @return a Mono completing once the event is written
+     */
+    public Mono<Void> append(CardEventTypeEnum eventType, UUID cardId, UUID aggregateId, Object payload) {
+        if (!properties.isEnabled()) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> List.of(event(eventType, cardId, aggregateId, payload)))
+                .flatMap(events -> batchInsertTemplate.insertAll(CardOutboxEvent.class, events))
+                .then();
+    }
+
+    /**
+     * Record one event per changed entity with a single insert. Must run in the transaction of the
+     * changes.
+     *
+     * @param eventType the kind of change
+     * @param items the changed entities
+     * @param cardId extracts the card ID of an entity
+     * @param aggregateId extracts the ID of an entity
+     * @param payload extracts the payload of an entity, null for deletions
+     * @return a Mono completing once the events are written
+     */
+    public <T> Mono<Void> appendAll(CardEventTypeEnum eventType, List<T> items, Function<T, UUID> cardId,
+                                    Function<T, UUID> aggregateId, Function<T, ?> payload) {
+        if (!properties.isEnabled() || items.isEmpty()) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> {
+                    List<CardOutboxEvent> events = new ArrayList<>(items.size());
+                    for (T item : items) {
+                        events.add(event(eventType, cardId.apply(item), aggregateId.apply(item), payload.apply(item)));
+                    }
+                    return events;
+                })
+                .flatMap(events -> batchInsertTemplate.insertAll(CardOutboxEvent.class, events))
+                .then();
+    }
+
+    /**
+     * The aggregate an event type belongs to: the part of its name before the last underscore,
+     * for example LIMIT for LIMIT_UPDATED.
+     */
+    static String aggregateType(CardEventTypeEnum eventType) {
+        String name = eventType.name();
+        return name.substring(0, name.lastIndexOf('_'));
+    }
+
+    private CardOutboxEvent event(CardEventTypeEnum eventType, UUID cardId, UUID aggregateId, Object payload)
+            throws JsonProcessingException {
+        CardOutboxEvent event = new CardOutboxEvent();
+        event.setCardId(cardId);
+        event.setAggregateType(aggregateType(eventType));
+        event.setAggregateId(aggregateId);
+        event.setEventType(eventType.name());
+        event.setPayload(serialize(payload));
+        return event;
+    }
+
+    private String serialize(Object payload) throws JsonProcessingException {
+        if (payload == null) {
+            return null;
+        }
+        JsonNode tree = objectMapper.valueToTree(payload);
+        if (tree instanceof ObjectNode node) {
+            node.remove(properties.getRedactedFields());
+        }
+        return objectMapper.writeValueAsString(tree);
+    }
+}
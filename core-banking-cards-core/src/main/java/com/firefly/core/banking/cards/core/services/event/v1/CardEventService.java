@@ -0,0 +1,33 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.event.v1;
+
+import com.firefly.core.banking.cards.interfaces.dtos.event.v1.CardEventDTO;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+public interface CardEventService {
+
+    /**
+     * Stream the events of a card as they are published. When a last publish sequence is given,
+     * the events published after it are replayed from the outbox first, so a client resuming a
+     * stream misses nothing still within the retention period.
+     */
+    Flux<CardEventDTO> streamEvents(UUID cardId, Long lastPublishSequence);
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.event.v1;
+
+import com.firefly.core.banking.cards.core.config.OutboxProperties;
+import com.firefly.core.banking.cards.core.mappers.event.v1.CardEventMapper;
+import com.firefly.core.banking.cards.interfaces.dtos.event.v1.CardEventDTO;
+import com.firefly.core.banking.cards.models.repositories.event.v1.CardOutboxEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves per-card event streams from the events this instance publishes through its
+ * {@link LocalCardEventSink}.
+ * <p>
+ * A stream subscribes to live events before it replays the outbox, so nothing published during
+ * the replay is lost; live events already replayed are dropped. The replay resumes from the
+ * publish sequence, which the relay assigns in commit order, so an event committed late is still
+ * replayed to a client that has seen a later one. Live events wait in a buffer of
+ * {@code stream-buffer-size} while the replay runs or the client reads slowly, and the stream
+ * fails once it overflows, leaving the client to resume from its last event.
+ * <p>
+ * Not transactional: a stream lives as long as its client and must not hold a connection.
+ * When several instances relay the outbox, each one only sees live the events it relayed itself;
+ * the others reach the client when it resumes.
+ */
+@Service
+public class CardEventServiceImpl implements CardEventService {
+
+    @Autowired
+    private CardOutboxEventRepository repository;
+
+    @Autowired
+    private CardEventMapper mapper;
+
+    @Autowired
+    private LocalCardEventSink localSink;
+
+    @Autowired
+    private OutboxProperties properties;
+
+    @Override
+    public Flux<CardEventDTO> streamEvents(UUID cardId, Long lastPublishSequence) {
+        return Flux.defer(() -> {
+            Sinks.Many<CardEventDTO> live = Sinks.many().unicast()
+                    .onBackpressureBuffer(new ArrayBlockingQueue<>(properties.getStreamBufferSize()));
+            Disposable subscription = localSink.events()
+                    .filter(event -> cardId.equals(event.getCardId()))
+                    .subscribe(event -> {
+                        if (live.tryEmitNext(event).isFailure()) {
+                            live.tryEmitError(new IllegalStateException("Card event stream fell behind"));
+                        }
+                    });
+            Set<UUID> replayed = ConcurrentHashMap.newKeySet();
+            Flux<CardEventDTO> history = lastPublishSequence == null ? Flux.empty()
+                    : replay(cardId, lastPublishSequence).doOnNext(event -> replayed.add(event.getEventId()));
+            return history
+                    .concatWith(live.asFlux().filter(event -> !replayed.contains(event.getEventId())))
+                    .doFinally(signal -> subscription.dispose());
+        });
+    }
+
+    private Flux<CardEventDTO> replay(UUID cardId, long after) {
+        int pageSize = properties.getStreamCatchUpPageSize();
+        return page(cardId, after, pageSize)
+                .expand(events -> events.size() == pageSize
+                        ? page(cardId, events.get(events.size() - 1).getPublishSequence(), pageSize)
+                        : Mono.empty())
+                .flatMapIterable(events -> events);
+    }
+
+    private Mono<List<CardEventDTO>> page(UUID cardId, long after, int pageSize) {
+        return repository.findByCardIdAndPublishSequenceGreaterThanOrderByPublishSequence(
+                        cardId, after, PageRequest.of(0, pageSize))
+                .map(mapper::toDTO)
+                .collectList();
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.event.v1;
+
+import com.firefly.core.banking.cards.interfaces.dtos.event.v1.CardEventDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Destination of the card events published by the {@link OutboxRelay}. Every sink bean receives
+ * every batch, in publish sequence order.
+ * <p>
+ * A batch is marked published before the sinks receive it, in the same transaction, and is
+ * published again when any of them fails, so sinks see each event at least once and must tolerate duplicates.
+ */
+public interface CardEventSink {
+
+    /**
+     * Publish a batch of events.
+     *
+     * @param events the events, in publish sequence order
+     * @return a Mono completing once the events are published
+     */
+    Mono<Void> publish(List<CardEventDTO> events);
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.event.v1;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.banking.cards.core.config.OutboxProperties;
+import com.firefly.core.banking.cards.interfaces.dtos.event.v1.CardEventDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Appends published card events to {@code file-sink-path}, one JSON document per line. Meant for
+ * tests and local runs, where it stands in for a message broker.
+ */
+@Component
+@ConditionalOnProperty(prefix = "cards.outbox", name = "file-sink-path")
+public class FileCardEventSink implements CardEventSink {
+
+    @Autowired
+    private OutboxProperties properties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public Mono<Void> publish(List<CardEventDTO> events) {
+        return Mono.fromRunnable(() -> {
+                    Path file = Paths.get(properties.getFileSinkPath());
+                    try {
+                        if (file.getParent() != null) {
+                            Files.createDirectories(file.getParent());
+                        }
+                        List<String> lines = new ArrayList<>(events.size());
+                        for (CardEventDTO event : events) {
+                            lines.add(objectMapper.writeValueAsString(event));
+                        }
+                        synchronized (this) {
+                            Files.write(file, lines, StandardCharsets.UTF_8,
+                                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+}
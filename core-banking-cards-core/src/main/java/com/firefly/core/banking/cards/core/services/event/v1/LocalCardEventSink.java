@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.event.v1;
+
+import com.firefly.core.banking.cards.interfaces.dtos.event.v1.CardEventDTO;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+
+/**
+ * Publishes card events to subscribers in this process, such as the per-card event streams.
+ * Subscribers that cannot keep up miss events rather than slowing the relay down.
+ */
+@Component
+public class LocalCardEventSink implements CardEventSink {
+
+    private final Sinks.Many<CardEventDTO> events = Sinks.many().multicast().directBestEffort();
+
+    @Override
+    public Mono<Void> publish(List<CardEventDTO> batch) {
+        return Mono.fromRunnable(() -> {
+            synchronized (events) {
+                for (CardEventDTO event : batch) {
+                    events.tryEmitNext(event);
+                }
+            }
+        });
+    }
+
+    /**
+     * Events published from now on.
+     *
+     * @return a hot Flux of every published event
+     */
+    public Flux<CardEventDTO> events() {
+        return events.asFlux();
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.event.v1;
+
+import com.firefly.core.banking.cards.core.config.OutboxProperties;
+import com.firefly.core.banking.cards.core.mappers.event.v1.CardEventMapper;
+import com.firefly.core.banking.cards.interfaces.dtos.event.v1.CardEventDTO;
+import com.firefly.core.banking.cards.models.entities.event.v1.CardOutboxEvent;
+import com.firefly.core.banking.cards.models.repositories.event.v1.CardOutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes the events written by {@link CardEventOutbox} to every {@link CardEventSink}.
+ * <p>
+ * Every {@code poll-interval} the relay drains the outbox in batches of {@code batch-size}. A
+ * batch is claimed with {@code FOR UPDATE SKIP LOCKED}, marked published and handed to the sinks
+ * in one transaction, so relays on several instances never publish the same batch and a batch
+ * whose publication fails is rolled back and retried on the next run. Events are therefore
+ * published at least once, in sequence order within a batch.
+ * <p>
+ * Marking a batch numbers its events from the publish sequence under a transaction-scoped
+ * advisory lock, which serializes relays from marking to commit. In exchange, publish sequence
+ * numbers become visible in the order they are drawn, and event-stream clients can resume from
+ * them without missing events committed late.
+ * <p>
+ * Published events are deleted once they are older than {@code retention}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "cards.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    @Autowired
+    private CardOutboxEventRepository repository;
+
+    @Autowired
+    private CardEventMapper mapper;
+
+    @Autowired
+    private List<CardEventSink> sinks;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private OutboxProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final AtomicLong pending = new AtomicLong();
+
+    private Timer batchTimer;
+    private Counter published;
+    private Counter failures;
+    private Disposable relayTask;
+    private Disposable cleanupTask;
+
+    @PostConstruct
+    void start() {
+        registerMeters();
+        relayTask = Flux.interval(properties.getPollInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> relayOnce().onErrorResume(e -> Mono.empty()))
+                .subscribe();
+        cleanupTask = Flux.interval(properties.getCleanupInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> cleanup(LocalDateTime.now()).onErrorResume(e -> Mono.empty()))
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (relayTask != null) {
+            relayTask.dispose();
+        }
+        if (cleanupTask != null) {
+            cleanupTask.dispose();
+        }
+    }
+
+    void registerMeters() {
+        batchTimer = Timer.builder("cards.outbox.relay.batch")
+                .description("Time taken to claim, publish and mark a batch of outbox events")
+                .register(meterRegistry);
+        published = Counter.builder("cards.outbox.relay.published")
+                .description("Outbox events published to the sinks")
+                .register(meterRegistry);
+        failures = Counter.builder("cards.outbox.relay.failures")
+                .description("Outbox batches whose publication failed and was rolled back")
+                .register(meterRegistry);
+        Gauge.builder("cards.outbox.pending", pending, AtomicLong::get)
+                .description("Outbox events waiting to be published, as of the last relay run")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publish every unpublished event, batch by batch.
+     *
+     * @return a Mono emitting the number of events published
+     */
+    public Mono<Long> relayOnce() {
+        return relayBatch()
+                .expand(count -> count == properties.getBatchSize() ? relayBatch() : Mono.empty())
+                .reduce(0L, (total, count) -> total + count)
+                .flatMap(total -> repository.countUnpublished()
+                        .doOnNext(pending::set)
+                        .thenReturn(total));
+    }
+
+    /**
+     * Delete the events published before the retention period.
+     *
+     * @param now the reference time
+     * @return a Mono emitting the number of deleted events
+     */
+    public Mono<Integer> cleanup(LocalDateTime now) {
+        return repository.deletePublishedBefore(now.minus(properties.getRetention()));
+    }
+
+    private Mono<Integer> relayBatch() {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return repository.claimUnpublished(properties.getBatchSize())
+                    .collectList()
+                    .flatMap(events -> events.isEmpty() ? Mono.just(0) : publish(events))
+                    .as(transactionalOperator::transactional)
+                    .doOnSuccess(count -> {
+                        sample.stop(batchTimer);
+                        published.increment(count);
+                    })
+                    .doOnError(e -> failures.increment());
+        });
+    }
+
+    private Mono<Integer> publish(List<CardOutboxEvent> events) {
+        UUID[] eventIds = events.stream().map(CardOutboxEvent::getEventId).toArray(UUID[]::new);
+        return repository.markPublished(eventIds, LocalDateTime.now())
+                .sort(Comparator.comparing(CardOutboxEvent::getPublishSequence))
+                .map(mapper::toDTO)
+                .collectList()
+                .flatMap(batch -> Flux.fromIterable(sinks)
+                        .concatMap(sink -> sink.publish(batch))
+                        .then())
+                .thenReturn(events.size());
+    }
+}
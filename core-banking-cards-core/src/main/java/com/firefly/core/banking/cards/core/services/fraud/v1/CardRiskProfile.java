@@ -0,0 +1,163 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.fraud.v1;
+
+import java.util.Arrays;
+
+/**
+ * Aggregates kept per card: the velocity counters, the merchant countries seen in the last day
+ * and the merchant category codes the card has been used at.
+ * <p>
+ * Countries and categories are stored by hash in small primitive arrays. The country slots keep
+ * the most recently seen countries; the category set stops growing at {@link #MAX_CATEGORIES},
+ * after which no category counts as new.
+ * <p>
+ * Not thread-safe; callers hold the lock of the map the profile lives in.
+ */
+class CardRiskProfile extends VelocityCounter {
+
+    static final int COUNTRY_SLOTS = 8;
+    static final int MAX_CATEGORIES = 64;
+
+    private static final long DAY_SECONDS = 86_400;
+
+    private final int[] countries = new int[COUNTRY_SLOTS];
+    private final long[] countriesSeen = new long[COUNTRY_SLOTS];
+
+    private int[] categories = new int[16];
+    private int categoryCount;
+
+    private long transactions;
+
+    CardRiskProfile() {
+        Arrays.fill(countriesSeen, Long.MIN_VALUE);
+    }
+
+    /**
+     * Number of transactions recorded for the card since it was first tracked.
+     */
+    long transactions() {
+        return transactions;
+    }
+
+    @Override
+    void record(long second, long amount) {
+        super.record(second, amount);
+        transactions++;
+    }
+
+    /**
+     * Number of distinct merchant countries in the day ending at the given time if a transaction
+     * in the given country were recorded now. Reads the profile without changing it.
+     */
+    int countriesWith(String country, long second) {
+        int code = country.hashCode();
+        int distinct = 0;
+        boolean seen = false;
+        for (int i = 0; i < COUNTRY_SLOTS; i++) {
+            if (countriesSeen[i] != Long.MIN_VALUE && countriesSeen[i] > second - DAY_SECONDS) {
+                distinct++;
+                seen |= countries[i] == code;
+            }
+        }
+        return seen ? distinct : Math.min(distinct + 1, COUNTRY_SLOTS);
+    }
+
+    /**
+     * Remember a merchant country, replacing the least recently seen one when every slot is taken.
+     */
+    void recordCountry(String country, long second) {
+        int code = country.hashCode();
+        for (int i = 0; i < COUNTRY_SLOTS; i++) {
+            if (countriesSeen[i] != Long.MIN_VALUE && countries[i] == code) {
+                countriesSeen[i] = Math.max(countriesSeen[i], second);
+                return;
+            }
+        }
+        int target = 0;
+        for (int i = 1; i < COUNTRY_SLOTS; i++) {
+            if (countriesSeen[i] < countriesSeen[target]) {
+                target = i;
+            }
+        }
+        countries[target] = code;
+        countriesSeen[target] = second;
+    }
+
+    /**
+     * Whether the card has not been used at a merchant category code before and the category set
+     * still has room for it. Reads the profile without changing it.
+     */
+    boolean isNewCategory(String categoryCode) {
+        return categories[slot(categoryCode(categoryCode))] == 0 && categoryCount < MAX_CATEGORIES;
+    }
+
+    /**
+     * Remember a merchant category code.
+     */
+    void recordCategory(String categoryCode) {
+        int code = categoryCode(categoryCode);
+        int slot = slot(code);
+        if (categories[slot] != 0 || categoryCount >= MAX_CATEGORIES) {
+            return;
+        }
+        categories[slot] = code;
+        categoryCount++;
+        if (categoryCount * 2 > categories.length) {
+            growCategories();
+        }
+    }
+
+    /**
+     * Slot holding a category code, or the empty slot where it would be inserted.
+     */
+    private int slot(int code) {
+        int mask = categories.length - 1;
+        int slot = mix(code) & mask;
+        while (categories[slot] != 0 && categories[slot] != code) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int categoryCode(String categoryCode) {
+        int code = categoryCode.hashCode();
+        return code == 0 ? 1 : code;
+    }
+
+    private void growCategories() {
+        int[] previous = categories;
+        categories = new int[previous.length * 2];
+        int mask = categories.length - 1;
+        for (int code : previous) {
+            if (code != 0) {
+                int slot = mix(code) & mask;
+                while (categories[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                categories[slot] = code;
+            }
+        }
+    }
+
+    private static int mix(int code) {
+        int h = code * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
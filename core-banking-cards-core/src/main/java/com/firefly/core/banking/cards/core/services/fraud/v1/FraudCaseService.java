@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.fraud.v1;
+
+import com.firefly.core.banking.cards.interfaces.dtos.CursorPageResponse;
+import com.firefly.core.banking.cards.interfaces.dtos.fraud.v1.FraudCaseDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.fraud.v1.FraudCaseQueueSummaryDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface FraudCaseService {
+
+    /**
+     * Open a new fraud case. A missing status defaults to OPEN, a missing score to 0 and a missing
+     * detection timestamp to now.
+     */
+    Mono<FraudCaseDTO> createCase(FraudCaseDTO fraudCaseDTO);
+
+    /**
+     * Retrieve a specific fraud case by its unique ID.
+     */
+    Mono<FraudCaseDTO> getCase(UUID fraudCaseId);
+
+    /**
+     * Replace a fraud case. The score and the detection timestamp are required, since they place
+     * the case in its queue.
+     */
+    Mono<FraudCaseDTO> updateCase(UUID fraudCaseId, FraudCaseDTO fraudCaseDTO);
+
+    /**
+     * Partially update a fraud case, for instance to assign it or change its status. Only non-null
+     * fields of the DTO are written.
+     */
+    Mono<FraudCaseDTO> patchCase(UUID fraudCaseId, FraudCaseDTO fraudCaseDTO);
+
+    /**
+     * Delete a fraud case by its unique ID.
+     */
+    Mono<Void> deleteCase(UUID fraudCaseId);
+
+    /**
+     * Scroll the cases of a status, highest score first and oldest first within a score, using
+     * keyset pagination.
+     */
+    Mono<CursorPageResponse<FraudCaseDTO>> scrollStatusQueue(String fraudStatus, String cursor, int size);
+
+    /**
+     * Scroll the cases of a status assigned to an agent, in the same order as the status queues.
+     */
+    Mono<CursorPageResponse<FraudCaseDTO>> scrollAgentQueue(UUID assignedAgentId, String fraudStatus,
+                                                            String cursor, int size);
+
+    /**
+     * Count the cases of every non-empty queue, or of one agent's queues, from the precomputed
+     * summary.
+     */
+    Flux<FraudCaseQueueSummaryDTO> getQueueSummary(UUID assignedAgentId);
+}
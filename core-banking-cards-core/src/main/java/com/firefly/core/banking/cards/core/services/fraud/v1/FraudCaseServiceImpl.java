@@ -0,0 +1,180 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.fraud.v1;
+
+import com.firefly.core.banking.cards.core.mappers.fraud.v1.FraudCaseMapper;
+import com.firefly.core.banking.cards.core.pagination.FraudQueueCursor;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
+import com.firefly.core.banking.cards.interfaces.dtos.CursorPageResponse;
+import com.firefly.core.banking.cards.interfaces.dtos.fraud.v1.FraudCaseDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.fraud.v1.FraudCaseQueueSummaryDTO;
+import com.firefly.core.banking.cards.models.entities.fraud.v1.FraudCase;
+import com.firefly.core.banking.cards.models.repositories.fraud.v1.FraudCaseQueueSummaryRepository;
+import com.firefly.core.banking.cards.models.repositories.fraud.v1.FraudCaseRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+@Service
+@Transactional
+public class FraudCaseServiceImpl implements FraudCaseService {
+
+    static final int MAX_QUEUE_PAGE_SIZE = 200;
+
+    private static final String DEFAULT_STATUS = "OPEN";
+
+    @Autowired
+    private FraudCaseRepository repository;
+
+    @Autowired
+    private FraudCaseQueueSummaryRepository summaryRepository;
+
+    @Autowired
+    private FraudCaseMapper mapper;
+
+    @Autowired
+    private PartialUpdateTemplate partialUpdateTemplate;
+
+    @Override
+    public Mono<FraudCaseDTO> createCase(FraudCaseDTO fraudCaseDTO) {
+        FraudCase entity = mapper.toEntity(fraudCaseDTO);
+        entity.setFraudCaseId(null);
+        if (entity.getFraudStatus() == null) {
+            entity.setFraudStatus(DEFAULT_STATUS);
+        }
+        if (entity.getFraudScore() == null) {
+            entity.setFraudScore(0);
+        }
+        if (entity.getDetectionTimestamp() == null) {
+            entity.setDetectionTimestamp(LocalDateTime.now());
+        }
+        return repository.save(entity)
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Mono<FraudCaseDTO> getCase(UUID fraudCaseId) {
+        return repository.findByFraudCaseId(fraudCaseId)
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Mono<FraudCaseDTO> updateCase(UUID fraudCaseId, FraudCaseDTO fraudCaseDTO) {
+        if (fraudCaseDTO.getFraudScore() == null || fraudCaseDTO.getDetectionTimestamp() == null) {
+            return Mono.error(new IllegalArgumentException("Fraud score and detection timestamp are required"));
+        }
+        return partialUpdateTemplate
+                .replace(FraudCase.class, mapper.toEntity(fraudCaseDTO), Map.of("fraud_case_id", fraudCaseId))
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Mono<FraudCaseDTO> patchCase(UUID fraudCaseId, FraudCaseDTO fraudCaseDTO) {
+        return partialUpdateTemplate
+                .updateNonNull(FraudCase.class, mapper.toEntity(fraudCaseDTO), Map.of("fraud_case_id", fraudCaseId))
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Mono<Void> deleteCase(UUID fraudCaseId) {
+        return repository.deleteByFraudCaseId(fraudCaseId)
+                .filter(deleted -> deleted > 0)
+                .then();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<CursorPageResponse<FraudCaseDTO>> scrollStatusQueue(String fraudStatus, String cursor, int size) {
+        return scroll(cursor, size,
+                limit -> repository.findFirstStatusQueuePage(fraudStatus, limit),
+                (position, limit) -> repository.findStatusQueuePageAfter(fraudStatus, position.getScore(),
+                        position.getTimestamp(), position.getId(), limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<CursorPageResponse<FraudCaseDTO>> scrollAgentQueue(UUID assignedAgentId, String fraudStatus,
+                                                                   String cursor, int size) {
+        return scroll(cursor, size,
+                limit -> repository.findFirstAgentQueuePage(assignedAgentId, fraudStatus, limit),
+                (position, limit) -> repository.findAgentQueuePageAfter(assignedAgentId, fraudStatus,
+                        position.getScore(), position.getTimestamp(), position.getId(), limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<FraudCaseQueueSummaryDTO> getQueueSummary(UUID assignedAgentId) {
+        return (assignedAgentId == null
+                ? summaryRepository.findNonEmpty()
+                : summaryRepository.findNonEmptyByAgent(assignedAgentId))
+                .map(mapper::toDTO);
+    }
+
+    private Mono<CursorPageResponse<FraudCaseDTO>> scroll(String cursor, int size,
+                                                          Function<Integer, Flux<FraudCase>> firstPage,
+                                                          BiFunction<FraudQueueCursor, Integer, Flux<FraudCase>> pageAfter) {
+        if (size < 1 || size > MAX_QUEUE_PAGE_SIZE) {
+            return Mono.error(new IllegalArgumentException(
+                    "Page size must be between 1 and " + MAX_QUEUE_PAGE_SIZE));
+        }
+
+        // Fetch one extra row to know whether another page exists without counting
+        Flux<FraudCase> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = firstPage.apply(size + 1);
+        } else {
+            FraudQueueCursor position;
+            try {
+                position = FraudQueueCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                return Mono.error(e);
+            }
+            rows = pageAfter.apply(position, size + 1);
+        }
+
+        return rows.collectList()
+                .map(cases -> toCursorPage(cases, size));
+    }
+
+    private CursorPageResponse<FraudCaseDTO> toCursorPage(List<FraudCase> cases, int size) {
+        boolean hasNext = cases.size() > size;
+        List<FraudCase> page = hasNext ? cases.subList(0, size) : cases;
+        String nextCursor = null;
+        if (hasNext) {
+            FraudCase last = page.get(page.size() - 1);
+            nextCursor = new FraudQueueCursor(last.getFraudScore(), last.getDetectionTimestamp(),
+                    last.getFraudCaseId()).encode();
+        }
+        return CursorPageResponse.<FraudCaseDTO>builder()
+                .content(page.stream().map(mapper::toDTO).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.fraud.v1;
+
+import com.firefly.core.banking.cards.core.config.FraudScoringProperties;
+import com.firefly.core.banking.cards.core.persistence.BatchInsertTemplate;
+import com.firefly.core.banking.cards.models.entities.fraud.v1.FraudCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the fraud cases opened by the {@link FraudScoringEngine} in batches, off the request path.
+ * <p>
+ * A case is queued once the transaction it refers to has committed, and written with the next
+ * batch: when {@code case-batch-size} cases are waiting or after {@code case-flush-interval}. A
+ * failed batch is retried a few times and then dropped; the transactions keep their fraud score
+ * and flag, so their cases can be reopened from card_transaction. Cases arriving while the queue
+ * is full are dropped the same way.
+ */
+@Component
+public class FraudCaseWriter {
+
+    @Autowired
+    private BatchInsertTemplate batchInsertTemplate;
+
+    @Autowired
+    private FraudScoringProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Sinks.Many<FraudCase> queue;
+    private CompletableFuture<Void> drained;
+
+    private Counter written;
+    private Counter dropped;
+    private Counter failures;
+
+    @PostConstruct
+    void start() {
+        init();
+        drained = queue.asFlux()
+                .bufferTimeout(properties.getCaseBatchSize(), properties.getCaseFlushInterval())
+                .concatMap(this::write)
+                .then()
+                .toFuture();
+    }
+
+    @PreDestroy
+    void stop() throws Exception {
+        synchronized (this) {
+            queue.tryEmitComplete();
+        }
+        drained.get(30, TimeUnit.SECONDS);
+    }
+
+    void init() {
+        queue = Sinks.many().unicast().onBackpressureBuffer(new ArrayBlockingQueue<>(properties.getCaseQueueCapacity()));
+        written = Counter.builder("cards.fraud.cases.written")
+                .description("Fraud cases written to the database")
+                .register(meterRegistry);
+        dropped = Counter.builder("cards.fraud.cases.dropped")
+                .description("Fraud cases dropped because the queue was full or their batch kept failing")
+                .register(meterRegistry);
+        failures = Counter.builder("cards.fraud.cases.failures")
+                .description("Fraud case batches that failed to be written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue a case to be written once the current transaction, if any, has committed.
+     *
+     * @param fraudCase the case to open
+     * @return a Mono completing once the case is queued or scheduled to be
+     */
+    public Mono<Void> open(FraudCase fraudCase) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .flatMap(manager -> {
+                    if (!manager.isSynchronizationActive()) {
+                        return Mono.fromRunnable(() -> enqueue(fraudCase));
+                    }
+                    manager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public Mono<Void> afterCommit() {
+                            return Mono.fromRunnable(() -> enqueue(fraudCase));
+                        }
+                    });
+                    return Mono.<Void>empty();
+                })
+                .onErrorResume(NoTransactionException.class, e -> Mono.fromRunnable(() -> enqueue(fraudCase)))
+                .then();
+    }
+
+    private void enqueue(FraudCase fraudCase) {
+        Sinks.EmitResult result;
+        synchronized (this) {
+            result = queue.tryEmitNext(fraudCase);
+        }
+        if (result.isFailure()) {
+            dropped.increment();
+        }
+    }
+
+    private Mono<Void> write(List<FraudCase> batch) {
+        return batchInsertTemplate.insertAll(FraudCase.class, batch)
+                .doOnError(e -> failures.increment())
+                .retryWhen(Retry.backoff(3, Duration.ofMillis(100)))
+                .doOnNext(rows -> written.increment(batch.size()))
+                .onErrorResume(e -> {
+                    dropped.increment(batch.size());
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.fraud.v1;
+
+import com.firefly.core.banking.cards.core.config.FraudScoringProperties;
+import com.firefly.core.banking.cards.core.services.fraud.v1.VelocityCounter.Window;
+import com.firefly.core.banking.cards.models.entities.fraud.v1.FraudCase;
+import com.firefly.core.banking.cards.models.entities.transaction.v1.CardTransaction;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Value;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scores card transactions for fraud as they are recorded, from velocity aggregates held in
+ * memory per card, device and merchant.
+ * <p>
+ * {@link #score(CardTransaction)} applies a fixed set of weighted rules to the aggregates as they
+ * would be with the transaction counted: too many transactions or too much spent on the card in
+ * the last minute, hour or day, too many merchant countries in a day, a merchant category the card
+ * never used, and bursts on the device or the merchant. The score, the rules that fired and the
+ * suspicion flag are set on the transaction before it is saved; scoring costs a few array reads,
+ * never touches the database and leaves the aggregates unchanged.
+ * <p>
+ * {@link #onSaved(CardTransaction)} counts the transaction in the aggregates once it has committed,
+ * so a failed or rolled back write never inflates them, and opens a fraud case for transactions
+ * scoring {@code case-threshold} or more, written by the {@link FraudCaseWriter}. Transactions
+ * scored concurrently for the same card do not see each other.
+ * <p>
+ * The aggregates start empty on every instance and only see the transactions that instance
+ * saves. Entries idle for longer than {@code idle-timeout} are swept, and at most
+ * {@code max-tracked-keys} entries are kept per dimension; transactions for keys over that bound
+ * are scored as if they were the first.
+ */
+@Component
+public class FraudScoringEngine {
+
+    static final String CARD_VELOCITY_1M = "CARD_VELOCITY_1M";
+    static final String CARD_VELOCITY_1H = "CARD_VELOCITY_1H";
+    static final String CARD_VELOCITY_24H = "CARD_VELOCITY_24H";
+    static final String CARD_AMOUNT_24H = "CARD_AMOUNT_24H";
+    static final String MULTIPLE_COUNTRIES = "MULTIPLE_COUNTRIES";
+    static final String NEW_MCC = "NEW_MCC";
+    static final String DEVICE_VELOCITY_1H = "DEVICE_VELOCITY_1H";
+    static final String MERCHANT_VELOCITY_1M = "MERCHANT_VELOCITY_1M";
+
+    private static final int MAX_SCORE = 100;
+    private static final int CRITICAL_SCORE = 90;
+
+    @Autowired
+    private FraudScoringProperties properties;
+
+    @Autowired
+    private FraudCaseWriter fraudCaseWriter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private StripedLongMap<CardRiskProfile> cards;
+    private StripedLongMap<VelocityCounter> devices;
+    private StripedLongMap<VelocityCounter> merchants;
+
+    private Timer scoringTimer;
+    private Counter flagged;
+    private Disposable sweepTask;
+
+    @PostConstruct
+    void start() {
+        init();
+        sweepTask = Flux.interval(properties.getSweepInterval())
+                .onBackpressureDrop()
+                .subscribe(tick -> sweep(LocalDateTime.now(ZoneOffset.UTC).toEpochSecond(ZoneOffset.UTC)));
+    }
+
+    @PreDestroy
+    void stop() {
+        if (sweepTask != null) {
+            sweepTask.dispose();
+        }
+    }
+
+    void init() {
+        cards = new StripedLongMap<>(properties.getMaxTrackedKeys());
+        devices = new StripedLongMap<>(properties.getMaxTrackedKeys());
+        merchants = new StripedLongMap<>(properties.getMaxTrackedKeys());
+        scoringTimer = Timer.builder("cards.fraud.scoring")
+                .description("Time taken to score a card transaction")
+                .register(meterRegistry);
+        flagged = Counter.builder("cards.fraud.scoring.flagged")
+                .description("Card transactions flagged as suspected fraud")
+                .register(meterRegistry);
+        Gauge.builder("cards.fraud.scoring.tracked", cards, StripedLongMap::size)
+                .description("Number of cards, devices or merchants with aggregates held in memory")
+                .tag("dimension", "card")
+                .register(meterRegistry);
+        Gauge.builder("cards.fraud.scoring.tracked", devices, StripedLongMap::size)
+                .description("Number of cards, devices or merchants with aggregates held in memory")
+                .tag("dimension", "device")
+                .register(meterRegistry);
+        Gauge.builder("cards.fraud.scoring.tracked", merchants, StripedLongMap::size)
+                .description("Number of cards, devices or merchants with aggregates held in memory")
+                .tag("dimension", "merchant")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Set the fraud score, reason and suspicion flag of a transaction without recording it in the
+     * aggregates. Does nothing when scoring is disabled or the transaction has no card.
+     *
+     * @param transaction the transaction about to be saved
+     * @return the assessment, or null when the transaction was not scored
+     */
+    public Assessment score(CardTransaction transaction) {
+        if (!properties.isEnabled() || transaction.getCardId() == null) {
+            return null;
+        }
+        long start = System.nanoTime();
+        long second = second(transaction);
+        long amount = amount(transaction);
+
+        StringBuilder reasons = new StringBuilder();
+        int score = scoreCard(transaction, second, amount, reasons)
+                + scoreDevice(transaction.getDeviceId(), second, amount, reasons)
+                + scoreMerchant(transaction.getMerchantId(), second, amount, reasons);
+        score = Math.min(score, MAX_SCORE);
+
+        transaction.setFraudScore(score);
+        transaction.setIsFraudSuspected(score >= properties.getSuspectThreshold());
+        transaction.setFraudReason(reasons.isEmpty() ? null : reasons.toString());
+        if (Boolean.TRUE.equals(transaction.getIsFraudSuspected())) {
+            flagged.increment();
+        }
+        scoringTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return new Assessment(score, transaction.getFraudReason());
+    }
+
+    /**
+     * Count a saved transaction in the aggregates once the surrounding transaction, if any, has
+     * committed, and open a fraud case for it if its score reaches the case threshold.
+     *
+     * @param transaction the saved transaction
+     * @return a Mono completing once the transaction is recorded or scheduled to be
+     */
+    public Mono<Void> onSaved(CardTransaction transaction) {
+        return afterCommit(() -> record(transaction))
+                .then(openCaseIfSuspected(transaction));
+    }
+
+    /**
+     * Count saved transactions in the aggregates once the surrounding transaction, if any, has
+     * committed, and open fraud cases for those whose score reaches the case threshold.
+     *
+     * @param transactions the saved transactions
+     * @return a Mono completing once the transactions are recorded or scheduled to be
+     */
+    public Mono<Void> onSaved(List<CardTransaction> transactions) {
+        return afterCommit(() -> transactions.forEach(this::record))
+                .then(openCasesIfSuspected(transactions));
+    }
+
+    /**
+     * Count a scored transaction in the aggregates of its card, device and merchant. Transactions
+     * that were not scored are ignored.
+     *
+     * @param transaction the saved transaction
+     */
+    void record(CardTransaction transaction) {
+        if (!properties.isEnabled() || transaction.getCardId() == null || transaction.getFraudScore() == null) {
+            return;
+        }
+        long second = second(transaction);
+        long amount = amount(transaction);
+        UUID cardId = transaction.getCardId();
+        String country = transaction.getMerchantCountry();
+        String categoryCode = transaction.getMerchantCategoryCode();
+        cards.compute(StripedLongMap.key(cardId.getMostSignificantBits(), cardId.getLeastSignificantBits()),
+                CardRiskProfile::new, profile -> {
+                    profile.record(second, amount);
+                    if (country != null && !country.isBlank()) {
+                        profile.recordCountry(country, second);
+                    }
+                    if (categoryCode != null && !categoryCode.isBlank()) {
+                        profile.recordCategory(categoryCode);
+                    }
+                    return null;
+                });
+        recordVelocity(devices, transaction.getDeviceId(), second, amount);
+        recordVelocity(merchants, transaction.getMerchantId(), second, amount);
+    }
+
+    /**
+     * Open a fraud case for a saved transaction if its score reaches the case threshold. The
+     * case is written after the surrounding transaction commits.
+     *
+     * @param transaction the saved transaction
+     * @return a Mono completing once the case is scheduled, or immediately if none is needed
+     */
+    public Mono<Void> openCaseIfSuspected(CardTransaction transaction) {
+        if (!properties.isEnabled() || transaction.getFraudScore() == null
+                || transaction.getFraudScore() < properties.getCaseThreshold()) {
+            return Mono.empty();
+        }
+        return fraudCaseWriter.open(toCase(transaction));
+    }
+
+    /**
+     * Open fraud cases for the saved transactions whose score reaches the case threshold.
+     *
+     * @param transactions the saved transactions
+     * @return a Mono completing once the cases are scheduled
+     */
+    public Mono<Void> openCasesIfSuspected(List<CardTransaction> transactions) {
+        return Flux.fromIterable(transactions)
+                .concatMap(this::openCaseIfSuspected)
+                .then();
+    }
+
+    /**
+     * Drop the aggregates of cards, devices and merchants with no transaction since
+     * {@code idle-timeout} before the given time.
+     *
+     * @return the number of entries dropped
+     */
+    int sweep(long nowSecond) {
+        long cutoff = nowSecond - properties.getIdleTimeout().toSeconds();
+        return cards.removeIf(profile -> profile.lastSeen() < cutoff)
+                + devices.removeIf(counter -> counter.lastSeen() < cutoff)
+                + merchants.removeIf(counter -> counter.lastSeen() < cutoff);
+    }
+
+    private int scoreCard(CardTransaction transaction, long second, long amount, StringBuilder reasons) {
+        UUID cardId = transaction.getCardId();
+        String country = transaction.getMerchantCountry();
+        String categoryCode = transaction.getMerchantCategoryCode();
+        long maxDailyAmount = hundredths(properties.getCardMaxDailyAmount());
+        return cards.compute(StripedLongMap.key(cardId.getMostSignificantBits(), cardId.getLeastSignificantBits()),
+                CardRiskProfile::new, profile -> {
+                    int score = 0;
+                    score += rule(profile.count(Window.MINUTE, second) + 1 > properties.getCardMaxPerMinute(),
+                            30, CARD_VELOCITY_1M, reasons);
+                    score += rule(profile.count(Window.HOUR, second) + 1 > properties.getCardMaxPerHour(),
+                            20, CARD_VELOCITY_1H, reasons);
+                    score += rule(profile.count(Window.DAY, second) + 1 > properties.getCardMaxPerDay(),
+                            10, CARD_VELOCITY_24H, reasons);
+                    score += rule(maxDailyAmount > 0 && profile.amount(Window.DAY, second) + amount > maxDailyAmount,
+                            20, CARD_AMOUNT_24H, reasons);
+                    if (country != null && !country.isBlank()) {
+                        score += rule(profile.countriesWith(country, second) > properties.getCardMaxCountriesPerDay(),
+                                25, MULTIPLE_COUNTRIES, reasons);
+                    }
+                    if (categoryCode != null && !categoryCode.isBlank()) {
+                        score += rule(profile.isNewCategory(categoryCode)
+                                        && profile.transactions() >= properties.getMccNoveltyMinHistory(),
+                                15, NEW_MCC, reasons);
+                    }
+                    return score;
+                });
+    }
+
+    private int scoreDevice(String deviceId, long second, long amount, StringBuilder reasons) {
+        if (deviceId == null || deviceId.isBlank()) {
+            return 0;
+        }
+        int count = devices.compute(StripedLongMap.key(deviceId), VelocityCounter::new,
+                counter -> counter.count(Window.HOUR, second)) + 1;
+        return rule(count > properties.getDeviceMaxPerHour(), 20, DEVICE_VELOCITY_1H, reasons);
+    }
+
+    private int scoreMerchant(String merchantId, long second, long amount, StringBuilder reasons) {
+        if (merchantId == null || merchantId.isBlank()) {
+            return 0;
+        }
+        int count = merchants.compute(StripedLongMap.key(merchantId), VelocityCounter::new,
+                counter -> counter.count(Window.MINUTE, second)) + 1;
+        return rule(count > properties.getMerchantMaxPerMinute(), 10, MERCHANT_VELOCITY_1M, reasons);
+    }
+
+    private static void recordVelocity(StripedLongMap<VelocityCounter> counters, String key, long second, long amount) {
+        if (key == null || key.isBlank()) {
+            return;
+        }
+        counters.compute(StripedLongMap.key(key), VelocityCounter::new, counter -> {
+            counter.record(second, amount);
+            return null;
+        });
+    }
+
+    private static Mono<Void> afterCommit(Runnable action) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .flatMap(manager -> {
+                    if (!manager.isSynchronizationActive()) {
+                        return Mono.fromRunnable(action);
+                    }
+                    manager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public Mono<Void> afterCommit() {
+                            return Mono.fromRunnable(action);
+                        }
+                    });
+                    return Mono.<Void>empty();
+                })
+                .onErrorResume(NoTransactionException.class, e -> Mono.fromRunnable(action))
+                .then();
+    }
+
+    private static long second(CardTransaction transaction) {
+        LocalDateTime timestamp = transaction.getTransactionTimestamp() != null
+                ? transaction.getTransactionTimestamp() : LocalDateTime.now(ZoneOffset.UTC);
+        return timestamp.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static long amount(CardTransaction transaction) {
+        return hundredths(transaction.getBillingAmount() != null
+                ? transaction.getBillingAmount() : transaction.getTransactionAmount());
+    }
+
+    private static int rule(boolean fired, int weight, String code, StringBuilder reasons) {
+        if (!fired) {
+            return 0;
+        }
+        if (!reasons.isEmpty()) {
+            reasons.append(',');
+        }
+        reasons.append(code);
+        return weight;
+    }
+
+    private FraudCase toCase(CardTransaction transaction) {
+        String reasons = transaction.getFraudReason();
+        FraudCase fraudCase = new FraudCase();
+        fraudCase.setFraudCaseId(UUID.randomUUID());
+        fraudCase.setCardId(transaction.getCardId());
+        fraudCase.setTransactionId(transaction.getCardTransactionId());
+        fraudCase.setPartyId(transaction.getPartyId());
+        fraudCase.setAccountId(transaction.getAccountId());
+        fraudCase.setFraudType("VELOCITY");
+        fraudCase.setFraudReasonCode(reasons == null ? null : reasons.split(",", 2)[0]);
+        fraudCase.setFraudReasonDescription(reasons);
+        fraudCase.setFraudStatus("OPEN");
+        fraudCase.setFraudScore(transaction.getFraudScore());
+        fraudCase.setRiskLevel(transaction.getFraudScore() >= CRITICAL_SCORE ? "CRITICAL" : "HIGH");
+        fraudCase.setDetectionSource("SCORING_ENGINE");
+        fraudCase.setDetectionTimestamp(LocalDateTime.now());
+        fraudCase.setAffectedAmount(transaction.getTransactionAmount());
+        fraudCase.setAffectedCurrency(transaction.getTransactionCurrency());
+        fraudCase.setReportedByParty(false);
+        fraudCase.setIsCardBlocked(false);
+        fraudCase.setIsPartyNotified(false);
+        fraudCase.setIsCardholderCredited(false);
+        fraudCase.setIsPoliceReportFiled(false);
+        return fraudCase;
+    }
+
+    private static long hundredths(BigDecimal amount) {
+        return amount == null ? 0L : amount.movePointRight(2).longValue();
+    }
+
+    /**
+     * Outcome of scoring one transaction.
+     */
+    @Value
+    public static class Assessment {
+        int score;
+        String reasons;
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.fraud.v1;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Map from 64-bit keys to aggregates, split into independently locked stripes.
+ * <p>
+ * Each stripe is an open-addressing table over a {@code long[]} of keys with linear probing, so
+ * lookups neither box the key nor allocate entries. Keys are 64-bit hashes of the card, device or
+ * merchant identifier; two identifiers sharing a hash would share aggregates, which at 64 bits is
+ * not a practical concern.
+ */
+class StripedLongMap<V> {
+
+    private static final int STRIPES = 64;
+
+    private final Stripe<V>[] stripes;
+    private final int maxPerStripe;
+
+    @SuppressWarnings("unchecked")
+    StripedLongMap(int maxSize) {
+        stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe<>();
+        }
+        maxPerStripe = Math.max(1, maxSize / STRIPES);
+    }
+
+    /**
+     * Apply an action to the value of a key under the lock of its stripe, creating the value
+     * first if needed. When the stripe is full a missing value is created for this call only.
+     *
+     * @param key the key
+     * @param factory creates a missing value
+     * @param action reads or updates the value
+     * @return the result of the action
+     */
+    <R> R compute(long key, Supplier<V> factory, Function<V, R> action) {
+        long hash = mix(key);
+        Stripe<V> stripe = stripes[(int) (hash >>> 58)];
+        synchronized (stripe) {
+            V value = stripe.get(key, hash);
+            if (value == null) {
+                value = factory.get();
+                if (stripe.size < maxPerStripe) {
+                    stripe.put(key, hash, value);
+                }
+            }
+            return action.apply(value);
+        }
+    }
+
+    /**
+     * Remove every value matching the predicate.
+     *
+     * @return the number of removed values
+     */
+    int removeIf(Predicate<V> predicate) {
+        int removed = 0;
+        for (Stripe<V> stripe : stripes) {
+            synchronized (stripe) {
+                removed += stripe.removeIf(predicate);
+            }
+        }
+        return removed;
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe<V> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 64-bit key of a UUID.
+     */
+    static long key(long mostSignificantBits, long leastSignificantBits) {
+        return mostSignificantBits * 0x9E3779B97F4A7C15L + leastSignificantBits;
+    }
+
+    /**
+     * 64-bit FNV-1a hash of a string.
+     */
+    static long key(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long key) {
+        key = (key ^ (key >>> 33)) * 0xFF51AFD7ED558CCDL;
+        key = (key ^ (key >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return key ^ (key >>> 33);
+    }
+
+    private static final class Stripe<V> {
+
+        private long[] keys = new long[16];
+        private Object[] values = new Object[16];
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        V get(long key, long hash) {
+            int mask = keys.length - 1;
+            for (int slot = (int) hash & mask; values[slot] != null; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return (V) values[slot];
+                }
+            }
+            return null;
+        }
+
+        void put(long key, long hash, V value) {
+            if ((size + 1) * 2 > keys.length) {
+                resize(keys.length * 2);
+            }
+            insert(key, hash, value);
+            size++;
+        }
+
+        @SuppressWarnings("unchecked")
+        int removeIf(Predicate<V> predicate) {
+            long[] oldKeys = keys;
+            Object[] oldValues = values;
+            int removed = 0;
+            for (Object value : oldValues) {
+                if (value != null && predicate.test((V) value)) {
+                    removed++;
+                }
+            }
+            if (removed == 0) {
+                return 0;
+            }
+            // Rebuilding is simpler than backward-shift deletion and the sweep runs rarely
+            int capacity = 16;
+            while ((size - removed) * 2 > capacity) {
+                capacity *= 2;
+            }
+            keys = new long[capacity];
+            values = new Object[capacity];
+            size = 0;
+            for (int i = 0; i < oldValues.length; i++) {
+                if (oldValues[i] != null && !predicate.test((V) oldValues[i])) {
+                    insert(oldKeys[i], mix(oldKeys[i]), oldValues[i]);
+                    size++;
+                }
+            }
+            return removed;
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            Object[] oldValues = values;
+            keys = new long[capacity];
+            values = new Object[capacity];
+            for (int i = 0; i < oldValues.length; i++) {
+                if (oldValues[i] != null) {
+                    insert(oldKeys[i], mix(oldKeys[i]), oldValues[i]);
+                }
+            }
+        }
+
+        private void insert(long key, long hash, Object value) {
+            int mask = keys.length - 1;
+            int slot = (int) hash & mask;
+            while (values[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.fraud.v1;
+
+import java.util.Arrays;
+
+/**
+ * Transaction count and amount of one card, device or merchant over the last minute, hour and
+ * day.
+ * <p>
+ * Each window is a ring of time buckets: 12 of 5 seconds, 12 of 5 minutes and 24 of 1 hour. A
+ * bucket is reused once the ring has wrapped around to it, so recording and reading are constant
+ * time and allocation free, and a window covers its full length minus at most one bucket.
+ * Transactions older than a window are ignored by it.
+ * <p>
+ * Not thread-safe; callers hold the lock of the map the counter lives in.
+ */
+class VelocityCounter {
+
+    enum Window {
+        MINUTE(5, 12),
+        HOUR(300, 12),
+        DAY(3600, 24);
+
+        final long bucketSeconds;
+        final int buckets;
+
+        Window(long bucketSeconds, int buckets) {
+            this.bucketSeconds = bucketSeconds;
+            this.buckets = buckets;
+        }
+    }
+
+    private static final Window[] WINDOWS = Window.values();
+
+    private final long[][] epochs = new long[WINDOWS.length][];
+    private final int[][] counts = new int[WINDOWS.length][];
+    private final long[][] amounts = new long[WINDOWS.length][];
+
+    private long lastSeen = Long.MIN_VALUE;
+
+    VelocityCounter() {
+        for (Window window : WINDOWS) {
+            int w = window.ordinal();
+            epochs[w] = new long[window.buckets];
+            counts[w] = new int[window.buckets];
+            amounts[w] = new long[window.buckets];
+            Arrays.fill(epochs[w], Long.MIN_VALUE);
+        }
+    }
+
+    /**
+     * Count a transaction.
+     *
+     * @param second the transaction time in epoch seconds
+     * @param amount the transaction amount in hundredths
+     */
+    void record(long second, long amount) {
+        for (Window window : WINDOWS) {
+            int w = window.ordinal();
+            long bucket = Math.floorDiv(second, window.bucketSeconds);
+            int slot = (int) Math.floorMod(bucket, (long) window.buckets);
+            if (epochs[w][slot] != bucket) {
+                if (epochs[w][slot] > bucket) {
+                    continue;
+                }
+                epochs[w][slot] = bucket;
+                counts[w][slot] = 0;
+                amounts[w][slot] = 0;
+            }
+            counts[w][slot]++;
+            amounts[w][slot] += amount;
+        }
+        lastSeen = Math.max(lastSeen, second);
+    }
+
+    /**
+     * Number of transactions in the window ending at the given time.
+     */
+    int count(Window window, long second) {
+        int w = window.ordinal();
+        long bucket = Math.floorDiv(second, window.bucketSeconds);
+        int total = 0;
+        for (int slot = 0; slot < window.buckets; slot++) {
+            if (inWindow(epochs[w][slot], bucket, window)) {
+                total += counts[w][slot];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Sum of the transaction amounts in the window ending at the given time, in hundredths.
+     */
+    long amount(Window window, long second) {
+        int w = window.ordinal();
+        long bucket = Math.floorDiv(second, window.bucketSeconds);
+        long total = 0;
+        for (int slot = 0; slot < window.buckets; slot++) {
+            if (inWindow(epochs[w][slot], bucket, window)) {
+                total += amounts[w][slot];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Time of the latest transaction recorded, in epoch seconds.
+     */
+    long lastSeen() {
+        return lastSeen;
+    }
+
+    private static boolean inWindow(long epoch, long bucket, Window window) {
+        return epoch <= bucket && epoch > bucket - window.buckets;
+    }
+}
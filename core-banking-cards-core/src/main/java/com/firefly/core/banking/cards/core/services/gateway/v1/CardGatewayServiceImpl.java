@@ -19,12 +19,13 @@ package com.firefly.core.banking.cards.core.services.gateway.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
-import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.gateway.v1.CardGatewayMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.gateway.v1.CardGatewayDTO;
 import com.firefly.core.banking.cards.models.entities.gateway.v1.CardGateway;
 import com.firefly.core.banking.cards.models.repositories.gateway.v1.CardGatewayRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -41,13 +42,16 @@ public class CardGatewayServiceImpl implements CardGatewayService {
     @Autowired
     private CardGatewayMapper mapper;
 
+    @Autowired
+    private PaginationQueryTemplate paginationQueryTemplate;
+
     @Override
     public Mono<PaginationResponse<CardGatewayDTO>> listGateways(PaginationRequest paginationRequest) {
-        return PaginationUtils.paginateQuery(
+        return paginationQueryTemplate.paginate(
                 paginationRequest,
-                mapper::toDTO,
-                repository::findAllBy,
-                repository::count
+                CardGateway.class,
+                Criteria.empty(),
+                mapper::toDTO
         );
     }
 
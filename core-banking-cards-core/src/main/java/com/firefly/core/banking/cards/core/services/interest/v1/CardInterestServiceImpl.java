@@ -19,16 +19,19 @@ package com.firefly.core.banking.cards.core.services.interest.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
-import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.interest.v1.CardInterestMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.interest.v1.CardInterestDTO;
 import com.firefly.core.banking.cards.models.entities.interest.v1.CardInterest;
 import com.firefly.core.banking.cards.models.repositories.interest.v1.CardInterestRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -41,13 +44,19 @@ public class CardInterestServiceImpl implements CardInterestService {
     @Autowired
     private CardInterestMapper mapper;
 
+    @Autowired
+    private PaginationQueryTemplate paginationQueryTemplate;
+
+    @Autowired
+    private PartialUpdateTemplate partialUpdateTemplate;
+
     @Override
     public Mono<PaginationResponse<CardInterestDTO>> listInterests(UUID cardId, PaginationRequest paginationRequest) {
-        return PaginationUtils.paginateQuery(
+        return paginationQueryTemplate.paginate(
                 paginationRequest,
-                mapper::toDTO,
-                pageable -> repository.findByCardId(cardId, pageable),
-                () -> repository.countByCardId(cardId)
+                CardInterest.class,
+                Criteria.where("cardId").is(cardId),
+                mapper::toDTO
         );
     }
 
@@ -61,40 +70,21 @@ public class CardInterestServiceImpl implements CardInterestService {
 
     @Override
     public Mono<CardInterestDTO> getInterest(UUID cardId, UUID interestId) {
-        return repository.findByInterestId(interestId)
-                .flatMap(entity -> {
-                    if (!entity.getCardId().equals(cardId)) {
-                        return Mono.error(new RuntimeException("CardInterest not found for the specified card."));
-                    }
-                    return Mono.just(mapper.toDTO(entity));
-                });
+        return repository.findByCardIdAndInterestId(cardId, interestId)
+                .map(mapper::toDTO);
     }
 
     @Override
     public Mono<CardInterestDTO> updateInterest(UUID cardId, UUID interestId, CardInterestDTO interestDTO) {
-        return repository.findByInterestId(interestId)
-                .flatMap(existingInterest -> {
-                    if (!existingInterest.getCardId().equals(cardId)) {
-                        return Mono.error(new RuntimeException("CardInterest not found for the specified card."));
-                    }
-                    
-                    CardInterest updatedInterest = mapper.toEntity(interestDTO);
-                    updatedInterest.setInterestId(existingInterest.getInterestId());
-                    updatedInterest.setCardId(cardId);
-                    
-                    return repository.save(updatedInterest);
-                })
+        return partialUpdateTemplate
+                .replace(CardInterest.class, mapper.toEntity(interestDTO),
+                        Map.of("interest_id", interestId, "card_id", cardId))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> deleteInterest(UUID cardId, UUID interestId) {
-        return repository.findByInterestId(interestId)
-                .flatMap(interest -> {
-                    if (!interest.getCardId().equals(cardId)) {
-                        return Mono.error(new RuntimeException("CardInterest not found for the specified card."));
-                    }
-                    return repository.delete(interest);
-                });
+        return repository.deleteByCardIdAndInterestId(cardId, interestId)
+                .then();
     }
 }
@@ -0,0 +1,367 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.issuance.v1;
+
+import com.firefly.core.banking.cards.core.config.CardIssuanceProperties;
+import com.firefly.core.banking.cards.core.mappers.card.v1.CardMapper;
+import com.firefly.core.banking.cards.core.mappers.issuance.v1.CardIssuanceMapper;
+import com.firefly.core.banking.cards.core.persistence.BatchInsertTemplate;
+import com.firefly.core.banking.cards.core.services.event.v1.CardEventOutbox;
+import com.firefly.core.banking.cards.interfaces.enums.card.v1.CardStatusEnum;
+import com.firefly.core.banking.cards.interfaces.enums.event.v1.CardEventTypeEnum;
+import com.firefly.core.banking.cards.models.entities.bin.v1.BIN;
+import com.firefly.core.banking.cards.models.entities.card.v1.Card;
+import com.firefly.core.banking.cards.models.entities.issuance.v1.CardIssuanceJob;
+import com.firefly.core.banking.cards.models.entities.limit.v1.CardLimit;
+import com.firefly.core.banking.cards.models.entities.physical.v1.PhysicalCard;
+import com.firefly.core.banking.cards.models.entities.program.v1.CardProgram;
+import com.firefly.core.banking.cards.models.entities.security.v1.CardSecurity;
+import com.firefly.core.banking.cards.models.repositories.bin.v1.BINRepository;
+import com.firefly.core.banking.cards.models.repositories.issuance.v1.CardIssuanceJobRepository;
+import com.firefly.core.banking.cards.models.repositories.limit.v1.CardLimitRepository;
+import com.firefly.core.banking.cards.models.repositories.program.v1.CardProgramRepository;
+import com.firefly.core.banking.cards.models.repositories.security.v1.CardSecurityRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Value;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Issues the cards of bulk issuance jobs in the background.
+ * <p>
+ * A job is written in chunks of {@code chunk-size} cards. For each chunk the card numbers are
+ * allocated by {@link PanAllocator}, then one transaction advances the job's issued count and
+ * inserts the cards, their physical cards, limits and security features and their CARD_CREATED
+ * outbox events with multi-row inserts. A chunk is therefore issued entirely or not at all, and a
+ * job that fails or whose node stops can be resumed from its issued count. Each claim of a job
+ * increments its attempts, and the runner only records progress or failure under the attempts of
+ * the claim it was launched with, so a node that lost a stale job to another one stops at its next
+ * chunk without disturbing the new owner.
+ * <p>
+ * New cards get the limits and security features the program marks as defaults. A program
+ * without default limits gets daily and monthly spending limits from its default amounts, and
+ * one without default security features a PIN if it requires one. Cards of programs that require
+ * activation are issued INACTIVE.
+ */
+@Component
+public class CardIssuanceRunner {
+
+    static final String MANUFACTURING_PENDING = "PENDING";
+
+    @Autowired
+    private CardIssuanceJobRepository repository;
+
+    @Autowired
+    private CardProgramRepository programRepository;
+
+    @Autowired
+    private BINRepository binRepository;
+
+    @Autowired
+    private CardLimitRepository limitRepository;
+
+    @Autowired
+    private CardSecurityRepository securityRepository;
+
+    @Autowired
+    private PanAllocator panAllocator;
+
+    @Autowired
+    private BatchInsertTemplate batchInsertTemplate;
+
+    @Autowired
+    private CardEventOutbox outbox;
+
+    @Autowired
+    private CardMapper cardMapper;
+
+    @Autowired
+    private CardIssuanceMapper mapper;
+
+    @Autowired
+    private CardIssuanceProperties properties;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<UUID, Disposable> running = new ConcurrentHashMap<>();
+
+    private Counter issued;
+
+    @PostConstruct
+    void init() {
+        issued = Counter.builder("cards.issuance.cards.issued")
+                .description("Cards written by bulk issuance jobs")
+                .register(meterRegistry);
+        Gauge.builder("cards.issuance.jobs.running", running, Map::size)
+                .description("Bulk issuance jobs running on this instance")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Stop the jobs running on this instance. They stay RUNNING in the database and can be
+     * resumed once {@code stale-after} has passed.
+     */
+    @PreDestroy
+    void stop() {
+        running.values().forEach(Disposable::dispose);
+        running.clear();
+    }
+
+    /**
+     * Start issuing the remaining cards of a job that was claimed for this instance, and return
+     * without waiting for them.
+     *
+     * @param issuanceJobId the card issuance job ID
+     * @param attempts      the attempt count of the claim
+     */
+    public void launch(UUID issuanceJobId, int attempts) {
+        Disposable.Swap task = Disposables.swap();
+        running.put(issuanceJobId, task);
+        task.update(run(issuanceJobId, attempts)
+                .doFinally(signal -> running.remove(issuanceJobId, task))
+                .subscribe());
+    }
+
+    /**
+     * Issue the remaining cards of a job, marking it failed if anything goes wrong. Does nothing
+     * if the job was claimed again since.
+     */
+    Mono<Void> run(UUID issuanceJobId, int attempts) {
+        return repository.findByIssuanceJobId(issuanceJobId)
+                .filter(job -> Integer.valueOf(attempts).equals(job.getAttempts()))
+                .flatMap(this::plan)
+                .flatMap(this::issue)
+                .onErrorResume(e -> repository.markFailed(issuanceJobId, attempts, String.valueOf(e.getMessage())).then());
+    }
+
+    private Mono<IssuancePlan> plan(CardIssuanceJob job) {
+        return programRepository.findByProgramId(job.getProgramId())
+                .switchIfEmpty(Mono.error(new IllegalStateException("Card program " + job.getProgramId() + " not found")))
+                .flatMap(program -> binRepository.findByBinId(program.getBinId())
+                        .switchIfEmpty(Mono.error(new IllegalStateException("BIN " + program.getBinId() + " not found")))
+                        .zipWith(Mono.zip(
+                                limitRepository.findProgramDefaults(program.getProgramId()).collectList(),
+                                securityRepository.findProgramDefaults(program.getProgramId()).collectList()))
+                        .map(loaded -> new IssuancePlan(job, program, loaded.getT1(),
+                                limitTemplates(program, loaded.getT2().getT1()),
+                                securityTemplates(program, loaded.getT2().getT2()))));
+    }
+
+    private Mono<Void> issue(IssuancePlan plan) {
+        CardIssuanceJob job = plan.getJob();
+        int requested = job.getRequestedCount();
+        int chunkSize = job.getChunkSize();
+        int from = job.getIssuedCount();
+        int chunks = (requested - from + chunkSize - 1) / chunkSize;
+        return Flux.range(0, chunks)
+                .concatMap(chunk -> {
+                    int offset = from + chunk * chunkSize;
+                    return panAllocator.allocate(plan.getBin(), Math.min(chunkSize, requested - offset))
+                            .flatMap(pans -> writeChunk(plan, offset, pans));
+                })
+                .then();
+    }
+
+    /**
+     * Write the cards of one chunk and everything that comes with them in one transaction.
+     * The job's progress is advanced first, which locks its row for the rest of the chunk.
+     */
+    private Mono<Void> writeChunk(IssuancePlan plan, int offset, List<String> pans) {
+        UUID issuanceJobId = plan.getJob().getIssuanceJobId();
+        int attempts = plan.getJob().getAttempts();
+        LocalDateTime now = LocalDateTime.now();
+        List<Card> cards = new ArrayList<>(pans.size());
+        List<PhysicalCard> physicalCards = new ArrayList<>();
+        List<CardLimit> limits = new ArrayList<>(pans.size() * plan.getLimits().size());
+        List<CardSecurity> securities = new ArrayList<>(pans.size() * plan.getSecurities().size());
+        for (String pan : pans) {
+            Card card = card(plan, pan, now);
+            cards.add(card);
+            if (Boolean.TRUE.equals(card.getIsPhysical())) {
+                physicalCards.add(physicalCard(plan, card));
+            }
+            for (CardLimit template : plan.getLimits()) {
+                CardLimit limit = mapper.copy(template);
+                limit.setCardId(card.getCardId());
+                limit.setIsProgramDefault(false);
+                limit.setCurrentUsage(BigDecimal.ZERO);
+                limit.setAvailableAmount(limit.getLimitAmount());
+                limits.add(limit);
+            }
+            for (CardSecurity template : plan.getSecurities()) {
+                CardSecurity security = mapper.copy(template);
+                security.setCardId(card.getCardId());
+                security.setIsProgramDefault(false);
+                security.setActivationDate(Boolean.FALSE.equals(security.getIsEnabled()) ? null : now);
+                securities.add(security);
+            }
+        }
+        return repository.recordProgress(issuanceJobId, attempts, offset, pans.size())
+                .flatMap(updated -> {
+                    if (updated == 0) {
+                        return Mono.error(new IllegalStateException("Issuance job " + issuanceJobId
+                                + " is no longer running on this instance"));
+                    }
+                    return batchInsertTemplate.insertAll(Card.class, cards)
+                            .then(batchInsertTemplate.insertAll(PhysicalCard.class, physicalCards))
+                            .then(batchInsertTemplate.insertAll(CardLimit.class, limits))
+                            .then(batchInsertTemplate.insertAll(CardSecurity.class, securities))
+                            .then(outbox.appendAll(CardEventTypeEnum.CARD_CREATED, cards,
+                                    Card::getCardId, Card::getCardId, cardMapper::toDTO));
+                })
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(done -> issued.increment(pans.size()));
+    }
+
+    private Card card(IssuancePlan plan, String pan, LocalDateTime now) {
+        CardIssuanceJob job = plan.getJob();
+        CardProgram program = plan.getProgram();
+        int validityYears = program.getDefaultCardValidityYears() != null
+                ? program.getDefaultCardValidityYears()
+                : properties.getDefaultValidityYears();
+        YearMonth expiration = YearMonth.from(now).plusYears(validityYears);
+        boolean physical = Boolean.TRUE.equals(job.getIsPhysical());
+        boolean active = !Boolean.TRUE.equals(program.getRequiresActivation());
+
+        Card card = new Card();
+        card.setCardId(UUID.randomUUID());
+        card.setCardNumber(pan);
+        card.setMaskedCardNumber(mask(pan));
+        card.setBinId(program.getBinId());
+        card.setCardTypeId(program.getCardTypeId());
+        card.setCardNetworkId(program.getCardNetworkId());
+        card.setIssuerId(program.getIssuerId());
+        card.setContractId(job.getContractId());
+        card.setAccountId(job.getAccountId());
+        card.setPartyId(job.getPartyId());
+        card.setCardStatus(active ? CardStatusEnum.ACTIVE : CardStatusEnum.INACTIVE);
+        card.setCardHolderName(job.getCardHolderName());
+        card.setExpirationMonth(expiration.getMonthValue());
+        card.setExpirationYear(expiration.getYear());
+        card.setIssuanceDate(now);
+        card.setExpirationDate(expiration.atEndOfMonth().atTime(23, 59, 59));
+        card.setIsPhysical(physical);
+        card.setIsVirtual(!physical);
+        card.setIsPrimary(true);
+        card.setIsActive(active);
+        card.setIsLocked(false);
+        card.setDailyLimit(program.getDefaultDailyLimit());
+        card.setMonthlyLimit(program.getDefaultMonthlyLimit());
+        card.setCreditLimit(program.getDefaultCreditLimit());
+        card.setCurrencyCode(program.getCurrencyCode());
+        card.setDesignId(program.getDefaultDesignId());
+        return card;
+    }
+
+    private static PhysicalCard physicalCard(IssuancePlan plan, Card card) {
+        PhysicalCard physicalCard = new PhysicalCard();
+        physicalCard.setCardId(card.getCardId());
+        physicalCard.setEmbossedName(card.getCardHolderName());
+        physicalCard.setDesignId(card.getDesignId());
+        physicalCard.setIsContactless(!Boolean.FALSE.equals(plan.getProgram().getSupportsContactless()));
+        physicalCard.setIsChip(true);
+        physicalCard.setIsMagstripe(true);
+        physicalCard.setManufacturingStatus(MANUFACTURING_PENDING);
+        physicalCard.setIsActivated(false);
+        return physicalCard;
+    }
+
+    private static List<CardLimit> limitTemplates(CardProgram program, List<CardLimit> defaults) {
+        if (!defaults.isEmpty()) {
+            return defaults;
+        }
+        List<CardLimit> templates = new ArrayList<>(2);
+        if (program.getDefaultDailyLimit() != null) {
+            templates.add(limitTemplate(program, "DAILY_SPENDING", "DAILY", program.getDefaultDailyLimit()));
+        }
+        if (program.getDefaultMonthlyLimit() != null) {
+            templates.add(limitTemplate(program, "MONTHLY_SPENDING", "MONTHLY", program.getDefaultMonthlyLimit()));
+        }
+        return templates;
+    }
+
+    private static CardLimit limitTemplate(CardProgram program, String limitType, String resetPeriod, Double amount) {
+        CardLimit limit = new CardLimit();
+        limit.setProgramId(program.getProgramId());
+        limit.setLimitType(limitType);
+        limit.setLimitCode(limitType);
+        limit.setCurrencyCode(program.getCurrencyCode());
+        limit.setLimitAmount(BigDecimal.valueOf(amount));
+        limit.setResetPeriod(resetPeriod);
+        limit.setIsActive(true);
+        limit.setIsPartyConfigurable(true);
+        return limit;
+    }
+
+    private static List<CardSecurity> securityTemplates(CardProgram program, List<CardSecurity> defaults) {
+        if (!defaults.isEmpty() || !Boolean.TRUE.equals(program.getRequiresPin())) {
+            return defaults;
+        }
+        CardSecurity pin = new CardSecurity();
+        pin.setProgramId(program.getProgramId());
+        pin.setSecurityFeatureName("PIN");
+        pin.setSecurityFeatureCode("PIN_ENABLED");
+        pin.setIsEnabled(true);
+        pin.setIsMandatory(true);
+        pin.setSupportsPin(true);
+        return List.of(pin);
+    }
+
+    /**
+     * Keep the first six and last four digits of a card number and mask the rest.
+     */
+    static String mask(String pan) {
+        return pan.substring(0, 6) + "*".repeat(pan.length() - 10) + pan.substring(pan.length() - 4);
+    }
+
+    int runningJobs() {
+        return running.size();
+    }
+
+    @Value
+    static class IssuancePlan {
+        CardIssuanceJob job;
+        CardProgram program;
+        BIN bin;
+        List<CardLimit> limits;
+        List<CardSecurity> securities;
+    }
+}
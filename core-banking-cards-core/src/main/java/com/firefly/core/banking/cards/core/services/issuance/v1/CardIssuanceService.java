@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.issuance.v1;
+
+import com.firefly.core.banking.cards.interfaces.dtos.issuance.v1.CardIssuanceJobDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface CardIssuanceService {
+
+    /**
+     * Create a bulk issuance job for a program and start issuing its cards in the background.
+     * The program must be active and have a BIN.
+     */
+    Mono<CardIssuanceJobDTO> createJob(CardIssuanceJobDTO jobDTO);
+
+    /**
+     * Retrieve a bulk issuance job, including how many of its cards have been issued.
+     */
+    Mono<CardIssuanceJobDTO> getJob(UUID issuanceJobId);
+
+    /**
+     * Resume a failed job, or a running job that stopped making progress, from the cards it
+     * already issued.
+     */
+    Mono<CardIssuanceJobDTO> resumeJob(UUID issuanceJobId);
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.issuance.v1;
+
+import com.firefly.core.banking.cards.core.config.CardIssuanceProperties;
+import com.firefly.core.banking.cards.core.mappers.issuance.v1.CardIssuanceMapper;
+import com.firefly.core.banking.cards.interfaces.dtos.issuance.v1.CardIssuanceJobDTO;
+import com.firefly.core.banking.cards.interfaces.enums.issuance.v1.IssuanceJobStatusEnum;
+import com.firefly.core.banking.cards.models.entities.issuance.v1.CardIssuanceJob;
+import com.firefly.core.banking.cards.models.entities.program.v1.CardProgram;
+import com.firefly.core.banking.cards.models.repositories.issuance.v1.CardIssuanceJobRepository;
+import com.firefly.core.banking.cards.models.repositories.program.v1.CardProgramRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Service
+@Transactional
+public class CardIssuanceServiceImpl implements CardIssuanceService {
+
+    @Autowired
+    private CardIssuanceJobRepository repository;
+
+    @Autowired
+    private CardProgramRepository programRepository;
+
+    @Autowired
+    private CardIssuanceMapper mapper;
+
+    @Autowired
+    private CardIssuanceRunner runner;
+
+    @Autowired
+    private CardIssuanceProperties properties;
+
+    /**
+     * Runs outside a transaction, so that the job is committed before the runner picks it up.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<CardIssuanceJobDTO> createJob(CardIssuanceJobDTO jobDTO) {
+        if (jobDTO.getProgramId() == null || jobDTO.getRequestedCount() == null || jobDTO.getRequestedCount() < 1) {
+            return Mono.error(new IllegalArgumentException("Program ID and a positive requested count are required"));
+        }
+        if (jobDTO.getRequestedCount() > properties.getMaxCardsPerJob()) {
+            return Mono.error(new IllegalArgumentException("A job can issue at most "
+                    + properties.getMaxCardsPerJob() + " cards"));
+        }
+        return programRepository.findByProgramId(jobDTO.getProgramId())
+                .switchIfEmpty(Mono.error(new IllegalArgumentException("Card program " + jobDTO.getProgramId() + " not found")))
+                .flatMap(program -> {
+                    String invalid = validate(program, jobDTO);
+                    if (invalid != null) {
+                        return Mono.error(new IllegalArgumentException(invalid));
+                    }
+                    CardIssuanceJob job = mapper.toEntity(jobDTO);
+                    job.setIssuanceJobId(null);
+                    job.setIsPhysical(Boolean.TRUE.equals(jobDTO.getIsPhysical()));
+                    job.setIssuedCount(0);
+                    job.setChunkSize(properties.getChunkSize());
+                    job.setJobStatus(IssuanceJobStatusEnum.PENDING);
+                    return repository.save(job);
+                })
+                .flatMap(job -> start(job.getIssuanceJobId()))
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<CardIssuanceJobDTO> getJob(UUID issuanceJobId) {
+        return repository.findByIssuanceJobId(issuanceJobId)
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<CardIssuanceJobDTO> resumeJob(UUID issuanceJobId) {
+        return repository.findByIssuanceJobId(issuanceJobId)
+                .flatMap(job -> start(job.getIssuanceJobId()))
+                .map(mapper::toDTO);
+    }
+
+    /**
+     * Claim the job for this node and hand it to the runner. Fails if the job is complete, or
+     * running elsewhere and still making progress.
+     */
+    private Mono<CardIssuanceJob> start(UUID issuanceJobId) {
+        return repository.claim(issuanceJobId, properties.getStaleAfter().toSeconds())
+                .switchIfEmpty(Mono.error(new IllegalArgumentException("Issuance job " + issuanceJobId
+                        + " is complete or still running")))
+                .doOnNext(job -> runner.launch(issuanceJobId, job.getAttempts()));
+    }
+
+    private static String validate(CardProgram program, CardIssuanceJobDTO jobDTO) {
+        if (Boolean.FALSE.equals(program.getIsActive())) {
+            return "Card program " + program.getProgramId() + " is not active";
+        }
+        if (program.getBinId() == null) {
+            return "Card program " + program.getProgramId() + " has no BIN";
+        }
+        if (Boolean.TRUE.equals(jobDTO.getIsPhysical()) && Boolean.FALSE.equals(program.getSupportsPhysicalCards())) {
+            return "Card program " + program.getProgramId() + " does not support physical cards";
+        }
+        return null;
+    }
+}
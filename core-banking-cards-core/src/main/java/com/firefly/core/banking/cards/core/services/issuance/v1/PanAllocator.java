@@ -0,0 +1,247 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.issuance.v1;
+
+import com.firefly.core.banking.cards.core.config.CardIssuanceProperties;
+import com.firefly.core.banking.cards.interfaces.validation.Pan;
+import com.firefly.core.banking.cards.models.entities.bin.v1.BIN;
+import com.firefly.core.banking.cards.models.repositories.card.v1.CardRepository;
+import com.firefly.core.banking.cards.models.repositories.pan.v1.PanRangeAllocationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.security.SecureRandom;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Allocates card numbers for a BIN without a database round trip per card.
+ * <p>
+ * The account numbers of a BIN prefix and card number length form a range, split into blocks of
+ * {@code pan-block-size} numbers. A node reserves whole blocks from pan_range_allocation, one
+ * statement per block, and hands out their numbers from memory; no two nodes ever get the same
+ * block. Within a block the numbers are handed out in the order of a {@link BlockPermutation} with
+ * a random key, so that consecutive cards do not get consecutive numbers. The Luhn check digit is
+ * appended to each.
+ * <p>
+ * Card numbers entered through the card API, or issued before the allocator existed, can fall in
+ * a reserved block. The numbers of each allocation are therefore checked against the card table
+ * with one query, and the taken ones are skipped in favour of the next numbers of the block. The
+ * unique index on card_number rejects a number taken between that check and the insert.
+ * <p>
+ * The unused numbers of a block are lost when the node stops; blocks are small next to the range.
+ */
+@Component
+public class PanAllocator {
+
+    @Autowired
+    private PanRangeAllocationRepository repository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private CardIssuanceProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, PanRange> ranges = new ConcurrentHashMap<>();
+    private final Random random = new SecureRandom();
+
+    private Counter blocksReserved;
+    private Counter numbersTaken;
+
+    @PostConstruct
+    void init() {
+        blocksReserved = Counter.builder("cards.issuance.pan.blocks.reserved")
+                .description("Blocks of card numbers reserved by this instance")
+                .register(meterRegistry);
+        numbersTaken = Counter.builder("cards.issuance.pan.taken")
+                .description("Allocated card numbers skipped because an existing card already holds them")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Allocate distinct, Luhn-valid card numbers from a BIN.
+     *
+     * @param bin the BIN to issue from
+     * @param count the number of card numbers to allocate
+     * @return a Mono emitting the card numbers, or an IllegalStateException if the BIN range is
+     * exhausted
+     */
+    public Mono<List<String>> allocate(BIN bin, int count) {
+        return Mono.defer(() -> {
+            String prefix = prefix(bin);
+            int panLength = properties.getPanLength();
+            int accountDigits = panLength - prefix.length() - 1;
+            if (accountDigits < 1) {
+                return Mono.error(new IllegalStateException("BIN " + prefix + " leaves no room for account digits in a "
+                        + panLength + "-digit card number"));
+            }
+            PanRange range = ranges.computeIfAbsent(prefix + ":" + panLength, key -> new PanRange(prefix, panLength));
+            return fill(range, new ArrayList<>(count), count);
+        });
+    }
+
+    private Mono<List<String>> fill(PanRange range, List<String> pans, int count) {
+        int missing = count - pans.size();
+        if (missing == 0) {
+            return Mono.just(pans);
+        }
+        List<String> drawn = new ArrayList<>(missing);
+        range.take(drawn, missing);
+        if (drawn.isEmpty()) {
+            return reserve(range).then(Mono.defer(() -> fill(range, pans, count)));
+        }
+        return cardRepository.findExistingCardNumbers(drawn)
+                .collect(Collectors.toSet())
+                .flatMap(taken -> {
+                    numbersTaken.increment(taken.size());
+                    for (String pan : drawn) {
+                        if (!taken.contains(pan)) {
+                            pans.add(pan);
+                        }
+                    }
+                    return fill(range, pans, count);
+                });
+    }
+
+    private Mono<Void> reserve(PanRange range) {
+        long blockSize = Math.min(properties.getPanBlockSize(), range.capacity());
+        return repository.reserveBlock(range.prefix, range.panLength, blockSize)
+                .flatMap(allocation -> {
+                    long size = allocation.getBlockSize();
+                    long block = allocation.getNextBlock() - 1;
+                    if (block >= (range.capacity() + size - 1) / size) {
+                        return Mono.error(new IllegalStateException("BIN " + range.prefix
+                                + " has no free card numbers left"));
+                    }
+                    long base = block * size;
+                    blocksReserved.increment();
+                    range.add(new PanBlock(range, base,
+                            new BlockPermutation(Math.min(size, range.capacity() - base), random.nextLong())));
+                    return Mono.<Void>empty();
+                });
+    }
+
+    /**
+     * The leading digits of a BIN, binLength of them when it is set.
+     */
+    static String prefix(BIN bin) {
+        String binNumber = bin.getBinNumber();
+        if (binNumber == null || binNumber.isEmpty() || !binNumber.chars().allMatch(Character::isDigit)) {
+            throw new IllegalStateException("BIN " + bin.getBinId() + " has no numeric BIN number");
+        }
+        Integer binLength = bin.getBinLength();
+        return binLength != null && binLength > 0 && binLength < binNumber.length()
+                ? binNumber.substring(0, binLength)
+                : binNumber;
+    }
+
+    /**
+     * The blocks of one BIN prefix and card number length reserved by this instance.
+     */
+    static final class PanRange {
+
+        private final String prefix;
+        private final int panLength;
+        private final int accountDigits;
+        private final long capacity;
+        private final Deque<PanBlock> blocks = new ArrayDeque<>();
+
+        PanRange(String prefix, int panLength) {
+            this.prefix = prefix;
+            this.panLength = panLength;
+            this.accountDigits = panLength - prefix.length() - 1;
+            long capacity = 1;
+            for (int i = 0; i < accountDigits; i++) {
+                capacity *= 10;
+            }
+            this.capacity = capacity;
+        }
+
+        /**
+         * Number of account numbers in the range.
+         */
+        long capacity() {
+            return capacity;
+        }
+
+        synchronized void add(PanBlock block) {
+            blocks.addLast(block);
+        }
+
+        /**
+         * Move card numbers from the reserved blocks to the list until it holds count of them or
+         * the blocks run out.
+         */
+        synchronized void take(List<String> pans, int count) {
+            while (pans.size() < count && !blocks.isEmpty()) {
+                PanBlock block = blocks.peekFirst();
+                while (pans.size() < count && block.hasNext()) {
+                    pans.add(block.next());
+                }
+                if (!block.hasNext()) {
+                    blocks.removeFirst();
+                }
+            }
+        }
+    }
+
+    /**
+     * A reserved block of account numbers, handed out in permuted order.
+     */
+    static final class PanBlock {
+
+        private final PanRange range;
+        private final long base;
+        private final BlockPermutation permutation;
+        private long position;
+
+        PanBlock(PanRange range, long base, BlockPermutation permutation) {
+            this.range = range;
+            this.base = base;
+            this.permutation = permutation;
+        }
+
+        boolean hasNext() {
+            return position < permutation.size();
+        }
+
+        String next() {
+            String account = Long.toString(base + permutation.apply(position++));
+            StringBuilder pan = new StringBuilder(range.panLength)
+                    .append(range.prefix)
+                    .append("0".repeat(range.accountDigits - account.length()))
+                    .append(account);
+            return pan.append(Pan.checkDigit(pan)).toString();
+        }
+    }
+}
@@ -19,12 +19,13 @@ package com.firefly.core.banking.cards.core.services.issuer.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
-import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.issuer.v1.IssuerMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.issuer.v1.IssuerDTO;
 import com.firefly.core.banking.cards.models.entities.issuer.v1.Issuer;
 import com.firefly.core.banking.cards.models.repositories.issuer.v1.IssuerRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -41,13 +42,16 @@ public class IssuerServiceImpl implements IssuerService {
     @Autowired
     private IssuerMapper mapper;
 
+    @Autowired
+    private PaginationQueryTemplate paginationQueryTemplate;
+
     @Override
     public Mono<PaginationResponse<IssuerDTO>> listIssuers(PaginationRequest paginationRequest) {
-        return PaginationUtils.paginateQuery(
+        return paginationQueryTemplate.paginate(
                 paginationRequest,
-                mapper::toDTO,
-                repository::findAllBy,
-                repository::count
+                Issuer.class,
+                Criteria.empty(),
+                mapper::toDTO
         );
     }
 
@@ -20,6 +20,8 @@ package com.firefly.core.banking.cards.core.services.limit.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.cards.interfaces.dtos.limit.v1.CardLimitDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.limit.v1.LimitConsumptionRequestDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.limit.v1.LimitConsumptionResultDTO;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -49,4 +51,10 @@ public interface CardLimitService {
      * Delete a limit by its unique ID, ensuring it belongs to the specified card.
      */
     Mono<Void> deleteLimit(UUID cardId, UUID limitId);
+
+    /**
+     * Atomically consume a spend from every limit of a card that applies to it, or reject it
+     * without consuming anything if any applicable limit would be exceeded.
+     */
+    Mono<LimitConsumptionResultDTO> consumeLimit(UUID cardId, LimitConsumptionRequestDTO request);
 }
\ No newline at end of file
@@ -19,12 +19,17 @@ package com.firefly.core.banking.cards.core.services.limit.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
-import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.limit.v1.CardLimitMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.services.event.v1.CardEventOutbox;
 import com.firefly.core.banking.cards.interfaces.dtos.limit.v1.CardLimitDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.limit.v1.LimitConsumptionRequestDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.limit.v1.LimitConsumptionResultDTO;
+import com.firefly.core.banking.cards.interfaces.enums.event.v1.CardEventTypeEnum;
 import com.firefly.core.banking.cards.models.entities.limit.v1.CardLimit;
 import com.firefly.core.banking.cards.models.repositories.limit.v1.CardLimitRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -41,13 +46,22 @@ public class CardLimitServiceImpl implements CardLimitService {
     @Autowired
     private CardLimitMapper mapper;
 
+    @Autowired
+    private PaginationQueryTemplate paginationQueryTemplate;
+
+    @Autowired
+    private CardEventOutbox outbox;
+
+    @Autowired(required = false)
+    private LimitCounterEngine counterEngine;
+
     @Override
     public Mono<PaginationResponse<CardLimitDTO>> listLimits(UUID cardId, PaginationRequest paginationRequest) {
-        return PaginationUtils.paginateQuery(
+        return paginationQueryTemplate.paginate(
                 paginationRequest,
-                mapper::toDTO,
-                pageable -> repository.findByCardId(cardId, pageable),
-                () -> repository.countByCardId(cardId)
+                CardLimit.class,
+                Criteria.where("cardId").is(cardId),
+                mapper::toDTO
         );
     }
 
@@ -57,35 +71,65 @@ public class CardLimitServiceImpl implements CardLimitService {
         CardLimit entity = mapper.toEntity(limitDTO);
         return Mono.just(entity)
                 .flatMap(repository::save)
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(created -> outbox.append(CardEventTypeEnum.LIMIT_CREATED, cardId, created.getCardLimitId(), created)
+                        .then(evictCounters(cardId))
+                        .thenReturn(created));
     }
 
     @Override
     public Mono<CardLimitDTO> getLimit(UUID cardId, UUID limitId) {
-        return repository.findByCardLimitId(limitId)
-                .filter(cardLimit -> cardLimit.getCardId().equals(cardId))
+        return repository.findByCardIdAndCardLimitId(cardId, limitId)
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<CardLimitDTO> updateLimit(UUID cardId, UUID limitId, CardLimitDTO limitDTO) {
-        return repository.findByCardLimitId(limitId)
-                .filter(cardLimit -> cardLimit.getCardId().equals(cardId))
-                .flatMap(existingEntity -> {
-                    existingEntity.setLimitType(limitDTO.getLimitType().name());
-                    existingEntity.setLimitAmount(limitDTO.getLimitAmount());
-                    existingEntity.setCurrentUsage(limitDTO.getCurrentUsage());
-                    existingEntity.setResetPeriod(limitDTO.getResetPeriod().name());
-                    return repository.save(existingEntity);
-                })
-                .map(mapper::toDTO);
+        if (limitDTO.getLimitType() == null && limitDTO.getLimitAmount() == null
+                && limitDTO.getCurrentUsage() == null && limitDTO.getResetPeriod() == null) {
+            return getLimit(cardId, limitId);
+        }
+        return repository.updateLimit(
+                        cardId,
+                        limitId,
+                        limitDTO.getLimitType() != null ? limitDTO.getLimitType().name() : null,
+                        limitDTO.getLimitAmount(),
+                        limitDTO.getCurrentUsage(),
+                        limitDTO.getResetPeriod() != null ? limitDTO.getResetPeriod().name() : null)
+                .map(mapper::toDTO)
+                .flatMap(updated -> outbox.append(CardEventTypeEnum.LIMIT_UPDATED, cardId, limitId, updated)
+                        .then(evictCounters(cardId))
+                        .thenReturn(updated));
     }
 
     @Override
     public Mono<Void> deleteLimit(UUID cardId, UUID limitId) {
-        return repository.findByCardLimitId(limitId)
-                .filter(cardLimit -> cardLimit.getCardId().equals(cardId))
-                .flatMap(repository::delete)
-                .then();
+        return repository.deleteByCardIdAndCardLimitId(cardId, limitId)
+                .filter(deleted -> deleted > 0)
+                .flatMap(deleted -> outbox.append(CardEventTypeEnum.LIMIT_DELETED, cardId, limitId, null))
+                .then(evictCounters(cardId));
+    }
+
+    @Override
+    public Mono<LimitConsumptionResultDTO> consumeLimit(UUID cardId, LimitConsumptionRequestDTO request) {
+        if (counterEngine != null) {
+            return counterEngine.consume(cardId, request);
+        }
+        return repository.consumeLimit(
+                        cardId,
+                        request.getLimitType().name(),
+                        request.getAmount(),
+                        request.getMerchantCategoryCode(),
+                        request.getChannelType())
+                .map(mapper::toUsageDTO)
+                .collectList()
+                .map(limits -> LimitConsumptionResults.of(request.getAmount(), limits));
+    }
+
+    /**
+     * Drop the in-memory counters of a card, if enabled, so they are reloaded with the changed limits.
+     */
+    private Mono<Void> evictCounters(UUID cardId) {
+        return counterEngine != null ? counterEngine.evict(cardId) : Mono.empty();
     }
-}
\ No newline at end of file
+}
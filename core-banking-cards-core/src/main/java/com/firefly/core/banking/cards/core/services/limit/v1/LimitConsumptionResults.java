@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.limit.v1;
+
+import com.firefly.core.banking.cards.interfaces.dtos.limit.v1.LimitConsumptionResultDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.limit.v1.LimitUsageDTO;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Builds the outcome of a limit consumption, whether it was evaluated in the database or in memory.
+ */
+final class LimitConsumptionResults {
+
+    private LimitConsumptionResults() {
+    }
+
+    /**
+     * @param amount the consumed amount
+     * @param limits every limit the spend was evaluated against
+     * @return the result, rejected by the exceeded limit with the least room left if any
+     */
+    static LimitConsumptionResultDTO of(BigDecimal amount, List<LimitUsageDTO> limits) {
+        LimitUsageDTO rejectedBy = limits.stream()
+                .filter(LimitUsageDTO::isExceeded)
+                .min(Comparator.comparing(LimitUsageDTO::getAvailableAmount,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .orElse(null);
+        return LimitConsumptionResultDTO.builder()
+                .approved(rejectedBy == null)
+                .amount(amount)
+                .rejectedLimitId(rejectedBy != null ? rejectedBy.getCardLimitId() : null)
+                .rejectedLimitType(rejectedBy != null ? rejectedBy.getLimitType() : null)
+                .limits(limits)
+                .build();
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.limit.v1;
+
+import com.firefly.core.banking.cards.interfaces.dtos.limit.v1.LimitConsumptionRequestDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.limit.v1.LimitUsageDTO;
+import com.firefly.core.banking.cards.interfaces.enums.limit.v1.LimitTypeEnum;
+import com.firefly.core.banking.cards.models.entities.limit.v1.CardLimit;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory usage counter of one card limit, in minor currency units.
+ * <p>
+ * {@code usage} is the authoritative running total used for limit checks and is only changed
+ * through compare-and-set, so a spend can never push it over the limit. {@code pending} collects
+ * the part of that total not yet written back to card_limit; it is a striped {@link LongAdder}
+ * so that hot cards do not contend on it, and is drained with {@link LongAdder#sumThenReset()}.
+ */
+final class LimitCounter {
+
+    private static final int DEFAULT_FRACTION_DIGITS = 2;
+
+    private final UUID cardLimitId;
+    private final LimitTypeEnum limitType;
+    private final String merchantCategoryCode;
+    private final String channelType;
+    private final LocalDateTime effectiveFrom;
+    private final LocalDateTime effectiveTo;
+    private final boolean active;
+    private final int fractionDigits;
+    private final long limitAmount;
+    private final LocalDateTime lastResetDate;
+    private final LocalDateTime nextResetDate;
+
+    private final AtomicLong usage;
+    private final LongAdder pending = new LongAdder();
+
+    /**
+     * {@link System#nanoTime()} of the oldest unflushed spend, or 0 when nothing is pending.
+     */
+    private volatile long dirtySince;
+
+    LimitCounter(CardLimit limit) {
+        this.cardLimitId = limit.getCardLimitId();
+        this.limitType = limit.getLimitType() != null ? LimitTypeEnum.valueOf(limit.getLimitType()) : null;
+        this.merchantCategoryCode = limit.getMerchantCategoryCode();
+        this.channelType = limit.getChannelType();
+        this.effectiveFrom = limit.getEffectiveFrom();
+        this.effectiveTo = limit.getEffectiveTo();
+        this.active = !Boolean.FALSE.equals(limit.getIsActive());
+        this.fractionDigits = fractionDigits(limit.getCurrencyCode());
+        this.limitAmount = limit.getLimitAmount() != null ? toMinor(limit.getLimitAmount()) : Long.MAX_VALUE;
+        this.usage = new AtomicLong(limit.getCurrentUsage() != null ? toMinor(limit.getCurrentUsage()) : 0);
+        this.lastResetDate = limit.getLastResetDate();
+        this.nextResetDate = limit.getNextResetDate();
+    }
+
+    UUID getCardLimitId() {
+        return cardLimitId;
+    }
+
+    /**
+     * The last reset of the limit when it was loaded; the usage counted here belongs to the
+     * period that started then.
+     */
+    LocalDateTime getLastResetDate() {
+        return lastResetDate;
+    }
+
+    /**
+     * Whether the period this counter was loaded for has ended, so that its usage no longer
+     * applies.
+     */
+    boolean isDue(LocalDateTime now) {
+        return nextResetDate != null && !now.isBefore(nextResetDate);
+    }
+
+    /**
+     * Same applicability rules as {@code CardLimitRepository.consumeLimit}.
+     */
+    boolean appliesTo(LimitConsumptionRequestDTO request, LocalDateTime now) {
+        return active
+                && (effectiveFrom == null || !effectiveFrom.isAfter(now))
+                && (effectiveTo == null || effectiveTo.isAfter(now))
+                && (limitType == LimitTypeEnum.DAILY_SPENDING
+                    || limitType == LimitTypeEnum.MONTHLY_SPENDING
+                    || limitType == request.getLimitType())
+                && (merchantCategoryCode == null || merchantCategoryCode.equals(request.getMerchantCategoryCode()))
+                && (channelType == null || channelType.equals(request.getChannelType()));
+    }
+
+    /**
+     * Convert an amount to minor units, rounding up so that sub-unit spends are never undercounted.
+     */
+    long toMinor(BigDecimal amount) {
+        return amount.setScale(fractionDigits, RoundingMode.UP).movePointRight(fractionDigits).longValueExact();
+    }
+
+    BigDecimal toMajor(long minor) {
+        return BigDecimal.valueOf(minor, fractionDigits);
+    }
+
+    /**
+     * Add the amount to the usage unless that would exceed the limit.
+     *
+     * @return true if the amount was added
+     */
+    boolean tryConsume(long amount) {
+        long current;
+        do {
+            current = usage.get();
+            if (current + amount > limitAmount) {
+                return false;
+            }
+        } while (!usage.compareAndSet(current, current + amount));
+        addPending(amount);
+        return true;
+    }
+
+    /**
+     * Undo a successful {@link #tryConsume(long)}.
+     */
+    void release(long amount) {
+        usage.addAndGet(-amount);
+        addPending(-amount);
+    }
+
+    /**
+     * Take the unflushed delta, leaving the counter clean. Spends racing with this call are
+     * either included in the returned delta or left pending for the next flush.
+     */
+    long drainPending() {
+        dirtySince = 0;
+        return pending.sumThenReset();
+    }
+
+    /**
+     * Put back a delta that could not be written.
+     */
+    void restorePending(long delta) {
+        addPending(delta);
+    }
+
+    long getDirtySince() {
+        return dirtySince;
+    }
+
+    LimitUsageDTO toUsage(long requestedAmount) {
+        long current = usage.get();
+        return LimitUsageDTO.builder()
+                .cardLimitId(cardLimitId)
+                .limitType(limitType)
+                .limitAmount(limitAmount == Long.MAX_VALUE ? null : toMajor(limitAmount))
+                .currentUsage(toMajor(current))
+                .availableAmount(limitAmount == Long.MAX_VALUE ? null : toMajor(limitAmount - current))
+                .exceeded(current + requestedAmount > limitAmount)
+                .build();
+    }
+
+    private void addPending(long amount) {
+        pending.add(amount);
+        if (dirtySince == 0) {
+            dirtySince = System.nanoTime();
+        }
+    }
+
+    private static int fractionDigits(String currencyCode) {
+        if (currencyCode == null) {
+            return DEFAULT_FRACTION_DIGITS;
+        }
+        try {
+            int digits = Currency.getInstance(currencyCode).getDefaultFractionDigits();
+            return digits >= 0 ? digits : DEFAULT_FRACTION_DIGITS;
+        } catch (IllegalArgumentException e) {
+            return DEFAULT_FRACTION_DIGITS;
+        }
+    }
+}
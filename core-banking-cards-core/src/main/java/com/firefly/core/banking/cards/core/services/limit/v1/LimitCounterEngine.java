@@ -0,0 +1,338 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.limit.v1;
+
+import com.firefly.core.banking.cards.core.config.LimitCounterProperties;
+import com.firefly.core.banking.cards.interfaces.dtos.limit.v1.LimitConsumptionRequestDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.limit.v1.LimitConsumptionResultDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.limit.v1.LimitUsageDTO;
+import com.firefly.core.banking.cards.models.repositories.limit.v1.CardLimitRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves limit consumption from in-memory counters and writes the consumed amounts back to
+ * card_limit in batches.
+ * <p>
+ * The limits of a card are loaded from card_limit on first use and kept as {@link LimitCounter}s.
+ * A spend reserves its amount on every applicable counter with compare-and-set and releases the
+ * reservations again if one of them would be exceeded, so spends served by one instance never
+ * overdraw a limit between them. Counters with unflushed usage are tracked in a dirty set that a
+ * background task drains every {@code flush-interval} into one {@code UPDATE ... FROM unnest(...)}
+ * per batch; a failed batch puts its deltas back for the next attempt. Each delta carries the
+ * last reset of its limit at load time, so usage counted before a reset is never written on top
+ * of it. Counters also keep the next reset of their limit: the first spend after it writes the
+ * card's pending usage back, resets the card's due limits unless the scheduler already has, and
+ * reloads them, so every instance moves to the new period on time.
+ * <p>
+ * The guarantee is per instance. An instance only sees the usage other instances, or
+ * {@code CardLimitRepository.consumeLimit}, wrote to card_limit when it loaded the card, so spends
+ * on the same card served by several instances can together overdraw a limit by what each of them
+ * consumed in the meantime. Usage consumed since the last flush is lost if the process dies, and
+ * the limit can be overdrawn by that amount afterwards; there is no other record of it to recover
+ * it from. {@link #reconcile(UUID)} reloads a card's counters from card_limit, the same table the
+ * database path consumes from.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "cards.limits.counters", name = "enabled", havingValue = "true")
+public class LimitCounterEngine {
+
+    @Autowired
+    private CardLimitRepository repository;
+
+    @Autowired
+    private LimitCounterProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<UUID, Mono<List<LimitCounter>>> cards = new ConcurrentHashMap<>();
+
+    private final Set<LimitCounter> dirty = ConcurrentHashMap.newKeySet();
+
+    private Timer flushTimer;
+    private Counter flushFailures;
+    private Disposable flushTask;
+
+    @PostConstruct
+    void start() {
+        registerMeters();
+        flushTask = Flux.interval(properties.getFlushInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> flush().onErrorResume(e -> {
+                    flushFailures.increment();
+                    log.error("Limit usage write-back failed; retrying on the next flush", e);
+                    return Mono.just(0L);
+                }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (flushTask != null) {
+            flushTask.dispose();
+        }
+        flush().block(Duration.ofSeconds(30));
+    }
+
+    void registerMeters() {
+        flushTimer = Timer.builder("cards.limits.counters.flush")
+                .description("Time taken to write limit usage back to the database")
+                .register(meterRegistry);
+        flushFailures = Counter.builder("cards.limits.counters.flush.failures")
+                .description("Limit usage write-back batches that failed and were retried")
+                .register(meterRegistry);
+        Gauge.builder("cards.limits.counters.flush.lag", this, engine -> engine.flushLagSeconds())
+                .description("Age of the oldest limit usage not yet written back to the database")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("cards.limits.counters.pending", dirty, Set::size)
+                .description("Number of limits with usage not yet written back to the database")
+                .register(meterRegistry);
+        Gauge.builder("cards.limits.counters.cards", cards, ConcurrentMap::size)
+                .description("Number of cards whose limits are held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Consume a spend from every applicable limit of the card, or from none if any would be exceeded.
+     *
+     * @param cardId  the card being charged
+     * @param request the spend
+     * @return a Mono emitting the outcome
+     */
+    public Mono<LimitConsumptionResultDTO> consume(UUID cardId, LimitConsumptionRequestDTO request) {
+        return consume(cardId, request, LocalDateTime.now());
+    }
+
+    Mono<LimitConsumptionResultDTO> consume(UUID cardId, LimitConsumptionRequestDTO request, LocalDateTime now) {
+        return counters(cardId, now).map(counters -> consume(counters, request, now));
+    }
+
+    private LimitConsumptionResultDTO consume(List<LimitCounter> counters, LimitConsumptionRequestDTO request,
+                                              LocalDateTime now) {
+        List<LimitCounter> applicable = new ArrayList<>(counters.size());
+        for (LimitCounter counter : counters) {
+            if (counter.appliesTo(request, now)) {
+                applicable.add(counter);
+            }
+        }
+
+        boolean approved = true;
+        int consumed = 0;
+        for (LimitCounter counter : applicable) {
+            if (!counter.tryConsume(counter.toMinor(request.getAmount()))) {
+                approved = false;
+                break;
+            }
+            dirty.add(counter);
+            consumed++;
+        }
+        if (!approved) {
+            for (int i = 0; i < consumed; i++) {
+                LimitCounter counter = applicable.get(i);
+                counter.release(counter.toMinor(request.getAmount()));
+                dirty.add(counter);
+            }
+        }
+
+        List<LimitUsageDTO> limits = new ArrayList<>(applicable.size());
+        for (LimitCounter counter : applicable) {
+            limits.add(counter.toUsage(approved ? 0 : counter.toMinor(request.getAmount())));
+        }
+        return LimitConsumptionResults.of(request.getAmount(), limits);
+    }
+
+    /**
+     * Write all pending usage back to card_limit.
+     *
+     * @return a Mono emitting the number of limits updated
+     */
+    public Mono<Long> flush() {
+        return flush(List.copyOf(dirty));
+    }
+
+    /**
+     * Drop the in-memory counters of a card after writing back their pending usage, so that the
+     * next spend reloads them. Call it whenever the card's limits are changed in the database.
+     *
+     * @param cardId the card
+     * @return a Mono completing once the pending usage is written
+     */
+    public Mono<Void> evict(UUID cardId) {
+        return Mono.defer(() -> {
+            Mono<List<LimitCounter>> removed = cards.remove(cardId);
+            return removed == null ? Mono.<Void>empty() : removed.flatMap(this::flush).then();
+        });
+    }
+
+    /**
+     * Drop the in-memory counters of a card together with their pending usage, without writing it
+     * back. Call it once the card's limits have been reset: the pending usage belongs to the
+     * period the reset cleared.
+     *
+     * @param cardId the card
+     * @return a Mono completing once the counters are dropped
+     */
+    public Mono<Void> discard(UUID cardId) {
+        return Mono.defer(() -> {
+            Mono<List<LimitCounter>> removed = cards.remove(cardId);
+            return removed == null ? Mono.<Void>empty() : removed
+                    .doOnNext(counters -> counters.forEach(counter -> {
+                        dirty.remove(counter);
+                        counter.drainPending();
+                    }))
+                    .onErrorResume(e -> {
+                        // A load that failed holds no counters, so there is no usage to drop
+                        log.warn("Limits of card {} failed to load before being discarded", cardId, e);
+                        return Mono.empty();
+                    })
+                    .then();
+        });
+    }
+
+    /**
+     * Write back the pending usage of a card's limits and reload them from card_limit, picking up
+     * the usage recorded there by other instances or by the database consumption path.
+     *
+     * @param cardId the card
+     * @return a Mono emitting the number of limits reloaded
+     */
+    public Mono<Integer> reconcile(UUID cardId) {
+        return evict(cardId).then(Mono.defer(() -> counters(cardId))).map(List::size);
+    }
+
+    /**
+     * The counters of a card for the period {@code now} falls in. Counters loaded before one of
+     * their limits reached its next reset date are written back and reloaded, after resetting the
+     * card's due limits if the scheduler has not yet; this instance may not be the one that ran
+     * the reset, and so may never have had its counters discarded.
+     */
+    private Mono<List<LimitCounter>> counters(UUID cardId, LocalDateTime now) {
+        return counters(cardId).flatMap(counters -> {
+            for (LimitCounter counter : counters) {
+                if (counter.isDue(now)) {
+                    return evict(cardId)
+                            .then(repository.resetDueLimitsOfCard(cardId, now))
+                            .then(Mono.defer(() -> counters(cardId)));
+                }
+            }
+            return Mono.just(counters);
+        });
+    }
+
+    private Mono<List<LimitCounter>> counters(UUID cardId) {
+        return cards.computeIfAbsent(cardId, id -> repository.findByCardId(id, Pageable.unpaged())
+                .map(LimitCounter::new)
+                .sort(Comparator.comparing(LimitCounter::getCardLimitId))
+                .collectList()
+                // Keep loaded counters until evicted or due, but retry a failed load on the next spend
+                .cache(counters -> Duration.ofMillis(Long.MAX_VALUE), error -> Duration.ZERO, () -> Duration.ZERO));
+    }
+
+    private Mono<Long> flush(Collection<LimitCounter> counters) {
+        List<LimitCounter> batch = new ArrayList<>(counters.size());
+        List<Long> deltas = new ArrayList<>(counters.size());
+        for (LimitCounter counter : counters) {
+            if (!dirty.remove(counter)) {
+                continue;
+            }
+            long delta = counter.drainPending();
+            if (delta != 0) {
+                batch.add(counter);
+                deltas.add(delta);
+            }
+        }
+        if (batch.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int batchSize = properties.getFlushBatchSize();
+        return Flux.range(0, (batch.size() + batchSize - 1) / batchSize)
+                .concatMap(chunk -> {
+                    int from = chunk * batchSize;
+                    int to = Math.min(from + batchSize, batch.size());
+                    return writeBack(batch.subList(from, to), deltas.subList(from, to));
+                })
+                .reduce(0L, Long::sum)
+                .doOnSuccess(updated -> sample.stop(flushTimer));
+    }
+
+    private Mono<Long> writeBack(List<LimitCounter> counters, List<Long> deltas) {
+        UUID[] ids = new UUID[counters.size()];
+        BigDecimal[] amounts = new BigDecimal[counters.size()];
+        LocalDateTime[] lastResetDates = new LocalDateTime[counters.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = counters.get(i).getCardLimitId();
+            amounts[i] = counters.get(i).toMajor(deltas.get(i));
+            lastResetDates[i] = counters.get(i).getLastResetDate();
+        }
+        return repository.addUsage(ids, amounts, lastResetDates)
+                .map(Integer::longValue)
+                .onErrorResume(e -> {
+                    flushFailures.increment();
+                    log.warn("Could not write back the usage of {} card limits; retrying on the next flush",
+                            ids.length, e);
+                    for (int i = 0; i < ids.length; i++) {
+                        counters.get(i).restorePending(deltas.get(i));
+                        dirty.add(counters.get(i));
+                    }
+                    return Mono.just(0L);
+                });
+    }
+
+    private double flushLagSeconds() {
+        long now = System.nanoTime();
+        long oldest = 0;
+        for (LimitCounter counter : dirty) {
+            long since = counter.getDirtySince();
+            if (since != 0) {
+                oldest = Math.max(oldest, now - since);
+            }
+        }
+        return (double) oldest / TimeUnit.SECONDS.toNanos(1);
+    }
+}
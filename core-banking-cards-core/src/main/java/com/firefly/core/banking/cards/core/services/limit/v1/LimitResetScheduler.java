@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+
+package com.firefly.core.banking.cards.core.services.limit.v1;
+
+import com.firefly.core.banking.cards.core.config.LimitResetProperties;
+import com.firefly.core.banking.cards.models.repositories.limit.v1.CardLimitRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resets the usage of card limits once their {@code next_reset_date} has passed.
+ * <p>
+ * The reset date of every periodic limit is kept up to date by a trigger on card_limit (see
+ * V7__Create_Card_Limit_Reset_Schedule.sql), so finding due limits is a range scan on a partial
+ * index rather than an evaluation of every limit's period. Each run drains the due limits with
+ * {@link CardLimitRepository#resetDueLimits(LocalDateTime, int)} in set-based batches, oldest
+ * first, using {@code parallelism} concurrent lanes. Batches claim their rows with
+ * {@code SKIP LOCKED}, so lanes and instances never wait on each other and no limit is reset twice.
+ * <p>
+ * When the in-memory limit counters are enabled, the counters of every reset card are discarded
+ * with their unflushed usage, which belongs to the period just cleared, so that the next spend
+ * reloads the fresh usage. A write-back already in flight for those counters is dropped by the
+ * database, since its deltas carry the reset date they were counted under.
+ * <p>
+ * A run that fails is logged and counted in {@code cards.limits.reset.failures}; the limits it
+ * did not reset are still due and are picked up by the next run.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "cards.limits.reset", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LimitResetScheduler {
+
+    @Autowired
+    private CardLimitRepository repository;
+
+    @Autowired
+    private LimitResetProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired(required = false)
+    private LimitCounterEngine counterEngine;
+
+    private Timer runTimer;
+    private Counter resetLimits;
+    private Counter failures;
+    private Disposable resetTask;
+
+    @PostConstruct
+    void start() {
+        registerMeters();
+        resetTask = Flux.interval(properties.getInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> runOnce(LocalDateTime.now()).onErrorResume(e -> {
+                    log.error("Card limit reset run failed; retrying on the next run", e);
+                    return Mono.empty();
+                }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (resetTask != null) {
+            resetTask.dispose();
+        }
+    }
+
+    void registerMeters() {
+        runTimer = Timer.builder("cards.limits.reset.run")
+                .description("Time taken to reset all card limits that were due")
+                .register(meterRegistry);
+        resetLimits = Counter.builder("cards.limits.reset.limits")
+                .description("Card limits whose usage was reset")
+                .register(meterRegistry);
+        failures = Counter.builder("cards.limits.reset.failures")
+                .description("Card limit reset runs that failed before resetting every due limit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reset every limit due at or before the given time.
+     *
+     * @param now the reference time
+     * @return a Mono emitting the number of limits reset
+     */
+    public Mono<Long> runOnce(LocalDateTime now) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            int lanes = Math.max(1, properties.getParallelism());
+            return Flux.range(0, lanes)
+                    .flatMap(lane -> drain(now), lanes)
+                    .reduce(0L, Long::sum)
+                    .doOnNext(resetLimits::increment)
+                    .doOnError(e -> failures.increment())
+                    .doFinally(signal -> sample.stop(runTimer));
+        });
+    }
+
+    private Mono<Long> drain(LocalDateTime now) {
+        return resetBatch(now)
+                .expand(count -> count == properties.getBatchSize() ? resetBatch(now) : Mono.empty())
+                .reduce(0L, (total, count) -> total + count);
+    }
+
+    private Mono<Integer> resetBatch(LocalDateTime now) {
+        return repository.resetDueLimits(now, properties.getBatchSize())
+                .collectList()
+                .flatMap(cardIds -> discardCounters(cardIds).thenReturn(cardIds.size()));
+    }
+
+    private Mono<Void> discardCounters(List<UUID> cardIds) {
+        if (counterEngine == null || cardIds.isEmpty()) {
+            return Mono.empty();
+        }
+        return Flux.fromIterable(new HashSet<>(cardIds))
+                .flatMap(counterEngine::discard)
+                .then();
+    }
+}
@@ -19,12 +19,13 @@ package com.firefly.core.banking.cards.core.services.merchant.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
-import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.merchant.v1.CardMerchantMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.merchant.v1.CardMerchantDTO;
 import com.firefly.core.banking.cards.models.entities.merchant.v1.CardMerchant;
 import com.firefly.core.banking.cards.models.repositories.merchant.v1.CardMerchantRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -41,13 +42,16 @@ public class CardMerchantServiceImpl implements CardMerchantService {
     @Autowired
     private CardMerchantMapper mapper;
 
+    @Autowired
+    private PaginationQueryTemplate paginationQueryTemplate;
+
     @Override
     public Mono<PaginationResponse<CardMerchantDTO>> listMerchants(PaginationRequest paginationRequest) {
-        return PaginationUtils.paginateQuery(
+        return paginationQueryTemplate.paginate(
                 paginationRequest,
-                mapper::toDTO,
-                repository::findAllBy,
-                repository::count
+                CardMerchant.class,
+                Criteria.empty(),
+                mapper::toDTO
         );
     }
 
@@ -19,12 +19,13 @@ package com.firefly.core.banking.cards.core.services.network.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
-import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.network.v1.CardNetworkMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.network.v1.CardNetworkDTO;
 import com.firefly.core.banking.cards.models.entities.network.v1.CardNetwork;
 import com.firefly.core.banking.cards.models.repositories.network.v1.CardNetworkRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -41,13 +42,16 @@ public class CardNetworkServiceImpl implements CardNetworkService {
     @Autowired
     private CardNetworkMapper mapper;
 
+    @Autowired
+    private PaginationQueryTemplate paginationQueryTemplate;
+
     @Override
     public Mono<PaginationResponse<CardNetworkDTO>> listNetworks(PaginationRequest paginationRequest) {
-        return PaginationUtils.paginateQuery(
+        return paginationQueryTemplate.paginate(
                 paginationRequest,
-                mapper::toDTO,
-                repository::findAllBy,
-                repository::count
+                CardNetwork.class,
+                Criteria.empty(),
+                mapper::toDTO
         );
     }
 
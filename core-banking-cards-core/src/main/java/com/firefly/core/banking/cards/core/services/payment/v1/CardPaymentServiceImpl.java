@@ -19,16 +19,19 @@ package com.firefly.core.banking.cards.core.services.payment.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
-import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.payment.v1.CardPaymentMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.payment.v1.CardPaymentDTO;
 import com.firefly.core.banking.cards.models.entities.payment.v1.CardPayment;
 import com.firefly.core.banking.cards.models.repositories.payment.v1.CardPaymentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -41,13 +44,19 @@ public class CardPaymentServiceImpl implements CardPaymentService {
     @Autowired
     private CardPaymentMapper mapper;
 
+    @Autowired
+    private PaginationQueryTemplate paginationQueryTemplate;
+
+    @Autowired
+    private PartialUpdateTemplate partialUpdateTemplate;
+
     @Override
     public Mono<PaginationResponse<CardPaymentDTO>> listPayments(UUID cardId, PaginationRequest paginationRequest) {
-        return PaginationUtils.paginateQuery(
+        return paginationQueryTemplate.paginate(
                 paginationRequest,
-                mapper::toDTO,
-                pageable -> repository.findByCardId(cardId, pageable),
-                () -> repository.countByCardId(cardId)
+                CardPayment.class,
+                Criteria.where("cardId").is(cardId),
+                mapper::toDTO
         );
     }
 
@@ -61,40 +70,21 @@ public class CardPaymentServiceImpl implements CardPaymentService {
 
     @Override
     public Mono<CardPaymentDTO> getPayment(UUID cardId, UUID paymentId) {
-        return repository.findByPaymentId(paymentId)
-                .flatMap(entity -> {
-                    if (!entity.getCardId().equals(cardId)) {
-                        return Mono.error(new RuntimeException("CardPayment not found for the specified card."));
-                    }
-                    return Mono.just(mapper.toDTO(entity));
-                });
+        return repository.findByCardIdAndPaymentId(cardId, paymentId)
+                .map(mapper::toDTO);
     }
 
     @Override
     public Mono<CardPaymentDTO> updatePayment(UUID cardId, UUID paymentId, CardPaymentDTO paymentDTO) {
-        return repository.findByPaymentId(paymentId)
-                .flatMap(existingPayment -> {
-                    if (!existingPayment.getCardId().equals(cardId)) {
-                        return Mono.error(new RuntimeException("CardPayment not found for the specified card."));
-                    }
-                    
-                    CardPayment updatedPayment = mapper.toEntity(paymentDTO);
-                    updatedPayment.setPaymentId(existingPayment.getPaymentId());
-                    updatedPayment.setCardId(cardId);
-                    
-                    return repository.save(updatedPayment);
-                })
+        return partialUpdateTemplate
+                .replace(CardPayment.class, mapper.toEntity(paymentDTO),
+                        Map.of("payment_id", paymentId, "card_id", cardId))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> deletePayment(UUID cardId, UUID paymentId) {
-        return repository.findByPaymentId(paymentId)
-                .flatMap(payment -> {
-                    if (!payment.getCardId().equals(cardId)) {
-                        return Mono.error(new RuntimeException("CardPayment not found for the specified card."));
-                    }
-                    return repository.delete(payment);
-                });
+        return repository.deleteByCardIdAndPaymentId(cardId, paymentId)
+                .then();
     }
 }
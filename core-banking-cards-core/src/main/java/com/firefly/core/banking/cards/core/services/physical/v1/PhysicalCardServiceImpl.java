@@ -19,16 +19,19 @@ package com.firefly.core.banking.cards.core.services.physical.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
-import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.physical.v1.PhysicalCardMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.physical.v1.PhysicalCardDTO;
 import com.firefly.core.banking.cards.models.entities.physical.v1.PhysicalCard;
 import com.firefly.core.banking.cards.models.repositories.physical.v1.PhysicalCardRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -41,13 +44,19 @@ public class PhysicalCardServiceImpl implements PhysicalCardService {
     @Autowired
     private PhysicalCardMapper mapper;
 
+    @Autowired
+    private PaginationQueryTemplate paginationQueryTemplate;
+
+    @Autowired
+    private PartialUpdateTemplate partialUpdateTemplate;
+
     @Override
     public Mono<PaginationResponse<PhysicalCardDTO>> listPhysicalCards(UUID cardId, PaginationRequest paginationRequest) {
-        return PaginationUtils.paginateQuery(
+        return paginationQueryTemplate.paginate(
                 paginationRequest,
-                mapper::toDTO,
-                pageable -> repository.findByCardId(cardId, pageable),
-                () -> repository.countByCardId(cardId)
+                PhysicalCard.class,
+                Criteria.where("cardId").is(cardId),
+                mapper::toDTO
         );
     }
 
@@ -61,28 +70,21 @@ public class PhysicalCardServiceImpl implements PhysicalCardService {
 
     @Override
     public Mono<PhysicalCardDTO> getPhysicalCard(UUID cardId, UUID physicalCardId) {
-        return repository.findByPhysicalCardId(physicalCardId)
-                .filter(physicalCard -> physicalCard.getCardId().equals(cardId))
+        return repository.findByCardIdAndPhysicalCardId(cardId, physicalCardId)
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<PhysicalCardDTO> updatePhysicalCard(UUID cardId, UUID physicalCardId, PhysicalCardDTO physicalCardDTO) {
-        return repository.findByPhysicalCardId(physicalCardId)
-                .filter(physicalCard -> physicalCard.getCardId().equals(cardId))
-                .flatMap(existing -> {
-                    physicalCardDTO.setPhysicalCardId(physicalCardId);
-                    physicalCardDTO.setCardId(cardId);
-                    PhysicalCard updatedEntity = mapper.toEntity(physicalCardDTO);
-                    return repository.save(updatedEntity);
-                })
+        return partialUpdateTemplate
+                .replace(PhysicalCard.class, mapper.toEntity(physicalCardDTO),
+                        Map.of("physical_card_id", physicalCardId, "card_id", cardId))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> deletePhysicalCard(UUID cardId, UUID physicalCardId) {
-        return repository.findByPhysicalCardId(physicalCardId)
-                .filter(physicalCard -> physicalCard.getCardId().equals(cardId))
-                .flatMap(repository::delete);
+        return repository.deleteByCardIdAndPhysicalCardId(cardId, physicalCardId)
+                .then();
     }
 }
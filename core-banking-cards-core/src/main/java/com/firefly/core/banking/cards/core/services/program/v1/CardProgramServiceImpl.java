@@ -19,12 +19,13 @@ package com.firefly.core.banking.cards.core.services.program.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
-import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.program.v1.CardProgramMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.program.v1.CardProgramDTO;
 import com.firefly.core.banking.cards.models.entities.program.v1.CardProgram;
 import com.firefly.core.banking.cards.models.repositories.program.v1.CardProgramRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -41,13 +42,16 @@ public class CardProgramServiceImpl implements CardProgramService {
     @Autowired
     private CardProgramMapper mapper;
 
+    @Autowired
+    private PaginationQueryTemplate paginationQueryTemplate;
+
     @Override
     public Mono<PaginationResponse<CardProgramDTO>> listPrograms(PaginationRequest paginationRequest) {
-        return PaginationUtils.paginateQuery(
+        return paginationQueryTemplate.paginate(
                 paginationRequest,
-                mapper::toDTO,
-                repository::findAllBy,
-                repository::count
+                CardProgram.class,
+                Criteria.empty(),
+                mapper::toDTO
         );
     }
 
@@ -19,16 +19,19 @@ package com.firefly.core.banking.cards.core.services.promotion.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
-import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.promotion.v1.CardPromotionMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.promotion.v1.CardPromotionDTO;
 import com.firefly.core.banking.cards.models.entities.promotion.v1.CardPromotion;
 import com.firefly.core.banking.cards.models.repositories.promotion.v1.CardPromotionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -41,13 +44,19 @@ public class CardPromotionServiceImpl implements CardPromotionService {
     @Autowired
     private CardPromotionMapper mapper;
 
+    @Autowired
+    private PaginationQueryTemplate paginationQueryTemplate;
+
+    @Autowired
+    private PartialUpdateTemplate partialUpdateTemplate;
+
     @Override
     public Mono<PaginationResponse<CardPromotionDTO>> listPromotions(UUID cardId, PaginationRequest paginationRequest) {
-        return PaginationUtils.paginateQuery(
+        return paginationQueryTemplate.paginate(
                 paginationRequest,
-                mapper::toDTO,
-                pageable -> repository.findByCardId(cardId, pageable),
-                () -> repository.countByCardId(cardId)
+                CardPromotion.class,
+                Criteria.where("cardId").is(cardId),
+                mapper::toDTO
         );
     }
 
@@ -61,40 +70,21 @@ public class CardPromotionServiceImpl implements CardPromotionService {
 
     @Override
     public Mono<CardPromotionDTO> getPromotion(UUID cardId, UUID promotionId) {
-        return repository.findByPromotionId(promotionId)
-                .flatMap(entity -> {
-                    if (!entity.getCardId().equals(cardId)) {
-                        return Mono.error(new RuntimeException("CardPromotion not found for the specified card."));
-                    }
-                    return Mono.just(mapper.toDTO(entity));
-                });
+        return repository.findByCardIdAndPromotionId(cardId, promotionId)
+                .map(mapper::toDTO);
     }
 
     @Override
     public Mono<CardPromotionDTO> updatePromotion(UUID cardId, UUID promotionId, CardPromotionDTO promotionDTO) {
-        return repository.findByPromotionId(promotionId)
-                .flatMap(existingPromotion -> {
-                    if (!existingPromotion.getCardId().equals(cardId)) {
-                        return Mono.error(new RuntimeException("CardPromotion not found for the specified card."));
-                    }
-                    
-                    CardPromotion updatedPromotion = mapper.toEntity(promotionDTO);
-                    updatedPromotion.setPromotionId(existingPromotion.getPromotionId());
-                    updatedPromotion.setCardId(cardId);
-                    
-                    return repository.save(updatedPromotion);
-                })
+        return partialUpdateTemplate
+                .replace(CardPromotion.class, mapper.toEntity(promotionDTO),
+                        Map.of("promotion_id", promotionId, "card_id", cardId))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> deletePromotion(UUID cardId, UUID promotionId) {
-        return repository.findByPromotionId(promotionId)
-                .flatMap(promotion -> {
-                    if (!promotion.getCardId().equals(cardId)) {
-                        return Mono.error(new RuntimeException("CardPromotion not found for the specified card."));
-                    }
-                    return repository.delete(promotion);
-                });
+        return repository.deleteByCardIdAndPromotionId(cardId, promotionId)
+                .then();
     }
 }
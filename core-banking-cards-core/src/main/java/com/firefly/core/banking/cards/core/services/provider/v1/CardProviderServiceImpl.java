@@ -19,16 +19,19 @@ package com.firefly.core.banking.cards.core.services.provider.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
-import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.provider.v1.CardProviderMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.provider.v1.CardProviderDTO;
 import com.firefly.core.banking.cards.models.entities.provider.v1.CardProvider;
 import com.firefly.core.banking.cards.models.repositories.provider.v1.CardProviderRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -41,13 +44,19 @@ public class CardProviderServiceImpl implements CardProviderService {
     @Autowired
     private CardProviderMapper mapper;
 
+    @Autowired
+    private PaginationQueryTemplate paginationQueryTemplate;
+
+    @Autowired
+    private PartialUpdateTemplate partialUpdateTemplate;
+
     @Override
     public Mono<PaginationResponse<CardProviderDTO>> listProviders(UUID cardId, PaginationRequest paginationRequest) {
-        return PaginationUtils.paginateQuery(
+        return paginationQueryTemplate.paginate(
                 paginationRequest,
-                mapper::toDTO,
-                pageable -> repository.findByCardId(cardId, pageable),
-                () -> repository.countByCardId(cardId)
+                CardProvider.class,
+                Criteria.where("cardId").is(cardId),
+                mapper::toDTO
         );
     }
 
@@ -61,28 +70,21 @@ public class CardProviderServiceImpl implements CardProviderService {
 
     @Override
     public Mono<CardProviderDTO> getProvider(UUID cardId, UUID providerId) {
-        return repository.findById(providerId)
-                .filter(provider -> provider.getCardId().equals(cardId))
+        return repository.findByCardIdAndCardProviderId(cardId, providerId)
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<CardProviderDTO> updateProvider(UUID cardId, UUID providerId, CardProviderDTO providerDTO) {
-        return repository.findById(providerId)
-                .filter(provider -> provider.getCardId().equals(cardId))
-                .flatMap(existing -> {
-                    CardProvider toUpdate = mapper.toEntity(providerDTO);
-                    toUpdate.setCardProviderId(providerId);
-                    toUpdate.setCardId(cardId);
-                    return repository.save(toUpdate);
-                })
+        return partialUpdateTemplate
+                .replace(CardProvider.class, mapper.toEntity(providerDTO),
+                        Map.of("card_provider_id", providerId, "card_id", cardId))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> deleteProvider(UUID cardId, UUID providerId) {
-        return repository.findById(providerId)
-                .filter(provider -> provider.getCardId().equals(cardId))
-                .flatMap(repository::delete);
+        return repository.deleteByCardIdAndCardProviderId(cardId, providerId)
+                .then();
     }
 }
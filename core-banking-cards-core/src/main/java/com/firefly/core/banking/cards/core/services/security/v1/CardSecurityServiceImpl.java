@@ -19,16 +19,19 @@ package com.firefly.core.banking.cards.core.services.security.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
-import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.security.v1.CardSecurityMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.security.v1.CardSecurityDTO;
 import com.firefly.core.banking.cards.models.entities.security.v1.CardSecurity;
 import com.firefly.core.banking.cards.models.repositories.security.v1.CardSecurityRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -41,13 +44,19 @@ public class CardSecurityServiceImpl implements CardSecurityService {
     @Autowired
     private CardSecurityMapper mapper;
 
+    @Autowired
+    private PaginationQueryTemplate paginationQueryTemplate;
+
+    @Autowired
+    private PartialUpdateTemplate partialUpdateTemplate;
+
     @Override
     public Mono<PaginationResponse<CardSecurityDTO>> listSecuritySettings(UUID cardId, PaginationRequest paginationRequest) {
-        return PaginationUtils.paginateQuery(
+        return paginationQueryTemplate.paginate(
                 paginationRequest,
-                mapper::toDTO,
-                pageable -> repository.findByCardId(cardId, pageable),
-                () -> repository.countByCardId(cardId)
+                CardSecurity.class,
+                Criteria.where("cardId").is(cardId),
+                mapper::toDTO
         );
     }
 
@@ -63,41 +72,21 @@ public class CardSecurityServiceImpl implements CardSecurityService {
 
     @Override
     public Mono<CardSecurityDTO> getSecuritySetting(UUID cardId, UUID securityId) {
-        return repository.findByCardSecurityId(securityId)
-                .flatMap(entity -> {
-                    if (!entity.getCardId().equals(cardId)) {
-                        return Mono.error(new RuntimeException("CardSecurity not found for the specified card."));
-                    }
-                    return Mono.just(mapper.toDTO(entity));
-                });
+        return repository.findByCardIdAndCardSecurityId(cardId, securityId)
+                .map(mapper::toDTO);
     }
 
     @Override
     public Mono<CardSecurityDTO> updateSecuritySetting(UUID cardId, UUID securityId, CardSecurityDTO securityDTO) {
-        return repository.findByCardSecurityId(securityId)
-                .flatMap(existingEntity -> {
-                    if (!existingEntity.getCardId().equals(cardId)) {
-                        return Mono.error(new RuntimeException("CardSecurity not found for the specified card."));
-                    }
-
-                    CardSecurity updatedEntity = mapper.toEntity(securityDTO);
-                    updatedEntity.setCardSecurityId(securityId);
-                    updatedEntity.setCardId(cardId);
-
-                    return repository.save(updatedEntity);
-                })
+        return partialUpdateTemplate
+                .replace(CardSecurity.class, mapper.toEntity(securityDTO),
+                        Map.of("card_security_id", securityId, "card_id", cardId))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> deleteSecuritySetting(UUID cardId, UUID securityId) {
-        return repository.findByCardSecurityId(securityId)
-                .flatMap(existingEntity -> {
-                    if (!existingEntity.getCardId().equals(cardId)) {
-                        return Mono.error(new RuntimeException("CardSecurity not found for the specified card."));
-                    }
-
-                    return repository.deleteById(securityId);
-                });
+        return repository.deleteByCardIdAndCardSecurityId(cardId, securityId)
+                .then();
     }
 }
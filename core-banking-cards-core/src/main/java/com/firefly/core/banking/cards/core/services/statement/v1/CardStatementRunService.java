@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.statement.v1;
+
+import com.firefly.core.banking.cards.interfaces.dtos.statement.v1.CardStatementRunDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface CardStatementRunService {
+
+    /**
+     * Create a statement run for a billing period and start generating, in the background, the
+     * statements of every active or blocked card that has none for the period yet.
+     */
+    Mono<CardStatementRunDTO> createRun(CardStatementRunDTO runDTO);
+
+    /**
+     * Retrieve a statement run, including how many of its shards and statements are done.
+     */
+    Mono<CardStatementRunDTO> getRun(UUID runId);
+
+    /**
+     * Resume a failed run, or a running run that stopped making progress, with the shards it has
+     * not completed.
+     */
+    Mono<CardStatementRunDTO> resumeRun(UUID runId);
+}
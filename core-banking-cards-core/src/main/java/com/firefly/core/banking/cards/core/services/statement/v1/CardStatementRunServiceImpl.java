@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.statement.v1;
+
+import com.firefly.core.banking.cards.core.config.CardStatementProperties;
+import com.firefly.core.banking.cards.core.mappers.statement.v1.CardStatementRunMapper;
+import com.firefly.core.banking.cards.interfaces.dtos.statement.v1.CardStatementRunDTO;
+import com.firefly.core.banking.cards.interfaces.enums.statement.v1.StatementRunStatusEnum;
+import com.firefly.core.banking.cards.models.entities.statement.v1.CardStatementRun;
+import com.firefly.core.banking.cards.models.repositories.card.v1.CardRepository;
+import com.firefly.core.banking.cards.models.repositories.statement.v1.CardStatementRunRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Service
+@Transactional
+public class CardStatementRunServiceImpl implements CardStatementRunService {
+
+    private static final String OVERLAPPING_RUN = "A statement run that has not failed already covers part of this period";
+
+    @Autowired
+    private CardStatementRunRepository repository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private CardStatementRunMapper mapper;
+
+    @Autowired
+    private CardStatementRunner runner;
+
+    @Autowired
+    private CardStatementProperties properties;
+
+    /**
+     * Runs outside a transaction, so that the run is committed before the runner picks it up.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<CardStatementRunDTO> createRun(CardStatementRunDTO runDTO) {
+        if (runDTO.getPeriodStart() == null || runDTO.getPeriodEnd() == null
+                || !runDTO.getPeriodStart().isBefore(runDTO.getPeriodEnd())) {
+            return Mono.error(new IllegalArgumentException("A statement period with a start before its end is required"));
+        }
+        LocalDateTime statementDate = runDTO.getStatementDate() != null ? runDTO.getStatementDate() : runDTO.getPeriodEnd();
+        LocalDateTime dueDate = runDTO.getDueDate() != null ? runDTO.getDueDate()
+                : statementDate.plusDays(properties.getPaymentDueDays());
+        if (dueDate.isBefore(statementDate)) {
+            return Mono.error(new IllegalArgumentException("The payment due date cannot be before the statement date"));
+        }
+        return repository.existsOverlapping(runDTO.getPeriodStart(), runDTO.getPeriodEnd())
+                .flatMap(overlapping -> overlapping
+                        ? Mono.<Long>error(new IllegalArgumentException(OVERLAPPING_RUN))
+                        : cardRepository.count())
+                .flatMap(cards -> {
+                    CardStatementRun run = mapper.toEntity(runDTO);
+                    run.setRunId(null);
+                    run.setStatementDate(statementDate);
+                    run.setDueDate(dueDate);
+                    run.setShardCount(shardCount(cards));
+                    run.setCompletedShards(0);
+                    run.setStatementCount(0);
+                    run.setRunStatus(StatementRunStatusEnum.PENDING);
+                    return repository.save(run)
+                            .onErrorMap(DataIntegrityViolationException.class,
+                                    e -> new IllegalArgumentException(OVERLAPPING_RUN, e));
+                })
+                .flatMap(run -> start(run.getRunId()))
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<CardStatementRunDTO> getRun(UUID runId) {
+        return repository.findByRunId(runId)
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<CardStatementRunDTO> resumeRun(UUID runId) {
+        return repository.findByRunId(runId)
+                .flatMap(run -> start(run.getRunId()))
+                .map(mapper::toDTO);
+    }
+
+    /**
+     * Claim the run for this node and hand it to the runner. Fails if the run is complete, or
+     * running elsewhere and still making progress, or if it failed and a run created since covers
+     * part of its period. Other nodes can still help with its shards.
+     */
+    private Mono<CardStatementRun> start(UUID runId) {
+        return repository.claim(runId, properties.getStaleAfter().toSeconds())
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> new IllegalArgumentException(OVERLAPPING_RUN, e))
+                .flatMap(claimed -> {
+                    if (claimed == 0) {
+                        return Mono.error(new IllegalArgumentException("Statement run " + runId
+                                + " is complete or still running"));
+                    }
+                    runner.launch(runId);
+                    return repository.findByRunId(runId);
+                });
+    }
+
+    /**
+     * Enough shards for about {@code cards-per-shard} cards each, assuming card IDs are spread
+     * evenly, which random UUIDs are.
+     */
+    private int shardCount(long cards) {
+        long cardsPerShard = Math.max(1, properties.getCardsPerShard());
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, (cards + cardsPerShard - 1) / cardsPerShard));
+    }
+}
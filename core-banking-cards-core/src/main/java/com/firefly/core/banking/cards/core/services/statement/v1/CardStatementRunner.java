@@ -0,0 +1,221 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.statement.v1;
+
+import com.firefly.core.banking.cards.core.config.CardStatementProperties;
+import com.firefly.core.banking.cards.core.persistence.BatchInsertTemplate;
+import com.firefly.core.banking.cards.models.entities.statement.v1.CardStatement;
+import com.firefly.core.banking.cards.models.entities.statement.v1.CardStatementRun;
+import com.firefly.core.banking.cards.models.entities.statement.v1.CardStatementRunShard;
+import com.firefly.core.banking.cards.models.repositories.statement.v1.CardStatementRunRepository;
+import com.firefly.core.banking.cards.models.repositories.statement.v1.CardStatementRunShardRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Generates the statements of statement runs in the background.
+ * <p>
+ * A run splits the card_id space into {@code shard-count} equal ranges. {@code parallelism}
+ * workers per instance each claim the next pending shard, generate it and come back for another
+ * until none is left, so the shards are shared out by how fast each worker, on any instance, gets
+ * through them. A shard's entries are read by {@link StatementCursor} in card_id order and folded
+ * into one {@link StatementTotals} per card in a single pass; its statements are then written with
+ * multi-row inserts in one transaction that also completes the shard and advances the run. A
+ * shard is therefore written entirely or not at all, and a run that fails or whose instances stop
+ * can be resumed with the shards it has not completed.
+ * <p>
+ * A shard that fails is marked failed and the worker moves on; the run fails once no shard is
+ * left to claim, and resuming it retries the failed shards.
+ */
+@Component
+public class CardStatementRunner {
+
+    private static final BigInteger CARD_ID_SPACE = BigInteger.ONE.shiftLeft(64);
+
+    @Autowired
+    private CardStatementRunRepository repository;
+
+    @Autowired
+    private CardStatementRunShardRepository shardRepository;
+
+    @Autowired
+    private StatementCursor statementCursor;
+
+    @Autowired
+    private BatchInsertTemplate batchInsertTemplate;
+
+    @Autowired
+    private CardStatementProperties properties;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<UUID, Disposable> running = new ConcurrentHashMap<>();
+
+    private Counter generated;
+    private Timer shardTimer;
+
+    @PostConstruct
+    void init() {
+        generated = Counter.builder("cards.statements.generated")
+                .description("Card statements written by statement runs")
+                .register(meterRegistry);
+        shardTimer = Timer.builder("cards.statements.shard.duration")
+                .description("Time taken to read, aggregate and write one shard of a statement run")
+                .register(meterRegistry);
+        Gauge.builder("cards.statements.runs.running", running, Map::size)
+                .description("Statement runs being worked on by this instance")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Stop the runs being worked on by this instance. Their claimed shards stay RUNNING in the
+     * database and can be taken over once {@code stale-after} has passed.
+     */
+    @PreDestroy
+    void stop() {
+        running.values().forEach(Disposable::dispose);
+        running.clear();
+    }
+
+    /**
+     * Start working on the remaining shards of a run that was claimed for this instance, and
+     * return without waiting for them.
+     *
+     * @param runId the card statement run ID
+     */
+    public void launch(UUID runId) {
+        Disposable.Swap task = Disposables.swap();
+        running.put(runId, task);
+        task.update(run(runId)
+                .doFinally(signal -> running.remove(runId, task))
+                .subscribe());
+    }
+
+    /**
+     * Work on the shards of a run until none is left to claim, then fail the run if any shard
+     * failed. The run completes with the transaction of its last shard.
+     */
+    Mono<Void> run(UUID runId) {
+        int parallelism = Math.max(1, properties.getParallelism());
+        return repository.findByRunId(runId)
+                .flatMap(run -> shardRepository.createShards(runId, run.getShardCount())
+                        .then(shardRepository.retryFailed(runId))
+                        .thenMany(Flux.range(0, parallelism).flatMap(worker -> work(run), parallelism))
+                        .then(repository.failIfShardsFailed(runId)))
+                .then()
+                .onErrorResume(e -> repository.markFailed(runId, String.valueOf(e.getMessage())).then());
+    }
+
+    /**
+     * One worker: claim a shard, generate it, and claim the next one until there is none.
+     */
+    private Mono<Void> work(CardStatementRun run) {
+        long staleAfterSeconds = properties.getStaleAfter().toSeconds();
+        return shardRepository.claim(run.getRunId(), staleAfterSeconds)
+                .expand(shard -> generate(run, shard)
+                        .then(shardRepository.claim(run.getRunId(), staleAfterSeconds)))
+                .then();
+    }
+
+    /**
+     * Generate the statements of one shard, marking the shard failed if anything goes wrong.
+     */
+    Mono<Void> generate(CardStatementRun run, CardStatementRunShard shard) {
+        int index = shard.getShardIndex();
+        int shardCount = run.getShardCount();
+        return Mono.defer(() -> {
+                    Timer.Sample sample = Timer.start(meterRegistry);
+                    LocalDateTime now = LocalDateTime.now();
+                    return statementCursor.stream(boundary(index, shardCount), boundary(index + 1, shardCount),
+                                    run.getPeriodStart(), run.getPeriodEnd())
+                            .windowUntilChanged(StatementEntry::getCardId)
+                            .concatMap(entries -> entries.reduceWith(StatementTotals::new, StatementTotals::add))
+                            .filter(StatementTotals::hasCard)
+                            .map(totals -> totals.toStatement(run, properties, now))
+                            .collectList()
+                            .flatMap(statements -> write(run, shard, statements))
+                            .doOnSuccess(done -> sample.stop(shardTimer));
+                })
+                .onErrorResume(e -> shardRepository.markFailed(shard.getShardId(), shard.getAttempts(),
+                        String.valueOf(e.getMessage())).then());
+    }
+
+    /**
+     * Write the statements of a shard and record its completion in one transaction. The shard is
+     * completed first, which fails if another worker took it over and locks it until the end.
+     */
+    private Mono<Void> write(CardStatementRun run, CardStatementRunShard shard, List<CardStatement> statements) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        return shardRepository.complete(shard.getShardId(), shard.getAttempts(), statements.size())
+                .flatMap(updated -> {
+                    if (updated == 0) {
+                        return Mono.error(new IllegalStateException("Shard " + shard.getShardIndex()
+                                + " of statement run " + run.getRunId() + " is no longer held by this worker"));
+                    }
+                    return Flux.range(0, (statements.size() + batchSize - 1) / batchSize)
+                            .concatMap(batch -> batchInsertTemplate.insertAll(CardStatement.class,
+                                    statements.subList(batch * batchSize, Math.min(statements.size(), (batch + 1) * batchSize))))
+                            .then(repository.recordShard(run.getRunId(), statements.size()));
+                })
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(done -> generated.increment(statements.size()))
+                .then();
+    }
+
+    /**
+     * The card ID at which shard {@code index} of {@code shardCount} starts, which is also where
+     * the previous one ends: the most significant 64 bits split into equal ranges, compared the
+     * way Postgres orders UUIDs. Null for the open ends of the first and last shards.
+     */
+    static UUID boundary(int index, int shardCount) {
+        if (index <= 0 || index >= shardCount) {
+            return null;
+        }
+        long mostSignificantBits = CARD_ID_SPACE.multiply(BigInteger.valueOf(index))
+                .divide(BigInteger.valueOf(shardCount))
+                .longValue();
+        return new UUID(mostSignificantBits, 0L);
+    }
+
+    int runningRuns() {
+        return running.size();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.statement.v1;
+
+import com.firefly.core.banking.cards.core.config.CardStatementProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Reads everything the statements of a range of cards are made of, in one pass.
+ * <p>
+ * The query has one branch per table: the cards due a statement with the closing balance of
+ * their previous one, and the completed purchases, withdrawals and refunds, the fees, the interest
+ * charges and the payments of the period. Each branch is an index range scan in card_id order,
+ * and Postgres merges them into a single stream ordered by card_id, so the rows of a card arrive
+ * together and the caller can fold them without holding more than one card at a time. Rows are
+ * fetched through a cursor, {@code fetch-size} at a time.
+ * <p>
+ * Payment and fee transactions are left out: they are read from card_payment and card_fee.
+ * <p>
+ * Cards that already have a statement for the period are skipped, so a resumed run does not
+ * bill them again. That check is not what keeps statements unique: the unique index on
+ * card_statement(card_id, statement_period_end) fails a shard that races another run's insert.
+ */
+@Component
+public class StatementCursor {
+
+    private static final String SQL = """
+            SELECT c.card_id, 'CARD' AS entry_type, c.party_id, c.account_id, c.currency_code,
+                   CAST(c.credit_limit AS DECIMAL(19, 4)) AS amount, previous.closing_balance AS opening_balance,
+                   CAST(NULL AS DECIMAL(10, 6)) AS interest_rate, CAST(NULL AS DECIMAL(10, 6)) AS annual_percentage_rate,
+                   CAST(NULL AS TIMESTAMP) AS entry_timestamp
+            FROM card c
+            LEFT JOIN LATERAL (
+                SELECT s.closing_balance FROM card_statement s
+                WHERE s.card_id = c.card_id AND s.statement_period_end <= :periodStart
+                ORDER BY s.statement_period_end DESC
+                LIMIT 1) previous ON TRUE
+            WHERE %1$s
+              AND c.card_status IN ('ACTIVE', 'BLOCKED')
+              AND NOT EXISTS (SELECT 1 FROM card_statement d
+                              WHERE d.card_id = c.card_id AND d.statement_period_end = :periodEnd)
+            UNION ALL
+            SELECT card_id, CAST(transaction_type AS VARCHAR), NULL, NULL, NULL,
+                   COALESCE(billing_amount, transaction_amount), NULL, NULL, NULL, transaction_timestamp
+            FROM card_transaction
+            WHERE %1$s
+              AND transaction_timestamp >= :periodStart AND transaction_timestamp < :periodEnd
+              AND transaction_status = 'COMPLETED'
+              AND transaction_type IN ('PURCHASE', 'WITHDRAWAL', 'REFUND')
+            UNION ALL
+            SELECT card_id, 'FEE', NULL, NULL, NULL, COALESCE(total_amount, fee_amount), NULL, NULL, NULL, charge_timestamp
+            FROM card_fee
+            WHERE %1$s
+              AND charge_timestamp >= :periodStart AND charge_timestamp < :periodEnd
+              AND is_waived IS NOT TRUE AND is_refunded IS NOT TRUE
+            UNION ALL
+            SELECT card_id, 'INTEREST', NULL, NULL, NULL, interest_amount, NULL,
+                   interest_rate, annual_percentage_rate, charge_timestamp
+            FROM card_interest
+            WHERE %1$s
+              AND charge_timestamp >= :periodStart AND charge_timestamp < :periodEnd
+              AND is_charged AND is_waived IS NOT TRUE
+            UNION ALL
+            SELECT card_id, 'PAYMENT', NULL, NULL, NULL, payment_amount, NULL, NULL, NULL, payment_timestamp
+            FROM card_payment
+            WHERE %1$s
+              AND payment_timestamp >= :periodStart AND payment_timestamp < :periodEnd
+              AND payment_status = 'COMPLETED'
+            ORDER BY card_id
+            """;
+
+    @Autowired
+    private R2dbcEntityTemplate template;
+
+    @Autowired
+    private CardStatementProperties properties;
+
+    /**
+     * Stream the statement entries of the cards in a card_id range, ordered by card_id.
+     *
+     * @param lowerCardId first card ID of the range, or null to start from the lowest
+     * @param upperCardId card ID the range ends before, or null to go up to the highest
+     * @param periodStart start of the statement period, inclusive
+     * @param periodEnd   end of the statement period, exclusive
+     * @return a Flux emitting the entries of each card together
+     */
+    public Flux<StatementEntry> stream(UUID lowerCardId, UUID upperCardId,
+                                       LocalDateTime periodStart, LocalDateTime periodEnd) {
+        DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient()
+                .sql(sql(lowerCardId != null, upperCardId != null))
+                .bind("periodStart", periodStart)
+                .bind("periodEnd", periodEnd);
+        if (lowerCardId != null) {
+            spec = spec.bind("lowerCardId", lowerCardId);
+        }
+        if (upperCardId != null) {
+            spec = spec.bind("upperCardId", upperCardId);
+        }
+        return spec.filter(statement -> statement.fetchSize(properties.getFetchSize()))
+                .map((row, rowMetadata) -> new StatementEntry(
+                        row.get("card_id", UUID.class),
+                        row.get("entry_type", String.class),
+                        row.get("party_id", UUID.class),
+                        row.get("account_id", UUID.class),
+                        row.get("currency_code", String.class),
+                        row.get("amount", BigDecimal.class),
+                        row.get("opening_balance", BigDecimal.class),
+                        row.get("interest_rate", BigDecimal.class),
+                        row.get("annual_percentage_rate", BigDecimal.class),
+                        row.get("entry_timestamp", LocalDateTime.class)))
+                .all();
+    }
+
+    static String sql(boolean lowerBound, boolean upperBound) {
+        String range = lowerBound && upperBound ? "card_id >= :lowerCardId AND card_id < :upperCardId"
+                : lowerBound ? "card_id >= :lowerCardId"
+                : upperBound ? "card_id < :upperCardId"
+                : "TRUE";
+        return SQL.formatted(range);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.statement.v1;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One row read for a statement: the card itself, or one of its transactions, fees, interest
+ * charges or payments in the statement period.
+ */
+@Value
+class StatementEntry {
+
+    static final String CARD = "CARD";
+    static final String PURCHASE = "PURCHASE";
+    static final String WITHDRAWAL = "WITHDRAWAL";
+    static final String REFUND = "REFUND";
+    static final String FEE = "FEE";
+    static final String INTEREST = "INTEREST";
+    static final String PAYMENT = "PAYMENT";
+
+    UUID cardId;
+    String entryType;
+    UUID partyId;
+    UUID accountId;
+    String currencyCode;
+    /**
+     * The amount of the activity, or the credit limit of the card.
+     */
+    BigDecimal amount;
+    /**
+     * The closing balance of the card's previous statement.
+     */
+    BigDecimal openingBalance;
+    BigDecimal interestRate;
+    BigDecimal annualPercentageRate;
+    LocalDateTime entryTimestamp;
+
+    static StatementEntry card(UUID cardId, UUID partyId, UUID accountId, String currencyCode,
+                               BigDecimal creditLimit, BigDecimal openingBalance) {
+        return new StatementEntry(cardId, CARD, partyId, accountId, currencyCode, creditLimit, openingBalance,
+                null, null, null);
+    }
+
+    static StatementEntry activity(UUID cardId, String entryType, BigDecimal amount, LocalDateTime entryTimestamp) {
+        return new StatementEntry(cardId, entryType, null, null, null, amount, null, null, null, entryTimestamp);
+    }
+
+    static StatementEntry interest(UUID cardId, BigDecimal amount, BigDecimal interestRate,
+                                   BigDecimal annualPercentageRate, LocalDateTime entryTimestamp) {
+        return new StatementEntry(cardId, INTEREST, null, null, null, amount, null, interestRate,
+                annualPercentageRate, entryTimestamp);
+    }
+}
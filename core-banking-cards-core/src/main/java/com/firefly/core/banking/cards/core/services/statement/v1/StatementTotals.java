@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.statement.v1;
+
+import com.firefly.core.banking.cards.core.config.CardStatementProperties;
+import com.firefly.core.banking.cards.models.entities.statement.v1.CardStatement;
+import com.firefly.core.banking.cards.models.entities.statement.v1.CardStatementRun;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+/**
+ * The running totals of one card's statement, folded from its entries in any order.
+ */
+class StatementTotals {
+
+    static final String PAYMENT_DUE = "UNPAID";
+    static final String NO_PAYMENT_DUE = "NO_PAYMENT_DUE";
+
+    private static final DateTimeFormatter REFERENCE_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private StatementEntry card;
+    private BigDecimal purchases = BigDecimal.ZERO;
+    private BigDecimal cashAdvances = BigDecimal.ZERO;
+    private BigDecimal credits = BigDecimal.ZERO;
+    private BigDecimal fees = BigDecimal.ZERO;
+    private BigDecimal interest = BigDecimal.ZERO;
+    private BigDecimal payments = BigDecimal.ZERO;
+    private StatementEntry latestInterest;
+
+    StatementTotals add(StatementEntry entry) {
+        BigDecimal amount = entry.getAmount() != null ? entry.getAmount() : BigDecimal.ZERO;
+        switch (entry.getEntryType()) {
+            case StatementEntry.CARD -> card = entry;
+            case StatementEntry.PURCHASE -> purchases = purchases.add(amount);
+            case StatementEntry.WITHDRAWAL -> cashAdvances = cashAdvances.add(amount);
+            case StatementEntry.REFUND -> credits = credits.add(amount);
+            case StatementEntry.FEE -> fees = fees.add(amount);
+            case StatementEntry.INTEREST -> {
+                interest = interest.add(amount);
+                if (latestInterest == null || isAfter(entry.getEntryTimestamp(), latestInterest.getEntryTimestamp())) {
+                    latestInterest = entry;
+                }
+            }
+            case StatementEntry.PAYMENT -> payments = payments.add(amount);
+            default -> {
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Whether the card itself was read. Activity of a card that is not due a statement, because
+     * it is closed or already has one for the period, is dropped.
+     */
+    boolean hasCard() {
+        return card != null;
+    }
+
+    CardStatement toStatement(CardStatementRun run, CardStatementProperties properties, LocalDateTime now) {
+        BigDecimal opening = card.getOpeningBalance() != null ? card.getOpeningBalance() : BigDecimal.ZERO;
+        BigDecimal closing = opening.add(purchases).add(cashAdvances).add(fees).add(interest)
+                .subtract(credits).subtract(payments);
+        BigDecimal due = closing.max(BigDecimal.ZERO);
+        BigDecimal creditLimit = card.getAmount();
+
+        CardStatement statement = new CardStatement();
+        statement.setCardId(card.getCardId());
+        statement.setPartyId(card.getPartyId());
+        statement.setAccountId(card.getAccountId());
+        statement.setStatementReference(reference(card.getCardId(), run.getPeriodEnd()));
+        statement.setStatementDate(run.getStatementDate());
+        statement.setStatementPeriodStart(run.getPeriodStart());
+        statement.setStatementPeriodEnd(run.getPeriodEnd());
+        statement.setDueDate(run.getDueDate());
+        statement.setOpeningBalance(opening);
+        statement.setClosingBalance(closing);
+        statement.setTotalPaymentDue(due);
+        statement.setMinimumPaymentDue(minimumPayment(due, properties));
+        statement.setCurrencyCode(card.getCurrencyCode());
+        statement.setTotalPurchases(purchases);
+        statement.setTotalCashAdvances(cashAdvances);
+        statement.setTotalFees(fees);
+        statement.setTotalInterest(interest);
+        statement.setTotalCredits(credits);
+        statement.setTotalPayments(payments);
+        statement.setTotalAdjustments(BigDecimal.ZERO);
+        statement.setCreditLimit(creditLimit);
+        statement.setAvailableCredit(creditLimit != null ? creditLimit.subtract(due).max(BigDecimal.ZERO) : null);
+        if (latestInterest != null) {
+            statement.setInterestRate(latestInterest.getInterestRate());
+            statement.setAnnualPercentageRate(latestInterest.getAnnualPercentageRate());
+        }
+        statement.setPaymentStatus(due.signum() > 0 ? PAYMENT_DUE : NO_PAYMENT_DUE);
+        statement.setIsGenerated(true);
+        statement.setGenerationTimestamp(now);
+        statement.setIsDelivered(false);
+        statement.setIsViewed(false);
+        return statement;
+    }
+
+    /**
+     * The larger of the configured share of the amount due and the configured minimum amount,
+     * but never more than is due.
+     */
+    static BigDecimal minimumPayment(BigDecimal due, CardStatementProperties properties) {
+        if (due.signum() <= 0) {
+            return BigDecimal.ZERO;
+        }
+        BigDecimal share = due.multiply(properties.getMinimumPaymentRate()).setScale(2, RoundingMode.HALF_UP);
+        return share.max(properties.getMinimumPaymentAmount()).min(due);
+    }
+
+    static String reference(UUID cardId, LocalDateTime periodEnd) {
+        return "STMT-" + REFERENCE_DATE.format(periodEnd) + "-" + cardId.toString().replace("-", "");
+    }
+
+    private static boolean isAfter(LocalDateTime timestamp, LocalDateTime other) {
+        return timestamp != null && (other == null || timestamp.isAfter(other));
+    }
+}
@@ -45,6 +45,11 @@ public interface CardTerminalService {
      */
     Mono<CardTerminalDTO> updateTerminal(UUID terminalId, CardTerminalDTO terminalDTO);
 
+    /**
+     * Partially update an existing card terminal; only the non-null fields of the DTO are written.
+     */
+    Mono<CardTerminalDTO> patchTerminal(UUID terminalId, CardTerminalDTO terminalDTO);
+
     /**
      * Delete a card terminal by its unique ID.
      */
@@ -19,16 +19,19 @@ package com.firefly.core.banking.cards.core.services.terminal.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
-import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.terminal.v1.CardTerminalMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.terminal.v1.CardTerminalDTO;
 import com.firefly.core.banking.cards.models.entities.terminal.v1.CardTerminal;
 import com.firefly.core.banking.cards.models.repositories.terminal.v1.CardTerminalRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -41,13 +44,19 @@ public class CardTerminalServiceImpl implements CardTerminalService {
     @Autowired
     private CardTerminalMapper mapper;
 
+    @Autowired
+    private PaginationQueryTemplate paginationQueryTemplate;
+
+    @Autowired
+    private PartialUpdateTemplate partialUpdateTemplate;
+
     @Override
     public Mono<PaginationResponse<CardTerminalDTO>> listTerminals(PaginationRequest paginationRequest) {
-        return PaginationUtils.paginateQuery(
+        return paginationQueryTemplate.paginate(
                 paginationRequest,
-                mapper::toDTO,
-                repository::findAllBy,
-                repository::count
+                CardTerminal.class,
+                Criteria.empty(),
+                mapper::toDTO
         );
     }
 
@@ -75,6 +84,13 @@ public class CardTerminalServiceImpl implements CardTerminalService {
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<CardTerminalDTO> patchTerminal(UUID terminalId, CardTerminalDTO terminalDTO) {
+        return partialUpdateTemplate
+                .updateNonNull(CardTerminal.class, mapper.toEntity(terminalDTO), Map.of("terminal_id", terminalId))
+                .map(mapper::toDTO);
+    }
+
     @Override
     public Mono<Void> deleteTerminal(UUID terminalId) {
         return repository.findByTerminalId(terminalId)
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+
+package com.firefly.core.banking.cards.core.services.transaction.v1;
+
+import com.firefly.core.banking.cards.models.entities.transaction.v1.CardTransaction;
+import lombok.Value;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Renders card transactions as RFC 4180 CSV lines, one line per transaction. Lines are rendered
+ * straight from the stored rows, and every header names the card_transaction column it comes from.
+ * <p>
+ * Text that a spreadsheet would evaluate as a formula, anything starting with {@code =}, {@code +},
+ * {@code -}, {@code @}, a tab or a carriage return, is prefixed with a single quote. Numbers are
+ * written as they are, so negative amounts stay numeric.
+ */
+final class CardTransactionCsv {
+
+    private static final List<Column> COLUMNS = List.of(
+            new Column("card_transaction_id", CardTransaction::getCardTransactionId),
+            new Column("card_id", CardTransaction::getCardId),
+            new Column("transaction_type", CardTransaction::getTransactionType),
+            new Column("transaction_status", CardTransaction::getTransactionStatus),
+            new Column("transaction_timestamp", CardTransaction::getTransactionTimestamp),
+            new Column("settlement_timestamp", CardTransaction::getSettlementTimestamp),
+            new Column("account_id", CardTransaction::getAccountId),
+            new Column("party_id", CardTransaction::getPartyId),
+            new Column("transaction_reference", CardTransaction::getTransactionReference),
+            new Column("authorization_code", CardTransaction::getAuthorizationCode),
+            new Column("transaction_amount", CardTransaction::getTransactionAmount),
+            new Column("transaction_currency", CardTransaction::getTransactionCurrency),
+            new Column("billing_amount", CardTransaction::getBillingAmount),
+            new Column("billing_currency", CardTransaction::getBillingCurrency),
+            new Column("exchange_rate", CardTransaction::getExchangeRate),
+            new Column("fee_amount", CardTransaction::getFeeAmount),
+            new Column("fee_currency", CardTransaction::getFeeCurrency),
+            new Column("merchant_id", CardTransaction::getMerchantId),
+            new Column("merchant_name", CardTransaction::getMerchantName),
+            new Column("merchant_category_code", CardTransaction::getMerchantCategoryCode),
+            new Column("merchant_country", CardTransaction::getMerchantCountry),
+            new Column("terminal_id", CardTransaction::getTerminalId),
+            new Column("entry_mode", CardTransaction::getEntryMode),
+            new Column("is_card_present", CardTransaction::getIsCardPresent),
+            new Column("installment_plan", CardTransaction::getInstallmentPlan),
+            new Column("is_fraud_suspected", CardTransaction::getIsFraudSuspected),
+            new Column("fraud_score", CardTransaction::getFraudScore)
+    );
+
+    static final String HEADER = COLUMNS.stream()
+            .map(Column::getName)
+            .collect(Collectors.joining(",", "", "\r\n"));
+
+    private CardTransactionCsv() {
+    }
+
+    /**
+     * Render one transaction as a CSV line, including the trailing line break.
+     */
+    static String line(CardTransaction transaction) {
+        StringBuilder line = new StringBuilder(256);
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            Object value = COLUMNS.get(i).getValue().apply(transaction);
+            if (value instanceof String text) {
+                appendEscaped(line, neutralizeFormula(text));
+            } else if (value != null) {
+                appendEscaped(line, value.toString());
+            }
+        }
+        return line.append("\r\n").toString();
+    }
+
+    private static String neutralizeFormula(String text) {
+        if (text.isEmpty()) {
+            return text;
+        }
+        char first = text.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r'
+                ? "'" + text : text;
+    }
+
+    private static void appendEscaped(StringBuilder line, String value) {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            line.append(value);
+            return;
+        }
+        line.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    @Value
+    private static class Column {
+        String name;
+        Function<CardTransaction, Object> value;
+    }
+}
@@ -20,7 +20,11 @@ package com.firefly.core.banking.cards.core.services.transaction.v1;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.core.banking.cards.interfaces.dtos.CursorPageResponse;
+import com.firefly.core.banking.cards.interfaces.dtos.batch.v1.BatchResultDTO;
 import com.firefly.core.banking.cards.interfaces.dtos.transaction.v1.CardTransactionDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.transaction.v1.TransactionExportFilterDTO;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -31,11 +35,55 @@ public interface CardTransactionService {
      */
     Mono<PaginationResponse<CardTransactionDTO>> listTransactions(UUID cardId, PaginationRequest paginationRequest);
 
+    /**
+     * Retrieve a page of transactions for a specific card using keyset (cursor) pagination,
+     * newest first. No total count is computed, so the cost stays proportional to the page size at any depth.
+     *
+     * @param cardId the card to list transactions for
+     * @param cursor the opaque cursor returned by the previous page, or null for the first page
+     * @param size the maximum number of transactions to return
+     */
+    Mono<CursorPageResponse<CardTransactionDTO>> scrollTransactions(UUID cardId, String cursor, int size);
+
+    /**
+     * Check an export filter without running the export, so that a caller can reject it before
+     * committing to a response.
+     *
+     * @param filter the card, account and/or party to export, plus an optional time range
+     * @return a Mono completing if the filter is valid, or failing with an IllegalArgumentException
+     */
+    Mono<Void> validateExport(TransactionExportFilterDTO filter);
+
+    /**
+     * Stream every transaction matching the filter, oldest first, straight from a database cursor.
+     * Memory use does not depend on the number of transactions, and a slow subscriber slows the query down.
+     *
+     * @param filter the card, account and/or party to export, plus an optional time range
+     */
+    Flux<CardTransactionDTO> exportTransactions(TransactionExportFilterDTO filter);
+
+    /**
+     * Stream every transaction matching the filter as CSV lines, starting with a header line.
+     *
+     * @param filter the card, account and/or party to export, plus an optional time range
+     */
+    Flux<String> exportTransactionsCsv(TransactionExportFilterDTO filter);
+
     /**
      * Create a new transaction for a specific card.
      */
     Mono<CardTransactionDTO> createTransaction(UUID cardId, CardTransactionDTO transactionDTO);
 
+    /**
+     * Create a stream of transactions, possibly spanning many cards, using chunked multi-row inserts.
+     * Each chunk is persisted independently; a failing chunk is retried row by row so that only
+     * the offending items are reported as failed.
+     *
+     * @param transactions the transactions to create; each must carry its card ID
+     * @return per-item outcomes plus throughput counters
+     */
+    Mono<BatchResultDTO> createTransactions(Flux<CardTransactionDTO> transactions);
+
     /**
      * Retrieve a specific transaction by its unique ID, ensuring it belongs to the given card.
      */
@@ -51,6 +99,11 @@ public interface CardTransactionService {
      */
     Mono<CardTransactionDTO> updateTransaction(UUID cardId, UUID transactionId, CardTransactionDTO transactionDTO);
 
+    /**
+     * Partially update an existing transaction record for a specific card; only the non-null fields of the DTO are written.
+     */
+    Mono<CardTransactionDTO> patchTransaction(UUID cardId, UUID transactionId, CardTransactionDTO transactionDTO);
+
     /**
      * Delete a transaction by its unique ID, ensuring it belongs to the specified card.
      */
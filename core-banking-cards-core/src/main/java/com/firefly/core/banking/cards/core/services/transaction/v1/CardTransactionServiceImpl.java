@@ -18,82 +18,390 @@
 package com.firefly.core.banking.cards.core.services.transaction.v1;
 
 import org.fireflyframework.core.filters.FilterRequest;
-import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
-import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.core.banking.cards.core.config.CardTransactionBatchProperties;
+import com.firefly.core.banking.cards.core.config.CardTransactionExportProperties;
 import com.firefly.core.banking.cards.core.mappers.transaction.v1.CardTransactionMapper;
+import com.firefly.core.banking.cards.core.pagination.KeysetCursor;
+import com.firefly.core.banking.cards.core.persistence.BatchInsertTemplate;
+import com.firefly.core.banking.cards.core.persistence.FilterPlanCache;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
+import com.firefly.core.banking.cards.core.persistence.StreamingQueryTemplate;
+import com.firefly.core.banking.cards.core.services.balance.v1.BalanceProjection;
+import com.firefly.core.banking.cards.core.services.event.v1.CardEventOutbox;
+import com.firefly.core.banking.cards.core.services.fraud.v1.FraudScoringEngine;
+import com.firefly.core.banking.cards.interfaces.dtos.CursorPageResponse;
+import com.firefly.core.banking.cards.interfaces.dtos.batch.v1.BatchItemResultDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.batch.v1.BatchResultDTO;
 import com.firefly.core.banking.cards.interfaces.dtos.transaction.v1.CardTransactionDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.transaction.v1.TransactionExportFilterDTO;
+import com.firefly.core.banking.cards.interfaces.enums.batch.v1.BatchItemStatusEnum;
+import com.firefly.core.banking.cards.interfaces.enums.event.v1.CardEventTypeEnum;
 import com.firefly.core.banking.cards.models.entities.transaction.v1.CardTransaction;
 import com.firefly.core.banking.cards.models.repositories.transaction.v1.CardTransactionRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class CardTransactionServiceImpl implements CardTransactionService {
 
+    static final int MAX_CURSOR_PAGE_SIZE = 500;
+
     @Autowired
     private CardTransactionRepository repository;
 
     @Autowired
     private CardTransactionMapper mapper;
 
+    @Autowired
+    private PaginationQueryTemplate paginationQueryTemplate;
+
+    @Autowired
+    private PartialUpdateTemplate partialUpdateTemplate;
+
+    @Autowired
+    private FilterPlanCache filterPlanCache;
+
+    @Autowired
+    private BatchInsertTemplate batchInsertTemplate;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private CardTransactionBatchProperties batchProperties;
+
+    @Autowired
+    private StreamingQueryTemplate streamingQueryTemplate;
+
+    @Autowired
+    private CardTransactionExportProperties exportProperties;
+
+    @Autowired
+    private BalanceProjection balanceProjection;
+
+    @Autowired
+    private CardEventOutbox outbox;
+
+    @Autowired
+    private FraudScoringEngine fraudScoring;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
     @Override
     public Mono<PaginationResponse<CardTransactionDTO>> listTransactions(UUID cardId, PaginationRequest paginationRequest) {
-        return PaginationUtils.paginateQuery(
+        return paginationQueryTemplate.paginate(
                 paginationRequest,
-                mapper::toDTO,
-                pageable -> repository.findByCardId(cardId, pageable),
-                () -> repository.countByCardId(cardId)
+                CardTransaction.class,
+                Criteria.where("cardId").is(cardId),
+                mapper::toDTO
         );
     }
 
+    @Override
+    public Mono<CursorPageResponse<CardTransactionDTO>> scrollTransactions(UUID cardId, String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            return Mono.error(new IllegalArgumentException(
+                    "Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE));
+        }
+
+        // Fetch one extra row to know whether another page exists without counting
+        Flux<CardTransaction> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = repository.findFirstKeysetPage(cardId, size + 1);
+        } else {
+            KeysetCursor position;
+            try {
+                position = KeysetCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                return Mono.error(e);
+            }
+            rows = repository.findKeysetPageAfter(cardId, position.getTimestamp(), position.getId(), size + 1);
+        }
+
+        return rows.collectList()
+                .map(transactions -> toCursorPage(transactions, size));
+    }
+
+    private CursorPageResponse<CardTransactionDTO> toCursorPage(List<CardTransaction> transactions, int size) {
+        boolean hasNext = transactions.size() > size;
+        List<CardTransaction> page = hasNext ? transactions.subList(0, size) : transactions;
+        String nextCursor = null;
+        if (hasNext) {
+            CardTransaction last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getTransactionTimestamp(), last.getCardTransactionId()).encode();
+        }
+        return CursorPageResponse.<CardTransactionDTO>builder()
+                .content(page.stream().map(mapper::toDTO).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Override
+    public Mono<Void> validateExport(TransactionExportFilterDTO filter) {
+        String problem = exportProblem(filter);
+        return problem != null ? Mono.error(new IllegalArgumentException(problem)) : Mono.empty();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<CardTransactionDTO> exportTransactions(TransactionExportFilterDTO filter) {
+        String problem = exportProblem(filter);
+        if (problem != null) {
+            return Flux.error(new IllegalArgumentException(problem));
+        }
+        return streamExport(filter).map(mapper::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<String> exportTransactionsCsv(TransactionExportFilterDTO filter) {
+        // Validate before emitting the header, so that a bad filter fails the request instead of a partial file
+        String problem = exportProblem(filter);
+        if (problem != null) {
+            return Flux.error(new IllegalArgumentException(problem));
+        }
+        return streamExport(filter)
+                .map(CardTransactionCsv::line)
+                .startWith(CardTransactionCsv.HEADER);
+    }
+
+    private Flux<CardTransaction> streamExport(TransactionExportFilterDTO filter) {
+        return streamingQueryTemplate.stream(CardTransaction.class, exportCriteria(filter),
+                Sort.by("transactionTimestamp", "cardTransactionId"), exportProperties.getFetchSize());
+    }
+
+    private static String exportProblem(TransactionExportFilterDTO filter) {
+        if (filter == null || !filter.isScoped()) {
+            return "At least one of cardId, accountId or partyId is required";
+        }
+        if (!filter.isRangeValid()) {
+            return "from must be before to";
+        }
+        return null;
+    }
+
+    private static Criteria exportCriteria(TransactionExportFilterDTO filter) {
+        Criteria criteria = Criteria.empty();
+        if (filter.getCardId() != null) {
+            criteria = criteria.and("cardId").is(filter.getCardId());
+        }
+        if (filter.getAccountId() != null) {
+            criteria = criteria.and("accountId").is(filter.getAccountId());
+        }
+        if (filter.getPartyId() != null) {
+            criteria = criteria.and("partyId").is(filter.getPartyId());
+        }
+        if (filter.getFrom() != null) {
+            criteria = criteria.and("transactionTimestamp").greaterThanOrEquals(filter.getFrom());
+        }
+        if (filter.getTo() != null) {
+            criteria = criteria.and("transactionTimestamp").lessThan(filter.getTo());
+        }
+        return criteria;
+    }
+
     @Override
     public Mono<CardTransactionDTO> createTransaction(UUID cardId, CardTransactionDTO transactionDTO) {
         transactionDTO.setCardId(cardId);
-        return repository.save(mapper.toEntity(transactionDTO))
-                .map(mapper::toDTO);
+        CardTransaction entity = withTimestamp(mapper.toEntity(transactionDTO));
+        fraudScoring.score(entity);
+        return repository.save(entity)
+                .flatMap(saved -> balanceProjection.apply(saved).thenReturn(saved))
+                .flatMap(saved -> fraudScoring.onSaved(saved).thenReturn(saved))
+                .map(mapper::toDTO)
+                .flatMap(created -> outbox.append(CardEventTypeEnum.TRANSACTION_CREATED, cardId,
+                        created.getCardTransactionId(), created).thenReturn(created));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<BatchResultDTO> createTransactions(Flux<CardTransactionDTO> transactions) {
+        return Mono.defer(() -> {
+            long started = System.nanoTime();
+            AtomicInteger chunks = new AtomicInteger();
+            return transactions
+                    .index()
+                    .buffer(batchProperties.getChunkSize())
+                    .concatMap(chunk -> {
+                        chunks.incrementAndGet();
+                        return writeChunk(chunk);
+                    })
+                    .collectList()
+                    .map(items -> summarize(items, chunks.get(), System.nanoTime() - started));
+        });
+    }
+
+    private Flux<BatchItemResultDTO> writeChunk(List<Tuple2<Long, CardTransactionDTO>> chunk) {
+        List<BatchItemResultDTO> outcomes = new ArrayList<>(chunk.size());
+        List<BatchItemResultDTO> pending = new ArrayList<>(chunk.size());
+        List<CardTransaction> entities = new ArrayList<>(chunk.size());
+
+        for (Tuple2<Long, CardTransactionDTO> item : chunk) {
+            long index = item.getT1();
+            if (index >= batchProperties.getMaxItems()) {
+                outcomes.add(outcome(index, null, BatchItemStatusEnum.REJECTED,
+                        "Batch exceeds the maximum of " + batchProperties.getMaxItems() + " items"));
+                continue;
+            }
+            String violations = validate(item.getT2());
+            if (violations != null) {
+                outcomes.add(outcome(index, null, BatchItemStatusEnum.FAILED, violations));
+                continue;
+            }
+            CardTransaction entity = withTimestamp(mapper.toEntity(item.getT2()));
+            entity.setCardTransactionId(UUID.randomUUID());
+            fraudScoring.score(entity);
+            entities.add(entity);
+            pending.add(outcome(index, entity.getCardTransactionId(), BatchItemStatusEnum.CREATED, null));
+        }
+
+        if (entities.isEmpty()) {
+            return Flux.fromIterable(outcomes);
+        }
+        // Rows, their balance deltas and their events are committed together, one transaction per chunk
+        return batchInsertTemplate.insertAll(CardTransaction.class, entities)
+                .then(balanceProjection.applyAll(entities))
+                .then(outbox.appendAll(CardEventTypeEnum.TRANSACTION_CREATED, entities,
+                        CardTransaction::getCardId, CardTransaction::getCardTransactionId, mapper::toDTO))
+                .then(fraudScoring.onSaved(entities))
+                .as(transactionalOperator::transactional)
+                .thenMany(Flux.fromIterable(pending))
+                .onErrorResume(e -> insertOneByOne(entities, pending))
+                .concatWith(Flux.fromIterable(outcomes))
+                .sort((a, b) -> Long.compare(a.getIndex(), b.getIndex()));
+    }
+
+    /**
+     * card_transaction is partitioned on transaction_timestamp, so every row needs one to be routed.
+     */
+    private static CardTransaction withTimestamp(CardTransaction entity) {
+        if (entity.getTransactionTimestamp() == null) {
+            entity.setTransactionTimestamp(LocalDateTime.now());
+        }
+        return entity;
+    }
+
+    private Flux<BatchItemResultDTO> insertOneByOne(List<CardTransaction> entities, List<BatchItemResultDTO> pending) {
+        return Flux.range(0, entities.size())
+                .concatMap(i -> batchInsertTemplate.insertAll(CardTransaction.class, List.of(entities.get(i)))
+                        .then(balanceProjection.apply(entities.get(i)))
+                        .then(outbox.appendAll(CardEventTypeEnum.TRANSACTION_CREATED, List.of(entities.get(i)),
+                                CardTransaction::getCardId, CardTransaction::getCardTransactionId, mapper::toDTO))
+                        .then(fraudScoring.onSaved(entities.get(i)))
+                        .as(transactionalOperator::transactional)
+                        .thenReturn(pending.get(i))
+                        .onErrorResume(e -> Mono.just(outcome(pending.get(i).getIndex(), null,
+                                BatchItemStatusEnum.FAILED, e.getMessage()))));
+    }
+
+    private String validate(CardTransactionDTO transactionDTO) {
+        if (transactionDTO == null) {
+            return "Transaction is required";
+        }
+        Set<ConstraintViolation<CardTransactionDTO>> violations = validator.validate(transactionDTO);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static BatchItemResultDTO outcome(long index, UUID id, BatchItemStatusEnum status, String error) {
+        return BatchItemResultDTO.builder()
+                .index(index)
+                .id(id)
+                .status(status)
+                .error(error)
+                .build();
+    }
+
+    private static BatchResultDTO summarize(List<BatchItemResultDTO> items, int chunks, long elapsedNanos) {
+        long created = items.stream().filter(item -> item.getStatus() == BatchItemStatusEnum.CREATED).count();
+        long elapsedMillis = elapsedNanos / 1_000_000;
+        return BatchResultDTO.builder()
+                .received(items.size())
+                .created(created)
+                .failed(items.size() - created)
+                .chunks(chunks)
+                .elapsedMillis(elapsedMillis)
+                .itemsPerSecond(elapsedNanos > 0 ? created * 1_000_000_000d / elapsedNanos : 0d)
+                .items(items)
+                .build();
     }
 
     @Override
     public Mono<CardTransactionDTO> getTransaction(UUID cardId, UUID transactionId) {
-        return repository.findByCardTransactionId(transactionId)
-                .filter(transaction -> cardId.equals(transaction.getCardId()))
+        return repository.findByCardIdAndCardTransactionId(cardId, transactionId)
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<PaginationResponse<CardTransactionDTO>> findFiltered(FilterRequest<CardTransactionDTO> request) {
-        return FilterUtils
-                .createFilter(
-                        CardTransaction.class,
-                        mapper::toDTO
-                )
-                .filter(request);
+        return filterPlanCache.filter(CardTransaction.class, request, mapper::toDTO);
     }
 
+    /**
+     * The stored row is locked and read first, so that the balance projection can move the
+     * difference between its previous and new amounts in the same transaction.
+     */
     @Override
     public Mono<CardTransactionDTO> updateTransaction(UUID cardId, UUID transactionId, CardTransactionDTO transactionDTO) {
-        return repository.findByCardTransactionId(transactionId)
-                .filter(transaction -> cardId.equals(transaction.getCardId()))
-                .flatMap(existingTransaction -> {
-                    CardTransaction updatedEntity = mapper.toEntity(transactionDTO);
-                    updatedEntity.setCardTransactionId(existingTransaction.getCardTransactionId());
-                    updatedEntity.setCardId(existingTransaction.getCardId());
-                    return repository.save(updatedEntity);
-                })
-                .map(mapper::toDTO);
+        return repository.lockByCardIdAndCardTransactionId(cardId, transactionId)
+                .flatMap(before -> partialUpdateTemplate
+                        .replace(CardTransaction.class, mapper.toEntity(transactionDTO),
+                                Map.of("card_transaction_id", transactionId, "card_id", cardId))
+                        .flatMap(after -> balanceProjection.replace(before, after).thenReturn(after)))
+                .map(mapper::toDTO)
+                .flatMap(updated -> outbox.append(CardEventTypeEnum.TRANSACTION_UPDATED, cardId, transactionId, updated)
+                        .thenReturn(updated));
+    }
+
+    @Override
+    public Mono<CardTransactionDTO> patchTransaction(UUID cardId, UUID transactionId, CardTransactionDTO transactionDTO) {
+        return repository.lockByCardIdAndCardTransactionId(cardId, transactionId)
+                .flatMap(before -> partialUpdateTemplate
+                        .updateNonNull(CardTransaction.class, mapper.toEntity(transactionDTO),
+                                Map.of("card_transaction_id", transactionId, "card_id", cardId))
+                        .flatMap(after -> balanceProjection.replace(before, after).thenReturn(after)))
+                .map(mapper::toDTO)
+                .flatMap(patched -> outbox.append(CardEventTypeEnum.TRANSACTION_UPDATED, cardId, transactionId, patched)
+                        .thenReturn(patched));
     }
 
     @Override
     public Mono<Void> deleteTransaction(UUID cardId, UUID transactionId) {
-        return repository.findByCardTransactionId(transactionId)
-                .filter(transaction -> cardId.equals(transaction.getCardId()))
-                .flatMap(repository::delete);
+        return repository.lockByCardIdAndCardTransactionId(cardId, transactionId)
+                .flatMap(before -> repository.deleteByCardIdAndCardTransactionId(cardId, transactionId)
+                        .filter(deleted -> deleted > 0)
+                        .flatMap(deleted -> balanceProjection.revert(before)
+                                .then(outbox.append(CardEventTypeEnum.TRANSACTION_DELETED, cardId, transactionId, null))));
     }
 }
@@ -19,16 +19,19 @@ package com.firefly.core.banking.cards.core.services.virtual.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
-import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.virtual.v1.VirtualCardMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.virtual.v1.VirtualCardDTO;
 import com.firefly.core.banking.cards.models.entities.virtual.v1.VirtualCard;
 import com.firefly.core.banking.cards.models.repositories.virtual.v1.VirtualCardRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -41,13 +44,19 @@ public class VirtualCardServiceImpl implements VirtualCardService {
     @Autowired
     private VirtualCardMapper mapper;
 
+    @Autowired
+    private PaginationQueryTemplate paginationQueryTemplate;
+
+    @Autowired
+    private PartialUpdateTemplate partialUpdateTemplate;
+
     @Override
     public Mono<PaginationResponse<VirtualCardDTO>> listVirtualCards(UUID cardId, PaginationRequest paginationRequest) {
-        return PaginationUtils.paginateQuery(
+        return paginationQueryTemplate.paginate(
                 paginationRequest,
-                mapper::toDTO,
-                pageable -> repository.findByCardId(cardId, pageable),
-                () -> repository.countByCardId(cardId)
+                VirtualCard.class,
+                Criteria.where("cardId").is(cardId),
+                mapper::toDTO
         );
     }
 
@@ -61,28 +70,21 @@ public class VirtualCardServiceImpl implements VirtualCardService {
 
     @Override
     public Mono<VirtualCardDTO> getVirtualCard(UUID cardId, UUID virtualCardId) {
-        return repository.findByVirtualCardId(virtualCardId)
-                .filter(virtualCard -> virtualCard.getCardId().equals(cardId))
+        return repository.findByCardIdAndVirtualCardId(cardId, virtualCardId)
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<VirtualCardDTO> updateVirtualCard(UUID cardId, UUID virtualCardId, VirtualCardDTO virtualCardDTO) {
-        return repository.findByVirtualCardId(virtualCardId)
-                .filter(existingCard -> existingCard.getCardId().equals(cardId))
-                .flatMap(existingCard -> {
-                    virtualCardDTO.setVirtualCardId(existingCard.getVirtualCardId());
-                    virtualCardDTO.setCardId(cardId);
-                    VirtualCard updatedEntity = mapper.toEntity(virtualCardDTO);
-                    return repository.save(updatedEntity);
-                })
+        return partialUpdateTemplate
+                .replace(VirtualCard.class, mapper.toEntity(virtualCardDTO),
+                        Map.of("virtual_card_id", virtualCardId, "card_id", cardId))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> deleteVirtualCard(UUID cardId, UUID virtualCardId) {
-        return repository.findByVirtualCardId(virtualCardId)
-                .filter(virtualCard -> virtualCard.getCardId().equals(cardId))
-                .flatMap(repository::delete);
+        return repository.deleteByCardIdAndVirtualCardId(cardId, virtualCardId)
+                .then();
     }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KeysetCursorTest {
+
+    @Test
+    void decode_EncodedCursor_RoundTrips() {
+        // Arrange
+        LocalDateTime timestamp = LocalDateTime.of(2025, 3, 15, 10, 30, 0, 123_000_000);
+        UUID id = UUID.randomUUID();
+
+        // Act
+        KeysetCursor cursor = KeysetCursor.decode(new KeysetCursor(timestamp, id).encode());
+
+        // Assert
+        assertEquals(timestamp, cursor.getTimestamp());
+        assertEquals(id, cursor.getId());
+    }
+
+    @Test
+    void encode_WithoutTimestamp_FailsNamingTheRow() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        KeysetCursor cursor = new KeysetCursor(null, id);
+
+        // Act & Assert
+        IllegalStateException error = assertThrows(IllegalStateException.class, cursor::encode);
+        assertTrue(error.getMessage().contains(id.toString()));
+    }
+
+    @Test
+    void decode_MalformedToken_Rejected() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not a cursor"));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("bnVsbHwx"));
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.persistence;
+
+import com.firefly.core.banking.cards.models.entities.transaction.v1.CardTransaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BatchInsertTemplateTest {
+
+    @Mock
+    private R2dbcEntityTemplate template;
+
+    @Mock
+    private EntityTableMetadataCache metadataCache;
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @Mock
+    private DatabaseClient.GenericExecuteSpec spec;
+
+    @Mock
+    private FetchSpec<Map<String, Object>> fetchSpec;
+
+    @InjectMocks
+    private BatchInsertTemplate batchInsertTemplate;
+
+    private final R2dbcMappingContext mappingContext = new R2dbcMappingContext();
+
+    private final EntityTableMetadata<CardTransaction> metadata =
+            new EntityTableMetadata<>(mappingContext.getRequiredPersistentEntity(CardTransaction.class));
+
+    @BeforeEach
+    void setUp() {
+        when(metadataCache.get(CardTransaction.class)).thenReturn(metadata);
+        when(template.getDatabaseClient()).thenReturn(databaseClient);
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(spec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(2L));
+    }
+
+    @Test
+    void insertAll_NullProperties_WriteTheSameColumnsAsSave() {
+        // Arrange
+        CardTransaction first = transaction(new BigDecimal("10.00"));
+        CardTransaction second = transaction(new BigDecimal("20.00"));
+        second.setIsCardPresent(true);
+
+        // Act & Assert
+        StepVerifier.create(batchInsertTemplate.insertAll(CardTransaction.class, List.of(first, second)))
+                .expectNext(2L)
+                .verifyComplete();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(databaseClient).sql(sql.capture());
+        verify(spec, never()).bindNull(anyString(), any(Class.class));
+        assertEquals(savedColumns(first), boundColumns(sql.getValue(), 0));
+        assertEquals(savedColumns(second), boundColumns(sql.getValue(), 1));
+        assertFalse(boundColumns(sql.getValue(), 0).contains("is_card_present"));
+        assertTrue(boundColumns(sql.getValue(), 1).contains("is_card_present"));
+    }
+
+    private static CardTransaction transaction(BigDecimal amount) {
+        CardTransaction transaction = new CardTransaction();
+        transaction.setCardId(UUID.randomUUID());
+        transaction.setTransactionAmount(amount);
+        transaction.setTransactionCurrency("EUR");
+        transaction.setTransactionTimestamp(LocalDateTime.now());
+        return transaction;
+    }
+
+    /**
+     * The columns a repository {@code save} writes: the converter output without empty values.
+     */
+    private Set<String> savedColumns(CardTransaction transaction) {
+        OutboundRow row = new OutboundRow();
+        new MappingR2dbcConverter(mappingContext).write(transaction, row);
+        Set<String> columns = new TreeSet<>();
+        row.forEach((column, value) -> {
+            if (value.hasValue()) {
+                columns.add(column.getReference());
+            }
+        });
+        return columns;
+    }
+
+    /**
+     * The columns of one VALUES row that take a bind parameter rather than {@code DEFAULT}.
+     */
+    private Set<String> boundColumns(String sql, int row) {
+        List<String> columns = metadata.getColumns();
+        String[] values = sql.substring(sql.indexOf(" VALUES (") + 9, sql.length() - 1)
+                .split("\\), \\(")[row]
+                .split(", ");
+        assertEquals(columns.size(), values.length);
+        Set<String> bound = new TreeSet<>();
+        for (int column = 0; column < values.length; column++) {
+            if (values[column].startsWith(":")) {
+                bound.add(columns.get(column));
+            } else {
+                assertEquals("DEFAULT", values[column]);
+            }
+        }
+        return bound;
+    }
+}
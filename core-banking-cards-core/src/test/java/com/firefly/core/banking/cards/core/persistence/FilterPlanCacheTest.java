@@ -0,0 +1,225 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.persistence;
+
+import com.firefly.core.banking.cards.core.config.FilterPlanProperties;
+import com.firefly.core.banking.cards.interfaces.dtos.transaction.v1.CardTransactionDTO;
+import com.firefly.core.banking.cards.interfaces.enums.transaction.v1.TransactionTypeEnum;
+import com.firefly.core.banking.cards.models.entities.transaction.v1.CardTransaction;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.fireflyframework.core.filters.FilterRequest;
+import org.fireflyframework.core.queries.PaginationRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class FilterPlanCacheTest {
+
+    @Mock
+    private R2dbcEntityTemplate template;
+
+    @Spy
+    private FilterPlanProperties properties = new FilterPlanProperties();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @Mock
+    private DatabaseClient.GenericExecuteSpec spec;
+
+    @Mock
+    private RowsFetchSpec<Object> indexFetchSpec;
+
+    @Mock
+    private RowsFetchSpec<Object> pageFetchSpec;
+
+    @InjectMocks
+    private FilterPlanCache filterPlanCache;
+
+    @BeforeEach
+    void setUp() {
+        filterPlanCache.init();
+        lenient().when(template.getConverter()).thenReturn(new MappingR2dbcConverter(new R2dbcMappingContext()));
+        lenient().when(template.getDatabaseClient()).thenReturn(databaseClient);
+        lenient().when(databaseClient.sql(anyString())).thenReturn(spec);
+        lenient().when(spec.bind(anyString(), any())).thenReturn(spec);
+        lenient().when(spec.map(any(Function.class))).thenReturn(indexFetchSpec);
+        lenient().when(spec.map(any(BiFunction.class))).thenReturn(pageFetchSpec);
+        lenient().when(indexFetchSpec.all()).thenReturn(Flux.just("card_id", "transaction_timestamp"));
+        lenient().when(pageFetchSpec.all()).thenReturn(Flux.empty());
+    }
+
+    @Test
+    void filter_SameShape_CompilesOncePerShape() {
+        // Arrange
+        UUID firstCardId = UUID.randomUUID();
+        UUID secondCardId = UUID.randomUUID();
+
+        // Act & Assert
+        StepVerifier.create(filterPlanCache.filter(CardTransaction.class, request(byCard(firstCardId)), this::toDTO))
+                .assertNext(page -> assertEquals(0L, page.getTotalElements()))
+                .verifyComplete();
+        StepVerifier.create(filterPlanCache.filter(CardTransaction.class, request(byCard(secondCardId)), this::toDTO))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(1, filterPlanCache.planCount());
+        verify(databaseClient, times(1)).sql(contains("pg_index"));
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(databaseClient, times(3)).sql(sql.capture());
+        List<String> pageSql = sql.getAllValues().stream().filter(s -> s.contains("total_count")).toList();
+        assertEquals(2, pageSql.size());
+        assertEquals(pageSql.get(0), pageSql.get(1));
+        assertTrue(pageSql.get(0).contains("FROM card_transaction WHERE card_id = :p0 ORDER BY"));
+        verify(spec).bind("p0", firstCardId);
+        verify(spec).bind("p0", secondCardId);
+    }
+
+    @Test
+    void filter_DifferentShape_CompilesNewPlan() {
+        // Arrange
+        CardTransactionDTO byType = byCard(UUID.randomUUID());
+        byType.setTransactionType(TransactionTypeEnum.PURCHASE);
+
+        // Act & Assert
+        StepVerifier.create(filterPlanCache.filter(CardTransaction.class, request(byCard(UUID.randomUUID())), this::toDTO))
+                .expectNextCount(1)
+                .verifyComplete();
+        StepVerifier.create(filterPlanCache.filter(CardTransaction.class, request(byType), this::toDTO))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(2, filterPlanCache.planCount());
+        verify(spec).bind("p1", "PURCHASE");
+    }
+
+    @Test
+    void filter_UnindexedColumnsOnly_Rejected() {
+        // Arrange
+        CardTransactionDTO byType = new CardTransactionDTO();
+        byType.setTransactionType(TransactionTypeEnum.PURCHASE);
+
+        // Act & Assert
+        StepVerifier.create(filterPlanCache.filter(CardTransaction.class, request(byType), this::toDTO))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        assertEquals(0, filterPlanCache.planCount());
+        assertEquals(1.0, meterRegistry.get("cards.filters.rejected").tag("table", "card_transaction").counter().count());
+        verify(databaseClient, never()).sql(contains("total_count"));
+    }
+
+    @Test
+    void filter_UnindexedColumnsWithGuardDisabled_Runs() {
+        // Arrange
+        properties.setRequireIndexedPredicate(false);
+        CardTransactionDTO byType = new CardTransactionDTO();
+        byType.setTransactionType(TransactionTypeEnum.PURCHASE);
+
+        // Act & Assert
+        StepVerifier.create(filterPlanCache.filter(CardTransaction.class, request(byType), this::toDTO))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    void filter_NoPredicateOnLargeTable_Rejected() {
+        // Act & Assert
+        StepVerifier.create(filterPlanCache.filter(CardTransaction.class, request(new CardTransactionDTO()), this::toDTO))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void filter_UnknownSortProperty_Rejected() {
+        // Arrange
+        FilterRequest<CardTransactionDTO> request = request(byCard(UUID.randomUUID()));
+        request.getPagination().setSortBy("unknownProperty");
+
+        // Act & Assert
+        StepVerifier.create(filterPlanCache.filter(CardTransaction.class, request, this::toDTO))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verifyNoInteractions(databaseClient);
+    }
+
+    @Test
+    void filter_FieldWithoutEntityProperty_Rejected() {
+        // Arrange
+        CardTransactionDTO filters = byCard(UUID.randomUUID());
+        filters.setCardMerchantName("ACME");
+
+        // Act & Assert
+        StepVerifier.create(filterPlanCache.filter(CardTransaction.class, request(filters), this::toDTO))
+                .expectErrorMatches(e -> e instanceof IllegalArgumentException
+                        && e.getMessage().contains("cardMerchantName"))
+                .verify();
+        verifyNoInteractions(databaseClient);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FilterRequest<CardTransactionDTO> request(CardTransactionDTO filters) {
+        PaginationRequest pagination = new PaginationRequest();
+        pagination.setPageNumber(0);
+        pagination.setPageSize(20);
+        pagination.setSortBy("transactionTimestamp");
+        FilterRequest<CardTransactionDTO> request = mock(FilterRequest.class);
+        lenient().when(request.getFilters()).thenReturn(filters);
+        lenient().when(request.getPagination()).thenReturn(pagination);
+        return request;
+    }
+
+    private static CardTransactionDTO byCard(UUID cardId) {
+        CardTransactionDTO filters = new CardTransactionDTO();
+        filters.setCardId(cardId);
+        return filters;
+    }
+
+    private CardTransactionDTO toDTO(CardTransaction transaction) {
+        return new CardTransactionDTO();
+    }
+}
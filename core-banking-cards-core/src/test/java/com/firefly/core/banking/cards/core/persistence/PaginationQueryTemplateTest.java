@@ -0,0 +1,242 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.persistence;
+
+import com.firefly.core.banking.cards.core.queries.CountingPaginationRequest;
+import com.firefly.core.banking.cards.core.queries.CountingPaginationResponse;
+import com.firefly.core.banking.cards.core.queries.PaginationCountMode;
+import com.firefly.core.banking.cards.models.entities.activity.v1.CardActivity;
+import org.fireflyframework.core.queries.PaginationRequest;
+import org.fireflyframework.core.queries.PaginationResponse;
+import org.fireflyframework.core.queries.PaginationUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PaginationQueryTemplateTest {
+
+    @Mock
+    private R2dbcEntityTemplate template;
+
+    @Mock
+    private ReactiveDataAccessStrategy dataAccessStrategy;
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @Mock
+    private DatabaseClient.GenericExecuteSpec spec;
+
+    @Mock
+    private RowsFetchSpec<Object> fetchSpec;
+
+    @InjectMocks
+    private PaginationQueryTemplate paginationQueryTemplate;
+
+    private final Function<CardActivity, UUID> mapper = CardActivity::getActivityId;
+    private final Supplier<Mono<Long>> countQuery = () -> Mono.just(42L);
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(template.getDataAccessStrategy()).thenReturn(dataAccessStrategy);
+        lenient().when(dataAccessStrategy.getTableName(CardActivity.class)).thenReturn(SqlIdentifier.unquoted("card_activity"));
+        lenient().when(template.getDatabaseClient()).thenReturn(databaseClient);
+        lenient().when(databaseClient.sql(anyString())).thenReturn(spec);
+        lenient().when(spec.bind(anyString(), any())).thenReturn(spec);
+        lenient().when(spec.map(any(Function.class))).thenReturn(fetchSpec);
+    }
+
+    @Test
+    void paginate_PlainRequest_DelegatesToPaginationUtils() {
+        // Arrange
+        PaginationRequest paginationRequest = new PaginationRequest();
+        @SuppressWarnings("unchecked")
+        PaginationResponse<UUID> expectedResponse = mock(PaginationResponse.class);
+
+        try (MockedStatic<PaginationUtils> paginationUtilsMocked = mockStatic(PaginationUtils.class)) {
+            paginationUtilsMocked.when(() -> PaginationUtils.paginateQuery(
+                    eq(paginationRequest),
+                    any(Function.class),
+                    any(Function.class),
+                    any(Supplier.class)
+            )).thenReturn(Mono.just(expectedResponse));
+
+            // Act & Assert
+            StepVerifier.create(paginationQueryTemplate.paginate(paginationRequest, CardActivity.class,
+                            Criteria.empty(), mapper, pageable -> Flux.empty(), countQuery))
+                    .expectNext(expectedResponse)
+                    .verifyComplete();
+        }
+        verifyNoInteractions(template);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void paginate_CriteriaOnly_DerivesExactPageAndCountFromTheCriteria() {
+        // Arrange
+        PaginationRequest paginationRequest = new PaginationRequest();
+        Criteria criteria = Criteria.where("cardId").is(UUID.randomUUID());
+        when(template.select(any(Query.class), eq(CardActivity.class))).thenReturn(Flux.just(activity()));
+        when(template.count(any(Query.class), eq(CardActivity.class))).thenReturn(Mono.just(1L));
+        ArgumentCaptor<Function<Pageable, Flux<CardActivity>>> pageQuery =
+                ArgumentCaptor.forClass(Function.class);
+        ArgumentCaptor<Supplier<Mono<Long>>> count = ArgumentCaptor.forClass(Supplier.class);
+
+        try (MockedStatic<PaginationUtils> paginationUtilsMocked = mockStatic(PaginationUtils.class)) {
+            paginationUtilsMocked.when(() -> PaginationUtils.paginateQuery(
+                    eq(paginationRequest),
+                    any(Function.class),
+                    pageQuery.capture(),
+                    count.capture()
+            )).thenReturn(Mono.empty());
+
+            // Act
+            StepVerifier.create(paginationQueryTemplate.paginate(paginationRequest, CardActivity.class, criteria, mapper))
+                    .verifyComplete();
+        }
+
+        // Assert
+        StepVerifier.create(pageQuery.getValue().apply(paginationRequest.toPageable())).expectNextCount(1).verifyComplete();
+        StepVerifier.create(count.getValue().get()).expectNext(1L).verifyComplete();
+        ArgumentCaptor<Query> page = ArgumentCaptor.forClass(Query.class);
+        verify(template).select(page.capture(), eq(CardActivity.class));
+        ArgumentCaptor<Query> total = ArgumentCaptor.forClass(Query.class);
+        verify(template).count(total.capture(), eq(CardActivity.class));
+        assertSame(criteria, page.getValue().getCriteria().orElseThrow());
+        assertSame(criteria, total.getValue().getCriteria().orElseThrow());
+        assertEquals(paginationRequest.toPageable().getPageSize(), page.getValue().getLimit());
+    }
+
+    @Test
+    void paginate_NoneMode_ReadsOneRowAheadInsteadOfCounting() {
+        // Arrange
+        CountingPaginationRequest paginationRequest = request(PaginationCountMode.NONE, 1, 2);
+        when(template.select(any(Query.class), eq(CardActivity.class))).thenReturn(Flux.just(activity(), activity(), activity()));
+
+        // Act & Assert
+        StepVerifier.create(paginationQueryTemplate.paginate(paginationRequest, CardActivity.class,
+                        Criteria.where("cardId").is(UUID.randomUUID()), mapper, pageable -> Flux.empty(), countQuery))
+                .assertNext(page -> {
+                    CountingPaginationResponse<UUID> response = (CountingPaginationResponse<UUID>) page;
+                    assertEquals(2, response.getContent().size());
+                    assertTrue(response.isHasNext());
+                    assertEquals(-1, response.getTotalElements());
+                    assertEquals(PaginationCountMode.NONE, response.getCountMode());
+                })
+                .verifyComplete();
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(template).select(query.capture(), eq(CardActivity.class));
+        assertEquals(2, query.getValue().getOffset());
+        assertEquals(3, query.getValue().getLimit());
+        verifyNoInteractions(databaseClient);
+    }
+
+    @Test
+    void paginate_NoneMode_LastPageHasNoNext() {
+        // Arrange
+        CountingPaginationRequest paginationRequest = request(PaginationCountMode.NONE, 0, 2);
+        when(template.select(any(Query.class), eq(CardActivity.class))).thenReturn(Flux.just(activity()));
+
+        // Act & Assert
+        StepVerifier.create(paginationQueryTemplate.paginate(paginationRequest, CardActivity.class,
+                        Criteria.empty(), mapper, pageable -> Flux.empty(), countQuery))
+                .assertNext(page -> {
+                    assertEquals(1, page.getContent().size());
+                    assertFalse(((CountingPaginationResponse<UUID>) page).isHasNext());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void paginate_EstimatedMode_ReportsTableStatistics() {
+        // Arrange
+        CountingPaginationRequest paginationRequest = request(PaginationCountMode.ESTIMATED, 0, 2);
+        when(template.select(any(Query.class), eq(CardActivity.class))).thenReturn(Flux.just(activity(), activity(), activity()));
+        when(fetchSpec.one()).thenReturn(Mono.just(1000L));
+
+        // Act & Assert
+        StepVerifier.create(paginationQueryTemplate.paginate(paginationRequest, CardActivity.class,
+                        Criteria.empty(), mapper, pageable -> Flux.empty(), countQuery))
+                .assertNext(page -> {
+                    assertEquals(1000L, page.getTotalElements());
+                    assertEquals(500, page.getTotalPages());
+                    assertTrue(((CountingPaginationResponse<UUID>) page).isHasNext());
+                })
+                .verifyComplete();
+
+        verify(spec).bind("table", "card_activity");
+    }
+
+    @Test
+    void paginate_EstimatedModeWithoutStatistics_FallsBackToCount() {
+        // Arrange
+        CountingPaginationRequest paginationRequest = request(PaginationCountMode.ESTIMATED, 0, 2);
+        when(template.select(any(Query.class), eq(CardActivity.class))).thenReturn(Flux.just(activity()));
+        when(fetchSpec.one()).thenReturn(Mono.just(-1L));
+
+        // Act & Assert
+        StepVerifier.create(paginationQueryTemplate.paginate(paginationRequest, CardActivity.class,
+                        Criteria.empty(), mapper, pageable -> Flux.empty(), countQuery))
+                .assertNext(page -> assertEquals(42L, page.getTotalElements()))
+                .verifyComplete();
+    }
+
+    private static CountingPaginationRequest request(PaginationCountMode mode, int pageNumber, int pageSize) {
+        CountingPaginationRequest request = new CountingPaginationRequest();
+        request.setCountMode(mode);
+        request.setPageNumber(pageNumber);
+        request.setPageSize(pageSize);
+        request.setSortBy("activityTimestamp");
+        return request;
+    }
+
+    private static CardActivity activity() {
+        CardActivity activity = new CardActivity();
+        activity.setActivityId(UUID.randomUUID());
+        return activity;
+    }
+}
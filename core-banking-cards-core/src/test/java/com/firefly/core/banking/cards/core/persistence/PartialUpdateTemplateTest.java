@@ -0,0 +1,195 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.persistence;
+
+import com.firefly.core.banking.cards.core.mappers.activity.v1.CardActivityMapper;
+import com.firefly.core.banking.cards.core.mappers.transaction.v1.CardTransactionMapper;
+import com.firefly.core.banking.cards.interfaces.dtos.activity.v1.CardActivityDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.transaction.v1.CardTransactionDTO;
+import com.firefly.core.banking.cards.interfaces.enums.transaction.v1.TransactionStatusEnum;
+import com.firefly.core.banking.cards.interfaces.enums.transaction.v1.TransactionTypeEnum;
+import com.firefly.core.banking.cards.models.entities.activity.v1.CardActivity;
+import com.firefly.core.banking.cards.models.entities.transaction.v1.CardTransaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PartialUpdateTemplateTest {
+
+    @Mock
+    private R2dbcEntityTemplate template;
+
+    @Mock
+    private EntityTableMetadataCache metadataCache;
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @Mock
+    private DatabaseClient.GenericExecuteSpec spec;
+
+    @Mock
+    private RowsFetchSpec<Object> fetchSpec;
+
+    @InjectMocks
+    private PartialUpdateTemplate partialUpdateTemplate;
+
+    private final CardTransactionMapper transactionMapper = Mappers.getMapper(CardTransactionMapper.class);
+
+    private final CardActivityMapper activityMapper = Mappers.getMapper(CardActivityMapper.class);
+
+    private final R2dbcMappingContext mappingContext = new R2dbcMappingContext();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(metadataCache.get(CardTransaction.class))
+                .thenReturn(new EntityTableMetadata<>(mappingContext.getRequiredPersistentEntity(CardTransaction.class)));
+        lenient().when(metadataCache.get(CardActivity.class))
+                .thenReturn(new EntityTableMetadata<>(mappingContext.getRequiredPersistentEntity(CardActivity.class)));
+        lenient().when(template.getConverter()).thenReturn(new MappingR2dbcConverter(mappingContext));
+        lenient().when(template.getDatabaseClient()).thenReturn(databaseClient);
+        lenient().when(databaseClient.sql(anyString())).thenReturn(spec);
+        lenient().when(spec.bind(anyString(), any())).thenReturn(spec);
+        lenient().when(spec.bindNull(anyString(), any(Class.class))).thenReturn(spec);
+        lenient().when(spec.map(any(BiFunction.class))).thenReturn(fetchSpec);
+    }
+
+    @Test
+    void replace_TransactionWithoutTimestamp_KeepsPartitionKey() {
+        // Arrange
+        UUID cardId = UUID.randomUUID();
+        UUID transactionId = UUID.randomUUID();
+        CardTransactionDTO dto = new CardTransactionDTO();
+        dto.setCardId(cardId);
+        dto.setTransactionType(TransactionTypeEnum.PURCHASE);
+        dto.setTransactionStatus(TransactionStatusEnum.COMPLETED);
+        dto.setTransactionAmount(new BigDecimal("25.00"));
+        dto.setTransactionCurrency("EUR");
+        CardTransaction replacement = transactionMapper.toEntity(dto);
+        when(fetchSpec.one()).thenReturn(Mono.just(replacement));
+
+        // Act & Assert
+        StepVerifier.create(partialUpdateTemplate.replace(CardTransaction.class, replacement,
+                        Map.of("card_transaction_id", transactionId, "card_id", cardId)))
+                .expectNext(replacement)
+                .verifyComplete();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(databaseClient).sql(sql.capture());
+        assertFalse(sql.getValue().contains("transaction_timestamp ="));
+        assertTrue(sql.getValue().contains("transaction_amount ="));
+        assertTrue(sql.getValue().contains("merchant_name ="));
+        verify(spec).bind(anyString(), eq(new BigDecimal("25.00")));
+        verify(spec).bind(anyString(), eq("EUR"));
+    }
+
+    @Test
+    void replace_TransactionWithTimestamp_WritesPartitionKey() {
+        // Arrange
+        UUID cardId = UUID.randomUUID();
+        LocalDateTime timestamp = LocalDateTime.of(2025, 3, 14, 9, 30);
+        CardTransactionDTO dto = new CardTransactionDTO();
+        dto.setCardId(cardId);
+        dto.setCardTransactionTimestamp(timestamp);
+        CardTransaction replacement = transactionMapper.toEntity(dto);
+        when(fetchSpec.one()).thenReturn(Mono.just(replacement));
+
+        // Act & Assert
+        StepVerifier.create(partialUpdateTemplate.replace(CardTransaction.class, replacement,
+                        Map.of("card_transaction_id", UUID.randomUUID(), "card_id", cardId)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(databaseClient).sql(sql.capture());
+        assertTrue(sql.getValue().contains("transaction_timestamp ="));
+        verify(spec).bind(anyString(), eq(timestamp));
+    }
+
+    @Test
+    void replace_ActivityWithoutTimestamp_KeepsPartitionKey() {
+        // Arrange
+        UUID cardId = UUID.randomUUID();
+        CardActivityDTO dto = new CardActivityDTO();
+        dto.setCardId(cardId);
+        dto.setActivityType("PIN_CHANGE");
+        CardActivity replacement = activityMapper.toEntity(dto);
+        when(fetchSpec.one()).thenReturn(Mono.just(replacement));
+
+        // Act & Assert
+        StepVerifier.create(partialUpdateTemplate.replace(CardActivity.class, replacement,
+                        Map.of("activity_id", UUID.randomUUID(), "card_id", cardId)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(databaseClient).sql(sql.capture());
+        assertFalse(sql.getValue().contains("activity_timestamp ="));
+        assertTrue(sql.getValue().contains("activity_description ="));
+    }
+
+    @Test
+    void updateNonNull_NoChanges_ReadsRowWithoutUpdating() {
+        // Arrange
+        UUID cardId = UUID.randomUUID();
+        UUID transactionId = UUID.randomUUID();
+        CardTransaction current = new CardTransaction();
+        current.setCardTransactionId(transactionId);
+        when(fetchSpec.one()).thenReturn(Mono.just(current));
+
+        // Act & Assert
+        StepVerifier.create(partialUpdateTemplate.updateNonNull(CardTransaction.class, new CardTransaction(),
+                        Map.of("card_transaction_id", transactionId, "card_id", cardId)))
+                .expectNext(current)
+                .verifyComplete();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(databaseClient).sql(sql.capture());
+        assertTrue(sql.getValue().startsWith("SELECT * FROM "));
+        assertFalse(sql.getValue().contains("date_updated"));
+        verify(spec, never()).bind(eq("dateUpdated"), any());
+        verify(spec).bind("m_card_transaction_id", transactionId);
+        verify(spec).bind("m_card_id", cardId);
+    }
+}
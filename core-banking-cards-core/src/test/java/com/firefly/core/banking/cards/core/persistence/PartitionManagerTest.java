@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.persistence;
+
+import com.firefly.core.banking.cards.core.config.PartitionProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PartitionManagerTest {
+
+    @Mock
+    private R2dbcEntityTemplate template;
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @Mock
+    private DatabaseClient.GenericExecuteSpec spec;
+
+    @Mock
+    private RowsFetchSpec<Object> fetchSpec;
+
+    @Spy
+    private PartitionProperties properties = new PartitionProperties();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private PartitionManager partitionManager;
+
+    private final LocalDate today = LocalDate.of(2025, 3, 15);
+
+    @BeforeEach
+    void setUp() {
+        partitionManager.registerMeters();
+        lenient().when(template.getDatabaseClient()).thenReturn(databaseClient);
+        lenient().when(databaseClient.sql(anyString())).thenReturn(spec);
+        lenient().when(spec.bind(anyString(), any())).thenReturn(spec);
+        lenient().when(spec.bindNull(anyString(), any())).thenReturn(spec);
+        lenient().when(spec.map(any(Function.class))).thenReturn(fetchSpec);
+    }
+
+    @Test
+    void premake_CreatesCurrentAndUpcomingMonths() {
+        // Arrange
+        properties.setPremakeMonths(2);
+        when(fetchSpec.one()).thenReturn(Mono.just(false), Mono.just(true), Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(partitionManager.premake("card_transaction", today))
+                .expectNext(2L)
+                .verifyComplete();
+
+        verify(spec, times(3)).bind("parent", "card_transaction");
+        verify(spec).bind("month", LocalDate.of(2025, 3, 1));
+        verify(spec).bind("month", LocalDate.of(2025, 4, 1));
+        verify(spec).bind("month", LocalDate.of(2025, 5, 1));
+        assertEquals(2.0, meterRegistry.counter("cards.partitions.created").count());
+    }
+
+    @Test
+    void retire_KeepsEverythingWithoutRetention() {
+        // Act & Assert
+        StepVerifier.create(partitionManager.retire("card_transaction", today))
+                .verifyComplete();
+
+        verifyNoInteractions(template);
+    }
+
+    @Test
+    void retire_ArchivesPartitionsBeforeCutoff() {
+        // Arrange
+        properties.setRetentionMonths(12);
+        when(fetchSpec.all()).thenReturn(Flux.just("card_transaction_p2024_01", "card_transaction_p2024_02"));
+
+        // Act & Assert
+        StepVerifier.create(partitionManager.retire("card_transaction", today))
+                .expectNext("card_transaction_p2024_01", "card_transaction_p2024_02")
+                .verifyComplete();
+
+        verify(spec).bind("cutoff", LocalDate.of(2024, 3, 1));
+        verify(spec).bind("archiveSchema", "card_archive");
+        assertEquals(2.0, meterRegistry.counter("cards.partitions.retired").count());
+    }
+
+    @Test
+    void retire_DropsWithoutArchiveSchema() {
+        // Arrange
+        properties.setRetentionMonths(6);
+        properties.setArchiveSchema("");
+        when(fetchSpec.all()).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(partitionManager.retire("card_activity", today))
+                .verifyComplete();
+
+        verify(spec).bind("cutoff", LocalDate.of(2024, 9, 1));
+        verify(spec).bindNull("archiveSchema", String.class);
+    }
+
+    @Test
+    void runOnce_MaintainsEveryPartitionedTable() {
+        // Arrange
+        properties.setPremakeMonths(0);
+        when(fetchSpec.one()).thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(partitionManager.runOnce(today))
+                .verifyComplete();
+
+        verify(spec).bind("parent", "card_transaction");
+        verify(spec).bind("parent", "card_activity");
+    }
+
+    @Test
+    void runOnce_FailingTable_StillMaintainsTheOtherAndCountsTheFailure() {
+        // Arrange
+        properties.setPremakeMonths(0);
+        when(fetchSpec.one()).thenReturn(Mono.error(new IllegalStateException("lock timeout")), Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(partitionManager.runOnce(today))
+                .verifyComplete();
+
+        verify(spec).bind("parent", "card_transaction");
+        verify(spec).bind("parent", "card_activity");
+        assertEquals(1.0, meterRegistry.counter("cards.partitions.failures").count());
+        assertEquals(1.0, meterRegistry.counter("cards.partitions.created").count());
+    }
+}
@@ -0,0 +1,448 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.persistence;
+
+import lombok.Value;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks every derived finder of the repositories against the indexes left by the Flyway migrations.
+ * The build has no database to run EXPLAIN against, so the migrations are replayed into a plan
+ * fixture: the tables, their columns and their indexes, with renames and drops applied in version
+ * order. A finder passes when one of its predicates can drive an index scan, that is an index
+ * leading with the predicate column or, for a boolean predicate, a partial index restricted to the
+ * value it asks for.
+ */
+public class RepositoryIndexCoverageTest {
+
+    private static final String MIGRATIONS = "classpath*:db/migration/V*__*.sql";
+    private static final String REPOSITORIES =
+            "classpath*:com/firefly/core/banking/cards/models/repositories/**/*Repository.class";
+
+    /**
+     * Reference data: a few thousand rows at most, read through CardCache and the BIN index rather
+     * than searched, so a sequential scan is the expected plan.
+     */
+    private static final Set<String> REFERENCE_TABLES = Set.of(
+            "bin", "issuer", "card_acquirer", "card_design", "card_gateway", "card_merchant",
+            "card_network", "card_processor", "card_program", "card_terminal", "card_type");
+
+    /**
+     * Classification columns with a handful of distinct values. Each value matches too large a share
+     * of the table for the planner to prefer an index over a scan.
+     */
+    private static final Set<String> LOW_SELECTIVITY_COLUMNS = Set.of(
+            "card_activity.activity_category", "card_activity.activity_result",
+            "card_activity.activity_channel", "card_activity.activity_source",
+            "card_application.application_type", "card_application.application_stage",
+            "card_application.application_channel", "card_application.kyc_status",
+            "card_application.aml_status",
+            "card_balance.balance_type", "card_balance.balance_category", "card_balance.currency_code",
+            "card_dispute.dispute_reason_code", "card_dispute.dispute_stage",
+            "card_enrollment.enrollment_channel",
+            "card_fee.fee_type", "card_fee.fee_status",
+            "card_interest.interest_type",
+            "card_payment.payment_status", "card_payment.payment_method", "card_payment.payment_channel",
+            "card_reward.reward_type", "card_reward.reward_category", "card_reward.reward_status",
+            "card_statement.payment_status", "card_statement.delivery_method",
+            "fraud_case.fraud_type", "fraud_case.fraud_reason_code", "fraud_case.risk_level",
+            "fraud_case.detection_source");
+
+    /**
+     * Flags that hold for most rows. A partial index on them being true would be nearly as large as
+     * the table; the rarer false side is still expected to be indexed when a finder asks for it.
+     */
+    private static final Set<String> MOSTLY_TRUE_FLAGS = Set.of(
+            "card_activity.is_party_initiated", "card_activity.is_system_initiated",
+            "card_activity.is_notification_sent",
+            "card_alert.is_read",
+            "card_application.requires_physical_card", "card_application.terms_accepted",
+            "card_balance.is_in_grace_period",
+            "card_enrollment.is_active",
+            "card_fee.is_billed", "card_fee.is_paid",
+            "card_interest.is_charged", "card_interest.is_billed", "card_interest.is_paid",
+            "card_payment.is_minimum_payment", "card_payment.is_full_payment",
+            "card_reward.is_earning", "card_reward.is_redemption",
+            "card_statement.is_generated", "card_statement.is_delivered", "card_statement.is_viewed");
+
+    private static final Pattern VERSION = Pattern.compile("V(\\d+(?:_\\d+)?)__");
+
+    @Test
+    void everyDerivedFinderIsBackedByAnIndex() throws Exception {
+        // Arrange
+        Schema schema = Schema.replay(migrations());
+
+        // Act
+        List<String> uncovered = new ArrayList<>();
+        int checked = 0;
+        for (Class<?> repository : repositories()) {
+            Class<?> entity = entityOf(repository);
+            if (entity == null) {
+                continue;
+            }
+            String table = tableOf(entity);
+            if (REFERENCE_TABLES.contains(table)) {
+                continue;
+            }
+            for (Method method : repository.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Query.class) || method.isDefault() || method.isSynthetic()) {
+                    continue;
+                }
+                List<Predicate> predicates = new ArrayList<>();
+                for (Part part : new PartTree(method.getName(), entity).getParts()) {
+                    predicates.add(new Predicate(columnOf(entity, part.getProperty().getSegment()), part.getType()));
+                }
+                // Finders over columns the table does not have yet cannot run at all; bringing the
+                // table in line with its entity is the job of an alignment migration such as V6.
+                if (predicates.stream().anyMatch(predicate -> !schema.hasColumn(table, predicate.getColumn()))) {
+                    continue;
+                }
+                checked++;
+                if (!isCovered(schema, table, predicates)) {
+                    uncovered.add(repository.getSimpleName() + "." + method.getName() + " on " + table);
+                }
+            }
+        }
+
+        // Assert
+        assertTrue(checked > 0, "No derived finders found");
+        assertTrue(uncovered.isEmpty(), "Derived finders without a supporting index:\n" + String.join("\n", uncovered));
+    }
+
+    @Test
+    void replayTracksRenamesAndPartialIndexes() {
+        // Arrange
+        Schema schema = Schema.replay(List.of("""
+                -- fixture
+                CREATE TABLE sample (sample_id UUID PRIMARY KEY, owner_id UUID, is_open BOOLEAN, code VARCHAR(10));
+                CREATE INDEX idx_sample_code ON sample(code);
+                DO $$ BEGIN PERFORM 1; END; $$;
+                ALTER TABLE sample RENAME COLUMN owner_id TO party_id;
+                ALTER TABLE sample ADD COLUMN opened_at TIMESTAMP;
+                CREATE INDEX idx_sample_party_opened ON sample(party_id, opened_at DESC) INCLUDE (code);
+                CREATE INDEX idx_sample_open ON sample(opened_at) WHERE NOT is_open;
+                DROP INDEX IF EXISTS idx_sample_code;
+                ALTER TABLE sample RENAME TO renamed_sample;
+                """));
+
+        // Act & Assert
+        assertTrue(schema.hasColumn("renamed_sample", "party_id"));
+        assertTrue(schema.hasColumn("renamed_sample", "opened_at"));
+        assertFalse(schema.hasColumn("renamed_sample", "owner_id"));
+        assertTrue(schema.covers("renamed_sample", new Predicate("sample_id", Part.Type.SIMPLE_PROPERTY)));
+        assertTrue(schema.covers("renamed_sample", new Predicate("party_id", Part.Type.SIMPLE_PROPERTY)));
+        assertFalse(schema.covers("renamed_sample", new Predicate("code", Part.Type.SIMPLE_PROPERTY)));
+        assertFalse(schema.covers("renamed_sample", new Predicate("opened_at", Part.Type.BETWEEN)));
+        assertTrue(schema.covers("renamed_sample", new Predicate("is_open", Part.Type.FALSE)));
+        assertFalse(schema.covers("renamed_sample", new Predicate("is_open", Part.Type.TRUE)));
+    }
+
+    private static boolean isCovered(Schema schema, String table, List<Predicate> predicates) {
+        boolean indexable = false;
+        for (Predicate predicate : predicates) {
+            if (isExempt(table, predicate)) {
+                continue;
+            }
+            indexable = true;
+            if (schema.covers(table, predicate)) {
+                return true;
+            }
+        }
+        return !indexable;
+    }
+
+    private static boolean isExempt(String table, Predicate predicate) {
+        String column = table + "." + predicate.getColumn();
+        return switch (predicate.getType()) {
+            // array membership would need a GIN index; these columns are only searched on reference data
+            case CONTAINING, NOT_CONTAINING -> true;
+            case TRUE -> MOSTLY_TRUE_FLAGS.contains(column);
+            case FALSE -> false;
+            default -> LOW_SELECTIVITY_COLUMNS.contains(column);
+        };
+    }
+
+    private static List<String> migrations() throws IOException {
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources(MIGRATIONS);
+        Arrays.sort(resources, Comparator.comparing(RepositoryIndexCoverageTest::versionOf));
+        List<String> scripts = new ArrayList<>();
+        for (Resource resource : resources) {
+            scripts.add(resource.getContentAsString(StandardCharsets.UTF_8));
+        }
+        assertFalse(scripts.isEmpty(), "No migrations found");
+        return scripts;
+    }
+
+    private static BigDecimal versionOf(Resource resource) {
+        Matcher matcher = VERSION.matcher(Objects.requireNonNull(resource.getFilename()));
+        return matcher.find() ? new BigDecimal(matcher.group(1).replace('_', '.')) : BigDecimal.valueOf(Long.MAX_VALUE);
+    }
+
+    private static List<Class<?>> repositories() throws IOException, ClassNotFoundException {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        MetadataReaderFactory readers = new CachingMetadataReaderFactory(resolver);
+        List<Class<?>> repositories = new ArrayList<>();
+        for (Resource resource : resolver.getResources(REPOSITORIES)) {
+            String className = readers.getMetadataReader(resource).getClassMetadata().getClassName();
+            repositories.add(ClassUtils.forName(className, RepositoryIndexCoverageTest.class.getClassLoader()));
+        }
+        return repositories;
+    }
+
+    private static Class<?> entityOf(Class<?> repository) {
+        for (Type type : repository.getGenericInterfaces()) {
+            if (type instanceof ParameterizedType parameterized
+                    && parameterized.getActualTypeArguments()[0] instanceof Class<?> entity
+                    && entity.isAnnotationPresent(Table.class)) {
+                return entity;
+            }
+        }
+        return null;
+    }
+
+    private static String tableOf(Class<?> entity) {
+        Table table = entity.getAnnotation(Table.class);
+        return StringUtils.hasText(table.value()) ? table.value() : table.name();
+    }
+
+    private static String columnOf(Class<?> entity, String property) {
+        Field field = ReflectionUtils.findField(entity, property);
+        Column column = field != null ? field.getAnnotation(Column.class) : null;
+        if (column != null) {
+            return column.value();
+        }
+        return property.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+    }
+
+    @Value
+    static class Predicate {
+        String column;
+        Part.Type type;
+    }
+
+    @Value
+    static class Index {
+        String table;
+        List<String> columns;
+        String where;
+    }
+
+    /**
+     * Tables, columns and indexes as the migrations leave them. Only the statements the migrations
+     * use are understood; function bodies and data changes are skipped.
+     */
+    static class Schema {
+
+        private static final Pattern COMMENT = Pattern.compile("--[^\\n]*");
+        private static final Pattern DOLLAR_QUOTED = Pattern.compile("\\$\\$.*?\\$\\$", Pattern.DOTALL);
+        private static final Pattern CREATE_TABLE =
+                Pattern.compile("(?i)CREATE TABLE (?:IF NOT EXISTS )?(\\w+) ?\\((.*)");
+        private static final Pattern CREATE_INDEX = Pattern.compile("(?i)CREATE (?:UNIQUE )?INDEX "
+                + "(?:CONCURRENTLY )?(?:IF NOT EXISTS )?(\\w+) ON (?:ONLY )?(\\w+)(?: USING \\w+)? ?\\(([^)]*)\\)"
+                + "(?: INCLUDE ?\\([^)]*\\))?(?: WHERE (.+))?");
+        private static final Pattern DROP_INDEX = Pattern.compile("(?i)DROP INDEX (?:CONCURRENTLY )?(?:IF EXISTS )?(\\w+)");
+        private static final Pattern DROP_TABLE = Pattern.compile("(?i)DROP TABLE (?:IF EXISTS )?(\\w+)");
+        private static final Pattern RENAME_TABLE = Pattern.compile("(?i)ALTER TABLE (\\w+) RENAME TO (\\w+)");
+        private static final Pattern RENAME_COLUMN =
+                Pattern.compile("(?i)ALTER TABLE (\\w+) RENAME COLUMN (\\w+) TO (\\w+)");
+        private static final Pattern ALTER_TABLE = Pattern.compile("(?i)ALTER TABLE (?:IF EXISTS )?(\\w+) (.*)");
+        private static final Pattern ADD_COLUMN = Pattern.compile("(?i)ADD COLUMN (?:IF NOT EXISTS )?(\\w+)");
+        private static final Pattern INLINE_KEY = Pattern.compile("(?i)\\b(PRIMARY KEY|UNIQUE)\\b");
+        private static final Pattern TABLE_KEY = Pattern.compile("(?i)(?:CONSTRAINT \\w+ )?(?:PRIMARY KEY|UNIQUE) ?\\((.*)\\)");
+
+        private final Map<String, Set<String>> tables = new HashMap<>();
+        private final Map<String, Index> indexes = new HashMap<>();
+
+        static Schema replay(List<String> scripts) {
+            Schema schema = new Schema();
+            for (String script : scripts) {
+                String sql = DOLLAR_QUOTED.matcher(COMMENT.matcher(script).replaceAll("")).replaceAll("");
+                for (String statement : sql.split(";")) {
+                    schema.apply(statement.trim().replaceAll("\\s+", " "));
+                }
+            }
+            return schema;
+        }
+
+        boolean hasColumn(String table, String column) {
+            return tables.getOrDefault(table, Set.of()).contains(column);
+        }
+
+        boolean covers(String table, Predicate predicate) {
+            String column = predicate.getColumn();
+            for (Index index : indexes.values()) {
+                if (!index.getTable().equals(table)) {
+                    continue;
+                }
+                String where = index.getWhere();
+                switch (predicate.getType()) {
+                    case TRUE -> {
+                        if (column.equalsIgnoreCase(where) || (column + " = true").equalsIgnoreCase(where)) {
+                            return true;
+                        }
+                    }
+                    case FALSE -> {
+                        if (("NOT " + column).equalsIgnoreCase(where) || (column + " = false").equalsIgnoreCase(where)) {
+                            return true;
+                        }
+                    }
+                    default -> {
+                        if (index.getColumns().get(0).equals(column)
+                                && (where == null || (column + " IS NOT NULL").equalsIgnoreCase(where))) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        private void apply(String statement) {
+            Matcher matcher;
+            if ((matcher = CREATE_TABLE.matcher(statement)).matches()) {
+                if (!statement.toUpperCase(Locale.ROOT).contains(" PARTITION OF ")) {
+                    createTable(matcher.group(1), enclosed(matcher.group(2)));
+                }
+            } else if ((matcher = CREATE_INDEX.matcher(statement)).matches()) {
+                List<String> columns = new ArrayList<>();
+                for (String column : matcher.group(3).split(",")) {
+                    columns.add(column.trim().split(" ")[0]);
+                }
+                indexes.put(matcher.group(1), new Index(matcher.group(2), columns, matcher.group(4)));
+            } else if ((matcher = DROP_INDEX.matcher(statement)).lookingAt()) {
+                indexes.remove(matcher.group(1));
+            } else if ((matcher = DROP_TABLE.matcher(statement)).lookingAt()) {
+                String table = matcher.group(1);
+                tables.remove(table);
+                indexes.values().removeIf(index -> index.getTable().equals(table));
+            } else if ((matcher = RENAME_TABLE.matcher(statement)).matches()) {
+                renameTable(matcher.group(1), matcher.group(2));
+            } else if ((matcher = RENAME_COLUMN.matcher(statement)).matches()) {
+                renameColumn(matcher.group(1), matcher.group(2), matcher.group(3));
+            } else if ((matcher = ALTER_TABLE.matcher(statement)).matches()) {
+                Matcher added = ADD_COLUMN.matcher(matcher.group(2));
+                while (added.find()) {
+                    tables.computeIfAbsent(matcher.group(1), table -> new HashSet<>()).add(added.group(1));
+                }
+            }
+        }
+
+        private void createTable(String table, String body) {
+            Set<String> columns = new HashSet<>();
+            for (String definition : splitTopLevel(body)) {
+                String upper = definition.toUpperCase(Locale.ROOT);
+                Matcher key = TABLE_KEY.matcher(definition);
+                if (upper.startsWith("LIKE ")) {
+                    columns.addAll(tables.getOrDefault(definition.split(" ")[1], Set.of()));
+                } else if (key.matches()) {
+                    addKey(table, Arrays.stream(key.group(1).split(",")).map(String::trim).toList());
+                } else if (!upper.startsWith("FOREIGN ") && !upper.startsWith("CONSTRAINT ")
+                        && !upper.startsWith("CHECK")) {
+                    String column = definition.split(" ")[0];
+                    columns.add(column);
+                    if (INLINE_KEY.matcher(definition).find()) {
+                        addKey(table, List.of(column));
+                    }
+                }
+            }
+            tables.put(table, columns);
+        }
+
+        private void addKey(String table, List<String> columns) {
+            indexes.put(table + "_" + String.join("_", columns) + "_key", new Index(table, columns, null));
+        }
+
+        private void renameTable(String from, String to) {
+            tables.put(to, tables.remove(from));
+            indexes.replaceAll((name, index) -> index.getTable().equals(from)
+                    ? new Index(to, index.getColumns(), index.getWhere())
+                    : index);
+        }
+
+        private void renameColumn(String table, String from, String to) {
+            Set<String> columns = tables.get(table);
+            columns.remove(from);
+            columns.add(to);
+            indexes.replaceAll((name, index) -> index.getTable().equals(table)
+                    ? new Index(table, index.getColumns().stream().map(c -> c.equals(from) ? to : c).toList(),
+                            index.getWhere())
+                    : index);
+        }
+
+        /**
+         * Returns the text up to the parenthesis that closes the one just before it.
+         */
+        private static String enclosed(String text) {
+            int depth = 1;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '(') {
+                    depth++;
+                } else if (c == ')' && --depth == 0) {
+                    return text.substring(0, i);
+                }
+            }
+            return text;
+        }
+
+        private static List<String> splitTopLevel(String text) {
+            List<String> parts = new ArrayList<>();
+            int depth = 0;
+            int start = 0;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '(') {
+                    depth++;
+                } else if (c == ')') {
+                    depth--;
+                } else if (c == ',' && depth == 0) {
+                    parts.add(text.substring(start, i).trim());
+                    start = i + 1;
+                }
+            }
+            parts.add(text.substring(start).trim());
+            return parts;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.persistence;
+
+import com.firefly.core.banking.cards.core.config.UnboundedReadProperties;
+import com.firefly.core.banking.cards.models.repositories.BaseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UnboundedReadGuardTest {
+
+    public interface SampleRepository extends BaseRepository<Object, UUID> {
+        Flux<Object> findByName(String name);
+    }
+
+    @Spy
+    private UnboundedReadProperties properties = new UnboundedReadProperties();
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @InjectMocks
+    private UnboundedReadGuard guard;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        properties.setMaxRows(3);
+        lenient().when(meterRegistryProvider.getIfAvailable()).thenReturn(meterRegistry);
+    }
+
+    @Test
+    void guard_WithinLimit_PassesRowsThrough() {
+        // Act & Assert
+        StepVerifier.create(guard.guard(Flux.range(1, 3), "SampleRepository", "findByName"))
+                .expectNext(1, 2, 3)
+                .verifyComplete();
+        assertNull(meterRegistry.find(UnboundedReadGuard.METRIC).counter());
+    }
+
+    @Test
+    void guard_PastLimit_FlagsOnceAndKeepsReading() {
+        // Act & Assert
+        StepVerifier.create(guard.guard(Flux.range(1, 6), "SampleRepository", "findByName"))
+                .expectNext(1, 2, 3, 4, 5, 6)
+                .verifyComplete();
+        Counter counter = meterRegistry.find(UnboundedReadGuard.METRIC)
+                .tag("repository", "SampleRepository")
+                .tag("method", "findByName")
+                .counter();
+        assertNotNull(counter);
+        assertEquals(1.0, counter.count());
+    }
+
+    @Test
+    void guard_PastLimitWithFailAction_ErrorsAfterMaxRows() {
+        // Arrange
+        properties.setAction(UnboundedReadProperties.Action.FAIL);
+
+        // Act & Assert
+        StepVerifier.create(guard.guard(Flux.range(1, 6), "SampleRepository", "findByName"))
+                .expectNext(1, 2, 3)
+                .expectError(IllegalStateException.class)
+                .verify();
+        assertEquals(1.0, meterRegistry.get(UnboundedReadGuard.METRIC).counter().count());
+    }
+
+    @Test
+    void guard_CountsEachSubscriptionSeparately() {
+        // Arrange
+        Flux<Integer> rows = guard.guard(Flux.range(1, 3), "SampleRepository", "findByName");
+
+        // Act & Assert
+        StepVerifier.create(rows).expectNextCount(3).verifyComplete();
+        StepVerifier.create(rows).expectNextCount(3).verifyComplete();
+        assertNull(meterRegistry.find(UnboundedReadGuard.METRIC).counter());
+    }
+
+    @Test
+    void postProcessAfterInitialization_Repository_GuardsFinders() {
+        // Arrange
+        SampleRepository repository = mock(SampleRepository.class);
+        when(repository.findByName("name")).thenReturn(Flux.range(1, 5).cast(Object.class));
+
+        // Act
+        Object processed = guard.postProcessAfterInitialization(repository, "sampleRepository");
+
+        // Assert
+        assertNotSame(repository, processed);
+        StepVerifier.create(((SampleRepository) processed).findByName("name"))
+                .expectNextCount(5)
+                .verifyComplete();
+        assertEquals(1.0, meterRegistry.get(UnboundedReadGuard.METRIC)
+                .tag("repository", "SampleRepository")
+                .counter().count());
+    }
+
+    @Test
+    void postProcessAfterInitialization_StreamAll_IsNotGuarded() {
+        // Arrange
+        SampleRepository repository = mock(SampleRepository.class);
+        when(repository.streamAll(any(Sort.class), anyInt())).thenReturn(Flux.range(1, 5).cast(Object.class));
+
+        // Act
+        SampleRepository processed = (SampleRepository) guard.postProcessAfterInitialization(repository, "sampleRepository");
+
+        // Assert
+        StepVerifier.create(processed.streamAll(Sort.by("id"), 2))
+                .expectNextCount(5)
+                .verifyComplete();
+        assertNull(meterRegistry.find(UnboundedReadGuard.METRIC).counter());
+    }
+
+    @Test
+    void postProcessAfterInitialization_OtherBean_ReturnedAsIs() {
+        // Arrange
+        Object bean = new Object();
+
+        // Act & Assert
+        assertSame(bean, guard.postProcessAfterInitialization(bean, "bean"));
+    }
+}
@@ -21,6 +21,7 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.acquirer.v1.CardAcquirerMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.acquirer.v1.CardAcquirerDTO;
 import com.firefly.core.banking.cards.models.entities.acquirer.v1.CardAcquirer;
 import com.firefly.core.banking.cards.models.repositories.acquirer.v1.CardAcquirerRepository;
@@ -30,6 +31,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -52,6 +54,9 @@ public class CardAcquirerServiceTest {
     @Mock
     private CardAcquirerMapper mapper;
 
+    @Spy
+    private PaginationQueryTemplate paginationQueryTemplate = new PaginationQueryTemplate();
+
     @InjectMocks
     private CardAcquirerServiceImpl service;
 
@@ -0,0 +1,393 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.activity.v1;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.firefly.core.banking.cards.core.config.ActivityLogProperties;
+import com.firefly.core.banking.cards.core.persistence.BatchInsertTemplate;
+import com.firefly.core.banking.cards.models.entities.activity.v1.CardActivity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ActivityLogTest {
+
+    @Mock
+    private BatchInsertTemplate batchInsertTemplate;
+
+    @Spy
+    private ActivityLogProperties properties = new ActivityLogProperties();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @InjectMocks
+    private ActivityLog activityLog;
+
+    @TempDir
+    Path spillDirectory;
+
+    @BeforeEach
+    void setUp() {
+        properties.setCapacity(4);
+        properties.setBatchSize(3);
+        properties.setOfferTimeout(Duration.ofMillis(20));
+        activityLog.init();
+    }
+
+    @Test
+    void flush_WritesQueuedActivitiesInBatches() {
+        // Arrange
+        when(batchInsertTemplate.insertAll(eq(CardActivity.class), anyList()))
+                .thenAnswer(invocation -> Mono.just((long) invocation.<List<?>>getArgument(1).size()));
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(activityLog.record(activity())).verifyComplete();
+        }
+
+        // Act & Assert
+        StepVerifier.create(activityLog.flush())
+                .expectNext(4L)
+                .verifyComplete();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CardActivity>> batches = ArgumentCaptor.forClass(List.class);
+        verify(batchInsertTemplate, times(2)).insertAll(eq(CardActivity.class), batches.capture());
+        assertEquals(3, batches.getAllValues().get(0).size());
+        assertEquals(1, batches.getAllValues().get(1).size());
+        assertTrue(batches.getAllValues().stream().flatMap(List::stream)
+                .allMatch(activity -> activity.getActivityTimestamp() != null));
+        assertEquals(0, activityLog.queued());
+    }
+
+    @Test
+    void recordAfterCommit_QueuesOnlyOnceTheTransactionCommits() {
+        // Arrange
+        TransactionalOperator transaction = TransactionalOperator.create(new NoOpTransactionManager());
+
+        // Act & Assert: nothing is queued inside the transaction, or at all when it rolls back
+        StepVerifier.create(transaction.transactional(activityLog.recordAfterCommit(activity())
+                        .then(Mono.fromCallable(activityLog::queued))))
+                .expectNext(0)
+                .verifyComplete();
+        assertEquals(1, activityLog.queued());
+
+        StepVerifier.create(transaction.transactional(activityLog.recordAfterCommit(activity())
+                        .then(Mono.error(new IllegalStateException("rolled back")))))
+                .verifyError(IllegalStateException.class);
+        assertEquals(1, activityLog.queued());
+
+        StepVerifier.create(activityLog.recordAfterCommit(activity())).verifyComplete();
+        assertEquals(2, activityLog.queued());
+    }
+
+    @Test
+    void record_FullBufferWithoutSpill_RejectsAfterTimeout() {
+        // Arrange
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(activityLog.record(activity())).verifyComplete();
+        }
+
+        // Act & Assert
+        StepVerifier.create(activityLog.record(activity()))
+                .expectError(IllegalStateException.class)
+                .verify();
+        assertEquals(1.0, meterRegistry.get("cards.activities.log.rejected").counter().count());
+        assertEquals(4.0, meterRegistry.get("cards.activities.log.queue.depth").gauge().value());
+    }
+
+    @Test
+    void record_FullBufferWithSpill_SpillsToDiskAndReplaysAfterDrain() throws Exception {
+        // Arrange
+        properties.setSpillDirectory(spillDirectory.toString());
+        when(batchInsertTemplate.insertAll(eq(CardActivity.class), anyList()))
+                .thenAnswer(invocation -> Mono.just((long) invocation.<List<?>>getArgument(1).size()));
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(activityLog.record(activity())).verifyComplete();
+        }
+        CardActivity overflow = activity();
+
+        // Act
+        StepVerifier.create(activityLog.record(overflow)).verifyComplete();
+
+        // Assert
+        assertEquals(1, spillFiles().size());
+        assertEquals(1.0, meterRegistry.get("cards.activities.log.spilled").counter().count());
+
+        StepVerifier.create(activityLog.flush())
+                .expectNext(5L)
+                .verifyComplete();
+        assertTrue(spillFiles().isEmpty());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CardActivity>> batches = ArgumentCaptor.forClass(List.class);
+        verify(batchInsertTemplate, times(3)).insertAll(eq(CardActivity.class), batches.capture());
+        assertEquals(overflow.getActivityId(), batches.getValue().get(0).getActivityId());
+    }
+
+    @Test
+    void flush_FailedBatchWithoutSpill_IsRetriedFirst() {
+        // Arrange
+        when(batchInsertTemplate.insertAll(eq(CardActivity.class), anyList()))
+                .thenReturn(Mono.error(new IllegalStateException("database unavailable")))
+                .thenAnswer(invocation -> Mono.just((long) invocation.<List<?>>getArgument(1).size()));
+        CardActivity first = activity();
+        StepVerifier.create(activityLog.record(first)).verifyComplete();
+
+        // Act & Assert
+        StepVerifier.create(activityLog.flush())
+                .expectNext(0L)
+                .verifyComplete();
+        StepVerifier.create(activityLog.flush())
+                .expectNext(1L)
+                .verifyComplete();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CardActivity>> batches = ArgumentCaptor.forClass(List.class);
+        verify(batchInsertTemplate, times(2)).insertAll(eq(CardActivity.class), batches.capture());
+        assertSame(first, batches.getValue().get(0));
+        assertEquals(1.0, meterRegistry.get("cards.activities.log.flush.failures").counter().count());
+    }
+
+    @Test
+    void flush_FailedBatchWithSpill_IsSpilledToDisk() throws Exception {
+        // Arrange
+        properties.setSpillDirectory(spillDirectory.toString());
+        when(batchInsertTemplate.insertAll(eq(CardActivity.class), anyList()))
+                .thenReturn(Mono.error(new IllegalStateException("database unavailable")));
+        StepVerifier.create(activityLog.record(activity())).verifyComplete();
+        StepVerifier.create(activityLog.record(activity())).verifyComplete();
+
+        // Act & Assert
+        StepVerifier.create(activityLog.flush())
+                .expectNext(0L)
+                .verifyComplete();
+        List<Path> files = spillFiles();
+        assertEquals(1, files.size());
+        assertEquals(2, Files.readAllLines(files.get(0)).size());
+        assertEquals(0, activityLog.queued());
+    }
+
+    @Test
+    void flush_RowRefusedByDatabase_IsDeadLetteredAndOthersWritten() throws Exception {
+        // Arrange
+        properties.setSpillDirectory(spillDirectory.toString());
+        CardActivity refused = activity();
+        when(batchInsertTemplate.insertAll(eq(CardActivity.class), anyList()))
+                .thenAnswer(invocation -> invocation.<List<?>>getArgument(1).contains(refused)
+                        ? Mono.error(new DataIntegrityViolationException("value too long"))
+                        : Mono.just((long) invocation.<List<?>>getArgument(1).size()));
+        StepVerifier.create(activityLog.record(activity())).verifyComplete();
+        StepVerifier.create(activityLog.record(refused)).verifyComplete();
+        StepVerifier.create(activityLog.record(activity())).verifyComplete();
+
+        // Act & Assert
+        StepVerifier.create(activityLog.flush())
+                .expectNext(2L)
+                .verifyComplete();
+        StepVerifier.create(activityLog.flush())
+                .expectNext(0L)
+                .verifyComplete();
+
+        assertTrue(spillFiles().stream().noneMatch(file -> file.toString().endsWith(".ndjson")));
+        List<Path> deadLetters = filesIn(spillDirectory.resolve("dead-letter"));
+        assertEquals(1, deadLetters.size());
+        List<String> lines = Files.readAllLines(deadLetters.get(0));
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).contains(refused.getActivityId().toString()));
+        assertEquals(1.0, meterRegistry.get("cards.activities.log.dead.lettered").counter().count());
+        verify(batchInsertTemplate, times(5)).insertAll(eq(CardActivity.class), anyList());
+    }
+
+    @Test
+    void flush_RowRefusedWithoutSpill_IsDroppedInsteadOfRetried() {
+        // Arrange
+        when(batchInsertTemplate.insertAll(eq(CardActivity.class), anyList()))
+                .thenReturn(Mono.error(new DataIntegrityViolationException("value too long")));
+        StepVerifier.create(activityLog.record(activity())).verifyComplete();
+
+        // Act & Assert
+        StepVerifier.create(activityLog.flush())
+                .expectNext(0L)
+                .verifyComplete();
+        StepVerifier.create(activityLog.flush())
+                .expectNext(0L)
+                .verifyComplete();
+
+        verify(batchInsertTemplate, times(1)).insertAll(eq(CardActivity.class), anyList());
+        assertEquals(1.0, meterRegistry.get("cards.activities.log.dead.lettered").counter().count());
+    }
+
+    @Test
+    void flush_SpillFileWithRowsAlreadyWritten_IsDeletedWithoutDuplicates() throws Exception {
+        // Arrange
+        properties.setSpillDirectory(spillDirectory.toString());
+        CardActivity written = activity();
+        written.setActivityTimestamp(LocalDateTime.now());
+        CardActivity pending = activity();
+        pending.setActivityTimestamp(LocalDateTime.now());
+        Files.write(spillDirectory.resolve("activities-1-1.ndjson"), List.of(
+                objectMapper.writeValueAsString(written),
+                "{not json",
+                objectMapper.writeValueAsString(pending)));
+        when(batchInsertTemplate.insertAll(eq(CardActivity.class), anyList()))
+                .thenAnswer(invocation -> invocation.<List<CardActivity>>getArgument(1).stream()
+                        .anyMatch(activity -> activity.getActivityId().equals(written.getActivityId()))
+                        ? Mono.error(new DuplicateKeyException("card_activity_pkey"))
+                        : Mono.just((long) invocation.<List<?>>getArgument(1).size()));
+
+        // Act & Assert
+        StepVerifier.create(activityLog.flush())
+                .expectNext(2L)
+                .verifyComplete();
+        assertTrue(spillFiles().stream().noneMatch(file -> file.toString().endsWith(".ndjson")));
+        List<Path> deadLetters = filesIn(spillDirectory.resolve("dead-letter"));
+        assertEquals(List.of("{not json"), Files.readAllLines(deadLetters.get(0)));
+        assertEquals(1.0, meterRegistry.get("cards.activities.log.dead.lettered").counter().count());
+    }
+
+    @Test
+    void ringBuffer_ConcurrentProducers_LoseNothing() throws Exception {
+        // Arrange
+        ActivityRingBuffer<Integer> buffer = new ActivityRingBuffer<>(1 << 16);
+        int producers = 4;
+        int perProducer = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        // Act
+        for (int p = 0; p < producers; p++) {
+            int offset = p * perProducer;
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    assertTrue(buffer.offer(offset + i));
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        // Assert
+        Set<Integer> drained = new HashSet<>(buffer.drain(Integer.MAX_VALUE));
+        assertEquals(producers * perProducer, drained.size());
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void ringBuffer_Full_RefusesUntilDrained() {
+        // Arrange
+        ActivityRingBuffer<Integer> buffer = new ActivityRingBuffer<>(3);
+
+        // Act & Assert
+        assertEquals(4, buffer.capacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+        assertEquals(List.of(0, 1), buffer.drain(2));
+        assertTrue(buffer.offer(4));
+        assertEquals(List.of(2, 3, 4), buffer.drain(10));
+    }
+
+    private List<Path> spillFiles() throws Exception {
+        return filesIn(spillDirectory);
+    }
+
+    private static List<Path> filesIn(Path directory) throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        }
+    }
+
+    private static CardActivity activity() {
+        CardActivity activity = new CardActivity();
+        activity.setActivityId(UUID.randomUUID());
+        activity.setCardId(UUID.randomUUID());
+        activity.setActivityType("CARD_UPDATED");
+        return activity;
+    }
+
+    private static class NoOpTransactionManager extends AbstractReactiveTransactionManager {
+
+        @Override
+        protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+            return new Object();
+        }
+
+        @Override
+        protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager, Object transaction,
+                                     TransactionDefinition definition) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
+                                      GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager,
+                                        GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.balance.v1;
+
+import com.firefly.core.banking.cards.core.config.BalanceProjectionProperties;
+import com.firefly.core.banking.cards.interfaces.enums.transaction.v1.TransactionStatusEnum;
+import com.firefly.core.banking.cards.interfaces.enums.transaction.v1.TransactionTypeEnum;
+import com.firefly.core.banking.cards.models.entities.transaction.v1.CardTransaction;
+import com.firefly.core.banking.cards.models.repositories.balance.v1.CardBalanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BalanceProjectionTest {
+
+    @Mock
+    private CardBalanceRepository balanceRepository;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Spy
+    private BalanceProjectionProperties properties = new BalanceProjectionProperties();
+
+    @InjectMocks
+    private BalanceProjection projection;
+
+    private final UUID cardId = UUID.randomUUID();
+    private final LocalDateTime now = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionalOperator.transactional(any(Mono.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void apply_CompletedPurchaseIncreasesPostedBalance() {
+        // Arrange
+        CardTransaction purchase = transaction(TransactionTypeEnum.PURCHASE, TransactionStatusEnum.COMPLETED, "100.00", now);
+        when(balanceRepository.applyTransactionDelta(cardId, "USD", new BigDecimal("100.00"), BigDecimal.ZERO,
+                purchase.getCardTransactionId(), now)).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(projection.apply(purchase))
+                .verifyComplete();
+
+        verify(balanceRepository).applyTransactionDelta(cardId, "USD", new BigDecimal("100.00"), BigDecimal.ZERO,
+                purchase.getCardTransactionId(), now);
+    }
+
+    @Test
+    void apply_PendingPaymentReducesPendingAmount() {
+        // Arrange
+        CardTransaction payment = transaction(TransactionTypeEnum.PAYMENT, TransactionStatusEnum.PENDING, "40.00", now);
+        when(balanceRepository.applyTransactionDelta(cardId, "USD", BigDecimal.ZERO, new BigDecimal("-40.00"),
+                payment.getCardTransactionId(), now)).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(projection.apply(payment))
+                .verifyComplete();
+
+        verify(balanceRepository).applyTransactionDelta(cardId, "USD", BigDecimal.ZERO, new BigDecimal("-40.00"),
+                payment.getCardTransactionId(), now);
+    }
+
+    @Test
+    void apply_BillingAmountTakesPrecedence() {
+        // Arrange
+        CardTransaction purchase = transaction(TransactionTypeEnum.PURCHASE, TransactionStatusEnum.COMPLETED, "100.00", now);
+        purchase.setBillingAmount(new BigDecimal("92.50"));
+        purchase.setBillingCurrency("EUR");
+        when(balanceRepository.applyTransactionDelta(cardId, "EUR", new BigDecimal("92.50"), BigDecimal.ZERO,
+                purchase.getCardTransactionId(), now)).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(projection.apply(purchase))
+                .verifyComplete();
+
+        verify(balanceRepository).applyTransactionDelta(cardId, "EUR", new BigDecimal("92.50"), BigDecimal.ZERO,
+                purchase.getCardTransactionId(), now);
+    }
+
+    @Test
+    void apply_FailedTransactionIgnored() {
+        // Arrange
+        CardTransaction failed = transaction(TransactionTypeEnum.PURCHASE, TransactionStatusEnum.FAILED, "100.00", now);
+
+        // Act & Assert
+        StepVerifier.create(projection.apply(failed))
+                .verifyComplete();
+
+        verifyNoInteractions(balanceRepository);
+    }
+
+    @Test
+    void apply_Disabled() {
+        // Arrange
+        properties.setEnabled(false);
+        CardTransaction purchase = transaction(TransactionTypeEnum.PURCHASE, TransactionStatusEnum.COMPLETED, "100.00", now);
+
+        // Act & Assert
+        StepVerifier.create(projection.apply(purchase))
+                .verifyComplete();
+
+        verifyNoInteractions(balanceRepository);
+    }
+
+    @Test
+    void applyAll_AggregatesPerCardAndCurrency() {
+        // Arrange
+        CardTransaction purchase = transaction(TransactionTypeEnum.PURCHASE, TransactionStatusEnum.COMPLETED, "100.00", now);
+        CardTransaction refund = transaction(TransactionTypeEnum.REFUND, TransactionStatusEnum.COMPLETED, "30.00",
+                now.plusMinutes(5));
+        CardTransaction pending = transaction(TransactionTypeEnum.WITHDRAWAL, TransactionStatusEnum.PENDING, "20.00",
+                now.plusMinutes(1));
+        when(balanceRepository.applyTransactionDelta(cardId, "USD", new BigDecimal("70.00"), new BigDecimal("20.00"),
+                refund.getCardTransactionId(), now.plusMinutes(5))).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(projection.applyAll(List.of(purchase, refund, pending)))
+                .verifyComplete();
+
+        verify(balanceRepository, times(1)).applyTransactionDelta(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void rebuild_LocksThenRecomputes() {
+        // Arrange
+        when(balanceRepository.lockCurrentBalances(cardId)).thenReturn(Flux.just(UUID.randomUUID()));
+        when(balanceRepository.rebuildCurrentBalances(cardId))
+                .thenReturn(Flux.just(UUID.randomUUID(), UUID.randomUUID()));
+
+        // Act & Assert
+        StepVerifier.create(projection.rebuild(cardId))
+                .expectNext(2L)
+                .verifyComplete();
+
+        verify(transactionalOperator).transactional(any(Mono.class));
+    }
+
+    @Test
+    void replace_PendingCompletedMovesAmountToPosted() {
+        // Arrange
+        CardTransaction pending = transaction(TransactionTypeEnum.PURCHASE, TransactionStatusEnum.PENDING, "100.00", now);
+        CardTransaction completed = transaction(TransactionTypeEnum.PURCHASE, TransactionStatusEnum.COMPLETED, "100.00", now);
+        completed.setCardTransactionId(pending.getCardTransactionId());
+        when(balanceRepository.applyTransactionDelta(cardId, "USD", new BigDecimal("100.00"), new BigDecimal("0.00"),
+                completed.getCardTransactionId(), now)).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(projection.replace(pending, completed))
+                .verifyComplete();
+
+        verify(balanceRepository, times(1)).applyTransactionDelta(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void replace_CurrencyChangeMovesAmountBetweenBalances() {
+        // Arrange
+        CardTransaction before = transaction(TransactionTypeEnum.PURCHASE, TransactionStatusEnum.COMPLETED, "100.00", now);
+        CardTransaction after = transaction(TransactionTypeEnum.PURCHASE, TransactionStatusEnum.COMPLETED, "90.00", now);
+        after.setTransactionCurrency("EUR");
+        when(balanceRepository.applyTransactionDelta(cardId, "USD", new BigDecimal("-100.00"), BigDecimal.ZERO,
+                null, null)).thenReturn(Mono.just(1));
+        when(balanceRepository.applyTransactionDelta(cardId, "EUR", new BigDecimal("90.00"), BigDecimal.ZERO,
+                after.getCardTransactionId(), now)).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(projection.replace(before, after))
+                .verifyComplete();
+
+        verify(balanceRepository, times(2)).applyTransactionDelta(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void replace_UnchangedAmountsWriteNothing() {
+        // Arrange
+        CardTransaction before = transaction(TransactionTypeEnum.PURCHASE, TransactionStatusEnum.COMPLETED, "100.00", now);
+        CardTransaction after = transaction(TransactionTypeEnum.PURCHASE, TransactionStatusEnum.COMPLETED, "100.00", now);
+        after.setCardTransactionId(before.getCardTransactionId());
+        after.setNotes("Reviewed");
+
+        // Act & Assert
+        StepVerifier.create(projection.replace(before, after))
+                .verifyComplete();
+
+        verifyNoInteractions(balanceRepository);
+    }
+
+    @Test
+    void revert_DeletedPendingTransactionReducesPendingAmount() {
+        // Arrange
+        CardTransaction pending = transaction(TransactionTypeEnum.PURCHASE, TransactionStatusEnum.PENDING, "25.00", now);
+        when(balanceRepository.applyTransactionDelta(cardId, "USD", BigDecimal.ZERO, new BigDecimal("-25.00"),
+                null, null)).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(projection.revert(pending))
+                .verifyComplete();
+
+        verify(balanceRepository).applyTransactionDelta(cardId, "USD", BigDecimal.ZERO, new BigDecimal("-25.00"),
+                null, null);
+    }
+
+    @Test
+    void rebuildAll_RebuildsEveryCardWithTransactionsOrBalances() {
+        // Arrange
+        UUID otherCard = UUID.randomUUID();
+        when(balanceRepository.findCardIdsToRebuild()).thenReturn(Flux.just(cardId, otherCard));
+        when(balanceRepository.lockCurrentBalances(any(UUID.class))).thenReturn(Flux.empty());
+        when(balanceRepository.rebuildCurrentBalances(cardId)).thenReturn(Flux.just(UUID.randomUUID()));
+        when(balanceRepository.rebuildCurrentBalances(otherCard))
+                .thenReturn(Flux.just(UUID.randomUUID(), UUID.randomUUID()));
+
+        // Act & Assert
+        StepVerifier.create(projection.rebuildAll())
+                .expectNext(new BalanceProjection.RebuildTotals(2, 3))
+                .verifyComplete();
+    }
+
+    private CardTransaction transaction(TransactionTypeEnum type, TransactionStatusEnum status, String amount,
+                                        LocalDateTime timestamp) {
+        CardTransaction transaction = new CardTransaction();
+        transaction.setCardTransactionId(UUID.randomUUID());
+        transaction.setCardId(cardId);
+        transaction.setTransactionType(type);
+        transaction.setTransactionStatus(status);
+        transaction.setTransactionAmount(new BigDecimal(amount));
+        transaction.setTransactionCurrency("USD");
+        transaction.setTransactionTimestamp(timestamp);
+        return transaction;
+    }
+}
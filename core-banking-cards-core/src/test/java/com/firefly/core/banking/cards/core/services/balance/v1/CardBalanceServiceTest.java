@@ -21,6 +21,8 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.balance.v1.CardBalanceMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.balance.v1.CardBalanceDTO;
 import com.firefly.core.banking.cards.models.entities.balance.v1.CardBalance;
 import com.firefly.core.banking.cards.models.repositories.balance.v1.CardBalanceRepository;
@@ -30,16 +32,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -53,6 +58,15 @@ public class CardBalanceServiceTest {
     @Mock
     private CardBalanceMapper mapper;
 
+    @Spy
+    private PaginationQueryTemplate paginationQueryTemplate = new PaginationQueryTemplate();
+
+    @Mock
+    private PartialUpdateTemplate partialUpdateTemplate;
+
+    @Mock
+    private BalanceProjection balanceProjection;
+
     @InjectMocks
     private CardBalanceServiceImpl service;
 
@@ -133,7 +147,7 @@ public class CardBalanceServiceTest {
     @Test
     void getBalance_Success() {
         // Arrange
-        when(repository.findByBalanceId(balanceId)).thenReturn(Mono.just(balanceEntity));
+        when(repository.findByCardIdAndBalanceId(cardId, balanceId)).thenReturn(Mono.just(balanceEntity));
         when(mapper.toDTO(any(CardBalance.class))).thenReturn(balanceDTO);
 
         // Act & Assert
@@ -141,7 +155,7 @@ public class CardBalanceServiceTest {
                 .expectNext(balanceDTO)
                 .verifyComplete();
 
-        verify(repository).findByBalanceId(balanceId);
+        verify(repository).findByCardIdAndBalanceId(cardId, balanceId);
         verify(mapper).toDTO(balanceEntity);
     }
 
@@ -149,23 +163,23 @@ public class CardBalanceServiceTest {
     void getBalance_WrongCardId() {
         // Arrange
         UUID wrongCardId = UUID.randomUUID();
-        when(repository.findByBalanceId(balanceId)).thenReturn(Mono.just(balanceEntity));
+        when(repository.findByCardIdAndBalanceId(wrongCardId, balanceId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.getBalance(wrongCardId, balanceId))
-                .expectError(RuntimeException.class)
-                .verify();
+                .verifyComplete();
 
-        verify(repository).findByBalanceId(balanceId);
+        verify(repository).findByCardIdAndBalanceId(wrongCardId, balanceId);
         verify(mapper, never()).toDTO(any(CardBalance.class));
     }
 
     @Test
     void updateBalance_Success() {
         // Arrange
-        when(repository.findByBalanceId(balanceId)).thenReturn(Mono.just(balanceEntity));
         when(mapper.toEntity(any(CardBalanceDTO.class))).thenReturn(balanceEntity);
-        when(repository.save(any(CardBalance.class))).thenReturn(Mono.just(balanceEntity));
+        when(partialUpdateTemplate.replace(eq(CardBalance.class), eq(balanceEntity),
+                eq(Map.of("balance_id", balanceId, "card_id", cardId))))
+                .thenReturn(Mono.just(balanceEntity));
         when(mapper.toDTO(any(CardBalance.class))).thenReturn(balanceDTO);
 
         // Act & Assert
@@ -173,9 +187,7 @@ public class CardBalanceServiceTest {
                 .expectNext(balanceDTO)
                 .verifyComplete();
 
-        verify(repository).findByBalanceId(balanceId);
-        verify(mapper).toEntity(balanceDTO);
-        verify(repository).save(balanceEntity);
+        verify(repository, never()).save(any(CardBalance.class));
         verify(mapper).toDTO(balanceEntity);
     }
 
@@ -183,44 +195,104 @@ public class CardBalanceServiceTest {
     void updateBalance_WrongCardId() {
         // Arrange
         UUID wrongCardId = UUID.randomUUID();
-        when(repository.findByBalanceId(balanceId)).thenReturn(Mono.just(balanceEntity));
+        when(mapper.toEntity(any(CardBalanceDTO.class))).thenReturn(balanceEntity);
+        when(partialUpdateTemplate.replace(eq(CardBalance.class), eq(balanceEntity),
+                eq(Map.of("balance_id", balanceId, "card_id", wrongCardId))))
+                .thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.updateBalance(wrongCardId, balanceId, balanceDTO))
-                .expectError(RuntimeException.class)
-                .verify();
+                .verifyComplete();
+
+        verify(repository, never()).save(any(CardBalance.class));
+        verify(mapper, never()).toDTO(any(CardBalance.class));
+    }
+
+    @Test
+    void patchBalance_Success() {
+        // Arrange
+        when(mapper.toEntity(any(CardBalanceDTO.class))).thenReturn(balanceEntity);
+        when(partialUpdateTemplate.updateNonNull(eq(CardBalance.class), eq(balanceEntity),
+                eq(Map.of("balance_id", balanceId, "card_id", cardId))))
+                .thenReturn(Mono.just(balanceEntity));
+        when(mapper.toDTO(any(CardBalance.class))).thenReturn(balanceDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.patchBalance(cardId, balanceId, balanceDTO))
+                .expectNext(balanceDTO)
+                .verifyComplete();
 
-        verify(repository).findByBalanceId(balanceId);
+        verify(repository, never()).findByBalanceId(any(UUID.class));
         verify(repository, never()).save(any(CardBalance.class));
+    }
+
+    @Test
+    void patchBalance_NotFound() {
+        // Arrange
+        when(mapper.toEntity(any(CardBalanceDTO.class))).thenReturn(balanceEntity);
+        when(partialUpdateTemplate.updateNonNull(eq(CardBalance.class), eq(balanceEntity),
+                eq(Map.of("balance_id", balanceId, "card_id", cardId))))
+                .thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.patchBalance(cardId, balanceId, balanceDTO))
+                .verifyComplete();
+
         verify(mapper, never()).toDTO(any(CardBalance.class));
     }
 
     @Test
     void deleteBalance_Success() {
         // Arrange
-        when(repository.findByBalanceId(balanceId)).thenReturn(Mono.just(balanceEntity));
-        when(repository.delete(balanceEntity)).thenReturn(Mono.empty());
+        when(repository.deleteByCardIdAndBalanceId(cardId, balanceId)).thenReturn(Mono.just(1));
 
         // Act & Assert
         StepVerifier.create(service.deleteBalance(cardId, balanceId))
                 .verifyComplete();
 
-        verify(repository).findByBalanceId(balanceId);
-        verify(repository).delete(balanceEntity);
+        verify(repository).deleteByCardIdAndBalanceId(cardId, balanceId);
+        verify(repository, never()).delete(any(CardBalance.class));
     }
 
     @Test
     void deleteBalance_WrongCardId() {
         // Arrange
         UUID wrongCardId = UUID.randomUUID();
-        when(repository.findByBalanceId(balanceId)).thenReturn(Mono.just(balanceEntity));
+        when(repository.deleteByCardIdAndBalanceId(wrongCardId, balanceId)).thenReturn(Mono.just(0));
 
         // Act & Assert
         StepVerifier.create(service.deleteBalance(wrongCardId, balanceId))
-                .expectError(RuntimeException.class)
-                .verify();
+                .verifyComplete();
 
-        verify(repository).findByBalanceId(balanceId);
+        verify(repository).deleteByCardIdAndBalanceId(wrongCardId, balanceId);
         verify(repository, never()).delete(any(CardBalance.class));
     }
+
+    @Test
+    void rebuildBalances_ReportsRebuiltBalances() {
+        // Arrange
+        when(balanceProjection.rebuild(cardId)).thenReturn(Mono.just(2L));
+
+        // Act & Assert
+        StepVerifier.create(service.rebuildBalances(cardId))
+                .assertNext(result -> {
+                    assertEquals(1, result.getCards());
+                    assertEquals(2, result.getBalances());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void rebuildAllBalances_ReportsTotals() {
+        // Arrange
+        when(balanceProjection.rebuildAll()).thenReturn(Mono.just(new BalanceProjection.RebuildTotals(3, 4)));
+
+        // Act & Assert
+        StepVerifier.create(service.rebuildAllBalances())
+                .assertNext(result -> {
+                    assertEquals(3, result.getCards());
+                    assertEquals(4, result.getBalances());
+                })
+                .verifyComplete();
+    }
 }
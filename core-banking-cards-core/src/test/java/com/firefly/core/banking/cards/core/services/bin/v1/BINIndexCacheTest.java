@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.bin.v1;
+
+import com.firefly.core.banking.cards.core.config.BINIndexProperties;
+import com.firefly.core.banking.cards.core.mappers.bin.v1.BINMapper;
+import com.firefly.core.banking.cards.interfaces.dtos.bin.v1.BINDTO;
+import com.firefly.core.banking.cards.models.entities.bin.v1.BIN;
+import com.firefly.core.banking.cards.models.repositories.bin.v1.BINRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BINIndexCacheTest {
+
+    @Mock
+    private BINRepository repository;
+
+    @Spy
+    private BINMapper mapper = Mappers.getMapper(BINMapper.class);
+
+    @Spy
+    private BINIndexProperties properties = new BINIndexProperties();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private BINIndexCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache.registerMeters();
+    }
+
+    @Test
+    void resolve_ConcurrentFirstLookups_ShareOneLoad() {
+        // Arrange
+        when(repository.findAll()).thenReturn(Flux.just(bin("411111")));
+
+        // Act & Assert
+        StepVerifier.create(cache.resolve("4111111111111111").zipWith(cache.findByBinNumber("411111")))
+                .assertNext(found -> {
+                    assertEquals("411111", found.getT1().getBinNumber());
+                    assertEquals("411111", found.getT2().getBinNumber());
+                })
+                .verifyComplete();
+
+        verify(repository, times(1)).findAll();
+    }
+
+    @Test
+    void invalidate_ServesPreviousSnapshotUntilTheReloadCompletes() {
+        // Arrange
+        Sinks.Many<BIN> reload = Sinks.many().unicast().onBackpressureBuffer();
+        when(repository.findAll()).thenReturn(Flux.just(bin("411111")), reload.asFlux());
+        StepVerifier.create(cache.resolve("4111111111111111")).expectNextCount(1).verifyComplete();
+
+        // Act
+        StepVerifier.create(cache.invalidate()).verifyComplete();
+
+        // Assert
+        StepVerifier.create(cache.resolve("5500000000000004")).verifyComplete();
+        reload.tryEmitNext(bin("550000"));
+        reload.tryEmitComplete();
+        StepVerifier.create(cache.resolve("5500000000000004").map(BINDTO::getBinNumber))
+                .expectNext("550000")
+                .verifyComplete();
+        verify(repository, times(2)).findAll();
+    }
+
+    @Test
+    void invalidate_FailedReload_KeepsPreviousSnapshot() {
+        // Arrange
+        when(repository.findAll())
+                .thenReturn(Flux.just(bin("411111")), Flux.error(new IllegalStateException("connection lost")));
+        StepVerifier.create(cache.resolve("4111111111111111")).expectNextCount(1).verifyComplete();
+
+        // Act
+        StepVerifier.create(cache.invalidate()).verifyComplete();
+
+        // Assert
+        StepVerifier.create(cache.resolve("4111111111111111").map(BINDTO::getBinNumber))
+                .expectNext("411111")
+                .verifyComplete();
+        assertEquals(1.0, meterRegistry.counter("cards.bin.index.refresh.failures").count());
+    }
+
+    private static BIN bin(String number) {
+        BIN bin = new BIN();
+        bin.setBinNumber(number);
+        bin.setBinLength(number.length());
+        bin.setIsActive(true);
+        return bin;
+    }
+}
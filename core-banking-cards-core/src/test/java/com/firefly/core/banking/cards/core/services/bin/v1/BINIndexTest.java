@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.bin.v1;
+
+import com.firefly.core.banking.cards.interfaces.dtos.bin.v1.BINDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BINIndexTest {
+
+    private static BINDTO bin(String number, boolean active) {
+        return BINDTO.builder()
+                .binNumber(number)
+                .binLength(number.length())
+                .isActive(active)
+                .build();
+    }
+
+    @Test
+    void longestPrefixMatch_PrefersMostSpecificBIN() {
+        // Arrange
+        BINDTO six = bin("411111", true);
+        BINDTO eight = bin("41111122", true);
+        BINIndex index = BINIndex.of(List.of(six, eight));
+
+        // Act & Assert
+        assertSame(eight, index.longestPrefixMatch("4111112233445566"));
+        assertSame(six, index.longestPrefixMatch("4111119933445566"));
+        assertSame(eight, index.longestPrefixMatch("4111-1122-3344-5566"));
+        assertNull(index.longestPrefixMatch("5500000000000004"));
+    }
+
+    @Test
+    void longestPrefixMatch_SkipsInactiveBINs() {
+        // Arrange
+        BINDTO six = bin("411111", true);
+        BINDTO seven = bin("4111112", false);
+        BINIndex index = BINIndex.of(List.of(six, seven));
+
+        // Act & Assert
+        assertSame(six, index.longestPrefixMatch("4111112233445566"));
+        assertSame(seven, index.exactMatch("4111112"));
+    }
+
+    @Test
+    void longestPrefixMatch_RejectsShortOrNonNumericInput() {
+        // Arrange
+        BINIndex index = BINIndex.of(List.of(bin("411111", true)));
+
+        // Act & Assert
+        assertNull(index.longestPrefixMatch("41111"));
+        assertNull(index.longestPrefixMatch("4111a11111111111"));
+        assertNull(index.longestPrefixMatch(null));
+    }
+
+    @Test
+    void of_SkipsMalformedNumbersAndKeepsLastDuplicate() {
+        // Arrange
+        BINDTO first = bin("411111", true);
+        BINDTO second = bin("411111", true);
+        BINIndex index = BINIndex.of(List.of(first, bin("41AB11", true), bin("12345", true), second));
+
+        // Act & Assert
+        assertEquals(1, index.size());
+        assertSame(second, index.exactMatch("411111"));
+    }
+}
@@ -21,6 +21,7 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.bin.v1.BINMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.bin.v1.BINDTO;
 import com.firefly.core.banking.cards.models.entities.bin.v1.BIN;
 import com.firefly.core.banking.cards.models.repositories.bin.v1.BINRepository;
@@ -30,6 +31,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -51,6 +53,12 @@ public class BINServiceTest {
     @Mock
     private BINMapper mapper;
 
+    @Spy
+    private PaginationQueryTemplate paginationQueryTemplate = new PaginationQueryTemplate();
+
+    @Mock
+    private BINIndexCache binIndex;
+
     @InjectMocks
     private BINServiceImpl service;
 
@@ -88,6 +96,8 @@ public class BINServiceTest {
         binEntity.setCurrencyCode("USD");
         binEntity.setIsActive(true);
         binEntity.setDescription("Test BIN");
+
+        lenient().when(binIndex.invalidate()).thenReturn(Mono.empty());
     }
 
     @Test
@@ -136,6 +146,7 @@ public class BINServiceTest {
         verify(mapper).toEntity(binDTO);
         verify(repository).save(binEntity);
         verify(mapper).toDTO(binEntity);
+        verify(binIndex).invalidate();
     }
 
     @Test
@@ -169,6 +180,7 @@ public class BINServiceTest {
     @Test
     void getBINByNumber_Success() {
         // Arrange
+        when(binIndex.findByBinNumber(binNumber)).thenReturn(Mono.empty());
         when(repository.findByBinNumber(binNumber)).thenReturn(Mono.just(binEntity));
         when(mapper.toDTO(any(BIN.class))).thenReturn(binDTO);
 
@@ -184,6 +196,7 @@ public class BINServiceTest {
     @Test
     void getBINByNumber_NotFound() {
         // Arrange
+        when(binIndex.findByBinNumber(binNumber)).thenReturn(Mono.empty());
         when(repository.findByBinNumber(binNumber)).thenReturn(Mono.empty());
 
         // Act & Assert
@@ -194,6 +207,47 @@ public class BINServiceTest {
         verify(mapper, never()).toDTO(any(BIN.class));
     }
 
+    @Test
+    void getBINByNumber_ServedFromIndex() {
+        // Arrange
+        when(binIndex.findByBinNumber(binNumber)).thenReturn(Mono.just(binDTO));
+
+        // Act & Assert
+        StepVerifier.create(service.getBINByNumber(binNumber))
+                .expectNext(binDTO)
+                .verifyComplete();
+
+        verify(repository, never()).findByBinNumber(any());
+    }
+
+    @Test
+    void resolvePan_Success() {
+        // Arrange
+        String pan = "1234 5678 9012 3452";
+        when(binIndex.resolve(pan)).thenReturn(Mono.just(binDTO));
+
+        // Act & Assert
+        StepVerifier.create(service.resolvePan(pan))
+                .expectNext(binDTO)
+                .verifyComplete();
+
+        verify(binIndex).resolve(pan);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void resolvePan_NotFound() {
+        // Arrange
+        String pan = "9999999999999995";
+        when(binIndex.resolve(pan)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.resolvePan(pan))
+                .verifyComplete();
+
+        verifyNoInteractions(repository);
+    }
+
     @Test
     void updateBIN_Success() {
         // Arrange
@@ -211,6 +265,7 @@ public class BINServiceTest {
         verify(mapper).toEntity(binDTO);
         verify(repository).save(binEntity);
         verify(mapper).toDTO(binEntity);
+        verify(binIndex).invalidate();
     }
 
     @Test
@@ -240,6 +295,7 @@ public class BINServiceTest {
 
         verify(repository).findByBinId(binId);
         verify(repository).delete(binEntity);
+        verify(binIndex).invalidate();
     }
 
     @Test
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.card.v1;
+
+import com.firefly.core.banking.cards.core.config.CardCacheProperties;
+import com.firefly.core.banking.cards.core.mappers.card.v1.CardMapper;
+import com.firefly.core.banking.cards.interfaces.dtos.card.v1.CardDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CaffeineCardCacheTest {
+
+    @Mock
+    private CardCacheTier tier;
+
+    @Spy
+    private CardCacheProperties properties = new CardCacheProperties();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private CardMapper mapper = Mappers.getMapper(CardMapper.class);
+
+    @InjectMocks
+    private CaffeineCardCache cache;
+
+    private final UUID cardId = UUID.randomUUID();
+    private final CardDTO cardDTO = CardDTO.builder().cardId(cardId).build();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<UUID, Mono<CardDTO>> loader = id -> {
+        loads.incrementAndGet();
+        return Mono.just(cardDTO);
+    };
+
+    @BeforeEach
+    void setUp() {
+        cache.init();
+    }
+
+    @Test
+    void get_LoadsOnceThenServesFromMemory() {
+        // Arrange
+        when(tier.get(cardId)).thenReturn(Mono.empty());
+        when(tier.put(cardId, cardDTO)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(cache.get(cardId, loader)).expectNext(cardDTO).verifyComplete();
+        StepVerifier.create(cache.get(cardId, loader)).expectNext(cardDTO).verifyComplete();
+
+        assertEquals(1, loads.get());
+        verify(tier, times(1)).get(cardId);
+        verify(tier).put(cardId, cardDTO);
+        assertEquals(0.5, meterRegistry.get("cards.cards.cache.hit.ratio").gauge().value());
+        assertEquals(1, meterRegistry.get("cards.cards.cache.load").timer().count());
+    }
+
+    @Test
+    void get_ServesFromTierBeforeLoader() {
+        // Arrange
+        when(tier.get(cardId)).thenReturn(Mono.just(cardDTO));
+
+        // Act & Assert
+        StepVerifier.create(cache.get(cardId, loader)).expectNext(cardDTO).verifyComplete();
+
+        assertEquals(0, loads.get());
+        verify(tier, never()).put(any(UUID.class), any(CardDTO.class));
+    }
+
+    @Test
+    void get_TierFailure_FallsBackToLoader() {
+        // Arrange
+        when(tier.get(cardId)).thenReturn(Mono.error(new IllegalStateException("tier down")));
+        when(tier.put(cardId, cardDTO)).thenReturn(Mono.error(new IllegalStateException("tier down")));
+
+        // Act & Assert
+        StepVerifier.create(cache.get(cardId, loader)).expectNext(cardDTO).verifyComplete();
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_NotFound_IsNotCached() {
+        // Arrange
+        when(tier.get(cardId)).thenReturn(Mono.empty());
+        AtomicInteger misses = new AtomicInteger();
+        Function<UUID, Mono<CardDTO>> emptyLoader = id -> {
+            misses.incrementAndGet();
+            return Mono.empty();
+        };
+
+        // Act & Assert
+        StepVerifier.create(cache.get(cardId, emptyLoader)).verifyComplete();
+        StepVerifier.create(cache.get(cardId, emptyLoader)).verifyComplete();
+
+        assertEquals(2, misses.get());
+    }
+
+    @Test
+    void invalidate_ReloadsOnNextGet() {
+        // Arrange
+        when(tier.get(cardId)).thenReturn(Mono.empty());
+        when(tier.put(cardId, cardDTO)).thenReturn(Mono.empty());
+        when(tier.evict(cardId)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(cache.get(cardId, loader)).expectNext(cardDTO).verifyComplete();
+        StepVerifier.create(cache.invalidate(cardId)).verifyComplete();
+        StepVerifier.create(cache.get(cardId, loader)).expectNext(cardDTO).verifyComplete();
+
+        assertEquals(2, loads.get());
+        verify(tier).evict(cardId);
+    }
+
+    @Test
+    void get_ReturnsCopiesOfTheCachedCard() {
+        // Arrange
+        when(tier.get(cardId)).thenReturn(Mono.empty());
+        when(tier.put(cardId, cardDTO)).thenReturn(Mono.empty());
+        CardDTO first = cache.get(cardId, loader).block();
+
+        // Act
+        first.setCardNumber("4111111111111111");
+
+        // Assert
+        StepVerifier.create(cache.get(cardId, loader))
+                .assertNext(second -> {
+                    assertNotSame(first, second);
+                    assertNull(second.getCardNumber());
+                })
+                .verifyComplete();
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void invalidate_InTransaction_EvictsAgainAfterCommit() {
+        // Arrange
+        when(tier.get(cardId)).thenReturn(Mono.empty());
+        when(tier.put(cardId, cardDTO)).thenReturn(Mono.empty());
+        when(tier.evict(cardId)).thenReturn(Mono.empty());
+        TransactionalOperator transaction = TransactionalOperator.create(new NoOpTransactionManager());
+
+        // Act: a lookup between the invalidation and the commit caches the card again
+        StepVerifier.create(transaction.transactional(cache.invalidate(cardId).then(cache.get(cardId, loader))))
+                .expectNext(cardDTO)
+                .verifyComplete();
+
+        // Assert
+        StepVerifier.create(cache.get(cardId, loader)).expectNext(cardDTO).verifyComplete();
+        assertEquals(2, loads.get());
+        verify(tier, times(2)).evict(cardId);
+    }
+
+    private static class NoOpTransactionManager extends AbstractReactiveTransactionManager {
+
+        @Override
+        protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+            return new Object();
+        }
+
+        @Override
+        protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager, Object transaction,
+                                     TransactionDefinition definition) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
+                                      GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager,
+                                        GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+    }
+}
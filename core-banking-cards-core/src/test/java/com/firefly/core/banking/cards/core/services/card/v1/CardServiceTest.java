@@ -18,13 +18,19 @@
 package com.firefly.core.banking.cards.core.services.card.v1;
 
 import com.firefly.core.banking.cards.core.mappers.card.v1.CardMapper;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
+import com.firefly.core.banking.cards.core.services.activity.v1.ActivityLog;
+import com.firefly.core.banking.cards.core.services.event.v1.CardEventOutbox;
 import com.firefly.core.banking.cards.interfaces.dtos.card.v1.CardDTO;
 import com.firefly.core.banking.cards.interfaces.enums.card.v1.CardStatusEnum;
+import com.firefly.core.banking.cards.interfaces.enums.event.v1.CardEventTypeEnum;
+import com.firefly.core.banking.cards.models.entities.activity.v1.CardActivity;
 import com.firefly.core.banking.cards.models.entities.card.v1.Card;
 import com.firefly.core.banking.cards.models.repositories.card.v1.CardRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -32,9 +38,13 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +56,18 @@ public class CardServiceTest {
     @Mock
     private CardMapper cardMapper;
 
+    @Mock
+    private PartialUpdateTemplate partialUpdateTemplate;
+
+    @Mock
+    private CardCache cardCache;
+
+    @Mock
+    private CardEventOutbox outbox;
+
+    @Mock
+    private ActivityLog activityLog;
+
     @InjectMocks
     private CardServiceImpl cardService;
 
@@ -83,6 +105,15 @@ public class CardServiceTest {
         card.setIssuanceDate(now);
         card.setExpirationDate(expirationDate);
         card.setIsPhysical(true);
+
+        // Pass every lookup through to the loader unless a test says otherwise
+        lenient().when(cardCache.get(any(UUID.class), any())).thenAnswer(invocation -> {
+            Function<UUID, Mono<CardDTO>> loader = invocation.getArgument(1);
+            return loader.apply(invocation.getArgument(0));
+        });
+        lenient().when(cardCache.invalidate(any(UUID.class))).thenReturn(Mono.empty());
+        lenient().when(outbox.append(any(), any(), any(), any())).thenReturn(Mono.empty());
+        lenient().when(activityLog.recordAfterCommit(any(CardActivity.class))).thenReturn(Mono.empty());
     }
 
     @Test
@@ -130,6 +161,19 @@ public class CardServiceTest {
         verify(cardMapper, never()).toDTO(any(Card.class));
     }
 
+    @Test
+    void getCard_CacheHit() {
+        // Arrange
+        when(cardCache.get(eq(cardId), any())).thenReturn(Mono.just(cardDTO));
+
+        // Act & Assert
+        StepVerifier.create(cardService.getCard(cardId))
+                .expectNext(cardDTO)
+                .verifyComplete();
+
+        verify(cardRepository, never()).findByCardId(any(UUID.class));
+    }
+
     @Test
     void updateCard_Success() {
         // Arrange
@@ -147,6 +191,33 @@ public class CardServiceTest {
         verify(cardMapper).toEntity(cardDTO);
         verify(cardRepository).save(card);
         verify(cardMapper).toDTO(card);
+        verify(cardCache).invalidate(cardId);
+    }
+
+    @Test
+    void updateCard_StatusChange_RecordsActivity() {
+        // Arrange
+        Card blocked = new Card();
+        blocked.setCardId(cardId);
+        blocked.setCardStatus(CardStatusEnum.BLOCKED);
+        CardDTO blockedDTO = CardDTO.builder().cardId(cardId).cardStatus(CardStatusEnum.BLOCKED).build();
+        when(cardRepository.findByCardId(cardId)).thenReturn(Mono.just(card));
+        when(cardMapper.toEntity(blockedDTO)).thenReturn(blocked);
+        when(cardRepository.save(blocked)).thenReturn(Mono.just(blocked));
+        when(cardMapper.toDTO(blocked)).thenReturn(blockedDTO);
+
+        // Act
+        StepVerifier.create(cardService.updateCard(cardId, blockedDTO))
+                .expectNext(blockedDTO)
+                .verifyComplete();
+
+        // Assert
+        ArgumentCaptor<CardActivity> activity = ArgumentCaptor.forClass(CardActivity.class);
+        verify(activityLog).recordAfterCommit(activity.capture());
+        assertEquals(cardId, activity.getValue().getCardId());
+        assertEquals("CARD_UPDATED", activity.getValue().getActivityType());
+        assertEquals("ACTIVE", activity.getValue().getPreviousValue());
+        assertEquals("BLOCKED", activity.getValue().getNewValue());
     }
 
     @Test
@@ -162,6 +233,39 @@ public class CardServiceTest {
         verify(cardMapper, never()).toEntity(any(CardDTO.class));
         verify(cardRepository, never()).save(any(Card.class));
         verify(cardMapper, never()).toDTO(any(Card.class));
+        verify(cardCache, never()).invalidate(any(UUID.class));
+    }
+
+    @Test
+    void patchCard_Success() {
+        // Arrange
+        when(cardMapper.toEntity(any(CardDTO.class))).thenReturn(card);
+        when(partialUpdateTemplate.updateNonNull(eq(Card.class), eq(card), eq(Map.of("card_id", cardId))))
+                .thenReturn(Mono.just(card));
+        when(cardMapper.toDTO(any(Card.class))).thenReturn(cardDTO);
+
+        // Act & Assert
+        StepVerifier.create(cardService.patchCard(cardId, cardDTO))
+                .expectNext(cardDTO)
+                .verifyComplete();
+
+        verify(cardRepository, never()).findByCardId(any(UUID.class));
+        verify(cardRepository, never()).save(any(Card.class));
+        verify(cardCache).invalidate(cardId);
+    }
+
+    @Test
+    void patchCard_NotFound() {
+        // Arrange
+        when(cardMapper.toEntity(any(CardDTO.class))).thenReturn(card);
+        when(partialUpdateTemplate.updateNonNull(eq(Card.class), eq(card), eq(Map.of("card_id", cardId))))
+                .thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(cardService.patchCard(cardId, cardDTO))
+                .verifyComplete();
+
+        verify(cardMapper, never()).toDTO(any(Card.class));
     }
 
     @Test
@@ -176,6 +280,9 @@ public class CardServiceTest {
 
         verify(cardRepository).findByCardId(cardId);
         verify(cardRepository).delete(card);
+        verify(outbox).append(CardEventTypeEnum.CARD_DELETED, cardId, cardId, null);
+        verify(activityLog).recordAfterCommit(any(CardActivity.class));
+        verify(cardCache).invalidate(cardId);
     }
 
     @Test
@@ -189,5 +296,7 @@ public class CardServiceTest {
 
         verify(cardRepository).findByCardId(cardId);
         verify(cardRepository, never()).delete(any(Card.class));
+        verify(outbox, never()).append(any(), any(), any(), any());
+        verify(activityLog, never()).recordAfterCommit(any(CardActivity.class));
     }
 }
@@ -21,6 +21,8 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.configuration.v1.CardConfigurationMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.configuration.v1.CardConfigurationDTO;
 import com.firefly.core.banking.cards.models.entities.configuration.v1.CardConfiguration;
 import com.firefly.core.banking.cards.models.repositories.configuration.v1.CardConfigurationRepository;
@@ -30,11 +32,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -52,6 +56,12 @@ public class CardConfigurationServiceTest {
     @Mock
     private CardConfigurationMapper mapper;
 
+    @Spy
+    private PaginationQueryTemplate paginationQueryTemplate = new PaginationQueryTemplate();
+
+    @Mock
+    private PartialUpdateTemplate partialUpdateTemplate;
+
     @InjectMocks
     private CardConfigurationServiceImpl service;
 
@@ -152,7 +162,7 @@ public class CardConfigurationServiceTest {
     @Test
     void getConfiguration_Success() {
         // Arrange
-        when(repository.findByCardConfigurationId(configId)).thenReturn(Mono.just(configEntity));
+        when(repository.findByCardIdAndCardConfigurationId(cardId, configId)).thenReturn(Mono.just(configEntity));
         when(mapper.toDTO(any(CardConfiguration.class))).thenReturn(configDTO);
 
         // Act & Assert
@@ -160,20 +170,20 @@ public class CardConfigurationServiceTest {
                 .expectNext(configDTO)
                 .verifyComplete();
 
-        verify(repository).findByCardConfigurationId(configId);
+        verify(repository).findByCardIdAndCardConfigurationId(cardId, configId);
         verify(mapper).toDTO(configEntity);
     }
 
     @Test
     void getConfiguration_NotFound() {
         // Arrange
-        when(repository.findByCardConfigurationId(configId)).thenReturn(Mono.empty());
+        when(repository.findByCardIdAndCardConfigurationId(cardId, configId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.getConfiguration(cardId, configId))
                 .verifyComplete();
 
-        verify(repository).findByCardConfigurationId(configId);
+        verify(repository).findByCardIdAndCardConfigurationId(cardId, configId);
         verify(mapper, never()).toDTO(any(CardConfiguration.class));
     }
 
@@ -181,21 +191,22 @@ public class CardConfigurationServiceTest {
     void getConfiguration_WrongCardId() {
         // Arrange
         UUID wrongCardId = UUID.randomUUID();
-        when(repository.findByCardConfigurationId(configId)).thenReturn(Mono.just(configEntity));
+        when(repository.findByCardIdAndCardConfigurationId(wrongCardId, configId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.getConfiguration(wrongCardId, configId))
                 .verifyComplete();
 
-        verify(repository).findByCardConfigurationId(configId);
+        verify(repository).findByCardIdAndCardConfigurationId(wrongCardId, configId);
         verify(mapper, never()).toDTO(any(CardConfiguration.class));
     }
 
     @Test
     void updateConfiguration_Success() {
         // Arrange
-        when(repository.findByCardConfigurationId(configId)).thenReturn(Mono.just(configEntity));
-        when(repository.save(any(CardConfiguration.class))).thenReturn(Mono.just(configEntity));
+        when(partialUpdateTemplate.updateNonNull(eq(CardConfiguration.class), any(CardConfiguration.class),
+                eq(Map.of("card_configuration_id", configId, "card_id", cardId))))
+                .thenReturn(Mono.just(configEntity));
         when(mapper.toDTO(any(CardConfiguration.class))).thenReturn(configDTO);
 
         // Act & Assert
@@ -203,21 +214,21 @@ public class CardConfigurationServiceTest {
                 .expectNext(configDTO)
                 .verifyComplete();
 
-        verify(repository).findByCardConfigurationId(configId);
-        verify(repository).save(configEntity);
+        verify(repository, never()).save(any(CardConfiguration.class));
         verify(mapper).toDTO(configEntity);
     }
 
     @Test
     void updateConfiguration_NotFound() {
         // Arrange
-        when(repository.findByCardConfigurationId(configId)).thenReturn(Mono.empty());
+        when(partialUpdateTemplate.updateNonNull(eq(CardConfiguration.class), any(CardConfiguration.class),
+                eq(Map.of("card_configuration_id", configId, "card_id", cardId))))
+                .thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.updateConfiguration(cardId, configId, configDTO))
                 .verifyComplete();
 
-        verify(repository).findByCardConfigurationId(configId);
         verify(repository, never()).save(any(CardConfiguration.class));
         verify(mapper, never()).toDTO(any(CardConfiguration.class));
     }
@@ -226,13 +237,14 @@ public class CardConfigurationServiceTest {
     void updateConfiguration_WrongCardId() {
         // Arrange
         UUID wrongCardId = UUID.randomUUID();
-        when(repository.findByCardConfigurationId(configId)).thenReturn(Mono.just(configEntity));
+        when(partialUpdateTemplate.updateNonNull(eq(CardConfiguration.class), any(CardConfiguration.class),
+                eq(Map.of("card_configuration_id", configId, "card_id", wrongCardId))))
+                .thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.updateConfiguration(wrongCardId, configId, configDTO))
                 .verifyComplete();
 
-        verify(repository).findByCardConfigurationId(configId);
         verify(repository, never()).save(any(CardConfiguration.class));
         verify(mapper, never()).toDTO(any(CardConfiguration.class));
     }
@@ -240,41 +252,39 @@ public class CardConfigurationServiceTest {
     @Test
     void deleteConfiguration_Success() {
         // Arrange
-        when(repository.findByCardConfigurationId(configId)).thenReturn(Mono.just(configEntity));
-        when(repository.delete(configEntity)).thenReturn(Mono.empty());
+        when(repository.deleteByCardIdAndCardConfigurationId(cardId, configId)).thenReturn(Mono.just(1));
 
         // Act & Assert
         StepVerifier.create(service.deleteConfiguration(cardId, configId))
                 .verifyComplete();
 
-        verify(repository).findByCardConfigurationId(configId);
-        verify(repository).delete(configEntity);
+        verify(repository).deleteByCardIdAndCardConfigurationId(cardId, configId);
+        verify(repository, never()).delete(any(CardConfiguration.class));
     }
 
     @Test
     void deleteConfiguration_NotFound() {
         // Arrange
-        when(repository.findByCardConfigurationId(configId)).thenReturn(Mono.empty());
+        when(repository.deleteByCardIdAndCardConfigurationId(cardId, configId)).thenReturn(Mono.just(0));
 
         // Act & Assert
         StepVerifier.create(service.deleteConfiguration(cardId, configId))
                 .verifyComplete();
 
-        verify(repository).findByCardConfigurationId(configId);
-        verify(repository, never()).delete(any(CardConfiguration.class));
+        verify(repository).deleteByCardIdAndCardConfigurationId(cardId, configId);
     }
 
     @Test
     void deleteConfiguration_WrongCardId() {
         // Arrange
         UUID wrongCardId = UUID.randomUUID();
-        when(repository.findByCardConfigurationId(configId)).thenReturn(Mono.just(configEntity));
+        when(repository.deleteByCardIdAndCardConfigurationId(wrongCardId, configId)).thenReturn(Mono.just(0));
 
         // Act & Assert
         StepVerifier.create(service.deleteConfiguration(wrongCardId, configId))
                 .verifyComplete();
 
-        verify(repository).findByCardConfigurationId(configId);
+        verify(repository).deleteByCardIdAndCardConfigurationId(wrongCardId, configId);
         verify(repository, never()).delete(any(CardConfiguration.class));
     }
 }
@@ -21,7 +21,11 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.dispute.v1.CardDisputeMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
+import com.firefly.core.banking.cards.core.services.event.v1.CardEventOutbox;
 import com.firefly.core.banking.cards.interfaces.dtos.dispute.v1.CardDisputeDTO;
+import com.firefly.core.banking.cards.interfaces.enums.event.v1.CardEventTypeEnum;
 import com.firefly.core.banking.cards.models.entities.dispute.v1.CardDispute;
 import com.firefly.core.banking.cards.models.repositories.dispute.v1.CardDisputeRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,12 +34,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -53,6 +59,15 @@ public class CardDisputeServiceTest {
     @Mock
     private CardDisputeMapper mapper;
 
+    @Spy
+    private PaginationQueryTemplate paginationQueryTemplate = new PaginationQueryTemplate();
+
+    @Mock
+    private PartialUpdateTemplate partialUpdateTemplate;
+
+    @Mock
+    private CardEventOutbox outbox;
+
     @InjectMocks
     private CardDisputeServiceImpl service;
 
@@ -84,6 +99,8 @@ public class CardDisputeServiceTest {
         disputeEntity.setDisputeAmount(new BigDecimal("125.50"));
         disputeEntity.setFilingTimestamp(now);
         disputeEntity.setDisputeStatus("PENDING");
+
+        lenient().when(outbox.append(any(), any(), any(), any())).thenReturn(Mono.empty());
     }
 
     @Test
@@ -136,7 +153,7 @@ public class CardDisputeServiceTest {
     @Test
     void getDispute_Success() {
         // Arrange
-        when(repository.findByDisputeId(disputeId)).thenReturn(Mono.just(disputeEntity));
+        when(repository.findByCardIdAndDisputeId(cardId, disputeId)).thenReturn(Mono.just(disputeEntity));
         when(mapper.toDTO(any(CardDispute.class))).thenReturn(disputeDTO);
 
         // Act & Assert
@@ -144,7 +161,7 @@ public class CardDisputeServiceTest {
                 .expectNext(disputeDTO)
                 .verifyComplete();
 
-        verify(repository).findByDisputeId(disputeId);
+        verify(repository).findByCardIdAndDisputeId(cardId, disputeId);
         verify(mapper).toDTO(disputeEntity);
     }
 
@@ -152,23 +169,23 @@ public class CardDisputeServiceTest {
     void getDispute_WrongCardId() {
         // Arrange
         UUID wrongCardId = UUID.randomUUID();
-        when(repository.findByDisputeId(disputeId)).thenReturn(Mono.just(disputeEntity));
+        when(repository.findByCardIdAndDisputeId(wrongCardId, disputeId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.getDispute(wrongCardId, disputeId))
-                .expectError(RuntimeException.class)
-                .verify();
+                .verifyComplete();
 
-        verify(repository).findByDisputeId(disputeId);
+        verify(repository).findByCardIdAndDisputeId(wrongCardId, disputeId);
         verify(mapper, never()).toDTO(any(CardDispute.class));
     }
 
     @Test
     void updateDispute_Success() {
         // Arrange
-        when(repository.findByDisputeId(disputeId)).thenReturn(Mono.just(disputeEntity));
         when(mapper.toEntity(any(CardDisputeDTO.class))).thenReturn(disputeEntity);
-        when(repository.save(any(CardDispute.class))).thenReturn(Mono.just(disputeEntity));
+        when(partialUpdateTemplate.replace(eq(CardDispute.class), eq(disputeEntity),
+                eq(Map.of("dispute_id", disputeId, "card_id", cardId))))
+                .thenReturn(Mono.just(disputeEntity));
         when(mapper.toDTO(any(CardDispute.class))).thenReturn(disputeDTO);
 
         // Act & Assert
@@ -176,9 +193,7 @@ public class CardDisputeServiceTest {
                 .expectNext(disputeDTO)
                 .verifyComplete();
 
-        verify(repository).findByDisputeId(disputeId);
-        verify(mapper).toEntity(disputeDTO);
-        verify(repository).save(disputeEntity);
+        verify(repository, never()).save(any(CardDispute.class));
         verify(mapper).toDTO(disputeEntity);
     }
 
@@ -186,14 +201,15 @@ public class CardDisputeServiceTest {
     void updateDispute_WrongCardId() {
         // Arrange
         UUID wrongCardId = UUID.randomUUID();
-        when(repository.findByDisputeId(disputeId)).thenReturn(Mono.just(disputeEntity));
+        when(mapper.toEntity(any(CardDisputeDTO.class))).thenReturn(disputeEntity);
+        when(partialUpdateTemplate.replace(eq(CardDispute.class), eq(disputeEntity),
+                eq(Map.of("dispute_id", disputeId, "card_id", wrongCardId))))
+                .thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.updateDispute(wrongCardId, disputeId, disputeDTO))
-                .expectError(RuntimeException.class)
-                .verify();
+                .verifyComplete();
 
-        verify(repository).findByDisputeId(disputeId);
         verify(repository, never()).save(any(CardDispute.class));
         verify(mapper, never()).toDTO(any(CardDispute.class));
     }
@@ -201,29 +217,29 @@ public class CardDisputeServiceTest {
     @Test
     void deleteDispute_Success() {
         // Arrange
-        when(repository.findByDisputeId(disputeId)).thenReturn(Mono.just(disputeEntity));
-        when(repository.delete(disputeEntity)).thenReturn(Mono.empty());
+        when(repository.deleteByCardIdAndDisputeId(cardId, disputeId)).thenReturn(Mono.just(1));
 
         // Act & Assert
         StepVerifier.create(service.deleteDispute(cardId, disputeId))
                 .verifyComplete();
 
-        verify(repository).findByDisputeId(disputeId);
-        verify(repository).delete(disputeEntity);
+        verify(repository).deleteByCardIdAndDisputeId(cardId, disputeId);
+        verify(repository, never()).delete(any(CardDispute.class));
+        verify(outbox).append(CardEventTypeEnum.DISPUTE_DELETED, cardId, disputeId, null);
     }
 
     @Test
     void deleteDispute_WrongCardId() {
         // Arrange
         UUID wrongCardId = UUID.randomUUID();
-        when(repository.findByDisputeId(disputeId)).thenReturn(Mono.just(disputeEntity));
+        when(repository.deleteByCardIdAndDisputeId(wrongCardId, disputeId)).thenReturn(Mono.just(0));
 
         // Act & Assert
         StepVerifier.create(service.deleteDispute(wrongCardId, disputeId))
-                .expectError(RuntimeException.class)
-                .verify();
+                .verifyComplete();
 
-        verify(repository).findByDisputeId(disputeId);
+        verify(repository).deleteByCardIdAndDisputeId(wrongCardId, disputeId);
         verify(repository, never()).delete(any(CardDispute.class));
+        verify(outbox, never()).append(any(), any(), any(), any());
     }
 }
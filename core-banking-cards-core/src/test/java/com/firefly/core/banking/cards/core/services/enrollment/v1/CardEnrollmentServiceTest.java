@@ -21,6 +21,8 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.enrollment.v1.CardEnrollmentMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.enrollment.v1.CardEnrollmentDTO;
 import com.firefly.core.banking.cards.models.entities.enrollment.v1.CardEnrollment;
 import com.firefly.core.banking.cards.models.repositories.enrollment.v1.CardEnrollmentRepository;
@@ -30,11 +32,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -52,6 +56,12 @@ public class CardEnrollmentServiceTest {
     @Mock
     private CardEnrollmentMapper mapper;
 
+    @Spy
+    private PaginationQueryTemplate paginationQueryTemplate = new PaginationQueryTemplate();
+
+    @Mock
+    private PartialUpdateTemplate partialUpdateTemplate;
+
     @InjectMocks
     private CardEnrollmentServiceImpl service;
 
@@ -130,7 +140,7 @@ public class CardEnrollmentServiceTest {
     @Test
     void getEnrollment_Success() {
         // Arrange
-        when(repository.findByEnrollmentId(enrollmentId)).thenReturn(Mono.just(enrollmentEntity));
+        when(repository.findByCardIdAndEnrollmentId(cardId, enrollmentId)).thenReturn(Mono.just(enrollmentEntity));
         when(mapper.toDTO(any(CardEnrollment.class))).thenReturn(enrollmentDTO);
 
         // Act & Assert
@@ -138,7 +148,7 @@ public class CardEnrollmentServiceTest {
                 .expectNext(enrollmentDTO)
                 .verifyComplete();
 
-        verify(repository).findByEnrollmentId(enrollmentId);
+        verify(repository).findByCardIdAndEnrollmentId(cardId, enrollmentId);
         verify(mapper).toDTO(enrollmentEntity);
     }
 
@@ -146,23 +156,23 @@ public class CardEnrollmentServiceTest {
     void getEnrollment_WrongCardId() {
         // Arrange
         UUID wrongCardId = UUID.randomUUID();
-        when(repository.findByEnrollmentId(enrollmentId)).thenReturn(Mono.just(enrollmentEntity));
+        when(repository.findByCardIdAndEnrollmentId(wrongCardId, enrollmentId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.getEnrollment(wrongCardId, enrollmentId))
-                .expectError(RuntimeException.class)
-                .verify();
+                .verifyComplete();
 
-        verify(repository).findByEnrollmentId(enrollmentId);
+        verify(repository).findByCardIdAndEnrollmentId(wrongCardId, enrollmentId);
         verify(mapper, never()).toDTO(any(CardEnrollment.class));
     }
 
     @Test
     void updateEnrollment_Success() {
         // Arrange
-        when(repository.findByEnrollmentId(enrollmentId)).thenReturn(Mono.just(enrollmentEntity));
         when(mapper.toEntity(any(CardEnrollmentDTO.class))).thenReturn(enrollmentEntity);
-        when(repository.save(any(CardEnrollment.class))).thenReturn(Mono.just(enrollmentEntity));
+        when(partialUpdateTemplate.replace(eq(CardEnrollment.class), eq(enrollmentEntity),
+                eq(Map.of("enrollment_id", enrollmentId, "card_id", cardId))))
+                .thenReturn(Mono.just(enrollmentEntity));
         when(mapper.toDTO(any(CardEnrollment.class))).thenReturn(enrollmentDTO);
 
         // Act & Assert
@@ -170,9 +180,7 @@ public class CardEnrollmentServiceTest {
                 .expectNext(enrollmentDTO)
                 .verifyComplete();
 
-        verify(repository).findByEnrollmentId(enrollmentId);
-        verify(mapper).toEntity(enrollmentDTO);
-        verify(repository).save(enrollmentEntity);
+        verify(repository, never()).save(any(CardEnrollment.class));
         verify(mapper).toDTO(enrollmentEntity);
     }
 
@@ -180,14 +188,15 @@ public class CardEnrollmentServiceTest {
     void updateEnrollment_WrongCardId() {
         // Arrange
         UUID wrongCardId = UUID.randomUUID();
-        when(repository.findByEnrollmentId(enrollmentId)).thenReturn(Mono.just(enrollmentEntity));
+        when(mapper.toEntity(any(CardEnrollmentDTO.class))).thenReturn(enrollmentEntity);
+        when(partialUpdateTemplate.replace(eq(CardEnrollment.class), eq(enrollmentEntity),
+                eq(Map.of("enrollment_id", enrollmentId, "card_id", wrongCardId))))
+                .thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.updateEnrollment(wrongCardId, enrollmentId, enrollmentDTO))
-                .expectError(RuntimeException.class)
-                .verify();
+                .verifyComplete();
 
-        verify(repository).findByEnrollmentId(enrollmentId);
         verify(repository, never()).save(any(CardEnrollment.class));
         verify(mapper, never()).toDTO(any(CardEnrollment.class));
     }
@@ -195,29 +204,27 @@ public class CardEnrollmentServiceTest {
     @Test
     void deleteEnrollment_Success() {
         // Arrange
-        when(repository.findByEnrollmentId(enrollmentId)).thenReturn(Mono.just(enrollmentEntity));
-        when(repository.delete(enrollmentEntity)).thenReturn(Mono.empty());
+        when(repository.deleteByCardIdAndEnrollmentId(cardId, enrollmentId)).thenReturn(Mono.just(1));
 
         // Act & Assert
         StepVerifier.create(service.deleteEnrollment(cardId, enrollmentId))
                 .verifyComplete();
 
-        verify(repository).findByEnrollmentId(enrollmentId);
-        verify(repository).delete(enrollmentEntity);
+        verify(repository).deleteByCardIdAndEnrollmentId(cardId, enrollmentId);
+        verify(repository, never()).delete(any(CardEnrollment.class));
     }
 
     @Test
     void deleteEnrollment_WrongCardId() {
         // Arrange
         UUID wrongCardId = UUID.randomUUID();
-        when(repository.findByEnrollmentId(enrollmentId)).thenReturn(Mono.just(enrollmentEntity));
+        when(repository.deleteByCardIdAndEnrollmentId(wrongCardId, enrollmentId)).thenReturn(Mono.just(0));
 
         // Act & Assert
         StepVerifier.create(service.deleteEnrollment(wrongCardId, enrollmentId))
-                .expectError(RuntimeException.class)
-                .verify();
+                .verifyComplete();
 
-        verify(repository).findByEnrollmentId(enrollmentId);
+        verify(repository).deleteByCardIdAndEnrollmentId(wrongCardId, enrollmentId);
         verify(repository, never()).delete(any(CardEnrollment.class));
     }
 }
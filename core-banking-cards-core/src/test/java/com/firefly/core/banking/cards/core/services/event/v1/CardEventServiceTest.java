@@ -0,0 +1,160 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.event.v1;
+
+import com.firefly.core.banking.cards.core.config.OutboxProperties;
+import com.firefly.core.banking.cards.core.mappers.event.v1.CardEventMapper;
+import com.firefly.core.banking.cards.interfaces.dtos.event.v1.CardEventDTO;
+import com.firefly.core.banking.cards.models.entities.event.v1.CardOutboxEvent;
+import com.firefly.core.banking.cards.models.repositories.event.v1.CardOutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CardEventServiceTest {
+
+    @Mock
+    private CardOutboxEventRepository repository;
+
+    @Mock
+    private CardEventMapper mapper;
+
+    @Spy
+    private LocalCardEventSink localSink = new LocalCardEventSink();
+
+    @Spy
+    private OutboxProperties properties = new OutboxProperties();
+
+    @InjectMocks
+    private CardEventServiceImpl service;
+
+    private final UUID cardId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(mapper.toDTO(any(CardOutboxEvent.class))).thenAnswer(invocation -> {
+            CardOutboxEvent event = invocation.getArgument(0);
+            return dto(event.getEventId(), event.getCardId(), event.getPublishSequence());
+        });
+    }
+
+    @Test
+    void streamEvents_WithoutLastEventId_StreamsLiveEventsOfTheCard() {
+        // Arrange
+        CardEventDTO mine = dto(UUID.randomUUID(), cardId, 1L);
+        CardEventDTO other = dto(UUID.randomUUID(), UUID.randomUUID(), 2L);
+
+        // Act & Assert
+        StepVerifier.create(service.streamEvents(cardId, null))
+                .then(() -> localSink.publish(List.of(mine, other)).block())
+                .expectNext(mine)
+                .thenCancel()
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void streamEvents_WithLastEventId_ReplaysMissedEventsThenGoesLive() {
+        // Arrange
+        CardOutboxEvent missed = entity(5L);
+        when(repository.findByCardIdAndPublishSequenceGreaterThanOrderByPublishSequence(eq(cardId), eq(4L), any(Pageable.class)))
+                .thenReturn(Flux.just(missed));
+        CardEventDTO replayedAgain = dto(missed.getEventId(), cardId, 5L);
+        CardEventDTO next = dto(UUID.randomUUID(), cardId, 6L);
+
+        // Act & Assert
+        StepVerifier.create(service.streamEvents(cardId, 4L))
+                .expectNextMatches(event -> event.getPublishSequence() == 5L)
+                .then(() -> localSink.publish(List.of(replayedAgain, next)).block())
+                .expectNext(next)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void streamEvents_ReplayLongerThanOnePage_ReadsEveryPage() {
+        // Arrange
+        properties.setStreamCatchUpPageSize(2);
+        when(repository.findByCardIdAndPublishSequenceGreaterThanOrderByPublishSequence(eq(cardId), eq(0L), any(Pageable.class)))
+                .thenReturn(Flux.just(entity(1L), entity(2L)));
+        when(repository.findByCardIdAndPublishSequenceGreaterThanOrderByPublishSequence(eq(cardId), eq(2L), any(Pageable.class)))
+                .thenReturn(Flux.just(entity(3L)));
+
+        // Act & Assert
+        StepVerifier.create(service.streamEvents(cardId, 0L))
+                .expectNextMatches(event -> event.getPublishSequence() == 1L)
+                .expectNextMatches(event -> event.getPublishSequence() == 2L)
+                .expectNextMatches(event -> event.getPublishSequence() == 3L)
+                .thenCancel()
+                .verify();
+
+        verify(repository, times(2))
+                .findByCardIdAndPublishSequenceGreaterThanOrderByPublishSequence(eq(cardId), any(Long.class), any(Pageable.class));
+    }
+
+    @Test
+    void streamEvents_ClientFallsBehind_StreamFails() {
+        // Arrange
+        properties.setStreamBufferSize(1);
+        List<CardEventDTO> burst = List.of(
+                dto(UUID.randomUUID(), cardId, 1L),
+                dto(UUID.randomUUID(), cardId, 2L),
+                dto(UUID.randomUUID(), cardId, 3L));
+
+        // Act & Assert
+        StepVerifier.create(service.streamEvents(cardId, null), 0)
+                .then(() -> localSink.publish(burst).block())
+                .thenRequest(Long.MAX_VALUE)
+                .thenConsumeWhile(event -> true)
+                .expectError(IllegalStateException.class)
+                .verify();
+    }
+
+    private CardOutboxEvent entity(long publishSequence) {
+        CardOutboxEvent event = new CardOutboxEvent();
+        event.setEventId(UUID.randomUUID());
+        event.setCardId(cardId);
+        event.setPublishSequence(publishSequence);
+        return event;
+    }
+
+    private static CardEventDTO dto(UUID eventId, UUID cardId, long publishSequence) {
+        return CardEventDTO.builder()
+                .eventId(eventId)
+                .cardId(cardId)
+                .publishSequence(publishSequence)
+                .build();
+    }
+}
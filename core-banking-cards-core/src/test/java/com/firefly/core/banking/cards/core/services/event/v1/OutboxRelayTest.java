@@ -0,0 +1,203 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.event.v1;
+
+import com.firefly.core.banking.cards.core.config.OutboxProperties;
+import com.firefly.core.banking.cards.core.mappers.event.v1.CardEventMapper;
+import com.firefly.core.banking.cards.interfaces.dtos.event.v1.CardEventDTO;
+import com.firefly.core.banking.cards.models.entities.event.v1.CardOutboxEvent;
+import com.firefly.core.banking.cards.models.repositories.event.v1.CardOutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxRelayTest {
+
+    @Mock
+    private CardOutboxEventRepository repository;
+
+    @Mock
+    private CardEventMapper mapper;
+
+    @Mock
+    private CardEventSink sink;
+
+    @Spy
+    private List<CardEventSink> sinks = new ArrayList<>();
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Spy
+    private OutboxProperties properties = new OutboxProperties();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private OutboxRelay relay;
+
+    private final Map<UUID, CardOutboxEvent> claimed = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        sinks.add(sink);
+        relay.registerMeters();
+        lenient().when(mapper.toDTO(any(CardOutboxEvent.class))).thenAnswer(invocation -> {
+            CardOutboxEvent event = invocation.getArgument(0);
+            return CardEventDTO.builder()
+                    .eventId(event.getEventId())
+                    .sequenceNumber(event.getSequenceNumber())
+                    .publishSequence(event.getPublishSequence())
+                    .build();
+        });
+        lenient().when(transactionalOperator.transactional(any(Mono.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(sink.publish(anyList())).thenReturn(Mono.empty());
+        lenient().when(repository.markPublished(any(UUID[].class), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> Flux.fromArray(invocation.<UUID[]>getArgument(0))
+                        .map(claimed::get)
+                        .doOnNext(event -> event.setPublishSequence(100 + event.getSequenceNumber()))
+                        .sort(Comparator.comparing(CardOutboxEvent::getSequenceNumber).reversed()));
+        lenient().when(repository.countUnpublished()).thenReturn(Mono.just(0L));
+    }
+
+    @Test
+    void relayOnce_PublishesBatchAndMarksItPublished() {
+        // Arrange
+        CardOutboxEvent first = event(1L);
+        CardOutboxEvent second = event(2L);
+        when(repository.claimUnpublished(properties.getBatchSize())).thenReturn(Flux.just(first, second));
+
+        // Act & Assert
+        StepVerifier.create(relay.relayOnce())
+                .expectNext(2L)
+                .verifyComplete();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CardEventDTO>> published = ArgumentCaptor.forClass(List.class);
+        verify(sink).publish(published.capture());
+        assertEquals(List.of(1L, 2L), published.getValue().stream().map(CardEventDTO::getSequenceNumber).toList());
+        assertEquals(List.of(101L, 102L), published.getValue().stream().map(CardEventDTO::getPublishSequence).toList());
+        ArgumentCaptor<UUID[]> marked = ArgumentCaptor.forClass(UUID[].class);
+        verify(repository).markPublished(marked.capture(), any(LocalDateTime.class));
+        assertArrayEquals(new UUID[]{first.getEventId(), second.getEventId()}, marked.getValue());
+        assertEquals(2.0, meterRegistry.get("cards.outbox.relay.published").counter().count());
+    }
+
+    @Test
+    void relayOnce_FullBatch_DrainsTheNextOne() {
+        // Arrange
+        properties.setBatchSize(2);
+        when(repository.claimUnpublished(2))
+                .thenReturn(Flux.just(event(1L), event(2L)))
+                .thenReturn(Flux.just(event(3L)));
+        when(repository.countUnpublished()).thenReturn(Mono.just(7L));
+
+        // Act & Assert
+        StepVerifier.create(relay.relayOnce())
+                .expectNext(3L)
+                .verifyComplete();
+
+        verify(sink, times(2)).publish(anyList());
+        assertEquals(7.0, meterRegistry.get("cards.outbox.pending").gauge().value());
+    }
+
+    @Test
+    void relayOnce_NothingPending_PublishesNothing() {
+        // Arrange
+        when(repository.claimUnpublished(properties.getBatchSize())).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(relay.relayOnce())
+                .expectNext(0L)
+                .verifyComplete();
+
+        verifyNoInteractions(sink);
+        verify(repository, never()).markPublished(any(UUID[].class), any(LocalDateTime.class));
+    }
+
+    @Test
+    void relayOnce_SinkFails_FailsTheTransactionThatMarkedTheBatch() {
+        // Arrange
+        when(repository.claimUnpublished(properties.getBatchSize())).thenReturn(Flux.just(event(1L)));
+        when(sink.publish(anyList())).thenReturn(Mono.error(new IllegalStateException("broker unavailable")));
+
+        // Act & Assert
+        StepVerifier.create(relay.relayOnce())
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(repository).markPublished(any(UUID[].class), any(LocalDateTime.class));
+        verify(transactionalOperator).transactional(any(Mono.class));
+        assertEquals(1.0, meterRegistry.get("cards.outbox.relay.failures").counter().count());
+    }
+
+    @Test
+    void cleanup_DeletesEventsPublishedBeforeRetention() {
+        // Arrange
+        properties.setRetention(Duration.ofDays(2));
+        LocalDateTime now = LocalDateTime.of(2025, 6, 10, 12, 0);
+        when(repository.deletePublishedBefore(now.minusDays(2))).thenReturn(Mono.just(4));
+
+        // Act & Assert
+        StepVerifier.create(relay.cleanup(now))
+                .expectNext(4)
+                .verifyComplete();
+
+        verify(repository).deletePublishedBefore(eq(now.minusDays(2)));
+    }
+
+    private CardOutboxEvent event(long sequenceNumber) {
+        CardOutboxEvent event = new CardOutboxEvent();
+        event.setEventId(UUID.randomUUID());
+        event.setSequenceNumber(sequenceNumber);
+        event.setCardId(UUID.randomUUID());
+        event.setEventType("CARD_UPDATED");
+        claimed.put(event.getEventId(), event);
+        return event;
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.fraud.v1;
+
+import com.firefly.core.banking.cards.core.mappers.fraud.v1.FraudCaseMapper;
+import com.firefly.core.banking.cards.core.pagination.FraudQueueCursor;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
+import com.firefly.core.banking.cards.interfaces.dtos.fraud.v1.FraudCaseDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.fraud.v1.FraudCaseQueueSummaryDTO;
+import com.firefly.core.banking.cards.models.entities.fraud.v1.FraudCase;
+import com.firefly.core.banking.cards.models.entities.fraud.v1.FraudCaseQueueSummary;
+import com.firefly.core.banking.cards.models.repositories.fraud.v1.FraudCaseQueueSummaryRepository;
+import com.firefly.core.banking.cards.models.repositories.fraud.v1.FraudCaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class FraudCaseServiceTest {
+
+    @Mock
+    private FraudCaseRepository repository;
+
+    @Mock
+    private FraudCaseQueueSummaryRepository summaryRepository;
+
+    @Mock
+    private FraudCaseMapper mapper;
+
+    @Mock
+    private PartialUpdateTemplate partialUpdateTemplate;
+
+    @InjectMocks
+    private FraudCaseServiceImpl service;
+
+    private FraudCaseDTO fraudCaseDTO;
+    private FraudCase fraudCaseEntity;
+    private final UUID fraudCaseId = UUID.randomUUID();
+    private final UUID agentId = UUID.randomUUID();
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        fraudCaseDTO = FraudCaseDTO.builder()
+                .fraudCaseId(fraudCaseId)
+                .cardId(UUID.randomUUID())
+                .fraudStatus("OPEN")
+                .fraudScore(80)
+                .detectionTimestamp(now)
+                .build();
+
+        fraudCaseEntity = fraudCase(fraudCaseId, 80, now);
+
+        lenient().when(mapper.toDTO(any(FraudCase.class))).thenReturn(fraudCaseDTO);
+    }
+
+    @Test
+    void createCase_DefaultsQueueKeys() {
+        // Arrange
+        FraudCase incoming = new FraudCase();
+        incoming.setFraudCaseId(UUID.randomUUID());
+        when(mapper.toEntity(any(FraudCaseDTO.class))).thenReturn(incoming);
+        when(repository.save(any(FraudCase.class))).thenReturn(Mono.just(fraudCaseEntity));
+
+        // Act & Assert
+        StepVerifier.create(service.createCase(new FraudCaseDTO()))
+                .expectNext(fraudCaseDTO)
+                .verifyComplete();
+
+        ArgumentCaptor<FraudCase> saved = ArgumentCaptor.forClass(FraudCase.class);
+        verify(repository).save(saved.capture());
+        assertNull(saved.getValue().getFraudCaseId());
+        assertEquals("OPEN", saved.getValue().getFraudStatus());
+        assertEquals(0, saved.getValue().getFraudScore());
+        assertNotNull(saved.getValue().getDetectionTimestamp());
+    }
+
+    @Test
+    void getCase_NotFound() {
+        // Arrange
+        when(repository.findByFraudCaseId(fraudCaseId)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.getCase(fraudCaseId))
+                .verifyComplete();
+    }
+
+    @Test
+    void updateCase_Success() {
+        // Arrange
+        when(mapper.toEntity(fraudCaseDTO)).thenReturn(fraudCaseEntity);
+        when(partialUpdateTemplate.replace(FraudCase.class, fraudCaseEntity, Map.of("fraud_case_id", fraudCaseId)))
+                .thenReturn(Mono.just(fraudCaseEntity));
+
+        // Act & Assert
+        StepVerifier.create(service.updateCase(fraudCaseId, fraudCaseDTO))
+                .expectNext(fraudCaseDTO)
+                .verifyComplete();
+    }
+
+    @Test
+    void updateCase_MissingQueueKeys_Rejected() {
+        // Arrange
+        fraudCaseDTO.setFraudScore(null);
+
+        // Act & Assert
+        StepVerifier.create(service.updateCase(fraudCaseId, fraudCaseDTO))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verifyNoInteractions(partialUpdateTemplate);
+    }
+
+    @Test
+    void patchCase_AssignsAgent() {
+        // Arrange
+        FraudCaseDTO changes = FraudCaseDTO.builder().assignedAgentId(agentId).build();
+        FraudCase changesEntity = new FraudCase();
+        changesEntity.setAssignedAgentId(agentId);
+        when(mapper.toEntity(changes)).thenReturn(changesEntity);
+        when(partialUpdateTemplate.updateNonNull(FraudCase.class, changesEntity, Map.of("fraud_case_id", fraudCaseId)))
+                .thenReturn(Mono.just(fraudCaseEntity));
+
+        // Act & Assert
+        StepVerifier.create(service.patchCase(fraudCaseId, changes))
+                .expectNext(fraudCaseDTO)
+                .verifyComplete();
+    }
+
+    @Test
+    void deleteCase_Success() {
+        // Arrange
+        when(repository.deleteByFraudCaseId(fraudCaseId)).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(service.deleteCase(fraudCaseId))
+                .verifyComplete();
+        verify(repository).deleteByFraudCaseId(fraudCaseId);
+    }
+
+    @Test
+    void scrollStatusQueue_FirstPage_HasNext() {
+        // Arrange
+        FraudCase lower = fraudCase(UUID.randomUUID(), 40, now.minusHours(1));
+        when(repository.findFirstStatusQueuePage("OPEN", 2)).thenReturn(Flux.just(fraudCaseEntity, lower));
+
+        // Act & Assert
+        StepVerifier.create(service.scrollStatusQueue("OPEN", null, 1))
+                .assertNext(page -> {
+                    assertEquals(1, page.getContent().size());
+                    assertTrue(page.isHasNext());
+                    FraudQueueCursor next = FraudQueueCursor.decode(page.getNextCursor());
+                    assertEquals(80, next.getScore());
+                    assertEquals(now, next.getTimestamp());
+                    assertEquals(fraudCaseId, next.getId());
+                })
+                .verifyComplete();
+
+        verify(mapper, never()).toDTO(lower);
+    }
+
+    @Test
+    void scrollStatusQueue_WithCursor_LastPage() {
+        // Arrange
+        UUID lastId = UUID.randomUUID();
+        String cursor = new FraudQueueCursor(90, now.minusMinutes(5), lastId).encode();
+        when(repository.findStatusQueuePageAfter("OPEN", 90, now.minusMinutes(5), lastId, 21))
+                .thenReturn(Flux.just(fraudCaseEntity));
+
+        // Act & Assert
+        StepVerifier.create(service.scrollStatusQueue("OPEN", cursor, 20))
+                .assertNext(page -> {
+                    assertEquals(1, page.getContent().size());
+                    assertFalse(page.isHasNext());
+                    assertNull(page.getNextCursor());
+                })
+                .verifyComplete();
+
+        verify(repository, never()).findFirstStatusQueuePage(anyString(), anyInt());
+    }
+
+    @Test
+    void scrollAgentQueue_InvalidCursorOrSize_Rejected() {
+        // Act & Assert
+        StepVerifier.create(service.scrollAgentQueue(agentId, "OPEN", "not a cursor", 20))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        StepVerifier.create(service.scrollAgentQueue(agentId, "OPEN", null, FraudCaseServiceImpl.MAX_QUEUE_PAGE_SIZE + 1))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getQueueSummary_ReadsSummaryOnly() {
+        // Arrange
+        FraudCaseQueueSummary summary = new FraudCaseQueueSummary();
+        summary.setFraudStatus("OPEN");
+        summary.setAssignedAgentId(agentId);
+        summary.setCaseCount(4L);
+        FraudCaseQueueSummaryDTO summaryDTO = FraudCaseQueueSummaryDTO.builder()
+                .fraudStatus("OPEN")
+                .assignedAgentId(agentId)
+                .caseCount(4)
+                .build();
+        when(summaryRepository.findNonEmptyByAgent(agentId)).thenReturn(Flux.just(summary));
+        when(mapper.toDTO(summary)).thenReturn(summaryDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.getQueueSummary(agentId))
+                .expectNext(summaryDTO)
+                .verifyComplete();
+
+        verify(summaryRepository, never()).findNonEmpty();
+        verifyNoInteractions(repository);
+    }
+
+    private static FraudCase fraudCase(UUID id, int score, LocalDateTime detectedAt) {
+        FraudCase fraudCase = new FraudCase();
+        fraudCase.setFraudCaseId(id);
+        fraudCase.setFraudStatus("OPEN");
+        fraudCase.setFraudScore(score);
+        fraudCase.setDetectionTimestamp(detectedAt);
+        return fraudCase;
+    }
+}
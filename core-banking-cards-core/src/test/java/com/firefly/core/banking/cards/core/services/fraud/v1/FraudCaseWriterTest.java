@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.fraud.v1;
+
+import com.firefly.core.banking.cards.core.config.FraudScoringProperties;
+import com.firefly.core.banking.cards.core.persistence.BatchInsertTemplate;
+import com.firefly.core.banking.cards.models.entities.fraud.v1.FraudCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class FraudCaseWriterTest {
+
+    @Mock
+    private BatchInsertTemplate batchInsertTemplate;
+
+    @Spy
+    private FraudScoringProperties properties = new FraudScoringProperties();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private FraudCaseWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        properties.setCaseQueueCapacity(2);
+        properties.setCaseBatchSize(2);
+        properties.setCaseFlushInterval(Duration.ofMillis(50));
+    }
+
+    @Test
+    void open_OutsideTransaction_WritesCasesInBatches() throws Exception {
+        // Arrange
+        when(batchInsertTemplate.insertAll(eq(FraudCase.class), anyList()))
+                .thenAnswer(invocation -> Mono.just((long) invocation.<List<?>>getArgument(1).size()));
+        properties.setCaseQueueCapacity(16);
+        writer.start();
+
+        // Act
+        StepVerifier.create(writer.open(fraudCase())).verifyComplete();
+        StepVerifier.create(writer.open(fraudCase())).verifyComplete();
+        StepVerifier.create(writer.open(fraudCase())).verifyComplete();
+        writer.stop();
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FraudCase>> batches = ArgumentCaptor.forClass(List.class);
+        verify(batchInsertTemplate, atLeast(2)).insertAll(eq(FraudCase.class), batches.capture());
+        assertEquals(3, batches.getAllValues().stream().mapToInt(List::size).sum());
+        assertEquals(3.0, meterRegistry.get("cards.fraud.cases.written").counter().count());
+    }
+
+    @Test
+    void open_QueueFull_DropsCase() {
+        // Arrange
+        writer.init();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(writer.open(fraudCase())).verifyComplete();
+        }
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("cards.fraud.cases.dropped").counter().count());
+        verifyNoInteractions(batchInsertTemplate);
+    }
+
+    @Test
+    void open_BatchKeepsFailing_DropsBatch() throws Exception {
+        // Arrange
+        when(batchInsertTemplate.insertAll(eq(FraudCase.class), anyList()))
+                .thenReturn(Mono.error(new IllegalStateException("database unavailable")));
+        writer.start();
+
+        // Act
+        StepVerifier.create(writer.open(fraudCase())).verifyComplete();
+        writer.stop();
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("cards.fraud.cases.dropped").counter().count());
+        assertEquals(0.0, meterRegistry.get("cards.fraud.cases.written").counter().count());
+    }
+
+    private static FraudCase fraudCase() {
+        FraudCase fraudCase = new FraudCase();
+        fraudCase.setFraudCaseId(UUID.randomUUID());
+        fraudCase.setCardId(UUID.randomUUID());
+        fraudCase.setFraudStatus("OPEN");
+        return fraudCase;
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.fraud.v1;
+
+import com.firefly.core.banking.cards.core.config.FraudScoringProperties;
+import com.firefly.core.banking.cards.core.mappers.transaction.v1.CardTransactionMapper;
+import com.firefly.core.banking.cards.core.services.fraud.v1.VelocityCounter.Window;
+import com.firefly.core.banking.cards.interfaces.dtos.transaction.v1.CardTransactionDTO;
+import com.firefly.core.banking.cards.models.entities.fraud.v1.FraudCase;
+import com.firefly.core.banking.cards.models.entities.transaction.v1.CardTransaction;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class FraudScoringEngineTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @Mock
+    private FraudCaseWriter fraudCaseWriter;
+
+    @Spy
+    private FraudScoringProperties properties = new FraudScoringProperties();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private FraudScoringEngine engine;
+
+    private UUID cardId;
+
+    @BeforeEach
+    void setUp() {
+        engine.init();
+        cardId = UUID.randomUUID();
+        lenient().when(fraudCaseWriter.open(any(FraudCase.class))).thenReturn(Mono.empty());
+    }
+
+    @Test
+    void score_FirstTransaction_IsNotSuspected() {
+        // Arrange
+        CardTransaction transaction = transaction(NOW, "ES", "5411");
+
+        // Act
+        FraudScoringEngine.Assessment assessment = engine.score(transaction);
+
+        // Assert
+        assertEquals(0, assessment.getScore());
+        assertEquals(0, transaction.getFraudScore());
+        assertFalse(transaction.getIsFraudSuspected());
+        assertNull(transaction.getFraudReason());
+    }
+
+    @Test
+    void score_BurstOnCard_FlagsVelocity() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            save(transaction(NOW.plusSeconds(i), "ES", "5411"));
+        }
+        CardTransaction fourth = transaction(NOW.plusSeconds(3), "ES", "5411");
+
+        // Act
+        engine.score(fourth);
+
+        // Assert
+        assertEquals(30, fourth.getFraudScore());
+        assertEquals(FraudScoringEngine.CARD_VELOCITY_1M, fourth.getFraudReason());
+        assertFalse(fourth.getIsFraudSuspected());
+    }
+
+    @Test
+    void score_ManyCountriesInBurst_IsSuspectedAndOpensCase() {
+        // Arrange
+        save(transaction(NOW, "ES", "5411"));
+        save(transaction(NOW.plusSeconds(1), "FR", "5411"));
+        save(transaction(NOW.plusSeconds(2), "DE", "5411"));
+        CardTransaction fourth = transaction(NOW.plusSeconds(3), "IT", "5411");
+
+        // Act
+        engine.score(fourth);
+
+        // Assert
+        assertEquals(55, fourth.getFraudScore());
+        assertTrue(fourth.getIsFraudSuspected());
+        assertEquals("CARD_VELOCITY_1M,MULTIPLE_COUNTRIES", fourth.getFraudReason());
+        StepVerifier.create(engine.openCaseIfSuspected(fourth)).verifyComplete();
+        verifyNoInteractions(fraudCaseWriter);
+
+        properties.setCaseThreshold(50);
+        StepVerifier.create(engine.openCasesIfSuspected(List.of(fourth))).verifyComplete();
+        ArgumentCaptor<FraudCase> fraudCase = ArgumentCaptor.forClass(FraudCase.class);
+        verify(fraudCaseWriter).open(fraudCase.capture());
+        assertEquals(cardId, fraudCase.getValue().getCardId());
+        assertEquals(fourth.getCardTransactionId(), fraudCase.getValue().getTransactionId());
+        assertEquals(FraudScoringEngine.CARD_VELOCITY_1M, fraudCase.getValue().getFraudReasonCode());
+        assertEquals("HIGH", fraudCase.getValue().getRiskLevel());
+        assertEquals("OPEN", fraudCase.getValue().getFraudStatus());
+        assertEquals(1.0, meterRegistry.get("cards.fraud.scoring.flagged").counter().count());
+    }
+
+    @Test
+    void score_NewCategoryAfterHistory_FlagsNovelty() {
+        // Arrange
+        properties.setMccNoveltyMinHistory(2);
+        save(transaction(NOW.minusHours(3), "ES", "5411"));
+        save(transaction(NOW.minusHours(2), "ES", "5411"));
+        CardTransaction known = transaction(NOW.minusHours(1), "ES", "5411");
+        CardTransaction novel = transaction(NOW, "ES", "7995");
+
+        // Act
+        save(known);
+        engine.score(novel);
+
+        // Assert
+        assertNull(known.getFraudReason());
+        assertEquals(FraudScoringEngine.NEW_MCC, novel.getFraudReason());
+        assertEquals(15, novel.getFraudScore());
+    }
+
+    @Test
+    void score_DailyAmountExceeded_FlagsAmount() {
+        // Arrange
+        properties.setCardMaxDailyAmount(new BigDecimal("100"));
+        CardTransaction first = transaction(NOW.minusHours(5), "ES", "5411");
+        first.setBillingAmount(new BigDecimal("60.00"));
+        CardTransaction second = transaction(NOW, "ES", "5411");
+        second.setBillingAmount(new BigDecimal("40.01"));
+
+        // Act
+        save(first);
+        engine.score(second);
+
+        // Assert
+        assertNull(first.getFraudReason());
+        assertEquals(FraudScoringEngine.CARD_AMOUNT_24H, second.getFraudReason());
+    }
+
+    @Test
+    void score_Disabled_LeavesTransactionUntouched() {
+        // Arrange
+        properties.setEnabled(false);
+        CardTransaction transaction = transaction(NOW, "ES", "5411");
+
+        // Act & Assert
+        assertNull(engine.score(transaction));
+        assertNull(transaction.getFraudScore());
+        assertNull(transaction.getIsFraudSuspected());
+    }
+
+    @Test
+    void score_UnsavedTransactions_LeaveAggregatesUnchanged() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            engine.score(transaction(NOW.plusSeconds(i), "ES", "5411"));
+        }
+        CardTransaction next = transaction(NOW.plusSeconds(5), "FR", "5411");
+
+        // Act
+        engine.score(next);
+
+        // Assert
+        assertEquals(0, next.getFraudScore());
+        assertNull(next.getFraudReason());
+    }
+
+    @Test
+    void onSaved_MappedTransactions_CountDeviceAndMerchant() {
+        // Arrange
+        properties.setDeviceMaxPerHour(2);
+        properties.setMerchantMaxPerMinute(2);
+        CardTransactionMapper mapper = Mappers.getMapper(CardTransactionMapper.class);
+        List<CardTransaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            CardTransactionDTO dto = new CardTransactionDTO();
+            dto.setCardId(cardId);
+            dto.setTransactionAmount(new BigDecimal("10.00"));
+            dto.setTransactionCurrency("EUR");
+            dto.setCardTransactionTimestamp(NOW.plusSeconds(i));
+            dto.setCardMerchantCategoryCode("5411");
+            dto.setMerchantId("MERCH-1");
+            dto.setMerchantCountry("ES");
+            dto.setDeviceId("device-1");
+            transactions.add(mapper.toEntity(dto));
+        }
+
+        // Act
+        save(transactions.get(0));
+        save(transactions.get(1));
+        engine.score(transactions.get(2));
+
+        // Assert
+        assertEquals(30, transactions.get(2).getFraudScore());
+        assertEquals("DEVICE_VELOCITY_1H,MERCHANT_VELOCITY_1M", transactions.get(2).getFraudReason());
+    }
+
+    @Test
+    void sweep_IdleCards_AreEvicted() {
+        // Arrange
+        save(transaction(NOW, "ES", "5411"));
+        long now = NOW.toEpochSecond(ZoneOffset.UTC);
+
+        // Act & Assert
+        assertEquals(0, engine.sweep(now + 3600));
+        assertEquals(1, engine.sweep(now + properties.getIdleTimeout().toSeconds() + 1));
+        assertEquals(0.0, meterRegistry.get("cards.fraud.scoring.tracked").tag("dimension", "card").gauge().value());
+    }
+
+    @Test
+    void velocityCounter_WindowsExpireOldBuckets() {
+        // Arrange
+        VelocityCounter counter = new VelocityCounter();
+        long start = NOW.toEpochSecond(ZoneOffset.UTC);
+
+        // Act
+        counter.record(start, 100);
+        counter.record(start + 30, 250);
+        counter.record(start + 120, 50);
+
+        // Assert
+        assertEquals(1, counter.count(Window.MINUTE, start + 120));
+        assertEquals(3, counter.count(Window.HOUR, start + 120));
+        assertEquals(400, counter.amount(Window.DAY, start + 120));
+        assertEquals(0, counter.count(Window.HOUR, start + 7200));
+        assertEquals(3, counter.count(Window.DAY, start + 7200));
+    }
+
+    @Test
+    void stripedLongMap_BeyondCapacity_DoesNotStore() {
+        // Arrange
+        StripedLongMap<VelocityCounter> map = new StripedLongMap<>(64);
+
+        // Act
+        for (long key = 0; key < 10_000; key++) {
+            map.compute(key, VelocityCounter::new, counter -> {
+                counter.record(0, 1);
+                return null;
+            });
+        }
+
+        // Assert
+        assertTrue(map.size() <= 64);
+        assertEquals(map.size(), map.removeIf(counter -> true));
+        assertEquals(0, map.size());
+    }
+
+    private void save(CardTransaction transaction) {
+        engine.score(transaction);
+        StepVerifier.create(engine.onSaved(transaction)).verifyComplete();
+    }
+
+    private CardTransaction transaction(LocalDateTime timestamp, String country, String categoryCode) {
+        CardTransaction transaction = new CardTransaction();
+        transaction.setCardTransactionId(UUID.randomUUID());
+        transaction.setCardId(cardId);
+        transaction.setTransactionTimestamp(timestamp);
+        transaction.setTransactionAmount(new BigDecimal("10.00"));
+        transaction.setTransactionCurrency("EUR");
+        transaction.setMerchantCountry(country);
+        transaction.setMerchantCategoryCode(categoryCode);
+        return transaction;
+    }
+}
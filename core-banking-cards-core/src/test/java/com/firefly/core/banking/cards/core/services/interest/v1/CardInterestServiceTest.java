@@ -21,6 +21,8 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.interest.v1.CardInterestMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.interest.v1.CardInterestDTO;
 import com.firefly.core.banking.cards.models.entities.interest.v1.CardInterest;
 import com.firefly.core.banking.cards.models.repositories.interest.v1.CardInterestRepository;
@@ -30,12 +32,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -53,6 +57,12 @@ public class CardInterestServiceTest {
     @Mock
     private CardInterestMapper mapper;
 
+    @Spy
+    private PaginationQueryTemplate paginationQueryTemplate = new PaginationQueryTemplate();
+
+    @Mock
+    private PartialUpdateTemplate partialUpdateTemplate;
+
     @InjectMocks
     private CardInterestServiceImpl service;
 
@@ -133,7 +143,7 @@ public class CardInterestServiceTest {
     @Test
     void getInterest_Success() {
         // Arrange
-        when(repository.findByInterestId(interestId)).thenReturn(Mono.just(interestEntity));
+        when(repository.findByCardIdAndInterestId(cardId, interestId)).thenReturn(Mono.just(interestEntity));
         when(mapper.toDTO(any(CardInterest.class))).thenReturn(interestDTO);
 
         // Act & Assert
@@ -141,7 +151,7 @@ public class CardInterestServiceTest {
                 .expectNext(interestDTO)
                 .verifyComplete();
 
-        verify(repository).findByInterestId(interestId);
+        verify(repository).findByCardIdAndInterestId(cardId, interestId);
         verify(mapper).toDTO(interestEntity);
     }
 
@@ -149,23 +159,23 @@ public class CardInterestServiceTest {
     void getInterest_WrongCardId() {
         // Arrange
         UUID wrongCardId = UUID.randomUUID();
-        when(repository.findByInterestId(interestId)).thenReturn(Mono.just(interestEntity));
+        when(repository.findByCardIdAndInterestId(wrongCardId, interestId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.getInterest(wrongCardId, interestId))
-                .expectError(RuntimeException.class)
-                .verify();
+                .verifyComplete();
 
-        verify(repository).findByInterestId(interestId);
+        verify(repository).findByCardIdAndInterestId(wrongCardId, interestId);
         verify(mapper, never()).toDTO(any(CardInterest.class));
     }
 
     @Test
     void updateInterest_Success() {
         // Arrange
-        when(repository.findByInterestId(interestId)).thenReturn(Mono.just(interestEntity));
         when(mapper.toEntity(any(CardInterestDTO.class))).thenReturn(interestEntity);
-        when(repository.save(any(CardInterest.class))).thenReturn(Mono.just(interestEntity));
+        when(partialUpdateTemplate.replace(eq(CardInterest.class), eq(interestEntity),
+                eq(Map.of("interest_id", interestId, "card_id", cardId))))
+                .thenReturn(Mono.just(interestEntity));
         when(mapper.toDTO(any(CardInterest.class))).thenReturn(interestDTO);
 
         // Act & Assert
@@ -173,9 +183,7 @@ public class CardInterestServiceTest {
                 .expectNext(interestDTO)
                 .verifyComplete();
 
-        verify(repository).findByInterestId(interestId);
-        verify(mapper).toEntity(interestDTO);
-        verify(repository).save(interestEntity);
+        verify(repository, never()).save(any(CardInterest.class));
         verify(mapper).toDTO(interestEntity);
     }
 
@@ -183,14 +191,15 @@ public class CardInterestServiceTest {
     void updateInterest_WrongCardId() {
         // Arrange
         UUID wrongCardId = UUID.randomUUID();
-        when(repository.findByInterestId(interestId)).thenReturn(Mono.just(interestEntity));
+        when(mapper.toEntity(any(CardInterestDTO.class))).thenReturn(interestEntity);
+        when(partialUpdateTemplate.replace(eq(CardInterest.class), eq(interestEntity),
+                eq(Map.of("interest_id", interestId, "card_id", wrongCardId))))
+                .thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.updateInterest(wrongCardId, interestId, interestDTO))
-                .expectError(RuntimeException.class)
-                .verify();
+                .verifyComplete();
 
-        verify(repository).findByInterestId(interestId);
         verify(repository, never()).save(any(CardInterest.class));
         verify(mapper, never()).toDTO(any(CardInterest.class));
     }
@@ -198,29 +207,27 @@ public class CardInterestServiceTest {
     @Test
     void deleteInterest_Success() {
         // Arrange
-        when(repository.findByInterestId(interestId)).thenReturn(Mono.just(interestEntity));
-        when(repository.delete(interestEntity)).thenReturn(Mono.empty());
+        when(repository.deleteByCardIdAndInterestId(cardId, interestId)).thenReturn(Mono.just(1));
 
         // Act & Assert
         StepVerifier.create(service.deleteInterest(cardId, interestId))
                 .verifyComplete();
 
-        verify(repository).findByInterestId(interestId);
-        verify(repository).delete(interestEntity);
+        verify(repository).deleteByCardIdAndInterestId(cardId, interestId);
+        verify(repository, never()).delete(any(CardInterest.class));
     }
 
     @Test
     void deleteInterest_WrongCardId() {
         // Arrange
         UUID wrongCardId = UUID.randomUUID();
-        when(repository.findByInterestId(interestId)).thenReturn(Mono.just(interestEntity));
+        when(repository.deleteByCardIdAndInterestId(wrongCardId, interestId)).thenReturn(Mono.just(0));
 
         // Act & Assert
         StepVerifier.create(service.deleteInterest(wrongCardId, interestId))
-                .expectError(RuntimeException.class)
-                .verify();
+                .verifyComplete();
 
-        verify(repository).findByInterestId(interestId);
+        verify(repository).deleteByCardIdAndInterestId(wrongCardId, interestId);
         verify(repository, never()).delete(any(CardInterest.class));
     }
 }
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.issuance.v1;
+
+import com.firefly.core.banking.cards.core.config.CardIssuanceProperties;
+import com.firefly.core.banking.cards.core.mappers.card.v1.CardMapper;
+import com.firefly.core.banking.cards.core.mappers.issuance.v1.CardIssuanceMapper;
+import com.firefly.core.banking.cards.core.persistence.BatchInsertTemplate;
+import com.firefly.core.banking.cards.core.services.event.v1.CardEventOutbox;
+import com.firefly.core.banking.cards.interfaces.enums.card.v1.CardStatusEnum;
+import com.firefly.core.banking.cards.interfaces.enums.event.v1.CardEventTypeEnum;
+import com.firefly.core.banking.cards.models.entities.bin.v1.BIN;
+import com.firefly.core.banking.cards.models.entities.card.v1.Card;
+import com.firefly.core.banking.cards.models.entities.issuance.v1.CardIssuanceJob;
+import com.firefly.core.banking.cards.models.entities.limit.v1.CardLimit;
+import com.firefly.core.banking.cards.models.entities.physical.v1.PhysicalCard;
+import com.firefly.core.banking.cards.models.entities.program.v1.CardProgram;
+import com.firefly.core.banking.cards.models.entities.security.v1.CardSecurity;
+import com.firefly.core.banking.cards.models.repositories.bin.v1.BINRepository;
+import com.firefly.core.banking.cards.models.repositories.issuance.v1.CardIssuanceJobRepository;
+import com.firefly.core.banking.cards.models.repositories.limit.v1.CardLimitRepository;
+import com.firefly.core.banking.cards.models.repositories.program.v1.CardProgramRepository;
+import com.firefly.core.banking.cards.models.repositories.security.v1.CardSecurityRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CardIssuanceRunnerTest {
+
+    @Mock
+    private CardIssuanceJobRepository repository;
+
+    @Mock
+    private CardProgramRepository programRepository;
+
+    @Mock
+    private BINRepository binRepository;
+
+    @Mock
+    private CardLimitRepository limitRepository;
+
+    @Mock
+    private CardSecurityRepository securityRepository;
+
+    @Mock
+    private PanAllocator panAllocator;
+
+    @Mock
+    private BatchInsertTemplate batchInsertTemplate;
+
+    @Mock
+    private CardEventOutbox outbox;
+
+    @Mock
+    private CardMapper cardMapper;
+
+    @Mock
+    private CardIssuanceMapper mapper;
+
+    @Spy
+    private CardIssuanceProperties properties = new CardIssuanceProperties();
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private CardIssuanceRunner runner;
+
+    private final UUID issuanceJobId = UUID.randomUUID();
+    private CardIssuanceJob job;
+    private CardProgram program;
+    private BIN bin;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        runner.init();
+
+        program = new CardProgram();
+        program.setProgramId(UUID.randomUUID());
+        program.setBinId(UUID.randomUUID());
+        program.setDefaultDailyLimit(500.0);
+        program.setRequiresPin(true);
+        program.setRequiresActivation(true);
+
+        bin = new BIN();
+        bin.setBinId(program.getBinId());
+        bin.setBinNumber("411111");
+
+        job = new CardIssuanceJob();
+        job.setIssuanceJobId(issuanceJobId);
+        job.setProgramId(program.getProgramId());
+        job.setIsPhysical(true);
+        job.setRequestedCount(5);
+        job.setIssuedCount(0);
+        job.setChunkSize(2);
+        job.setAttempts(1);
+
+        lenient().when(repository.findByIssuanceJobId(issuanceJobId)).thenReturn(Mono.just(job));
+        lenient().when(repository.recordProgress(eq(issuanceJobId), anyInt(), anyInt(), anyInt())).thenReturn(Mono.just(1));
+        lenient().when(repository.markFailed(eq(issuanceJobId), anyInt(), anyString())).thenReturn(Mono.just(1));
+        lenient().when(programRepository.findByProgramId(program.getProgramId())).thenReturn(Mono.just(program));
+        lenient().when(binRepository.findByBinId(bin.getBinId())).thenReturn(Mono.just(bin));
+        lenient().when(limitRepository.findProgramDefaults(program.getProgramId())).thenReturn(Flux.empty());
+        lenient().when(securityRepository.findProgramDefaults(program.getProgramId())).thenReturn(Flux.empty());
+        lenient().when(panAllocator.allocate(eq(bin), anyInt())).thenAnswer(invocation -> Mono.just(
+                IntStream.range(0, invocation.<Integer>getArgument(1)).mapToObj(i -> pan()).toList()));
+        lenient().when(batchInsertTemplate.insertAll(any(), anyList()))
+                .thenAnswer(invocation -> Mono.just((long) invocation.<List<?>>getArgument(1).size()));
+        lenient().when(outbox.appendAll(any(), anyList(), any(), any(), any())).thenReturn(Mono.empty());
+        lenient().when(transactionalOperator.transactional(any(Mono.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(mapper.copy(any(CardLimit.class))).thenAnswer(invocation -> {
+            CardLimit template = invocation.getArgument(0);
+            CardLimit limit = new CardLimit();
+            limit.setLimitType(template.getLimitType());
+            limit.setLimitAmount(template.getLimitAmount());
+            return limit;
+        });
+        lenient().when(mapper.copy(any(CardSecurity.class))).thenAnswer(invocation -> {
+            CardSecurity template = invocation.getArgument(0);
+            CardSecurity security = new CardSecurity();
+            security.setSecurityFeatureCode(template.getSecurityFeatureCode());
+            security.setIsEnabled(template.getIsEnabled());
+            return security;
+        });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void run_WritesChunksWithProgramDefaults() {
+        // Act & Assert
+        StepVerifier.create(runner.run(issuanceJobId, 1)).verifyComplete();
+
+        verify(repository).recordProgress(issuanceJobId, 1, 0, 2);
+        verify(repository).recordProgress(issuanceJobId, 1, 2, 2);
+        verify(repository).recordProgress(issuanceJobId, 1, 4, 1);
+        verify(transactionalOperator, times(3)).transactional(any(Mono.class));
+        verify(outbox, times(3)).appendAll(eq(CardEventTypeEnum.CARD_CREATED), anyList(), any(), any(), any());
+        verify(repository, never()).markFailed(any(), anyInt(), any());
+
+        List<Card> cards = inserted(Card.class);
+        assertEquals(5, cards.size());
+        assertEquals(5, cards.stream().map(Card::getCardNumber).distinct().count());
+        Card card = cards.get(0);
+        assertEquals(card.getCardNumber().substring(0, 6) + "******" + card.getCardNumber().substring(12),
+                card.getMaskedCardNumber());
+        assertTrue(card.getIsPhysical());
+        assertFalse(card.getIsActive());
+        assertEquals(CardStatusEnum.INACTIVE, card.getCardStatus());
+        assertEquals(program.getBinId(), card.getBinId());
+        assertEquals(card.getIssuanceDate().getYear() + 3, card.getExpirationYear());
+
+        List<PhysicalCard> physicalCards = inserted(PhysicalCard.class);
+        assertEquals(5, physicalCards.size());
+        assertEquals(CardIssuanceRunner.MANUFACTURING_PENDING, physicalCards.get(0).getManufacturingStatus());
+
+        List<CardLimit> limits = inserted(CardLimit.class);
+        assertEquals(5, limits.size());
+        assertEquals("DAILY_SPENDING", limits.get(0).getLimitType());
+        assertEquals(0, new BigDecimal("500").compareTo(limits.get(0).getAvailableAmount()));
+        assertEquals(BigDecimal.ZERO, limits.get(0).getCurrentUsage());
+
+        List<CardSecurity> securities = inserted(CardSecurity.class);
+        assertEquals(5, securities.size());
+        assertEquals("PIN_ENABLED", securities.get(0).getSecurityFeatureCode());
+        assertEquals(cards.stream().map(Card::getCardId).toList(),
+                securities.stream().map(CardSecurity::getCardId).toList());
+        assertEquals(5.0, meterRegistry.get("cards.issuance.cards.issued").counter().count());
+    }
+
+    @Test
+    void run_ProgramDefaults_ReplaceFallbacks() {
+        // Arrange
+        CardLimit atmLimit = new CardLimit();
+        atmLimit.setLimitType("ATM_WITHDRAWAL");
+        atmLimit.setLimitAmount(new BigDecimal("200"));
+        CardSecurity threeDSecure = new CardSecurity();
+        threeDSecure.setSecurityFeatureCode("3DS");
+        when(limitRepository.findProgramDefaults(program.getProgramId())).thenReturn(Flux.just(atmLimit));
+        when(securityRepository.findProgramDefaults(program.getProgramId())).thenReturn(Flux.just(threeDSecure));
+
+        // Act & Assert
+        StepVerifier.create(runner.run(issuanceJobId, 1)).verifyComplete();
+
+        List<CardLimit> limits = inserted(CardLimit.class);
+        assertTrue(limits.stream().allMatch(limit -> "ATM_WITHDRAWAL".equals(limit.getLimitType())));
+        assertTrue(limits.stream().allMatch(limit -> Boolean.FALSE.equals(limit.getIsProgramDefault())));
+        assertTrue(inserted(CardSecurity.class).stream()
+                .allMatch(security -> "3DS".equals(security.getSecurityFeatureCode())));
+    }
+
+    @Test
+    void run_ResumedJob_StartsFromIssuedCount() {
+        // Arrange
+        job.setIssuedCount(4);
+
+        // Act & Assert
+        StepVerifier.create(runner.run(issuanceJobId, 1)).verifyComplete();
+
+        verify(repository).recordProgress(issuanceJobId, 1, 4, 1);
+        verify(repository, times(1)).recordProgress(any(), anyInt(), anyInt(), anyInt());
+        verify(panAllocator).allocate(bin, 1);
+        assertEquals(1, inserted(Card.class).size());
+    }
+
+    @Test
+    void run_FailedChunk_MarksJobFailedAndStops() {
+        // Arrange
+        when(batchInsertTemplate.insertAll(eq(CardSecurity.class), anyList()))
+                .thenReturn(Mono.error(new IllegalStateException("database unavailable")));
+
+        // Act & Assert
+        StepVerifier.create(runner.run(issuanceJobId, 1)).verifyComplete();
+
+        verify(repository).markFailed(issuanceJobId, 1, "database unavailable");
+        verify(repository, times(1)).recordProgress(any(), anyInt(), anyInt(), anyInt());
+        verify(panAllocator, times(1)).allocate(any(), anyInt());
+    }
+
+    @Test
+    void run_JobTakenOver_WritesNothing() {
+        // Arrange
+        when(repository.recordProgress(eq(issuanceJobId), anyInt(), anyInt(), anyInt())).thenReturn(Mono.just(0));
+
+        // Act & Assert
+        StepVerifier.create(runner.run(issuanceJobId, 1)).verifyComplete();
+
+        verify(batchInsertTemplate, never()).insertAll(any(), anyList());
+        verify(repository).markFailed(eq(issuanceJobId), eq(1), anyString());
+    }
+
+    @Test
+    void run_JobClaimedAgainSince_LeavesItToTheNewClaim() {
+        // Arrange
+        job.setAttempts(2);
+
+        // Act & Assert
+        StepVerifier.create(runner.run(issuanceJobId, 1)).verifyComplete();
+
+        verify(repository, never()).recordProgress(any(), anyInt(), anyInt(), anyInt());
+        verify(repository, never()).markFailed(any(), anyInt(), any());
+        verifyNoInteractions(panAllocator, batchInsertTemplate);
+    }
+
+    @Test
+    void run_ProgramWithoutActivation_IssuesActiveCards() {
+        // Arrange
+        program.setRequiresActivation(false);
+
+        // Act & Assert
+        StepVerifier.create(runner.run(issuanceJobId, 1)).verifyComplete();
+
+        Card card = inserted(Card.class).get(0);
+        assertTrue(card.getIsActive());
+        assertEquals(CardStatusEnum.ACTIVE, card.getCardStatus());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> inserted(Class<T> entityType) {
+        ArgumentCaptor<List<T>> batches = ArgumentCaptor.forClass(List.class);
+        verify(batchInsertTemplate, atLeast(0)).insertAll(eq(entityType), batches.capture());
+        return batches.getAllValues().stream().flatMap(List::stream).toList();
+    }
+
+    private static String pan() {
+        return "411111" + String.format("%010d", Math.floorMod(UUID.randomUUID().getLeastSignificantBits(), 10_000_000_000L));
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.issuance.v1;
+
+import com.firefly.core.banking.cards.core.config.CardIssuanceProperties;
+import com.firefly.core.banking.cards.core.mappers.issuance.v1.CardIssuanceMapper;
+import com.firefly.core.banking.cards.interfaces.dtos.issuance.v1.CardIssuanceJobDTO;
+import com.firefly.core.banking.cards.interfaces.enums.issuance.v1.IssuanceJobStatusEnum;
+import com.firefly.core.banking.cards.models.entities.issuance.v1.CardIssuanceJob;
+import com.firefly.core.banking.cards.models.entities.program.v1.CardProgram;
+import com.firefly.core.banking.cards.models.repositories.issuance.v1.CardIssuanceJobRepository;
+import com.firefly.core.banking.cards.models.repositories.program.v1.CardProgramRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CardIssuanceServiceTest {
+
+    @Mock
+    private CardIssuanceJobRepository repository;
+
+    @Mock
+    private CardProgramRepository programRepository;
+
+    @Mock
+    private CardIssuanceMapper mapper;
+
+    @Mock
+    private CardIssuanceRunner runner;
+
+    @Spy
+    private CardIssuanceProperties properties = new CardIssuanceProperties();
+
+    @InjectMocks
+    private CardIssuanceServiceImpl service;
+
+    private final UUID issuanceJobId = UUID.randomUUID();
+    private final UUID programId = UUID.randomUUID();
+    private CardProgram program;
+    private CardIssuanceJob savedJob;
+    private CardIssuanceJobDTO jobDTO;
+
+    @BeforeEach
+    void setUp() {
+        program = new CardProgram();
+        program.setProgramId(programId);
+        program.setBinId(UUID.randomUUID());
+        program.setIsActive(true);
+
+        savedJob = new CardIssuanceJob();
+        savedJob.setIssuanceJobId(issuanceJobId);
+        savedJob.setProgramId(programId);
+        savedJob.setAttempts(1);
+
+        jobDTO = CardIssuanceJobDTO.builder()
+                .programId(programId)
+                .requestedCount(1000)
+                .build();
+
+        lenient().when(mapper.toEntity(any(CardIssuanceJobDTO.class))).thenAnswer(invocation -> new CardIssuanceJob());
+        lenient().when(mapper.toDTO(any(CardIssuanceJob.class))).thenReturn(jobDTO);
+        lenient().when(programRepository.findByProgramId(programId)).thenReturn(Mono.just(program));
+        lenient().when(repository.save(any(CardIssuanceJob.class))).thenReturn(Mono.just(savedJob));
+        lenient().when(repository.findByIssuanceJobId(issuanceJobId)).thenReturn(Mono.just(savedJob));
+    }
+
+    @Test
+    void createJob_SavesPendingJobAndLaunchesIt() {
+        // Arrange
+        properties.setChunkSize(250);
+        when(repository.claim(eq(issuanceJobId), anyLong())).thenReturn(Mono.just(savedJob));
+
+        // Act & Assert
+        StepVerifier.create(service.createJob(jobDTO))
+                .expectNext(jobDTO)
+                .verifyComplete();
+
+        ArgumentCaptor<CardIssuanceJob> saved = ArgumentCaptor.forClass(CardIssuanceJob.class);
+        verify(repository).save(saved.capture());
+        assertNull(saved.getValue().getIssuanceJobId());
+        assertEquals(IssuanceJobStatusEnum.PENDING, saved.getValue().getJobStatus());
+        assertEquals(0, saved.getValue().getIssuedCount());
+        assertEquals(250, saved.getValue().getChunkSize());
+        assertFalse(saved.getValue().getIsPhysical());
+        verify(repository).claim(issuanceJobId, 300L);
+        verify(runner).launch(issuanceJobId, 1);
+    }
+
+    @Test
+    void createJob_InactiveProgram_Rejected() {
+        // Arrange
+        program.setIsActive(false);
+
+        // Act & Assert
+        StepVerifier.create(service.createJob(jobDTO))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verify(repository, never()).save(any(CardIssuanceJob.class));
+        verifyNoInteractions(runner);
+    }
+
+    @Test
+    void createJob_TooManyCards_Rejected() {
+        // Arrange
+        jobDTO.setRequestedCount(properties.getMaxCardsPerJob() + 1);
+
+        // Act & Assert
+        StepVerifier.create(service.createJob(jobDTO))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verifyNoInteractions(programRepository, runner);
+    }
+
+    @Test
+    void resumeJob_StillRunning_Rejected() {
+        // Arrange
+        when(repository.claim(eq(issuanceJobId), anyLong())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.resumeJob(issuanceJobId))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verifyNoInteractions(runner);
+    }
+
+    @Test
+    void resumeJob_UnknownJob_Empty() {
+        // Arrange
+        UUID unknownJobId = UUID.randomUUID();
+        when(repository.findByIssuanceJobId(unknownJobId)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.resumeJob(unknownJobId))
+                .verifyComplete();
+        verify(repository, never()).claim(any(), anyLong());
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.issuance.v1;
+
+import com.firefly.core.banking.cards.core.config.CardIssuanceProperties;
+import com.firefly.core.banking.cards.interfaces.validation.Pan;
+import com.firefly.core.banking.cards.models.entities.bin.v1.BIN;
+import com.firefly.core.banking.cards.models.entities.pan.v1.PanRangeAllocation;
+import com.firefly.core.banking.cards.models.repositories.card.v1.CardRepository;
+import com.firefly.core.banking.cards.models.repositories.pan.v1.PanRangeAllocationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PanAllocatorTest {
+
+    @Mock
+    private PanRangeAllocationRepository repository;
+
+    @Mock
+    private CardRepository cardRepository;
+
+    @Spy
+    private CardIssuanceProperties properties = new CardIssuanceProperties();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private PanAllocator panAllocator;
+
+    private final AtomicLong nextBlock = new AtomicLong();
+
+    private BIN bin;
+
+    @BeforeEach
+    void setUp() {
+        panAllocator.init();
+        properties.setPanBlockSize(100);
+        bin = new BIN();
+        bin.setBinId(UUID.randomUUID());
+        bin.setBinNumber("45398812");
+        bin.setBinLength(6);
+        lenient().when(repository.reserveBlock(anyString(), anyInt(), anyLong())).thenAnswer(invocation -> {
+            PanRangeAllocation allocation = new PanRangeAllocation();
+            allocation.setBinPrefix(invocation.getArgument(0));
+            allocation.setPanLength(invocation.getArgument(1));
+            allocation.setBlockSize(invocation.getArgument(2));
+            allocation.setNextBlock(nextBlock.incrementAndGet());
+            return Mono.just(allocation);
+        });
+        lenient().when(cardRepository.findExistingCardNumbers(anyCollection())).thenReturn(Flux.empty());
+    }
+
+    @Test
+    void allocate_DistinctLuhnValidNumbersAcrossBlocks() {
+        // Act & Assert
+        StepVerifier.create(panAllocator.allocate(bin, 250))
+                .assertNext(pans -> {
+                    assertEquals(250, pans.size());
+                    assertEquals(250, new HashSet<>(pans).size());
+                    assertTrue(pans.stream().allMatch(pan -> pan.length() == 16 && pan.startsWith("453988")));
+                    assertTrue(pans.stream().allMatch(Pan::isValid));
+                    assertTrue(pans.stream().map(PanAllocatorTest::account).allMatch(account -> account < 300));
+                    List<Long> firstBlock = pans.subList(0, 100).stream().map(PanAllocatorTest::account).toList();
+                    assertNotEquals(firstBlock.stream().sorted().toList(), firstBlock);
+                })
+                .verifyComplete();
+        verify(repository, times(3)).reserveBlock("453988", 16, 100L);
+        assertEquals(3.0, meterRegistry.get("cards.issuance.pan.blocks.reserved").counter().count());
+    }
+
+    @Test
+    void allocate_ReservedBlock_UsedByLaterCalls() {
+        // Arrange
+        List<String> pans = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            pans.addAll(panAllocator.allocate(bin, 10).block());
+        }
+
+        // Assert
+        assertEquals(100, new HashSet<>(pans).size());
+        verify(repository, times(1)).reserveBlock(anyString(), anyInt(), anyLong());
+    }
+
+    @Test
+    void allocate_NumbersHeldByExistingCards_AreSkipped() {
+        // Arrange
+        List<String> firstDraw = new ArrayList<>();
+        when(cardRepository.findExistingCardNumbers(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> drawn = invocation.getArgument(0);
+            if (!firstDraw.isEmpty()) {
+                return Flux.empty();
+            }
+            firstDraw.addAll(drawn);
+            return Flux.fromIterable(firstDraw.subList(0, 3));
+        });
+
+        // Act & Assert
+        StepVerifier.create(panAllocator.allocate(bin, 10))
+                .assertNext(pans -> {
+                    assertEquals(10, new HashSet<>(pans).size());
+                    assertTrue(pans.stream().noneMatch(firstDraw.subList(0, 3)::contains));
+                    assertTrue(pans.containsAll(firstDraw.subList(3, 10)));
+                })
+                .verifyComplete();
+        verify(cardRepository, times(2)).findExistingCardNumbers(anyCollection());
+        assertEquals(3.0, meterRegistry.get("cards.issuance.pan.taken").counter().count());
+    }
+
+    @Test
+    void allocate_ExhaustedRange_Fails() {
+        // Arrange
+        properties.setPanLength(8);
+        bin.setBinNumber("453988");
+
+        // Act & Assert
+        StepVerifier.create(panAllocator.allocate(bin, 10))
+                .assertNext(pans -> assertEquals(10, new HashSet<>(pans).size()))
+                .verifyComplete();
+        StepVerifier.create(panAllocator.allocate(bin, 1))
+                .expectError(IllegalStateException.class)
+                .verify();
+        verify(repository, times(2)).reserveBlock("453988", 8, 10L);
+    }
+
+    @Test
+    void blockPermutation_IsABijection() {
+        // Arrange
+        BlockPermutation permutation = new BlockPermutation(1000, 42L);
+        Set<Long> seen = new HashSet<>();
+
+        // Act
+        for (long position = 0; position < permutation.size(); position++) {
+            seen.add(permutation.apply(position));
+        }
+
+        // Assert
+        assertEquals(1000, seen.size());
+        assertTrue(seen.stream().allMatch(value -> value >= 0 && value < 1000));
+    }
+
+    @Test
+    void checkDigit_MatchesLuhn() {
+        // Act & Assert
+        assertEquals('1', Pan.checkDigit("411111111111111"));
+        assertEquals('3', Pan.checkDigit("7992739871"));
+        assertThrows(IllegalArgumentException.class, () -> Pan.checkDigit("4111x"));
+    }
+
+    private static long account(String pan) {
+        return Long.parseLong(pan.substring(6, pan.length() - 1));
+    }
+}
@@ -21,6 +21,7 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.issuer.v1.IssuerMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.issuer.v1.IssuerDTO;
 import com.firefly.core.banking.cards.models.entities.issuer.v1.Issuer;
 import com.firefly.core.banking.cards.models.repositories.issuer.v1.IssuerRepository;
@@ -30,6 +31,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -51,6 +53,9 @@ public class IssuerServiceTest {
     @Mock
     private IssuerMapper mapper;
 
+    @Spy
+    private PaginationQueryTemplate paginationQueryTemplate = new PaginationQueryTemplate();
+
     @InjectMocks
     private IssuerServiceImpl service;
 
@@ -21,10 +21,16 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.limit.v1.CardLimitMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.services.event.v1.CardEventOutbox;
 import com.firefly.core.banking.cards.interfaces.dtos.limit.v1.CardLimitDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.limit.v1.LimitConsumptionRequestDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.limit.v1.LimitUsageDTO;
 import com.firefly.core.banking.cards.interfaces.enums.limit.v1.LimitTypeEnum;
 import com.firefly.core.banking.cards.interfaces.enums.limit.v1.ResetPeriodEnum;
+import com.firefly.core.banking.cards.interfaces.enums.event.v1.CardEventTypeEnum;
 import com.firefly.core.banking.cards.models.entities.limit.v1.CardLimit;
+import com.firefly.core.banking.cards.models.entities.limit.v1.CardLimitUsage;
 import com.firefly.core.banking.cards.models.repositories.limit.v1.CardLimitRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,7 +38,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -54,6 +62,12 @@ public class CardLimitServiceTest {
     @Mock
     private CardLimitMapper mapper;
 
+    @Spy
+    private PaginationQueryTemplate paginationQueryTemplate = new PaginationQueryTemplate();
+
+    @Mock
+    private CardEventOutbox outbox;
+
     @InjectMocks
     private CardLimitServiceImpl service;
 
@@ -81,6 +95,8 @@ public class CardLimitServiceTest {
         limitEntity.setLimitAmount(new BigDecimal("1000.00"));
         limitEntity.setCurrentUsage(new BigDecimal("500.00"));
         limitEntity.setResetPeriod(ResetPeriodEnum.DAILY.name());
+
+        lenient().when(outbox.append(any(), any(), any(), any())).thenReturn(Mono.empty());
     }
 
     @Test
@@ -133,7 +149,7 @@ public class CardLimitServiceTest {
     @Test
     void getLimit_Success() {
         // Arrange
-        when(repository.findByCardLimitId(limitId)).thenReturn(Mono.just(limitEntity));
+        when(repository.findByCardIdAndCardLimitId(cardId, limitId)).thenReturn(Mono.just(limitEntity));
         when(mapper.toDTO(any(CardLimit.class))).thenReturn(limitDTO);
 
         // Act & Assert
@@ -141,45 +157,43 @@ public class CardLimitServiceTest {
                 .expectNext(limitDTO)
                 .verifyComplete();
 
-        verify(repository).findByCardLimitId(limitId);
+        verify(repository).findByCardIdAndCardLimitId(cardId, limitId);
         verify(mapper).toDTO(limitEntity);
     }
 
     @Test
     void getLimit_NotFound() {
         // Arrange
-        when(repository.findByCardLimitId(limitId)).thenReturn(Mono.empty());
+        when(repository.findByCardIdAndCardLimitId(cardId, limitId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.getLimit(cardId, limitId))
                 .verifyComplete();
 
-        verify(repository).findByCardLimitId(limitId);
+        verify(repository).findByCardIdAndCardLimitId(cardId, limitId);
         verify(mapper, never()).toDTO(any(CardLimit.class));
     }
 
     @Test
     void getLimit_WrongCard() {
         // Arrange
-        CardLimit wrongCardLimit = new CardLimit();
-        wrongCardLimit.setCardLimitId(limitId);
-        wrongCardLimit.setCardId(UUID.randomUUID()); // Different card ID
-
-        when(repository.findByCardLimitId(limitId)).thenReturn(Mono.just(wrongCardLimit));
+        UUID wrongCardId = UUID.randomUUID();
+        when(repository.findByCardIdAndCardLimitId(wrongCardId, limitId)).thenReturn(Mono.empty());
 
         // Act & Assert
-        StepVerifier.create(service.getLimit(cardId, limitId))
+        StepVerifier.create(service.getLimit(wrongCardId, limitId))
                 .verifyComplete();
 
-        verify(repository).findByCardLimitId(limitId);
+        verify(repository).findByCardIdAndCardLimitId(wrongCardId, limitId);
         verify(mapper, never()).toDTO(any(CardLimit.class));
     }
 
     @Test
     void updateLimit_Success() {
         // Arrange
-        when(repository.findByCardLimitId(limitId)).thenReturn(Mono.just(limitEntity));
-        when(repository.save(any(CardLimit.class))).thenReturn(Mono.just(limitEntity));
+        when(repository.updateLimit(cardId, limitId, "DAILY_SPENDING", new BigDecimal("1000.00"),
+                new BigDecimal("500.00"), "DAILY"))
+                .thenReturn(Mono.just(limitEntity));
         when(mapper.toDTO(any(CardLimit.class))).thenReturn(limitDTO);
 
         // Act & Assert
@@ -187,21 +201,49 @@ public class CardLimitServiceTest {
                 .expectNext(limitDTO)
                 .verifyComplete();
 
-        verify(repository).findByCardLimitId(limitId);
-        verify(repository).save(limitEntity);
+        verify(repository, never()).save(any(CardLimit.class));
         verify(mapper).toDTO(limitEntity);
     }
 
+    @Test
+    void updateLimit_OnlyAmount_LeavesEnumColumnsUnchanged() {
+        // Arrange
+        CardLimitDTO amountOnly = CardLimitDTO.builder().limitAmount(new BigDecimal("2000.00")).build();
+        when(repository.updateLimit(cardId, limitId, null, new BigDecimal("2000.00"), null, null))
+                .thenReturn(Mono.just(limitEntity));
+        when(mapper.toDTO(any(CardLimit.class))).thenReturn(limitDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.updateLimit(cardId, limitId, amountOnly))
+                .expectNext(limitDTO)
+                .verifyComplete();
+    }
+
+    @Test
+    void updateLimit_NothingToChange_ReturnsTheLimitWithoutUpdating() {
+        // Arrange
+        when(repository.findByCardIdAndCardLimitId(cardId, limitId)).thenReturn(Mono.just(limitEntity));
+        when(mapper.toDTO(any(CardLimit.class))).thenReturn(limitDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.updateLimit(cardId, limitId, new CardLimitDTO()))
+                .expectNext(limitDTO)
+                .verifyComplete();
+
+        verify(repository, never()).updateLimit(any(), any(), any(), any(), any(), any());
+        verify(outbox, never()).append(any(), any(), any(), any());
+    }
+
     @Test
     void updateLimit_NotFound() {
         // Arrange
-        when(repository.findByCardLimitId(limitId)).thenReturn(Mono.empty());
+        when(repository.updateLimit(eq(cardId), eq(limitId), any(), any(), any(), any()))
+                .thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.updateLimit(cardId, limitId, limitDTO))
                 .verifyComplete();
 
-        verify(repository).findByCardLimitId(limitId);
         verify(repository, never()).save(any(CardLimit.class));
         verify(mapper, never()).toDTO(any(CardLimit.class));
     }
@@ -209,17 +251,14 @@ public class CardLimitServiceTest {
     @Test
     void updateLimit_WrongCard() {
         // Arrange
-        CardLimit wrongCardLimit = new CardLimit();
-        wrongCardLimit.setCardLimitId(limitId);
-        wrongCardLimit.setCardId(UUID.randomUUID()); // Different card ID
-
-        when(repository.findByCardLimitId(limitId)).thenReturn(Mono.just(wrongCardLimit));
+        UUID wrongCardId = UUID.randomUUID();
+        when(repository.updateLimit(eq(wrongCardId), eq(limitId), any(), any(), any(), any()))
+                .thenReturn(Mono.empty());
 
         // Act & Assert
-        StepVerifier.create(service.updateLimit(cardId, limitId, limitDTO))
+        StepVerifier.create(service.updateLimit(wrongCardId, limitId, limitDTO))
                 .verifyComplete();
 
-        verify(repository).findByCardLimitId(limitId);
         verify(repository, never()).save(any(CardLimit.class));
         verify(mapper, never()).toDTO(any(CardLimit.class));
     }
@@ -227,44 +266,122 @@ public class CardLimitServiceTest {
     @Test
     void deleteLimit_Success() {
         // Arrange
-        when(repository.findByCardLimitId(limitId)).thenReturn(Mono.just(limitEntity));
-        when(repository.delete(limitEntity)).thenReturn(Mono.empty());
+        when(repository.deleteByCardIdAndCardLimitId(cardId, limitId)).thenReturn(Mono.just(1));
 
         // Act & Assert
         StepVerifier.create(service.deleteLimit(cardId, limitId))
                 .verifyComplete();
 
-        verify(repository).findByCardLimitId(limitId);
-        verify(repository).delete(limitEntity);
+        verify(repository).deleteByCardIdAndCardLimitId(cardId, limitId);
+        verify(repository, never()).delete(any(CardLimit.class));
+        verify(outbox).append(CardEventTypeEnum.LIMIT_DELETED, cardId, limitId, null);
     }
 
     @Test
     void deleteLimit_NotFound() {
         // Arrange
-        when(repository.findByCardLimitId(limitId)).thenReturn(Mono.empty());
+        when(repository.deleteByCardIdAndCardLimitId(cardId, limitId)).thenReturn(Mono.just(0));
 
         // Act & Assert
         StepVerifier.create(service.deleteLimit(cardId, limitId))
                 .verifyComplete();
 
-        verify(repository).findByCardLimitId(limitId);
-        verify(repository, never()).delete(any(CardLimit.class));
+        verify(repository).deleteByCardIdAndCardLimitId(cardId, limitId);
+        verify(outbox, never()).append(any(), any(), any(), any());
     }
 
     @Test
     void deleteLimit_WrongCard() {
         // Arrange
-        CardLimit wrongCardLimit = new CardLimit();
-        wrongCardLimit.setCardLimitId(limitId);
-        wrongCardLimit.setCardId(UUID.randomUUID()); // Different card ID
-
-        when(repository.findByCardLimitId(limitId)).thenReturn(Mono.just(wrongCardLimit));
+        UUID wrongCardId = UUID.randomUUID();
+        when(repository.deleteByCardIdAndCardLimitId(wrongCardId, limitId)).thenReturn(Mono.just(0));
 
         // Act & Assert
-        StepVerifier.create(service.deleteLimit(cardId, limitId))
+        StepVerifier.create(service.deleteLimit(wrongCardId, limitId))
                 .verifyComplete();
 
-        verify(repository).findByCardLimitId(limitId);
+        verify(repository).deleteByCardIdAndCardLimitId(wrongCardId, limitId);
         verify(repository, never()).delete(any(CardLimit.class));
     }
+
+    @Test
+    void consumeLimit_Approved() {
+        // Arrange
+        LimitConsumptionRequestDTO request = LimitConsumptionRequestDTO.builder()
+                .limitType(LimitTypeEnum.ATM_WITHDRAWAL)
+                .amount(new BigDecimal("100.00"))
+                .channelType("ATM")
+                .build();
+        CardLimitUsage daily = new CardLimitUsage();
+        CardLimitUsage atm = new CardLimitUsage();
+        LimitUsageDTO dailyUsage = usage(LimitTypeEnum.DAILY_SPENDING, "400.00", false);
+        LimitUsageDTO atmUsage = usage(LimitTypeEnum.ATM_WITHDRAWAL, "150.00", false);
+
+        when(repository.consumeLimit(cardId, "ATM_WITHDRAWAL", new BigDecimal("100.00"), null, "ATM"))
+                .thenReturn(Flux.just(daily, atm));
+        when(mapper.toUsageDTO(daily)).thenReturn(dailyUsage);
+        when(mapper.toUsageDTO(atm)).thenReturn(atmUsage);
+
+        // Act & Assert
+        StepVerifier.create(service.consumeLimit(cardId, request))
+                .expectNextMatches(result -> result.isApproved()
+                        && result.getRejectedLimitId() == null
+                        && result.getLimits().size() == 2)
+                .verifyComplete();
+    }
+
+    @Test
+    void consumeLimit_RejectedByLimitWithLeastRoom() {
+        // Arrange
+        LimitConsumptionRequestDTO request = LimitConsumptionRequestDTO.builder()
+                .limitType(LimitTypeEnum.ONLINE_PURCHASE)
+                .amount(new BigDecimal("300.00"))
+                .build();
+        CardLimitUsage daily = new CardLimitUsage();
+        CardLimitUsage monthly = new CardLimitUsage();
+        CardLimitUsage online = new CardLimitUsage();
+        LimitUsageDTO dailyUsage = usage(LimitTypeEnum.DAILY_SPENDING, "200.00", true);
+        LimitUsageDTO monthlyUsage = usage(LimitTypeEnum.MONTHLY_SPENDING, "5000.00", false);
+        LimitUsageDTO onlineUsage = usage(LimitTypeEnum.ONLINE_PURCHASE, "50.00", true);
+
+        when(repository.consumeLimit(cardId, "ONLINE_PURCHASE", new BigDecimal("300.00"), null, null))
+                .thenReturn(Flux.just(daily, monthly, online));
+        when(mapper.toUsageDTO(daily)).thenReturn(dailyUsage);
+        when(mapper.toUsageDTO(monthly)).thenReturn(monthlyUsage);
+        when(mapper.toUsageDTO(online)).thenReturn(onlineUsage);
+
+        // Act & Assert
+        StepVerifier.create(service.consumeLimit(cardId, request))
+                .expectNextMatches(result -> !result.isApproved()
+                        && onlineUsage.getCardLimitId().equals(result.getRejectedLimitId())
+                        && result.getRejectedLimitType() == LimitTypeEnum.ONLINE_PURCHASE)
+                .verifyComplete();
+    }
+
+    @Test
+    void consumeLimit_NoApplicableLimits() {
+        // Arrange
+        LimitConsumptionRequestDTO request = LimitConsumptionRequestDTO.builder()
+                .limitType(LimitTypeEnum.DAILY_SPENDING)
+                .amount(new BigDecimal("10.00"))
+                .build();
+        when(repository.consumeLimit(cardId, "DAILY_SPENDING", new BigDecimal("10.00"), null, null))
+                .thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.consumeLimit(cardId, request))
+                .expectNextMatches(result -> result.isApproved() && result.getLimits().isEmpty())
+                .verifyComplete();
+
+        verify(mapper, never()).toUsageDTO(any(CardLimitUsage.class));
+    }
+
+    private static LimitUsageDTO usage(LimitTypeEnum limitType, String availableAmount, boolean exceeded) {
+        return LimitUsageDTO.builder()
+                .cardLimitId(UUID.randomUUID())
+                .limitType(limitType)
+                .availableAmount(new BigDecimal(availableAmount))
+                .exceeded(exceeded)
+                .build();
+    }
 }
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.limit.v1;
+
+import com.firefly.core.banking.cards.core.config.LimitCounterProperties;
+import com.firefly.core.banking.cards.interfaces.dtos.limit.v1.LimitConsumptionRequestDTO;
+import com.firefly.core.banking.cards.interfaces.enums.limit.v1.LimitTypeEnum;
+import com.firefly.core.banking.cards.models.entities.limit.v1.CardLimit;
+import com.firefly.core.banking.cards.models.repositories.limit.v1.CardLimitRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class LimitCounterEngineTest {
+
+    @Mock
+    private CardLimitRepository repository;
+
+    @Spy
+    private LimitCounterProperties properties = new LimitCounterProperties();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private LimitCounterEngine engine;
+
+    @InjectMocks
+    private LimitCounterEngine otherInstance;
+
+    private final UUID cardId = UUID.randomUUID();
+    private CardLimit daily;
+    private CardLimit atm;
+
+    @BeforeEach
+    void setUp() {
+        engine.registerMeters();
+        otherInstance.registerMeters();
+        daily = limit(LimitTypeEnum.DAILY_SPENDING, "1000.00", "900.00");
+        atm = limit(LimitTypeEnum.ATM_WITHDRAWAL, "200.00", "0.00");
+        when(repository.findByCardId(eq(cardId), any(Pageable.class))).thenReturn(Flux.just(daily, atm));
+    }
+
+    @Test
+    void consume_ApprovedSpendIsFlushedAsOneBatch() {
+        // Arrange
+        when(repository.addUsage(any(), any(), any())).thenReturn(Mono.just(2));
+
+        // Act & Assert
+        StepVerifier.create(engine.consume(cardId, spend(LimitTypeEnum.ATM_WITHDRAWAL, "60.00")))
+                .expectNextMatches(result -> result.isApproved() && result.getLimits().size() == 2)
+                .verifyComplete();
+        StepVerifier.create(engine.consume(cardId, spend(LimitTypeEnum.ATM_WITHDRAWAL, "40.00")))
+                .expectNextMatches(result -> result.isApproved())
+                .verifyComplete();
+
+        StepVerifier.create(engine.flush())
+                .expectNext(2L)
+                .verifyComplete();
+
+        ArgumentCaptor<UUID[]> ids = ArgumentCaptor.forClass(UUID[].class);
+        ArgumentCaptor<BigDecimal[]> deltas = ArgumentCaptor.forClass(BigDecimal[].class);
+        verify(repository, times(1)).addUsage(ids.capture(), deltas.capture(), any());
+        assertEquals(2, ids.getValue().length);
+        assertArrayEquals(new BigDecimal[]{new BigDecimal("100.00"), new BigDecimal("100.00")}, deltas.getValue());
+        verify(repository, times(1)).findByCardId(eq(cardId), any(Pageable.class));
+    }
+
+    @Test
+    void consume_RejectedSpendReleasesOtherLimits() {
+        // Act & Assert
+        StepVerifier.create(engine.consume(cardId, spend(LimitTypeEnum.ATM_WITHDRAWAL, "150.00")))
+                .expectNextMatches(result -> !result.isApproved()
+                        && daily.getCardLimitId().equals(result.getRejectedLimitId()))
+                .verifyComplete();
+
+        StepVerifier.create(engine.flush())
+                .expectNext(0L)
+                .verifyComplete();
+        verify(repository, never()).addUsage(any(), any(), any());
+    }
+
+    @Test
+    void consume_ConcurrentSpendsNeverExceedLimit() throws InterruptedException {
+        // Arrange
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger approved = new AtomicInteger();
+
+        // Act: 400 spends of 1.00 race for the 100.00 left on the daily limit
+        for (int i = 0; i < 400; i++) {
+            executor.submit(() -> {
+                start.await();
+                if (engine.consume(cardId, spend(LimitTypeEnum.DAILY_SPENDING, "1.00")).block().isApproved()) {
+                    approved.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(100, approved.get());
+    }
+
+    @Test
+    void flush_FailedBatchIsRetried() {
+        // Arrange
+        when(repository.addUsage(any(), any(), any()))
+                .thenReturn(Mono.error(new RuntimeException("connection lost")))
+                .thenReturn(Mono.just(2));
+        engine.consume(cardId, spend(LimitTypeEnum.ATM_WITHDRAWAL, "10.00")).block();
+
+        // Act & Assert
+        StepVerifier.create(engine.flush())
+                .expectNext(0L)
+                .verifyComplete();
+        StepVerifier.create(engine.flush())
+                .expectNext(2L)
+                .verifyComplete();
+
+        verify(repository, times(2)).addUsage(any(), any(), any());
+        assertEquals(1.0, meterRegistry.get("cards.limits.counters.flush.failures").counter().count());
+    }
+
+    @Test
+    void reconcile_WritesBackPendingUsageAndReloadsFromCardLimit() {
+        // Arrange
+        when(repository.addUsage(any(), any(), any())).thenReturn(Mono.just(2));
+        engine.consume(cardId, spend(LimitTypeEnum.ATM_WITHDRAWAL, "10.00")).block();
+        CardLimit reloaded = limit(LimitTypeEnum.DAILY_SPENDING, "1000.00", "995.00");
+        when(repository.findByCardId(eq(cardId), any(Pageable.class))).thenReturn(Flux.just(reloaded));
+
+        // Act & Assert
+        StepVerifier.create(engine.reconcile(cardId))
+                .expectNext(1)
+                .verifyComplete();
+        StepVerifier.create(engine.consume(cardId, spend(LimitTypeEnum.DAILY_SPENDING, "10.00")))
+                .expectNextMatches(result -> !result.isApproved())
+                .verifyComplete();
+
+        verify(repository, times(1)).addUsage(any(), any(), any());
+        verify(repository, times(2)).findByCardId(eq(cardId), any(Pageable.class));
+    }
+
+    @Test
+    void discard_DropsPendingUsageWithoutWritingIt() {
+        // Arrange
+        engine.consume(cardId, spend(LimitTypeEnum.ATM_WITHDRAWAL, "10.00")).block();
+
+        // Act & Assert
+        StepVerifier.create(engine.discard(cardId)).verifyComplete();
+        StepVerifier.create(engine.flush())
+                .expectNext(0L)
+                .verifyComplete();
+
+        verify(repository, never()).addUsage(any(), any(), any());
+    }
+
+    @Test
+    void flush_DeltasCarryTheResetDateTheyWereCountedUnder() {
+        // Arrange
+        LocalDateTime lastReset = LocalDateTime.of(2025, 3, 1, 0, 0);
+        daily.setLastResetDate(lastReset);
+        when(repository.addUsage(any(), any(), any())).thenReturn(Mono.just(2));
+        engine.consume(cardId, spend(LimitTypeEnum.ATM_WITHDRAWAL, "10.00")).block();
+
+        // Act
+        engine.flush().block();
+
+        // Assert
+        ArgumentCaptor<UUID[]> ids = ArgumentCaptor.forClass(UUID[].class);
+        ArgumentCaptor<LocalDateTime[]> lastResetDates = ArgumentCaptor.forClass(LocalDateTime[].class);
+        verify(repository).addUsage(ids.capture(), any(), lastResetDates.capture());
+        for (int i = 0; i < ids.getValue().length; i++) {
+            assertEquals(ids.getValue()[i].equals(daily.getCardLimitId()) ? lastReset : null,
+                    lastResetDates.getValue()[i]);
+        }
+    }
+
+    @Test
+    void consume_AfterResetRunOnAnotherInstance_MovesToTheNewPeriod() {
+        // Arrange: both instances load the daily limit with 900.00 of 1000.00 used
+        LocalDateTime boundary = LocalDateTime.of(2025, 3, 2, 0, 0);
+        daily.setLastResetDate(boundary.minusDays(1));
+        daily.setNextResetDate(boundary);
+        when(repository.addUsage(any(), any(), any())).thenReturn(Mono.just(1));
+        when(repository.resetDueLimitsOfCard(cardId, boundary.plusMinutes(1))).thenReturn(Mono.just(0));
+        engine.consume(cardId, spend(LimitTypeEnum.DAILY_SPENDING, "50.00"), boundary.minusHours(1)).block();
+        otherInstance.consume(cardId, spend(LimitTypeEnum.DAILY_SPENDING, "50.00"), boundary.minusHours(1)).block();
+
+        // The scheduler runs on the first instance only: it resets card_limit and discards its own counters
+        engine.discard(cardId).block();
+        daily.setCurrentUsage(BigDecimal.ZERO);
+        daily.setLastResetDate(boundary);
+        daily.setNextResetDate(boundary.plusDays(1));
+
+        // Act & Assert: the other instance no longer charges the new period with yesterday's usage
+        StepVerifier.create(otherInstance.consume(cardId, spend(LimitTypeEnum.DAILY_SPENDING, "500.00"),
+                        boundary.plusMinutes(1)))
+                .expectNextMatches(result -> result.isApproved()
+                        && result.getLimits().getFirst().getCurrentUsage().compareTo(new BigDecimal("500.00")) == 0)
+                .verifyComplete();
+
+        // Its usage from the previous period was written back under the reset date it was counted under
+        ArgumentCaptor<LocalDateTime[]> lastResetDates = ArgumentCaptor.forClass(LocalDateTime[].class);
+        verify(repository).addUsage(any(), any(), lastResetDates.capture());
+        assertArrayEquals(new LocalDateTime[]{boundary.minusDays(1)}, lastResetDates.getValue());
+        verify(repository).resetDueLimitsOfCard(cardId, boundary.plusMinutes(1));
+    }
+
+    private CardLimit limit(LimitTypeEnum limitType, String limitAmount, String currentUsage) {
+        CardLimit limit = new CardLimit();
+        limit.setCardLimitId(UUID.randomUUID());
+        limit.setCardId(cardId);
+        limit.setLimitType(limitType.name());
+        limit.setLimitAmount(new BigDecimal(limitAmount));
+        limit.setCurrentUsage(new BigDecimal(currentUsage));
+        limit.setCurrencyCode("EUR");
+        limit.setIsActive(true);
+        return limit;
+    }
+
+    private static LimitConsumptionRequestDTO spend(LimitTypeEnum limitType, String amount) {
+        return LimitConsumptionRequestDTO.builder()
+                .limitType(limitType)
+                .amount(new BigDecimal(amount))
+                .build();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+
+package com.firefly.core.banking.cards.core.services.limit.v1;
+
+import com.firefly.core.banking.cards.core.config.LimitResetProperties;
+import com.firefly.core.banking.cards.models.repositories.limit.v1.CardLimitRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class LimitResetSchedulerTest {
+
+    @Mock
+    private CardLimitRepository repository;
+
+    @Mock
+    private LimitCounterEngine counterEngine;
+
+    @Spy
+    private LimitResetProperties properties = new LimitResetProperties();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private LimitResetScheduler scheduler;
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+    @BeforeEach
+    void setUp() {
+        properties.setBatchSize(2);
+        properties.setParallelism(1);
+        scheduler.registerMeters();
+    }
+
+    @Test
+    void runOnce_DrainsBatchesUntilOneIsShort() {
+        // Arrange
+        UUID cardA = UUID.randomUUID();
+        UUID cardB = UUID.randomUUID();
+        when(repository.resetDueLimits(now, 2))
+                .thenReturn(Flux.just(cardA, cardA))
+                .thenReturn(Flux.just(cardB));
+        when(counterEngine.discard(any(UUID.class))).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(scheduler.runOnce(now))
+                .expectNext(3L)
+                .verifyComplete();
+
+        verify(repository, times(2)).resetDueLimits(now, 2);
+        verify(counterEngine).discard(cardA);
+        verify(counterEngine).discard(cardB);
+        assertEquals(3.0, meterRegistry.counter("cards.limits.reset.limits").count());
+    }
+
+    @Test
+    void runOnce_NothingDue_ReturnsZero() {
+        // Arrange
+        when(repository.resetDueLimits(now, 2)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(scheduler.runOnce(now))
+                .expectNext(0L)
+                .verifyComplete();
+
+        verify(repository, times(1)).resetDueLimits(now, 2);
+        verifyNoInteractions(counterEngine);
+    }
+
+    @Test
+    void runOnce_RunsOneLanePerParallelism() {
+        // Arrange
+        properties.setParallelism(3);
+        when(repository.resetDueLimits(eq(now), anyInt())).thenReturn(Flux.just(UUID.randomUUID()));
+        when(counterEngine.discard(any(UUID.class))).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(scheduler.runOnce(now))
+                .expectNext(3L)
+                .verifyComplete();
+
+        verify(repository, times(3)).resetDueLimits(now, 2);
+    }
+
+    @Test
+    void runOnce_FailedReset_CountsTheFailure() {
+        // Arrange
+        when(repository.resetDueLimits(now, 2)).thenReturn(Flux.error(new IllegalStateException("connection lost")));
+
+        // Act & Assert
+        StepVerifier.create(scheduler.runOnce(now))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        assertEquals(1.0, meterRegistry.counter("cards.limits.reset.failures").count());
+        verifyNoInteractions(counterEngine);
+    }
+}
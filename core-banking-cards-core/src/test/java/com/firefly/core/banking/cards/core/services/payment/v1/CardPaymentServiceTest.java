@@ -21,6 +21,8 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.payment.v1.CardPaymentMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.payment.v1.CardPaymentDTO;
 import com.firefly.core.banking.cards.models.entities.payment.v1.CardPayment;
 import com.firefly.core.banking.cards.models.repositories.payment.v1.CardPaymentRepository;
@@ -30,12 +32,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -53,6 +57,12 @@ public class CardPaymentServiceTest {
     @Mock
     private CardPaymentMapper mapper;
 
+    @Spy
+    private PaginationQueryTemplate paginationQueryTemplate = new PaginationQueryTemplate();
+
+    @Mock
+    private PartialUpdateTemplate partialUpdateTemplate;
+
     @InjectMocks
     private CardPaymentServiceImpl service;
 
@@ -133,7 +143,7 @@ public class CardPaymentServiceTest {
     @Test
     void getPayment_Success() {
         // Arrange
-        when(repository.findByPaymentId(paymentId)).thenReturn(Mono.just(paymentEntity));
+        when(repository.findByCardIdAndPaymentId(cardId, paymentId)).thenReturn(Mono.just(paymentEntity));
         when(mapper.toDTO(any(CardPayment.class))).thenReturn(paymentDTO);
 
         // Act & Assert
@@ -141,7 +151,7 @@ public class CardPaymentServiceTest {
                 .expectNext(paymentDTO)
                 .verifyComplete();
 
-        verify(repository).findByPaymentId(paymentId);
+        verify(repository).findByCardIdAndPaymentId(cardId, paymentId);
         verify(mapper).toDTO(paymentEntity);
     }
 
@@ -149,23 +159,23 @@ public class CardPaymentServiceTest {
     void getPayment_WrongCardId() {
         // Arrange
         UUID wrongCardId = UUID.randomUUID();
-        when(repository.findByPaymentId(paymentId)).thenReturn(Mono.just(paymentEntity));
+        when(repository.findByCardIdAndPaymentId(wrongCardId, paymentId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.getPayment(wrongCardId, paymentId))
-                .expectError(RuntimeException.class)
-                .verify();
+                .verifyComplete();
 
-        verify(repository).findByPaymentId(paymentId);
+        verify(repository).findByCardIdAndPaymentId(wrongCardId, paymentId);
         verify(mapper, never()).toDTO(any(CardPayment.class));
     }
 
     @Test
     void updatePayment_Success() {
         // Arrange
-        when(repository.findByPaymentId(paymentId)).thenReturn(Mono.just(paymentEntity));
         when(mapper.toEntity(any(CardPaymentDTO.class))).thenReturn(paymentEntity);
-        when(repository.save(any(CardPayment.class))).thenReturn(Mono.just(paymentEntity));
+        when(partialUpdateTemplate.replace(eq(CardPayment.class), eq(paymentEntity),
+                eq(Map.of("payment_id", paymentId, "card_id", cardId))))
+                .thenReturn(Mono.just(paymentEntity));
         when(mapper.toDTO(any(CardPayment.class))).thenReturn(paymentDTO);
 
         // Act & Assert
@@ -173,9 +183,7 @@ public class CardPaymentServiceTest {
                 .expectNext(paymentDTO)
                 .verifyComplete();
 
-        verify(repository).findByPaymentId(paymentId);
-        verify(mapper).toEntity(paymentDTO);
-        verify(repository).save(paymentEntity);
+        verify(repository, never()).save(any(CardPayment.class));
         verify(mapper).toDTO(paymentEntity);
     }
 
@@ -183,14 +191,15 @@ public class CardPaymentServiceTest {
     void updatePayment_WrongCardId() {
         // Arrange
         UUID wrongCardId = UUID.randomUUID();
-        when(repository.findByPaymentId(paymentId)).thenReturn(Mono.just(paymentEntity));
+        when(mapper.toEntity(any(CardPaymentDTO.class))).thenReturn(paymentEntity);
+        when(partialUpdateTemplate.replace(eq(CardPayment.class), eq(paymentEntity),
+                eq(Map.of("payment_id", paymentId, "card_id", wrongCardId))))
+                .thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.updatePayment(wrongCardId, paymentId, paymentDTO))
-                .expectError(RuntimeException.class)
-                .verify();
+                .verifyComplete();
 
-        verify(repository).findByPaymentId(paymentId);
         verify(repository, never()).save(any(CardPayment.class));
         verify(mapper, never()).toDTO(any(CardPayment.class));
     }
@@ -198,29 +207,27 @@ public class CardPaymentServiceTest {
     @Test
     void deletePayment_Success() {
         // Arrange
-        when(repository.findByPaymentId(paymentId)).thenReturn(Mono.just(paymentEntity));
-        when(repository.delete(paymentEntity)).thenReturn(Mono.empty());
+        when(repository.deleteByCardIdAndPaymentId(cardId, paymentId)).thenReturn(Mono.just(1));
 
         // Act & Assert
         StepVerifier.create(service.deletePayment(cardId, paymentId))
                 .verifyComplete();
 
-        verify(repository).findByPaymentId(paymentId);
-        verify(repository).delete(paymentEntity);
+        verify(repository).deleteByCardIdAndPaymentId(cardId, paymentId);
+        verify(repository, never()).delete(any(CardPayment.class));
     }
 
     @Test
     void deletePayment_WrongCardId() {
         // Arrange
         UUID wrongCardId = UUID.randomUUID();
-        when(repository.findByPaymentId(paymentId)).thenReturn(Mono.just(paymentEntity));
+        when(repository.deleteByCardIdAndPaymentId(wrongCardId, paymentId)).thenReturn(Mono.just(0));
 
         // Act & Assert
         StepVerifier.create(service.deletePayment(wrongCardId, paymentId))
-                .expectError(RuntimeException.class)
-                .verify();
+                .verifyComplete();
 
-        verify(repository).findByPaymentId(paymentId);
+        verify(repository).deleteByCardIdAndPaymentId(wrongCardId, paymentId);
         verify(repository, never()).delete(any(CardPayment.class));
     }
 }
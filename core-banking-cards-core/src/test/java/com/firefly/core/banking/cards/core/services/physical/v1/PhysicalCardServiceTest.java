@@ -21,6 +21,8 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.physical.v1.PhysicalCardMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.physical.v1.PhysicalCardDTO;
 import com.firefly.core.banking.cards.models.entities.physical.v1.PhysicalCard;
 import com.firefly.core.banking.cards.models.repositories.physical.v1.PhysicalCardRepository;
@@ -30,11 +32,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -52,6 +56,12 @@ public class PhysicalCardServiceTest {
     @Mock
     private PhysicalCardMapper mapper;
 
+    @Spy
+    private PaginationQueryTemplate paginationQueryTemplate = new PaginationQueryTemplate();
+
+    @Mock
+    private PartialUpdateTemplate partialUpdateTemplate;
+
     @InjectMocks
     private PhysicalCardServiceImpl service;
 
@@ -174,7 +184,7 @@ public class PhysicalCardServiceTest {
     @Test
     void getPhysicalCard_Success() {
         // Arrange
-        when(repository.findByPhysicalCardId(physicalCardId)).thenReturn(Mono.just(physicalCardEntity));
+        when(repository.findByCardIdAndPhysicalCardId(cardId, physicalCardId)).thenReturn(Mono.just(physicalCardEntity));
         when(mapper.toDTO(any(PhysicalCard.class))).thenReturn(physicalCardDTO);
 
         // Act & Assert
@@ -182,46 +192,44 @@ public class PhysicalCardServiceTest {
                 .expectNext(physicalCardDTO)
                 .verifyComplete();
 
-        verify(repository).findByPhysicalCardId(physicalCardId);
+        verify(repository).findByCardIdAndPhysicalCardId(cardId, physicalCardId);
         verify(mapper).toDTO(physicalCardEntity);
     }
 
     @Test
     void getPhysicalCard_NotFound() {
         // Arrange
-        when(repository.findByPhysicalCardId(physicalCardId)).thenReturn(Mono.empty());
+        when(repository.findByCardIdAndPhysicalCardId(cardId, physicalCardId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.getPhysicalCard(cardId, physicalCardId))
                 .verifyComplete();
 
-        verify(repository).findByPhysicalCardId(physicalCardId);
+        verify(repository).findByCardIdAndPhysicalCardId(cardId, physicalCardId);
         verify(mapper, never()).toDTO(any(PhysicalCard.class));
     }
 
     @Test
     void getPhysicalCard_WrongCard() {
         // Arrange
-        PhysicalCard wrongCardPhysicalCard = new PhysicalCard();
-        wrongCardPhysicalCard.setPhysicalCardId(physicalCardId);
-        wrongCardPhysicalCard.setCardId(UUID.randomUUID()); // Different card ID
-
-        when(repository.findByPhysicalCardId(physicalCardId)).thenReturn(Mono.just(wrongCardPhysicalCard));
+        UUID wrongCardId = UUID.randomUUID();
+        when(repository.findByCardIdAndPhysicalCardId(wrongCardId, physicalCardId)).thenReturn(Mono.empty());
 
         // Act & Assert
-        StepVerifier.create(service.getPhysicalCard(cardId, physicalCardId))
+        StepVerifier.create(service.getPhysicalCard(wrongCardId, physicalCardId))
                 .verifyComplete();
 
-        verify(repository).findByPhysicalCardId(physicalCardId);
+        verify(repository).findByCardIdAndPhysicalCardId(wrongCardId, physicalCardId);
         verify(mapper, never()).toDTO(any(PhysicalCard.class));
     }
 
     @Test
     void updatePhysicalCard_Success() {
         // Arrange
-        when(repository.findByPhysicalCardId(physicalCardId)).thenReturn(Mono.just(physicalCardEntity));
         when(mapper.toEntity(any(PhysicalCardDTO.class))).thenReturn(physicalCardEntity);
-        when(repository.save(any(PhysicalCard.class))).thenReturn(Mono.just(physicalCardEntity));
+        when(partialUpdateTemplate.replace(eq(PhysicalCard.class), eq(physicalCardEntity),
+                eq(Map.of("physical_card_id", physicalCardId, "card_id", cardId))))
+                .thenReturn(Mono.just(physicalCardEntity));
         when(mapper.toDTO(any(PhysicalCard.class))).thenReturn(physicalCardDTO);
 
         // Act & Assert
@@ -229,23 +237,22 @@ public class PhysicalCardServiceTest {
                 .expectNext(physicalCardDTO)
                 .verifyComplete();
 
-        verify(repository).findByPhysicalCardId(physicalCardId);
-        verify(mapper).toEntity(physicalCardDTO);
-        verify(repository).save(physicalCardEntity);
+        verify(repository, never()).save(any(PhysicalCard.class));
         verify(mapper).toDTO(physicalCardEntity);
     }
 
     @Test
     void updatePhysicalCard_NotFound() {
         // Arrange
-        when(repository.findByPhysicalCardId(physicalCardId)).thenReturn(Mono.empty());
+        when(mapper.toEntity(any(PhysicalCardDTO.class))).thenReturn(physicalCardEntity);
+        when(partialUpdateTemplate.replace(eq(PhysicalCard.class), eq(physicalCardEntity),
+                eq(Map.of("physical_card_id", physicalCardId, "card_id", cardId))))
+                .thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.updatePhysicalCard(cardId, physicalCardId, physicalCardDTO))
                 .verifyComplete();
 
-        verify(repository).findByPhysicalCardId(physicalCardId);
-        verify(mapper, never()).toEntity(any(PhysicalCardDTO.class));
         verify(repository, never()).save(any(PhysicalCard.class));
         verify(mapper, never()).toDTO(any(PhysicalCard.class));
     }
@@ -253,18 +260,16 @@ public class PhysicalCardServiceTest {
     @Test
     void updatePhysicalCard_WrongCard() {
         // Arrange
-        PhysicalCard wrongCardPhysicalCard = new PhysicalCard();
-        wrongCardPhysicalCard.setPhysicalCardId(physicalCardId);
-        wrongCardPhysicalCard.setCardId(UUID.randomUUID()); // Different card ID
-
-        when(repository.findByPhysicalCardId(physicalCardId)).thenReturn(Mono.just(wrongCardPhysicalCard));
+        UUID wrongCardId = UUID.randomUUID();
+        when(mapper.toEntity(any(PhysicalCardDTO.class))).thenReturn(physicalCardEntity);
+        when(partialUpdateTemplate.replace(eq(PhysicalCard.class), eq(physicalCardEntity),
+                eq(Map.of("physical_card_id", physicalCardId, "card_id", wrongCardId))))
+                .thenReturn(Mono.empty());
 
         // Act & Assert
-        StepVerifier.create(service.updatePhysicalCard(cardId, physicalCardId, physicalCardDTO))
+        StepVerifier.create(service.updatePhysicalCard(wrongCardId, physicalCardId, physicalCardDTO))
                 .verifyComplete();
 
-        verify(repository).findByPhysicalCardId(physicalCardId);
-        verify(mapper, never()).toEntity(any(PhysicalCardDTO.class));
         verify(repository, never()).save(any(PhysicalCard.class));
         verify(mapper, never()).toDTO(any(PhysicalCard.class));
     }
@@ -272,44 +277,39 @@ public class PhysicalCardServiceTest {
     @Test
     void deletePhysicalCard_Success() {
         // Arrange
-        when(repository.findByPhysicalCardId(physicalCardId)).thenReturn(Mono.just(physicalCardEntity));
-        when(repository.delete(physicalCardEntity)).thenReturn(Mono.empty());
+        when(repository.deleteByCardIdAndPhysicalCardId(cardId, physicalCardId)).thenReturn(Mono.just(1));
 
         // Act & Assert
         StepVerifier.create(service.deletePhysicalCard(cardId, physicalCardId))
                 .verifyComplete();
 
-        verify(repository).findByPhysicalCardId(physicalCardId);
-        verify(repository).delete(physicalCardEntity);
+        verify(repository).deleteByCardIdAndPhysicalCardId(cardId, physicalCardId);
+        verify(repository, never()).delete(any(PhysicalCard.class));
     }
 
     @Test
     void deletePhysicalCard_NotFound() {
         // Arrange
-        when(repository.findByPhysicalCardId(physicalCardId)).thenReturn(Mono.empty());
+        when(repository.deleteByCardIdAndPhysicalCardId(cardId, physicalCardId)).thenReturn(Mono.just(0));
 
         // Act & Assert
         StepVerifier.create(service.deletePhysicalCard(cardId, physicalCardId))
                 .verifyComplete();
 
-        verify(repository).findByPhysicalCardId(physicalCardId);
-        verify(repository, never()).delete(any(PhysicalCard.class));
+        verify(repository).deleteByCardIdAndPhysicalCardId(cardId, physicalCardId);
     }
 
     @Test
     void deletePhysicalCard_WrongCard() {
         // Arrange
-        PhysicalCard wrongCardPhysicalCard = new PhysicalCard();
-        wrongCardPhysicalCard.setPhysicalCardId(physicalCardId);
-        wrongCardPhysicalCard.setCardId(UUID.randomUUID()); // Different card ID
-
-        when(repository.findByPhysicalCardId(physicalCardId)).thenReturn(Mono.just(wrongCardPhysicalCard));
+        UUID wrongCardId = UUID.randomUUID();
+        when(repository.deleteByCardIdAndPhysicalCardId(wrongCardId, physicalCardId)).thenReturn(Mono.just(0));
 
         // Act & Assert
-        StepVerifier.create(service.deletePhysicalCard(cardId, physicalCardId))
+        StepVerifier.create(service.deletePhysicalCard(wrongCardId, physicalCardId))
                 .verifyComplete();
 
-        verify(repository).findByPhysicalCardId(physicalCardId);
+        verify(repository).deleteByCardIdAndPhysicalCardId(wrongCardId, physicalCardId);
         verify(repository, never()).delete(any(PhysicalCard.class));
     }
 }
\ No newline at end of file
@@ -21,6 +21,8 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.promotion.v1.CardPromotionMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.promotion.v1.CardPromotionDTO;
 import com.firefly.core.banking.cards.models.entities.promotion.v1.CardPromotion;
 import com.firefly.core.banking.cards.models.repositories.promotion.v1.CardPromotionRepository;
@@ -30,11 +32,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -52,6 +56,12 @@ public class CardPromotionServiceTest {
     @Mock
     private CardPromotionMapper mapper;
 
+    @Spy
+    private PaginationQueryTemplate paginationQueryTemplate = new PaginationQueryTemplate();
+
+    @Mock
+    private PartialUpdateTemplate partialUpdateTemplate;
+
     @InjectMocks
     private CardPromotionServiceImpl service;
 
@@ -134,7 +144,7 @@ public class CardPromotionServiceTest {
     @Test
     void getPromotion_Success() {
         // Arrange
-        when(repository.findByPromotionId(promotionId)).thenReturn(Mono.just(promotionEntity));
+        when(repository.findByCardIdAndPromotionId(cardId, promotionId)).thenReturn(Mono.just(promotionEntity));
         when(mapper.toDTO(any(CardPromotion.class))).thenReturn(promotionDTO);
 
         // Act & Assert
@@ -142,7 +152,7 @@ public class CardPromotionServiceTest {
                 .expectNext(promotionDTO)
                 .verifyComplete();
 
-        verify(repository).findByPromotionId(promotionId);
+        verify(repository).findByCardIdAndPromotionId(cardId, promotionId);
         verify(mapper).toDTO(promotionEntity);
     }
 
@@ -150,23 +160,23 @@ public class CardPromotionServiceTest {
     void getPromotion_WrongCardId() {
         // Arrange
         UUID wrongCardId = UUID.randomUUID();
-        when(repository.findByPromotionId(promotionId)).thenReturn(Mono.just(promotionEntity));
+        when(repository.findByCardIdAndPromotionId(wrongCardId, promotionId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.getPromotion(wrongCardId, promotionId))
-                .expectError(RuntimeException.class)
-                .verify();
+                .verifyComplete();
 
-        verify(repository).findByPromotionId(promotionId);
+        verify(repository).findByCardIdAndPromotionId(wrongCardId, promotionId);
         verify(mapper, never()).toDTO(any(CardPromotion.class));
     }
 
     @Test
     void updatePromotion_Success() {
         // Arrange
-        when(repository.findByPromotionId(promotionId)).thenReturn(Mono.just(promotionEntity));
         when(mapper.toEntity(any(CardPromotionDTO.class))).thenReturn(promotionEntity);
-        when(repository.save(any(CardPromotion.class))).thenReturn(Mono.just(promotionEntity));
+        when(partialUpdateTemplate.replace(eq(CardPromotion.class), eq(promotionEntity),
+                eq(Map.of("promotion_id", promotionId, "card_id", cardId))))
+                .thenReturn(Mono.just(promotionEntity));
         when(mapper.toDTO(any(CardPromotion.class))).thenReturn(promotionDTO);
 
         // Act & Assert
@@ -174,9 +184,7 @@ public class CardPromotionServiceTest {
                 .expectNext(promotionDTO)
                 .verifyComplete();
 
-        verify(repository).findByPromotionId(promotionId);
-        verify(mapper).toEntity(promotionDTO);
-        verify(repository).save(promotionEntity);
+        verify(repository, never()).save(any(CardPromotion.class));
         verify(mapper).toDTO(promotionEntity);
     }
 
@@ -184,14 +192,15 @@ public class CardPromotionServiceTest {
     void updatePromotion_WrongCardId() {
         // Arrange
         UUID wrongCardId = UUID.randomUUID();
-        when(repository.findByPromotionId(promotionId)).thenReturn(Mono.just(promotionEntity));
+        when(mapper.toEntity(any(CardPromotionDTO.class))).thenReturn(promotionEntity);
+        when(partialUpdateTemplate.replace(eq(CardPromotion.class), eq(promotionEntity),
+                eq(Map.of("promotion_id", promotionId, "card_id", wrongCardId))))
+                .thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.updatePromotion(wrongCardId, promotionId, promotionDTO))
-                .expectError(RuntimeException.class)
-                .verify();
+                .verifyComplete();
 
-        verify(repository).findByPromotionId(promotionId);
         verify(repository, never()).save(any(CardPromotion.class));
         verify(mapper, never()).toDTO(any(CardPromotion.class));
     }
@@ -199,29 +208,27 @@ public class CardPromotionServiceTest {
     @Test
     void deletePromotion_Success() {
         // Arrange
-        when(repository.findByPromotionId(promotionId)).thenReturn(Mono.just(promotionEntity));
-        when(repository.delete(promotionEntity)).thenReturn(Mono.empty());
+        when(repository.deleteByCardIdAndPromotionId(cardId, promotionId)).thenReturn(Mono.just(1));
 
         // Act & Assert
         StepVerifier.create(service.deletePromotion(cardId, promotionId))
                 .verifyComplete();
 
-        verify(repository).findByPromotionId(promotionId);
-        verify(repository).delete(promotionEntity);
+        verify(repository).deleteByCardIdAndPromotionId(cardId, promotionId);
+        verify(repository, never()).delete(any(CardPromotion.class));
     }
 
     @Test
     void deletePromotion_WrongCardId() {
         // Arrange
         UUID wrongCardId = UUID.randomUUID();
-        when(repository.findByPromotionId(promotionId)).thenReturn(Mono.just(promotionEntity));
+        when(repository.deleteByCardIdAndPromotionId(wrongCardId, promotionId)).thenReturn(Mono.just(0));
 
         // Act & Assert
         StepVerifier.create(service.deletePromotion(wrongCardId, promotionId))
-                .expectError(RuntimeException.class)
-                .verify();
+                .verifyComplete();
 
-        verify(repository).findByPromotionId(promotionId);
+        verify(repository).deleteByCardIdAndPromotionId(wrongCardId, promotionId);
         verify(repository, never()).delete(any(CardPromotion.class));
     }
 }
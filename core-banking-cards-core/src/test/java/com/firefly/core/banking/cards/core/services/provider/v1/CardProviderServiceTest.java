@@ -21,6 +21,8 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.provider.v1.CardProviderMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.provider.v1.CardProviderDTO;
 import com.firefly.core.banking.cards.interfaces.enums.provider.v1.ProviderStatusEnum;
 import com.firefly.core.banking.cards.models.entities.provider.v1.CardProvider;
@@ -31,11 +33,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -53,6 +57,12 @@ public class CardProviderServiceTest {
     @Mock
     private CardProviderMapper mapper;
 
+    @Spy
+    private PaginationQueryTemplate paginationQueryTemplate = new PaginationQueryTemplate();
+
+    @Mock
+    private PartialUpdateTemplate partialUpdateTemplate;
+
     @InjectMocks
     private CardProviderServiceImpl service;
 
@@ -187,7 +197,7 @@ public class CardProviderServiceTest {
     @Test
     void getProvider_Success() {
         // Arrange
-        when(repository.findById(providerId)).thenReturn(Mono.just(providerEntity));
+        when(repository.findByCardIdAndCardProviderId(cardId, providerId)).thenReturn(Mono.just(providerEntity));
         when(mapper.toDTO(any(CardProvider.class))).thenReturn(providerDTO);
 
         // Act & Assert
@@ -195,46 +205,44 @@ public class CardProviderServiceTest {
                 .expectNext(providerDTO)
                 .verifyComplete();
 
-        verify(repository).findById(providerId);
+        verify(repository).findByCardIdAndCardProviderId(cardId, providerId);
         verify(mapper).toDTO(providerEntity);
     }
 
     @Test
     void getProvider_NotFound() {
         // Arrange
-        when(repository.findById(providerId)).thenReturn(Mono.empty());
+        when(repository.findByCardIdAndCardProviderId(cardId, providerId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.getProvider(cardId, providerId))
                 .verifyComplete();
 
-        verify(repository).findById(providerId);
+        verify(repository).findByCardIdAndCardProviderId(cardId, providerId);
         verify(mapper, never()).toDTO(any(CardProvider.class));
     }
 
     @Test
     void getProvider_WrongCard() {
         // Arrange
-        CardProvider wrongCardProvider = new CardProvider();
-        wrongCardProvider.setCardProviderId(providerId);
-        wrongCardProvider.setCardId(UUID.randomUUID()); // Different card ID
-
-        when(repository.findById(providerId)).thenReturn(Mono.just(wrongCardProvider));
+        UUID wrongCardId = UUID.randomUUID();
+        when(repository.findByCardIdAndCardProviderId(wrongCardId, providerId)).thenReturn(Mono.empty());
 
         // Act & Assert
-        StepVerifier.create(service.getProvider(cardId, providerId))
+        StepVerifier.create(service.getProvider(wrongCardId, providerId))
                 .verifyComplete();
 
-        verify(repository).findById(providerId);
+        verify(repository).findByCardIdAndCardProviderId(wrongCardId, providerId);
         verify(mapper, never()).toDTO(any(CardProvider.class));
     }
 
     @Test
     void updateProvider_Success() {
         // Arrange
-        when(repository.findById(providerId)).thenReturn(Mono.just(providerEntity));
         when(mapper.toEntity(any(CardProviderDTO.class))).thenReturn(providerEntity);
-        when(repository.save(any(CardProvider.class))).thenReturn(Mono.just(providerEntity));
+        when(partialUpdateTemplate.replace(eq(CardProvider.class), eq(providerEntity),
+                eq(Map.of("card_provider_id", providerId, "card_id", cardId))))
+                .thenReturn(Mono.just(providerEntity));
         when(mapper.toDTO(any(CardProvider.class))).thenReturn(providerDTO);
 
         // Act & Assert
@@ -242,23 +250,22 @@ public class CardProviderServiceTest {
                 .expectNext(providerDTO)
                 .verifyComplete();
 
-        verify(repository).findById(providerId);
-        verify(mapper).toEntity(providerDTO);
-        verify(repository).save(providerEntity);
+        verify(repository, never()).save(any(CardProvider.class));
         verify(mapper).toDTO(providerEntity);
     }
 
     @Test
     void updateProvider_NotFound() {
         // Arrange
-        when(repository.findById(providerId)).thenReturn(Mono.empty());
+        when(mapper.toEntity(any(CardProviderDTO.class))).thenReturn(providerEntity);
+        when(partialUpdateTemplate.replace(eq(CardProvider.class), eq(providerEntity),
+                eq(Map.of("card_provider_id", providerId, "card_id", cardId))))
+                .thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.updateProvider(cardId, providerId, providerDTO))
                 .verifyComplete();
 
-        verify(repository).findById(providerId);
-        verify(mapper, never()).toEntity(any(CardProviderDTO.class));
         verify(repository, never()).save(any(CardProvider.class));
         verify(mapper, never()).toDTO(any(CardProvider.class));
     }
@@ -266,18 +273,16 @@ public class CardProviderServiceTest {
     @Test
     void updateProvider_WrongCard() {
         // Arrange
-        CardProvider wrongCardProvider = new CardProvider();
-        wrongCardProvider.setCardProviderId(providerId);
-        wrongCardProvider.setCardId(UUID.randomUUID()); // Different card ID
-
-        when(repository.findById(providerId)).thenReturn(Mono.just(wrongCardProvider));
+        UUID wrongCardId = UUID.randomUUID();
+        when(mapper.toEntity(any(CardProviderDTO.class))).thenReturn(providerEntity);
+        when(partialUpdateTemplate.replace(eq(CardProvider.class), eq(providerEntity),
+                eq(Map.of("card_provider_id", providerId, "card_id", wrongCardId))))
+                .thenReturn(Mono.empty());
 
         // Act & Assert
-        StepVerifier.create(service.updateProvider(cardId, providerId, providerDTO))
+        StepVerifier.create(service.updateProvider(wrongCardId, providerId, providerDTO))
                 .verifyComplete();
 
-        verify(repository).findById(providerId);
-        verify(mapper, never()).toEntity(any(CardProviderDTO.class));
         verify(repository, never()).save(any(CardProvider.class));
         verify(mapper, never()).toDTO(any(CardProvider.class));
     }
@@ -285,44 +290,39 @@ public class CardProviderServiceTest {
     @Test
     void deleteProvider_Success() {
         // Arrange
-        when(repository.findById(providerId)).thenReturn(Mono.just(providerEntity));
-        when(repository.delete(providerEntity)).thenReturn(Mono.empty());
+        when(repository.deleteByCardIdAndCardProviderId(cardId, providerId)).thenReturn(Mono.just(1));
 
         // Act & Assert
         StepVerifier.create(service.deleteProvider(cardId, providerId))
                 .verifyComplete();
 
-        verify(repository).findById(providerId);
-        verify(repository).delete(providerEntity);
+        verify(repository).deleteByCardIdAndCardProviderId(cardId, providerId);
+        verify(repository, never()).delete(any(CardProvider.class));
     }
 
     @Test
     void deleteProvider_NotFound() {
         // Arrange
-        when(repository.findById(providerId)).thenReturn(Mono.empty());
+        when(repository.deleteByCardIdAndCardProviderId(cardId, providerId)).thenReturn(Mono.just(0));
 
         // Act & Assert
         StepVerifier.create(service.deleteProvider(cardId, providerId))
                 .verifyComplete();
 
-        verify(repository).findById(providerId);
-        verify(repository, never()).delete(any(CardProvider.class));
+        verify(repository).deleteByCardIdAndCardProviderId(cardId, providerId);
     }
 
     @Test
     void deleteProvider_WrongCard() {
         // Arrange
-        CardProvider wrongCardProvider = new CardProvider();
-        wrongCardProvider.setCardProviderId(providerId);
-        wrongCardProvider.setCardId(UUID.randomUUID()); // Different card ID
-
-        when(repository.findById(providerId)).thenReturn(Mono.just(wrongCardProvider));
+        UUID wrongCardId = UUID.randomUUID();
+        when(repository.deleteByCardIdAndCardProviderId(wrongCardId, providerId)).thenReturn(Mono.just(0));
 
         // Act & Assert
-        StepVerifier.create(service.deleteProvider(cardId, providerId))
+        StepVerifier.create(service.deleteProvider(wrongCardId, providerId))
                 .verifyComplete();
 
-        verify(repository).findById(providerId);
+        verify(repository).deleteByCardIdAndCardProviderId(wrongCardId, providerId);
         verify(repository, never()).delete(any(CardProvider.class));
     }
 }
\ No newline at end of file
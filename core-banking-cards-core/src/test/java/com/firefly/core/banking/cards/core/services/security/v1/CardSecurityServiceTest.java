@@ -21,6 +21,8 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.security.v1.CardSecurityMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.security.v1.CardSecurityDTO;
 import com.firefly.core.banking.cards.interfaces.enums.security.v1.SecurityFeatureEnum;
 import com.firefly.core.banking.cards.models.entities.security.v1.CardSecurity;
@@ -31,11 +33,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -53,6 +57,12 @@ public class CardSecurityServiceTest {
     @Mock
     private CardSecurityMapper mapper;
 
+    @Spy
+    private PaginationQueryTemplate paginationQueryTemplate = new PaginationQueryTemplate();
+
+    @Mock
+    private PartialUpdateTemplate partialUpdateTemplate;
+
     @InjectMocks
     private CardSecurityServiceImpl service;
 
@@ -157,7 +167,7 @@ public class CardSecurityServiceTest {
     @Test
     void getSecuritySetting_Success() {
         // Arrange
-        when(repository.findByCardSecurityId(securityId)).thenReturn(Mono.just(securityEntity));
+        when(repository.findByCardIdAndCardSecurityId(cardId, securityId)).thenReturn(Mono.just(securityEntity));
         when(mapper.toDTO(any(CardSecurity.class))).thenReturn(securityDTO);
 
         // Act & Assert
@@ -165,61 +175,44 @@ public class CardSecurityServiceTest {
                 .expectNext(securityDTO)
                 .verifyComplete();
 
-        verify(repository).findByCardSecurityId(securityId);
+        verify(repository).findByCardIdAndCardSecurityId(cardId, securityId);
         verify(mapper).toDTO(securityEntity);
     }
 
     @Test
     void getSecuritySetting_NotFound() {
         // Arrange
-        when(repository.findByCardSecurityId(securityId)).thenReturn(Mono.empty());
+        when(repository.findByCardIdAndCardSecurityId(cardId, securityId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.getSecuritySetting(cardId, securityId))
                 .verifyComplete();
 
-        verify(repository).findByCardSecurityId(securityId);
+        verify(repository).findByCardIdAndCardSecurityId(cardId, securityId);
         verify(mapper, never()).toDTO(any(CardSecurity.class));
     }
 
     @Test
     void getSecuritySetting_WrongCard() {
         // Arrange
-        LocalDateTime now = LocalDateTime.now();
-        CardSecurity wrongCardSecurity = new CardSecurity();
-        wrongCardSecurity.setCardSecurityId(securityId);
-        wrongCardSecurity.setCardId(wrongCardId);
-        wrongCardSecurity.setSecurityFeatureName("PIN_ENABLED");
-        wrongCardSecurity.setSecurityFeatureCode("PIN");
-        wrongCardSecurity.setIsEnabled(true);
-        wrongCardSecurity.setIsMandatory(true);
-        wrongCardSecurity.setActivationDate(now);
-        wrongCardSecurity.setExpirationDate(now.plusYears(1));
-        wrongCardSecurity.setLastUpdatedDate(now);
-        wrongCardSecurity.setIsSystemDefault(true);
-        wrongCardSecurity.setIsProgramDefault(true);
-        wrongCardSecurity.setIsPartyConfigurable(true);
-        wrongCardSecurity.setSupportsPin(true);
-
-        when(repository.findByCardSecurityId(securityId)).thenReturn(Mono.just(wrongCardSecurity));
+        UUID wrongCardId = UUID.randomUUID();
+        when(repository.findByCardIdAndCardSecurityId(wrongCardId, securityId)).thenReturn(Mono.empty());
 
         // Act & Assert
-        StepVerifier.create(service.getSecuritySetting(cardId, securityId))
-                .expectErrorMatches(throwable ->
-                    throwable instanceof RuntimeException &&
-                    throwable.getMessage().equals("CardSecurity not found for the specified card."))
-                .verify();
+        StepVerifier.create(service.getSecuritySetting(wrongCardId, securityId))
+                .verifyComplete();
 
-        verify(repository).findByCardSecurityId(securityId);
+        verify(repository).findByCardIdAndCardSecurityId(wrongCardId, securityId);
         verify(mapper, never()).toDTO(any(CardSecurity.class));
     }
 
     @Test
     void updateSecuritySetting_Success() {
         // Arrange
-        when(repository.findByCardSecurityId(securityId)).thenReturn(Mono.just(securityEntity));
         when(mapper.toEntity(any(CardSecurityDTO.class))).thenReturn(securityEntity);
-        when(repository.save(any(CardSecurity.class))).thenReturn(Mono.just(securityEntity));
+        when(partialUpdateTemplate.replace(eq(CardSecurity.class), eq(securityEntity),
+                eq(Map.of("card_security_id", securityId, "card_id", cardId))))
+                .thenReturn(Mono.just(securityEntity));
         when(mapper.toDTO(any(CardSecurity.class))).thenReturn(securityDTO);
 
         // Act & Assert
@@ -227,23 +220,22 @@ public class CardSecurityServiceTest {
                 .expectNext(securityDTO)
                 .verifyComplete();
 
-        verify(repository).findByCardSecurityId(securityId);
-        verify(mapper).toEntity(securityDTO);
-        verify(repository).save(securityEntity);
+        verify(repository, never()).save(any(CardSecurity.class));
         verify(mapper).toDTO(securityEntity);
     }
 
     @Test
     void updateSecuritySetting_NotFound() {
         // Arrange
-        when(repository.findByCardSecurityId(securityId)).thenReturn(Mono.empty());
+        when(mapper.toEntity(any(CardSecurityDTO.class))).thenReturn(securityEntity);
+        when(partialUpdateTemplate.replace(eq(CardSecurity.class), eq(securityEntity),
+                eq(Map.of("card_security_id", securityId, "card_id", cardId))))
+                .thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.updateSecuritySetting(cardId, securityId, securityDTO))
                 .verifyComplete();
 
-        verify(repository).findByCardSecurityId(securityId);
-        verify(mapper, never()).toEntity(any(CardSecurityDTO.class));
         verify(repository, never()).save(any(CardSecurity.class));
         verify(mapper, never()).toDTO(any(CardSecurity.class));
     }
@@ -251,33 +243,16 @@ public class CardSecurityServiceTest {
     @Test
     void updateSecuritySetting_WrongCard() {
         // Arrange
-        LocalDateTime now = LocalDateTime.now();
-        CardSecurity wrongCardSecurity = new CardSecurity();
-        wrongCardSecurity.setCardSecurityId(securityId);
-        wrongCardSecurity.setCardId(wrongCardId);
-        wrongCardSecurity.setSecurityFeatureName("PIN_ENABLED");
-        wrongCardSecurity.setSecurityFeatureCode("PIN");
-        wrongCardSecurity.setIsEnabled(true);
-        wrongCardSecurity.setIsMandatory(true);
-        wrongCardSecurity.setActivationDate(now);
-        wrongCardSecurity.setExpirationDate(now.plusYears(1));
-        wrongCardSecurity.setLastUpdatedDate(now);
-        wrongCardSecurity.setIsSystemDefault(true);
-        wrongCardSecurity.setIsProgramDefault(true);
-        wrongCardSecurity.setIsPartyConfigurable(true);
-        wrongCardSecurity.setSupportsPin(true);
-
-        when(repository.findByCardSecurityId(securityId)).thenReturn(Mono.just(wrongCardSecurity));
+        UUID wrongCardId = UUID.randomUUID();
+        when(mapper.toEntity(any(CardSecurityDTO.class))).thenReturn(securityEntity);
+        when(partialUpdateTemplate.replace(eq(CardSecurity.class), eq(securityEntity),
+                eq(Map.of("card_security_id", securityId, "card_id", wrongCardId))))
+                .thenReturn(Mono.empty());
 
         // Act & Assert
-        StepVerifier.create(service.updateSecuritySetting(cardId, securityId, securityDTO))
-                .expectErrorMatches(throwable ->
-                    throwable instanceof RuntimeException &&
-                    throwable.getMessage().equals("CardSecurity not found for the specified card."))
-                .verify();
+        StepVerifier.create(service.updateSecuritySetting(wrongCardId, securityId, securityDTO))
+                .verifyComplete();
 
-        verify(repository).findByCardSecurityId(securityId);
-        verify(mapper, never()).toEntity(any(CardSecurityDTO.class));
         verify(repository, never()).save(any(CardSecurity.class));
         verify(mapper, never()).toDTO(any(CardSecurity.class));
     }
@@ -285,59 +260,39 @@ public class CardSecurityServiceTest {
     @Test
     void deleteSecuritySetting_Success() {
         // Arrange
-        when(repository.findByCardSecurityId(securityId)).thenReturn(Mono.just(securityEntity));
-        when(repository.deleteById(securityId)).thenReturn(Mono.empty());
+        when(repository.deleteByCardIdAndCardSecurityId(cardId, securityId)).thenReturn(Mono.just(1));
 
         // Act & Assert
         StepVerifier.create(service.deleteSecuritySetting(cardId, securityId))
                 .verifyComplete();
 
-        verify(repository).findByCardSecurityId(securityId);
-        verify(repository).deleteById(securityId);
+        verify(repository).deleteByCardIdAndCardSecurityId(cardId, securityId);
+        verify(repository, never()).delete(any(CardSecurity.class));
     }
 
     @Test
     void deleteSecuritySetting_NotFound() {
         // Arrange
-        when(repository.findByCardSecurityId(securityId)).thenReturn(Mono.empty());
+        when(repository.deleteByCardIdAndCardSecurityId(cardId, securityId)).thenReturn(Mono.just(0));
 
         // Act & Assert
         StepVerifier.create(service.deleteSecuritySetting(cardId, securityId))
                 .verifyComplete();
 
-        verify(repository).findByCardSecurityId(securityId);
-        verify(repository, never()).deleteById(any(UUID.class));
+        verify(repository).deleteByCardIdAndCardSecurityId(cardId, securityId);
     }
 
     @Test
     void deleteSecuritySetting_WrongCard() {
         // Arrange
-        LocalDateTime now = LocalDateTime.now();
-        CardSecurity wrongCardSecurity = new CardSecurity();
-        wrongCardSecurity.setCardSecurityId(securityId);
-        wrongCardSecurity.setCardId(wrongCardId);
-        wrongCardSecurity.setSecurityFeatureName("PIN_ENABLED");
-        wrongCardSecurity.setSecurityFeatureCode("PIN");
-        wrongCardSecurity.setIsEnabled(true);
-        wrongCardSecurity.setIsMandatory(true);
-        wrongCardSecurity.setActivationDate(now);
-        wrongCardSecurity.setExpirationDate(now.plusYears(1));
-        wrongCardSecurity.setLastUpdatedDate(now);
-        wrongCardSecurity.setIsSystemDefault(true);
-        wrongCardSecurity.setIsProgramDefault(true);
-        wrongCardSecurity.setIsPartyConfigurable(true);
-        wrongCardSecurity.setSupportsPin(true);
-
-        when(repository.findByCardSecurityId(securityId)).thenReturn(Mono.just(wrongCardSecurity));
+        UUID wrongCardId = UUID.randomUUID();
+        when(repository.deleteByCardIdAndCardSecurityId(wrongCardId, securityId)).thenReturn(Mono.just(0));
 
         // Act & Assert
-        StepVerifier.create(service.deleteSecuritySetting(cardId, securityId))
-                .expectErrorMatches(throwable ->
-                    throwable instanceof RuntimeException &&
-                    throwable.getMessage().equals("CardSecurity not found for the specified card."))
-                .verify();
+        StepVerifier.create(service.deleteSecuritySetting(wrongCardId, securityId))
+                .verifyComplete();
 
-        verify(repository).findByCardSecurityId(securityId);
-        verify(repository, never()).deleteById(any(UUID.class));
+        verify(repository).deleteByCardIdAndCardSecurityId(wrongCardId, securityId);
+        verify(repository, never()).delete(any(CardSecurity.class));
     }
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.statement.v1;
+
+import com.firefly.core.banking.cards.core.config.CardStatementProperties;
+import com.firefly.core.banking.cards.core.mappers.statement.v1.CardStatementRunMapper;
+import com.firefly.core.banking.cards.interfaces.dtos.statement.v1.CardStatementRunDTO;
+import com.firefly.core.banking.cards.interfaces.enums.statement.v1.StatementRunStatusEnum;
+import com.firefly.core.banking.cards.models.entities.statement.v1.CardStatementRun;
+import com.firefly.core.banking.cards.models.repositories.card.v1.CardRepository;
+import com.firefly.core.banking.cards.models.repositories.statement.v1.CardStatementRunRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CardStatementRunServiceTest {
+
+    @Mock
+    private CardStatementRunRepository repository;
+
+    @Mock
+    private CardRepository cardRepository;
+
+    @Mock
+    private CardStatementRunMapper mapper;
+
+    @Mock
+    private CardStatementRunner runner;
+
+    @Spy
+    private CardStatementProperties properties = new CardStatementProperties();
+
+    @InjectMocks
+    private CardStatementRunServiceImpl service;
+
+    private final UUID runId = UUID.randomUUID();
+    private final LocalDateTime periodStart = LocalDateTime.of(2025, 5, 1, 0, 0);
+    private final LocalDateTime periodEnd = LocalDateTime.of(2025, 6, 1, 0, 0);
+    private CardStatementRun savedRun;
+    private CardStatementRunDTO runDTO;
+
+    @BeforeEach
+    void setUp() {
+        savedRun = new CardStatementRun();
+        savedRun.setRunId(runId);
+
+        runDTO = CardStatementRunDTO.builder()
+                .periodStart(periodStart)
+                .periodEnd(periodEnd)
+                .build();
+
+        lenient().when(mapper.toEntity(any(CardStatementRunDTO.class))).thenAnswer(invocation -> {
+            CardStatementRunDTO dto = invocation.getArgument(0);
+            CardStatementRun run = new CardStatementRun();
+            run.setPeriodStart(dto.getPeriodStart());
+            run.setPeriodEnd(dto.getPeriodEnd());
+            return run;
+        });
+        lenient().when(mapper.toDTO(any(CardStatementRun.class))).thenReturn(runDTO);
+        lenient().when(repository.existsOverlapping(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Mono.just(false));
+        lenient().when(cardRepository.count()).thenReturn(Mono.just(4500L));
+        lenient().when(repository.save(any(CardStatementRun.class))).thenReturn(Mono.just(savedRun));
+        lenient().when(repository.findByRunId(runId)).thenReturn(Mono.just(savedRun));
+    }
+
+    @Test
+    void createRun_SavesPendingRunWithShardsAndLaunchesIt() {
+        // Arrange
+        when(repository.claim(eq(runId), anyLong())).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(service.createRun(runDTO))
+                .expectNext(runDTO)
+                .verifyComplete();
+
+        ArgumentCaptor<CardStatementRun> saved = ArgumentCaptor.forClass(CardStatementRun.class);
+        verify(repository).save(saved.capture());
+        assertNull(saved.getValue().getRunId());
+        assertEquals(StatementRunStatusEnum.PENDING, saved.getValue().getRunStatus());
+        assertEquals(3, saved.getValue().getShardCount());
+        assertEquals(0, saved.getValue().getCompletedShards());
+        assertEquals(periodEnd, saved.getValue().getStatementDate());
+        assertEquals(periodEnd.plusDays(25), saved.getValue().getDueDate());
+        verify(repository).claim(runId, 600L);
+        verify(runner).launch(runId);
+    }
+
+    @Test
+    void createRun_NoCards_UsesOneShard() {
+        // Arrange
+        when(cardRepository.count()).thenReturn(Mono.just(0L));
+        when(repository.claim(eq(runId), anyLong())).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(service.createRun(runDTO))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        ArgumentCaptor<CardStatementRun> saved = ArgumentCaptor.forClass(CardStatementRun.class);
+        verify(repository).save(saved.capture());
+        assertEquals(1, saved.getValue().getShardCount());
+    }
+
+    @Test
+    void createRun_OverlapsRunThatHasNotFailed_Rejected() {
+        // Arrange
+        when(repository.existsOverlapping(periodStart, periodEnd)).thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(service.createRun(runDTO))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verify(repository, never()).save(any(CardStatementRun.class));
+        verifyNoInteractions(runner);
+    }
+
+    @Test
+    void createRun_ConcurrentOverlappingRunWinsTheConstraint_Rejected() {
+        // Arrange
+        when(repository.save(any(CardStatementRun.class)))
+                .thenReturn(Mono.error(new DataIntegrityViolationException("excl_card_statement_run_period")));
+
+        // Act & Assert
+        StepVerifier.create(service.createRun(runDTO))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verifyNoInteractions(runner);
+    }
+
+    @Test
+    void createRun_PeriodEndNotAfterStart_Rejected() {
+        // Arrange
+        runDTO.setPeriodEnd(periodStart);
+
+        // Act & Assert
+        StepVerifier.create(service.createRun(runDTO))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verifyNoInteractions(cardRepository, repository, runner);
+    }
+
+    @Test
+    void createRun_DueDateBeforeStatementDate_Rejected() {
+        // Arrange
+        runDTO.setDueDate(periodEnd.minusDays(1));
+
+        // Act & Assert
+        StepVerifier.create(service.createRun(runDTO))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verifyNoInteractions(cardRepository, repository, runner);
+    }
+
+    @Test
+    void resumeRun_StillRunning_Rejected() {
+        // Arrange
+        when(repository.claim(eq(runId), anyLong())).thenReturn(Mono.just(0));
+
+        // Act & Assert
+        StepVerifier.create(service.resumeRun(runId))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verifyNoInteractions(runner);
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.statement.v1;
+
+import com.firefly.core.banking.cards.core.config.CardStatementProperties;
+import com.firefly.core.banking.cards.core.persistence.BatchInsertTemplate;
+import com.firefly.core.banking.cards.models.entities.statement.v1.CardStatement;
+import com.firefly.core.banking.cards.models.entities.statement.v1.CardStatementRun;
+import com.firefly.core.banking.cards.models.entities.statement.v1.CardStatementRunShard;
+import com.firefly.core.banking.cards.models.repositories.statement.v1.CardStatementRunRepository;
+import com.firefly.core.banking.cards.models.repositories.statement.v1.CardStatementRunShardRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CardStatementRunnerTest {
+
+    @Mock
+    private CardStatementRunRepository repository;
+
+    @Mock
+    private CardStatementRunShardRepository shardRepository;
+
+    @Mock
+    private StatementCursor statementCursor;
+
+    @Mock
+    private BatchInsertTemplate batchInsertTemplate;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Spy
+    private CardStatementProperties properties = new CardStatementProperties();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private CardStatementRunner runner;
+
+    private final UUID runId = UUID.randomUUID();
+    private final UUID shardId = UUID.randomUUID();
+    private final LocalDateTime periodStart = LocalDateTime.of(2025, 5, 1, 0, 0);
+    private final LocalDateTime periodEnd = LocalDateTime.of(2025, 6, 1, 0, 0);
+    private CardStatementRun run;
+    private CardStatementRunShard shard;
+
+    @BeforeEach
+    void setUp() {
+        runner.init();
+
+        run = new CardStatementRun();
+        run.setRunId(runId);
+        run.setPeriodStart(periodStart);
+        run.setPeriodEnd(periodEnd);
+        run.setStatementDate(periodEnd);
+        run.setDueDate(periodEnd.plusDays(25));
+        run.setShardCount(1);
+
+        shard = new CardStatementRunShard();
+        shard.setShardId(shardId);
+        shard.setRunId(runId);
+        shard.setShardIndex(0);
+        shard.setAttempts(1);
+
+        lenient().when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(batchInsertTemplate.insertAll(eq(CardStatement.class), anyList()))
+                .thenAnswer(invocation -> Mono.just((long) invocation.<List<?>>getArgument(1).size()));
+        lenient().when(shardRepository.complete(eq(shardId), eq(1), anyInt())).thenReturn(Mono.just(1));
+        lenient().when(repository.recordShard(eq(runId), anyInt())).thenReturn(Mono.just(1));
+        lenient().when(shardRepository.markFailed(eq(shardId), eq(1), anyString())).thenReturn(Mono.just(1));
+    }
+
+    @Test
+    void generate_FoldsEachCardsEntriesIntoOneStatement() {
+        // Arrange
+        properties.setBatchSize(1);
+        UUID firstCardId = new UUID(1L, 0L);
+        UUID secondCardId = new UUID(2L, 0L);
+        UUID closedCardId = new UUID(3L, 0L);
+        LocalDateTime midPeriod = periodStart.plusDays(10);
+        when(statementCursor.stream(null, null, periodStart, periodEnd)).thenReturn(Flux.just(
+                StatementEntry.card(firstCardId, UUID.randomUUID(), UUID.randomUUID(), "EUR",
+                        new BigDecimal("5000.00"), new BigDecimal("100.00")),
+                StatementEntry.activity(firstCardId, StatementEntry.PURCHASE, new BigDecimal("400.00"), midPeriod),
+                StatementEntry.activity(firstCardId, StatementEntry.PURCHASE, new BigDecimal("100.00"), midPeriod),
+                StatementEntry.activity(firstCardId, StatementEntry.REFUND, new BigDecimal("50.00"), midPeriod),
+                StatementEntry.activity(firstCardId, StatementEntry.FEE, new BigDecimal("10.00"), midPeriod),
+                StatementEntry.interest(firstCardId, new BigDecimal("5.00"), new BigDecimal("0.015"),
+                        new BigDecimal("0.18"), midPeriod),
+                StatementEntry.activity(firstCardId, StatementEntry.PAYMENT, new BigDecimal("100.00"), midPeriod),
+                StatementEntry.card(secondCardId, UUID.randomUUID(), UUID.randomUUID(), "EUR",
+                        new BigDecimal("1000.00"), null),
+                StatementEntry.activity(closedCardId, StatementEntry.PURCHASE, new BigDecimal("20.00"), midPeriod)));
+
+        // Act & Assert
+        StepVerifier.create(runner.generate(run, shard))
+                .verifyComplete();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CardStatement>> batches = ArgumentCaptor.forClass(List.class);
+        verify(batchInsertTemplate, times(2)).insertAll(eq(CardStatement.class), batches.capture());
+        CardStatement first = batches.getAllValues().get(0).get(0);
+        assertEquals(firstCardId, first.getCardId());
+        assertEquals(0, new BigDecimal("500.00").compareTo(first.getTotalPurchases()));
+        assertEquals(0, new BigDecimal("50.00").compareTo(first.getTotalCredits()));
+        assertEquals(0, new BigDecimal("465.00").compareTo(first.getClosingBalance()));
+        assertEquals(0, new BigDecimal("25").compareTo(first.getMinimumPaymentDue()));
+        assertEquals(0, new BigDecimal("4535.00").compareTo(first.getAvailableCredit()));
+        assertEquals(0, new BigDecimal("0.18").compareTo(first.getAnnualPercentageRate()));
+        assertEquals(StatementTotals.PAYMENT_DUE, first.getPaymentStatus());
+        assertEquals(run.getDueDate(), first.getDueDate());
+
+        CardStatement second = batches.getAllValues().get(1).get(0);
+        assertEquals(secondCardId, second.getCardId());
+        assertEquals(0, BigDecimal.ZERO.compareTo(second.getClosingBalance()));
+        assertEquals(StatementTotals.NO_PAYMENT_DUE, second.getPaymentStatus());
+
+        verify(shardRepository).complete(shardId, 1, 2);
+        verify(repository).recordShard(runId, 2);
+        assertEquals(2.0, meterRegistry.get("cards.statements.generated").counter().count());
+    }
+
+    @Test
+    void generate_ShardTakenOver_WritesNothing() {
+        // Arrange
+        UUID cardId = UUID.randomUUID();
+        when(statementCursor.stream(null, null, periodStart, periodEnd)).thenReturn(Flux.just(
+                StatementEntry.card(cardId, UUID.randomUUID(), UUID.randomUUID(), "EUR", null, null)));
+        when(shardRepository.complete(shardId, 1, 1)).thenReturn(Mono.just(0));
+
+        // Act & Assert
+        StepVerifier.create(runner.generate(run, shard))
+                .verifyComplete();
+        verifyNoInteractions(batchInsertTemplate);
+        verify(repository, never()).recordShard(any(), anyInt());
+        verify(shardRepository).markFailed(eq(shardId), eq(1), anyString());
+    }
+
+    @Test
+    void generate_CursorFails_MarksShardFailed() {
+        // Arrange
+        when(statementCursor.stream(null, null, periodStart, periodEnd))
+                .thenReturn(Flux.error(new IllegalStateException("connection reset")));
+
+        // Act & Assert
+        StepVerifier.create(runner.generate(run, shard))
+                .verifyComplete();
+        verify(shardRepository).markFailed(shardId, 1, "connection reset");
+        verify(shardRepository, never()).complete(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void run_ClaimsShardsUntilNoneIsLeft() {
+        // Arrange
+        properties.setParallelism(2);
+        run.setShardCount(2);
+        CardStatementRunShard second = new CardStatementRunShard();
+        second.setShardId(shardId);
+        second.setRunId(runId);
+        second.setShardIndex(1);
+        second.setAttempts(1);
+        when(repository.findByRunId(runId)).thenReturn(Mono.just(run));
+        when(shardRepository.createShards(runId, 2)).thenReturn(Mono.just(2));
+        when(shardRepository.retryFailed(runId)).thenReturn(Mono.just(0));
+        when(shardRepository.claim(eq(runId), anyLong()))
+                .thenReturn(Mono.just(shard), Mono.just(second), Mono.empty());
+        when(statementCursor.stream(any(), any(), eq(periodStart), eq(periodEnd))).thenReturn(Flux.empty());
+        when(repository.failIfShardsFailed(runId)).thenReturn(Mono.just(0));
+
+        // Act & Assert
+        StepVerifier.create(runner.run(runId))
+                .verifyComplete();
+        verify(statementCursor).stream(null, CardStatementRunner.boundary(1, 2), periodStart, periodEnd);
+        verify(statementCursor).stream(CardStatementRunner.boundary(1, 2), null, periodStart, periodEnd);
+        verify(repository, times(2)).recordShard(runId, 0);
+        verify(repository).failIfShardsFailed(runId);
+        verify(repository, never()).markFailed(any(), anyString());
+    }
+
+    @Test
+    void boundary_SplitsCardIdsInPostgresOrder() {
+        // Act & Assert
+        assertNull(CardStatementRunner.boundary(0, 4));
+        assertNull(CardStatementRunner.boundary(4, 4));
+        assertEquals(UUID.fromString("40000000-0000-0000-0000-000000000000"), CardStatementRunner.boundary(1, 4));
+        assertEquals(UUID.fromString("80000000-0000-0000-0000-000000000000"), CardStatementRunner.boundary(2, 4));
+        assertEquals(UUID.fromString("c0000000-0000-0000-0000-000000000000"), CardStatementRunner.boundary(3, 4));
+        String previous = "";
+        for (int index = 1; index < 7; index++) {
+            String boundary = CardStatementRunner.boundary(index, 7).toString();
+            assertTrue(boundary.compareTo(previous) > 0);
+            previous = boundary;
+        }
+    }
+}
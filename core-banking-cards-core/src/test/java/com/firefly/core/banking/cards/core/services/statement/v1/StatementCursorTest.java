@@ -0,0 +1,184 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.statement.v1;
+
+import com.firefly.core.banking.cards.core.config.CardStatementProperties;
+import com.firefly.core.banking.cards.core.mappers.transaction.v1.CardTransactionMapper;
+import com.firefly.core.banking.cards.interfaces.dtos.transaction.v1.CardTransactionDTO;
+import com.firefly.core.banking.cards.interfaces.enums.transaction.v1.TransactionStatusEnum;
+import com.firefly.core.banking.cards.interfaces.enums.transaction.v1.TransactionTypeEnum;
+import com.firefly.core.banking.cards.models.entities.transaction.v1.CardTransaction;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StatementCursorTest {
+
+    @Mock
+    private R2dbcEntityTemplate template;
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @Mock
+    private DatabaseClient.GenericExecuteSpec spec;
+
+    @Mock
+    private RowsFetchSpec<StatementEntry> fetchSpec;
+
+    @Mock
+    private RowMetadata rowMetadata;
+
+    @Spy
+    private CardStatementProperties properties = new CardStatementProperties();
+
+    @InjectMocks
+    private StatementCursor statementCursor;
+
+    private final CardTransactionMapper mapper = Mappers.getMapper(CardTransactionMapper.class);
+
+    private final LocalDateTime periodStart = LocalDateTime.of(2025, 5, 1, 0, 0);
+    private final LocalDateTime periodEnd = LocalDateTime.of(2025, 6, 1, 0, 0);
+
+    private List<Row> rows;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        lenient().when(template.getDatabaseClient()).thenReturn(databaseClient);
+        lenient().when(databaseClient.sql(anyString())).thenReturn(spec);
+        lenient().when(spec.bind(anyString(), any())).thenReturn(spec);
+        lenient().when(spec.filter(any(Function.class))).thenReturn(spec);
+        lenient().when(spec.map(any(BiFunction.class))).thenAnswer(invocation -> {
+            BiFunction<Row, RowMetadata, StatementEntry> mapping = invocation.getArgument(0);
+            lenient().when(fetchSpec.all()).thenReturn(Flux.fromIterable(rows).map(row -> mapping.apply(row, rowMetadata)));
+            return fetchSpec;
+        });
+    }
+
+    @Test
+    void stream_MappedTransaction_CarriesItsAmount() {
+        // Arrange
+        UUID cardId = UUID.randomUUID();
+        CardTransaction purchase = mapper.toEntity(transaction(cardId, TransactionTypeEnum.PURCHASE, "42.10", null));
+        CardTransaction converted = mapper.toEntity(transaction(cardId, TransactionTypeEnum.PURCHASE, "50.00", "46.75"));
+        rows = List.of(transactionRow(columns(purchase)), transactionRow(columns(converted)));
+
+        // Act & Assert
+        StepVerifier.create(statementCursor.stream(null, null, periodStart, periodEnd))
+                .assertNext(entry -> {
+                    assertEquals(cardId, entry.getCardId());
+                    assertEquals(StatementEntry.PURCHASE, entry.getEntryType());
+                    assertEquals(new BigDecimal("42.10"), entry.getAmount());
+                    assertEquals(periodStart.plusDays(3), entry.getEntryTimestamp());
+                })
+                .assertNext(entry -> assertEquals(new BigDecimal("46.75"), entry.getAmount()))
+                .verifyComplete();
+    }
+
+    @Test
+    void sql_TransactionBranchReadsPersistedAmountColumns() {
+        // Arrange
+        Map<String, Object> stored = columns(mapper.toEntity(
+                transaction(UUID.randomUUID(), TransactionTypeEnum.WITHDRAWAL, "20.00", null)));
+
+        // Act
+        String sql = StatementCursor.sql(false, false);
+
+        // Assert
+        assertTrue(sql.contains("COALESCE(billing_amount, transaction_amount)"));
+        assertEquals(new BigDecimal("20.00"), stored.get("transaction_amount"));
+        assertEquals("COMPLETED", String.valueOf(stored.get("transaction_status")));
+        assertEquals("WITHDRAWAL", String.valueOf(stored.get("transaction_type")));
+        assertNotNull(stored.get("transaction_timestamp"));
+    }
+
+    private CardTransactionDTO transaction(UUID cardId, TransactionTypeEnum type, String amount, String billingAmount) {
+        CardTransactionDTO dto = new CardTransactionDTO();
+        dto.setCardId(cardId);
+        dto.setTransactionType(type);
+        dto.setTransactionStatus(TransactionStatusEnum.COMPLETED);
+        dto.setTransactionAmount(new BigDecimal(amount));
+        dto.setTransactionCurrency("USD");
+        if (billingAmount != null) {
+            dto.setBillingAmount(new BigDecimal(billingAmount));
+            dto.setBillingCurrency("EUR");
+        }
+        dto.setCardTransactionTimestamp(periodStart.plusDays(3));
+        return dto;
+    }
+
+    /**
+     * Column values of an entity as the repository would write them.
+     */
+    private static Map<String, Object> columns(CardTransaction transaction) {
+        RelationalPersistentEntity<?> entity = new R2dbcMappingContext().getRequiredPersistentEntity(CardTransaction.class);
+        PersistentPropertyAccessor<CardTransaction> accessor = entity.getPropertyAccessor(transaction);
+        Map<String, Object> columns = new HashMap<>();
+        for (RelationalPersistentProperty property : entity) {
+            columns.put(property.getColumnName().getReference(), accessor.getProperty(property));
+        }
+        return columns;
+    }
+
+    /**
+     * A row of the card_transaction branch of the cursor query, computed from the stored columns.
+     */
+    private static Row transactionRow(Map<String, Object> stored) {
+        Object amount = stored.get("billing_amount") != null ? stored.get("billing_amount") : stored.get("transaction_amount");
+        Row row = mock(Row.class);
+        lenient().when(row.get("card_id", UUID.class)).thenReturn((UUID) stored.get("card_id"));
+        lenient().when(row.get("entry_type", String.class)).thenReturn(String.valueOf(stored.get("transaction_type")));
+        lenient().when(row.get("amount", BigDecimal.class)).thenReturn((BigDecimal) amount);
+        lenient().when(row.get("entry_timestamp", LocalDateTime.class))
+                .thenReturn((LocalDateTime) stored.get("transaction_timestamp"));
+        return row;
+    }
+}
@@ -21,6 +21,8 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.terminal.v1.CardTerminalMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.terminal.v1.CardTerminalDTO;
 import com.firefly.core.banking.cards.models.entities.terminal.v1.CardTerminal;
 import com.firefly.core.banking.cards.models.repositories.terminal.v1.CardTerminalRepository;
@@ -30,11 +32,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -52,6 +56,12 @@ public class CardTerminalServiceTest {
     @Mock
     private CardTerminalMapper mapper;
 
+    @Spy
+    private PaginationQueryTemplate paginationQueryTemplate = new PaginationQueryTemplate();
+
+    @Mock
+    private PartialUpdateTemplate partialUpdateTemplate;
+
     @InjectMocks
     private CardTerminalServiceImpl service;
 
@@ -316,6 +326,37 @@ public class CardTerminalServiceTest {
         verify(mapper, never()).toDTO(any(CardTerminal.class));
     }
 
+    @Test
+    void patchTerminal_Success() {
+        // Arrange
+        when(mapper.toEntity(any(CardTerminalDTO.class))).thenReturn(terminalEntity);
+        when(partialUpdateTemplate.updateNonNull(eq(CardTerminal.class), eq(terminalEntity), eq(Map.of("terminal_id", terminalId))))
+                .thenReturn(Mono.just(terminalEntity));
+        when(mapper.toDTO(any(CardTerminal.class))).thenReturn(terminalDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.patchTerminal(terminalId, terminalDTO))
+                .expectNext(terminalDTO)
+                .verifyComplete();
+
+        verify(repository, never()).findByTerminalId(any(UUID.class));
+        verify(repository, never()).save(any(CardTerminal.class));
+    }
+
+    @Test
+    void patchTerminal_NotFound() {
+        // Arrange
+        when(mapper.toEntity(any(CardTerminalDTO.class))).thenReturn(terminalEntity);
+        when(partialUpdateTemplate.updateNonNull(eq(CardTerminal.class), eq(terminalEntity), eq(Map.of("terminal_id", terminalId))))
+                .thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.patchTerminal(terminalId, terminalDTO))
+                .verifyComplete();
+
+        verify(mapper, never()).toDTO(any(CardTerminal.class));
+    }
+
     @Test
     void deleteTerminal_Success() {
         // Arrange
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.core.services.transaction.v1;
+
+import com.firefly.core.banking.cards.models.entities.transaction.v1.CardTransaction;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CardTransactionCsvTest {
+
+    @Test
+    void header_EndsWithLineBreak() {
+        assertTrue(CardTransactionCsv.HEADER.startsWith("card_transaction_id,card_id,"));
+        assertTrue(CardTransactionCsv.HEADER.endsWith("\r\n"));
+    }
+
+    @Test
+    void line_NullsAreEmptyFields() {
+        // Arrange
+        CardTransaction transaction = new CardTransaction();
+        transaction.setMerchantName("Shop");
+
+        // Act
+        String line = CardTransactionCsv.line(transaction);
+
+        // Assert
+        assertEquals(CardTransactionCsv.HEADER.split(",").length, line.split(",", -1).length);
+        assertTrue(line.contains(",Shop,"));
+    }
+
+    @Test
+    void line_IncludesAmountsAndCurrencies() {
+        // Arrange
+        CardTransaction transaction = new CardTransaction();
+        transaction.setTransactionAmount(new BigDecimal("12.50"));
+        transaction.setTransactionCurrency("GBP");
+        transaction.setBillingAmount(new BigDecimal("14.61"));
+        transaction.setBillingCurrency("EUR");
+
+        // Act
+        String line = CardTransactionCsv.line(transaction);
+
+        // Assert
+        assertTrue(CardTransactionCsv.HEADER.contains(",transaction_amount,transaction_currency,billing_amount,billing_currency,"));
+        assertTrue(line.contains(",12.50,GBP,14.61,EUR,"));
+    }
+
+    @Test
+    void line_QuotesFieldsWithSeparatorsAndQuotes() {
+        // Arrange
+        CardTransaction transaction = new CardTransaction();
+        transaction.setMerchantName("Shop, \"The\" Best");
+        transaction.setInstallmentPlan("line one\nline two");
+
+        // Act
+        String line = CardTransactionCsv.line(transaction);
+
+        // Assert
+        assertTrue(line.contains(",\"Shop, \"\"The\"\" Best\","));
+        assertTrue(line.contains(",\"line one\nline two\","));
+    }
+
+    @Test
+    void header_NamesCardTransactionColumns() {
+        assertTrue(CardTransactionCsv.HEADER.contains(",authorization_code,"));
+        assertTrue(CardTransactionCsv.HEADER.contains(",exchange_rate,"));
+        assertTrue(CardTransactionCsv.HEADER.contains(",entry_mode,is_card_present,installment_plan,is_fraud_suspected,"));
+    }
+
+    @Test
+    void line_NeutralizesFormulasButNotNegativeAmounts() {
+        // Arrange
+        CardTransaction transaction = new CardTransaction();
+        transaction.setMerchantName("=HYPERLINK(\"http://x\",\"y\")");
+        transaction.setTransactionReference("@SUM(A1)");
+        transaction.setInstallmentPlan("-3");
+        transaction.setTransactionAmount(new BigDecimal("-12.50"));
+
+        // Act
+        String line = CardTransactionCsv.line(transaction);
+
+        // Assert
+        assertTrue(line.contains(",\"'=HYPERLINK(\"\"http://x\"\",\"\"y\"\")\","));
+        assertTrue(line.contains(",'@SUM(A1),"));
+        assertTrue(line.contains(",'-3,"));
+        assertTrue(line.contains(",-12.50,"));
+    }
+}
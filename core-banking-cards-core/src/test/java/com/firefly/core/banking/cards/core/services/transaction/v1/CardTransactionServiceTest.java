@@ -21,29 +21,60 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.core.banking.cards.core.config.CardTransactionBatchProperties;
+import com.firefly.core.banking.cards.core.config.CardTransactionExportProperties;
 import com.firefly.core.banking.cards.core.mappers.transaction.v1.CardTransactionMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
+import com.firefly.core.banking.cards.core.pagination.KeysetCursor;
+import com.firefly.core.banking.cards.core.persistence.BatchInsertTemplate;
+import com.firefly.core.banking.cards.core.persistence.StreamingQueryTemplate;
+import com.firefly.core.banking.cards.core.services.balance.v1.BalanceProjection;
+import com.firefly.core.banking.cards.core.services.event.v1.CardEventOutbox;
+import com.firefly.core.banking.cards.core.services.fraud.v1.FraudScoringEngine;
+import com.firefly.core.banking.cards.interfaces.dtos.batch.v1.BatchItemResultDTO;
 import com.firefly.core.banking.cards.interfaces.dtos.transaction.v1.CardTransactionDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.transaction.v1.TransactionExportFilterDTO;
+import com.firefly.core.banking.cards.interfaces.enums.batch.v1.BatchItemStatusEnum;
 import com.firefly.core.banking.cards.interfaces.enums.transaction.v1.TransactionStatusEnum;
 import com.firefly.core.banking.cards.interfaces.enums.transaction.v1.TransactionTypeEnum;
 import com.firefly.core.banking.cards.models.entities.transaction.v1.CardTransaction;
 import com.firefly.core.banking.cards.models.repositories.transaction.v1.CardTransactionRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -53,8 +84,41 @@ public class CardTransactionServiceTest {
     @Mock
     private CardTransactionRepository repository;
 
+    @Spy
+    private CardTransactionMapper mapper = Mappers.getMapper(CardTransactionMapper.class);
+
+    @Spy
+    private PaginationQueryTemplate paginationQueryTemplate = new PaginationQueryTemplate();
+
+    @Mock
+    private PartialUpdateTemplate partialUpdateTemplate;
+
+    @Mock
+    private BatchInsertTemplate batchInsertTemplate;
+
     @Mock
-    private CardTransactionMapper mapper;
+    private Validator validator;
+
+    @Spy
+    private CardTransactionBatchProperties batchProperties = new CardTransactionBatchProperties();
+
+    @Mock
+    private StreamingQueryTemplate streamingQueryTemplate;
+
+    @Spy
+    private CardTransactionExportProperties exportProperties = new CardTransactionExportProperties();
+
+    @Mock
+    private BalanceProjection balanceProjection;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Mock
+    private CardEventOutbox outbox;
+
+    @Mock
+    private FraudScoringEngine fraudScoring;
 
     @InjectMocks
     private CardTransactionServiceImpl service;
@@ -74,9 +138,14 @@ public class CardTransactionServiceTest {
                 .transactionType(TransactionTypeEnum.PURCHASE)
                 .merchantInfo("Test Merchant Info")
                 .transactionStatus(TransactionStatusEnum.COMPLETED)
+                .transactionAmount(new BigDecimal("100.0"))
+                .transactionCurrency("USD")
                 .cardAuthCode("AUTH123")
                 .cardMerchantCategoryCode("5411")
                 .cardMerchantName("Test Merchant")
+                .merchantId("MERCH123")
+                .merchantCountry("ES")
+                .deviceId("device-1")
                 .cardPosEntryMode("CHIP")
                 .cardTransactionReference("REF123")
                 .cardTerminalId("TERM123")
@@ -113,6 +182,21 @@ public class CardTransactionServiceTest {
         transactionEntity.setFeeAmount(new BigDecimal("5.0"));
         transactionEntity.setFeeCurrency("USD");
         transactionEntity.setInstallmentPlan("NONE");
+
+        // The balance projection and transaction boundary are pass-through unless a test says otherwise
+        lenient().when(balanceProjection.apply(any(CardTransaction.class))).thenReturn(Mono.empty());
+        lenient().when(balanceProjection.applyAll(anyList())).thenReturn(Mono.empty());
+        lenient().when(balanceProjection.replace(any(CardTransaction.class), any(CardTransaction.class)))
+                .thenReturn(Mono.empty());
+        lenient().when(balanceProjection.revert(any(CardTransaction.class))).thenReturn(Mono.empty());
+        lenient().when(repository.lockByCardIdAndCardTransactionId(cardId, transactionId))
+                .thenReturn(Mono.just(transactionEntity));
+        lenient().when(transactionalOperator.transactional(any(Mono.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(outbox.append(any(), any(), any(), any())).thenReturn(Mono.empty());
+        lenient().when(outbox.appendAll(any(), anyList(), any(), any(), any())).thenReturn(Mono.empty());
+        lenient().when(fraudScoring.onSaved(any(CardTransaction.class))).thenReturn(Mono.empty());
+        lenient().when(fraudScoring.onSaved(anyList())).thenReturn(Mono.empty());
     }
 
     @Test
@@ -145,27 +229,292 @@ public class CardTransactionServiceTest {
         }
     }
 
+    @Test
+    void scrollTransactions_FirstPage_HasNext() {
+        // Arrange
+        CardTransaction older = new CardTransaction();
+        older.setCardTransactionId(UUID.randomUUID());
+        older.setCardId(cardId);
+        older.setTransactionTimestamp(now.minusMinutes(1));
+
+        when(repository.findFirstKeysetPage(cardId, 2)).thenReturn(Flux.just(transactionEntity, older));
+        when(mapper.toDTO(transactionEntity)).thenReturn(transactionDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.scrollTransactions(cardId, null, 1))
+                .assertNext(page -> {
+                    assertEquals(1, page.getContent().size());
+                    assertTrue(page.isHasNext());
+                    KeysetCursor next = KeysetCursor.decode(page.getNextCursor());
+                    assertEquals(now, next.getTimestamp());
+                    assertEquals(transactionId, next.getId());
+                })
+                .verifyComplete();
+
+        verify(repository, never()).countByCardId(any(UUID.class));
+        verify(mapper, never()).toDTO(older);
+    }
+
+    @Test
+    void scrollTransactions_WithCursor_LastPage() {
+        // Arrange
+        String cursor = new KeysetCursor(now.plusMinutes(1), UUID.randomUUID()).encode();
+        KeysetCursor position = KeysetCursor.decode(cursor);
+
+        when(repository.findKeysetPageAfter(cardId, position.getTimestamp(), position.getId(), 21))
+                .thenReturn(Flux.just(transactionEntity));
+        when(mapper.toDTO(transactionEntity)).thenReturn(transactionDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.scrollTransactions(cardId, cursor, 20))
+                .assertNext(page -> {
+                    assertEquals(1, page.getContent().size());
+                    assertFalse(page.isHasNext());
+                    assertNull(page.getNextCursor());
+                })
+                .verifyComplete();
+
+        verify(repository, never()).findFirstKeysetPage(any(UUID.class), anyInt());
+    }
+
+    @Test
+    void scrollTransactions_InvalidCursor() {
+        // Act & Assert
+        StepVerifier.create(service.scrollTransactions(cardId, "not a cursor", 20))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void scrollTransactions_InvalidSize() {
+        // Act & Assert
+        StepVerifier.create(service.scrollTransactions(cardId, null, 0))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void exportTransactions_StreamsRowsOldestFirst() {
+        // Arrange
+        TransactionExportFilterDTO filter = TransactionExportFilterDTO.builder()
+                .cardId(cardId)
+                .from(now.minusDays(30))
+                .to(now)
+                .build();
+        when(streamingQueryTemplate.stream(eq(CardTransaction.class), any(Criteria.class),
+                eq(Sort.by("transactionTimestamp", "cardTransactionId")), eq(1000)))
+                .thenReturn(Flux.just(transactionEntity, transactionEntity));
+        when(mapper.toDTO(transactionEntity)).thenReturn(transactionDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.exportTransactions(filter))
+                .expectNext(transactionDTO, transactionDTO)
+                .verifyComplete();
+    }
+
+    @Test
+    void exportTransactions_UnscopedRejected() {
+        // Arrange
+        TransactionExportFilterDTO filter = TransactionExportFilterDTO.builder().from(now.minusDays(1)).build();
+
+        // Act & Assert
+        StepVerifier.create(service.exportTransactions(filter))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(streamingQueryTemplate);
+    }
+
+    @Test
+    void validateExport_UnscopedRejectedAndScopedAccepted() {
+        // Act & Assert
+        StepVerifier.create(service.validateExport(TransactionExportFilterDTO.builder().build()))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        StepVerifier.create(service.validateExport(TransactionExportFilterDTO.builder().cardId(cardId).build()))
+                .verifyComplete();
+
+        verifyNoInteractions(streamingQueryTemplate);
+    }
+
+    @Test
+    void exportTransactions_InvalidRangeRejected() {
+        // Arrange
+        TransactionExportFilterDTO filter = TransactionExportFilterDTO.builder()
+                .cardId(cardId)
+                .from(now)
+                .to(now.minusDays(1))
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(service.exportTransactionsCsv(filter))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(streamingQueryTemplate);
+    }
+
+    @Test
+    void exportTransactionsCsv_HeaderThenOneLinePerTransaction() {
+        // Arrange
+        TransactionExportFilterDTO filter = TransactionExportFilterDTO.builder().accountId(UUID.randomUUID()).build();
+        when(streamingQueryTemplate.stream(eq(CardTransaction.class), any(Criteria.class), any(Sort.class), anyInt()))
+                .thenReturn(Flux.just(transactionEntity));
+
+        // Act & Assert
+        StepVerifier.create(service.exportTransactionsCsv(filter))
+                .expectNext(CardTransactionCsv.HEADER)
+                .assertNext(line -> {
+                    assertTrue(line.startsWith(transactionId + "," + cardId + ",PURCHASE,COMPLETED,"));
+                    assertTrue(line.contains(",AUTH123,100.0,USD,"));
+                    assertTrue(line.contains(",MERCH123,Test Merchant,5411,US,TERM123,CHIP,"));
+                    assertTrue(line.endsWith("\r\n"));
+                })
+                .verifyComplete();
+
+        verify(mapper, never()).toDTO(any(CardTransaction.class));
+    }
+
     @Test
     void createTransaction_Success() {
         // Arrange
-        when(mapper.toEntity(any(CardTransactionDTO.class))).thenReturn(transactionEntity);
-        when(repository.save(any(CardTransaction.class))).thenReturn(Mono.just(transactionEntity));
-        when(mapper.toDTO(any(CardTransaction.class))).thenReturn(transactionDTO);
+        when(repository.save(any(CardTransaction.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
 
         // Act & Assert
         StepVerifier.create(service.createTransaction(cardId, transactionDTO))
-                .expectNext(transactionDTO)
+                .assertNext(created -> {
+                    assertEquals(new BigDecimal("100.0"), created.getTransactionAmount());
+                    assertEquals("USD", created.getTransactionCurrency());
+                    assertEquals(now, created.getCardTransactionTimestamp());
+                    assertEquals("Test Merchant", created.getCardMerchantName());
+                })
                 .verifyComplete();
 
-        verify(mapper).toEntity(transactionDTO);
-        verify(repository).save(transactionEntity);
-        verify(mapper).toDTO(transactionEntity);
+        // The real mapper carries the amount, currency and card-network fields onto the entity
+        ArgumentCaptor<CardTransaction> saved = ArgumentCaptor.forClass(CardTransaction.class);
+        verify(repository).save(saved.capture());
+        CardTransaction entity = saved.getValue();
+        assertEquals(cardId, entity.getCardId());
+        assertEquals(new BigDecimal("100.0"), entity.getTransactionAmount());
+        assertEquals("USD", entity.getTransactionCurrency());
+        assertEquals(now, entity.getTransactionTimestamp());
+        assertEquals("AUTH123", entity.getAuthorizationCode());
+        assertEquals("REF123", entity.getTransactionReference());
+        assertEquals("Test Merchant", entity.getMerchantName());
+        assertEquals("5411", entity.getMerchantCategoryCode());
+        assertEquals("TERM123", entity.getTerminalId());
+        assertEquals(new BigDecimal("5.0"), entity.getFeeAmount());
+        assertEquals("MERCH123", entity.getMerchantId());
+        assertEquals("ES", entity.getMerchantCountry());
+        assertEquals("device-1", entity.getDeviceId());
+        verify(fraudScoring).score(entity);
+        verify(balanceProjection).apply(entity);
+        verify(fraudScoring).onSaved(entity);
+    }
+
+    @Test
+    void createTransaction_SaveFails_DoesNotRecordFraudAggregates() {
+        // Arrange
+        when(repository.save(any(CardTransaction.class))).thenReturn(Mono.error(new RuntimeException("connection lost")));
+
+        // Act & Assert
+        StepVerifier.create(service.createTransaction(cardId, transactionDTO))
+                .expectError(RuntimeException.class)
+                .verify();
+
+        verify(fraudScoring).score(any(CardTransaction.class));
+        verify(fraudScoring, never()).onSaved(any(CardTransaction.class));
+    }
+
+    @Test
+    void createTransactions_ChunksAndReportsOutcomes() {
+        // Arrange
+        batchProperties.setChunkSize(2);
+        when(validator.validate(any(CardTransactionDTO.class))).thenReturn(Set.of());
+        when(mapper.toEntity(any(CardTransactionDTO.class))).thenAnswer(invocation -> new CardTransaction());
+        when(batchInsertTemplate.insertAll(eq(CardTransaction.class), anyList()))
+                .thenAnswer(invocation -> Mono.just((long) invocation.<List<?>>getArgument(1).size()));
+
+        // Act & Assert
+        StepVerifier.create(service.createTransactions(Flux.just(transactionDTO, transactionDTO, transactionDTO)))
+                .assertNext(result -> {
+                    assertEquals(3, result.getReceived());
+                    assertEquals(3, result.getCreated());
+                    assertEquals(0, result.getFailed());
+                    assertEquals(2, result.getChunks());
+                    assertEquals(List.of(0L, 1L, 2L),
+                            result.getItems().stream().map(BatchItemResultDTO::getIndex).toList());
+                    assertTrue(result.getItems().stream().allMatch(item -> item.getId() != null));
+                })
+                .verifyComplete();
+
+        verify(batchInsertTemplate, times(2)).insertAll(eq(CardTransaction.class), anyList());
+        verify(balanceProjection, times(2)).applyAll(anyList());
+        verify(transactionalOperator, times(2)).transactional(any(Mono.class));
+        verify(repository, never()).save(any(CardTransaction.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createTransactions_InvalidItemReportedAsFailed() {
+        // Arrange
+        CardTransactionDTO invalid = CardTransactionDTO.builder().build();
+        ConstraintViolation<CardTransactionDTO> violation = mock(ConstraintViolation.class);
+        when(violation.getMessage()).thenReturn("Card ID is required");
+        when(validator.validate(transactionDTO)).thenReturn(Set.of());
+        when(validator.validate(invalid)).thenReturn(Set.of(violation));
+        when(mapper.toEntity(transactionDTO)).thenReturn(transactionEntity);
+        when(batchInsertTemplate.insertAll(CardTransaction.class, List.of(transactionEntity))).thenReturn(Mono.just(1L));
+
+        // Act & Assert
+        StepVerifier.create(service.createTransactions(Flux.just(invalid, transactionDTO)))
+                .assertNext(result -> {
+                    assertEquals(1, result.getCreated());
+                    assertEquals(1, result.getFailed());
+                    BatchItemResultDTO failed = result.getItems().get(0);
+                    assertEquals(BatchItemStatusEnum.FAILED, failed.getStatus());
+                    assertEquals("Card ID is required", failed.getError());
+                    assertEquals(BatchItemStatusEnum.CREATED, result.getItems().get(1).getStatus());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void createTransactions_FailingChunkRetriedRowByRow() {
+        // Arrange
+        CardTransaction first = new CardTransaction();
+        CardTransaction second = new CardTransaction();
+        CardTransactionDTO secondDTO = CardTransactionDTO.builder().cardId(cardId).build();
+        when(validator.validate(any(CardTransactionDTO.class))).thenReturn(Set.of());
+        when(mapper.toEntity(transactionDTO)).thenReturn(first);
+        when(mapper.toEntity(secondDTO)).thenReturn(second);
+        when(batchInsertTemplate.insertAll(CardTransaction.class, List.of(first, second)))
+                .thenReturn(Mono.error(new RuntimeException("duplicate key")));
+        when(batchInsertTemplate.insertAll(CardTransaction.class, List.of(first))).thenReturn(Mono.just(1L));
+        when(batchInsertTemplate.insertAll(CardTransaction.class, List.of(second)))
+                .thenReturn(Mono.error(new RuntimeException("duplicate key")));
+
+        // Act & Assert
+        StepVerifier.create(service.createTransactions(Flux.just(transactionDTO, secondDTO)))
+                .assertNext(result -> {
+                    assertEquals(1, result.getCreated());
+                    assertEquals(1, result.getFailed());
+                    assertEquals(BatchItemStatusEnum.CREATED, result.getItems().get(0).getStatus());
+                    assertEquals(BatchItemStatusEnum.FAILED, result.getItems().get(1).getStatus());
+                    assertEquals("duplicate key", result.getItems().get(1).getError());
+                })
+                .verifyComplete();
     }
 
     @Test
     void getTransaction_Success() {
         // Arrange
-        when(repository.findByCardTransactionId(transactionId)).thenReturn(Mono.just(transactionEntity));
+        when(repository.findByCardIdAndCardTransactionId(cardId, transactionId)).thenReturn(Mono.just(transactionEntity));
         when(mapper.toDTO(any(CardTransaction.class))).thenReturn(transactionDTO);
 
         // Act & Assert
@@ -173,37 +522,34 @@ public class CardTransactionServiceTest {
                 .expectNext(transactionDTO)
                 .verifyComplete();
 
-        verify(repository).findByCardTransactionId(transactionId);
+        verify(repository).findByCardIdAndCardTransactionId(cardId, transactionId);
         verify(mapper).toDTO(transactionEntity);
     }
 
     @Test
     void getTransaction_NotFound() {
         // Arrange
-        when(repository.findByCardTransactionId(transactionId)).thenReturn(Mono.empty());
+        when(repository.findByCardIdAndCardTransactionId(cardId, transactionId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.getTransaction(cardId, transactionId))
                 .verifyComplete();
 
-        verify(repository).findByCardTransactionId(transactionId);
+        verify(repository).findByCardIdAndCardTransactionId(cardId, transactionId);
         verify(mapper, never()).toDTO(any(CardTransaction.class));
     }
 
     @Test
     void getTransaction_WrongCard() {
         // Arrange
-        CardTransaction wrongCardTransaction = new CardTransaction();
-        wrongCardTransaction.setCardTransactionId(transactionId);
-        wrongCardTransaction.setCardId(UUID.randomUUID()); // Different card ID
-
-        when(repository.findByCardTransactionId(transactionId)).thenReturn(Mono.just(wrongCardTransaction));
+        UUID wrongCardId = UUID.randomUUID();
+        when(repository.findByCardIdAndCardTransactionId(wrongCardId, transactionId)).thenReturn(Mono.empty());
 
         // Act & Assert
-        StepVerifier.create(service.getTransaction(cardId, transactionId))
+        StepVerifier.create(service.getTransaction(wrongCardId, transactionId))
                 .verifyComplete();
 
-        verify(repository).findByCardTransactionId(transactionId);
+        verify(repository).findByCardIdAndCardTransactionId(wrongCardId, transactionId);
         verify(mapper, never()).toDTO(any(CardTransaction.class));
     }
 
@@ -234,9 +580,13 @@ public class CardTransactionServiceTest {
     @Test
     void updateTransaction_Success() {
         // Arrange
-        when(repository.findByCardTransactionId(transactionId)).thenReturn(Mono.just(transactionEntity));
+        CardTransaction updated = new CardTransaction();
+        updated.setCardTransactionId(transactionId);
+        updated.setCardId(cardId);
         when(mapper.toEntity(any(CardTransactionDTO.class))).thenReturn(transactionEntity);
-        when(repository.save(any(CardTransaction.class))).thenReturn(Mono.just(transactionEntity));
+        when(partialUpdateTemplate.replace(eq(CardTransaction.class), eq(transactionEntity),
+                eq(Map.of("card_transaction_id", transactionId, "card_id", cardId))))
+                .thenReturn(Mono.just(updated));
         when(mapper.toDTO(any(CardTransaction.class))).thenReturn(transactionDTO);
 
         // Act & Assert
@@ -244,87 +594,120 @@ public class CardTransactionServiceTest {
                 .expectNext(transactionDTO)
                 .verifyComplete();
 
-        verify(repository).findByCardTransactionId(transactionId);
-        verify(mapper).toEntity(transactionDTO);
-        verify(repository).save(transactionEntity);
-        verify(mapper).toDTO(transactionEntity);
+        verify(repository, never()).save(any(CardTransaction.class));
+        verify(balanceProjection).replace(transactionEntity, updated);
+        verify(mapper).toDTO(updated);
     }
 
     @Test
     void updateTransaction_NotFound() {
         // Arrange
-        when(repository.findByCardTransactionId(transactionId)).thenReturn(Mono.empty());
+        when(repository.lockByCardIdAndCardTransactionId(cardId, transactionId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.updateTransaction(cardId, transactionId, transactionDTO))
                 .verifyComplete();
 
-        verify(repository).findByCardTransactionId(transactionId);
-        verify(mapper, never()).toEntity(any(CardTransactionDTO.class));
-        verify(repository, never()).save(any(CardTransaction.class));
+        verify(partialUpdateTemplate, never()).replace(any(), any(), any());
+        verify(balanceProjection, never()).replace(any(), any());
         verify(mapper, never()).toDTO(any(CardTransaction.class));
     }
 
     @Test
     void updateTransaction_WrongCard() {
         // Arrange
-        CardTransaction wrongCardTransaction = new CardTransaction();
-        wrongCardTransaction.setCardTransactionId(transactionId);
-        wrongCardTransaction.setCardId(UUID.randomUUID()); // Different card ID
+        UUID wrongCardId = UUID.randomUUID();
+        when(repository.lockByCardIdAndCardTransactionId(wrongCardId, transactionId)).thenReturn(Mono.empty());
 
-        when(repository.findByCardTransactionId(transactionId)).thenReturn(Mono.just(wrongCardTransaction));
+        // Act & Assert
+        StepVerifier.create(service.updateTransaction(wrongCardId, transactionId, transactionDTO))
+                .verifyComplete();
+
+        verify(repository, never()).save(any(CardTransaction.class));
+        verify(partialUpdateTemplate, never()).replace(any(), any(), any());
+        verify(mapper, never()).toDTO(any(CardTransaction.class));
+    }
+
+    @Test
+    void patchTransaction_Success() {
+        // Arrange
+        CardTransactionDTO completion = CardTransactionDTO.builder()
+                .transactionStatus(TransactionStatusEnum.COMPLETED)
+                .build();
+        transactionEntity.setTransactionStatus(TransactionStatusEnum.PENDING);
+        CardTransaction completed = new CardTransaction();
+        completed.setCardTransactionId(transactionId);
+        completed.setCardId(cardId);
+        completed.setTransactionStatus(TransactionStatusEnum.COMPLETED);
+        when(partialUpdateTemplate.updateNonNull(eq(CardTransaction.class), any(CardTransaction.class),
+                eq(Map.of("card_transaction_id", transactionId, "card_id", cardId))))
+                .thenReturn(Mono.just(completed));
 
         // Act & Assert
-        StepVerifier.create(service.updateTransaction(cardId, transactionId, transactionDTO))
+        StepVerifier.create(service.patchTransaction(cardId, transactionId, completion))
+                .assertNext(patched -> assertEquals(TransactionStatusEnum.COMPLETED, patched.getTransactionStatus()))
                 .verifyComplete();
 
-        verify(repository).findByCardTransactionId(transactionId);
-        verify(mapper, never()).toEntity(any(CardTransactionDTO.class));
+        ArgumentCaptor<CardTransaction> changes = ArgumentCaptor.forClass(CardTransaction.class);
+        verify(partialUpdateTemplate).updateNonNull(eq(CardTransaction.class), changes.capture(), any());
+        assertNull(changes.getValue().getTransactionAmount());
+        assertNull(changes.getValue().getTransactionTimestamp());
+        verify(balanceProjection).replace(transactionEntity, completed);
+        verify(repository, never()).findByCardTransactionId(any(UUID.class));
         verify(repository, never()).save(any(CardTransaction.class));
+    }
+
+    @Test
+    void patchTransaction_NotFound() {
+        // Arrange
+        when(repository.lockByCardIdAndCardTransactionId(cardId, transactionId)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.patchTransaction(cardId, transactionId, transactionDTO))
+                .verifyComplete();
+
+        verify(partialUpdateTemplate, never()).updateNonNull(any(), any(), any());
         verify(mapper, never()).toDTO(any(CardTransaction.class));
     }
 
     @Test
     void deleteTransaction_Success() {
         // Arrange
-        when(repository.findByCardTransactionId(transactionId)).thenReturn(Mono.just(transactionEntity));
-        when(repository.delete(transactionEntity)).thenReturn(Mono.empty());
+        when(repository.deleteByCardIdAndCardTransactionId(cardId, transactionId)).thenReturn(Mono.just(1));
 
         // Act & Assert
         StepVerifier.create(service.deleteTransaction(cardId, transactionId))
                 .verifyComplete();
 
-        verify(repository).findByCardTransactionId(transactionId);
-        verify(repository).delete(transactionEntity);
+        verify(repository).deleteByCardIdAndCardTransactionId(cardId, transactionId);
+        verify(balanceProjection).revert(transactionEntity);
+        verify(repository, never()).delete(any(CardTransaction.class));
     }
 
     @Test
     void deleteTransaction_NotFound() {
         // Arrange
-        when(repository.findByCardTransactionId(transactionId)).thenReturn(Mono.empty());
+        when(repository.lockByCardIdAndCardTransactionId(cardId, transactionId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.deleteTransaction(cardId, transactionId))
                 .verifyComplete();
 
-        verify(repository).findByCardTransactionId(transactionId);
-        verify(repository, never()).delete(any(CardTransaction.class));
+        verify(repository, never()).deleteByCardIdAndCardTransactionId(any(), any());
+        verifyNoInteractions(balanceProjection, outbox);
     }
 
     @Test
     void deleteTransaction_WrongCard() {
         // Arrange
-        CardTransaction wrongCardTransaction = new CardTransaction();
-        wrongCardTransaction.setCardTransactionId(transactionId);
-        wrongCardTransaction.setCardId(UUID.randomUUID()); // Different card ID
-
-        when(repository.findByCardTransactionId(transactionId)).thenReturn(Mono.just(wrongCardTransaction));
+        UUID wrongCardId = UUID.randomUUID();
+        when(repository.lockByCardIdAndCardTransactionId(wrongCardId, transactionId)).thenReturn(Mono.empty());
 
         // Act & Assert
-        StepVerifier.create(service.deleteTransaction(cardId, transactionId))
+        StepVerifier.create(service.deleteTransaction(wrongCardId, transactionId))
                 .verifyComplete();
 
-        verify(repository).findByCardTransactionId(transactionId);
+        verify(repository, never()).deleteByCardIdAndCardTransactionId(any(), any());
         verify(repository, never()).delete(any(CardTransaction.class));
     }
 }
@@ -21,6 +21,8 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
 import com.firefly.core.banking.cards.core.mappers.virtual.v1.VirtualCardMapper;
+import com.firefly.core.banking.cards.core.persistence.PaginationQueryTemplate;
+import com.firefly.core.banking.cards.core.persistence.PartialUpdateTemplate;
 import com.firefly.core.banking.cards.interfaces.dtos.virtual.v1.VirtualCardDTO;
 import com.firefly.core.banking.cards.interfaces.enums.virtual.v1.VirtualCardStatusEnum;
 import com.firefly.core.banking.cards.models.entities.virtual.v1.VirtualCard;
@@ -31,11 +33,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -53,6 +57,12 @@ public class VirtualCardServiceTest {
     @Mock
     private VirtualCardMapper mapper;
 
+    @Spy
+    private PaginationQueryTemplate paginationQueryTemplate = new PaginationQueryTemplate();
+
+    @Mock
+    private PartialUpdateTemplate partialUpdateTemplate;
+
     @InjectMocks
     private VirtualCardServiceImpl service;
 
@@ -135,7 +145,7 @@ public class VirtualCardServiceTest {
     @Test
     void getVirtualCard_Success() {
         // Arrange
-        when(repository.findByVirtualCardId(virtualCardId)).thenReturn(Mono.just(virtualCardEntity));
+        when(repository.findByCardIdAndVirtualCardId(cardId, virtualCardId)).thenReturn(Mono.just(virtualCardEntity));
         when(mapper.toDTO(any(VirtualCard.class))).thenReturn(virtualCardDTO);
 
         // Act & Assert
@@ -143,46 +153,44 @@ public class VirtualCardServiceTest {
                 .expectNext(virtualCardDTO)
                 .verifyComplete();
 
-        verify(repository).findByVirtualCardId(virtualCardId);
+        verify(repository).findByCardIdAndVirtualCardId(cardId, virtualCardId);
         verify(mapper).toDTO(virtualCardEntity);
     }
 
     @Test
     void getVirtualCard_NotFound() {
         // Arrange
-        when(repository.findByVirtualCardId(virtualCardId)).thenReturn(Mono.empty());
+        when(repository.findByCardIdAndVirtualCardId(cardId, virtualCardId)).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.getVirtualCard(cardId, virtualCardId))
                 .verifyComplete();
 
-        verify(repository).findByVirtualCardId(virtualCardId);
+        verify(repository).findByCardIdAndVirtualCardId(cardId, virtualCardId);
         verify(mapper, never()).toDTO(any(VirtualCard.class));
     }
 
     @Test
     void getVirtualCard_WrongCard() {
         // Arrange
-        VirtualCard wrongCardVirtualCard = new VirtualCard();
-        wrongCardVirtualCard.setVirtualCardId(virtualCardId);
-        wrongCardVirtualCard.setCardId(UUID.randomUUID()); // Different card ID
-        
-        when(repository.findByVirtualCardId(virtualCardId)).thenReturn(Mono.just(wrongCardVirtualCard));
+        UUID wrongCardId = UUID.randomUUID();
+        when(repository.findByCardIdAndVirtualCardId(wrongCardId, virtualCardId)).thenReturn(Mono.empty());
 
         // Act & Assert
-        StepVerifier.create(service.getVirtualCard(cardId, virtualCardId))
+        StepVerifier.create(service.getVirtualCard(wrongCardId, virtualCardId))
                 .verifyComplete();
 
-        verify(repository).findByVirtualCardId(virtualCardId);
+        verify(repository).findByCardIdAndVirtualCardId(wrongCardId, virtualCardId);
         verify(mapper, never()).toDTO(any(VirtualCard.class));
     }
 
     @Test
     void updateVirtualCard_Success() {
         // Arrange
-        when(repository.findByVirtualCardId(virtualCardId)).thenReturn(Mono.just(virtualCardEntity));
         when(mapper.toEntity(any(VirtualCardDTO.class))).thenReturn(virtualCardEntity);
-        when(repository.save(any(VirtualCard.class))).thenReturn(Mono.just(virtualCardEntity));
+        when(partialUpdateTemplate.replace(eq(VirtualCard.class), eq(virtualCardEntity),
+                eq(Map.of("virtual_card_id", virtualCardId, "card_id", cardId))))
+                .thenReturn(Mono.just(virtualCardEntity));
         when(mapper.toDTO(any(VirtualCard.class))).thenReturn(virtualCardDTO);
 
         // Act & Assert
@@ -190,23 +198,22 @@ public class VirtualCardServiceTest {
                 .expectNext(virtualCardDTO)
                 .verifyComplete();
 
-        verify(repository).findByVirtualCardId(virtualCardId);
-        verify(mapper).toEntity(virtualCardDTO);
-        verify(repository).save(virtualCardEntity);
+        verify(repository, never()).save(any(VirtualCard.class));
         verify(mapper).toDTO(virtualCardEntity);
     }
 
     @Test
     void updateVirtualCard_NotFound() {
         // Arrange
-        when(repository.findByVirtualCardId(virtualCardId)).thenReturn(Mono.empty());
+        when(mapper.toEntity(any(VirtualCardDTO.class))).thenReturn(virtualCardEntity);
+        when(partialUpdateTemplate.replace(eq(VirtualCard.class), eq(virtualCardEntity),
+                eq(Map.of("virtual_card_id", virtualCardId, "card_id", cardId))))
+                .thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(service.updateVirtualCard(cardId, virtualCardId, virtualCardDTO))
                 .verifyComplete();
 
-        verify(repository).findByVirtualCardId(virtualCardId);
-        verify(mapper, never()).toEntity(any(VirtualCardDTO.class));
         verify(repository, never()).save(any(VirtualCard.class));
         verify(mapper, never()).toDTO(any(VirtualCard.class));
     }
@@ -214,18 +221,16 @@ public class VirtualCardServiceTest {
     @Test
     void updateVirtualCard_WrongCard() {
         // Arrange
-        VirtualCard wrongCardVirtualCard = new VirtualCard();
-        wrongCardVirtualCard.setVirtualCardId(virtualCardId);
-        wrongCardVirtualCard.setCardId(UUID.randomUUID()); // Different card ID
-        
-        when(repository.findByVirtualCardId(virtualCardId)).thenReturn(Mono.just(wrongCardVirtualCard));
+        UUID wrongCardId = UUID.randomUUID();
+        when(mapper.toEntity(any(VirtualCardDTO.class))).thenReturn(virtualCardEntity);
+        when(partialUpdateTemplate.replace(eq(VirtualCard.class), eq(virtualCardEntity),
+                eq(Map.of("virtual_card_id", virtualCardId, "card_id", wrongCardId))))
+                .thenReturn(Mono.empty());
 
         // Act & Assert
-        StepVerifier.create(service.updateVirtualCard(cardId, virtualCardId, virtualCardDTO))
+        StepVerifier.create(service.updateVirtualCard(wrongCardId, virtualCardId, virtualCardDTO))
                 .verifyComplete();
 
-        verify(repository).findByVirtualCardId(virtualCardId);
-        verify(mapper, never()).toEntity(any(VirtualCardDTO.class));
         verify(repository, never()).save(any(VirtualCard.class));
         verify(mapper, never()).toDTO(any(VirtualCard.class));
     }
@@ -233,44 +238,39 @@ public class VirtualCardServiceTest {
     @Test
     void deleteVirtualCard_Success() {
         // Arrange
-        when(repository.findByVirtualCardId(virtualCardId)).thenReturn(Mono.just(virtualCardEntity));
-        when(repository.delete(virtualCardEntity)).thenReturn(Mono.empty());
+        when(repository.deleteByCardIdAndVirtualCardId(cardId, virtualCardId)).thenReturn(Mono.just(1));
 
         // Act & Assert
         StepVerifier.create(service.deleteVirtualCard(cardId, virtualCardId))
                 .verifyComplete();
 
-        verify(repository).findByVirtualCardId(virtualCardId);
-        verify(repository).delete(virtualCardEntity);
+        verify(repository).deleteByCardIdAndVirtualCardId(cardId, virtualCardId);
+        verify(repository, never()).delete(any(VirtualCard.class));
     }
 
     @Test
     void deleteVirtualCard_NotFound() {
         // Arrange
-        when(repository.findByVirtualCardId(virtualCardId)).thenReturn(Mono.empty());
+        when(repository.deleteByCardIdAndVirtualCardId(cardId, virtualCardId)).thenReturn(Mono.just(0));
 
         // Act & Assert
         StepVerifier.create(service.deleteVirtualCard(cardId, virtualCardId))
                 .verifyComplete();
 
-        verify(repository).findByVirtualCardId(virtualCardId);
-        verify(repository, never()).delete(any(VirtualCard.class));
+        verify(repository).deleteByCardIdAndVirtualCardId(cardId, virtualCardId);
     }
 
     @Test
     void deleteVirtualCard_WrongCard() {
         // Arrange
-        VirtualCard wrongCardVirtualCard = new VirtualCard();
-        wrongCardVirtualCard.setVirtualCardId(virtualCardId);
-        wrongCardVirtualCard.setCardId(UUID.randomUUID()); // Different card ID
-        
-        when(repository.findByVirtualCardId(virtualCardId)).thenReturn(Mono.just(wrongCardVirtualCard));
+        UUID wrongCardId = UUID.randomUUID();
+        when(repository.deleteByCardIdAndVirtualCardId(wrongCardId, virtualCardId)).thenReturn(Mono.just(0));
 
         // Act & Assert
-        StepVerifier.create(service.deleteVirtualCard(cardId, virtualCardId))
+        StepVerifier.create(service.deleteVirtualCard(wrongCardId, virtualCardId))
                 .verifyComplete();
 
-        verify(repository).findByVirtualCardId(virtualCardId);
+        verify(repository).deleteByCardIdAndVirtualCardId(wrongCardId, virtualCardId);
         verify(repository, never()).delete(any(VirtualCard.class));
     }
 }
\ No newline at end of file
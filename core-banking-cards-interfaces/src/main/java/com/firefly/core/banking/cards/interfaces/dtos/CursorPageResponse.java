@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.interfaces.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Page of results returned by cursor (keyset) based listing endpoints.
+ * Unlike the offset based PaginationResponse it carries no total count; clients
+ * keep scrolling by passing {@code nextCursor} back until {@code hasNext} is false.
+ *
+ * @param <T> the type of the elements in the page
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageResponse<T> {
+
+    /**
+     * Elements of the current page, in the order defined by the endpoint.
+     */
+    private List<T> content;
+
+    /**
+     * Number of elements requested for the page.
+     */
+    private int size;
+
+    /**
+     * Whether more elements are available after this page.
+     */
+    private boolean hasNext;
+
+    /**
+     * Opaque token to request the next page, or null when {@code hasNext} is false.
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.interfaces.dtos.batch.v1;
+
+import com.firefly.core.banking.cards.interfaces.enums.batch.v1.BatchItemStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Outcome of a single item submitted to a batch endpoint.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchItemResultDTO {
+
+    /**
+     * Zero-based position of the item in the submitted stream.
+     */
+    private long index;
+
+    /**
+     * Identifier assigned to the persisted record, or null if the item was not persisted.
+     */
+    private UUID id;
+
+    private BatchItemStatusEnum status;
+
+    /**
+     * Reason the item was not persisted, or null on success.
+     */
+    private String error;
+}
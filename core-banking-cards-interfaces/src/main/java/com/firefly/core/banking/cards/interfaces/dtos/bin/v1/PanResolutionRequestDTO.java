@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.interfaces.dtos.bin.v1;
+
+import com.firefly.core.banking.cards.interfaces.validation.CardNumber;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request to resolve a card number to its BIN.
+ * The PAN is sent in the body rather than the URL so it does not end up in access logs.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PanResolutionRequestDTO {
+
+    /**
+     * Full card number (PAN); spaces and dashes are allowed.
+     */
+    @NotBlank(message = "Card number is required")
+    @CardNumber
+    private String pan;
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.interfaces.dtos.event.v1;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.firefly.core.banking.cards.interfaces.enums.event.v1.CardEventTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A change to a card, or to one of its limits, transactions or disputes, as published from the
+ * card event outbox.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CardEventDTO {
+
+    private UUID eventId;
+
+    /**
+     * Position of the event in the outbox, in the order events were recorded. Transactions
+     * committing out of order can publish a lower number after a higher one.
+     */
+    private Long sequenceNumber;
+
+    /**
+     * Position of the event in publication order. An event only becomes visible once every event
+     * with a lower number has, so consumers can resume after the last one they processed.
+     */
+    private Long publishSequence;
+
+    private UUID cardId;
+
+    /**
+     * Kind of entity that changed: CARD, LIMIT, TRANSACTION or DISPUTE.
+     */
+    private String aggregateType;
+
+    private UUID aggregateId;
+
+    private CardEventTypeEnum eventType;
+
+    private LocalDateTime occurredAt;
+
+    /**
+     * The changed entity as JSON, or null for deletions.
+     */
+    @JsonRawValue
+    private String payload;
+}
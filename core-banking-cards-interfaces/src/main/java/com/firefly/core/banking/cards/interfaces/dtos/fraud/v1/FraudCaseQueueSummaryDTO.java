@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.interfaces.dtos.fraud.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Size and risk of one fraud case queue: the cases of one status assigned to one agent, or to
+ * nobody.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FraudCaseQueueSummaryDTO {
+
+    private String fraudStatus;
+
+    /**
+     * Agent the cases are assigned to, or null for unassigned cases.
+     */
+    private UUID assignedAgentId;
+
+    private long caseCount;
+
+    /**
+     * Cases with a HIGH or CRITICAL risk level.
+     */
+    private long highRiskCount;
+
+    private long criticalCount;
+
+    private double averageFraudScore;
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.interfaces.dtos.issuance.v1;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.firefly.core.banking.cards.interfaces.dtos.BaseDTO;
+import com.firefly.core.banking.cards.interfaces.enums.issuance.v1.IssuanceJobStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import jakarta.validation.constraints.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for Card Issuance Job.
+ * A Card Issuance Job issues a number of cards of one program in bulk. The owner fields apply to
+ * every card of the job; the read-only fields report its progress.
+ */
+@Data
+@SuperBuilder
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper=false)
+public class CardIssuanceJobDTO extends BaseDTO {
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private UUID issuanceJobId;
+
+    @NotNull(message = "Program ID is required")
+    private UUID programId;
+
+    private UUID partyId;
+
+    private UUID accountId;
+
+    private UUID contractId;
+
+    @Size(min = 2, max = 100, message = "Card holder name must be between 2 and 100 characters")
+    private String cardHolderName;
+
+    /**
+     * Whether to issue physical cards, with a physical_card row pending manufacturing. The program
+     * must support physical cards. Defaults to virtual cards.
+     */
+    private Boolean isPhysical;
+
+    @NotNull(message = "Requested count is required")
+    @Min(value = 1, message = "Requested count must be at least 1")
+    private Integer requestedCount;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Integer issuedCount;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Integer chunkSize;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private IssuanceJobStatusEnum jobStatus;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String lastError;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime startedAt;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime completedAt;
+}
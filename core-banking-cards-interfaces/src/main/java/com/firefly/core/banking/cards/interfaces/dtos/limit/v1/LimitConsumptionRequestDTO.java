@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.interfaces.dtos.limit.v1;
+
+import com.firefly.core.banking.cards.interfaces.enums.limit.v1.LimitTypeEnum;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * A spend to be checked against, and consumed from, the limits of a card.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LimitConsumptionRequestDTO {
+
+    /**
+     * Type of the spend. Daily and monthly spending limits always apply in addition to limits of this type.
+     */
+    @NotNull(message = "Limit type is required")
+    private LimitTypeEnum limitType;
+
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.0", inclusive = false, message = "Amount must be greater than 0")
+    private BigDecimal amount;
+
+    /**
+     * Merchant category code of the spend; limits scoped to another MCC do not apply.
+     */
+    @Pattern(regexp = "^[0-9]{4}$", message = "Merchant category code must be 4 digits")
+    private String merchantCategoryCode;
+
+    /**
+     * Channel of the spend (e.g. POS, ECOMMERCE); limits scoped to another channel do not apply.
+     */
+    @Size(max = 50, message = "Channel type cannot exceed 50 characters")
+    private String channelType;
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.interfaces.dtos.limit.v1;
+
+import com.firefly.core.banking.cards.interfaces.enums.limit.v1.LimitTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of a limit consumption. The spend is either added to every applicable limit or,
+ * when any of them would be exceeded, to none.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LimitConsumptionResultDTO {
+
+    private boolean approved;
+
+    private BigDecimal amount;
+
+    /**
+     * Limit that rejected the spend; when several would be exceeded, the one with the least room left.
+     * Null when the spend was approved.
+     */
+    private UUID rejectedLimitId;
+
+    private LimitTypeEnum rejectedLimitType;
+
+    /**
+     * Every limit the spend was evaluated against.
+     */
+    private List<LimitUsageDTO> limits;
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.interfaces.dtos.limit.v1;
+
+import com.firefly.core.banking.cards.interfaces.enums.limit.v1.LimitTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * State of one card limit after a limit consumption.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LimitUsageDTO {
+
+    private UUID cardLimitId;
+
+    private LimitTypeEnum limitType;
+
+    private BigDecimal limitAmount;
+
+    /**
+     * Usage including the spend if it was approved, otherwise the unchanged usage.
+     */
+    private BigDecimal currentUsage;
+
+    private BigDecimal availableAmount;
+
+    /**
+     * Whether the spend would take this limit over its amount.
+     */
+    private boolean exceeded;
+}
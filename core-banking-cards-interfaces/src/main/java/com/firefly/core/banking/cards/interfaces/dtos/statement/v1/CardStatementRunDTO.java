@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.interfaces.dtos.statement.v1;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.firefly.core.banking.cards.interfaces.dtos.BaseDTO;
+import com.firefly.core.banking.cards.interfaces.enums.statement.v1.StatementRunStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import jakarta.validation.constraints.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for Card Statement Run.
+ * A Card Statement Run generates the statements of every card for one statement period. The
+ * read-only fields report its progress.
+ */
+@Data
+@SuperBuilder
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper=false)
+public class CardStatementRunDTO extends BaseDTO {
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private UUID runId;
+
+    /**
+     * Start of the statement period, inclusive.
+     */
+    @NotNull(message = "Period start is required")
+    private LocalDateTime periodStart;
+
+    /**
+     * End of the statement period, exclusive.
+     */
+    @NotNull(message = "Period end is required")
+    private LocalDateTime periodEnd;
+
+    /**
+     * Date printed on the statements. Defaults to the end of the period.
+     */
+    private LocalDateTime statementDate;
+
+    /**
+     * Payment due date of the statements. Defaults to the configured number of days after the
+     * statement date.
+     */
+    private LocalDateTime dueDate;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Integer shardCount;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Integer completedShards;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Integer statementCount;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private StatementRunStatusEnum runStatus;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String lastError;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime startedAt;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime completedAt;
+}
@@ -56,6 +56,20 @@ public class CardTransactionDTO extends BaseDTO {
     @NotNull(message = "Transaction status is required")
     private TransactionStatusEnum transactionStatus;
 
+    @NotNull(message = "Transaction amount is required")
+    @DecimalMin(value = "0.0", message = "Transaction amount cannot be negative")
+    private BigDecimal transactionAmount;
+
+    @NotNull(message = "Transaction currency is required")
+    @Pattern(regexp = "^[A-Z]{3}$", message = "Transaction currency must be a 3-letter ISO code")
+    private String transactionCurrency;
+
+    @DecimalMin(value = "0.0", message = "Billing amount cannot be negative")
+    private BigDecimal billingAmount;
+
+    @Pattern(regexp = "^[A-Z]{3}$", message = "Billing currency must be a 3-letter ISO code")
+    private String billingCurrency;
+
     @Size(max = 20, message = "Card auth code cannot exceed 20 characters")
     private String cardAuthCode;
 
@@ -65,6 +79,12 @@ public class CardTransactionDTO extends BaseDTO {
     @Size(max = 100, message = "Card merchant name cannot exceed 100 characters")
     private String cardMerchantName;
 
+    @Size(max = 50, message = "Merchant ID cannot exceed 50 characters")
+    private String merchantId;
+
+    @Pattern(regexp = "^[A-Z]{2,3}$", message = "Merchant country must be a 2 or 3-letter ISO code")
+    private String merchantCountry;
+
     @Size(max = 50, message = "Card POS entry mode cannot exceed 50 characters")
     private String cardPosEntryMode;
 
@@ -102,4 +122,7 @@ public class CardTransactionDTO extends BaseDTO {
 
     @Size(max = 100, message = "Card installment plan cannot exceed 100 characters")
     private String cardInstallmentPlan;
+
+    @Size(max = 255, message = "Device ID cannot exceed 255 characters")
+    private String deviceId;
 }
@@ -19,6 +19,7 @@ package com.firefly.core.banking.cards.interfaces.enums.card.v1;
 
 public enum CardStatusEnum {
     ACTIVE,
+    INACTIVE,
     BLOCKED,
     EXPIRED,
     CANCELLED
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.interfaces.enums.event.v1;
+
+public enum CardEventTypeEnum {
+    CARD_CREATED,
+    CARD_UPDATED,
+    CARD_DELETED,
+    LIMIT_CREATED,
+    LIMIT_UPDATED,
+    LIMIT_DELETED,
+    TRANSACTION_CREATED,
+    TRANSACTION_UPDATED,
+    TRANSACTION_DELETED,
+    DISPUTE_CREATED,
+    DISPUTE_UPDATED,
+    DISPUTE_DELETED
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.interfaces.validation;
+
+/**
+ * Primary Account Number (PAN) checks that can be used on hot paths.
+ * All methods work directly on the {@link CharSequence} in a single pass and do not allocate.
+ */
+public final class Pan {
+
+    /**
+     * Minimum number of digits of a PAN.
+     */
+    public static final int MIN_LENGTH = 13;
+
+    /**
+     * Maximum number of digits of a PAN.
+     */
+    public static final int MAX_LENGTH = 19;
+
+    private Pan() {
+    }
+
+    /**
+     * Check that a card number has 13 to 19 digits and passes the Luhn checksum.
+     * Whitespace and dashes between digits are ignored; any other character makes it invalid.
+     *
+     * @param pan the card number to check, may be null
+     * @return true if the card number is valid
+     */
+    public static boolean isValid(CharSequence pan) {
+        if (pan == null) {
+            return false;
+        }
+        int sum = 0;
+        int digits = 0;
+        // Walk from the check digit to the left, doubling every second digit
+        for (int i = pan.length() - 1; i >= 0; i--) {
+            char c = pan.charAt(i);
+            if (isSeparator(c)) {
+                continue;
+            }
+            int digit = c - '0';
+            if (digit < 0 || digit > 9 || ++digits > MAX_LENGTH) {
+                return false;
+            }
+            if ((digits & 1) == 0) {
+                digit <<= 1;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+        }
+        return digits >= MIN_LENGTH && sum % 10 == 0;
+    }
+
+    /**
+     * Compute the Luhn check digit to append to a card number without its check digit.
+     *
+     * @param payload the digits of the card number before the check digit, without separators
+     * @return the check digit, from '0' to '9'
+     * @throws IllegalArgumentException if the payload contains anything but digits
+     */
+    public static char checkDigit(CharSequence payload) {
+        int sum = 0;
+        // The rightmost payload digit is doubled, since the check digit will sit to its right
+        for (int i = payload.length() - 1, position = 0; i >= 0; i--, position++) {
+            int digit = payload.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("Card number payload must only contain digits");
+            }
+            if ((position & 1) == 0) {
+                digit <<= 1;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+        }
+        return (char) ('0' + (10 - sum % 10) % 10);
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ' ' || c == '-' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == '\u000B';
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.interfaces.validation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PanTest {
+
+    @Test
+    void isValid_AcceptsLuhnValidNumbersOfEveryLength() {
+        // Arrange
+        String[] valid = {
+                "4222222222222",        // 13 digits
+                "378282246310005",      // 15 digits
+                "4111111111111111",     // 16 digits
+                "6011000990139424",
+                "5555555555554444",
+                "4111111111111111110"   // 19 digits
+        };
+
+        // Act & Assert
+        for (String pan : valid) {
+            assertTrue(Pan.isValid(pan), pan);
+        }
+    }
+
+    @Test
+    void isValid_RejectsWrongCheckDigit() {
+        // Act & Assert
+        assertFalse(Pan.isValid("4111111111111112"));
+        assertFalse(Pan.isValid("378282246310006"));
+    }
+
+    @Test
+    void isValid_RejectsTooShortOrTooLong() {
+        // Act & Assert
+        assertFalse(Pan.isValid("411111111117"));          // 12 digits, Luhn-valid
+        assertFalse(Pan.isValid("41111111111111111115"));  // 20 digits, Luhn-valid
+    }
+
+    @Test
+    void isValid_IgnoresSpacesAndDashes() {
+        // Act & Assert
+        assertTrue(Pan.isValid("4111 1111 1111 1111"));
+        assertTrue(Pan.isValid("4111-1111-1111-1111"));
+        assertTrue(Pan.isValid(" 4111\t1111\n1111 1111 "));
+        assertFalse(Pan.isValid("4111 1111 1111 1112"));
+    }
+
+    @Test
+    void isValid_SeparatorsDoNotCountTowardsLength() {
+        // Act & Assert
+        assertFalse(Pan.isValid("4111-1111-1117"));
+    }
+
+    @Test
+    void isValid_RejectsNonDigits() {
+        // Act & Assert
+        assertFalse(Pan.isValid("4111a11111111111"));
+        assertFalse(Pan.isValid("4111.1111.1111.1111"));
+        assertFalse(Pan.isValid("４１１１１１１１１１１１１１１１"));
+    }
+
+    @Test
+    void isValid_RejectsNullAndEmpty() {
+        // Act & Assert
+        assertFalse(Pan.isValid(null));
+        assertFalse(Pan.isValid(""));
+        assertFalse(Pan.isValid("   "));
+    }
+
+    @Test
+    void isValid_AcceptsAnyCharSequence() {
+        // Act & Assert
+        assertTrue(Pan.isValid(new StringBuilder("4111111111111111")));
+    }
+
+    @Test
+    void checkDigit_CompletesValidNumbers() {
+        // Act & Assert
+        assertEquals('1', Pan.checkDigit("411111111111111"));
+        assertEquals('5', Pan.checkDigit("37828224631000"));
+        assertEquals('4', Pan.checkDigit("555555555555444"));
+        assertEquals('0', Pan.checkDigit("411111111111111111"));
+    }
+
+    @Test
+    void checkDigit_ResultPassesIsValid() {
+        // Arrange
+        String payload = "453201511283036";
+
+        // Act
+        char check = Pan.checkDigit(payload);
+
+        // Assert
+        assertTrue(Pan.isValid(payload + check));
+        for (char other = '0'; other <= '9'; other++) {
+            if (other != check) {
+                assertFalse(Pan.isValid(payload + other));
+            }
+        }
+    }
+
+    @Test
+    void checkDigit_RejectsNonDigits() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> Pan.checkDigit("4111 11111111111"));
+        assertThrows(IllegalArgumentException.class, () -> Pan.checkDigit("41111111111111a"));
+    }
+
+    @Test
+    void checkDigit_EmptyPayload_IsZero() {
+        // Act & Assert
+        assertEquals('0', Pan.checkDigit(""));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.models.entities.event.v1;
+
+import com.firefly.core.banking.cards.models.entities.BaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Card Outbox Event entity.
+ * Represents a change to a card or one of its limits, transactions or disputes, written in the same
+ * transaction as the change and published afterwards by the outbox relay.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table("card_outbox_event")
+public class CardOutboxEvent extends BaseEntity {
+
+    @Id
+    @Column("event_id")
+    private UUID eventId;
+
+    /**
+     * Assigned by the database on insert. Numbers follow insert order, which can differ from
+     * commit order between concurrent transactions.
+     */
+    @ReadOnlyProperty
+    @Column("sequence_number")
+    private Long sequenceNumber;
+
+    @Column("card_id")
+    private UUID cardId;
+
+    @Column("aggregate_type")
+    private String aggregateType;
+
+    @Column("aggregate_id")
+    private UUID aggregateId;
+
+    @Column("event_type")
+    private String eventType;
+
+    @Column("payload")
+    private String payload;
+
+    @Column("published_at")
+    private LocalDateTime publishedAt;
+
+    /**
+     * Assigned by the outbox relay when the event is published. Numbers become visible in the
+     * order they are assigned, so consumers can resume after the last one they saw. Null until
+     * published.
+     */
+    @ReadOnlyProperty
+    @Column("publish_sequence")
+    private Long publishSequence;
+}
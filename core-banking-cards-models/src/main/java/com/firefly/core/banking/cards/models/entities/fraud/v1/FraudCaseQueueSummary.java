@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.models.entities.fraud.v1;
+
+import com.firefly.core.banking.cards.models.entities.BaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.util.UUID;
+
+/**
+ * Fraud Case Queue Summary entity.
+ * Represents the fraud cases of one status assigned to one agent, or unassigned, as counted by the
+ * triggers on fraud_case. Rows are maintained by the database and only read by the application.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table("fraud_case_queue_summary")
+public class FraudCaseQueueSummary extends BaseEntity {
+
+    @Id
+    @Column("summary_id")
+    private UUID summaryId;
+
+    @Column("fraud_status")
+    private String fraudStatus;
+
+    @Column("assigned_agent_id")
+    private UUID assignedAgentId;
+
+    @Column("case_count")
+    private Long caseCount;
+
+    @Column("high_risk_count")
+    private Long highRiskCount;
+
+    @Column("critical_count")
+    private Long criticalCount;
+
+    @Column("total_fraud_score")
+    private Long totalFraudScore;
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.models.entities.issuance.v1;
+
+import com.firefly.core.banking.cards.interfaces.enums.issuance.v1.IssuanceJobStatusEnum;
+import com.firefly.core.banking.cards.models.entities.BaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Card Issuance Job entity.
+ * Represents a request to issue a number of cards of one program in bulk, and how far it got.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table("card_issuance_job")
+public class CardIssuanceJob extends BaseEntity {
+
+    @Id
+    @Column("issuance_job_id")
+    private UUID issuanceJobId;
+
+    @Column("program_id")
+    private UUID programId;
+
+    @Column("party_id")
+    private UUID partyId;
+
+    @Column("account_id")
+    private UUID accountId;
+
+    @Column("contract_id")
+    private UUID contractId;
+
+    @Column("card_holder_name")
+    private String cardHolderName;
+
+    @Column("is_physical")
+    private Boolean isPhysical;
+
+    @Column("requested_count")
+    private Integer requestedCount;
+
+    /**
+     * Cards written so far. Advanced by each chunk in the transaction that writes it.
+     */
+    @Column("issued_count")
+    private Integer issuedCount;
+
+    /**
+     * Times the job was claimed. Each claim increments it, and progress is only recorded under
+     * the latest claim, so a node that lost the job can neither advance nor fail it.
+     */
+    @Column("attempts")
+    private Integer attempts;
+
+    @Column("chunk_size")
+    private Integer chunkSize;
+
+    @Column("job_status")
+    private IssuanceJobStatusEnum jobStatus;
+
+    @Column("last_error")
+    private String lastError;
+
+    @Column("started_at")
+    private LocalDateTime startedAt;
+
+    @Column("completed_at")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.models.entities.limit.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.relational.core.mapping.Column;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Outcome of a limit consumption for one card limit, as returned by
+ * {@code CardLimitRepository.consumeLimit}. Not a table of its own.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CardLimitUsage {
+
+    @Column("card_limit_id")
+    private UUID cardLimitId;
+
+    @Column("limit_type")
+    private String limitType;
+
+    @Column("limit_amount")
+    private BigDecimal limitAmount;
+
+    /**
+     * Usage after the spend when it was applied, otherwise the unchanged usage.
+     */
+    @Column("current_usage")
+    private BigDecimal currentUsage;
+
+    @Column("available_amount")
+    private BigDecimal availableAmount;
+
+    /**
+     * Whether the spend would take this limit over its amount.
+     */
+    @Column("exceeded")
+    private Boolean exceeded;
+
+    /**
+     * Whether the spend was added to this limit's usage.
+     */
+    @Column("applied")
+    private Boolean applied;
+}
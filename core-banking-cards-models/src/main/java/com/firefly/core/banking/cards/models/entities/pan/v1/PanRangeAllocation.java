@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.models.entities.pan.v1;
+
+import com.firefly.core.banking.cards.models.entities.BaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.util.UUID;
+
+/**
+ * PAN Range Allocation entity.
+ * Represents how many blocks of account numbers have been reserved from the card numbers of one
+ * BIN prefix and length.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table("pan_range_allocation")
+public class PanRangeAllocation extends BaseEntity {
+
+    @Id
+    @Column("allocation_id")
+    private UUID allocationId;
+
+    @Column("bin_prefix")
+    private String binPrefix;
+
+    @Column("pan_length")
+    private Integer panLength;
+
+    @Column("block_size")
+    private Long blockSize;
+
+    /**
+     * Number of blocks reserved so far, which is also the index of the next block to reserve.
+     */
+    @Column("next_block")
+    private Long nextBlock;
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.models.entities.statement.v1;
+
+import com.firefly.core.banking.cards.interfaces.enums.statement.v1.StatementRunStatusEnum;
+import com.firefly.core.banking.cards.models.entities.BaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Card Statement Run entity.
+ * Represents the generation of the statements of every card for one statement period, and how
+ * far it got.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table("card_statement_run")
+public class CardStatementRun extends BaseEntity {
+
+    @Id
+    @Column("run_id")
+    private UUID runId;
+
+    @Column("period_start")
+    private LocalDateTime periodStart;
+
+    @Column("period_end")
+    private LocalDateTime periodEnd;
+
+    @Column("statement_date")
+    private LocalDateTime statementDate;
+
+    @Column("due_date")
+    private LocalDateTime dueDate;
+
+    /**
+     * Number of card_id ranges the cards are split into. Fixed when the run is created.
+     */
+    @Column("shard_count")
+    private Integer shardCount;
+
+    /**
+     * Shards written so far. Advanced by each shard in the transaction that writes it.
+     */
+    @Column("completed_shards")
+    private Integer completedShards;
+
+    @Column("statement_count")
+    private Integer statementCount;
+
+    @Column("run_status")
+    private StatementRunStatusEnum runStatus;
+
+    @Column("last_error")
+    private String lastError;
+
+    @Column("started_at")
+    private LocalDateTime startedAt;
+
+    @Column("completed_at")
+    private LocalDateTime completedAt;
+}
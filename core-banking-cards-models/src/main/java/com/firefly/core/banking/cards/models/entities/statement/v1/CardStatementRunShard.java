@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.models.entities.statement.v1;
+
+import com.firefly.core.banking.cards.interfaces.enums.statement.v1.StatementRunStatusEnum;
+import com.firefly.core.banking.cards.models.entities.BaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Card Statement Run Shard entity.
+ * Represents one card_id range of a statement run, claimed and written by one worker at a time.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table("card_statement_run_shard")
+public class CardStatementRunShard extends BaseEntity {
+
+    @Id
+    @Column("shard_id")
+    private UUID shardId;
+
+    @Column("run_id")
+    private UUID runId;
+
+    /**
+     * Position of the shard's card_id range, from 0 to the run's shard count.
+     */
+    @Column("shard_index")
+    private Integer shardIndex;
+
+    @Column("shard_status")
+    private StatementRunStatusEnum shardStatus;
+
+    /**
+     * Times the shard was claimed. Identifies the current claim when the shard is completed.
+     */
+    @Column("attempts")
+    private Integer attempts;
+
+    @Column("statement_count")
+    private Integer statementCount;
+
+    @Column("last_error")
+    private String lastError;
+
+    @Column("claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column("completed_at")
+    private LocalDateTime completedAt;
+}
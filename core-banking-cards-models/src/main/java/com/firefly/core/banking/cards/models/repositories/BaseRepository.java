@@ -18,6 +18,7 @@
 package com.firefly.core.banking.cards.models.repositories;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Flux;
@@ -27,4 +28,18 @@ import reactor.core.publisher.Mono;
 public interface BaseRepository<T, ID> extends ReactiveCrudRepository<T, ID> {
     Flux<T> findAllBy(Pageable pageable);
     Mono<Long> count();
+
+    /**
+     * Stream every entity through a single query read with a database cursor. The driver fetches
+     * {@code fetchSize} rows at a time and only asks for more once they have been consumed, so
+     * memory use stays flat however large the table is, and no row is skipped or repeated since
+     * there is only one snapshot. This is the contract for reads that need the whole table;
+     * finders without a Pageable are meant for result sets known to be small. Implemented by
+     * {@link StreamingR2dbcRepository}.
+     *
+     * @param sort the order to read in
+     * @param fetchSize the number of rows fetched from the database per round trip
+     * @return a Flux emitting every entity in the given order
+     */
+    Flux<T> streamAll(Sort sort, int fetchSize);
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.models.repositories;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
+import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
+import org.springframework.data.r2dbc.core.StatementMapper;
+import org.springframework.data.r2dbc.repository.support.SimpleR2dbcRepository;
+import org.springframework.data.relational.repository.query.RelationalEntityInformation;
+import reactor.core.publisher.Flux;
+
+/**
+ * Base class of the repository beans, adding {@link BaseRepository#streamAll} to the standard
+ * R2DBC repository.
+ */
+public class StreamingR2dbcRepository<T, ID> extends SimpleR2dbcRepository<T, ID> {
+
+    private final RelationalEntityInformation<T, ID> entity;
+    private final R2dbcEntityOperations entityOperations;
+    private final R2dbcConverter converter;
+
+    public StreamingR2dbcRepository(RelationalEntityInformation<T, ID> entity,
+                                    R2dbcEntityOperations entityOperations,
+                                    R2dbcConverter converter) {
+        super(entity, entityOperations, converter);
+        this.entity = entity;
+        this.entityOperations = entityOperations;
+        this.converter = converter;
+    }
+
+    /**
+     * See {@link BaseRepository#streamAll(Sort, int)}.
+     */
+    public Flux<T> streamAll(Sort sort, int fetchSize) {
+        if (fetchSize <= 0) {
+            return Flux.error(new IllegalArgumentException("Fetch size must be positive"));
+        }
+        Class<T> entityType = entity.getJavaType();
+        ReactiveDataAccessStrategy strategy = entityOperations.getDataAccessStrategy();
+        StatementMapper mapper = strategy.getStatementMapper().forType(entityType);
+        StatementMapper.SelectSpec select = mapper.createSelect(entity.getTableName())
+                .withProjection(strategy.getAllColumns(entityType))
+                .withSort(sort);
+
+        return entityOperations.getDatabaseClient().sql(mapper.getMappedObject(select))
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map((row, rowMetadata) -> converter.read(entityType, row, rowMetadata))
+                .all();
+    }
+}
@@ -19,6 +19,7 @@ package com.firefly.core.banking.cards.models.repositories.activity.v1;
 
 import com.firefly.core.banking.cards.models.entities.activity.v1.CardActivity;
 import com.firefly.core.banking.cards.models.repositories.BaseRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -62,7 +63,7 @@ public interface CardActivityRepository extends BaseRepository<CardActivity, UUI
      * @param pageable the pagination information
      * @return a Flux emitting the CardActivities for the specified card with pagination
      */
-    Flux<CardActivity> findByCardId(UUID cardId, org.springframework.data.domain.Pageable pageable);
+    Flux<CardActivity> findByCardId(UUID cardId, Pageable pageable);
 
     /**
      * Count CardActivities by card ID.
@@ -81,6 +82,15 @@ public interface CardActivityRepository extends BaseRepository<CardActivity, UUI
      */
     Flux<CardActivity> findByPartyId(UUID partyId);
 
+    /**
+     * Find CardActivities by party ID with pagination.
+     *
+     * @param partyId the party ID to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardActivities for the specified party with pagination
+     */
+    Flux<CardActivity> findByPartyId(UUID partyId, Pageable pageable);
+
     /**
      * Find CardActivities by account ID.
      *
@@ -89,6 +99,15 @@ public interface CardActivityRepository extends BaseRepository<CardActivity, UUI
      */
     Flux<CardActivity> findByAccountId(UUID accountId);
 
+    /**
+     * Find CardActivities by account ID with pagination.
+     *
+     * @param accountId the account ID to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardActivities for the specified account with pagination
+     */
+    Flux<CardActivity> findByAccountId(UUID accountId, Pageable pageable);
+
     /**
      * Find CardActivities by activity type.
      *
@@ -97,6 +116,15 @@ public interface CardActivityRepository extends BaseRepository<CardActivity, UUI
      */
     Flux<CardActivity> findByActivityType(String activityType);
 
+    /**
+     * Find CardActivities by activity type with pagination.
+     *
+     * @param activityType the activity type to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardActivities of the specified type with pagination
+     */
+    Flux<CardActivity> findByActivityType(String activityType, Pageable pageable);
+
     /**
      * Find CardActivities by activity category.
      *
@@ -105,6 +133,15 @@ public interface CardActivityRepository extends BaseRepository<CardActivity, UUI
      */
     Flux<CardActivity> findByActivityCategory(String activityCategory);
 
+    /**
+     * Find CardActivities by activity category with pagination.
+     *
+     * @param activityCategory the activity category to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardActivities of the specified category with pagination
+     */
+    Flux<CardActivity> findByActivityCategory(String activityCategory, Pageable pageable);
+
     /**
      * Find CardActivities by activity status.
      *
@@ -113,6 +150,15 @@ public interface CardActivityRepository extends BaseRepository<CardActivity, UUI
      */
     Flux<CardActivity> findByActivityStatus(String activityStatus);
 
+    /**
+     * Find CardActivities by activity status with pagination.
+     *
+     * @param activityStatus the activity status to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardActivities with the specified status with pagination
+     */
+    Flux<CardActivity> findByActivityStatus(String activityStatus, Pageable pageable);
+
     /**
      * Find CardActivities by activity result.
      *
@@ -121,6 +167,15 @@ public interface CardActivityRepository extends BaseRepository<CardActivity, UUI
      */
     Flux<CardActivity> findByActivityResult(String activityResult);
 
+    /**
+     * Find CardActivities by activity result with pagination.
+     *
+     * @param activityResult the activity result to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardActivities with the specified result with pagination
+     */
+    Flux<CardActivity> findByActivityResult(String activityResult, Pageable pageable);
+
     /**
      * Find CardActivities by activity timestamp range.
      *
@@ -130,6 +185,16 @@ public interface CardActivityRepository extends BaseRepository<CardActivity, UUI
      */
     Flux<CardActivity> findByActivityTimestampBetween(LocalDateTime startDate, LocalDateTime endDate);
 
+    /**
+     * Find CardActivities by activity timestamp range with pagination.
+     *
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardActivities within the specified date range with pagination
+     */
+    Flux<CardActivity> findByActivityTimestampBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+
     /**
      * Find CardActivities by activity channel.
      *
@@ -138,6 +203,15 @@ public interface CardActivityRepository extends BaseRepository<CardActivity, UUI
      */
     Flux<CardActivity> findByActivityChannel(String activityChannel);
 
+    /**
+     * Find CardActivities by activity channel with pagination.
+     *
+     * @param activityChannel the activity channel to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardActivities with the specified channel with pagination
+     */
+    Flux<CardActivity> findByActivityChannel(String activityChannel, Pageable pageable);
+
     /**
      * Find CardActivities by activity source.
      *
@@ -146,6 +220,15 @@ public interface CardActivityRepository extends BaseRepository<CardActivity, UUI
      */
     Flux<CardActivity> findByActivitySource(String activitySource);
 
+    /**
+     * Find CardActivities by activity source with pagination.
+     *
+     * @param activitySource the activity source to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardActivities with the specified source with pagination
+     */
+    Flux<CardActivity> findByActivitySource(String activitySource, Pageable pageable);
+
     /**
      * Find CardActivities initiated by parties.
      *
@@ -153,6 +236,14 @@ public interface CardActivityRepository extends BaseRepository<CardActivity, UUI
      */
     Flux<CardActivity> findByIsPartyInitiatedTrue();
 
+    /**
+     * Find CardActivities initiated by parties with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all CardActivities initiated by parties with pagination
+     */
+    Flux<CardActivity> findByIsPartyInitiatedTrue(Pageable pageable);
+
     /**
      * Find CardActivities initiated by the system.
      *
@@ -160,6 +251,14 @@ public interface CardActivityRepository extends BaseRepository<CardActivity, UUI
      */
     Flux<CardActivity> findByIsSystemInitiatedTrue();
 
+    /**
+     * Find CardActivities initiated by the system with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all CardActivities initiated by the system with pagination
+     */
+    Flux<CardActivity> findByIsSystemInitiatedTrue(Pageable pageable);
+
     /**
      * Find CardActivities initiated by agents.
      *
@@ -167,6 +266,14 @@ public interface CardActivityRepository extends BaseRepository<CardActivity, UUI
      */
     Flux<CardActivity> findByIsAgentInitiatedTrue();
 
+    /**
+     * Find CardActivities initiated by agents with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all CardActivities initiated by agents with pagination
+     */
+    Flux<CardActivity> findByIsAgentInitiatedTrue(Pageable pageable);
+
     /**
      * Find CardActivities by agent ID.
      *
@@ -175,6 +282,15 @@ public interface CardActivityRepository extends BaseRepository<CardActivity, UUI
      */
     Flux<CardActivity> findByAgentId(String agentId);
 
+    /**
+     * Find CardActivities by agent ID with pagination.
+     *
+     * @param agentId the agent ID to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardActivities for the specified agent with pagination
+     */
+    Flux<CardActivity> findByAgentId(String agentId, Pageable pageable);
+
     /**
      * Find successful CardActivities.
      *
@@ -182,6 +298,14 @@ public interface CardActivityRepository extends BaseRepository<CardActivity, UUI
      */
     Flux<CardActivity> findByIsSuccessfulTrue();
 
+    /**
+     * Find successful CardActivities with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all successful CardActivities with pagination
+     */
+    Flux<CardActivity> findByIsSuccessfulTrue(Pageable pageable);
+
     /**
      * Find unsuccessful CardActivities.
      *
@@ -189,6 +313,14 @@ public interface CardActivityRepository extends BaseRepository<CardActivity, UUI
      */
     Flux<CardActivity> findByIsSuccessfulFalse();
 
+    /**
+     * Find unsuccessful CardActivities with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all unsuccessful CardActivities with pagination
+     */
+    Flux<CardActivity> findByIsSuccessfulFalse(Pageable pageable);
+
     /**
      * Find CardActivities by failure code.
      *
@@ -197,6 +329,15 @@ public interface CardActivityRepository extends BaseRepository<CardActivity, UUI
      */
     Flux<CardActivity> findByFailureCode(String failureCode);
 
+    /**
+     * Find CardActivities by failure code with pagination.
+     *
+     * @param failureCode the failure code to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardActivities with the specified failure code with pagination
+     */
+    Flux<CardActivity> findByFailureCode(String failureCode, Pageable pageable);
+
     /**
      * Find CardActivities where notifications were sent.
      *
@@ -204,6 +345,14 @@ public interface CardActivityRepository extends BaseRepository<CardActivity, UUI
      */
     Flux<CardActivity> findByIsNotificationSentTrue();
 
+    /**
+     * Find CardActivities where notifications were sent with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all CardActivities where notifications were sent with pagination
+     */
+    Flux<CardActivity> findByIsNotificationSentTrue(Pageable pageable);
+
     /**
      * Find CardActivities by related entity type and ID.
      *
@@ -212,4 +361,32 @@ public interface CardActivityRepository extends BaseRepository<CardActivity, UUI
      * @return a Flux emitting the CardActivities related to the specified entity
      */
     Flux<CardActivity> findByRelatedEntityTypeAndRelatedEntityId(String relatedEntityType, UUID relatedEntityId);
-}
\ No newline at end of file
+
+    /**
+     * Find CardActivities by related entity type and ID with pagination.
+     *
+     * @param relatedEntityType the related entity type to search for
+     * @param relatedEntityId the related entity ID to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardActivities related to the specified entity with pagination
+     */
+    Flux<CardActivity> findByRelatedEntityTypeAndRelatedEntityId(String relatedEntityType, UUID relatedEntityId, Pageable pageable);
+
+    /**
+     * Find a card activity by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param activityId the ID of the card activity
+     * @return a Mono emitting the card activity, or empty if it does not exist or belongs to another card
+     */
+    Mono<CardActivity> findByCardIdAndActivityId(UUID cardId, UUID activityId);
+
+    /**
+     * Delete a card activity by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param activityId the ID of the card activity
+     * @return a Mono emitting the number of rows deleted, 0 if it does not exist or belongs to another card
+     */
+    Mono<Integer> deleteByCardIdAndActivityId(UUID cardId, UUID activityId);
+}
@@ -19,10 +19,14 @@ package com.firefly.core.banking.cards.models.repositories.balance.v1;
 
 import com.firefly.core.banking.cards.models.entities.balance.v1.CardBalance;
 import com.firefly.core.banking.cards.models.repositories.BaseRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -73,6 +77,15 @@ public interface CardBalanceRepository extends BaseRepository<CardBalance, UUID>
      */
     Flux<CardBalance> findByPartyId(UUID partyId);
 
+    /**
+     * Find CardBalances by party ID with pagination.
+     *
+     * @param partyId the party ID to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardBalances for the specified party with pagination
+     */
+    Flux<CardBalance> findByPartyId(UUID partyId, Pageable pageable);
+
     /**
      * Find CardBalances by account ID.
      *
@@ -81,6 +94,15 @@ public interface CardBalanceRepository extends BaseRepository<CardBalance, UUID>
      */
     Flux<CardBalance> findByAccountId(UUID accountId);
 
+    /**
+     * Find CardBalances by account ID with pagination.
+     *
+     * @param accountId the account ID to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardBalances for the specified account with pagination
+     */
+    Flux<CardBalance> findByAccountId(UUID accountId, Pageable pageable);
+
     /**
      * Find CardBalances by statement ID.
      *
@@ -89,6 +111,15 @@ public interface CardBalanceRepository extends BaseRepository<CardBalance, UUID>
      */
     Flux<CardBalance> findByStatementId(UUID statementId);
 
+    /**
+     * Find CardBalances by statement ID with pagination.
+     *
+     * @param statementId the statement ID to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardBalances for the specified statement with pagination
+     */
+    Flux<CardBalance> findByStatementId(UUID statementId, Pageable pageable);
+
     /**
      * Find CardBalances by balance type.
      *
@@ -97,6 +128,15 @@ public interface CardBalanceRepository extends BaseRepository<CardBalance, UUID>
      */
     Flux<CardBalance> findByBalanceType(String balanceType);
 
+    /**
+     * Find CardBalances by balance type with pagination.
+     *
+     * @param balanceType the balance type to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardBalances of the specified type with pagination
+     */
+    Flux<CardBalance> findByBalanceType(String balanceType, Pageable pageable);
+
     /**
      * Find CardBalances by balance category.
      *
@@ -105,6 +145,15 @@ public interface CardBalanceRepository extends BaseRepository<CardBalance, UUID>
      */
     Flux<CardBalance> findByBalanceCategory(String balanceCategory);
 
+    /**
+     * Find CardBalances by balance category with pagination.
+     *
+     * @param balanceCategory the balance category to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardBalances of the specified category with pagination
+     */
+    Flux<CardBalance> findByBalanceCategory(String balanceCategory, Pageable pageable);
+
     /**
      * Find CardBalances by currency code.
      *
@@ -113,6 +162,15 @@ public interface CardBalanceRepository extends BaseRepository<CardBalance, UUID>
      */
     Flux<CardBalance> findByCurrencyCode(String currencyCode);
 
+    /**
+     * Find CardBalances by currency code with pagination.
+     *
+     * @param currencyCode the currency code to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardBalances with the specified currency with pagination
+     */
+    Flux<CardBalance> findByCurrencyCode(String currencyCode, Pageable pageable);
+
     /**
      * Find CardBalances with promotional rate.
      *
@@ -120,6 +178,14 @@ public interface CardBalanceRepository extends BaseRepository<CardBalance, UUID>
      */
     Flux<CardBalance> findByIsPromotionalRateTrue();
 
+    /**
+     * Find CardBalances with promotional rate with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all CardBalances with promotional rate with pagination
+     */
+    Flux<CardBalance> findByIsPromotionalRateTrue(Pageable pageable);
+
     /**
      * Find CardBalances in grace period.
      *
@@ -127,6 +193,14 @@ public interface CardBalanceRepository extends BaseRepository<CardBalance, UUID>
      */
     Flux<CardBalance> findByIsInGracePeriodTrue();
 
+    /**
+     * Find CardBalances in grace period with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all CardBalances in grace period with pagination
+     */
+    Flux<CardBalance> findByIsInGracePeriodTrue(Pageable pageable);
+
     /**
      * Find delinquent CardBalances.
      *
@@ -134,6 +208,14 @@ public interface CardBalanceRepository extends BaseRepository<CardBalance, UUID>
      */
     Flux<CardBalance> findByIsDelinquentTrue();
 
+    /**
+     * Find delinquent CardBalances with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all delinquent CardBalances with pagination
+     */
+    Flux<CardBalance> findByIsDelinquentTrue(Pageable pageable);
+
     /**
      * Find charged off CardBalances.
      *
@@ -141,6 +223,14 @@ public interface CardBalanceRepository extends BaseRepository<CardBalance, UUID>
      */
     Flux<CardBalance> findByIsChargedOffTrue();
 
+    /**
+     * Find charged off CardBalances with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all charged off CardBalances with pagination
+     */
+    Flux<CardBalance> findByIsChargedOffTrue(Pageable pageable);
+
     /**
      * Find written off CardBalances.
      *
@@ -148,6 +238,14 @@ public interface CardBalanceRepository extends BaseRepository<CardBalance, UUID>
      */
     Flux<CardBalance> findByIsWrittenOffTrue();
 
+    /**
+     * Find written off CardBalances with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all written off CardBalances with pagination
+     */
+    Flux<CardBalance> findByIsWrittenOffTrue(Pageable pageable);
+
     /**
      * Find CardBalances in collection.
      *
@@ -155,6 +253,14 @@ public interface CardBalanceRepository extends BaseRepository<CardBalance, UUID>
      */
     Flux<CardBalance> findByIsInCollectionTrue();
 
+    /**
+     * Find CardBalances in collection with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all CardBalances in collection with pagination
+     */
+    Flux<CardBalance> findByIsInCollectionTrue(Pageable pageable);
+
     /**
      * Find CardBalances by promotion ID.
      *
@@ -163,6 +269,15 @@ public interface CardBalanceRepository extends BaseRepository<CardBalance, UUID>
      */
     Flux<CardBalance> findByPromotionId(UUID promotionId);
 
+    /**
+     * Find CardBalances by promotion ID with pagination.
+     *
+     * @param promotionId the promotion ID to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardBalances for the specified promotion with pagination
+     */
+    Flux<CardBalance> findByPromotionId(UUID promotionId, Pageable pageable);
+
     /**
      * Find CardBalances by as of date range.
      *
@@ -172,6 +287,16 @@ public interface CardBalanceRepository extends BaseRepository<CardBalance, UUID>
      */
     Flux<CardBalance> findByAsOfDateBetween(LocalDateTime startDate, LocalDateTime endDate);
 
+    /**
+     * Find CardBalances by as of date range with pagination.
+     *
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardBalances within the specified date range with pagination
+     */
+    Flux<CardBalance> findByAsOfDateBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+
     /**
      * Find CardBalances by last transaction ID.
      *
@@ -179,4 +304,162 @@ public interface CardBalanceRepository extends BaseRepository<CardBalance, UUID>
      * @return a Flux emitting the CardBalances with the specified last transaction
      */
     Flux<CardBalance> findByLastTransactionId(UUID lastTransactionId);
-}
\ No newline at end of file
+
+    /**
+     * Find CardBalances by last transaction ID with pagination.
+     *
+     * @param lastTransactionId the last transaction ID to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardBalances with the specified last transaction with pagination
+     */
+    Flux<CardBalance> findByLastTransactionId(UUID lastTransactionId, Pageable pageable);
+
+    /**
+     * Find a card balance by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param balanceId the ID of the card balance
+     * @return a Mono emitting the card balance, or empty if it does not exist or belongs to another card
+     */
+    Mono<CardBalance> findByCardIdAndBalanceId(UUID cardId, UUID balanceId);
+
+    /**
+     * Delete a card balance by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param balanceId the ID of the card balance
+     * @return a Mono emitting the number of rows deleted, 0 if it does not exist or belongs to another card
+     */
+    Mono<Integer> deleteByCardIdAndBalanceId(UUID cardId, UUID balanceId);
+
+    /**
+     * Add a transaction delta to the CURRENT balance of a card in one currency, creating the
+     * balance if it does not exist yet. The available amount moves opposite to the posted and
+     * pending amounts, and the last transaction only moves forward in time.
+     *
+     * @param cardId the card ID
+     * @param currencyCode the currency of the balance
+     * @param posted the change to the posted balance
+     * @param pending the change to the pending amount
+     * @param lastTransactionId the most recent transaction included in the delta
+     * @param lastTransactionTimestamp the timestamp of that transaction
+     * @return a Mono emitting the number of balances written
+     */
+    @Modifying
+    @Query("""
+            INSERT INTO card_balance (card_id, balance_type, currency_code, balance_amount, pending_amount,
+                                      available_amount, last_transaction_id, last_transaction_timestamp,
+                                      as_of_date, date_created, date_updated)
+            VALUES (:cardId, 'CURRENT', :currencyCode, :posted, :pending, -(:posted + :pending),
+                    :lastTransactionId, :lastTransactionTimestamp, now(), now(), now())
+            ON CONFLICT (card_id, currency_code) WHERE balance_type = 'CURRENT' DO UPDATE SET
+                balance_amount = COALESCE(card_balance.balance_amount, 0) + EXCLUDED.balance_amount,
+                pending_amount = COALESCE(card_balance.pending_amount, 0) + EXCLUDED.pending_amount,
+                available_amount = COALESCE(card_balance.available_amount, 0) + EXCLUDED.available_amount,
+                last_transaction_id = CASE
+                    WHEN card_balance.last_transaction_timestamp IS NULL
+                        OR EXCLUDED.last_transaction_timestamp >= card_balance.last_transaction_timestamp
+                    THEN EXCLUDED.last_transaction_id
+                    ELSE card_balance.last_transaction_id END,
+                last_transaction_timestamp = GREATEST(card_balance.last_transaction_timestamp,
+                                                      EXCLUDED.last_transaction_timestamp),
+                as_of_date = EXCLUDED.as_of_date,
+                date_updated = EXCLUDED.date_updated
+            """)
+    Mono<Integer> applyTransactionDelta(UUID cardId, String currencyCode, BigDecimal posted, BigDecimal pending,
+                                        UUID lastTransactionId, LocalDateTime lastTransactionTimestamp);
+
+    /**
+     * Find every card that has transactions or CURRENT balances, which are the cards a full
+     * rebuild has to visit: a balance whose transactions were all deleted has to be zeroed.
+     *
+     * @return a Flux emitting each card ID once
+     */
+    @Query("""
+            SELECT card_id FROM card_transaction WHERE card_id IS NOT NULL
+            UNION
+            SELECT card_id FROM card_balance WHERE balance_type = 'CURRENT'
+            """)
+    Flux<UUID> findCardIdsToRebuild();
+
+    /**
+     * Lock the CURRENT balances of a card until the end of the transaction, so that a rebuild
+     * does not race deltas applied by concurrent transaction inserts.
+     *
+     * @param cardId the card ID
+     * @return a Flux emitting the IDs of the locked balances
+     */
+    @Query("SELECT balance_id FROM card_balance WHERE card_id = :cardId AND balance_type = 'CURRENT' FOR UPDATE")
+    Flux<UUID> lockCurrentBalances(UUID cardId);
+
+    /**
+     * Recompute the CURRENT balances of a card from its whole transaction history. Completed
+     * transactions count towards the posted balance and pending ones towards the pending amount;
+     * failed and reversed transactions are ignored. Payments and refunds reduce the balance, every
+     * other type increases it. The available amount is corrected by the difference between the
+     * stored and the recomputed amounts, so any base set on it (such as a credit line) is kept.
+     * CURRENT balances in a currency the card no longer has any such transaction in are zeroed.
+     *
+     * @param cardId the card ID
+     * @return a Flux emitting the IDs of the rebuilt balances
+     */
+    @Query("""
+            WITH totals AS (
+                SELECT card_id,
+                       CASE WHEN billing_amount IS NOT NULL THEN billing_currency ELSE transaction_currency END AS currency_code,
+                       COALESCE(SUM(CASE WHEN transaction_status::text = 'COMPLETED' THEN signed_amount END), 0) AS posted,
+                       COALESCE(SUM(CASE WHEN transaction_status::text = 'PENDING' THEN signed_amount END), 0) AS pending,
+                       (array_agg(card_transaction_id ORDER BY transaction_timestamp DESC NULLS LAST))[1] AS last_id,
+                       MAX(transaction_timestamp) AS last_timestamp
+                FROM (
+                    SELECT t.*,
+                           CASE WHEN t.transaction_type::text IN ('PAYMENT', 'REFUND') THEN -1 ELSE 1 END
+                               * COALESCE(t.billing_amount, t.transaction_amount) AS signed_amount
+                    FROM card_transaction t
+                    WHERE t.card_id = :cardId
+                      AND t.transaction_status::text IN ('COMPLETED', 'PENDING')
+                ) signed
+                GROUP BY card_id, 2
+            ),
+            upserted AS (
+                INSERT INTO card_balance (card_id, balance_type, currency_code, balance_amount, pending_amount,
+                                          available_amount, last_transaction_id, last_transaction_timestamp,
+                                          as_of_date, date_created, date_updated)
+                SELECT card_id, 'CURRENT', currency_code, posted, pending, -(posted + pending),
+                       last_id, last_timestamp, now(), now(), now()
+                FROM totals
+                WHERE currency_code IS NOT NULL
+                ON CONFLICT (card_id, currency_code) WHERE balance_type = 'CURRENT' DO UPDATE SET
+                    available_amount = COALESCE(card_balance.available_amount, 0)
+                        + COALESCE(card_balance.balance_amount, 0) + COALESCE(card_balance.pending_amount, 0)
+                        - EXCLUDED.balance_amount - EXCLUDED.pending_amount,
+                    balance_amount = EXCLUDED.balance_amount,
+                    pending_amount = EXCLUDED.pending_amount,
+                    last_transaction_id = EXCLUDED.last_transaction_id,
+                    last_transaction_timestamp = EXCLUDED.last_transaction_timestamp,
+                    as_of_date = EXCLUDED.as_of_date,
+                    date_updated = EXCLUDED.date_updated
+                RETURNING balance_id
+            ),
+            zeroed AS (
+                UPDATE card_balance b SET
+                    available_amount = COALESCE(b.available_amount, 0)
+                        + COALESCE(b.balance_amount, 0) + COALESCE(b.pending_amount, 0),
+                    balance_amount = 0,
+                    pending_amount = 0,
+                    last_transaction_id = NULL,
+                    last_transaction_timestamp = NULL,
+                    as_of_date = now(),
+                    date_updated = now()
+                WHERE b.card_id = :cardId
+                  AND b.balance_type = 'CURRENT'
+                  AND NOT EXISTS (SELECT 1 FROM totals t WHERE t.currency_code = b.currency_code)
+                  AND (COALESCE(b.balance_amount, 0) <> 0 OR COALESCE(b.pending_amount, 0) <> 0)
+                RETURNING b.balance_id
+            )
+            SELECT balance_id FROM upserted
+            UNION ALL
+            SELECT balance_id FROM zeroed
+            """)
+    Flux<UUID> rebuildCurrentBalances(UUID cardId);
+}
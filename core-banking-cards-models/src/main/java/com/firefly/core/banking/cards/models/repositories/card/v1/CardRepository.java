@@ -19,12 +19,24 @@ package com.firefly.core.banking.cards.models.repositories.card.v1;
 
 import com.firefly.core.banking.cards.models.entities.card.v1.Card;
 import com.firefly.core.banking.cards.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.UUID;
 
 @Repository
 public interface CardRepository extends BaseRepository<Card, UUID> {
     Mono<Card> findByCardId(UUID cardId);
+
+    /**
+     * Find which of the given card numbers are already taken, using idx_card_card_number_unique.
+     *
+     * @param cardNumbers the card numbers to look up
+     * @return a Flux emitting the card numbers that belong to an existing card
+     */
+    @Query("SELECT card_number FROM card WHERE card_number IN (:cardNumbers)")
+    Flux<String> findExistingCardNumbers(Collection<String> cardNumbers);
 }
\ No newline at end of file
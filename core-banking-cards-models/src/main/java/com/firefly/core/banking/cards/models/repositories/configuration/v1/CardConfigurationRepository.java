@@ -32,4 +32,22 @@ public interface CardConfigurationRepository extends BaseRepository<CardConfigur
 
     Flux<CardConfiguration> findByCardId(UUID cardId, Pageable pageable);
     Mono<Long> countByCardId(UUID cardId);
-}
\ No newline at end of file
+
+    /**
+     * Find a card configuration by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param cardConfigurationId the ID of the card configuration
+     * @return a Mono emitting the card configuration, or empty if it does not exist or belongs to another card
+     */
+    Mono<CardConfiguration> findByCardIdAndCardConfigurationId(UUID cardId, UUID cardConfigurationId);
+
+    /**
+     * Delete a card configuration by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param cardConfigurationId the ID of the card configuration
+     * @return a Mono emitting the number of rows deleted, 0 if it does not exist or belongs to another card
+     */
+    Mono<Integer> deleteByCardIdAndCardConfigurationId(UUID cardId, UUID cardConfigurationId);
+}
@@ -185,4 +185,22 @@ public interface CardDisputeRepository extends BaseRepository<CardDispute, UUID>
      * @return a Flux emitting the CardDisputes assigned to the specified agent
      */
     Flux<CardDispute> findByAssignedAgentId(UUID assignedAgentId);
-}
\ No newline at end of file
+
+    /**
+     * Find a card dispute by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param disputeId the ID of the card dispute
+     * @return a Mono emitting the card dispute, or empty if it does not exist or belongs to another card
+     */
+    Mono<CardDispute> findByCardIdAndDisputeId(UUID cardId, UUID disputeId);
+
+    /**
+     * Delete a card dispute by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param disputeId the ID of the card dispute
+     * @return a Mono emitting the number of rows deleted, 0 if it does not exist or belongs to another card
+     */
+    Mono<Integer> deleteByCardIdAndDisputeId(UUID cardId, UUID disputeId);
+}
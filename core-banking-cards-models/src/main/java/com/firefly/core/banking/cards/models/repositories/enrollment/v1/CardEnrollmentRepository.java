@@ -211,4 +211,22 @@ public interface CardEnrollmentRepository extends BaseRepository<CardEnrollment,
      * @return a Flux emitting the CardEnrollments with next recurrence date before the specified date
      */
     Flux<CardEnrollment> findByIsRecurringTrueAndNextRecurrenceDateBefore(LocalDateTime date);
-}
\ No newline at end of file
+
+    /**
+     * Find a card enrollment by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param enrollmentId the ID of the card enrollment
+     * @return a Mono emitting the card enrollment, or empty if it does not exist or belongs to another card
+     */
+    Mono<CardEnrollment> findByCardIdAndEnrollmentId(UUID cardId, UUID enrollmentId);
+
+    /**
+     * Delete a card enrollment by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param enrollmentId the ID of the card enrollment
+     * @return a Mono emitting the number of rows deleted, 0 if it does not exist or belongs to another card
+     */
+    Mono<Integer> deleteByCardIdAndEnrollmentId(UUID cardId, UUID enrollmentId);
+}
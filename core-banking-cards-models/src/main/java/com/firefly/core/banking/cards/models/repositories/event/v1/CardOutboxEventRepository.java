@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.models.repositories.event.v1;
+
+import com.firefly.core.banking.cards.models.entities.event.v1.CardOutboxEvent;
+import com.firefly.core.banking.cards.models.repositories.BaseRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Repository for managing CardOutboxEvent entities.
+ */
+@Repository
+public interface CardOutboxEventRepository extends BaseRepository<CardOutboxEvent, UUID> {
+
+    /**
+     * Find the events of a card published after the given publish sequence, in publication order.
+     *
+     * @param cardId the card ID
+     * @param publishSequence the last publish sequence already seen
+     * @param pageable the pagination information
+     * @return a Flux emitting the later events of the card
+     */
+    Flux<CardOutboxEvent> findByCardIdAndPublishSequenceGreaterThanOrderByPublishSequence(
+            UUID cardId, Long publishSequence, Pageable pageable);
+
+    /**
+     * Lock the oldest unpublished events for publishing. Rows are claimed with
+     * {@code FOR UPDATE SKIP LOCKED}, so relays on other instances each take a disjoint batch.
+     * Must run in the transaction that marks them published.
+     *
+     * @param batchSize the maximum number of events to claim
+     * @return a Flux emitting the claimed events in sequence order
+     */
+    @Query("""
+            SELECT *
+            FROM card_outbox_event
+            WHERE published_at IS NULL
+            ORDER BY sequence_number
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED
+            """)
+    Flux<CardOutboxEvent> claimUnpublished(int batchSize);
+
+    /**
+     * Mark events as published and number them from the publish sequence, in sequence order.
+     * Numbers are drawn under a transaction-scoped advisory lock, so concurrent relays commit
+     * them in the order they were drawn. Must run in the transaction that claimed the events.
+     *
+     * @param eventIds the IDs of the events to mark
+     * @param publishedAt the publication time
+     * @return a Flux emitting the marked events
+     */
+    @Query("""
+            WITH publish_lock AS (
+                SELECT pg_advisory_xact_lock(hashtext('card_outbox_event_publish_sequence'))
+            ),
+            numbered AS (
+                SELECT claimed.event_id, nextval('card_outbox_event_publish_sequence') AS publish_sequence
+                FROM (SELECT e.event_id
+                      FROM card_outbox_event e, publish_lock
+                      WHERE e.event_id = ANY(CAST(:eventIds AS uuid[]))
+                      ORDER BY e.sequence_number) claimed
+            )
+            UPDATE card_outbox_event e
+            SET published_at = :publishedAt,
+                publish_sequence = numbered.publish_sequence,
+                date_updated = now()
+            FROM numbered
+            WHERE e.event_id = numbered.event_id
+            RETURNING e.*
+            """)
+    Flux<CardOutboxEvent> markPublished(UUID[] eventIds, LocalDateTime publishedAt);
+
+    /**
+     * Delete events published before the given time.
+     *
+     * @param before the cutoff time
+     * @return a Mono emitting the number of deleted events
+     */
+    @Modifying
+    @Query("DELETE FROM card_outbox_event WHERE published_at < :before")
+    Mono<Integer> deletePublishedBefore(LocalDateTime before);
+
+    /**
+     * Count the events waiting to be published.
+     *
+     * @return a Mono emitting the number of unpublished events
+     */
+    @Query("SELECT COUNT(*) FROM card_outbox_event WHERE published_at IS NULL")
+    Mono<Long> countUnpublished();
+}
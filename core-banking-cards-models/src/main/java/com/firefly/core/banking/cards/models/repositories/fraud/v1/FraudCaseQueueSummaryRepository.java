@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.models.repositories.fraud.v1;
+
+import com.firefly.core.banking.cards.models.entities.fraud.v1.FraudCaseQueueSummary;
+import com.firefly.core.banking.cards.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * Repository for reading FraudCaseQueueSummary entities. The summary is written by database
+ * triggers on fraud_case only.
+ */
+@Repository
+public interface FraudCaseQueueSummaryRepository extends BaseRepository<FraudCaseQueueSummary, UUID> {
+
+    /**
+     * Find the summaries of every status and agent that currently has cases.
+     *
+     * @return a Flux emitting the non-empty summaries ordered by status and agent, unassigned first
+     */
+    @Query("SELECT * FROM fraud_case_queue_summary WHERE case_count > 0 " +
+            "ORDER BY fraud_status, assigned_agent_id NULLS FIRST")
+    Flux<FraudCaseQueueSummary> findNonEmpty();
+
+    /**
+     * Find the summaries of one agent that currently has cases.
+     *
+     * @param assignedAgentId the agent ID
+     * @return a Flux emitting the agent's non-empty summaries ordered by status
+     */
+    @Query("SELECT * FROM fraud_case_queue_summary WHERE assigned_agent_id = :assignedAgentId AND case_count > 0 " +
+            "ORDER BY fraud_status")
+    Flux<FraudCaseQueueSummary> findNonEmptyByAgent(UUID assignedAgentId);
+}
@@ -19,6 +19,8 @@ package com.firefly.core.banking.cards.models.repositories.fraud.v1;
 
 import com.firefly.core.banking.cards.models.entities.fraud.v1.FraudCase;
 import com.firefly.core.banking.cards.models.repositories.BaseRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -55,6 +57,15 @@ public interface FraudCaseRepository extends BaseRepository<FraudCase, UUID> {
      */
     Flux<FraudCase> findByCardId(UUID cardId);
 
+    /**
+     * Find FraudCases by card ID with pagination.
+     *
+     * @param cardId the card ID to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the FraudCases for the specified card with pagination
+     */
+    Flux<FraudCase> findByCardId(UUID cardId, Pageable pageable);
+
     /**
      * Find FraudCases by transaction ID.
      *
@@ -63,6 +74,15 @@ public interface FraudCaseRepository extends BaseRepository<FraudCase, UUID> {
      */
     Flux<FraudCase> findByTransactionId(UUID transactionId);
 
+    /**
+     * Find FraudCases by transaction ID with pagination.
+     *
+     * @param transactionId the transaction ID to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the FraudCases for the specified transaction with pagination
+     */
+    Flux<FraudCase> findByTransactionId(UUID transactionId, Pageable pageable);
+
     /**
      * Find FraudCases by party ID.
      *
@@ -71,6 +91,15 @@ public interface FraudCaseRepository extends BaseRepository<FraudCase, UUID> {
      */
     Flux<FraudCase> findByPartyId(UUID partyId);
 
+    /**
+     * Find FraudCases by party ID with pagination.
+     *
+     * @param partyId the party ID to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the FraudCases for the specified party with pagination
+     */
+    Flux<FraudCase> findByPartyId(UUID partyId, Pageable pageable);
+
     /**
      * Find FraudCases by account ID.
      *
@@ -79,6 +108,15 @@ public interface FraudCaseRepository extends BaseRepository<FraudCase, UUID> {
      */
     Flux<FraudCase> findByAccountId(UUID accountId);
 
+    /**
+     * Find FraudCases by account ID with pagination.
+     *
+     * @param accountId the account ID to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the FraudCases for the specified account with pagination
+     */
+    Flux<FraudCase> findByAccountId(UUID accountId, Pageable pageable);
+
     /**
      * Find FraudCases by provider reference.
      *
@@ -87,6 +125,15 @@ public interface FraudCaseRepository extends BaseRepository<FraudCase, UUID> {
      */
     Flux<FraudCase> findByProviderReference(String providerReference);
 
+    /**
+     * Find FraudCases by provider reference with pagination.
+     *
+     * @param providerReference the provider reference to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the FraudCases with the specified provider reference with pagination
+     */
+    Flux<FraudCase> findByProviderReference(String providerReference, Pageable pageable);
+
     /**
      * Find FraudCases by network reference.
      *
@@ -95,6 +142,15 @@ public interface FraudCaseRepository extends BaseRepository<FraudCase, UUID> {
      */
     Flux<FraudCase> findByNetworkReference(String networkReference);
 
+    /**
+     * Find FraudCases by network reference with pagination.
+     *
+     * @param networkReference the network reference to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the FraudCases with the specified network reference with pagination
+     */
+    Flux<FraudCase> findByNetworkReference(String networkReference, Pageable pageable);
+
     /**
      * Find FraudCases by fraud type.
      *
@@ -103,6 +159,15 @@ public interface FraudCaseRepository extends BaseRepository<FraudCase, UUID> {
      */
     Flux<FraudCase> findByFraudType(String fraudType);
 
+    /**
+     * Find FraudCases by fraud type with pagination.
+     *
+     * @param fraudType the fraud type to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the FraudCases of the specified type with pagination
+     */
+    Flux<FraudCase> findByFraudType(String fraudType, Pageable pageable);
+
     /**
      * Find FraudCases by fraud reason code.
      *
@@ -111,6 +176,15 @@ public interface FraudCaseRepository extends BaseRepository<FraudCase, UUID> {
      */
     Flux<FraudCase> findByFraudReasonCode(String fraudReasonCode);
 
+    /**
+     * Find FraudCases by fraud reason code with pagination.
+     *
+     * @param fraudReasonCode the fraud reason code to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the FraudCases with the specified reason code with pagination
+     */
+    Flux<FraudCase> findByFraudReasonCode(String fraudReasonCode, Pageable pageable);
+
     /**
      * Find FraudCases by fraud status.
      *
@@ -119,6 +193,15 @@ public interface FraudCaseRepository extends BaseRepository<FraudCase, UUID> {
      */
     Flux<FraudCase> findByFraudStatus(String fraudStatus);
 
+    /**
+     * Find FraudCases by fraud status with pagination.
+     *
+     * @param fraudStatus the fraud status to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the FraudCases with the specified status with pagination
+     */
+    Flux<FraudCase> findByFraudStatus(String fraudStatus, Pageable pageable);
+
     /**
      * Find FraudCases by risk level.
      *
@@ -127,6 +210,15 @@ public interface FraudCaseRepository extends BaseRepository<FraudCase, UUID> {
      */
     Flux<FraudCase> findByRiskLevel(String riskLevel);
 
+    /**
+     * Find FraudCases by risk level with pagination.
+     *
+     * @param riskLevel the risk level to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the FraudCases with the specified risk level with pagination
+     */
+    Flux<FraudCase> findByRiskLevel(String riskLevel, Pageable pageable);
+
     /**
      * Find FraudCases by detection source.
      *
@@ -135,6 +227,15 @@ public interface FraudCaseRepository extends BaseRepository<FraudCase, UUID> {
      */
     Flux<FraudCase> findByDetectionSource(String detectionSource);
 
+    /**
+     * Find FraudCases by detection source with pagination.
+     *
+     * @param detectionSource the detection source to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the FraudCases with the specified detection source with pagination
+     */
+    Flux<FraudCase> findByDetectionSource(String detectionSource, Pageable pageable);
+
     /**
      * Find FraudCases by detection timestamp range.
      *
@@ -144,6 +245,16 @@ public interface FraudCaseRepository extends BaseRepository<FraudCase, UUID> {
      */
     Flux<FraudCase> findByDetectionTimestampBetween(LocalDateTime startDate, LocalDateTime endDate);
 
+    /**
+     * Find FraudCases by detection timestamp range with pagination.
+     *
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @param pageable the pagination information
+     * @return a Flux emitting the FraudCases within the specified detection date range with pagination
+     */
+    Flux<FraudCase> findByDetectionTimestampBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+
     /**
      * Find FraudCases reported by party.
      *
@@ -151,6 +262,14 @@ public interface FraudCaseRepository extends BaseRepository<FraudCase, UUID> {
      */
     Flux<FraudCase> findByReportedByPartyTrue();
 
+    /**
+     * Find FraudCases reported by party with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all FraudCases reported by parties with pagination
+     */
+    Flux<FraudCase> findByReportedByPartyTrue(Pageable pageable);
+
     /**
      * Find FraudCases where the card has been blocked.
      *
@@ -158,6 +277,14 @@ public interface FraudCaseRepository extends BaseRepository<FraudCase, UUID> {
      */
     Flux<FraudCase> findByIsCardBlockedTrue();
 
+    /**
+     * Find FraudCases where the card has been blocked with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all FraudCases where the card has been blocked with pagination
+     */
+    Flux<FraudCase> findByIsCardBlockedTrue(Pageable pageable);
+
     /**
      * Find FraudCases where the party has been notified.
      *
@@ -165,6 +292,14 @@ public interface FraudCaseRepository extends BaseRepository<FraudCase, UUID> {
      */
     Flux<FraudCase> findByIsPartyNotifiedTrue();
 
+    /**
+     * Find FraudCases where the party has been notified with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all FraudCases where the party has been notified with pagination
+     */
+    Flux<FraudCase> findByIsPartyNotifiedTrue(Pageable pageable);
+
     /**
      * Find FraudCases where the cardholder has been credited.
      *
@@ -172,6 +307,14 @@ public interface FraudCaseRepository extends BaseRepository<FraudCase, UUID> {
      */
     Flux<FraudCase> findByIsCardholderCreditedTrue();
 
+    /**
+     * Find FraudCases where the cardholder has been credited with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all FraudCases where the cardholder has been credited with pagination
+     */
+    Flux<FraudCase> findByIsCardholderCreditedTrue(Pageable pageable);
+
     /**
      * Find FraudCases by assigned agent ID.
      *
@@ -179,4 +322,85 @@ public interface FraudCaseRepository extends BaseRepository<FraudCase, UUID> {
      * @return a Flux emitting the FraudCases assigned to the specified agent
      */
     Flux<FraudCase> findByAssignedAgentId(UUID assignedAgentId);
-}
\ No newline at end of file
+
+    /**
+     * Find FraudCases by assigned agent ID with pagination.
+     *
+     * @param assignedAgentId the assigned agent ID to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the FraudCases assigned to the specified agent with pagination
+     */
+    Flux<FraudCase> findByAssignedAgentId(UUID assignedAgentId, Pageable pageable);
+
+    /**
+     * Delete a FraudCase by its ID.
+     *
+     * @param fraudCaseId the ID of the FraudCase
+     * @return a Mono emitting the number of rows deleted, 0 if it does not exist
+     */
+    Mono<Integer> deleteByFraudCaseId(UUID fraudCaseId);
+
+    /**
+     * Find the first cases of a status queue, ordered by (fraud_score DESC, detection_timestamp,
+     * fraud_case_id): highest score first, oldest first within a score. Served by
+     * idx_fraud_case_status_queue.
+     *
+     * @param fraudStatus the status of the queue
+     * @param limit the maximum number of rows to return
+     * @return a Flux emitting at most {@code limit} cases
+     */
+    @Query("SELECT * FROM fraud_case WHERE fraud_status = :fraudStatus " +
+            "ORDER BY fraud_score DESC, detection_timestamp, fraud_case_id LIMIT :limit")
+    Flux<FraudCase> findFirstStatusQueuePage(String fraudStatus, int limit);
+
+    /**
+     * Find the cases of a status queue that come after the given one in queue order. The
+     * redundant {@code fraud_score <= :fraudScore} bound lets the index scan start at the cursor.
+     *
+     * @param fraudStatus the status of the queue
+     * @param fraudScore the score of the last case of the previous page
+     * @param detectionTimestamp the detection timestamp of the last case of the previous page
+     * @param fraudCaseId the ID of the last case of the previous page
+     * @param limit the maximum number of rows to return
+     * @return a Flux emitting at most {@code limit} cases
+     */
+    @Query("SELECT * FROM fraud_case WHERE fraud_status = :fraudStatus " +
+            "AND fraud_score <= :fraudScore " +
+            "AND (fraud_score < :fraudScore " +
+            "OR (detection_timestamp, fraud_case_id) > (:detectionTimestamp, :fraudCaseId)) " +
+            "ORDER BY fraud_score DESC, detection_timestamp, fraud_case_id LIMIT :limit")
+    Flux<FraudCase> findStatusQueuePageAfter(String fraudStatus, int fraudScore, LocalDateTime detectionTimestamp,
+                                             UUID fraudCaseId, int limit);
+
+    /**
+     * Find the first cases of an agent's queue for a status, in the same order as the status
+     * queues. Served by idx_fraud_case_agent_queue.
+     *
+     * @param assignedAgentId the agent ID
+     * @param fraudStatus the status of the queue
+     * @param limit the maximum number of rows to return
+     * @return a Flux emitting at most {@code limit} cases
+     */
+    @Query("SELECT * FROM fraud_case WHERE assigned_agent_id = :assignedAgentId AND fraud_status = :fraudStatus " +
+            "ORDER BY fraud_score DESC, detection_timestamp, fraud_case_id LIMIT :limit")
+    Flux<FraudCase> findFirstAgentQueuePage(UUID assignedAgentId, String fraudStatus, int limit);
+
+    /**
+     * Find the cases of an agent's queue for a status that come after the given one in queue order.
+     *
+     * @param assignedAgentId the agent ID
+     * @param fraudStatus the status of the queue
+     * @param fraudScore the score of the last case of the previous page
+     * @param detectionTimestamp the detection timestamp of the last case of the previous page
+     * @param fraudCaseId the ID of the last case of the previous page
+     * @param limit the maximum number of rows to return
+     * @return a Flux emitting at most {@code limit} cases
+     */
+    @Query("SELECT * FROM fraud_case WHERE assigned_agent_id = :assignedAgentId AND fraud_status = :fraudStatus " +
+            "AND fraud_score <= :fraudScore " +
+            "AND (fraud_score < :fraudScore " +
+            "OR (detection_timestamp, fraud_case_id) > (:detectionTimestamp, :fraudCaseId)) " +
+            "ORDER BY fraud_score DESC, detection_timestamp, fraud_case_id LIMIT :limit")
+    Flux<FraudCase> findAgentQueuePageAfter(UUID assignedAgentId, String fraudStatus, int fraudScore,
+                                            LocalDateTime detectionTimestamp, UUID fraudCaseId, int limit);
+}
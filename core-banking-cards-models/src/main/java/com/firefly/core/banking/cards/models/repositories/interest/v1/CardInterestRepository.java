@@ -188,4 +188,22 @@ public interface CardInterestRepository extends BaseRepository<CardInterest, UUI
      * @return a Flux emitting the CardInterests for the specified promotion
      */
     Flux<CardInterest> findByPromotionId(UUID promotionId);
-}
\ No newline at end of file
+
+    /**
+     * Find a card interest by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param interestId the ID of the card interest
+     * @return a Mono emitting the card interest, or empty if it does not exist or belongs to another card
+     */
+    Mono<CardInterest> findByCardIdAndInterestId(UUID cardId, UUID interestId);
+
+    /**
+     * Delete a card interest by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param interestId the ID of the card interest
+     * @return a Mono emitting the number of rows deleted, 0 if it does not exist or belongs to another card
+     */
+    Mono<Integer> deleteByCardIdAndInterestId(UUID cardId, UUID interestId);
+}
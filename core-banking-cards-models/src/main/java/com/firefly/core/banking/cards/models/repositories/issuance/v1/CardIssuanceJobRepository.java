@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.models.repositories.issuance.v1;
+
+import com.firefly.core.banking.cards.models.entities.issuance.v1.CardIssuanceJob;
+import com.firefly.core.banking.cards.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Repository for managing CardIssuanceJob entities. Status changes go through conditional updates
+ * so that at most one node runs a job at a time.
+ */
+@Repository
+public interface CardIssuanceJobRepository extends BaseRepository<CardIssuanceJob, UUID> {
+
+    /**
+     * Find a card issuance job by its ID.
+     *
+     * @param issuanceJobId the card issuance job ID
+     * @return a Mono emitting the job if found, or empty if not found
+     */
+    Mono<CardIssuanceJob> findByIssuanceJobId(UUID issuanceJobId);
+
+    /**
+     * Mark a job as running under a new claim, provided it has cards left to issue and is pending,
+     * failed, or running without having made progress for the given time.
+     *
+     * @param issuanceJobId     the card issuance job ID
+     * @param staleAfterSeconds how long a running job may go without progress before another
+     *                          node can take it over
+     * @return a Mono emitting the claimed job, whose attempts identify the claim, or empty if it
+     *         cannot be claimed
+     */
+    @Query("""
+            UPDATE card_issuance_job
+            SET job_status = 'RUNNING',
+                attempts = attempts + 1,
+                last_error = NULL,
+                started_at = COALESCE(started_at, now()),
+                date_updated = now()
+            WHERE issuance_job_id = :issuanceJobId
+              AND issued_count < requested_count
+              AND (job_status IN ('PENDING', 'FAILED')
+                   OR (job_status = 'RUNNING' AND date_updated < now() - make_interval(secs => :staleAfterSeconds)))
+            RETURNING *
+            """)
+    Mono<CardIssuanceJob> claim(UUID issuanceJobId, long staleAfterSeconds);
+
+    /**
+     * Advance the issued count of a running job by one chunk, completing the job with its last
+     * chunk. The update only applies if the job is still held by the claim that wrote the chunk,
+     * which fences out a node that lost the job to another one, and if the count is still the one
+     * the chunk started from; the row stays locked until the chunk's transaction ends.
+     *
+     * @param issuanceJobId the card issuance job ID
+     * @param attempts      the attempt count of the claim
+     * @param issuedCount   the issued count the chunk started from
+     * @param chunkCount    the number of cards in the chunk
+     * @return a Mono emitting 1 if the progress was recorded, 0 otherwise
+     */
+    @Modifying
+    @Query("""
+            UPDATE card_issuance_job
+            SET issued_count = issued_count + :chunkCount,
+                job_status = CASE WHEN issued_count + :chunkCount >= requested_count THEN 'COMPLETED' ELSE job_status END,
+                completed_at = CASE WHEN issued_count + :chunkCount >= requested_count THEN now() ELSE completed_at END,
+                date_updated = now()
+            WHERE issuance_job_id = :issuanceJobId
+              AND job_status = 'RUNNING'
+              AND attempts = :attempts
+              AND issued_count = :issuedCount
+            """)
+    Mono<Integer> recordProgress(UUID issuanceJobId, int attempts, int issuedCount, int chunkCount);
+
+    /**
+     * Mark a running job as failed, keeping its progress so that it can be resumed, provided it is
+     * still held by the claim that ran it.
+     *
+     * @param issuanceJobId the card issuance job ID
+     * @param attempts      the attempt count of the claim
+     * @param lastError     a description of the failure
+     * @return a Mono emitting the number of updated jobs
+     */
+    @Modifying
+    @Query("""
+            UPDATE card_issuance_job
+            SET job_status = 'FAILED',
+                last_error = :lastError,
+                date_updated = now()
+            WHERE issuance_job_id = :issuanceJobId
+              AND job_status = 'RUNNING'
+              AND attempts = :attempts
+            """)
+    Mono<Integer> markFailed(UUID issuanceJobId, int attempts, String lastError);
+}
@@ -18,12 +18,17 @@
 package com.firefly.core.banking.cards.models.repositories.limit.v1;
 
 import com.firefly.core.banking.cards.models.entities.limit.v1.CardLimit;
+import com.firefly.core.banking.cards.models.entities.limit.v1.CardLimitUsage;
 import com.firefly.core.banking.cards.models.repositories.BaseRepository;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Repository
@@ -32,4 +37,188 @@ public interface CardLimitRepository extends BaseRepository<CardLimit, UUID> {
 
     Flux<CardLimit> findByCardId(UUID cardId, Pageable pageable);
     Mono<Long> countByCardId(UUID cardId);
-}
\ No newline at end of file
+
+    /**
+     * Atomically add a spend to every limit of a card that applies to it, or to none of them.
+     * <p>
+     * A limit applies when it is active and effective, and its type is a daily or monthly spending
+     * limit or the given type. It must also be unscoped or scoped to the given merchant category
+     * and channel. The applicable rows are locked in primary key order, so that concurrent spends
+     * on the same card queue up rather than deadlock. The spend is added in the same statement
+     * only if it keeps every one of them within its amount.
+     *
+     * @param cardId               the card being charged
+     * @param limitType            the limit type of the spend, e.g. ATM_WITHDRAWAL
+     * @param amount               the amount to consume
+     * @param merchantCategoryCode the MCC of the spend, or null
+     * @param channelType          the channel of the spend, or null
+     * @return a Flux emitting one row per applicable limit; empty if no limit applies
+     */
+    @Query("""
+            WITH applicable AS (
+                SELECT card_limit_id, limit_type, limit_amount, current_usage
+                FROM card_limit
+                WHERE card_id = :cardId
+                  AND is_active IS NOT FALSE
+                  AND (effective_from IS NULL OR effective_from <= now())
+                  AND (effective_to IS NULL OR effective_to > now())
+                  AND limit_type::text IN ('DAILY_SPENDING', 'MONTHLY_SPENDING', :limitType)
+                  AND (merchant_category_code IS NULL OR merchant_category_code = :merchantCategoryCode)
+                  AND (channel_type IS NULL OR channel_type = :channelType)
+                ORDER BY card_limit_id
+                FOR UPDATE
+            ), updated AS (
+                UPDATE card_limit l
+                SET current_usage = l.current_usage + :amount,
+                    available_amount = l.limit_amount - (l.current_usage + :amount),
+                    date_updated = now()
+                FROM applicable a
+                WHERE l.card_limit_id = a.card_limit_id
+                  AND NOT EXISTS (SELECT 1 FROM applicable x WHERE x.current_usage + :amount > x.limit_amount)
+                RETURNING l.card_limit_id, l.current_usage
+            )
+            SELECT a.card_limit_id,
+                   a.limit_type::text AS limit_type,
+                   a.limit_amount,
+                   COALESCE(u.current_usage, a.current_usage) AS current_usage,
+                   a.limit_amount - COALESCE(u.current_usage, a.current_usage) AS available_amount,
+                   COALESCE(a.current_usage + :amount > a.limit_amount, FALSE) AS exceeded,
+                   u.card_limit_id IS NOT NULL AS applied
+            FROM applicable a
+            LEFT JOIN updated u ON u.card_limit_id = a.card_limit_id
+            """)
+    Flux<CardLimitUsage> consumeLimit(UUID cardId, String limitType, BigDecimal amount,
+                                      String merchantCategoryCode, String channelType);
+
+    /**
+     * Update the amount, usage, type and reset period of a card limit in one statement, keeping
+     * available_amount in step with the new amount and usage. Null arguments leave their column
+     * unchanged.
+     *
+     * @param cardId       the ID of the owning card
+     * @param cardLimitId  the ID of the card limit
+     * @param limitType    the new limit type, or null
+     * @param limitAmount  the new limit amount, or null
+     * @param currentUsage the new current usage, or null
+     * @param resetPeriod  the new reset period, or null
+     * @return a Mono emitting the updated limit, or empty if it does not exist or belongs to another card
+     */
+    @Query("""
+            UPDATE card_limit
+            SET limit_type = COALESCE(CAST(:limitType AS limit_type_enum), limit_type),
+                limit_amount = COALESCE(:limitAmount, limit_amount),
+                current_usage = COALESCE(:currentUsage, current_usage),
+                available_amount = COALESCE(:limitAmount, limit_amount) - COALESCE(:currentUsage, current_usage),
+                reset_period = COALESCE(CAST(:resetPeriod AS reset_period_enum), reset_period),
+                date_updated = now()
+            WHERE card_limit_id = :cardLimitId
+              AND card_id = :cardId
+            RETURNING *
+            """)
+    Mono<CardLimit> updateLimit(UUID cardId, UUID cardLimitId, String limitType, BigDecimal limitAmount,
+                                BigDecimal currentUsage, String resetPeriod);
+
+    /**
+     * Add usage deltas to several limits in one statement, keeping available_amount in step.
+     * The arrays are matched by position. A delta only applies while the limit's last_reset_date
+     * is still the one it was counted under; once the limit has been reset the delta belongs to
+     * the cleared period and is dropped, whichever of the two statements commits first.
+     *
+     * @param cardLimitIds   the limits to update
+     * @param deltas         the amount to add to each limit's current usage, may be negative
+     * @param lastResetDates the last_reset_date each delta was counted under, null if never reset
+     * @return a Mono emitting the number of updated limits
+     */
+    @Modifying
+    @Query("""
+            UPDATE card_limit l
+            SET current_usage = l.current_usage + v.delta,
+                available_amount = l.limit_amount - (l.current_usage + v.delta),
+                date_updated = now()
+            FROM unnest(CAST(:cardLimitIds AS uuid[]), CAST(:deltas AS numeric[]),
+                        CAST(:lastResetDates AS timestamp[])) AS v(card_limit_id, delta, last_reset_date)
+            WHERE l.card_limit_id = v.card_limit_id
+              AND l.last_reset_date IS NOT DISTINCT FROM v.last_reset_date
+            """)
+    Mono<Integer> addUsage(UUID[] cardLimitIds, BigDecimal[] deltas, LocalDateTime[] lastResetDates);
+
+    /**
+     * Reset a batch of limits whose next reset date has passed: clear their usage, record the
+     * reset and schedule the next one. Due rows are claimed in next_reset_date order with
+     * {@code FOR UPDATE SKIP LOCKED}, so concurrent callers, on this or other instances, each
+     * reset a disjoint batch.
+     *
+     * @param now       the reference time; limits due at or before it are reset
+     * @param batchSize the maximum number of limits to reset
+     * @return a Flux emitting the card ID of every limit that was reset
+     */
+    @Query("""
+            WITH due AS (
+                SELECT card_limit_id
+                FROM card_limit
+                WHERE next_reset_date <= :now
+                ORDER BY next_reset_date
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE card_limit l
+            SET current_usage = 0,
+                available_amount = l.limit_amount,
+                last_reset_date = l.next_reset_date,
+                next_reset_date = card_limit_next_reset(l.reset_period::text, l.reset_day, l.reset_hour, :now),
+                date_updated = now()
+            FROM due
+            WHERE l.card_limit_id = due.card_limit_id
+            RETURNING l.card_id
+            """)
+    Flux<UUID> resetDueLimits(LocalDateTime now, int batchSize);
+
+    /**
+     * Reset the limits of one card whose next reset date has passed, as {@link #resetDueLimits}
+     * does. The rows are locked without skipping, so a caller racing the scheduler waits for its
+     * reset to commit and then finds the limits no longer due.
+     *
+     * @param cardId the card
+     * @param now    the reference time; limits due at or before it are reset
+     * @return a Mono emitting the number of limits reset
+     */
+    @Modifying
+    @Query("""
+            UPDATE card_limit l
+            SET current_usage = 0,
+                available_amount = l.limit_amount,
+                last_reset_date = l.next_reset_date,
+                next_reset_date = card_limit_next_reset(l.reset_period::text, l.reset_day, l.reset_hour, :now),
+                date_updated = now()
+            WHERE l.card_id = :cardId
+              AND l.next_reset_date <= :now
+            """)
+    Mono<Integer> resetDueLimitsOfCard(UUID cardId, LocalDateTime now);
+
+    /**
+     * Find a card limit by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param cardLimitId the ID of the card limit
+     * @return a Mono emitting the card limit, or empty if it does not exist or belongs to another card
+     */
+    Mono<CardLimit> findByCardIdAndCardLimitId(UUID cardId, UUID cardLimitId);
+
+    /**
+     * Delete a card limit by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param cardLimitId the ID of the card limit
+     * @return a Mono emitting the number of rows deleted, 0 if it does not exist or belongs to another card
+     */
+    Mono<Integer> deleteByCardIdAndCardLimitId(UUID cardId, UUID cardLimitId);
+
+    /**
+     * Find the limits a program copies onto each card it issues.
+     *
+     * @param programId the program ID
+     * @return a Flux emitting the program's default limits, which belong to no card
+     */
+    @Query("SELECT * FROM card_limit WHERE program_id = :programId AND is_program_default AND card_id IS NULL")
+    Flux<CardLimit> findProgramDefaults(UUID programId);
+}
@@ -19,6 +19,7 @@ package com.firefly.core.banking.cards.models.repositories.merchant.v1;
 
 import com.firefly.core.banking.cards.models.entities.merchant.v1.CardMerchant;
 import com.firefly.core.banking.cards.models.repositories.BaseRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -53,6 +54,15 @@ public interface CardMerchantRepository extends BaseRepository<CardMerchant, UUI
      * @return a Flux emitting the CardMerchants with the specified name
      */
     Flux<CardMerchant> findByMerchantName(String merchantName);
+
+    /**
+     * Find CardMerchants by merchant name with pagination.
+     *
+     * @param merchantName the merchant name to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardMerchants with the specified name with pagination
+     */
+    Flux<CardMerchant> findByMerchantName(String merchantName, Pageable pageable);
     
     /**
      * Find CardMerchants by merchant legal name.
@@ -61,6 +71,15 @@ public interface CardMerchantRepository extends BaseRepository<CardMerchant, UUI
      * @return a Flux emitting the CardMerchants with the specified legal name
      */
     Flux<CardMerchant> findByMerchantLegalName(String merchantLegalName);
+
+    /**
+     * Find CardMerchants by merchant legal name with pagination.
+     *
+     * @param merchantLegalName the merchant legal name to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardMerchants with the specified legal name with pagination
+     */
+    Flux<CardMerchant> findByMerchantLegalName(String merchantLegalName, Pageable pageable);
     
     /**
      * Find CardMerchants by merchant category code.
@@ -69,6 +88,15 @@ public interface CardMerchantRepository extends BaseRepository<CardMerchant, UUI
      * @return a Flux emitting the CardMerchants with the specified category code
      */
     Flux<CardMerchant> findByMerchantCategoryCode(String merchantCategoryCode);
+
+    /**
+     * Find CardMerchants by merchant category code with pagination.
+     *
+     * @param merchantCategoryCode the merchant category code to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardMerchants with the specified category code with pagination
+     */
+    Flux<CardMerchant> findByMerchantCategoryCode(String merchantCategoryCode, Pageable pageable);
     
     /**
      * Find CardMerchants by merchant type.
@@ -77,6 +105,15 @@ public interface CardMerchantRepository extends BaseRepository<CardMerchant, UUI
      * @return a Flux emitting the CardMerchants of the specified type
      */
     Flux<CardMerchant> findByMerchantType(String merchantType);
+
+    /**
+     * Find CardMerchants by merchant type with pagination.
+     *
+     * @param merchantType the merchant type to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardMerchants of the specified type with pagination
+     */
+    Flux<CardMerchant> findByMerchantType(String merchantType, Pageable pageable);
     
     /**
      * Find CardMerchants by merchant status.
@@ -85,6 +122,15 @@ public interface CardMerchantRepository extends BaseRepository<CardMerchant, UUI
      * @return a Flux emitting the CardMerchants with the specified status
      */
     Flux<CardMerchant> findByMerchantStatus(String merchantStatus);
+
+    /**
+     * Find CardMerchants by merchant status with pagination.
+     *
+     * @param merchantStatus the merchant status to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardMerchants with the specified status with pagination
+     */
+    Flux<CardMerchant> findByMerchantStatus(String merchantStatus, Pageable pageable);
     
     /**
      * Find active CardMerchants.
@@ -92,6 +138,14 @@ public interface CardMerchantRepository extends BaseRepository<CardMerchant, UUI
      * @return a Flux emitting all active CardMerchants
      */
     Flux<CardMerchant> findByIsActiveTrue();
+
+    /**
+     * Find active CardMerchants with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all active CardMerchants with pagination
+     */
+    Flux<CardMerchant> findByIsActiveTrue(Pageable pageable);
     
     /**
      * Find CardMerchants by country.
@@ -100,6 +154,15 @@ public interface CardMerchantRepository extends BaseRepository<CardMerchant, UUI
      * @return a Flux emitting the CardMerchants from the specified country
      */
     Flux<CardMerchant> findByCountry(String country);
+
+    /**
+     * Find CardMerchants by country with pagination.
+     *
+     * @param country the country to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardMerchants from the specified country with pagination
+     */
+    Flux<CardMerchant> findByCountry(String country, Pageable pageable);
     
     /**
      * Find online CardMerchants.
@@ -107,6 +170,14 @@ public interface CardMerchantRepository extends BaseRepository<CardMerchant, UUI
      * @return a Flux emitting all online CardMerchants
      */
     Flux<CardMerchant> findByIsOnlineTrue();
+
+    /**
+     * Find online CardMerchants with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all online CardMerchants with pagination
+     */
+    Flux<CardMerchant> findByIsOnlineTrue(Pageable pageable);
     
     /**
      * Find physical CardMerchants.
@@ -114,6 +185,14 @@ public interface CardMerchantRepository extends BaseRepository<CardMerchant, UUI
      * @return a Flux emitting all physical CardMerchants
      */
     Flux<CardMerchant> findByIsPhysicalTrue();
+
+    /**
+     * Find physical CardMerchants with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all physical CardMerchants with pagination
+     */
+    Flux<CardMerchant> findByIsPhysicalTrue(Pageable pageable);
     
     /**
      * Find mobile CardMerchants.
@@ -121,6 +200,14 @@ public interface CardMerchantRepository extends BaseRepository<CardMerchant, UUI
      * @return a Flux emitting all mobile CardMerchants
      */
     Flux<CardMerchant> findByIsMobileTrue();
+
+    /**
+     * Find mobile CardMerchants with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all mobile CardMerchants with pagination
+     */
+    Flux<CardMerchant> findByIsMobileTrue(Pageable pageable);
     
     /**
      * Find international CardMerchants.
@@ -128,6 +215,14 @@ public interface CardMerchantRepository extends BaseRepository<CardMerchant, UUI
      * @return a Flux emitting all international CardMerchants
      */
     Flux<CardMerchant> findByIsInternationalTrue();
+
+    /**
+     * Find international CardMerchants with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all international CardMerchants with pagination
+     */
+    Flux<CardMerchant> findByIsInternationalTrue(Pageable pageable);
     
     /**
      * Find CardMerchants by supported currencies.
@@ -136,6 +231,15 @@ public interface CardMerchantRepository extends BaseRepository<CardMerchant, UUI
      * @return a Flux emitting the CardMerchants supporting the specified currency
      */
     Flux<CardMerchant> findBySupportedCurrenciesContaining(String currencyCode);
+
+    /**
+     * Find CardMerchants by supported currencies with pagination.
+     *
+     * @param currencyCode the currency code to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardMerchants supporting the specified currency with pagination
+     */
+    Flux<CardMerchant> findBySupportedCurrenciesContaining(String currencyCode, Pageable pageable);
     
     /**
      * Find CardMerchants by supported card networks.
@@ -144,6 +248,15 @@ public interface CardMerchantRepository extends BaseRepository<CardMerchant, UUI
      * @return a Flux emitting the CardMerchants supporting the specified card network
      */
     Flux<CardMerchant> findBySupportedCardNetworksContaining(String cardNetwork);
+
+    /**
+     * Find CardMerchants by supported card networks with pagination.
+     *
+     * @param cardNetwork the card network to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardMerchants supporting the specified card network with pagination
+     */
+    Flux<CardMerchant> findBySupportedCardNetworksContaining(String cardNetwork, Pageable pageable);
     
     /**
      * Find high risk CardMerchants.
@@ -151,6 +264,14 @@ public interface CardMerchantRepository extends BaseRepository<CardMerchant, UUI
      * @return a Flux emitting all high risk CardMerchants
      */
     Flux<CardMerchant> findByIsHighRiskTrue();
+
+    /**
+     * Find high risk CardMerchants with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all high risk CardMerchants with pagination
+     */
+    Flux<CardMerchant> findByIsHighRiskTrue(Pageable pageable);
     
     /**
      * Find CardMerchants by risk rating.
@@ -159,6 +280,15 @@ public interface CardMerchantRepository extends BaseRepository<CardMerchant, UUI
      * @return a Flux emitting the CardMerchants with the specified risk rating
      */
     Flux<CardMerchant> findByRiskRating(String riskRating);
+
+    /**
+     * Find CardMerchants by risk rating with pagination.
+     *
+     * @param riskRating the risk rating to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardMerchants with the specified risk rating with pagination
+     */
+    Flux<CardMerchant> findByRiskRating(String riskRating, Pageable pageable);
     
     /**
      * Find CardMerchants with suspected fraud.
@@ -166,6 +296,14 @@ public interface CardMerchantRepository extends BaseRepository<CardMerchant, UUI
      * @return a Flux emitting all CardMerchants with suspected fraud
      */
     Flux<CardMerchant> findByIsFraudSuspectedTrue();
+
+    /**
+     * Find CardMerchants with suspected fraud with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all CardMerchants with suspected fraud with pagination
+     */
+    Flux<CardMerchant> findByIsFraudSuspectedTrue(Pageable pageable);
     
     /**
      * Find blacklisted CardMerchants.
@@ -173,6 +311,14 @@ public interface CardMerchantRepository extends BaseRepository<CardMerchant, UUI
      * @return a Flux emitting all blacklisted CardMerchants
      */
     Flux<CardMerchant> findByIsBlacklistedTrue();
+
+    /**
+     * Find blacklisted CardMerchants with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all blacklisted CardMerchants with pagination
+     */
+    Flux<CardMerchant> findByIsBlacklistedTrue(Pageable pageable);
     
     /**
      * Find CardMerchants by acquirer ID.
@@ -181,6 +327,15 @@ public interface CardMerchantRepository extends BaseRepository<CardMerchant, UUI
      * @return a Flux emitting the CardMerchants for the specified acquirer
      */
     Flux<CardMerchant> findByAcquirerId(String acquirerId);
+
+    /**
+     * Find CardMerchants by acquirer ID with pagination.
+     *
+     * @param acquirerId the acquirer ID to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardMerchants for the specified acquirer with pagination
+     */
+    Flux<CardMerchant> findByAcquirerId(String acquirerId, Pageable pageable);
     
     /**
      * Find CardMerchants by processor ID.
@@ -189,4 +344,13 @@ public interface CardMerchantRepository extends BaseRepository<CardMerchant, UUI
      * @return a Flux emitting the CardMerchants for the specified processor
      */
     Flux<CardMerchant> findByProcessorId(String processorId);
+
+    /**
+     * Find CardMerchants by processor ID with pagination.
+     *
+     * @param processorId the processor ID to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardMerchants for the specified processor with pagination
+     */
+    Flux<CardMerchant> findByProcessorId(String processorId, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.models.repositories.pan.v1;
+
+import com.firefly.core.banking.cards.models.entities.pan.v1.PanRangeAllocation;
+import com.firefly.core.banking.cards.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Repository for reserving blocks of card numbers from PanRangeAllocation rows.
+ */
+@Repository
+public interface PanRangeAllocationRepository extends BaseRepository<PanRangeAllocation, UUID> {
+
+    /**
+     * Reserve the next block of a range, creating the range on its first reservation. Concurrent
+     * reservations of the same range queue up on its row and each get a different block.
+     *
+     * @param binPrefix the BIN prefix of the card numbers
+     * @param panLength the number of digits of the card numbers
+     * @param blockSize the block size to use if the range does not exist yet
+     * @return a Mono emitting the range after the reservation; the reserved block is
+     * {@code nextBlock - 1}, of the range's {@code blockSize}
+     */
+    @Query("""
+            INSERT INTO pan_range_allocation (bin_prefix, pan_length, block_size, next_block, date_created, date_updated)
+            VALUES (:binPrefix, :panLength, :blockSize, 1, now(), now())
+            ON CONFLICT (bin_prefix, pan_length)
+            DO UPDATE SET next_block = pan_range_allocation.next_block + 1,
+                          date_updated = now()
+            RETURNING *
+            """)
+    Mono<PanRangeAllocation> reserveBlock(String binPrefix, int panLength, long blockSize);
+}
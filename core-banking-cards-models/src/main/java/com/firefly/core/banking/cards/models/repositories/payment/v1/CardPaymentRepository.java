@@ -173,4 +173,22 @@ public interface CardPaymentRepository extends BaseRepository<CardPayment, UUID>
      * @return a Flux emitting the scheduled payments for the specified date
      */
     Flux<CardPayment> findByIsScheduledPaymentTrueAndScheduledDate(LocalDateTime scheduledDate);
-}
\ No newline at end of file
+
+    /**
+     * Find a card payment by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param paymentId the ID of the card payment
+     * @return a Mono emitting the card payment, or empty if it does not exist or belongs to another card
+     */
+    Mono<CardPayment> findByCardIdAndPaymentId(UUID cardId, UUID paymentId);
+
+    /**
+     * Delete a card payment by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param paymentId the ID of the card payment
+     * @return a Mono emitting the number of rows deleted, 0 if it does not exist or belongs to another card
+     */
+    Mono<Integer> deleteByCardIdAndPaymentId(UUID cardId, UUID paymentId);
+}
@@ -32,4 +32,22 @@ public interface PhysicalCardRepository extends BaseRepository<PhysicalCard, UUI
 
     Flux<PhysicalCard> findByCardId(UUID cardId, Pageable pageable);
     Mono<Long> countByCardId(UUID cardId);
-}
\ No newline at end of file
+
+    /**
+     * Find a physical card by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param physicalCardId the ID of the physical card
+     * @return a Mono emitting the physical card, or empty if it does not exist or belongs to another card
+     */
+    Mono<PhysicalCard> findByCardIdAndPhysicalCardId(UUID cardId, UUID physicalCardId);
+
+    /**
+     * Delete a physical card by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param physicalCardId the ID of the physical card
+     * @return a Mono emitting the number of rows deleted, 0 if it does not exist or belongs to another card
+     */
+    Mono<Integer> deleteByCardIdAndPhysicalCardId(UUID cardId, UUID physicalCardId);
+}
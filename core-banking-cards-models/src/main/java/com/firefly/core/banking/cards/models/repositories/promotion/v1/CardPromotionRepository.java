@@ -36,4 +36,22 @@ public interface CardPromotionRepository extends ReactiveCrudRepository<CardProm
 
     @Query("SELECT COUNT(*) FROM card_promotion WHERE card_id = :cardId")
     Mono<Long> countByCardId(UUID cardId);
-}
\ No newline at end of file
+
+    /**
+     * Find a card promotion by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param promotionId the ID of the card promotion
+     * @return a Mono emitting the card promotion, or empty if it does not exist or belongs to another card
+     */
+    Mono<CardPromotion> findByCardIdAndPromotionId(UUID cardId, UUID promotionId);
+
+    /**
+     * Delete a card promotion by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param promotionId the ID of the card promotion
+     * @return a Mono emitting the number of rows deleted, 0 if it does not exist or belongs to another card
+     */
+    Mono<Integer> deleteByCardIdAndPromotionId(UUID cardId, UUID promotionId);
+}
@@ -30,4 +30,22 @@ import java.util.UUID;
 public interface CardProviderRepository extends BaseRepository<CardProvider, UUID> {
     Flux<CardProvider> findByCardId(UUID cardId, Pageable pageable);
     Mono<Long> countByCardId(UUID cardId);
+
+    /**
+     * Find a card provider by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param cardProviderId the ID of the card provider
+     * @return a Mono emitting the card provider, or empty if it does not exist or belongs to another card
+     */
+    Mono<CardProvider> findByCardIdAndCardProviderId(UUID cardId, UUID cardProviderId);
+
+    /**
+     * Delete a card provider by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param cardProviderId the ID of the card provider
+     * @return a Mono emitting the number of rows deleted, 0 if it does not exist or belongs to another card
+     */
+    Mono<Integer> deleteByCardIdAndCardProviderId(UUID cardId, UUID cardProviderId);
 }
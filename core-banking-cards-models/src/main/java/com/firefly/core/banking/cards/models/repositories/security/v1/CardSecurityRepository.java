@@ -20,6 +20,7 @@ package com.firefly.core.banking.cards.models.repositories.security.v1;
 import com.firefly.core.banking.cards.models.entities.security.v1.CardSecurity;
 import com.firefly.core.banking.cards.models.repositories.BaseRepository;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -32,4 +33,31 @@ public interface CardSecurityRepository extends BaseRepository<CardSecurity, UUI
 
     Flux<CardSecurity> findByCardId(UUID cardId, Pageable pageable);
     Mono<Long> countByCardId(UUID cardId);
-}
\ No newline at end of file
+
+    /**
+     * Find a card security setting by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param cardSecurityId the ID of the card security setting
+     * @return a Mono emitting the card security setting, or empty if it does not exist or belongs to another card
+     */
+    Mono<CardSecurity> findByCardIdAndCardSecurityId(UUID cardId, UUID cardSecurityId);
+
+    /**
+     * Delete a card security setting by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param cardSecurityId the ID of the card security setting
+     * @return a Mono emitting the number of rows deleted, 0 if it does not exist or belongs to another card
+     */
+    Mono<Integer> deleteByCardIdAndCardSecurityId(UUID cardId, UUID cardSecurityId);
+
+    /**
+     * Find the security features a program copies onto each card it issues.
+     *
+     * @param programId the program ID
+     * @return a Flux emitting the program's default security features, which belong to no card
+     */
+    @Query("SELECT * FROM card_security WHERE program_id = :programId AND is_program_default AND card_id IS NULL")
+    Flux<CardSecurity> findProgramDefaults(UUID programId);
+}
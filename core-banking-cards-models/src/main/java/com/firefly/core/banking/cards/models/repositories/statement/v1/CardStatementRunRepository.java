@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.models.repositories.statement.v1;
+
+import com.firefly.core.banking.cards.models.entities.statement.v1.CardStatementRun;
+import com.firefly.core.banking.cards.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Repository for managing CardStatementRun entities. Status changes go through conditional updates
+ * so that a run is only started where it is not already making progress. Runs that have not failed
+ * cannot overlap, which the excl_card_statement_run_period constraint enforces.
+ */
+@Repository
+public interface CardStatementRunRepository extends BaseRepository<CardStatementRun, UUID> {
+
+    /**
+     * Find a card statement run by its ID.
+     *
+     * @param runId the card statement run ID
+     * @return a Mono emitting the run if found, or empty if not found
+     */
+    Mono<CardStatementRun> findByRunId(UUID runId);
+
+    /**
+     * Whether a run that has not failed covers any part of the given period.
+     *
+     * @param periodStart the start of the period, inclusive
+     * @param periodEnd   the end of the period, exclusive
+     * @return a Mono emitting true if such a run exists
+     */
+    @Query("""
+            SELECT EXISTS (SELECT 1 FROM card_statement_run
+                           WHERE run_status <> 'FAILED'
+                             AND period_start < :periodEnd
+                             AND period_end > :periodStart)
+            """)
+    Mono<Boolean> existsOverlapping(LocalDateTime periodStart, LocalDateTime periodEnd);
+
+    /**
+     * Mark a run as running, provided it has shards left to write and is pending, failed, or
+     * running without having made progress for the given time.
+     *
+     * @param runId             the card statement run ID
+     * @param staleAfterSeconds how long a running run may go without progress before another node
+     *                          can take it over
+     * @return a Mono emitting 1 if the run was claimed, 0 otherwise
+     */
+    @Modifying
+    @Query("""
+            UPDATE card_statement_run
+            SET run_status = 'RUNNING',
+                last_error = NULL,
+                started_at = COALESCE(started_at, now()),
+                date_updated = now()
+            WHERE run_id = :runId
+              AND completed_shards < shard_count
+              AND (run_status IN ('PENDING', 'FAILED')
+                   OR (run_status = 'RUNNING' AND date_updated < now() - make_interval(secs => :staleAfterSeconds)))
+            """)
+    Mono<Integer> claim(UUID runId, long staleAfterSeconds);
+
+    /**
+     * Count a completed shard and its statements, completing the run with its last shard. Called in
+     * the transaction that writes the shard, after the shard itself was marked completed.
+     *
+     * @param runId          the card statement run ID
+     * @param statementCount the number of statements the shard wrote
+     * @return a Mono emitting the number of updated runs
+     */
+    @Modifying
+    @Query("""
+            UPDATE card_statement_run
+            SET completed_shards = completed_shards + 1,
+                statement_count = statement_count + :statementCount,
+                run_status = CASE WHEN completed_shards + 1 >= shard_count THEN 'COMPLETED' ELSE run_status END,
+                completed_at = CASE WHEN completed_shards + 1 >= shard_count THEN now() ELSE completed_at END,
+                date_updated = now()
+            WHERE run_id = :runId
+            """)
+    Mono<Integer> recordShard(UUID runId, int statementCount);
+
+    /**
+     * Mark a running run as failed once none of its shards is pending or running any more and some
+     * have failed, keeping the error of the first failed shard.
+     *
+     * @param runId the card statement run ID
+     * @return a Mono emitting 1 if the run was marked failed, 0 otherwise
+     */
+    @Modifying
+    @Query("""
+            UPDATE card_statement_run r
+            SET run_status = 'FAILED',
+                last_error = (SELECT s.last_error FROM card_statement_run_shard s
+                              WHERE s.run_id = r.run_id AND s.shard_status = 'FAILED'
+                              ORDER BY s.shard_index LIMIT 1),
+                date_updated = now()
+            WHERE r.run_id = :runId
+              AND r.run_status = 'RUNNING'
+              AND EXISTS (SELECT 1 FROM card_statement_run_shard s
+                          WHERE s.run_id = r.run_id AND s.shard_status = 'FAILED')
+              AND NOT EXISTS (SELECT 1 FROM card_statement_run_shard s
+                              WHERE s.run_id = r.run_id AND s.shard_status IN ('PENDING', 'RUNNING'))
+            """)
+    Mono<Integer> failIfShardsFailed(UUID runId);
+
+    /**
+     * Mark a running run as failed, keeping its completed shards so that it can be resumed.
+     *
+     * @param runId     the card statement run ID
+     * @param lastError a description of the failure
+     * @return a Mono emitting the number of updated runs
+     */
+    @Modifying
+    @Query("""
+            UPDATE card_statement_run
+            SET run_status = 'FAILED',
+                last_error = :lastError,
+                date_updated = now()
+            WHERE run_id = :runId
+              AND run_status = 'RUNNING'
+            """)
+    Mono<Integer> markFailed(UUID runId, String lastError);
+}
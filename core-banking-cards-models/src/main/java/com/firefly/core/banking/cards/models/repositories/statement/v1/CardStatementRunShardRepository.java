@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.models.repositories.statement.v1;
+
+import com.firefly.core.banking.cards.models.entities.statement.v1.CardStatementRunShard;
+import com.firefly.core.banking.cards.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Repository for the shards of card statement runs. Workers claim shards one at a time with
+ * SKIP LOCKED, so that concurrent claims on any node never wait for each other or get the same
+ * shard.
+ */
+@Repository
+public interface CardStatementRunShardRepository extends BaseRepository<CardStatementRunShard, UUID> {
+
+    /**
+     * Create the pending shards of a run, skipping those that already exist.
+     *
+     * @param runId      the card statement run ID
+     * @param shardCount the number of shards of the run
+     * @return a Mono emitting the number of shards created
+     */
+    @Modifying
+    @Query("""
+            INSERT INTO card_statement_run_shard (run_id, shard_index, shard_status, attempts, date_created, date_updated)
+            SELECT :runId, shard_index, 'PENDING', 0, now(), now()
+            FROM generate_series(0, :shardCount - 1) AS shard_index
+            ON CONFLICT (run_id, shard_index) DO NOTHING
+            """)
+    Mono<Integer> createShards(UUID runId, int shardCount);
+
+    /**
+     * Make the failed shards of a run pending again.
+     *
+     * @param runId the card statement run ID
+     * @return a Mono emitting the number of shards reset
+     */
+    @Modifying
+    @Query("""
+            UPDATE card_statement_run_shard
+            SET shard_status = 'PENDING',
+                date_updated = now()
+            WHERE run_id = :runId
+              AND shard_status = 'FAILED'
+            """)
+    Mono<Integer> retryFailed(UUID runId);
+
+    /**
+     * Claim the first shard of a run that is pending, or running without having completed for the
+     * given time, and mark it running.
+     *
+     * @param runId             the card statement run ID
+     * @param staleAfterSeconds how long a running shard may go without completing before another
+     *                          worker can take it over
+     * @return a Mono emitting the claimed shard, or empty if there is none left to claim
+     */
+    @Query("""
+            UPDATE card_statement_run_shard
+            SET shard_status = 'RUNNING',
+                attempts = attempts + 1,
+                last_error = NULL,
+                claimed_at = now(),
+                date_updated = now()
+            WHERE shard_id = (
+                SELECT shard_id FROM card_statement_run_shard
+                WHERE run_id = :runId
+                  AND (shard_status = 'PENDING'
+                       OR (shard_status = 'RUNNING' AND claimed_at < now() - make_interval(secs => :staleAfterSeconds)))
+                ORDER BY shard_index
+                LIMIT 1
+                FOR UPDATE SKIP LOCKED)
+            RETURNING *
+            """)
+    Mono<CardStatementRunShard> claim(UUID runId, long staleAfterSeconds);
+
+    /**
+     * Mark a shard completed, provided it is still held by the claim that wrote it.
+     *
+     * @param shardId        the shard ID
+     * @param attempts       the attempt count of the claim
+     * @param statementCount the number of statements the shard wrote
+     * @return a Mono emitting 1 if the shard was completed, 0 if it was taken over
+     */
+    @Modifying
+    @Query("""
+            UPDATE card_statement_run_shard
+            SET shard_status = 'COMPLETED',
+                statement_count = :statementCount,
+                completed_at = now(),
+                date_updated = now()
+            WHERE shard_id = :shardId
+              AND shard_status = 'RUNNING'
+              AND attempts = :attempts
+            """)
+    Mono<Integer> complete(UUID shardId, int attempts, int statementCount);
+
+    /**
+     * Mark a shard failed, provided it is still held by the claim that ran it.
+     *
+     * @param shardId   the shard ID
+     * @param attempts  the attempt count of the claim
+     * @param lastError a description of the failure
+     * @return a Mono emitting the number of updated shards
+     */
+    @Modifying
+    @Query("""
+            UPDATE card_statement_run_shard
+            SET shard_status = 'FAILED',
+                last_error = :lastError,
+                date_updated = now()
+            WHERE shard_id = :shardId
+              AND shard_status = 'RUNNING'
+              AND attempts = :attempts
+            """)
+    Mono<Integer> markFailed(UUID shardId, int attempts, String lastError);
+}
@@ -19,6 +19,7 @@ package com.firefly.core.banking.cards.models.repositories.terminal.v1;
 
 import com.firefly.core.banking.cards.models.entities.terminal.v1.CardTerminal;
 import com.firefly.core.banking.cards.models.repositories.BaseRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -62,6 +63,15 @@ public interface CardTerminalRepository extends BaseRepository<CardTerminal, UUI
      * @return a Flux emitting the CardTerminals of the specified type
      */
     Flux<CardTerminal> findByTerminalType(String terminalType);
+
+    /**
+     * Find CardTerminals by terminal type with pagination.
+     *
+     * @param terminalType the terminal type to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardTerminals of the specified type with pagination
+     */
+    Flux<CardTerminal> findByTerminalType(String terminalType, Pageable pageable);
     
     /**
      * Find CardTerminals by terminal model.
@@ -70,6 +80,15 @@ public interface CardTerminalRepository extends BaseRepository<CardTerminal, UUI
      * @return a Flux emitting the CardTerminals of the specified model
      */
     Flux<CardTerminal> findByTerminalModel(String terminalModel);
+
+    /**
+     * Find CardTerminals by terminal model with pagination.
+     *
+     * @param terminalModel the terminal model to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardTerminals of the specified model with pagination
+     */
+    Flux<CardTerminal> findByTerminalModel(String terminalModel, Pageable pageable);
     
     /**
      * Find CardTerminals by terminal manufacturer.
@@ -78,6 +97,15 @@ public interface CardTerminalRepository extends BaseRepository<CardTerminal, UUI
      * @return a Flux emitting the CardTerminals from the specified manufacturer
      */
     Flux<CardTerminal> findByTerminalManufacturer(String terminalManufacturer);
+
+    /**
+     * Find CardTerminals by terminal manufacturer with pagination.
+     *
+     * @param terminalManufacturer the terminal manufacturer to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardTerminals from the specified manufacturer with pagination
+     */
+    Flux<CardTerminal> findByTerminalManufacturer(String terminalManufacturer, Pageable pageable);
     
     /**
      * Find CardTerminals by terminal status.
@@ -86,6 +114,15 @@ public interface CardTerminalRepository extends BaseRepository<CardTerminal, UUI
      * @return a Flux emitting the CardTerminals with the specified status
      */
     Flux<CardTerminal> findByTerminalStatus(String terminalStatus);
+
+    /**
+     * Find CardTerminals by terminal status with pagination.
+     *
+     * @param terminalStatus the terminal status to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardTerminals with the specified status with pagination
+     */
+    Flux<CardTerminal> findByTerminalStatus(String terminalStatus, Pageable pageable);
     
     /**
      * Find active CardTerminals.
@@ -93,6 +130,14 @@ public interface CardTerminalRepository extends BaseRepository<CardTerminal, UUI
      * @return a Flux emitting all active CardTerminals
      */
     Flux<CardTerminal> findByIsActiveTrue();
+
+    /**
+     * Find active CardTerminals with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all active CardTerminals with pagination
+     */
+    Flux<CardTerminal> findByIsActiveTrue(Pageable pageable);
     
     /**
      * Find CardTerminals by merchant ID.
@@ -101,6 +146,15 @@ public interface CardTerminalRepository extends BaseRepository<CardTerminal, UUI
      * @return a Flux emitting the CardTerminals for the specified merchant
      */
     Flux<CardTerminal> findByMerchantId(UUID merchantId);
+
+    /**
+     * Find CardTerminals by merchant ID with pagination.
+     *
+     * @param merchantId the merchant ID to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardTerminals for the specified merchant with pagination
+     */
+    Flux<CardTerminal> findByMerchantId(UUID merchantId, Pageable pageable);
     
     /**
      * Find CardTerminals by merchant location ID.
@@ -109,6 +163,15 @@ public interface CardTerminalRepository extends BaseRepository<CardTerminal, UUI
      * @return a Flux emitting the CardTerminals for the specified merchant location
      */
     Flux<CardTerminal> findByMerchantLocationId(String merchantLocationId);
+
+    /**
+     * Find CardTerminals by merchant location ID with pagination.
+     *
+     * @param merchantLocationId the merchant location ID to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardTerminals for the specified merchant location with pagination
+     */
+    Flux<CardTerminal> findByMerchantLocationId(String merchantLocationId, Pageable pageable);
     
     /**
      * Find CardTerminals by country.
@@ -117,6 +180,15 @@ public interface CardTerminalRepository extends BaseRepository<CardTerminal, UUI
      * @return a Flux emitting the CardTerminals from the specified country
      */
     Flux<CardTerminal> findByCountry(String country);
+
+    /**
+     * Find CardTerminals by country with pagination.
+     *
+     * @param country the country to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardTerminals from the specified country with pagination
+     */
+    Flux<CardTerminal> findByCountry(String country, Pageable pageable);
     
     /**
      * Find CardTerminals by acquirer ID.
@@ -125,6 +197,15 @@ public interface CardTerminalRepository extends BaseRepository<CardTerminal, UUI
      * @return a Flux emitting the CardTerminals for the specified acquirer
      */
     Flux<CardTerminal> findByAcquirerId(String acquirerId);
+
+    /**
+     * Find CardTerminals by acquirer ID with pagination.
+     *
+     * @param acquirerId the acquirer ID to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardTerminals for the specified acquirer with pagination
+     */
+    Flux<CardTerminal> findByAcquirerId(String acquirerId, Pageable pageable);
     
     /**
      * Find CardTerminals by processor ID.
@@ -133,6 +214,15 @@ public interface CardTerminalRepository extends BaseRepository<CardTerminal, UUI
      * @return a Flux emitting the CardTerminals for the specified processor
      */
     Flux<CardTerminal> findByProcessorId(String processorId);
+
+    /**
+     * Find CardTerminals by processor ID with pagination.
+     *
+     * @param processorId the processor ID to search for
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardTerminals for the specified processor with pagination
+     */
+    Flux<CardTerminal> findByProcessorId(String processorId, Pageable pageable);
     
     /**
      * Find physical CardTerminals.
@@ -140,6 +230,14 @@ public interface CardTerminalRepository extends BaseRepository<CardTerminal, UUI
      * @return a Flux emitting all physical CardTerminals
      */
     Flux<CardTerminal> findByIsPhysicalTrue();
+
+    /**
+     * Find physical CardTerminals with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all physical CardTerminals with pagination
+     */
+    Flux<CardTerminal> findByIsPhysicalTrue(Pageable pageable);
     
     /**
      * Find virtual CardTerminals.
@@ -147,6 +245,14 @@ public interface CardTerminalRepository extends BaseRepository<CardTerminal, UUI
      * @return a Flux emitting all virtual CardTerminals
      */
     Flux<CardTerminal> findByIsVirtualTrue();
+
+    /**
+     * Find virtual CardTerminals with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all virtual CardTerminals with pagination
+     */
+    Flux<CardTerminal> findByIsVirtualTrue(Pageable pageable);
     
     /**
      * Find mobile CardTerminals.
@@ -154,6 +260,14 @@ public interface CardTerminalRepository extends BaseRepository<CardTerminal, UUI
      * @return a Flux emitting all mobile CardTerminals
      */
     Flux<CardTerminal> findByIsMobileTrue();
+
+    /**
+     * Find mobile CardTerminals with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all mobile CardTerminals with pagination
+     */
+    Flux<CardTerminal> findByIsMobileTrue(Pageable pageable);
     
     /**
      * Find attended CardTerminals.
@@ -161,6 +275,14 @@ public interface CardTerminalRepository extends BaseRepository<CardTerminal, UUI
      * @return a Flux emitting all attended CardTerminals
      */
     Flux<CardTerminal> findByIsAttendedTrue();
+
+    /**
+     * Find attended CardTerminals with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all attended CardTerminals with pagination
+     */
+    Flux<CardTerminal> findByIsAttendedTrue(Pageable pageable);
     
     /**
      * Find unattended CardTerminals.
@@ -168,6 +290,14 @@ public interface CardTerminalRepository extends BaseRepository<CardTerminal, UUI
      * @return a Flux emitting all unattended CardTerminals
      */
     Flux<CardTerminal> findByIsUnattendedTrue();
+
+    /**
+     * Find unattended CardTerminals with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all unattended CardTerminals with pagination
+     */
+    Flux<CardTerminal> findByIsUnattendedTrue(Pageable pageable);
     
     /**
      * Find contactless CardTerminals.
@@ -175,6 +305,14 @@ public interface CardTerminalRepository extends BaseRepository<CardTerminal, UUI
      * @return a Flux emitting all contactless CardTerminals
      */
     Flux<CardTerminal> findByIsContactlessTrue();
+
+    /**
+     * Find contactless CardTerminals with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all contactless CardTerminals with pagination
+     */
+    Flux<CardTerminal> findByIsContactlessTrue(Pageable pageable);
     
     /**
      * Find CardTerminals with fault detected.
@@ -182,6 +320,14 @@ public interface CardTerminalRepository extends BaseRepository<CardTerminal, UUI
      * @return a Flux emitting all CardTerminals with fault detected
      */
     Flux<CardTerminal> findByIsFaultDetectedTrue();
+
+    /**
+     * Find CardTerminals with fault detected with pagination.
+     *
+     * @param pageable the pagination information
+     * @return a Flux emitting all CardTerminals with fault detected with pagination
+     */
+    Flux<CardTerminal> findByIsFaultDetectedTrue(Pageable pageable);
     
     /**
      * Find CardTerminals by last transaction timestamp range.
@@ -191,4 +337,14 @@ public interface CardTerminalRepository extends BaseRepository<CardTerminal, UUI
      * @return a Flux emitting the CardTerminals with last transaction within the specified date range
      */
     Flux<CardTerminal> findByLastTransactionTimestampBetween(LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * Find CardTerminals by last transaction timestamp range with pagination.
+     *
+     * @param startDate the start date of the range
+     * @param endDate the end date of the range
+     * @param pageable the pagination information
+     * @return a Flux emitting the CardTerminals with last transaction within the specified date range with pagination
+     */
+    Flux<CardTerminal> findByLastTransactionTimestampBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
 }
\ No newline at end of file
@@ -20,10 +20,12 @@ package com.firefly.core.banking.cards.models.repositories.transaction.v1;
 import com.firefly.core.banking.cards.models.entities.transaction.v1.CardTransaction;
 import com.firefly.core.banking.cards.models.repositories.BaseRepository;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Repository
@@ -31,4 +33,64 @@ public interface CardTransactionRepository extends BaseRepository<CardTransactio
     Mono<CardTransaction> findByCardTransactionId(UUID cardTransactionId);
     Flux<CardTransaction> findByCardId(UUID cardId, Pageable pageable);
     Mono<Long> countByCardId(UUID cardId);
-}
\ No newline at end of file
+
+    /**
+     * Find the newest transactions of a card, ordered by (transaction_timestamp, card_transaction_id) descending.
+     * First page of a keyset scroll; served by idx_card_transaction_card_id_timestamp_id.
+     *
+     * @param cardId the card ID to search for
+     * @param limit the maximum number of rows to return
+     * @return a Flux emitting at most {@code limit} transactions
+     */
+    @Query("SELECT * FROM card_transaction WHERE card_id = :cardId " +
+            "ORDER BY transaction_timestamp DESC, card_transaction_id DESC LIMIT :limit")
+    Flux<CardTransaction> findFirstKeysetPage(UUID cardId, int limit);
+
+    /**
+     * Find the transactions of a card strictly after the given keyset position,
+     * ordered by (transaction_timestamp, card_transaction_id) descending. The redundant bound on
+     * transaction_timestamp alone lets the planner skip the partitions newer than the position,
+     * which it cannot infer from the row comparison.
+     *
+     * @param cardId the card ID to search for
+     * @param transactionTimestamp the timestamp of the last transaction of the previous page
+     * @param cardTransactionId the ID of the last transaction of the previous page
+     * @param limit the maximum number of rows to return
+     * @return a Flux emitting at most {@code limit} transactions
+     */
+    @Query("SELECT * FROM card_transaction WHERE card_id = :cardId " +
+            "AND transaction_timestamp <= :transactionTimestamp " +
+            "AND (transaction_timestamp, card_transaction_id) < (:transactionTimestamp, :cardTransactionId) " +
+            "ORDER BY transaction_timestamp DESC, card_transaction_id DESC LIMIT :limit")
+    Flux<CardTransaction> findKeysetPageAfter(UUID cardId, LocalDateTime transactionTimestamp,
+                                              UUID cardTransactionId, int limit);
+
+    /**
+     * Find a card transaction by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param cardTransactionId the ID of the card transaction
+     * @return a Mono emitting the card transaction, or empty if it does not exist or belongs to another card
+     */
+    Mono<CardTransaction> findByCardIdAndCardTransactionId(UUID cardId, UUID cardTransactionId);
+
+    /**
+     * Find a card transaction by its ID, provided it belongs to the given card, and lock it until
+     * the end of the transaction. Used to read the values an update or delete replaces.
+     *
+     * @param cardId the ID of the owning card
+     * @param cardTransactionId the ID of the card transaction
+     * @return a Mono emitting the locked card transaction, or empty if it does not exist or belongs to another card
+     */
+    @Query("SELECT * FROM card_transaction WHERE card_id = :cardId AND card_transaction_id = :cardTransactionId FOR UPDATE")
+    Mono<CardTransaction> lockByCardIdAndCardTransactionId(UUID cardId, UUID cardTransactionId);
+
+    /**
+     * Delete a card transaction by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param cardTransactionId the ID of the card transaction
+     * @return a Mono emitting the number of rows deleted, 0 if it does not exist or belongs to another card
+     */
+    Mono<Integer> deleteByCardIdAndCardTransactionId(UUID cardId, UUID cardTransactionId);
+}
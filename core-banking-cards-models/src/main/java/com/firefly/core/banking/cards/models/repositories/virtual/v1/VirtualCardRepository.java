@@ -32,4 +32,22 @@ public interface VirtualCardRepository extends BaseRepository<VirtualCard, UUID>
 
     Flux<VirtualCard> findByCardId(UUID cardId, Pageable pageable);
     Mono<Long> countByCardId(UUID cardId);
-}
\ No newline at end of file
+
+    /**
+     * Find a virtual card by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param virtualCardId the ID of the virtual card
+     * @return a Mono emitting the virtual card, or empty if it does not exist or belongs to another card
+     */
+    Mono<VirtualCard> findByCardIdAndVirtualCardId(UUID cardId, UUID virtualCardId);
+
+    /**
+     * Delete a virtual card by its ID, provided it belongs to the given card.
+     *
+     * @param cardId the ID of the owning card
+     * @param virtualCardId the ID of the virtual card
+     * @return a Mono emitting the number of rows deleted, 0 if it does not exist or belongs to another card
+     */
+    Mono<Integer> deleteByCardIdAndVirtualCardId(UUID cardId, UUID virtualCardId);
+}
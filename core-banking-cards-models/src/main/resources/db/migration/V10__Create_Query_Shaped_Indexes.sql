@@ -0,0 +1,111 @@
+-- Composite, covering and partial indexes matched to the repository queries
+
+-- V4 created one single-column index per column it expected to be searched on. This migration
+-- reshapes them after the queries the repositories actually run: paged lookups get a composite
+-- index that serves both the filter and the ORDER BY, the balance rebuild reads card_transaction
+-- from the index alone, and the boolean finders get partial indexes holding only the rows they
+-- return. RepositoryIndexCoverageTest checks every derived finder against the result.
+
+-- card_transaction
+
+-- The keyset index is rebuilt to carry the columns read by CardBalanceRepository.rebuildCurrentBalances
+-- and countByCardId, so both run as index-only scans.
+DROP INDEX IF EXISTS idx_card_transaction_card_id_timestamp_id;
+CREATE INDEX idx_card_transaction_card_id_timestamp_id
+    ON card_transaction(card_id, transaction_timestamp DESC, card_transaction_id DESC)
+    INCLUDE (transaction_amount, billing_amount, transaction_currency, billing_currency,
+             transaction_status, transaction_type);
+
+DROP INDEX IF EXISTS idx_card_transaction_account_id;
+CREATE INDEX idx_card_transaction_account_id_timestamp
+    ON card_transaction(account_id, transaction_timestamp DESC);
+
+DROP INDEX IF EXISTS idx_card_transaction_party_id;
+CREATE INDEX idx_card_transaction_party_id_timestamp
+    ON card_transaction(party_id, transaction_timestamp DESC);
+
+-- card_activity
+
+-- findByCardId(cardId, pageable) lists the activity of a card newest first
+DROP INDEX IF EXISTS idx_card_activity_card_id;
+CREATE INDEX idx_card_activity_card_id_timestamp_id
+    ON card_activity(card_id, activity_timestamp DESC, activity_id DESC);
+CREATE INDEX idx_card_activity_related_entity ON card_activity(related_entity_type, related_entity_id);
+CREATE INDEX idx_card_activity_agent_id ON card_activity(agent_id) WHERE agent_id IS NOT NULL;
+CREATE INDEX idx_card_activity_failure_code ON card_activity(failure_code) WHERE failure_code IS NOT NULL;
+CREATE INDEX idx_card_activity_failed ON card_activity(activity_timestamp DESC) WHERE NOT is_successful;
+CREATE INDEX idx_card_activity_agent_initiated ON card_activity(activity_timestamp DESC) WHERE is_agent_initiated;
+
+-- card_alert
+
+-- findByIsReadFalse is the unread-alerts inbox; the table predates the read flag.
+ALTER TABLE card_alert ADD COLUMN IF NOT EXISTS is_read BOOLEAN DEFAULT FALSE;
+ALTER TABLE card_alert ADD COLUMN IF NOT EXISTS read_timestamp TIMESTAMP;
+CREATE INDEX idx_card_alert_unread ON card_alert(card_id) WHERE NOT is_read;
+
+-- card_application
+
+CREATE INDEX idx_card_application_application_timestamp ON card_application(application_timestamp);
+CREATE INDEX idx_card_application_pre_approved ON card_application(application_timestamp) WHERE is_pre_approved;
+CREATE INDEX idx_card_application_instant_issuance ON card_application(application_timestamp) WHERE is_instant_issuance;
+CREATE INDEX idx_card_application_digital_only ON card_application(application_timestamp) WHERE is_digital_only;
+
+-- card_balance
+
+CREATE INDEX idx_card_balance_party_id ON card_balance(party_id);
+CREATE INDEX idx_card_balance_account_id ON card_balance(account_id);
+CREATE INDEX idx_card_balance_statement_id ON card_balance(statement_id);
+CREATE INDEX idx_card_balance_promotion_id ON card_balance(promotion_id) WHERE promotion_id IS NOT NULL;
+CREATE INDEX idx_card_balance_last_transaction_id ON card_balance(last_transaction_id);
+CREATE INDEX idx_card_balance_as_of_date ON card_balance(as_of_date);
+CREATE INDEX idx_card_balance_promotional_rate ON card_balance(card_id) WHERE is_promotional_rate;
+CREATE INDEX idx_card_balance_delinquent ON card_balance(card_id) WHERE is_delinquent;
+CREATE INDEX idx_card_balance_charged_off ON card_balance(card_id) WHERE is_charged_off;
+CREATE INDEX idx_card_balance_written_off ON card_balance(card_id) WHERE is_written_off;
+CREATE INDEX idx_card_balance_in_collection ON card_balance(card_id) WHERE is_in_collection;
+
+-- card_dispute
+
+CREATE INDEX idx_card_dispute_provider_reference ON card_dispute(provider_reference);
+CREATE INDEX idx_card_dispute_network_reference ON card_dispute(network_reference);
+CREATE INDEX idx_card_dispute_assigned_agent_id ON card_dispute(assigned_agent_id);
+CREATE INDEX idx_card_dispute_response_due_date ON card_dispute(response_due_date);
+CREATE INDEX idx_card_dispute_resolution_timestamp ON card_dispute(resolution_timestamp);
+CREATE INDEX idx_card_dispute_cardholder_credited ON card_dispute(card_id) WHERE is_cardholder_credited;
+CREATE INDEX idx_card_dispute_merchant_debited ON card_dispute(card_id) WHERE is_merchant_debited;
+
+-- card_fee
+
+CREATE INDEX idx_card_fee_waived ON card_fee(card_id) WHERE is_waived;
+
+-- card_payment
+
+CREATE INDEX idx_card_payment_external_reference ON card_payment(external_reference);
+CREATE INDEX idx_card_payment_auto_payment ON card_payment(card_id) WHERE is_auto_payment;
+
+-- card_reward
+
+CREATE INDEX idx_card_reward_transaction_date ON card_reward(transaction_date);
+CREATE INDEX idx_card_reward_adjustment ON card_reward(card_id) WHERE is_adjustment;
+CREATE INDEX idx_card_reward_expiration ON card_reward(card_id) WHERE is_expiration;
+CREATE INDEX idx_card_reward_promotional ON card_reward(card_id) WHERE is_promotional;
+
+-- card_statement
+
+CREATE INDEX idx_card_statement_statement_reference ON card_statement(statement_reference);
+
+-- card_terminal
+
+-- findByIsFaultDetectedTrue feeds terminal maintenance; the table predates the fault flag.
+ALTER TABLE card_terminal ADD COLUMN IF NOT EXISTS is_fault_detected BOOLEAN DEFAULT FALSE;
+CREATE INDEX idx_card_terminal_fault_detected ON card_terminal(merchant_id) WHERE is_fault_detected;
+
+-- fraud_case
+
+CREATE INDEX idx_fraud_case_provider_reference ON fraud_case(provider_reference);
+CREATE INDEX idx_fraud_case_network_reference ON fraud_case(network_reference);
+CREATE INDEX idx_fraud_case_assigned_agent_id ON fraud_case(assigned_agent_id);
+CREATE INDEX idx_fraud_case_reported_by_party ON fraud_case(detection_timestamp) WHERE reported_by_party;
+CREATE INDEX idx_fraud_case_card_blocked ON fraud_case(detection_timestamp) WHERE is_card_blocked;
+CREATE INDEX idx_fraud_case_cardholder_credited ON fraud_case(detection_timestamp) WHERE is_cardholder_credited;
+CREATE INDEX idx_fraud_case_party_notified ON fraud_case(detection_timestamp) WHERE is_party_notified;
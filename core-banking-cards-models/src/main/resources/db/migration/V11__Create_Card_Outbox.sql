@@ -0,0 +1,28 @@
+-- Transactional outbox for card domain events
+
+-- Every mutation of a card, card limit, card transaction or card dispute inserts a row here in
+-- its own transaction, so an event exists exactly when the change was committed. The outbox
+-- relay publishes unpublished rows in sequence order and stamps published_at; published rows
+-- are kept for the retention period so reconnecting event-stream clients can catch up.
+-- card_id has no foreign key: CARD_DELETED events outlive the card they describe.
+CREATE TABLE card_outbox_event (
+    event_id UUID PRIMARY KEY,
+    sequence_number BIGSERIAL NOT NULL UNIQUE,
+    card_id UUID,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload TEXT,
+    published_at TIMESTAMP,
+    date_created TIMESTAMP,
+    date_updated TIMESTAMP
+);
+
+-- Serves the relay: the unpublished backlog in sequence order
+CREATE INDEX idx_card_outbox_event_unpublished ON card_outbox_event(sequence_number) WHERE published_at IS NULL;
+
+-- Serves event-stream catch-up: the events of a card after the last one seen
+CREATE INDEX idx_card_outbox_event_card_id_sequence ON card_outbox_event(card_id, sequence_number);
+
+-- Serves retention cleanup
+CREATE INDEX idx_card_outbox_event_published_at ON card_outbox_event(published_at) WHERE published_at IS NOT NULL;
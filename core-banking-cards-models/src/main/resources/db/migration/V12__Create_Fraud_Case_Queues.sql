@@ -0,0 +1,114 @@
+-- Fraud case triage queues and their summary
+
+-- Queues are read in (fraud_score DESC, detection_timestamp, fraud_case_id) order, highest score
+-- first and oldest first within a score. Both columns take part in keyset comparisons, where a
+-- NULL would drop the case from every page, so they are made mandatory.
+UPDATE fraud_case SET fraud_score = 0 WHERE fraud_score IS NULL;
+UPDATE fraud_case SET detection_timestamp = COALESCE(date_created, now()::timestamp) WHERE detection_timestamp IS NULL;
+ALTER TABLE fraud_case ALTER COLUMN fraud_score SET DEFAULT 0;
+ALTER TABLE fraud_case ALTER COLUMN fraud_score SET NOT NULL;
+ALTER TABLE fraud_case ALTER COLUMN detection_timestamp SET DEFAULT now()::timestamp;
+ALTER TABLE fraud_case ALTER COLUMN detection_timestamp SET NOT NULL;
+
+-- Serves the status queues; also covers lookups by fraud_status, superseding V4's index
+CREATE INDEX idx_fraud_case_status_queue ON fraud_case(fraud_status, fraud_score DESC, detection_timestamp, fraud_case_id);
+DROP INDEX IF EXISTS idx_fraud_case_fraud_status;
+
+-- Serves the agent queues; also covers lookups by assigned_agent_id, superseding V10's index
+CREATE INDEX idx_fraud_case_agent_queue ON fraud_case(assigned_agent_id, fraud_status, fraud_score DESC, detection_timestamp, fraud_case_id) WHERE assigned_agent_id IS NOT NULL;
+DROP INDEX IF EXISTS idx_fraud_case_assigned_agent_id;
+
+-- Case counts per status and assigned agent (NULL for unassigned cases), kept current by the
+-- triggers below so that the triage dashboard reads a few rows instead of scanning fraud_case.
+-- Rows are kept when their count drops to zero; readers skip them.
+CREATE TABLE fraud_case_queue_summary (
+    summary_id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    fraud_status VARCHAR(50) NOT NULL,
+    assigned_agent_id UUID,
+    case_count BIGINT NOT NULL DEFAULT 0,
+    high_risk_count BIGINT NOT NULL DEFAULT 0,
+    critical_count BIGINT NOT NULL DEFAULT 0,
+    total_fraud_score BIGINT NOT NULL DEFAULT 0,
+    date_created TIMESTAMP,
+    date_updated TIMESTAMP
+);
+
+CREATE UNIQUE INDEX idx_fraud_case_queue_summary_key
+    ON fraud_case_queue_summary(fraud_status, (COALESCE(assigned_agent_id, '00000000-0000-0000-0000-000000000000'::uuid)));
+
+-- Add signed case deltas to the summary, one upsert per status and agent. Deltas are applied in
+-- key order so that concurrent statements lock summary rows consistently.
+CREATE OR REPLACE FUNCTION fraud_case_queue_summary_add(deltas jsonb) RETURNS void AS $$
+BEGIN
+    INSERT INTO fraud_case_queue_summary AS s (fraud_status, assigned_agent_id, case_count, high_risk_count,
+                                              critical_count, total_fraud_score, date_created, date_updated)
+    SELECT d.fraud_status, d.assigned_agent_id, SUM(d.cases), SUM(d.high_risk), SUM(d.critical), SUM(d.score),
+           now()::timestamp, now()::timestamp
+    FROM jsonb_to_recordset(deltas) AS d(fraud_status text, assigned_agent_id uuid, cases bigint,
+                                        high_risk bigint, critical bigint, score bigint)
+    GROUP BY d.fraud_status, d.assigned_agent_id
+    HAVING SUM(d.cases) <> 0 OR SUM(d.high_risk) <> 0 OR SUM(d.critical) <> 0 OR SUM(d.score) <> 0
+    ORDER BY d.fraud_status, d.assigned_agent_id
+    ON CONFLICT (fraud_status, (COALESCE(assigned_agent_id, '00000000-0000-0000-0000-000000000000'::uuid))) DO UPDATE
+    SET case_count = s.case_count + EXCLUDED.case_count,
+        high_risk_count = s.high_risk_count + EXCLUDED.high_risk_count,
+        critical_count = s.critical_count + EXCLUDED.critical_count,
+        total_fraud_score = s.total_fraud_score + EXCLUDED.total_fraud_score,
+        date_updated = EXCLUDED.date_updated;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Statement-level, so a batch of inserted or updated cases costs one upsert per key
+CREATE OR REPLACE FUNCTION fraud_case_queue_summary_apply() RETURNS trigger AS $$
+DECLARE
+    deltas jsonb := '[]'::jsonb;
+BEGIN
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        deltas := deltas || COALESCE((
+            SELECT jsonb_agg(jsonb_build_object(
+                'fraud_status', COALESCE(fraud_status, 'UNSPECIFIED'),
+                'assigned_agent_id', assigned_agent_id,
+                'cases', 1,
+                'high_risk', CASE WHEN risk_level IN ('HIGH', 'CRITICAL') THEN 1 ELSE 0 END,
+                'critical', CASE WHEN risk_level = 'CRITICAL' THEN 1 ELSE 0 END,
+                'score', fraud_score))
+            FROM new_cases), '[]'::jsonb);
+    END IF;
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        deltas := deltas || COALESCE((
+            SELECT jsonb_agg(jsonb_build_object(
+                'fraud_status', COALESCE(fraud_status, 'UNSPECIFIED'),
+                'assigned_agent_id', assigned_agent_id,
+                'cases', -1,
+                'high_risk', CASE WHEN risk_level IN ('HIGH', 'CRITICAL') THEN -1 ELSE 0 END,
+                'critical', CASE WHEN risk_level = 'CRITICAL' THEN -1 ELSE 0 END,
+                'score', -fraud_score))
+            FROM old_cases), '[]'::jsonb);
+    END IF;
+    PERFORM fraud_case_queue_summary_add(deltas);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_fraud_case_queue_summary_insert
+    AFTER INSERT ON fraud_case REFERENCING NEW TABLE AS new_cases
+    FOR EACH STATEMENT EXECUTE FUNCTION fraud_case_queue_summary_apply();
+
+CREATE TRIGGER trg_fraud_case_queue_summary_update
+    AFTER UPDATE ON fraud_case REFERENCING OLD TABLE AS old_cases NEW TABLE AS new_cases
+    FOR EACH STATEMENT EXECUTE FUNCTION fraud_case_queue_summary_apply();
+
+CREATE TRIGGER trg_fraud_case_queue_summary_delete
+    AFTER DELETE ON fraud_case REFERENCING OLD TABLE AS old_cases
+    FOR EACH STATEMENT EXECUTE FUNCTION fraud_case_queue_summary_apply();
+
+-- Seed the summary from the existing cases. The ALTER TABLE statements above keep fraud_case
+-- locked until this migration commits, so no case is counted both here and by the triggers.
+INSERT INTO fraud_case_queue_summary (fraud_status, assigned_agent_id, case_count, high_risk_count,
+                                      critical_count, total_fraud_score, date_created, date_updated)
+SELECT COALESCE(fraud_status, 'UNSPECIFIED'), assigned_agent_id, COUNT(*),
+       COUNT(*) FILTER (WHERE risk_level IN ('HIGH', 'CRITICAL')),
+       COUNT(*) FILTER (WHERE risk_level = 'CRITICAL'),
+       SUM(fraud_score), now()::timestamp, now()::timestamp
+FROM fraud_case
+GROUP BY COALESCE(fraud_status, 'UNSPECIFIED'), assigned_agent_id;
@@ -0,0 +1,84 @@
+-- Bulk card issuance
+
+-- Align card_program with the CardProgram entity: bulk issuance reads the validity period and
+-- the PIN and contactless settings, which the original table did not have.
+ALTER TABLE card_program
+    ADD COLUMN default_card_validity_years INTEGER,
+    ADD COLUMN supports_contactless BOOLEAN DEFAULT TRUE,
+    ADD COLUMN supports_international BOOLEAN DEFAULT TRUE,
+    ADD COLUMN supports_atm_withdrawal BOOLEAN DEFAULT TRUE,
+    ADD COLUMN supports_online_transactions BOOLEAN DEFAULT TRUE,
+    ADD COLUMN supports_recurring_payments BOOLEAN DEFAULT TRUE,
+    ADD COLUMN supports_apple_pay BOOLEAN DEFAULT FALSE,
+    ADD COLUMN supports_google_pay BOOLEAN DEFAULT FALSE,
+    ADD COLUMN supports_samsung_pay BOOLEAN DEFAULT FALSE,
+    ADD COLUMN requires_pin BOOLEAN DEFAULT TRUE,
+    ADD COLUMN requires_activation BOOLEAN DEFAULT TRUE,
+    ADD COLUMN country_code VARCHAR(3),
+    ADD COLUMN terms_and_conditions_url VARCHAR(255),
+    ADD COLUMN description TEXT;
+
+-- Align card_security with the CardSecurity entity, which describes a feature by name and code
+-- and can be a program default copied onto new cards. The original table only had a fixed
+-- feature enum; it is kept for existing rows.
+ALTER TABLE card_security RENAME COLUMN security_id TO card_security_id;
+ALTER TABLE card_security RENAME COLUMN enabled_date TO activation_date;
+
+ALTER TABLE card_security
+    ADD COLUMN program_id UUID,
+    ADD COLUMN security_feature_name VARCHAR(100),
+    ADD COLUMN security_feature_code VARCHAR(50),
+    ADD COLUMN security_value VARCHAR(255),
+    ADD COLUMN is_mandatory BOOLEAN DEFAULT FALSE,
+    ADD COLUMN expiration_date TIMESTAMP,
+    ADD COLUMN last_updated_date TIMESTAMP,
+    ADD COLUMN last_used_date TIMESTAMP,
+    ADD COLUMN is_system_default BOOLEAN DEFAULT FALSE,
+    ADD COLUMN is_program_default BOOLEAN DEFAULT FALSE,
+    ADD COLUMN is_party_configurable BOOLEAN DEFAULT TRUE,
+    ADD COLUMN allowed_values TEXT,
+    ADD COLUMN min_value VARCHAR(50),
+    ADD COLUMN max_value VARCHAR(50),
+    ADD COLUMN supports_3d_secure BOOLEAN,
+    ADD COLUMN supports_tokenization BOOLEAN,
+    ADD COLUMN supports_biometric BOOLEAN,
+    ADD COLUMN supports_pin BOOLEAN,
+    ADD COLUMN supports_otp BOOLEAN,
+    ADD COLUMN fraud_detection_level VARCHAR(50),
+    ADD COLUMN description TEXT;
+
+UPDATE card_security
+SET security_feature_code = security_feature::text,
+    security_feature_name = security_feature::text
+WHERE security_feature IS NOT NULL;
+
+-- Serve the lookup of the limits and security features a program copies onto its new cards
+CREATE INDEX idx_card_limit_program_default ON card_limit(program_id) WHERE is_program_default AND card_id IS NULL;
+CREATE INDEX idx_card_security_program_default ON card_security(program_id) WHERE is_program_default AND card_id IS NULL;
+
+-- One bulk issuance request. Cards are written in chunks; each chunk advances issued_count in
+-- the same transaction as its rows, so a failed or interrupted job resumes from issued_count
+-- without issuing any card twice. date_updated is touched by every chunk and tells a job still
+-- running from one whose node went away.
+CREATE TABLE card_issuance_job (
+    issuance_job_id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    program_id UUID NOT NULL REFERENCES card_program(program_id),
+    party_id UUID,
+    account_id UUID,
+    contract_id UUID,
+    card_holder_name VARCHAR(255),
+    is_physical BOOLEAN NOT NULL DEFAULT FALSE,
+    requested_count INTEGER NOT NULL,
+    issued_count INTEGER NOT NULL DEFAULT 0,
+    chunk_size INTEGER NOT NULL,
+    job_status VARCHAR(20) NOT NULL,
+    last_error TEXT,
+    started_at TIMESTAMP,
+    completed_at TIMESTAMP,
+    date_created TIMESTAMP,
+    date_updated TIMESTAMP,
+    CONSTRAINT chk_card_issuance_job_counts CHECK (requested_count > 0 AND issued_count BETWEEN 0 AND requested_count),
+    CONSTRAINT chk_card_issuance_job_chunk_size CHECK (chunk_size > 0)
+);
+
+CREATE INDEX idx_card_issuance_job_program_id ON card_issuance_job(program_id);
@@ -0,0 +1,17 @@
+-- PAN range allocation
+
+-- One row per BIN prefix and card number length. The account numbers of a range are split into
+-- blocks of block_size; next_block counts the blocks handed out so far. A node reserves a block by
+-- incrementing next_block and then issues the block's numbers from memory, so card numbers are
+-- unique across nodes without a lookup per card. block_size is fixed by the first reservation.
+CREATE TABLE pan_range_allocation (
+    allocation_id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    bin_prefix VARCHAR(8) NOT NULL,
+    pan_length INTEGER NOT NULL,
+    block_size BIGINT NOT NULL,
+    next_block BIGINT NOT NULL DEFAULT 0,
+    date_created TIMESTAMP,
+    date_updated TIMESTAMP,
+    CONSTRAINT uq_pan_range_allocation_range UNIQUE (bin_prefix, pan_length),
+    CONSTRAINT chk_pan_range_allocation_block_size CHECK (block_size > 0)
+);
@@ -0,0 +1,12 @@
+-- Unique card number index, built concurrently
+
+-- Builds the unique index checked for by V16__Make_Card_Number_Unique.sql next to the existing
+-- one before dropping that, so card stays writable and indexed on card_number throughout. CREATE
+-- INDEX CONCURRENTLY cannot run in a transaction, so Flyway runs this script statement by
+-- statement and must not hold a transactional lock while it does (see
+-- spring.flyway.postgresql.transactional-lock). If the build fails, for instance because a
+-- duplicate was inserted since V16, the half-built index is left INVALID; repair the Flyway
+-- history and migrate again, and the first statement drops it.
+DROP INDEX CONCURRENTLY IF EXISTS idx_card_card_number_unique;
+CREATE UNIQUE INDEX CONCURRENTLY idx_card_card_number_unique ON card(card_number);
+DROP INDEX CONCURRENTLY IF EXISTS idx_card_card_number;
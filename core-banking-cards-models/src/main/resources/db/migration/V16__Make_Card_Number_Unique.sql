@@ -0,0 +1,25 @@
+-- Unique card numbers
+
+-- PanAllocator hands out card numbers from reserved blocks and skips the ones an existing card
+-- already holds, but cards created through the card API can take a number between that check and
+-- the insert of an issuance chunk. A unique index on card_number makes the database the final
+-- arbiter: the losing insert fails instead of creating a second card with the same number.
+-- card_number is NOT NULL, so every card is constrained.
+--
+-- Existing duplicates are reported rather than removed: which card keeps a number is a decision
+-- for operations, not for a migration. The index itself is built without blocking writes to card
+-- by V16_1__Build_Unique_Card_Number_Index.sql, which cannot run in a transaction.
+DO $$
+DECLARE
+    duplicates BIGINT;
+BEGIN
+    SELECT count(*) INTO duplicates FROM (
+        SELECT 1 FROM card
+        GROUP BY card_number
+        HAVING count(*) > 1) d;
+    IF duplicates > 0 THEN
+        RAISE EXCEPTION 'card has % card numbers held by more than one card; '
+            'reissue all but one card of each number before migrating', duplicates;
+    END IF;
+END;
+$$;
@@ -0,0 +1,20 @@
+-- Commit-ordered position of published outbox events
+
+-- sequence_number is drawn when an event is inserted, so an event whose transaction commits late
+-- can appear behind one a resuming event-stream client has already seen. The relay numbers
+-- events from publish_sequence while holding a transaction-scoped advisory lock, so a number
+-- only becomes visible once every lower one is.
+CREATE SEQUENCE card_outbox_event_publish_sequence;
+
+ALTER TABLE card_outbox_event ADD COLUMN publish_sequence BIGINT UNIQUE;
+
+-- Events already published keep their sequence number, so Last-Event-ID values handed out
+-- before this migration still resume at the right place
+UPDATE card_outbox_event SET publish_sequence = sequence_number WHERE published_at IS NOT NULL;
+
+SELECT setval('card_outbox_event_publish_sequence', COALESCE(MAX(sequence_number), 0) + 1, false)
+FROM card_outbox_event;
+
+-- Serves event-stream catch-up: the published events of a card after the last one seen
+DROP INDEX IF EXISTS idx_card_outbox_event_card_id_sequence;
+CREATE INDEX idx_card_outbox_event_card_id_publish_sequence ON card_outbox_event(card_id, publish_sequence);
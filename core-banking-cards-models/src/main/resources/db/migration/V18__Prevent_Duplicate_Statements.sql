@@ -0,0 +1,41 @@
+-- One statement per card and period
+
+-- The statement run skipped cards that already had a statement for the period, but two runs for
+-- the same period, or a run racing a resumed one, could both pass that check and bill a card
+-- twice. A card now has at most one statement ending at a given time, and runs that are not
+-- failed cannot cover overlapping periods. Existing duplicates are reported rather than removed:
+-- which statement a customer was sent is a decision for operations, not for a migration.
+DO $$
+DECLARE
+    duplicates BIGINT;
+    overlaps BIGINT;
+BEGIN
+    SELECT count(*) INTO duplicates FROM (
+        SELECT 1 FROM card_statement
+        WHERE card_id IS NOT NULL AND statement_period_end IS NOT NULL
+        GROUP BY card_id, statement_period_end
+        HAVING count(*) > 1) d;
+    IF duplicates > 0 THEN
+        RAISE EXCEPTION 'card_statement has % card and period combinations with more than one statement; '
+            'keep one statement of each before migrating', duplicates;
+    END IF;
+
+    SELECT count(*) INTO overlaps
+    FROM card_statement_run a
+    JOIN card_statement_run b ON a.run_id < b.run_id
+        AND tsrange(a.period_start, a.period_end) && tsrange(b.period_start, b.period_end)
+    WHERE a.run_status <> 'FAILED' AND b.run_status <> 'FAILED';
+    IF overlaps > 0 THEN
+        RAISE EXCEPTION 'card_statement_run has % pairs of overlapping runs that have not failed; '
+            'mark all but one of each as FAILED before migrating', overlaps;
+    END IF;
+END $$;
+
+-- Also serves the lookup of a card's previous statement, and of its statement for a period
+DROP INDEX IF EXISTS idx_card_statement_card_id_period_end;
+CREATE UNIQUE INDEX idx_card_statement_card_id_period_end ON card_statement(card_id, statement_period_end);
+
+-- Resuming a failed run makes it count again, so a resume that would overlap a newer run fails too
+ALTER TABLE card_statement_run
+    ADD CONSTRAINT excl_card_statement_run_period
+    EXCLUDE USING gist (tsrange(period_start, period_end) WITH &&) WHERE (run_status <> 'FAILED');
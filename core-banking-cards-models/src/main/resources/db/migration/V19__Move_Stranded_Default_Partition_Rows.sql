@@ -0,0 +1,55 @@
+-- Create monthly partitions over rows stranded in the DEFAULT partition
+
+-- When partition maintenance falls behind past a month boundary, that month's rows land in the
+-- DEFAULT partition, and creating the month's partition afterwards fails because the DEFAULT
+-- partition would then hold rows outside its range. The function failed the same way on every
+-- later run, so the month stayed in the DEFAULT partition for good. It now detaches the DEFAULT
+-- partition, creates the month, moves the stranded rows into it and attaches the DEFAULT
+-- partition again, all in one transaction. Moving rows locks the parent table until commit, so
+-- it only happens when maintenance was already late.
+CREATE OR REPLACE FUNCTION card_ensure_monthly_partition(parent text, month_start date)
+RETURNS boolean AS $$
+DECLARE
+    lower_bound date := date_trunc('month', month_start)::date;
+    upper_bound date := (lower_bound + interval '1 month')::date;
+    partition_name text := parent || '_p' || to_char(lower_bound, 'YYYY_MM');
+    partition_key text;
+    default_partition regclass;
+    stranded boolean := false;
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN false;
+    END IF;
+    SELECT a.attname, NULLIF(p.partdefid, 0)::regclass
+    INTO partition_key, default_partition
+    FROM pg_partitioned_table p
+    JOIN pg_attribute a ON a.attrelid = p.partrelid AND a.attnum = p.partattrs[0]
+    WHERE p.partrelid = parent::regclass;
+
+    IF default_partition IS NOT NULL THEN
+        EXECUTE format('SELECT EXISTS (SELECT 1 FROM %s WHERE %I >= %L AND %I < %L)',
+                       default_partition, partition_key, lower_bound, partition_key, upper_bound)
+        INTO stranded;
+    END IF;
+    IF NOT stranded THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, parent, lower_bound, upper_bound);
+        RETURN true;
+    END IF;
+
+    RAISE WARNING 'moving % rows of % from % into new partition %', parent, to_char(lower_bound, 'YYYY-MM'),
+        default_partition, partition_name;
+    EXECUTE format('ALTER TABLE %I DETACH PARTITION %s', parent, default_partition);
+    EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, parent, lower_bound, upper_bound);
+    EXECUTE format('INSERT INTO %I SELECT * FROM %s WHERE %I >= %L AND %I < %L',
+                   partition_name, default_partition, partition_key, lower_bound, partition_key, upper_bound);
+    EXECUTE format('DELETE FROM %s WHERE %I >= %L AND %I < %L',
+                   default_partition, partition_key, lower_bound, partition_key, upper_bound);
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %s DEFAULT', parent, default_partition);
+    RETURN true;
+EXCEPTION
+    WHEN duplicate_table THEN
+        RETURN false;
+END;
+$$ LANGUAGE plpgsql;
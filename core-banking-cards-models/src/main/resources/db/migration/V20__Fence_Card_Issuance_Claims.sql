@@ -0,0 +1,7 @@
+-- Fence bulk issuance jobs by claim
+
+-- Progress was only fenced by issued_count, so a node that lost a stale job to another one could
+-- still mark it FAILED when its own next chunk was rejected, stopping the node that had taken it
+-- over. Every claim now increments attempts, and a node records progress or failure only under the
+-- attempts of its own claim.
+ALTER TABLE card_issuance_job ADD COLUMN attempts INTEGER NOT NULL DEFAULT 0;
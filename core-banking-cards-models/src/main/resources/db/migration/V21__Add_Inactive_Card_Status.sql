@@ -0,0 +1,5 @@
+-- Inactive card status
+
+-- Cards of programs that require activation are issued before the cardholder activates them and
+-- must not be reported ACTIVE in the meantime.
+ALTER TYPE card_status_enum ADD VALUE IF NOT EXISTS 'INACTIVE' AFTER 'ACTIVE';
@@ -0,0 +1,6 @@
+-- Composite index backing keyset (cursor) pagination of card transactions
+
+-- Serves WHERE card_id = ? AND (transaction_timestamp, card_transaction_id) < (?, ?)
+-- ORDER BY transaction_timestamp DESC, card_transaction_id DESC without a sort step
+CREATE INDEX idx_card_transaction_card_id_timestamp_id
+    ON card_transaction(card_id, transaction_timestamp DESC, card_transaction_id DESC);
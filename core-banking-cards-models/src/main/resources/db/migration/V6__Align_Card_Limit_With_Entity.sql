@@ -0,0 +1,29 @@
+-- Align card_limit with the CardLimit entity so that usage can be tracked and
+-- checked in SQL. The original table only held the limit value; the entity also
+-- tracks current usage, the remaining amount, scoping and reset scheduling.
+
+ALTER TABLE card_limit RENAME COLUMN limit_id TO card_limit_id;
+ALTER TABLE card_limit RENAME COLUMN limit_value TO limit_amount;
+ALTER TABLE card_limit RENAME COLUMN channel TO channel_type;
+ALTER TABLE card_limit ALTER COLUMN limit_amount TYPE DECIMAL(19, 4);
+
+ALTER TABLE card_limit
+    ADD COLUMN program_id UUID,
+    ADD COLUMN limit_name VARCHAR(100),
+    ADD COLUMN limit_code VARCHAR(50),
+    ADD COLUMN merchant_category_code VARCHAR(4),
+    ADD COLUMN country_code VARCHAR(3),
+    ADD COLUMN current_usage DECIMAL(19, 4) NOT NULL DEFAULT 0,
+    ADD COLUMN available_amount DECIMAL(19, 4),
+    ADD COLUMN reset_day INTEGER,
+    ADD COLUMN reset_hour INTEGER,
+    ADD COLUMN last_reset_date TIMESTAMP,
+    ADD COLUMN next_reset_date TIMESTAMP,
+    ADD COLUMN is_system_default BOOLEAN DEFAULT FALSE,
+    ADD COLUMN is_program_default BOOLEAN DEFAULT FALSE,
+    ADD COLUMN is_party_configurable BOOLEAN DEFAULT TRUE,
+    ADD COLUMN min_limit DECIMAL(19, 4),
+    ADD COLUMN max_limit DECIMAL(19, 4),
+    ADD COLUMN description TEXT;
+
+UPDATE card_limit SET available_amount = limit_amount - current_usage WHERE limit_amount IS NOT NULL;
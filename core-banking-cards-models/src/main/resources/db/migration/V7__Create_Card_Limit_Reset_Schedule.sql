@@ -0,0 +1,61 @@
+-- Reset schedule for card limits
+
+-- Next reset boundary strictly after the given time. Daily limits reset every day at
+-- reset_hour; monthly limits on reset_day at reset_hour, clamped to the last day of
+-- shorter months.
+CREATE OR REPLACE FUNCTION card_limit_next_reset(period text, reset_day integer, reset_hour integer, after_ts timestamp)
+RETURNS timestamp AS $$
+DECLARE
+    hour_offset interval := make_interval(hours => COALESCE(reset_hour, 0));
+    month_start timestamp;
+    candidate timestamp;
+BEGIN
+    IF period = 'MONTHLY' THEN
+        month_start := date_trunc('month', after_ts);
+        LOOP
+            candidate := month_start
+                + make_interval(days => LEAST(COALESCE(reset_day, 1),
+                        EXTRACT(DAY FROM month_start + interval '1 month' - interval '1 day')::integer) - 1)
+                + hour_offset;
+            EXIT WHEN candidate > after_ts;
+            month_start := month_start + interval '1 month';
+        END LOOP;
+    ELSE
+        candidate := date_trunc('day', after_ts) + hour_offset;
+        IF candidate <= after_ts THEN
+            candidate := candidate + interval '1 day';
+        END IF;
+    END IF;
+    RETURN candidate;
+END;
+$$ LANGUAGE plpgsql IMMUTABLE;
+
+-- Schedule the first reset of new limits, and reschedule when the reset settings change
+CREATE OR REPLACE FUNCTION card_limit_schedule_reset() RETURNS trigger AS $$
+BEGIN
+    IF NEW.reset_period IS NULL THEN
+        NEW.next_reset_date := NULL;
+    ELSIF TG_OP = 'INSERT' THEN
+        IF NEW.next_reset_date IS NULL THEN
+            NEW.next_reset_date := card_limit_next_reset(NEW.reset_period::text, NEW.reset_day, NEW.reset_hour, now()::timestamp);
+        END IF;
+    ELSIF NEW.reset_period IS DISTINCT FROM OLD.reset_period
+        OR NEW.reset_day IS DISTINCT FROM OLD.reset_day
+        OR NEW.reset_hour IS DISTINCT FROM OLD.reset_hour
+        OR NEW.next_reset_date IS NULL THEN
+        NEW.next_reset_date := card_limit_next_reset(NEW.reset_period::text, NEW.reset_day, NEW.reset_hour, now()::timestamp);
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_card_limit_schedule_reset
+    BEFORE INSERT OR UPDATE OF reset_period, reset_day, reset_hour, next_reset_date ON card_limit
+    FOR EACH ROW EXECUTE FUNCTION card_limit_schedule_reset();
+
+UPDATE card_limit
+SET next_reset_date = card_limit_next_reset(reset_period::text, reset_day, reset_hour, now()::timestamp)
+WHERE reset_period IS NOT NULL AND next_reset_date IS NULL;
+
+-- Serves the reset scheduler: due limits in next_reset_date order
+CREATE INDEX idx_card_limit_next_reset_date ON card_limit(next_reset_date) WHERE next_reset_date IS NOT NULL;
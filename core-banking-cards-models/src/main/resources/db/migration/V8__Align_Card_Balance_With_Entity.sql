@@ -0,0 +1,63 @@
+-- Align card_balance with the CardBalance entity so that it can be maintained as a
+-- projection of card_transaction. The original table used ledger/available/pending
+-- column names that the entity never mapped, and lacked most of its attributes.
+
+ALTER TABLE card_balance RENAME COLUMN ledger_balance TO balance_amount;
+ALTER TABLE card_balance RENAME COLUMN available_balance TO available_amount;
+ALTER TABLE card_balance RENAME COLUMN pending_authorizations TO pending_amount;
+ALTER TABLE card_balance RENAME COLUMN last_update_timestamp TO as_of_date;
+ALTER TABLE card_balance
+    ALTER COLUMN balance_amount TYPE DECIMAL(19, 4),
+    ALTER COLUMN available_amount TYPE DECIMAL(19, 4),
+    ALTER COLUMN pending_amount TYPE DECIMAL(19, 4),
+    ALTER COLUMN balance_amount SET DEFAULT 0,
+    ALTER COLUMN available_amount SET DEFAULT 0,
+    ALTER COLUMN pending_amount SET DEFAULT 0;
+
+ALTER TABLE card_balance
+    ADD COLUMN party_id UUID,
+    ADD COLUMN account_id UUID,
+    ADD COLUMN statement_id UUID,
+    ADD COLUMN balance_type VARCHAR(50),
+    ADD COLUMN balance_category VARCHAR(50),
+    ADD COLUMN balance_description VARCHAR(255),
+    ADD COLUMN reserved_amount DECIMAL(19, 4),
+    ADD COLUMN last_transaction_id UUID,
+    ADD COLUMN last_transaction_timestamp TIMESTAMP,
+    ADD COLUMN last_payment_id UUID,
+    ADD COLUMN last_payment_timestamp TIMESTAMP,
+    ADD COLUMN last_statement_id UUID,
+    ADD COLUMN last_statement_date TIMESTAMP,
+    ADD COLUMN is_promotional_rate BOOLEAN,
+    ADD COLUMN promotion_id UUID,
+    ADD COLUMN promotion_end_date TIMESTAMP,
+    ADD COLUMN interest_rate DECIMAL(10, 6),
+    ADD COLUMN annual_percentage_rate DECIMAL(10, 6),
+    ADD COLUMN accrued_interest DECIMAL(19, 4),
+    ADD COLUMN last_interest_accrual_date TIMESTAMP,
+    ADD COLUMN next_interest_accrual_date TIMESTAMP,
+    ADD COLUMN is_in_grace_period BOOLEAN,
+    ADD COLUMN grace_period_end_date TIMESTAMP,
+    ADD COLUMN minimum_payment_due DECIMAL(19, 4),
+    ADD COLUMN minimum_payment_due_date TIMESTAMP,
+    ADD COLUMN days_past_due INTEGER,
+    ADD COLUMN is_delinquent BOOLEAN,
+    ADD COLUMN delinquency_start_date TIMESTAMP,
+    ADD COLUMN delinquency_days INTEGER,
+    ADD COLUMN delinquency_stage VARCHAR(50),
+    ADD COLUMN is_charged_off BOOLEAN,
+    ADD COLUMN charge_off_date TIMESTAMP,
+    ADD COLUMN charge_off_amount DECIMAL(19, 4),
+    ADD COLUMN is_written_off BOOLEAN,
+    ADD COLUMN write_off_date TIMESTAMP,
+    ADD COLUMN write_off_amount DECIMAL(19, 4),
+    ADD COLUMN is_in_collection BOOLEAN,
+    ADD COLUMN collection_start_date TIMESTAMP,
+    ADD COLUMN collection_agency_id VARCHAR(100),
+    ADD COLUMN collection_reference VARCHAR(100),
+    ADD COLUMN collection_status VARCHAR(50),
+    ADD COLUMN notes TEXT;
+
+-- The projection keeps one CURRENT balance per card and currency and upserts into it.
+CREATE UNIQUE INDEX uq_card_balance_current ON card_balance(card_id, currency_code)
+    WHERE balance_type = 'CURRENT';
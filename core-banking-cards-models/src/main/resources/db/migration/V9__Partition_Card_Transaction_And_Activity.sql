@@ -0,0 +1,161 @@
+-- Monthly range partitioning of card_transaction and card_activity
+
+-- Both tables are append-mostly and by far the largest in the schema. Partitioning them by month
+-- keeps every index small enough to stay in memory, confines vacuum to the recent partitions that
+-- actually change, and lets old months be detached as a metadata operation instead of a mass
+-- DELETE. Partitions are named <table>_pYYYY_MM; a DEFAULT partition catches rows outside the
+-- premade range so that inserts never fail. Partitions for upcoming months are created by
+-- PartitionManager, which calls the functions below.
+
+-- Create the partition of parent holding the month that contains month_start.
+-- Returns false when it already exists, so concurrent callers are harmless.
+CREATE OR REPLACE FUNCTION card_ensure_monthly_partition(parent text, month_start date)
+RETURNS boolean AS $$
+DECLARE
+    lower_bound date := date_trunc('month', month_start)::date;
+    partition_name text := parent || '_p' || to_char(lower_bound, 'YYYY_MM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN false;
+    END IF;
+    EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, parent, lower_bound, (lower_bound + interval '1 month')::date);
+    RETURN true;
+EXCEPTION
+    WHEN duplicate_table THEN
+        RETURN false;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Detach every monthly partition of parent that ends on or before cutoff. Detached partitions are
+-- moved to archive_schema, where they can be dumped and dropped, or dropped right away when
+-- archive_schema is null. Returns the names of the partitions retired. Gives up on a partition
+-- rather than queue behind long-running queries; it is retried on the next run.
+CREATE OR REPLACE FUNCTION card_retire_monthly_partitions(parent text, cutoff date, archive_schema text)
+RETURNS SETOF text AS $$
+DECLARE
+    partition_name text;
+BEGIN
+    SET LOCAL lock_timeout = '5s';
+    IF archive_schema IS NOT NULL THEN
+        EXECUTE format('CREATE SCHEMA IF NOT EXISTS %I', archive_schema);
+    END IF;
+    FOR partition_name IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = parent::regclass
+          AND c.relname ~ ('^' || parent || '_p[0-9]{4}_[0-9]{2}$')
+          AND (to_date(right(c.relname, 7), 'YYYY_MM') + interval '1 month')::date <= cutoff
+        ORDER BY c.relname
+    LOOP
+        EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent, partition_name);
+        IF archive_schema IS NULL THEN
+            EXECUTE format('DROP TABLE %I', partition_name);
+        ELSE
+            EXECUTE format('ALTER TABLE %I SET SCHEMA %I', partition_name, archive_schema);
+        END IF;
+        RETURN NEXT partition_name;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- The primary key of a partitioned table must include the partition key, so card_transaction_id
+-- alone can no longer be the target of a foreign key. Transaction IDs are random UUIDs generated
+-- by the service; the references below are kept as plain indexed columns.
+ALTER TABLE card_dispute DROP CONSTRAINT IF EXISTS card_dispute_transaction_id_fkey;
+ALTER TABLE card_reward DROP CONSTRAINT IF EXISTS card_reward_transaction_id_fkey;
+ALTER TABLE fraud_case DROP CONSTRAINT IF EXISTS fraud_case_transaction_id_fkey;
+
+-- card_transaction
+
+ALTER TABLE card_transaction RENAME TO card_transaction_unpartitioned;
+ALTER TABLE card_transaction_unpartitioned RENAME CONSTRAINT card_transaction_pkey TO card_transaction_unpartitioned_pkey;
+
+UPDATE card_transaction_unpartitioned
+SET transaction_timestamp = COALESCE(date_created, now())
+WHERE transaction_timestamp IS NULL;
+
+CREATE TABLE card_transaction (
+    LIKE card_transaction_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS,
+    PRIMARY KEY (card_transaction_id, transaction_timestamp),
+    FOREIGN KEY (card_id) REFERENCES card(card_id)
+) PARTITION BY RANGE (transaction_timestamp);
+
+ALTER TABLE card_transaction ALTER COLUMN transaction_timestamp SET DEFAULT now();
+
+CREATE TABLE card_transaction_default PARTITION OF card_transaction DEFAULT;
+
+DO $$
+DECLARE
+    month date := COALESCE((SELECT date_trunc('month', MIN(transaction_timestamp))::date
+                            FROM card_transaction_unpartitioned),
+                           date_trunc('month', now())::date);
+BEGIN
+    WHILE month <= (date_trunc('month', now()) + interval '3 months')::date LOOP
+        PERFORM card_ensure_monthly_partition('card_transaction', month);
+        month := (month + interval '1 month')::date;
+    END LOOP;
+END;
+$$;
+
+INSERT INTO card_transaction SELECT * FROM card_transaction_unpartitioned;
+
+DROP TABLE card_transaction_unpartitioned;
+
+-- Indexes are declared on the parent and created on every partition, existing and future. The
+-- keyset index also serves lookups by card_id alone, so no separate card_id index is needed.
+CREATE INDEX idx_card_transaction_card_id_timestamp_id
+    ON card_transaction(card_id, transaction_timestamp DESC, card_transaction_id DESC);
+CREATE INDEX idx_card_transaction_transaction_reference ON card_transaction(transaction_reference);
+CREATE INDEX idx_card_transaction_account_id ON card_transaction(account_id);
+CREATE INDEX idx_card_transaction_party_id ON card_transaction(party_id);
+CREATE INDEX idx_card_transaction_transaction_timestamp ON card_transaction(transaction_timestamp);
+CREATE INDEX idx_card_transaction_transaction_type ON card_transaction(transaction_type);
+CREATE INDEX idx_card_transaction_transaction_status ON card_transaction(transaction_status);
+CREATE INDEX idx_card_transaction_merchant_id ON card_transaction(merchant_id);
+CREATE INDEX idx_card_transaction_merchant_category_code ON card_transaction(merchant_category_code);
+
+-- card_activity
+
+ALTER TABLE card_activity RENAME TO card_activity_unpartitioned;
+ALTER TABLE card_activity_unpartitioned RENAME CONSTRAINT card_activity_pkey TO card_activity_unpartitioned_pkey;
+
+UPDATE card_activity_unpartitioned
+SET activity_timestamp = COALESCE(date_created, now())
+WHERE activity_timestamp IS NULL;
+
+CREATE TABLE card_activity (
+    LIKE card_activity_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS,
+    PRIMARY KEY (activity_id, activity_timestamp),
+    FOREIGN KEY (card_id) REFERENCES card(card_id)
+) PARTITION BY RANGE (activity_timestamp);
+
+ALTER TABLE card_activity ALTER COLUMN activity_timestamp SET DEFAULT now();
+
+CREATE TABLE card_activity_default PARTITION OF card_activity DEFAULT;
+
+DO $$
+DECLARE
+    month date := COALESCE((SELECT date_trunc('month', MIN(activity_timestamp))::date
+                            FROM card_activity_unpartitioned),
+                           date_trunc('month', now())::date);
+BEGIN
+    WHILE month <= (date_trunc('month', now()) + interval '3 months')::date LOOP
+        PERFORM card_ensure_monthly_partition('card_activity', month);
+        month := (month + interval '1 month')::date;
+    END LOOP;
+END;
+$$;
+
+INSERT INTO card_activity SELECT * FROM card_activity_unpartitioned;
+
+DROP TABLE card_activity_unpartitioned;
+
+CREATE INDEX idx_card_activity_card_id ON card_activity(card_id);
+CREATE INDEX idx_card_activity_party_id ON card_activity(party_id);
+CREATE INDEX idx_card_activity_account_id ON card_activity(account_id);
+CREATE INDEX idx_card_activity_activity_reference ON card_activity(activity_reference);
+CREATE INDEX idx_card_activity_activity_timestamp ON card_activity(activity_timestamp);
+CREATE INDEX idx_card_activity_activity_type ON card_activity(activity_type);
+CREATE INDEX idx_card_activity_activity_status ON card_activity(activity_status);
@@ -17,6 +17,7 @@
 
 package com.firefly.core.banking.cards.web;
 
+import com.firefly.core.banking.cards.models.repositories.StreamingR2dbcRepository;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Contact;
 import io.swagger.v3.oas.annotations.info.Info;
@@ -36,10 +37,11 @@ import org.springframework.web.reactive.config.EnableWebFlux;
 )
 @EnableWebFlux
 @EnableR2dbcRepositories(
-        basePackages = "com.firefly.core.banking.cards.models.repositories"
+        basePackages = "com.firefly.core.banking.cards.models.repositories",
+        repositoryBaseClass = StreamingR2dbcRepository.class
 )
 @EnableR2dbcAuditing
-@ConfigurationPropertiesScan
+@ConfigurationPropertiesScan("com.firefly.core.banking.cards")
 @OpenAPIDefinition(
         info = @Info(
                 title = "${spring.application.name}",
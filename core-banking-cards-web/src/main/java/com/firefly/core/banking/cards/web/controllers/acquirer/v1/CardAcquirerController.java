@@ -17,7 +17,7 @@
 
 package com.firefly.core.banking.cards.web.controllers.acquirer.v1;
 
-import org.fireflyframework.core.queries.PaginationRequest;
+import com.firefly.core.banking.cards.core.queries.CountingPaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.cards.core.services.acquirer.v1.CardAcquirerServiceImpl;
 import com.firefly.core.banking.cards.interfaces.dtos.acquirer.v1.CardAcquirerDTO;
@@ -62,7 +62,7 @@ public class CardAcquirerController {
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<PaginationResponse<CardAcquirerDTO>>> getAllAcquirers(
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute CountingPaginationRequest paginationRequest
     ) {
         return service.listAcquirers(paginationRequest)
                 .map(ResponseEntity::ok)
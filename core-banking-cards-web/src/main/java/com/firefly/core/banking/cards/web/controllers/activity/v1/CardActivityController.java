@@ -17,7 +17,7 @@
 
 package com.firefly.core.banking.cards.web.controllers.activity.v1;
 
-import org.fireflyframework.core.queries.PaginationRequest;
+import com.firefly.core.banking.cards.core.queries.CountingPaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.cards.core.services.activity.v1.CardActivityServiceImpl;
 import com.firefly.core.banking.cards.interfaces.dtos.activity.v1.CardActivityDTO;
@@ -61,7 +61,7 @@ public class CardActivityController {
             @PathVariable UUID cardId,
 
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute CountingPaginationRequest paginationRequest
     ) {
         return service.listActivities(cardId, paginationRequest)
                 .map(ResponseEntity::ok)
@@ -147,6 +147,35 @@ public class CardActivityController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @Operation(
+            summary = "Patch Card Activity",
+            description = "Partially update an existing activity record. Only the fields present and non-null " +
+                    "in the request body are written; all other fields keep their current values."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Activity record updated successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CardActivityDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Activity record not found",
+                    content = @Content)
+    })
+    @PatchMapping(value = "/{activityId}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CardActivityDTO>> patchActivity(
+            @Parameter(description = "Unique identifier of the card", required = true)
+            @PathVariable UUID cardId,
+
+            @Parameter(description = "Unique identifier of the activity record to patch", required = true)
+            @PathVariable UUID activityId,
+
+            @Parameter(description = "Fields to change; null or missing fields are left unchanged", required = true,
+                    schema = @Schema(implementation = CardActivityDTO.class))
+            @RequestBody CardActivityDTO activityDTO
+    ) {
+        return service.patchActivity(cardId, activityId, activityDTO)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
     @Operation(
             summary = "Delete Card Activity",
             description = "Delete an activity record by its unique identifier."
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.web.controllers.balance.v1;
+
+import com.firefly.core.banking.cards.core.services.balance.v1.CardBalanceServiceImpl;
+import com.firefly.core.banking.cards.interfaces.dtos.balance.v1.BalanceRebuildResultDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@Tag(name = "Card Balances", description = "APIs for managing balance records associated with a specific card")
+@RestController
+@RequestMapping("/api/v1/balances/rebuild")
+public class BalanceRebuildController {
+
+    @Autowired
+    private CardBalanceServiceImpl service;
+
+    @Operation(
+            summary = "Rebuild All Card Balances",
+            description = "Recompute the CURRENT balances of every card that has transactions.\n\n" +
+                    "Each card is rebuilt in its own transaction while its balances are locked, so transactions " +
+                    "can keep being created while the rebuild runs. Several cards are rebuilt concurrently."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Balances rebuilt successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BalanceRebuildResultDTO.class)))
+    })
+    @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<BalanceRebuildResultDTO>> rebuildAllBalances() {
+        return service.rebuildAllBalances()
+                .map(ResponseEntity::ok);
+    }
+}
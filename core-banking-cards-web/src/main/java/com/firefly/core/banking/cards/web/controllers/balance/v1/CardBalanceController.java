@@ -17,9 +17,10 @@
 
 package com.firefly.core.banking.cards.web.controllers.balance.v1;
 
-import org.fireflyframework.core.queries.PaginationRequest;
+import com.firefly.core.banking.cards.core.queries.CountingPaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.cards.core.services.balance.v1.CardBalanceServiceImpl;
+import com.firefly.core.banking.cards.interfaces.dtos.balance.v1.BalanceRebuildResultDTO;
 import com.firefly.core.banking.cards.interfaces.dtos.balance.v1.CardBalanceDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -62,7 +63,7 @@ public class CardBalanceController {
             @PathVariable UUID cardId,
 
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute CountingPaginationRequest paginationRequest
     ) {
         return service.listBalances(cardId, paginationRequest)
                 .map(ResponseEntity::ok)
@@ -148,6 +149,35 @@ public class CardBalanceController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @Operation(
+            summary = "Patch Card Balance",
+            description = "Partially update an existing balance record. Only the fields present and non-null " +
+                    "in the request body are written; all other fields keep their current values."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Balance record updated successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CardBalanceDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Balance record not found",
+                    content = @Content)
+    })
+    @PatchMapping(value = "/{balanceId}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CardBalanceDTO>> patchBalance(
+            @Parameter(description = "Unique identifier of the card", required = true)
+            @PathVariable UUID cardId,
+
+            @Parameter(description = "Unique identifier of the balance record to patch", required = true)
+            @PathVariable UUID balanceId,
+
+            @Parameter(description = "Fields to change; null or missing fields are left unchanged", required = true,
+                    schema = @Schema(implementation = CardBalanceDTO.class))
+            @RequestBody CardBalanceDTO balanceDTO
+    ) {
+        return service.patchBalance(cardId, balanceId, balanceDTO)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
     @Operation(
             summary = "Delete Card Balance",
             description = "Delete a balance record by its unique identifier."
@@ -170,4 +200,24 @@ public class CardBalanceController {
                 .then(Mono.just(ResponseEntity.noContent().<Void>build()))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
+
+    @Operation(
+            summary = "Rebuild Card Balances",
+            description = "Recompute the CURRENT balances of the specified card from its transaction history.\n\n" +
+                    "CURRENT balances are normally kept up to date as transactions are created. A rebuild " +
+                    "reconciles them after transactions have been updated or deleted."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Balances rebuilt successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BalanceRebuildResultDTO.class)))
+    })
+    @PostMapping(value = "/rebuild", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<BalanceRebuildResultDTO>> rebuildBalances(
+            @Parameter(description = "Unique identifier of the card", required = true)
+            @PathVariable UUID cardId
+    ) {
+        return service.rebuildBalances(cardId)
+                .map(ResponseEntity::ok);
+    }
 }
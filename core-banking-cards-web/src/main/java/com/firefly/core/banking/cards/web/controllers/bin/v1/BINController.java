@@ -17,10 +17,11 @@
 
 package com.firefly.core.banking.cards.web.controllers.bin.v1;
 
-import org.fireflyframework.core.queries.PaginationRequest;
+import com.firefly.core.banking.cards.core.queries.CountingPaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.cards.core.services.bin.v1.BINServiceImpl;
 import com.firefly.core.banking.cards.interfaces.dtos.bin.v1.BINDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.bin.v1.PanResolutionRequestDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -77,7 +78,7 @@ public class BINController {
     })
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<PaginationResponse<BINDTO>>> getAllBINs(
-            @RequestBody PaginationRequest paginationRequest
+            @RequestBody CountingPaginationRequest paginationRequest
     ) {
         return service.listBINs(paginationRequest)
                 .map(ResponseEntity::ok)
@@ -197,6 +198,45 @@ public class BINController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @Operation(
+            summary = "Resolve BIN for a Card Number",
+            description = "Resolve a full card number (PAN) to the Bank Identification Number (BIN) it belongs to.\n\n" +
+                    "## Description\n" +
+                    "The lookup performs a longest-prefix match of the card number against the active BINs, so a " +
+                    "card is attributed to its most specific 8, 7 or 6 digit BIN. It is served from an in-memory " +
+                    "index of the BIN table rather than the database, which makes it suitable for latency sensitive " +
+                    "authorization flows.\n\n" +
+                    "## Request Body\n" +
+                    "* `pan` - The card number; spaces and dashes are ignored. It is sent in the body so that it " +
+                    "does not appear in URLs or access logs\n\n" +
+                    "## Response Details\n" +
+                    "The response contains the matching BIN record, including the issuer, card network and card type " +
+                    "identifiers.\n\n" +
+                    "## Common Use Cases\n" +
+                    "* Routing an authorization to the right issuer and network\n" +
+                    "* Determining the card type of a card presented at checkout\n" +
+                    "* Enriching transactions and fraud signals with issuer information"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully resolved the BIN",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BINDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid card number provided",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "No active BIN matches the card number",
+                    content = @Content)
+    })
+    @PostMapping(value = "/resolve", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<BINDTO>> resolvePan(
+            @Parameter(description = "Card number to resolve", required = true,
+                    schema = @Schema(implementation = PanResolutionRequestDTO.class))
+            @Valid @RequestBody PanResolutionRequestDTO request
+    ) {
+        return service.resolvePan(request.getPan())
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
     @Operation(
             summary = "Update BIN",
             description = "Update an existing Bank Identification Number (BIN) record by its unique identifier.\n\n" +
@@ -46,7 +46,8 @@ public class CardController {
 
     @Operation(
             summary = "Filter Cards",
-            description = "Retrieve a paginated list of all bank cards based on filter criteria."
+            description = "Retrieve a paginated list of all bank cards based on filter criteria. The filter must " +
+                    "constrain at least one indexed column; filters that would scan the table are rejected with 400."
     )
     @PostMapping(value = "/filter", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<PaginationResponse<CardDTO>>> filterCards(
@@ -54,7 +55,8 @@ public class CardController {
     ) {
         return service.filterCards(filterRequest)
                 .map(ResponseEntity::ok)
-                .defaultIfEmpty(ResponseEntity.notFound().build());
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
     }
 
     @Operation(
@@ -191,6 +193,32 @@ public class CardController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @Operation(
+            summary = "Patch Card",
+            description = "Partially update an existing card. Only the fields present and non-null " +
+                    "in the request body are written; all other fields keep their current values."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Card updated successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CardDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Card not found",
+                    content = @Content)
+    })
+    @PatchMapping(value = "/{cardId}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CardDTO>> patchCard(
+            @Parameter(description = "Unique identifier of the card to patch", required = true)
+            @PathVariable UUID cardId,
+
+            @Parameter(description = "Fields to change; null or missing fields are left unchanged", required = true,
+                    schema = @Schema(implementation = CardDTO.class))
+            @RequestBody CardDTO cardDTO
+    ) {
+        return service.patchCard(cardId, cardDTO)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
     @Operation(
             summary = "Delete Card",
             description = "Remove an existing card record by its unique identifier.\n\n" +
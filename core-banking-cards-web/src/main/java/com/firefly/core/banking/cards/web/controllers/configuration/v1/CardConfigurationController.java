@@ -17,7 +17,7 @@
 
 package com.firefly.core.banking.cards.web.controllers;
 
-import org.fireflyframework.core.queries.PaginationRequest;
+import com.firefly.core.banking.cards.core.queries.CountingPaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.cards.core.services.configuration.v1.CardConfigurationServiceImpl;
 import com.firefly.core.banking.cards.interfaces.dtos.configuration.v1.CardConfigurationDTO;
@@ -61,7 +61,7 @@ public class CardConfigurationController {
             @PathVariable UUID cardId,
 
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute CountingPaginationRequest paginationRequest
     ) {
         return service.listConfigurations(cardId, paginationRequest)
                 .map(ResponseEntity::ok)
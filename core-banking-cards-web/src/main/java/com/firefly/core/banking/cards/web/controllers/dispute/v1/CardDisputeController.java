@@ -17,7 +17,7 @@
 
 package com.firefly.core.banking.cards.web.controllers.dispute.v1;
 
-import org.fireflyframework.core.queries.PaginationRequest;
+import com.firefly.core.banking.cards.core.queries.CountingPaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.cards.core.services.dispute.v1.CardDisputeServiceImpl;
 import com.firefly.core.banking.cards.interfaces.dtos.dispute.v1.CardDisputeDTO;
@@ -61,7 +61,7 @@ public class CardDisputeController {
             @PathVariable UUID cardId,
 
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute CountingPaginationRequest paginationRequest
     ) {
         return service.listDisputes(cardId, paginationRequest)
                 .map(ResponseEntity::ok)
@@ -17,7 +17,7 @@
 
 package com.firefly.core.banking.cards.web.controllers.enrollment.v1;
 
-import org.fireflyframework.core.queries.PaginationRequest;
+import com.firefly.core.banking.cards.core.queries.CountingPaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.cards.core.services.enrollment.v1.CardEnrollmentServiceImpl;
 import com.firefly.core.banking.cards.interfaces.dtos.enrollment.v1.CardEnrollmentDTO;
@@ -61,7 +61,7 @@ public class CardEnrollmentController {
             @PathVariable UUID cardId,
 
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute CountingPaginationRequest paginationRequest
     ) {
         return service.listEnrollments(cardId, paginationRequest)
                 .map(ResponseEntity::ok)
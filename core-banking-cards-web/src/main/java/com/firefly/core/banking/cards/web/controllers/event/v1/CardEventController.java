@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.web.controllers.event.v1;
+
+import com.firefly.core.banking.cards.core.services.event.v1.CardEventServiceImpl;
+import com.firefly.core.banking.cards.interfaces.dtos.event.v1.CardEventDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.UUID;
+@Tag(name = "Card Events", description = "APIs for following the changes made to a specific card")
+@RestController
+@RequestMapping("/api/v1/cards/{cardId}/events")
+public class CardEventController {
+
+    /**
+     * Comments sent while a card is quiet, so proxies do not close the connection as idle.
+     */
+    static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+
+    @Autowired
+    private CardEventServiceImpl service;
+
+    @Operation(
+            summary = "Stream Card Events",
+            description = "Push the changes made to the card, its limits, transactions and disputes as Server-Sent Events.\n\n" +
+                    "Each event carries its publish sequence as id and its type as event name. A client reconnecting " +
+                    "with the Last-Event-ID header first receives the events it missed, then the live ones, so it " +
+                    "does not need to poll the list endpoints. Events may be delivered more than once."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened successfully",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = CardEventDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid Last-Event-ID header",
+                    content = @Content)
+    })
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<CardEventDTO>> streamEvents(
+            @Parameter(description = "Unique identifier of the card", required = true)
+            @PathVariable UUID cardId,
+
+            @Parameter(description = "Publish sequence of the last event received, to resume a stream")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId
+    ) {
+        Flux<ServerSentEvent<CardEventDTO>> events = service.streamEvents(cardId, lastEventId)
+                .map(event -> ServerSentEvent.builder(event)
+                        .id(String.valueOf(event.getPublishSequence()))
+                        .event(event.getEventType().name())
+                        .build());
+        Flux<ServerSentEvent<CardEventDTO>> heartbeats = Flux.interval(HEARTBEAT_INTERVAL)
+                .map(tick -> ServerSentEvent.<CardEventDTO>builder().comment("heartbeat").build());
+        return Flux.merge(events, heartbeats);
+    }
+}
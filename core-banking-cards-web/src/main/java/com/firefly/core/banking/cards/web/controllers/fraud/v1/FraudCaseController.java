@@ -0,0 +1,248 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.web.controllers.fraud.v1;
+
+import com.firefly.core.banking.cards.core.services.fraud.v1.FraudCaseServiceImpl;
+import com.firefly.core.banking.cards.interfaces.dtos.CursorPageResponse;
+import com.firefly.core.banking.cards.interfaces.dtos.fraud.v1.FraudCaseDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.fraud.v1.FraudCaseQueueSummaryDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+@Tag(name = "Fraud Cases", description = "APIs for triaging fraud cases through status and agent queues")
+@RestController
+@RequestMapping("/api/v1/fraud-cases")
+public class FraudCaseController {
+
+    @Autowired
+    private FraudCaseServiceImpl service;
+
+    @Operation(
+            summary = "Create Fraud Case",
+            description = "Open a new fraud case. The status defaults to OPEN, the score to 0 and the detection " +
+                    "timestamp to now when they are not provided."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Fraud case created successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = FraudCaseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid fraud case data provided",
+                    content = @Content)
+    })
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<FraudCaseDTO>> createCase(
+            @Parameter(description = "Data for the new fraud case", required = true,
+                    schema = @Schema(implementation = FraudCaseDTO.class))
+            @RequestBody FraudCaseDTO fraudCaseDTO
+    ) {
+        return service.createCase(fraudCaseDTO)
+                .map(createdCase -> ResponseEntity.status(201).body(createdCase))
+                .defaultIfEmpty(ResponseEntity.badRequest().build());
+    }
+
+    @Operation(
+            summary = "Get Fraud Case",
+            description = "Retrieve a specific fraud case by its unique identifier."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the fraud case",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = FraudCaseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Fraud case not found",
+                    content = @Content)
+    })
+    @GetMapping(value = "/{fraudCaseId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<FraudCaseDTO>> getCase(
+            @Parameter(description = "Unique identifier of the fraud case", required = true)
+            @PathVariable UUID fraudCaseId
+    ) {
+        return service.getCase(fraudCaseId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @Operation(
+            summary = "Update Fraud Case",
+            description = "Replace an existing fraud case. The score and the detection timestamp are required."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fraud case updated successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = FraudCaseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Fraud case not found",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Invalid fraud case data provided",
+                    content = @Content)
+    })
+    @PutMapping(value = "/{fraudCaseId}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<FraudCaseDTO>> updateCase(
+            @Parameter(description = "Unique identifier of the fraud case to update", required = true)
+            @PathVariable UUID fraudCaseId,
+
+            @Parameter(description = "Updated data for the fraud case", required = true,
+                    schema = @Schema(implementation = FraudCaseDTO.class))
+            @RequestBody FraudCaseDTO fraudCaseDTO
+    ) {
+        return service.updateCase(fraudCaseId, fraudCaseDTO)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(
+            summary = "Patch Fraud Case",
+            description = "Partially update an existing fraud case, for instance to assign it to an agent or move " +
+                    "it to another status. Only the fields present and non-null in the request body are written; " +
+                    "all other fields keep their current values."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fraud case updated successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = FraudCaseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Fraud case not found",
+                    content = @Content)
+    })
+    @PatchMapping(value = "/{fraudCaseId}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<FraudCaseDTO>> patchCase(
+            @Parameter(description = "Unique identifier of the fraud case to patch", required = true)
+            @PathVariable UUID fraudCaseId,
+
+            @Parameter(description = "Fields to change; null or missing fields are left unchanged", required = true,
+                    schema = @Schema(implementation = FraudCaseDTO.class))
+            @RequestBody FraudCaseDTO fraudCaseDTO
+    ) {
+        return service.patchCase(fraudCaseId, fraudCaseDTO)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @Operation(
+            summary = "Delete Fraud Case",
+            description = "Delete a fraud case by its unique identifier."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Fraud case deleted successfully",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "Fraud case not found",
+                    content = @Content)
+    })
+    @DeleteMapping(value = "/{fraudCaseId}")
+    public Mono<ResponseEntity<Void>> deleteCase(
+            @Parameter(description = "Unique identifier of the fraud case to delete", required = true)
+            @PathVariable UUID fraudCaseId
+    ) {
+        return service.deleteCase(fraudCaseId)
+                .then(Mono.just(ResponseEntity.noContent().<Void>build()))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @Operation(
+            summary = "Scroll Status Queue",
+            description = "Retrieve the fraud cases of a status, highest score first and oldest first within a " +
+                    "score, using cursor (keyset) pagination.\n\n" +
+                    "Omit the cursor to get the first page, then pass the returned nextCursor to fetch the following " +
+                    "one until hasNext is false."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the page of fraud cases",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size",
+                    content = @Content)
+    })
+    @GetMapping(value = "/queues/{fraudStatus}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CursorPageResponse<FraudCaseDTO>>> scrollStatusQueue(
+            @Parameter(description = "Status of the queue, for example OPEN", required = true)
+            @PathVariable String fraudStatus,
+
+            @Parameter(description = "Opaque cursor returned by the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Maximum number of fraud cases to return (1-200)")
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return service.scrollStatusQueue(fraudStatus, cursor, size)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(
+            summary = "Scroll Agent Queue",
+            description = "Retrieve the fraud cases of a status assigned to an agent, in the same order and with the " +
+                    "same cursor pagination as the status queues."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the page of fraud cases",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size",
+                    content = @Content)
+    })
+    @GetMapping(value = "/agents/{assignedAgentId}/queues/{fraudStatus}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CursorPageResponse<FraudCaseDTO>>> scrollAgentQueue(
+            @Parameter(description = "Unique identifier of the agent", required = true)
+            @PathVariable UUID assignedAgentId,
+
+            @Parameter(description = "Status of the queue, for example OPEN", required = true)
+            @PathVariable String fraudStatus,
+
+            @Parameter(description = "Opaque cursor returned by the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Maximum number of fraud cases to return (1-200)")
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return service.scrollAgentQueue(assignedAgentId, fraudStatus, cursor, size)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(
+            summary = "Get Queue Summary",
+            description = "Retrieve the number of cases, high-risk cases and critical cases and the average score of " +
+                    "every non-empty queue, per status and assigned agent. The figures are maintained as cases " +
+                    "change, so this endpoint does not scan the fraud cases."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the queue summary",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = FraudCaseQueueSummaryDTO.class))))
+    })
+    @GetMapping(value = "/summary", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<FraudCaseQueueSummaryDTO>>> getQueueSummary(
+            @Parameter(description = "Only return the queues of this agent")
+            @RequestParam(required = false) UUID assignedAgentId
+    ) {
+        return service.getQueueSummary(assignedAgentId)
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+}
@@ -17,7 +17,7 @@
 
 package com.firefly.core.banking.cards.web.controllers.gateway.v1;
 
-import org.fireflyframework.core.queries.PaginationRequest;
+import com.firefly.core.banking.cards.core.queries.CountingPaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.cards.core.services.gateway.v1.CardGatewayServiceImpl;
 import com.firefly.core.banking.cards.interfaces.dtos.gateway.v1.CardGatewayDTO;
@@ -61,7 +61,7 @@ public class CardGatewayController {
     })
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<PaginationResponse<CardGatewayDTO>>> getAllGateways(
-            @RequestBody PaginationRequest paginationRequest
+            @RequestBody CountingPaginationRequest paginationRequest
     ) {
         return service.listGateways(paginationRequest)
                 .map(ResponseEntity::ok)
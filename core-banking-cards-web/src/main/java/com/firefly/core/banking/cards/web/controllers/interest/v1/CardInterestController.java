@@ -17,7 +17,7 @@
 
 package com.firefly.core.banking.cards.web.controllers.interest.v1;
 
-import org.fireflyframework.core.queries.PaginationRequest;
+import com.firefly.core.banking.cards.core.queries.CountingPaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.cards.core.services.interest.v1.CardInterestServiceImpl;
 import com.firefly.core.banking.cards.interfaces.dtos.interest.v1.CardInterestDTO;
@@ -61,7 +61,7 @@ public class CardInterestController {
             @PathVariable UUID cardId,
 
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute CountingPaginationRequest paginationRequest
     ) {
         return service.listInterests(cardId, paginationRequest)
                 .map(ResponseEntity::ok)
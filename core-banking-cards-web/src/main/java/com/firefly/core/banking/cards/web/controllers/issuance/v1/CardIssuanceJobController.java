@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.web.controllers.issuance.v1;
+
+import com.firefly.core.banking.cards.core.services.issuance.v1.CardIssuanceServiceImpl;
+import com.firefly.core.banking.cards.interfaces.dtos.issuance.v1.CardIssuanceJobDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+@Tag(name = "Card Issuance Jobs", description = "APIs for issuing the cards of a program in bulk")
+@RestController
+@RequestMapping("/api/v1/card-issuance-jobs")
+public class CardIssuanceJobController {
+
+    @Autowired
+    private CardIssuanceServiceImpl service;
+
+    @Operation(
+            summary = "Create Card Issuance Job",
+            description = "Create a job that issues the requested number of cards of a program in the background, " +
+                    "with card numbers from the program's BIN and the program's default limits and security " +
+                    "features. The response is returned as soon as the job has started; poll the job for progress."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Card issuance job accepted and started",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CardIssuanceJobDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid job data, or the program cannot issue cards",
+                    content = @Content)
+    })
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CardIssuanceJobDTO>> createJob(
+            @Parameter(description = "Program, owner and number of the cards to issue", required = true,
+                    schema = @Schema(implementation = CardIssuanceJobDTO.class))
+            @Valid @RequestBody CardIssuanceJobDTO jobDTO
+    ) {
+        return service.createJob(jobDTO)
+                .map(job -> ResponseEntity.accepted().body(job))
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(
+            summary = "Get Card Issuance Job",
+            description = "Retrieve a card issuance job, including its status and how many of its cards have been " +
+                    "issued so far."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the card issuance job",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CardIssuanceJobDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Card issuance job not found",
+                    content = @Content)
+    })
+    @GetMapping(value = "/{issuanceJobId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CardIssuanceJobDTO>> getJob(
+            @Parameter(description = "Unique identifier of the card issuance job", required = true)
+            @PathVariable UUID issuanceJobId
+    ) {
+        return service.getJob(issuanceJobId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @Operation(
+            summary = "Resume Card Issuance Job",
+            description = "Resume a failed job, or a running job that has made no progress for a while, from the " +
+                    "cards it already issued. Cards are never issued twice."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Card issuance job resumed",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CardIssuanceJobDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Card issuance job not found",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Card issuance job is complete or still running",
+                    content = @Content)
+    })
+    @PostMapping(value = "/{issuanceJobId}/resume", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CardIssuanceJobDTO>> resumeJob(
+            @Parameter(description = "Unique identifier of the card issuance job to resume", required = true)
+            @PathVariable UUID issuanceJobId
+    ) {
+        return service.resumeJob(issuanceJobId)
+                .map(job -> ResponseEntity.accepted().body(job))
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+}
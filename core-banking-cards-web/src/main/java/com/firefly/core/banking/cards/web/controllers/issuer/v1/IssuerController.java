@@ -17,7 +17,7 @@
 
 package com.firefly.core.banking.cards.web.controllers.issuer.v1;
 
-import org.fireflyframework.core.queries.PaginationRequest;
+import com.firefly.core.banking.cards.core.queries.CountingPaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.cards.core.services.issuer.v1.IssuerServiceImpl;
 import com.firefly.core.banking.cards.interfaces.dtos.issuer.v1.IssuerDTO;
@@ -61,7 +61,7 @@ public class IssuerController {
     })
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<PaginationResponse<IssuerDTO>>> getAllIssuers(
-            @RequestBody PaginationRequest paginationRequest
+            @RequestBody CountingPaginationRequest paginationRequest
     ) {
         return service.listIssuers(paginationRequest)
                 .map(ResponseEntity::ok)
@@ -17,10 +17,12 @@
 
 package com.firefly.core.banking.cards.web.controllers.limit.v1;
 
-import org.fireflyframework.core.queries.PaginationRequest;
+import com.firefly.core.banking.cards.core.queries.CountingPaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.cards.core.services.limit.v1.CardLimitServiceImpl;
 import com.firefly.core.banking.cards.interfaces.dtos.limit.v1.CardLimitDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.limit.v1.LimitConsumptionRequestDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.limit.v1.LimitConsumptionResultDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -28,8 +30,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -61,7 +65,7 @@ public class CardLimitController {
             @PathVariable UUID cardId,
 
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute CountingPaginationRequest paginationRequest
     ) {
         return service.listLimits(cardId, paginationRequest)
                 .map(ResponseEntity::ok)
@@ -166,4 +170,36 @@ public class CardLimitController {
         return service.deleteLimit(cardId, limitId)
                 .then(Mono.just(ResponseEntity.noContent().build()));
     }
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "Consume Card Limits",
+            description = "Atomically check a spend against every applicable limit of the specified card and, " +
+                    "if none would be exceeded, add it to their usage. Daily and monthly spending limits always apply, " +
+                    "together with limits of the given type whose merchant category and channel scope match the spend. " +
+                    "A rejected spend consumes nothing and reports the limit that rejected it."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Spend approved and consumed from the applicable limits",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = LimitConsumptionResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid spend data provided",
+                    content = @Content),
+            @ApiResponse(responseCode = "422", description = "Spend rejected because it would exceed a limit",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = LimitConsumptionResultDTO.class)))
+    })
+    @PostMapping(value = "/consume", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<LimitConsumptionResultDTO>> consumeLimit(
+            @Parameter(description = "Unique identifier of the card", required = true)
+            @PathVariable UUID cardId,
+
+            @Parameter(description = "Spend to consume from the card limits", required = true,
+                    schema = @Schema(implementation = LimitConsumptionRequestDTO.class))
+            @Valid @RequestBody LimitConsumptionRequestDTO request
+    ) {
+        return service.consumeLimit(cardId, request)
+                .map(result -> ResponseEntity
+                        .status(result.isApproved() ? HttpStatus.OK : HttpStatus.UNPROCESSABLE_ENTITY)
+                        .body(result));
+    }
+}
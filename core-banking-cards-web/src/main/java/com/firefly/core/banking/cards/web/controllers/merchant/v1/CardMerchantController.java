@@ -17,7 +17,7 @@
 
 package com.firefly.core.banking.cards.web.controllers.merchant.v1;
 
-import org.fireflyframework.core.queries.PaginationRequest;
+import com.firefly.core.banking.cards.core.queries.CountingPaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.cards.core.services.merchant.v1.CardMerchantServiceImpl;
 import com.firefly.core.banking.cards.interfaces.dtos.merchant.v1.CardMerchantDTO;
@@ -79,7 +79,7 @@ public class CardMerchantController {
     })
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<PaginationResponse<CardMerchantDTO>>> getAllMerchants(
-            @RequestBody PaginationRequest paginationRequest
+            @RequestBody CountingPaginationRequest paginationRequest
     ) {
         return service.listMerchants(paginationRequest)
                 .map(ResponseEntity::ok)
@@ -17,7 +17,7 @@
 
 package com.firefly.core.banking.cards.web.controllers.network.v1;
 
-import org.fireflyframework.core.queries.PaginationRequest;
+import com.firefly.core.banking.cards.core.queries.CountingPaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.cards.core.services.network.v1.CardNetworkServiceImpl;
 import com.firefly.core.banking.cards.interfaces.dtos.network.v1.CardNetworkDTO;
@@ -61,7 +61,7 @@ public class CardNetworkController {
     })
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<PaginationResponse<CardNetworkDTO>>> getAllNetworks(
-            @RequestBody PaginationRequest paginationRequest
+            @RequestBody CountingPaginationRequest paginationRequest
     ) {
         return service.listNetworks(paginationRequest)
                 .map(ResponseEntity::ok)
@@ -17,7 +17,7 @@
 
 package com.firefly.core.banking.cards.web.controllers.payment.v1;
 
-import org.fireflyframework.core.queries.PaginationRequest;
+import com.firefly.core.banking.cards.core.queries.CountingPaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.cards.core.services.payment.v1.CardPaymentServiceImpl;
 import com.firefly.core.banking.cards.interfaces.dtos.payment.v1.CardPaymentDTO;
@@ -63,7 +63,7 @@ public class CardPaymentController {
     public Mono<ResponseEntity<PaginationResponse<CardPaymentDTO>>> getAllPayments(
             @Parameter(description = "Unique identifier of the card", required = true)
             @PathVariable UUID cardId,
-            @RequestBody PaginationRequest paginationRequest
+            @RequestBody CountingPaginationRequest paginationRequest
     ) {
         return service.listPayments(cardId, paginationRequest)
                 .map(ResponseEntity::ok)
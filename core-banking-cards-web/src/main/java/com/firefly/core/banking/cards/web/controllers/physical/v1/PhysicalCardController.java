@@ -17,7 +17,7 @@
 
 package com.firefly.core.banking.cards.web.controllers.physical.v1;
 
-import org.fireflyframework.core.queries.PaginationRequest;
+import com.firefly.core.banking.cards.core.queries.CountingPaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.cards.core.services.physical.v1.PhysicalCardServiceImpl;
 import com.firefly.core.banking.cards.interfaces.dtos.physical.v1.PhysicalCardDTO;
@@ -61,7 +61,7 @@ public class PhysicalCardController {
             @PathVariable UUID cardId,
 
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute CountingPaginationRequest paginationRequest
     ) {
         return service.listPhysicalCards(cardId, paginationRequest)
                 .map(ResponseEntity::ok)
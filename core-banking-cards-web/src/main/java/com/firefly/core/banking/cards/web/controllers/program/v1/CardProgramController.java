@@ -17,7 +17,7 @@
 
 package com.firefly.core.banking.cards.web.controllers.program.v1;
 
-import org.fireflyframework.core.queries.PaginationRequest;
+import com.firefly.core.banking.cards.core.queries.CountingPaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.cards.core.services.program.v1.CardProgramServiceImpl;
 import com.firefly.core.banking.cards.interfaces.dtos.program.v1.CardProgramDTO;
@@ -78,7 +78,7 @@ public class CardProgramController {
     })
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<PaginationResponse<CardProgramDTO>>> getAllPrograms(
-            @RequestBody PaginationRequest paginationRequest
+            @RequestBody CountingPaginationRequest paginationRequest
     ) {
         return service.listPrograms(paginationRequest)
                 .map(ResponseEntity::ok)
@@ -17,7 +17,7 @@
 
 package com.firefly.core.banking.cards.web.controllers.promotion.v1;
 
-import org.fireflyframework.core.queries.PaginationRequest;
+import com.firefly.core.banking.cards.core.queries.CountingPaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.cards.core.services.promotion.v1.CardPromotionServiceImpl;
 import com.firefly.core.banking.cards.interfaces.dtos.promotion.v1.CardPromotionDTO;
@@ -61,7 +61,7 @@ public class CardPromotionController {
             @PathVariable UUID cardId,
 
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute CountingPaginationRequest paginationRequest
     ) {
         return service.listPromotions(cardId, paginationRequest)
                 .map(ResponseEntity::ok)
@@ -17,7 +17,7 @@
 
 package com.firefly.core.banking.cards.web.controllers.provider.v1;
 
-import org.fireflyframework.core.queries.PaginationRequest;
+import com.firefly.core.banking.cards.core.queries.CountingPaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.cards.core.services.provider.v1.CardProviderServiceImpl;
 import com.firefly.core.banking.cards.interfaces.dtos.provider.v1.CardProviderDTO;
@@ -61,7 +61,7 @@ public class CardProviderController {
             @PathVariable UUID cardId,
 
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute CountingPaginationRequest paginationRequest
     ) {
         return service.listProviders(cardId, paginationRequest)
                 .map(ResponseEntity::ok)
@@ -17,7 +17,7 @@
 
 package com.firefly.core.banking.cards.web.controllers.security.v1;
 
-import org.fireflyframework.core.queries.PaginationRequest;
+import com.firefly.core.banking.cards.core.queries.CountingPaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.cards.core.services.security.v1.CardSecurityServiceImpl;
 import com.firefly.core.banking.cards.interfaces.dtos.security.v1.CardSecurityDTO;
@@ -61,7 +61,7 @@ public class CardSecurityController {
             @PathVariable UUID cardId,
 
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute CountingPaginationRequest paginationRequest
     ) {
         return service.listSecuritySettings(cardId, paginationRequest)
                 .map(ResponseEntity::ok)
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.web.controllers.statement.v1;
+
+import com.firefly.core.banking.cards.core.services.statement.v1.CardStatementRunServiceImpl;
+import com.firefly.core.banking.cards.interfaces.dtos.statement.v1.CardStatementRunDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+@Tag(name = "Card Statement Runs", description = "APIs for generating the statements of a billing period")
+@RestController
+@RequestMapping("/api/v1/card-statement-runs")
+public class CardStatementRunController {
+
+    @Autowired
+    private CardStatementRunServiceImpl service;
+
+    @Operation(
+            summary = "Create Card Statement Run",
+            description = "Create a run that generates, in the background, the statement of every active or blocked " +
+                    "card for the given period from its transactions, fees, interest and payments. Cards that " +
+                    "already have a statement for the period are skipped. The response is returned as soon as " +
+                    "the run has started; poll the run for progress."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Card statement run accepted and started",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CardStatementRunDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid statement period or dates",
+                    content = @Content)
+    })
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CardStatementRunDTO>> createRun(
+            @Parameter(description = "Statement period and dates of the run", required = true,
+                    schema = @Schema(implementation = CardStatementRunDTO.class))
+            @Valid @RequestBody CardStatementRunDTO runDTO
+    ) {
+        return service.createRun(runDTO)
+                .map(run -> ResponseEntity.accepted().body(run))
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(
+            summary = "Get Card Statement Run",
+            description = "Retrieve a card statement run, including its status and how many of its shards and " +
+                    "statements have been completed so far."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the card statement run",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CardStatementRunDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Card statement run not found",
+                    content = @Content)
+    })
+    @GetMapping(value = "/{runId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CardStatementRunDTO>> getRun(
+            @Parameter(description = "Unique identifier of the card statement run", required = true)
+            @PathVariable UUID runId
+    ) {
+        return service.getRun(runId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @Operation(
+            summary = "Resume Card Statement Run",
+            description = "Resume a failed run, or a running run that has made no progress for a while. Failed " +
+                    "shards are retried and completed shards are kept, so no statement is generated twice."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Card statement run resumed",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CardStatementRunDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Card statement run not found",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Card statement run is complete or still running",
+                    content = @Content)
+    })
+    @PostMapping(value = "/{runId}/resume", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CardStatementRunDTO>> resumeRun(
+            @Parameter(description = "Unique identifier of the card statement run to resume", required = true)
+            @PathVariable UUID runId
+    ) {
+        return service.resumeRun(runId)
+                .map(run -> ResponseEntity.accepted().body(run))
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+}
@@ -17,7 +17,7 @@
 
 package com.firefly.core.banking.cards.web.controllers.terminal.v1;
 
-import org.fireflyframework.core.queries.PaginationRequest;
+import com.firefly.core.banking.cards.core.queries.CountingPaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.cards.core.services.terminal.v1.CardTerminalServiceImpl;
 import com.firefly.core.banking.cards.interfaces.dtos.terminal.v1.CardTerminalDTO;
@@ -61,7 +61,7 @@ public class CardTerminalController {
     })
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<PaginationResponse<CardTerminalDTO>>> getAllTerminals(
-            @RequestBody PaginationRequest paginationRequest
+            @RequestBody CountingPaginationRequest paginationRequest
     ) {
         return service.listTerminals(paginationRequest)
                 .map(ResponseEntity::ok)
@@ -152,6 +152,32 @@ public class CardTerminalController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @Operation(
+            summary = "Patch Card Terminal",
+            description = "Partially update an existing card terminal. Only the fields present and non-null " +
+                    "in the request body are written; all other fields keep their current values."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Card terminal updated successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CardTerminalDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Card terminal not found",
+                    content = @Content)
+    })
+    @PatchMapping(value = "/{terminalId}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CardTerminalDTO>> patchTerminal(
+            @Parameter(description = "Unique identifier of the card terminal to patch", required = true)
+            @PathVariable UUID terminalId,
+
+            @Parameter(description = "Fields to change; null or missing fields are left unchanged", required = true,
+                    schema = @Schema(implementation = CardTerminalDTO.class))
+            @RequestBody CardTerminalDTO terminalDTO
+    ) {
+        return service.patchTerminal(terminalId, terminalDTO)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
     @Operation(
             summary = "Delete Card Terminal",
             description = "Delete a card terminal record by its unique identifier.\n\n" +
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.banking.cards.web.controllers.transaction.v1;
+
+import com.firefly.core.banking.cards.core.services.transaction.v1.CardTransactionServiceImpl;
+import com.firefly.core.banking.cards.interfaces.dtos.batch.v1.BatchResultDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.transaction.v1.CardTransactionDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Tag(name = "Card Transactions", description = "APIs for managing transaction records associated with a specific card")
+@RestController
+@RequestMapping("/api/v1/transactions/batch")
+public class CardTransactionBatchController {
+
+    @Autowired
+    private CardTransactionServiceImpl service;
+
+    @Operation(
+            summary = "Batch Create Card Transactions",
+            description = "Ingest a stream of transactions, possibly spanning many cards, in a single request.\n\n" +
+                    "The body can be a JSON array or newline-delimited JSON (application/x-ndjson). Items are " +
+                    "validated individually and written in chunks using multi-row inserts, so the request does not " +
+                    "pay one database round trip per transaction.\n\n" +
+                    "The response reports the outcome of every item by its position in the stream, together with " +
+                    "throughput counters. Invalid items are reported as FAILED without affecting the rest of the batch."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed; see the per-item outcomes",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BatchResultDTO.class)))
+    })
+    @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<BatchResultDTO>> createTransactions(
+            @Parameter(description = "Transactions to create; each must carry its card ID", required = true,
+                    array = @ArraySchema(schema = @Schema(implementation = CardTransactionDTO.class)))
+            @RequestBody Flux<CardTransactionDTO> transactions
+    ) {
+        return service.createTransactions(transactions)
+                .map(ResponseEntity::ok);
+    }
+}
@@ -18,9 +18,10 @@
 package com.firefly.core.banking.cards.web.controllers.transaction.v1;
 
 import org.fireflyframework.core.filters.FilterRequest;
-import org.fireflyframework.core.queries.PaginationRequest;
+import com.firefly.core.banking.cards.core.queries.CountingPaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.cards.core.services.transaction.v1.CardTransactionServiceImpl;
+import com.firefly.core.banking.cards.interfaces.dtos.CursorPageResponse;
 import com.firefly.core.banking.cards.interfaces.dtos.transaction.v1.CardTransactionDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -64,13 +65,44 @@ public class CardTransactionController {
     public Mono<ResponseEntity<PaginationResponse<CardTransactionDTO>>> getAllTransactions(
             @Parameter(description = "Unique identifier of the card", required = true)
             @PathVariable UUID cardId,
-            @RequestBody PaginationRequest paginationRequest
+            @RequestBody CountingPaginationRequest paginationRequest
     ) {
         return service.listTransactions(cardId, paginationRequest)
                 .map(ResponseEntity::ok)
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @Operation(
+            summary = "Scroll Card Transactions",
+            description = "Retrieve transactions of the specified card newest first using cursor (keyset) pagination.\n\n" +
+                    "Unlike the paginated listing, this endpoint does not compute a total count and its cost does not " +
+                    "grow with the depth of the page, which makes it suitable for scrolling long transaction histories.\n\n" +
+                    "Omit the cursor to get the first page, then pass the returned nextCursor to fetch the following one " +
+                    "until hasNext is false."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the page of card transactions",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size",
+                    content = @Content)
+    })
+    @GetMapping(value = "/scroll", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CursorPageResponse<CardTransactionDTO>>> scrollTransactions(
+            @Parameter(description = "Unique identifier of the card", required = true)
+            @PathVariable UUID cardId,
+
+            @Parameter(description = "Opaque cursor returned by the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Maximum number of transactions to return (1-500)")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return service.scrollTransactions(cardId, cursor, size)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
     @Operation(
             summary = "Filter Card Transactions",
             description = "Apply custom filters to retrieve a list of transactions for the specified card.\n\n" +
@@ -84,6 +116,8 @@ public class CardTransactionController {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved filtered card transactions",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = PaginationResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown filter property, or a filter on unindexed columns only",
+                    content = @Content),
             @ApiResponse(responseCode = "404", description = "No filtered results found for the specified card",
                     content = @Content)
     })
@@ -96,7 +130,8 @@ public class CardTransactionController {
         filterRequest.getFilters().setCardId(cardId);
         return service.findFiltered(filterRequest)
                 .map(ResponseEntity::ok)
-                .defaultIfEmpty(ResponseEntity.notFound().build());
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
     }
 
     @Operation(
@@ -191,6 +226,35 @@ public class CardTransactionController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @Operation(
+            summary = "Patch Card Transaction",
+            description = "Partially update an existing transaction record. Only the fields present and non-null " +
+                    "in the request body are written; all other fields keep their current values."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Transaction record updated successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CardTransactionDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Transaction record not found",
+                    content = @Content)
+    })
+    @PatchMapping(value = "/{transactionId}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CardTransactionDTO>> patchTransaction(
+            @Parameter(description = "Unique identifier of the card", required = true)
+            @PathVariable UUID cardId,
+
+            @Parameter(description = "Unique identifier of the card transaction to patch", required = true)
+            @PathVariable UUID transactionId,
+
+            @Parameter(description = "Fields to change; null or missing fields are left unchanged", required = true,
+                    schema = @Schema(implementation = CardTransactionDTO.class))
+            @RequestBody CardTransactionDTO transactionDTO
+    ) {
+        return service.patchTransaction(cardId, transactionId, transactionDTO)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
     @Operation(
             summary = "Delete Card Transaction",
             description = "Remove an existing transaction record by its unique identifier.\n\n" +
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025 Firefly Software Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.firefly.core.banking.cards.web.controllers.transaction.v1;
+
+import com.firefly.core.banking.cards.core.services.transaction.v1.CardTransactionServiceImpl;
+import com.firefly.core.banking.cards.interfaces.dtos.transaction.v1.CardTransactionDTO;
+import com.firefly.core.banking.cards.interfaces.dtos.transaction.v1.TransactionExportFilterDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Tag(name = "Card Transactions", description = "APIs for managing transaction records associated with a specific card")
+@RestController
+@RequestMapping("/api/v1/transactions/export")
+public class CardTransactionExportController {
+
+    static final String TEXT_CSV_VALUE = "text/csv";
+
+    @Autowired
+    private CardTransactionServiceImpl service;
+
+    @Operation(
+            summary = "Export Card Transactions as NDJSON",
+            description = "Stream every transaction of a card, account or party, oldest first, as newline-delimited JSON.\n\n" +
+                    "Rows are read from a database cursor and written as the client consumes them, so exports of " +
+                    "any size use constant memory and no count query is run. Send Accept-Encoding: gzip to have the " +
+                    "response compressed on the fly."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Transactions streamed successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = CardTransactionDTO.class))),
+            @ApiResponse(responseCode = "400", description = "No card, account or party given, or invalid time range",
+                    content = @Content)
+    })
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Mono<ResponseEntity<Flux<CardTransactionDTO>>> exportTransactions(
+            @ParameterObject
+            @Valid @ModelAttribute TransactionExportFilterDTO filter
+    ) {
+        return service.validateExport(filter)
+                .then(Mono.fromSupplier(() -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body(service.exportTransactions(filter))))
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(
+            summary = "Export Card Transactions as CSV",
+            description = "Stream every transaction of a card, account or party, oldest first, as CSV with a header line.\n\n" +
+                    "Rows are read from a database cursor and written as the client consumes them, so exports of " +
+                    "any size use constant memory and no count query is run. Send Accept-Encoding: gzip to have the " +
+                    "response compressed on the fly."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Transactions streamed successfully",
+                    content = @Content(mediaType = TEXT_CSV_VALUE)),
+            @ApiResponse(responseCode = "400", description = "No card, account or party given, or invalid time range",
+                    content = @Content)
+    })
+    @GetMapping(produces = TEXT_CSV_VALUE)
+    public Mono<ResponseEntity<Flux<String>>> exportTransactionsCsv(
+            @ParameterObject
+            @Valid @ModelAttribute TransactionExportFilterDTO filter
+    ) {
+        return service.validateExport(filter)
+                .then(Mono.fromSupplier(() -> ResponseEntity.ok()
+                        .contentType(MediaType.parseMediaType(TEXT_CSV_VALUE))
+                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"card-transactions.csv\"")
+                        .body(service.exportTransactionsCsv(filter))))
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+}
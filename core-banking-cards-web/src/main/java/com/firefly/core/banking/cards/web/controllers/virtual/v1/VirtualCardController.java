@@ -17,7 +17,7 @@
 
 package com.firefly.core.banking.cards.web.controllers.virtual.v1;
 
-import org.fireflyframework.core.queries.PaginationRequest;
+import com.firefly.core.banking.cards.core.queries.CountingPaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.core.banking.cards.core.services.virtual.v1.VirtualCardServiceImpl;
 import com.firefly.core.banking.cards.interfaces.dtos.virtual.v1.VirtualCardDTO;
@@ -61,7 +61,7 @@ public class VirtualCardController {
             @PathVariable UUID cardId,
 
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute CountingPaginationRequest paginationRequest
     ) {
         return service.listVirtualCards(cardId, paginationRequest)
                 .map(ResponseEntity::ok)